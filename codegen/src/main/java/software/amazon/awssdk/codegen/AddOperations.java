@@ -45,12 +45,18 @@ final class AddOperations {
     private final NamingStrategy namingStrategy;
     private final Map<String, PaginatorDefinition> paginators;
     private final List<String> deprecatedShapes;
+    private final List<String> requestCompressionOperations;
+    private final List<String> hedgingOperations;
+    private final List<String> requestCoalescingOperations;
 
     AddOperations(IntermediateModelBuilder builder) {
         this.serviceModel = builder.getService();
         this.namingStrategy = builder.getNamingStrategy();
         this.paginators = builder.getPaginators().getPagination();
         this.deprecatedShapes = builder.getCustomConfig().getDeprecatedShapes();
+        this.requestCompressionOperations = builder.getCustomConfig().getRequestCompressionOperations();
+        this.hedgingOperations = builder.getCustomConfig().getHedgingOperations();
+        this.requestCoalescingOperations = builder.getCustomConfig().getRequestCoalescingOperations();
     }
 
     private static boolean isAuthenticated(Operation op) {
@@ -163,6 +169,9 @@ final class AddOperations {
             operationModel.setEndpointDiscovery(op.getEndpointdiscovery());
             operationModel.setEndpointTrait(op.getEndpoint());
             operationModel.setHttpChecksumRequired(op.isHttpChecksumRequired());
+            operationModel.setRequestCompression(requestCompressionOperations.contains(operationName));
+            operationModel.setHedging(hedgingOperations.contains(operationName));
+            operationModel.setRequestCoalescing(requestCoalescingOperations.contains(operationName));
 
             Input input = op.getInput();
             if (input != null) {
@@ -196,6 +196,40 @@ public class CustomizationConfig {
     
     private RetryMode defaultRetryMode;
 
+    /**
+     * Whether the code generator should emit straight-line code for writing the JSON payload of each request, instead of
+     * relying on the protocol marshaller iterating over the {@code SdkField}s of every shape. Only applies to JSON and CBOR
+     * based protocols. Requests that can't be written this way (e.g. those with an explicit payload member) still use the
+     * protocol marshaller.
+     */
+    private boolean generateDirectJsonMarshallers = false;
+
+    /**
+     * Whether the code generator should emit straight-line code for writing the query parameters of each request, instead of
+     * relying on the protocol marshaller iterating over the {@code SdkField}s of every shape. Only applies to the AWS/Query
+     * and EC2 protocols. Requests that can't be written this way (e.g. those with custom default values) still use the
+     * protocol marshaller.
+     */
+    private boolean generateDirectQueryMarshallers = false;
+
+    /**
+     * Operations that the service accepts gzip-compressed request payloads for. Payloads of these operations are compressed
+     * by default once they reach the minimum compression threshold of the request's compression configuration.
+     */
+    private List<String> requestCompressionOperations = new ArrayList<>();
+
+    /**
+     * Idempotent read operations that are hedged by default when they are invoked on an asynchronous client. An attempt of
+     * these operations that is slow to receive a response is raced against a second request.
+     */
+    private List<String> hedgingOperations = new ArrayList<>();
+
+    /**
+     * Safe, side-effect-free operations whose concurrent identical requests may share one HTTP call and its response, if the
+     * client enables request coalescing. Operations with a streaming input or output are never coalesced.
+     */
+    private List<String> requestCoalescingOperations = new ArrayList<>();
+
 
 
     private CustomizationConfig() {
@@ -495,6 +529,46 @@ public class CustomizationConfig {
         this.defaultRetryMode = defaultRetryMode;
     }
 
+    public boolean isGenerateDirectJsonMarshallers() {
+        return generateDirectJsonMarshallers;
+    }
+
+    public void setGenerateDirectJsonMarshallers(boolean generateDirectJsonMarshallers) {
+        this.generateDirectJsonMarshallers = generateDirectJsonMarshallers;
+    }
+
+    public boolean isGenerateDirectQueryMarshallers() {
+        return generateDirectQueryMarshallers;
+    }
+
+    public void setGenerateDirectQueryMarshallers(boolean generateDirectQueryMarshallers) {
+        this.generateDirectQueryMarshallers = generateDirectQueryMarshallers;
+    }
+
+    public List<String> getRequestCompressionOperations() {
+        return requestCompressionOperations;
+    }
+
+    public void setRequestCompressionOperations(List<String> requestCompressionOperations) {
+        this.requestCompressionOperations = requestCompressionOperations;
+    }
+
+    public List<String> getHedgingOperations() {
+        return hedgingOperations;
+    }
+
+    public void setHedgingOperations(List<String> hedgingOperations) {
+        this.hedgingOperations = hedgingOperations;
+    }
+
+    public List<String> getRequestCoalescingOperations() {
+        return requestCoalescingOperations;
+    }
+
+    public void setRequestCoalescingOperations(List<String> requestCoalescingOperations) {
+        this.requestCoalescingOperations = requestCoalescingOperations;
+    }
+
     public ServiceConfig getServiceConfig() {
         return serviceConfig;
     }
@@ -64,6 +64,12 @@ public class OperationModel extends DocumentationModel {
 
     private boolean httpChecksumRequired;
 
+    private boolean requestCompression;
+
+    private boolean hedging;
+
+    private boolean requestCoalescing;
+
     public String getOperationName() {
         return operationName;
     }
@@ -282,4 +288,28 @@ public class OperationModel extends DocumentationModel {
     public void setHttpChecksumRequired(boolean httpChecksumRequired) {
         this.httpChecksumRequired = httpChecksumRequired;
     }
+
+    public boolean isRequestCompression() {
+        return requestCompression;
+    }
+
+    public void setRequestCompression(boolean requestCompression) {
+        this.requestCompression = requestCompression;
+    }
+
+    public boolean isHedging() {
+        return hedging;
+    }
+
+    public void setHedging(boolean hedging) {
+        this.hedging = hedging;
+    }
+
+    public boolean isRequestCoalescing() {
+        return requestCoalescing;
+    }
+
+    public void setRequestCoalescing(boolean requestCoalescing) {
+        this.requestCoalescing = requestCoalescing;
+    }
 }
@@ -39,7 +39,10 @@ import software.amazon.awssdk.codegen.model.intermediate.OperationModel;
 import software.amazon.awssdk.codegen.model.intermediate.Protocol;
 import software.amazon.awssdk.codegen.model.intermediate.ShapeModel;
 import software.amazon.awssdk.codegen.poet.PoetExtensions;
+import software.amazon.awssdk.codegen.poet.client.traits.HedgingTrait;
 import software.amazon.awssdk.codegen.poet.client.traits.HttpChecksumRequiredTrait;
+import software.amazon.awssdk.codegen.poet.client.traits.RequestCoalescingTrait;
+import software.amazon.awssdk.codegen.poet.client.traits.RequestCompressionTrait;
 import software.amazon.awssdk.codegen.poet.eventstream.EventStreamUtils;
 import software.amazon.awssdk.codegen.poet.model.EventStreamSpecHelper;
 import software.amazon.awssdk.core.SdkPojoBuilder;
@@ -174,7 +177,10 @@ public class JsonProtocolSpec implements ProtocolSpec {
                      .add(discoveredEndpoint(opModel))
                      .add(".withInput($L)\n", opModel.getInput().getVariableName())
                      .add(".withMetricCollector(apiCallMetricCollector)")
-                     .add(HttpChecksumRequiredTrait.putHttpChecksumAttribute(opModel));
+                     .add(HttpChecksumRequiredTrait.putHttpChecksumAttribute(opModel))
+                     .add(RequestCompressionTrait.putRequestCompressionAttribute(opModel))
+                     .add(HedgingTrait.putHedgingAttribute(opModel))
+                     .add(RequestCoalescingTrait.putRequestCoalescingAttribute(opModel));
 
         if (opModel.hasStreamingInput()) {
             codeBlock.add(".withRequestBody(requestBody)")
@@ -242,6 +248,9 @@ public class JsonProtocolSpec implements ProtocolSpec {
                .add(discoveredEndpoint(opModel))
                .add(asyncRequestBody)
                .add(HttpChecksumRequiredTrait.putHttpChecksumAttribute(opModel))
+               .add(RequestCompressionTrait.putRequestCompressionAttribute(opModel))
+               .add(HedgingTrait.putHedgingAttribute(opModel))
+               .add(RequestCoalescingTrait.putRequestCoalescingAttribute(opModel))
                .add(".withInput($L)$L);",
                     opModel.getInput().getVariableName(), asyncResponseTransformerVariable(isStreaming, isRestJson, opModel));
 
@@ -28,7 +28,10 @@ import software.amazon.awssdk.awscore.exception.AwsServiceException;
 import software.amazon.awssdk.codegen.model.intermediate.IntermediateModel;
 import software.amazon.awssdk.codegen.model.intermediate.OperationModel;
 import software.amazon.awssdk.codegen.poet.PoetExtensions;
+import software.amazon.awssdk.codegen.poet.client.traits.HedgingTrait;
 import software.amazon.awssdk.codegen.poet.client.traits.HttpChecksumRequiredTrait;
+import software.amazon.awssdk.codegen.poet.client.traits.RequestCoalescingTrait;
+import software.amazon.awssdk.codegen.poet.client.traits.RequestCompressionTrait;
 import software.amazon.awssdk.core.client.handler.ClientExecutionParams;
 import software.amazon.awssdk.core.http.HttpResponseHandler;
 import software.amazon.awssdk.protocols.query.AwsQueryProtocolFactory;
@@ -110,7 +113,10 @@ public class QueryProtocolSpec implements ProtocolSpec {
                      .add(discoveredEndpoint(opModel))
                      .add(".withInput($L)", opModel.getInput().getVariableName())
                      .add(".withMetricCollector(apiCallMetricCollector)")
-                     .add(HttpChecksumRequiredTrait.putHttpChecksumAttribute(opModel));
+                     .add(HttpChecksumRequiredTrait.putHttpChecksumAttribute(opModel))
+                     .add(RequestCompressionTrait.putRequestCompressionAttribute(opModel))
+                     .add(HedgingTrait.putHedgingAttribute(opModel))
+                     .add(RequestCoalescingTrait.putRequestCoalescingAttribute(opModel));
 
         if (opModel.hasStreamingInput()) {
             return codeBlock.add(".withRequestBody(requestBody)")
@@ -141,7 +147,10 @@ public class QueryProtocolSpec implements ProtocolSpec {
                      .add(".withResponseHandler(responseHandler)\n")
                      .add(".withErrorResponseHandler(errorResponseHandler)\n")
                      .add(".withMetricCollector(apiCallMetricCollector)\n")
-                     .add(HttpChecksumRequiredTrait.putHttpChecksumAttribute(opModel));
+                     .add(HttpChecksumRequiredTrait.putHttpChecksumAttribute(opModel))
+                     .add(RequestCompressionTrait.putRequestCompressionAttribute(opModel))
+                     .add(HedgingTrait.putHedgingAttribute(opModel))
+                     .add(RequestCoalescingTrait.putRequestCoalescingAttribute(opModel));
 
         builder.add(hostPrefixExpression(opModel) + asyncRequestBody + ".withInput($L)$L);",
                     opModel.getInput().getVariableName(),
@@ -28,7 +28,10 @@ import software.amazon.awssdk.codegen.model.config.customization.S3ArnableFieldC
 import software.amazon.awssdk.codegen.model.intermediate.IntermediateModel;
 import software.amazon.awssdk.codegen.model.intermediate.OperationModel;
 import software.amazon.awssdk.codegen.poet.PoetExtensions;
+import software.amazon.awssdk.codegen.poet.client.traits.HedgingTrait;
 import software.amazon.awssdk.codegen.poet.client.traits.HttpChecksumRequiredTrait;
+import software.amazon.awssdk.codegen.poet.client.traits.RequestCoalescingTrait;
+import software.amazon.awssdk.codegen.poet.client.traits.RequestCompressionTrait;
 import software.amazon.awssdk.core.client.handler.ClientExecutionParams;
 import software.amazon.awssdk.core.http.HttpResponseHandler;
 import software.amazon.awssdk.protocols.xml.AwsXmlProtocolFactory;
@@ -116,7 +119,10 @@ public final class XmlProtocolSpec extends QueryProtocolSpec {
                                                     hostPrefixExpression(opModel) +
                                                     discoveredEndpoint(opModel))
                                                .add(".withInput($L)", opModel.getInput().getVariableName())
-                                               .add(HttpChecksumRequiredTrait.putHttpChecksumAttribute(opModel));
+                                               .add(HttpChecksumRequiredTrait.putHttpChecksumAttribute(opModel))
+                                               .add(RequestCompressionTrait.putRequestCompressionAttribute(opModel))
+                                               .add(HedgingTrait.putHedgingAttribute(opModel))
+                                               .add(RequestCoalescingTrait.putRequestCoalescingAttribute(opModel));
 
         s3ArnableFields(opModel, model).ifPresent(codeBlock::add);
 
@@ -172,7 +178,10 @@ public final class XmlProtocolSpec extends QueryProtocolSpec {
                      .add(hostPrefixExpression(opModel))
                      .add(".withMetricCollector(apiCallMetricCollector)\n")
                      .add(asyncRequestBody(opModel))
-                     .add(HttpChecksumRequiredTrait.putHttpChecksumAttribute(opModel));
+                     .add(HttpChecksumRequiredTrait.putHttpChecksumAttribute(opModel))
+                     .add(RequestCompressionTrait.putRequestCompressionAttribute(opModel))
+                     .add(HedgingTrait.putHedgingAttribute(opModel))
+                     .add(RequestCoalescingTrait.putRequestCoalescingAttribute(opModel));
 
         s3ArnableFields(opModel, model).ifPresent(builder::add);
         builder.add(".withInput($L) $L);", opModel.getInput().getVariableName(), opModel.hasStreamingOutput() ?
@@ -40,6 +40,8 @@ import software.amazon.awssdk.codegen.poet.StaticImport;
 import software.amazon.awssdk.codegen.poet.model.TypeProvider.TypeNameOptions;
 import software.amazon.awssdk.core.util.DefaultSdkAutoConstructList;
 import software.amazon.awssdk.core.util.DefaultSdkAutoConstructMap;
+import software.amazon.awssdk.core.util.LazySdkList;
+import software.amazon.awssdk.core.util.LazySdkMap;
 import software.amazon.awssdk.core.util.SdkAutoConstructList;
 import software.amazon.awssdk.core.util.SdkAutoConstructMap;
 
@@ -151,10 +153,32 @@ class MemberCopierSpec implements ClassSpec {
                          .addParameter(typeName(memberModel, true, true, BuilderTransform.NONE, EnumTransform.NONE),
                                        memberParamName())
                          .returns(typeName(memberModel, false, false, BuilderTransform.NONE, EnumTransform.NONE))
+                         .addCode(lazyCopyBody())
                          .addCode(copyMethodBody(BuilderTransform.NONE, EnumTransform.NONE))
                          .build();
     }
 
+    /**
+     * Lists and maps that are unmarshalled lazily are copied lazily as well, so that setting them on a builder doesn't
+     * unmarshall them.
+     */
+    private CodeBlock lazyCopyBody() {
+        Class<?> lazyType;
+        if (memberModel.isList()) {
+            lazyType = LazySdkList.class;
+        } else if (memberModel.isMap()) {
+            lazyType = LazySdkMap.class;
+        } else {
+            return CodeBlock.builder().build();
+        }
+        return CodeBlock.builder()
+                        .add("if ($N instanceof $T) {", memberParamName(), lazyType)
+                        .add("return $T.copyLazily($N, $T::$N);", lazyType, memberParamName(), className(),
+                             serviceModelCopiers.copyMethodName())
+                        .add("}")
+                        .build();
+    }
+
     private MethodSpec enumToStringCopyMethod() {
         return MethodSpec.methodBuilder(serviceModelCopiers.enumToStringCopyMethodName())
                          .addModifiers(Modifier.STATIC)
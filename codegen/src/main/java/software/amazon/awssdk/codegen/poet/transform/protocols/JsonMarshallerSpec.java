@@ -26,6 +26,7 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 import javax.lang.model.element.Modifier;
+import software.amazon.awssdk.codegen.model.intermediate.IntermediateModel;
 import software.amazon.awssdk.codegen.model.intermediate.ShapeModel;
 import software.amazon.awssdk.http.SdkHttpFullRequest;
 import software.amazon.awssdk.http.SdkHttpMethod;
@@ -40,9 +41,18 @@ import software.amazon.awssdk.utils.StringUtils;
 public class JsonMarshallerSpec implements MarshallerProtocolSpec {
 
     protected final ShapeModel shapeModel;
+    private final JsonPayloadWriterSpec payloadWriterSpec;
 
     public JsonMarshallerSpec(ShapeModel shapeModel) {
         this.shapeModel = shapeModel;
+        this.payloadWriterSpec = null;
+    }
+
+    public JsonMarshallerSpec(IntermediateModel model, ShapeModel shapeModel) {
+        this.shapeModel = shapeModel;
+        this.payloadWriterSpec = model.getCustomizationConfig().isGenerateDirectJsonMarshallers()
+                                 ? JsonPayloadWriterSpec.create(model, shapeModel).orElse(null)
+                                 : null;
     }
 
     @Override
@@ -62,12 +72,24 @@ public class JsonMarshallerSpec implements MarshallerProtocolSpec {
     @Override
     public CodeBlock marshalCodeBlock(ClassName requestClassName) {
         String variableName = shapeModel.getVariable().getVariableName();
-        return CodeBlock.builder()
-                        .addStatement("$T<$T> protocolMarshaller = protocolFactory.createProtocolMarshaller"
-                                      + "(SDK_OPERATION_BINDING)",
-                                      ProtocolMarshaller.class, SdkHttpFullRequest.class)
-                        .addStatement("return protocolMarshaller.marshall($L)", variableName)
-                        .build();
+        CodeBlock.Builder builder = CodeBlock.builder();
+        if (payloadWriterSpec != null) {
+            builder.addStatement("$T<$T> protocolMarshaller = protocolFactory.createProtocolMarshaller"
+                                 + "(SDK_OPERATION_BINDING, $L)",
+                                 ProtocolMarshaller.class, SdkHttpFullRequest.class,
+                                 payloadWriterSpec.payloadWriterReference());
+        } else {
+            builder.addStatement("$T<$T> protocolMarshaller = protocolFactory.createProtocolMarshaller"
+                                 + "(SDK_OPERATION_BINDING)",
+                                 ProtocolMarshaller.class, SdkHttpFullRequest.class);
+        }
+        return builder.addStatement("return protocolMarshaller.marshall($L)", variableName)
+                      .build();
+    }
+
+    @Override
+    public List<MethodSpec> additionalMethods() {
+        return payloadWriterSpec != null ? payloadWriterSpec.writeMethods() : new ArrayList<>();
     }
 
     @Override
@@ -0,0 +1,314 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.codegen.poet.transform.protocols;
+
+import static software.amazon.awssdk.codegen.poet.eventstream.EventStreamUtils.isEventStreamParentModel;
+
+import com.squareup.javapoet.ClassName;
+import com.squareup.javapoet.CodeBlock;
+import com.squareup.javapoet.MethodSpec;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import javax.lang.model.element.Modifier;
+import software.amazon.awssdk.codegen.internal.Utils;
+import software.amazon.awssdk.codegen.model.config.customization.CustomizationConfig;
+import software.amazon.awssdk.codegen.model.intermediate.IntermediateModel;
+import software.amazon.awssdk.codegen.model.intermediate.MemberModel;
+import software.amazon.awssdk.codegen.model.intermediate.ShapeModel;
+import software.amazon.awssdk.codegen.poet.PoetExtensions;
+import software.amazon.awssdk.codegen.poet.model.TypeProvider;
+import software.amazon.awssdk.core.protocol.MarshallLocation;
+import software.amazon.awssdk.core.traits.TimestampFormatTrait;
+import software.amazon.awssdk.core.util.IdempotentUtils;
+import software.amazon.awssdk.core.util.SdkAutoConstructList;
+import software.amazon.awssdk.core.util.SdkAutoConstructMap;
+import software.amazon.awssdk.protocols.json.StructuredJsonGenerator;
+import software.amazon.awssdk.utils.DateUtils;
+
+/**
+ * Generates the static methods of a JSON request marshaller that write the implicit payload of the request, and every
+ * structure reachable from it, straight to a {@link StructuredJsonGenerator}. The generated code mirrors what the protocol
+ * marshaller does when iterating over the {@code SdkField}s of each shape, without the marshaller registry lookups.
+ *
+ * <p>Requests that can't be written this way (explicit payload members, streaming input, event streams, document members
+ * or custom default values) are left to the protocol marshaller, see {@link #create(IntermediateModel, ShapeModel)}.
+ */
+final class JsonPayloadWriterSpec {
+
+    private static final String POJO = "pojo";
+    private static final String GENERATOR = "jsonGenerator";
+
+    private final IntermediateModel model;
+    private final ShapeModel requestShape;
+    private final CustomizationConfig customizationConfig;
+    private final TypeProvider typeProvider;
+    private final PoetExtensions poetExtensions;
+    private final Map<String, ShapeModel> structures = new LinkedHashMap<>();
+
+    private JsonPayloadWriterSpec(IntermediateModel model, ShapeModel requestShape) {
+        this.model = model;
+        this.requestShape = requestShape;
+        this.customizationConfig = model.getCustomizationConfig();
+        this.typeProvider = new TypeProvider(model);
+        this.poetExtensions = new PoetExtensions(model);
+    }
+
+    /**
+     * @return The spec for the given request, or empty if the payload of the request can't be written by generated code.
+     */
+    static Optional<JsonPayloadWriterSpec> create(IntermediateModel model, ShapeModel requestShape) {
+        JsonPayloadWriterSpec spec = new JsonPayloadWriterSpec(model, requestShape);
+        return spec.isSupportedRequest() ? Optional.of(spec) : Optional.empty();
+    }
+
+    /**
+     * @return Reference to the generated method that writes the payload of the request, usable as a
+     * {@code JsonPayloadWriter}.
+     */
+    CodeBlock payloadWriterReference() {
+        ClassName marshallerClass = poetExtensions.getRequestTransformClass(requestShape.getShapeName() + "Marshaller");
+        return CodeBlock.of("$T::$N", marshallerClass, writeMethodName(requestShape));
+    }
+
+    List<MethodSpec> writeMethods() {
+        List<MethodSpec> methods = new ArrayList<>();
+        CodeBlock.Builder requestBody = CodeBlock.builder();
+        writeMembers(requestBody, payloadMembers(requestShape));
+        methods.add(writeMethod(requestShape, requestBody.build()));
+
+        for (ShapeModel structure : structures.values()) {
+            CodeBlock.Builder body = CodeBlock.builder().addStatement("$N.writeStartObject()", GENERATOR);
+            writeMembers(body, members(structure));
+            body.addStatement("$N.writeEndObject()", GENERATOR);
+            methods.add(writeMethod(structure, body.build()));
+        }
+        return methods;
+    }
+
+    private MethodSpec writeMethod(ShapeModel shape, CodeBlock body) {
+        return MethodSpec.methodBuilder(writeMethodName(shape))
+                         .addModifiers(Modifier.PRIVATE, Modifier.STATIC)
+                         .addParameter(poetExtensions.getModelClassFromShape(shape), POJO)
+                         .addParameter(StructuredJsonGenerator.class, GENERATOR)
+                         .addCode(body)
+                         .build();
+    }
+
+    private void writeMembers(CodeBlock.Builder code, List<MemberModel> members) {
+        for (MemberModel member : members) {
+            String variable = localVariableName(member);
+            code.addStatement("$T $N = $N.$N()", typeProvider.fieldType(member), variable, POJO,
+                              member.getFluentGetterMethodName());
+            if (member.isIdempotencyToken()) {
+                code.beginControlFlow("if ($N == null)", variable)
+                    .addStatement("$N = $T.getGenerator().get()", variable, IdempotentUtils.class)
+                    .endControlFlow();
+            }
+
+            // Auto construct containers were never set by the customer, so they are skipped like null members.
+            if (isContainer(member)) {
+                code.beginControlFlow("if ($N != null && !$L)", variable, isAutoConstructContainer(member, variable));
+            } else {
+                code.beginControlFlow("if ($N != null)", variable);
+            }
+            code.addStatement("$N.writeFieldName($S)", GENERATOR, member.getHttp().getMarshallLocationName());
+            writeValue(code, member, CodeBlock.of("$N", variable), 0);
+            code.endControlFlow();
+        }
+    }
+
+    private void writeValue(CodeBlock.Builder code, MemberModel member, CodeBlock value, int depth) {
+        switch (member.getMarshallingType()) {
+            case "LIST":
+                writeList(code, member, value, depth);
+                break;
+            case "MAP":
+                writeMap(code, member, value, depth);
+                break;
+            case "SDK_POJO":
+                code.addStatement("$N($L, $N)", writeMethodName(shapeOf(member)), value, GENERATOR);
+                break;
+            case "INSTANT":
+                writeInstant(code, member, value, depth);
+                break;
+            case "SDK_BYTES":
+                code.addStatement("$N.writeValue($L.asByteBuffer())", GENERATOR, value);
+                break;
+            default:
+                code.addStatement("$N.writeValue($L)", GENERATOR, value);
+                break;
+        }
+    }
+
+    private void writeList(CodeBlock.Builder code, MemberModel member, CodeBlock value, int depth) {
+        MemberModel elementModel = member.getListModel().getListMemberModel();
+        String element = "element" + depth;
+        code.addStatement("$N.writeStartArray()", GENERATOR)
+            .beginControlFlow("for ($T $N : $L)", typeProvider.fieldType(elementModel), element, value)
+            .beginControlFlow("if ($N == null)", element)
+            .addStatement("$N.writeNull()", GENERATOR);
+        if (isContainer(elementModel)) {
+            // Copiers turn null elements into auto construct containers, which the protocol marshaller doesn't write at all
+            code.nextControlFlow("else if (!$L)", isAutoConstructContainer(elementModel, element));
+        } else {
+            code.nextControlFlow("else");
+        }
+        writeValue(code, elementModel, CodeBlock.of("$N", element), depth + 1);
+        code.endControlFlow()
+            .endControlFlow()
+            .addStatement("$N.writeEndArray()", GENERATOR);
+    }
+
+    private void writeMap(CodeBlock.Builder code, MemberModel member, CodeBlock value, int depth) {
+        MemberModel valueModel = member.getMapModel().getValueModel();
+        String entry = "entry" + depth;
+        code.addStatement("$N.writeStartObject()", GENERATOR)
+            .beginControlFlow("for ($T $N : $L.entrySet())", typeProvider.mapEntryWithConcreteTypes(member.getMapModel()),
+                              entry, value)
+            .beginControlFlow("if ($N.getValue() != null)", entry)
+            .addStatement("$N.writeFieldName($N.getKey())", GENERATOR, entry);
+        writeValue(code, valueModel, CodeBlock.of("$N.getValue()", entry), depth + 1);
+        code.endControlFlow()
+            .endControlFlow()
+            .addStatement("$N.writeEndObject()", GENERATOR);
+    }
+
+    private void writeInstant(CodeBlock.Builder code, MemberModel member, CodeBlock value, int depth) {
+        // The protocol marshaller writes list elements and map values without their SdkField, so it ignores the
+        // timestamp format of the element shape. Containers must do the same to produce the same bytes.
+        if (member.getTimestampFormat() == null || depth > 0) {
+            // The generator decides the default format, which differs between JSON and CBOR
+            code.addStatement("$N.writeValue($L)", GENERATOR, value);
+            return;
+        }
+        TimestampFormatTrait.Format format = TimestampFormatTrait.Format.fromString(member.getTimestampFormat());
+        switch (format) {
+            case UNIX_TIMESTAMP:
+                code.addStatement("$N.writeNumber($T.formatUnixTimestampInstant($L))", GENERATOR, DateUtils.class, value);
+                break;
+            case RFC_822:
+                code.addStatement("$N.writeValue($T.formatRfc1123Date($L))", GENERATOR, DateUtils.class, value);
+                break;
+            case ISO_8601:
+                code.addStatement("$N.writeValue($T.formatIso8601Date($L))", GENERATOR, DateUtils.class, value);
+                break;
+            default:
+                throw new IllegalStateException("Unsupported timestamp format " + format + " for member "
+                                                + member.getC2jName());
+        }
+    }
+
+    private boolean isSupportedRequest() {
+        if (requestShape.isHasPayloadMember()
+            || requestShape.getExplicitEventPayloadMember() != null
+            || requestShape.isHasStreamingMember()
+            || requestShape.isEvent()
+            || isEventStreamParentModel(requestShape)
+            || customizationConfig.getAttachPayloadTraitToMember().containsKey(requestShape.getC2jName())) {
+            return false;
+        }
+        return payloadMembers(requestShape).stream().allMatch(this::isSupportedMember);
+    }
+
+    private boolean isSupportedMember(MemberModel member) {
+        if (member.getHttp().getIsPayload()
+            || customizationConfig.getModelMarshallerDefaultValueSupplier().containsKey(member.getC2jName())) {
+            return false;
+        }
+        return isSupportedValue(member);
+    }
+
+    private boolean isSupportedValue(MemberModel member) {
+        switch (member.getMarshallingType()) {
+            case "LIST":
+                return isSupportedValue(member.getListModel().getListMemberModel());
+            case "MAP":
+                return isSupportedValue(member.getMapModel().getValueModel());
+            case "SDK_POJO":
+                return isSupportedStructure(shapeOf(member));
+            case "STRING":
+            case "INTEGER":
+            case "LONG":
+            case "SHORT":
+            case "FLOAT":
+            case "DOUBLE":
+            case "BIG_DECIMAL":
+            case "BOOLEAN":
+            case "INSTANT":
+            case "SDK_BYTES":
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    private boolean isSupportedStructure(ShapeModel shape) {
+        if (shape == null) {
+            return false;
+        }
+        if (structures.containsKey(shape.getShapeName())) {
+            return true;
+        }
+        // Register the structure before visiting its members so that recursive shapes terminate
+        structures.put(shape.getShapeName(), shape);
+        return members(shape).stream()
+                             .allMatch(m -> m.getHttp().getMarshallLocation() == MarshallLocation.PAYLOAD
+                                            && isSupportedMember(m));
+    }
+
+    private ShapeModel shapeOf(MemberModel member) {
+        if (member.getShape() != null) {
+            return member.getShape();
+        }
+        return Utils.findMemberShapeModelByC2jNameIfExists(model, member.getC2jShape());
+    }
+
+    private static List<MemberModel> payloadMembers(ShapeModel shape) {
+        List<MemberModel> payloadMembers = new ArrayList<>();
+        for (MemberModel member : members(shape)) {
+            if (member.getHttp().getMarshallLocation() == MarshallLocation.PAYLOAD) {
+                payloadMembers.add(member);
+            }
+        }
+        return payloadMembers;
+    }
+
+    private static List<MemberModel> members(ShapeModel shape) {
+        return shape.getMembers() == null ? Collections.emptyList() : shape.getMembers();
+    }
+
+    private static boolean isContainer(MemberModel member) {
+        return member.isList() || member.isMap();
+    }
+
+    private static CodeBlock isAutoConstructContainer(MemberModel member, String variable) {
+        Class<?> autoConstructType = member.isList() ? SdkAutoConstructList.class : SdkAutoConstructMap.class;
+        return CodeBlock.of("($N instanceof $T && $N.isEmpty())", variable, autoConstructType, variable);
+    }
+
+    private static String writeMethodName(ShapeModel shape) {
+        return "write" + shape.getShapeName();
+    }
+
+    private static String localVariableName(MemberModel member) {
+        String name = member.getVariable().getVariableName();
+        return POJO.equals(name) || GENERATOR.equals(name) ? name + "Member" : name;
+    }
+}
@@ -43,10 +43,18 @@ public class QueryMarshallerSpec implements MarshallerProtocolSpec {
 
     protected final ShapeModel shapeModel;
     private final Metadata metadata;
+    private final QueryParameterWriterSpec parameterWriterSpec;
 
     public QueryMarshallerSpec(IntermediateModel model, ShapeModel shapeModel) {
         this.metadata = model.getMetadata();
         this.shapeModel = shapeModel;
+        this.parameterWriterSpec = isQueryProtocol() && model.getCustomizationConfig().isGenerateDirectQueryMarshallers()
+                                   ? QueryParameterWriterSpec.create(model, shapeModel).orElse(null)
+                                   : null;
+    }
+
+    private boolean isQueryProtocol() {
+        return metadata.getProtocol() == Protocol.QUERY || metadata.getProtocol() == Protocol.EC2;
     }
 
     @Override
@@ -61,12 +69,24 @@ public class QueryMarshallerSpec implements MarshallerProtocolSpec {
     @Override
     public CodeBlock marshalCodeBlock(ClassName requestClassName) {
         String variableName = shapeModel.getVariable().getVariableName();
-        return CodeBlock.builder()
-                        .addStatement("$T<$T> protocolMarshaller = protocolFactory.createProtocolMarshaller"
-                                      + "(SDK_OPERATION_BINDING)",
-                                      ProtocolMarshaller.class, SdkHttpFullRequest.class)
-                        .addStatement("return protocolMarshaller.marshall($L)", variableName)
-                        .build();
+        CodeBlock.Builder builder = CodeBlock.builder();
+        if (parameterWriterSpec != null) {
+            builder.addStatement("$T<$T> protocolMarshaller = protocolFactory.createProtocolMarshaller"
+                                 + "(SDK_OPERATION_BINDING, $L)",
+                                 ProtocolMarshaller.class, SdkHttpFullRequest.class,
+                                 parameterWriterSpec.parameterWriterReference());
+        } else {
+            builder.addStatement("$T<$T> protocolMarshaller = protocolFactory.createProtocolMarshaller"
+                                 + "(SDK_OPERATION_BINDING)",
+                                 ProtocolMarshaller.class, SdkHttpFullRequest.class);
+        }
+        return builder.addStatement("return protocolMarshaller.marshall($L)", variableName)
+                      .build();
+    }
+
+    @Override
+    public List<MethodSpec> additionalMethods() {
+        return parameterWriterSpec != null ? parameterWriterSpec.writeMethods() : new ArrayList<>();
     }
 
     @Override
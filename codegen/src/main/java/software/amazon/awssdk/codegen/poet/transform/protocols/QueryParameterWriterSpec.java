@@ -0,0 +1,340 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.codegen.poet.transform.protocols;
+
+import com.squareup.javapoet.ClassName;
+import com.squareup.javapoet.CodeBlock;
+import com.squareup.javapoet.MethodSpec;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import javax.lang.model.element.Modifier;
+import software.amazon.awssdk.codegen.internal.Utils;
+import software.amazon.awssdk.codegen.model.config.customization.CustomizationConfig;
+import software.amazon.awssdk.codegen.model.intermediate.IntermediateModel;
+import software.amazon.awssdk.codegen.model.intermediate.MemberModel;
+import software.amazon.awssdk.codegen.model.intermediate.Protocol;
+import software.amazon.awssdk.codegen.model.intermediate.ShapeModel;
+import software.amazon.awssdk.codegen.poet.PoetExtensions;
+import software.amazon.awssdk.codegen.poet.model.TypeProvider;
+import software.amazon.awssdk.core.protocol.MarshallLocation;
+import software.amazon.awssdk.core.traits.TimestampFormatTrait;
+import software.amazon.awssdk.core.util.IdempotentUtils;
+import software.amazon.awssdk.core.util.SdkAutoConstructList;
+import software.amazon.awssdk.http.SdkHttpFullRequest;
+import software.amazon.awssdk.utils.BinaryUtils;
+import software.amazon.awssdk.utils.DateUtils;
+
+/**
+ * Generates the static methods of an AWS/Query or EC2 request marshaller that write the members of the request, and of
+ * every structure reachable from it, straight to the query parameters of the HTTP request. The generated code mirrors what
+ * the protocol marshaller does when iterating over the {@code SdkField}s of each shape, without the marshaller registry
+ * lookups.
+ *
+ * <p>Requests that can't be written this way (members bound to other locations, big decimal or document members, or custom
+ * default values) are left to the protocol marshaller, see {@link #create(IntermediateModel, ShapeModel)}.
+ */
+final class QueryParameterWriterSpec {
+
+    private static final String POJO = "pojo";
+    private static final String PATH = "path";
+    private static final String REQUEST = "request";
+
+    private final IntermediateModel model;
+    private final ShapeModel requestShape;
+    private final CustomizationConfig customizationConfig;
+    private final TypeProvider typeProvider;
+    private final PoetExtensions poetExtensions;
+    private final boolean isEc2;
+    private final Map<String, ShapeModel> structures = new LinkedHashMap<>();
+
+    private QueryParameterWriterSpec(IntermediateModel model, ShapeModel requestShape) {
+        this.model = model;
+        this.requestShape = requestShape;
+        this.customizationConfig = model.getCustomizationConfig();
+        this.typeProvider = new TypeProvider(model);
+        this.poetExtensions = new PoetExtensions(model);
+        this.isEc2 = model.getMetadata().getProtocol() == Protocol.EC2;
+    }
+
+    /**
+     * @return The spec for the given request, or empty if the parameters of the request can't be written by generated code.
+     */
+    static Optional<QueryParameterWriterSpec> create(IntermediateModel model, ShapeModel requestShape) {
+        QueryParameterWriterSpec spec = new QueryParameterWriterSpec(model, requestShape);
+        return spec.isSupportedRequest() ? Optional.of(spec) : Optional.empty();
+    }
+
+    /**
+     * @return Reference to the generated method that writes the parameters of the request, usable as a
+     * {@code QueryParameterWriter}.
+     */
+    CodeBlock parameterWriterReference() {
+        ClassName marshallerClass = poetExtensions.getRequestTransformClass(requestShape.getShapeName() + "Marshaller");
+        return CodeBlock.of("$T::$N", marshallerClass, writeMethodName(requestShape));
+    }
+
+    List<MethodSpec> writeMethods() {
+        List<MethodSpec> methods = new ArrayList<>();
+        CodeBlock.Builder requestBody = CodeBlock.builder();
+        for (MemberModel member : members(requestShape)) {
+            writeMember(requestBody, member, new ParameterName(null, member.getHttp().getMarshallLocationName()));
+        }
+        methods.add(MethodSpec.methodBuilder(writeMethodName(requestShape))
+                              .addModifiers(Modifier.PRIVATE, Modifier.STATIC)
+                              .addParameter(poetExtensions.getModelClassFromShape(requestShape), POJO)
+                              .addParameter(SdkHttpFullRequest.Builder.class, REQUEST)
+                              .addCode(requestBody.build())
+                              .build());
+
+        for (ShapeModel structure : structures.values()) {
+            CodeBlock.Builder body = CodeBlock.builder();
+            for (MemberModel member : members(structure)) {
+                writeMember(body, member, new ParameterName(CodeBlock.of("$N", PATH),
+                                                            "." + member.getHttp().getMarshallLocationName()));
+            }
+            methods.add(MethodSpec.methodBuilder(writeMethodName(structure))
+                                  .addModifiers(Modifier.PRIVATE, Modifier.STATIC)
+                                  .addParameter(poetExtensions.getModelClassFromShape(structure), POJO)
+                                  .addParameter(String.class, PATH)
+                                  .addParameter(SdkHttpFullRequest.Builder.class, REQUEST)
+                                  .addCode(body.build())
+                                  .build());
+        }
+        return methods;
+    }
+
+    private void writeMember(CodeBlock.Builder code, MemberModel member, ParameterName name) {
+        String variable = localVariableName(member);
+        code.addStatement("$T $N = $N.$N()", typeProvider.fieldType(member), variable, POJO,
+                          member.getFluentGetterMethodName());
+        if (member.isIdempotencyToken()) {
+            code.beginControlFlow("if ($N == null)", variable)
+                .addStatement("$N = $T.getGenerator().get()", variable, IdempotentUtils.class)
+                .endControlFlow();
+        }
+        code.beginControlFlow("if ($N != null)", variable);
+        writeValue(code, member, CodeBlock.of("$N", variable), name, 0);
+        code.endControlFlow();
+    }
+
+    private void writeValue(CodeBlock.Builder code, MemberModel member, CodeBlock value, ParameterName name, int depth) {
+        switch (member.getMarshallingType()) {
+            case "LIST":
+                writeList(code, member, value, name, depth);
+                break;
+            case "MAP":
+                writeMap(code, member, value, name, depth);
+                break;
+            case "SDK_POJO":
+                code.addStatement("$N($L, $L, $N)", writeMethodName(shapeOf(member)), value, name.expression(), REQUEST);
+                break;
+            case "STRING":
+                code.addStatement("$N.putRawQueryParameter($L, $L)", REQUEST, name.expression(), value);
+                break;
+            case "INSTANT":
+                code.addStatement("$N.putRawQueryParameter($L, $L)", REQUEST, name.expression(), formatInstant(member, value));
+                break;
+            case "SDK_BYTES":
+                code.addStatement("$N.putRawQueryParameter($L, $T.toBase64($L.asByteArray()))", REQUEST, name.expression(),
+                                  BinaryUtils.class, value);
+                break;
+            default:
+                code.addStatement("$N.putRawQueryParameter($L, $L.toString())", REQUEST, name.expression(), value);
+                break;
+        }
+    }
+
+    private void writeList(CodeBlock.Builder code, MemberModel member, CodeBlock value, ParameterName name, int depth) {
+        MemberModel elementModel = member.getListModel().getListMemberModel();
+        String index = "i" + depth;
+        String element = "element" + depth;
+        String elementName = "elementName" + depth;
+
+        // Explicitly empty lists are sent as a parameter without a value, auto construct lists aren't sent at all
+        code.beginControlFlow("if ($L.isEmpty() && !($L instanceof $T))", value, value, SdkAutoConstructList.class)
+            .addStatement("$N.putRawQueryParameter($L, \"\")", REQUEST, name.expression())
+            .nextControlFlow("else")
+            .beginControlFlow("for (int $N = 0; $N < $L.size(); $N++)", index, index, value, index)
+            .addStatement("$T $N = $L.get($N)", typeProvider.fieldType(elementModel), element, value, index);
+
+        // EC2 always flattens lists in requests, even if they aren't modeled as flattened
+        String elementPrefix = isEc2 || member.getHttp().isFlattened()
+                               ? "."
+                               : "." + elementModel.getHttp().getMarshallLocationName() + ".";
+        code.addStatement("$T $N = $L + ($N + 1)", String.class, elementName, name.append(elementPrefix).expression(), index);
+        writeElement(code, elementModel, CodeBlock.of("$N", element), new ParameterName(CodeBlock.of("$N", elementName), ""),
+                     depth + 1);
+        code.endControlFlow()
+            .endControlFlow();
+    }
+
+    private void writeMap(CodeBlock.Builder code, MemberModel member, CodeBlock value, ParameterName name, int depth) {
+        MemberModel valueModel = member.getMapModel().getValueModel();
+        String entry = "entry" + depth;
+        String entryValue = "entryValue" + depth;
+        String entryNumber = "entryNumber" + depth;
+        String entryName = "entryName" + depth;
+        String entryPrefix = member.getHttp().isFlattened() ? "." : ".entry.";
+
+        code.addStatement("int $N = 1", entryNumber)
+            .beginControlFlow("for ($T $N : $L.entrySet())", typeProvider.mapEntryWithConcreteTypes(member.getMapModel()),
+                              entry, value)
+            .addStatement("$T $N = $L + $N++", String.class, entryName, name.append(entryPrefix).expression(), entryNumber);
+
+        ParameterName entryParameter = new ParameterName(CodeBlock.of("$N", entryName), ".");
+        code.addStatement("$N.putRawQueryParameter($L, $N.getKey())", REQUEST,
+                          entryParameter.append(member.getMapModel().getKeyLocationName()).expression(), entry);
+        code.addStatement("$T $N = $N.getValue()", typeProvider.fieldType(valueModel), entryValue, entry);
+        writeElement(code, valueModel, CodeBlock.of("$N", entryValue),
+                     entryParameter.append(member.getMapModel().getValueLocationName()), depth + 1);
+        code.endControlFlow();
+    }
+
+    /**
+     * Writes a list element or map value. The protocol marshaller picks the marshaller for these by the type of the
+     * container instead of the value, so null strings and timestamps are sent as parameters without a value. Other null
+     * values fail to marshall, the same way they do in the protocol marshaller.
+     */
+    private void writeElement(CodeBlock.Builder code, MemberModel member, CodeBlock value, ParameterName name, int depth) {
+        if ("INSTANT".equals(member.getMarshallingType())) {
+            code.beginControlFlow("if ($L == null)", value)
+                .addStatement("$N.putRawQueryParameter($L, ($T) null)", REQUEST, name.expression(), String.class)
+                .nextControlFlow("else");
+            writeValue(code, member, value, name, depth);
+            code.endControlFlow();
+        } else {
+            writeValue(code, member, value, name, depth);
+        }
+    }
+
+    private CodeBlock formatInstant(MemberModel member, CodeBlock value) {
+        // Timestamps are written as ISO 8601 unless the member, or the list member or map value, says otherwise
+        TimestampFormatTrait.Format format = member.getTimestampFormat() == null
+                                             ? TimestampFormatTrait.Format.ISO_8601
+                                             : TimestampFormatTrait.Format.fromString(member.getTimestampFormat());
+        switch (format) {
+            case UNIX_TIMESTAMP:
+                return CodeBlock.of("$T.formatUnixTimestampInstant($L)", DateUtils.class, value);
+            case RFC_822:
+                return CodeBlock.of("$T.formatRfc1123Date($L)", DateUtils.class, value);
+            case ISO_8601:
+                return CodeBlock.of("$T.formatIso8601Date($L)", DateUtils.class, value);
+            default:
+                throw new IllegalStateException("Unsupported timestamp format " + format + " for member "
+                                                + member.getC2jName());
+        }
+    }
+
+    private boolean isSupportedRequest() {
+        if (requestShape.isHasPayloadMember() || requestShape.isHasStreamingMember()) {
+            return false;
+        }
+        return members(requestShape).stream().allMatch(this::isSupportedMember);
+    }
+
+    private boolean isSupportedMember(MemberModel member) {
+        if (member.getHttp().getMarshallLocation() != MarshallLocation.PAYLOAD
+            || customizationConfig.getModelMarshallerDefaultValueSupplier().containsKey(member.getC2jName())) {
+            return false;
+        }
+        return isSupportedValue(member);
+    }
+
+    private boolean isSupportedValue(MemberModel member) {
+        switch (member.getMarshallingType()) {
+            case "LIST":
+                return isSupportedValue(member.getListModel().getListMemberModel());
+            case "MAP":
+                return isSupportedValue(member.getMapModel().getValueModel());
+            case "SDK_POJO":
+                return isSupportedStructure(shapeOf(member));
+            case "STRING":
+            case "INTEGER":
+            case "LONG":
+            case "SHORT":
+            case "FLOAT":
+            case "DOUBLE":
+            case "BOOLEAN":
+            case "INSTANT":
+            case "SDK_BYTES":
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    private boolean isSupportedStructure(ShapeModel shape) {
+        if (shape == null) {
+            return false;
+        }
+        if (structures.containsKey(shape.getShapeName())) {
+            return true;
+        }
+        // Register the structure before visiting its members so that recursive shapes terminate
+        structures.put(shape.getShapeName(), shape);
+        return members(shape).stream().allMatch(this::isSupportedMember);
+    }
+
+    private ShapeModel shapeOf(MemberModel member) {
+        if (member.getShape() != null) {
+            return member.getShape();
+        }
+        return Utils.findMemberShapeModelByC2jNameIfExists(model, member.getC2jShape());
+    }
+
+    private static List<MemberModel> members(ShapeModel shape) {
+        return shape.getMembers() == null ? Collections.emptyList() : shape.getMembers();
+    }
+
+    private static String writeMethodName(ShapeModel shape) {
+        return "write" + shape.getShapeName();
+    }
+
+    private static String localVariableName(MemberModel member) {
+        String name = member.getVariable().getVariableName();
+        return POJO.equals(name) || PATH.equals(name) || REQUEST.equals(name) ? name + "Member" : name;
+    }
+
+    /**
+     * Name of a query parameter, made of an optional expression computed at runtime followed by a constant suffix. Constant
+     * suffixes are appended at generation time, so that the generated code only concatenates strings where the name
+     * depends on the position of the value in a list or map.
+     */
+    private static final class ParameterName {
+        private final CodeBlock prefix;
+        private final String suffix;
+
+        private ParameterName(CodeBlock prefix, String suffix) {
+            this.prefix = prefix;
+            this.suffix = suffix;
+        }
+
+        private ParameterName append(String constant) {
+            return new ParameterName(prefix, suffix + constant);
+        }
+
+        private CodeBlock expression() {
+            if (prefix == null) {
+                return CodeBlock.of("$S", suffix);
+            }
+            return suffix.isEmpty() ? prefix : CodeBlock.of("$L + $S", prefix, suffix);
+        }
+    }
+}
@@ -8,11 +8,15 @@ import java.util.Map;
 import software.amazon.awssdk.annotations.Generated;
 import software.amazon.awssdk.core.SdkBytes;
 import software.amazon.awssdk.core.util.DefaultSdkAutoConstructMap;
+import software.amazon.awssdk.core.util.LazySdkMap;
 import software.amazon.awssdk.core.util.SdkAutoConstructMap;
 
 @Generated("software.amazon.awssdk:codegen")
 final class BlobMapTypeCopier {
     static Map<String, SdkBytes> copy(Map<String, SdkBytes> blobMapTypeParam) {
+        if (blobMapTypeParam instanceof LazySdkMap) {
+            return LazySdkMap.copyLazily(blobMapTypeParam, BlobMapTypeCopier::copy);
+        }
         Map<String, SdkBytes> map;
         if (blobMapTypeParam == null || blobMapTypeParam instanceof SdkAutoConstructMap) {
             map = DefaultSdkAutoConstructMap.getInstance();
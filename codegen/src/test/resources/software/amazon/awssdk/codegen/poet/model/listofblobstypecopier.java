@@ -9,11 +9,15 @@ import java.util.List;
 import software.amazon.awssdk.annotations.Generated;
 import software.amazon.awssdk.core.SdkBytes;
 import software.amazon.awssdk.core.util.DefaultSdkAutoConstructList;
+import software.amazon.awssdk.core.util.LazySdkList;
 import software.amazon.awssdk.core.util.SdkAutoConstructList;
 
 @Generated("software.amazon.awssdk:codegen")
 final class ListOfBlobsTypeCopier {
     static List<SdkBytes> copy(Collection<SdkBytes> listOfBlobsTypeParam) {
+        if (listOfBlobsTypeParam instanceof LazySdkList) {
+            return LazySdkList.copyLazily(listOfBlobsTypeParam, ListOfBlobsTypeCopier::copy);
+        }
         List<SdkBytes> list;
         if (listOfBlobsTypeParam == null || listOfBlobsTypeParam instanceof SdkAutoConstructList) {
             list = DefaultSdkAutoConstructList.getInstance();
@@ -8,11 +8,15 @@ import java.util.Collections;
 import java.util.List;
 import software.amazon.awssdk.annotations.Generated;
 import software.amazon.awssdk.core.util.DefaultSdkAutoConstructList;
+import software.amazon.awssdk.core.util.LazySdkList;
 import software.amazon.awssdk.core.util.SdkAutoConstructList;
 
 @Generated("software.amazon.awssdk:codegen")
 final class ListOfEnumsCopier {
     static List<String> copy(Collection<String> listOfEnumsParam) {
+        if (listOfEnumsParam instanceof LazySdkList) {
+            return LazySdkList.copyLazily(listOfEnumsParam, ListOfEnumsCopier::copy);
+        }
         List<String> list;
         if (listOfEnumsParam == null || listOfEnumsParam instanceof SdkAutoConstructList) {
             list = DefaultSdkAutoConstructList.getInstance();
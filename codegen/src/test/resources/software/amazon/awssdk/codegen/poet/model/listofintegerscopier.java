@@ -8,11 +8,15 @@ import java.util.Collections;
 import java.util.List;
 import software.amazon.awssdk.annotations.Generated;
 import software.amazon.awssdk.core.util.DefaultSdkAutoConstructList;
+import software.amazon.awssdk.core.util.LazySdkList;
 import software.amazon.awssdk.core.util.SdkAutoConstructList;
 
 @Generated("software.amazon.awssdk:codegen")
 final class ListOfIntegersCopier {
     static List<Integer> copy(Collection<Integer> listOfIntegersParam) {
+        if (listOfIntegersParam instanceof LazySdkList) {
+            return LazySdkList.copyLazily(listOfIntegersParam, ListOfIntegersCopier::copy);
+        }
         List<Integer> list;
         if (listOfIntegersParam == null || listOfIntegersParam instanceof SdkAutoConstructList) {
             list = DefaultSdkAutoConstructList.getInstance();
@@ -8,12 +8,16 @@ import java.util.Collections;
 import java.util.List;
 import software.amazon.awssdk.annotations.Generated;
 import software.amazon.awssdk.core.util.DefaultSdkAutoConstructList;
+import software.amazon.awssdk.core.util.LazySdkList;
 import software.amazon.awssdk.core.util.SdkAutoConstructList;
 
 @Generated("software.amazon.awssdk:codegen")
 final class ListOfListOfListOfStringsCopier {
     static List<List<List<String>>> copy(
         Collection<? extends Collection<? extends Collection<String>>> listOfListOfListOfStringsParam) {
+        if (listOfListOfListOfStringsParam instanceof LazySdkList) {
+            return LazySdkList.copyLazily(listOfListOfListOfStringsParam, ListOfListOfListOfStringsCopier::copy);
+        }
         List<List<List<String>>> list;
         if (listOfListOfListOfStringsParam == null || listOfListOfListOfStringsParam instanceof SdkAutoConstructList) {
             list = DefaultSdkAutoConstructList.getInstance();
@@ -8,11 +8,15 @@ import java.util.Collections;
 import java.util.List;
 import software.amazon.awssdk.annotations.Generated;
 import software.amazon.awssdk.core.util.DefaultSdkAutoConstructList;
+import software.amazon.awssdk.core.util.LazySdkList;
 import software.amazon.awssdk.core.util.SdkAutoConstructList;
 
 @Generated("software.amazon.awssdk:codegen")
 final class ListOfListOfStringsCopier {
     static List<List<String>> copy(Collection<? extends Collection<String>> listOfListOfStringsParam) {
+        if (listOfListOfStringsParam instanceof LazySdkList) {
+            return LazySdkList.copyLazily(listOfListOfStringsParam, ListOfListOfStringsCopier::copy);
+        }
         List<List<String>> list;
         if (listOfListOfStringsParam == null || listOfListOfStringsParam instanceof SdkAutoConstructList) {
             list = DefaultSdkAutoConstructList.getInstance();
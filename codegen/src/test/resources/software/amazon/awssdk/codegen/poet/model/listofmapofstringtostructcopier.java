@@ -11,6 +11,7 @@ import java.util.Map;
 import software.amazon.awssdk.annotations.Generated;
 import software.amazon.awssdk.core.util.DefaultSdkAutoConstructList;
 import software.amazon.awssdk.core.util.DefaultSdkAutoConstructMap;
+import software.amazon.awssdk.core.util.LazySdkList;
 import software.amazon.awssdk.core.util.SdkAutoConstructList;
 import software.amazon.awssdk.core.util.SdkAutoConstructMap;
 
@@ -18,6 +19,9 @@ import software.amazon.awssdk.core.util.SdkAutoConstructMap;
 final class ListOfMapOfStringToStructCopier {
     static List<Map<String, SimpleStruct>> copy(
         Collection<? extends Map<String, ? extends SimpleStruct>> listOfMapOfStringToStructParam) {
+        if (listOfMapOfStringToStructParam instanceof LazySdkList) {
+            return LazySdkList.copyLazily(listOfMapOfStringToStructParam, ListOfMapOfStringToStructCopier::copy);
+        }
         List<Map<String, SimpleStruct>> list;
         if (listOfMapOfStringToStructParam == null || listOfMapOfStringToStructParam instanceof SdkAutoConstructList) {
             list = DefaultSdkAutoConstructList.getInstance();
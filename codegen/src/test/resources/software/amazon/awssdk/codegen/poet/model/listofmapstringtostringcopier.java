@@ -11,12 +11,16 @@ import java.util.Map;
 import software.amazon.awssdk.annotations.Generated;
 import software.amazon.awssdk.core.util.DefaultSdkAutoConstructList;
 import software.amazon.awssdk.core.util.DefaultSdkAutoConstructMap;
+import software.amazon.awssdk.core.util.LazySdkList;
 import software.amazon.awssdk.core.util.SdkAutoConstructList;
 import software.amazon.awssdk.core.util.SdkAutoConstructMap;
 
 @Generated("software.amazon.awssdk:codegen")
 final class ListOfMapStringToStringCopier {
     static List<Map<String, String>> copy(Collection<? extends Map<String, String>> listOfMapStringToStringParam) {
+        if (listOfMapStringToStringParam instanceof LazySdkList) {
+            return LazySdkList.copyLazily(listOfMapStringToStringParam, ListOfMapStringToStringCopier::copy);
+        }
         List<Map<String, String>> list;
         if (listOfMapStringToStringParam == null || listOfMapStringToStringParam instanceof SdkAutoConstructList) {
             list = DefaultSdkAutoConstructList.getInstance();
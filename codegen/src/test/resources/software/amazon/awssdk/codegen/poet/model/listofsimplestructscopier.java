@@ -8,11 +8,15 @@ import java.util.Collections;
 import java.util.List;
 import software.amazon.awssdk.annotations.Generated;
 import software.amazon.awssdk.core.util.DefaultSdkAutoConstructList;
+import software.amazon.awssdk.core.util.LazySdkList;
 import software.amazon.awssdk.core.util.SdkAutoConstructList;
 
 @Generated("software.amazon.awssdk:codegen")
 final class ListOfSimpleStructsCopier {
     static List<SimpleStruct> copy(Collection<? extends SimpleStruct> listOfSimpleStructsParam) {
+        if (listOfSimpleStructsParam instanceof LazySdkList) {
+            return LazySdkList.copyLazily(listOfSimpleStructsParam, ListOfSimpleStructsCopier::copy);
+        }
         List<SimpleStruct> list;
         if (listOfSimpleStructsParam == null || listOfSimpleStructsParam instanceof SdkAutoConstructList) {
             list = DefaultSdkAutoConstructList.getInstance();
@@ -8,11 +8,15 @@ import java.util.Collections;
 import java.util.List;
 import software.amazon.awssdk.annotations.Generated;
 import software.amazon.awssdk.core.util.DefaultSdkAutoConstructList;
+import software.amazon.awssdk.core.util.LazySdkList;
 import software.amazon.awssdk.core.util.SdkAutoConstructList;
 
 @Generated("software.amazon.awssdk:codegen")
 final class ListOfStringsCopier {
     static List<String> copy(Collection<String> listOfStringsParam) {
+        if (listOfStringsParam instanceof LazySdkList) {
+            return LazySdkList.copyLazily(listOfStringsParam, ListOfStringsCopier::copy);
+        }
         List<String> list;
         if (listOfStringsParam == null || listOfStringsParam instanceof SdkAutoConstructList) {
             list = DefaultSdkAutoConstructList.getInstance();
@@ -7,11 +7,15 @@ import java.util.LinkedHashMap;
 import java.util.Map;
 import software.amazon.awssdk.annotations.Generated;
 import software.amazon.awssdk.core.util.DefaultSdkAutoConstructMap;
+import software.amazon.awssdk.core.util.LazySdkMap;
 import software.amazon.awssdk.core.util.SdkAutoConstructMap;
 
 @Generated("software.amazon.awssdk:codegen")
 final class MapOfEnumToEnumCopier {
     static Map<String, String> copy(Map<String, String> mapOfEnumToEnumParam) {
+        if (mapOfEnumToEnumParam instanceof LazySdkMap) {
+            return LazySdkMap.copyLazily(mapOfEnumToEnumParam, MapOfEnumToEnumCopier::copy);
+        }
         Map<String, String> map;
         if (mapOfEnumToEnumParam == null || mapOfEnumToEnumParam instanceof SdkAutoConstructMap) {
             map = DefaultSdkAutoConstructMap.getInstance();
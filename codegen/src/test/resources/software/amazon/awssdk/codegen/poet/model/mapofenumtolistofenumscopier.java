@@ -11,12 +11,16 @@ import java.util.Map;
 import software.amazon.awssdk.annotations.Generated;
 import software.amazon.awssdk.core.util.DefaultSdkAutoConstructList;
 import software.amazon.awssdk.core.util.DefaultSdkAutoConstructMap;
+import software.amazon.awssdk.core.util.LazySdkMap;
 import software.amazon.awssdk.core.util.SdkAutoConstructList;
 import software.amazon.awssdk.core.util.SdkAutoConstructMap;
 
 @Generated("software.amazon.awssdk:codegen")
 final class MapOfEnumToListOfEnumsCopier {
     static Map<String, List<String>> copy(Map<String, ? extends Collection<String>> mapOfEnumToListOfEnumsParam) {
+        if (mapOfEnumToListOfEnumsParam instanceof LazySdkMap) {
+            return LazySdkMap.copyLazily(mapOfEnumToListOfEnumsParam, MapOfEnumToListOfEnumsCopier::copy);
+        }
         Map<String, List<String>> map;
         if (mapOfEnumToListOfEnumsParam == null || mapOfEnumToListOfEnumsParam instanceof SdkAutoConstructMap) {
             map = DefaultSdkAutoConstructMap.getInstance();
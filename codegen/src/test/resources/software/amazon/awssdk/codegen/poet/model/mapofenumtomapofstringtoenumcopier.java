@@ -7,11 +7,15 @@ import java.util.LinkedHashMap;
 import java.util.Map;
 import software.amazon.awssdk.annotations.Generated;
 import software.amazon.awssdk.core.util.DefaultSdkAutoConstructMap;
+import software.amazon.awssdk.core.util.LazySdkMap;
 import software.amazon.awssdk.core.util.SdkAutoConstructMap;
 
 @Generated("software.amazon.awssdk:codegen")
 final class MapOfEnumToMapOfStringToEnumCopier {
     static Map<String, Map<String, String>> copy(Map<String, ? extends Map<String, String>> mapOfEnumToMapOfStringToEnumParam) {
+        if (mapOfEnumToMapOfStringToEnumParam instanceof LazySdkMap) {
+            return LazySdkMap.copyLazily(mapOfEnumToMapOfStringToEnumParam, MapOfEnumToMapOfStringToEnumCopier::copy);
+        }
         Map<String, Map<String, String>> map;
         if (mapOfEnumToMapOfStringToEnumParam == null || mapOfEnumToMapOfStringToEnumParam instanceof SdkAutoConstructMap) {
             map = DefaultSdkAutoConstructMap.getInstance();
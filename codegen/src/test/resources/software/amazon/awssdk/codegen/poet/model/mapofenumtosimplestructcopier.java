@@ -7,11 +7,15 @@ import java.util.LinkedHashMap;
 import java.util.Map;
 import software.amazon.awssdk.annotations.Generated;
 import software.amazon.awssdk.core.util.DefaultSdkAutoConstructMap;
+import software.amazon.awssdk.core.util.LazySdkMap;
 import software.amazon.awssdk.core.util.SdkAutoConstructMap;
 
 @Generated("software.amazon.awssdk:codegen")
 final class MapOfEnumToSimpleStructCopier {
     static Map<String, SimpleStruct> copy(Map<String, ? extends SimpleStruct> mapOfEnumToSimpleStructParam) {
+        if (mapOfEnumToSimpleStructParam instanceof LazySdkMap) {
+            return LazySdkMap.copyLazily(mapOfEnumToSimpleStructParam, MapOfEnumToSimpleStructCopier::copy);
+        }
         Map<String, SimpleStruct> map;
         if (mapOfEnumToSimpleStructParam == null || mapOfEnumToSimpleStructParam instanceof SdkAutoConstructMap) {
             map = DefaultSdkAutoConstructMap.getInstance();
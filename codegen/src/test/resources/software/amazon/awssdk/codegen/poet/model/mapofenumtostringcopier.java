@@ -7,11 +7,15 @@ import java.util.LinkedHashMap;
 import java.util.Map;
 import software.amazon.awssdk.annotations.Generated;
 import software.amazon.awssdk.core.util.DefaultSdkAutoConstructMap;
+import software.amazon.awssdk.core.util.LazySdkMap;
 import software.amazon.awssdk.core.util.SdkAutoConstructMap;
 
 @Generated("software.amazon.awssdk:codegen")
 final class MapOfEnumToStringCopier {
     static Map<String, String> copy(Map<String, String> mapOfEnumToStringParam) {
+        if (mapOfEnumToStringParam instanceof LazySdkMap) {
+            return LazySdkMap.copyLazily(mapOfEnumToStringParam, MapOfEnumToStringCopier::copy);
+        }
         Map<String, String> map;
         if (mapOfEnumToStringParam == null || mapOfEnumToStringParam instanceof SdkAutoConstructMap) {
             map = DefaultSdkAutoConstructMap.getInstance();
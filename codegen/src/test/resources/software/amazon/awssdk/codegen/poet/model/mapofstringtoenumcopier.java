@@ -7,11 +7,15 @@ import java.util.LinkedHashMap;
 import java.util.Map;
 import software.amazon.awssdk.annotations.Generated;
 import software.amazon.awssdk.core.util.DefaultSdkAutoConstructMap;
+import software.amazon.awssdk.core.util.LazySdkMap;
 import software.amazon.awssdk.core.util.SdkAutoConstructMap;
 
 @Generated("software.amazon.awssdk:codegen")
 final class MapOfStringToEnumCopier {
     static Map<String, String> copy(Map<String, String> mapOfStringToEnumParam) {
+        if (mapOfStringToEnumParam instanceof LazySdkMap) {
+            return LazySdkMap.copyLazily(mapOfStringToEnumParam, MapOfStringToEnumCopier::copy);
+        }
         Map<String, String> map;
         if (mapOfStringToEnumParam == null || mapOfStringToEnumParam instanceof SdkAutoConstructMap) {
             map = DefaultSdkAutoConstructMap.getInstance();
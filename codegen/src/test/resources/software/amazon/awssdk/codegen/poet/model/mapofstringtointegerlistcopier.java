@@ -11,12 +11,16 @@ import java.util.Map;
 import software.amazon.awssdk.annotations.Generated;
 import software.amazon.awssdk.core.util.DefaultSdkAutoConstructList;
 import software.amazon.awssdk.core.util.DefaultSdkAutoConstructMap;
+import software.amazon.awssdk.core.util.LazySdkMap;
 import software.amazon.awssdk.core.util.SdkAutoConstructList;
 import software.amazon.awssdk.core.util.SdkAutoConstructMap;
 
 @Generated("software.amazon.awssdk:codegen")
 final class MapOfStringToIntegerListCopier {
     static Map<String, List<Integer>> copy(Map<String, ? extends Collection<Integer>> mapOfStringToIntegerListParam) {
+        if (mapOfStringToIntegerListParam instanceof LazySdkMap) {
+            return LazySdkMap.copyLazily(mapOfStringToIntegerListParam, MapOfStringToIntegerListCopier::copy);
+        }
         Map<String, List<Integer>> map;
         if (mapOfStringToIntegerListParam == null || mapOfStringToIntegerListParam instanceof SdkAutoConstructMap) {
             map = DefaultSdkAutoConstructMap.getInstance();
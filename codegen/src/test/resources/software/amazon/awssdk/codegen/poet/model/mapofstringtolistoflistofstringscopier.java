@@ -11,6 +11,7 @@ import java.util.Map;
 import software.amazon.awssdk.annotations.Generated;
 import software.amazon.awssdk.core.util.DefaultSdkAutoConstructList;
 import software.amazon.awssdk.core.util.DefaultSdkAutoConstructMap;
+import software.amazon.awssdk.core.util.LazySdkMap;
 import software.amazon.awssdk.core.util.SdkAutoConstructList;
 import software.amazon.awssdk.core.util.SdkAutoConstructMap;
 
@@ -18,6 +19,9 @@ import software.amazon.awssdk.core.util.SdkAutoConstructMap;
 final class MapOfStringToListOfListOfStringsCopier {
     static Map<String, List<List<String>>> copy(
         Map<String, ? extends Collection<? extends Collection<String>>> mapOfStringToListOfListOfStringsParam) {
+        if (mapOfStringToListOfListOfStringsParam instanceof LazySdkMap) {
+            return LazySdkMap.copyLazily(mapOfStringToListOfListOfStringsParam, MapOfStringToListOfListOfStringsCopier::copy);
+        }
         Map<String, List<List<String>>> map;
         if (mapOfStringToListOfListOfStringsParam == null || mapOfStringToListOfListOfStringsParam instanceof SdkAutoConstructMap) {
             map = DefaultSdkAutoConstructMap.getInstance();
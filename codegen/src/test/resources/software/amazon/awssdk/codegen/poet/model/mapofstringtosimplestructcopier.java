@@ -7,11 +7,15 @@ import java.util.LinkedHashMap;
 import java.util.Map;
 import software.amazon.awssdk.annotations.Generated;
 import software.amazon.awssdk.core.util.DefaultSdkAutoConstructMap;
+import software.amazon.awssdk.core.util.LazySdkMap;
 import software.amazon.awssdk.core.util.SdkAutoConstructMap;
 
 @Generated("software.amazon.awssdk:codegen")
 final class MapOfStringToSimpleStructCopier {
     static Map<String, SimpleStruct> copy(Map<String, ? extends SimpleStruct> mapOfStringToSimpleStructParam) {
+        if (mapOfStringToSimpleStructParam instanceof LazySdkMap) {
+            return LazySdkMap.copyLazily(mapOfStringToSimpleStructParam, MapOfStringToSimpleStructCopier::copy);
+        }
         Map<String, SimpleStruct> map;
         if (mapOfStringToSimpleStructParam == null || mapOfStringToSimpleStructParam instanceof SdkAutoConstructMap) {
             map = DefaultSdkAutoConstructMap.getInstance();
@@ -7,11 +7,15 @@ import java.util.LinkedHashMap;
 import java.util.Map;
 import software.amazon.awssdk.annotations.Generated;
 import software.amazon.awssdk.core.util.DefaultSdkAutoConstructMap;
+import software.amazon.awssdk.core.util.LazySdkMap;
 import software.amazon.awssdk.core.util.SdkAutoConstructMap;
 
 @Generated("software.amazon.awssdk:codegen")
 final class MapOfStringToStringCopier {
     static Map<String, String> copy(Map<String, String> mapOfStringToStringParam) {
+        if (mapOfStringToStringParam instanceof LazySdkMap) {
+            return LazySdkMap.copyLazily(mapOfStringToStringParam, MapOfStringToStringCopier::copy);
+        }
         Map<String, String> map;
         if (mapOfStringToStringParam == null || mapOfStringToStringParam instanceof SdkAutoConstructMap) {
             map = DefaultSdkAutoConstructMap.getInstance();
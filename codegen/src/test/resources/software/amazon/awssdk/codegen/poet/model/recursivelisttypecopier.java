@@ -8,11 +8,15 @@ import java.util.Collections;
 import java.util.List;
 import software.amazon.awssdk.annotations.Generated;
 import software.amazon.awssdk.core.util.DefaultSdkAutoConstructList;
+import software.amazon.awssdk.core.util.LazySdkList;
 import software.amazon.awssdk.core.util.SdkAutoConstructList;
 
 @Generated("software.amazon.awssdk:codegen")
 final class RecursiveListTypeCopier {
     static List<RecursiveStructType> copy(Collection<? extends RecursiveStructType> recursiveListTypeParam) {
+        if (recursiveListTypeParam instanceof LazySdkList) {
+            return LazySdkList.copyLazily(recursiveListTypeParam, RecursiveListTypeCopier::copy);
+        }
         List<RecursiveStructType> list;
         if (recursiveListTypeParam == null || recursiveListTypeParam instanceof SdkAutoConstructList) {
             list = DefaultSdkAutoConstructList.getInstance();
@@ -7,11 +7,15 @@ import java.util.LinkedHashMap;
 import java.util.Map;
 import software.amazon.awssdk.annotations.Generated;
 import software.amazon.awssdk.core.util.DefaultSdkAutoConstructMap;
+import software.amazon.awssdk.core.util.LazySdkMap;
 import software.amazon.awssdk.core.util.SdkAutoConstructMap;
 
 @Generated("software.amazon.awssdk:codegen")
 final class RecursiveMapTypeCopier {
     static Map<String, RecursiveStructType> copy(Map<String, ? extends RecursiveStructType> recursiveMapTypeParam) {
+        if (recursiveMapTypeParam instanceof LazySdkMap) {
+            return LazySdkMap.copyLazily(recursiveMapTypeParam, RecursiveMapTypeCopier::copy);
+        }
         Map<String, RecursiveStructType> map;
         if (recursiveMapTypeParam == null || recursiveMapTypeParam instanceof SdkAutoConstructMap) {
             map = DefaultSdkAutoConstructMap.getInstance();
@@ -0,0 +1,228 @@
+package software.amazon.awssdk.services.directjsonmarshallers.transform;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import software.amazon.awssdk.annotations.Generated;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.core.SdkBytes;
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.core.runtime.transform.Marshaller;
+import software.amazon.awssdk.core.util.IdempotentUtils;
+import software.amazon.awssdk.core.util.SdkAutoConstructList;
+import software.amazon.awssdk.core.util.SdkAutoConstructMap;
+import software.amazon.awssdk.http.SdkHttpFullRequest;
+import software.amazon.awssdk.http.SdkHttpMethod;
+import software.amazon.awssdk.protocols.core.OperationInfo;
+import software.amazon.awssdk.protocols.core.ProtocolMarshaller;
+import software.amazon.awssdk.protocols.json.BaseAwsJsonProtocolFactory;
+import software.amazon.awssdk.protocols.json.StructuredJsonGenerator;
+import software.amazon.awssdk.services.directjsonmarshallers.model.AllTypesRequest;
+import software.amazon.awssdk.services.directjsonmarshallers.model.NestedStructure;
+import software.amazon.awssdk.services.directjsonmarshallers.model.RecursiveStructure;
+import software.amazon.awssdk.utils.DateUtils;
+import software.amazon.awssdk.utils.Validate;
+
+/**
+ * {@link AllTypesRequest} Marshaller
+ */
+@Generated("software.amazon.awssdk:codegen")
+@SdkInternalApi
+public class AllTypesRequestMarshaller implements Marshaller<AllTypesRequest> {
+    private static final OperationInfo SDK_OPERATION_BINDING = OperationInfo.builder().requestUri("/2016-03-11/allTypes")
+            .httpMethod(SdkHttpMethod.POST).hasExplicitPayloadMember(false).hasImplicitPayloadMembers(true)
+            .hasPayloadMembers(true).build();
+
+    private final BaseAwsJsonProtocolFactory protocolFactory;
+
+    public AllTypesRequestMarshaller(BaseAwsJsonProtocolFactory protocolFactory) {
+        this.protocolFactory = protocolFactory;
+    }
+
+    @Override
+    public SdkHttpFullRequest marshall(AllTypesRequest allTypesRequest) {
+        Validate.paramNotNull(allTypesRequest, "allTypesRequest");
+        try {
+            ProtocolMarshaller<SdkHttpFullRequest> protocolMarshaller = protocolFactory.createProtocolMarshaller(
+                    SDK_OPERATION_BINDING, AllTypesRequestMarshaller::writeAllTypesRequest);
+            return protocolMarshaller.marshall(allTypesRequest);
+        } catch (Exception e) {
+            throw SdkClientException.builder().message("Unable to marshall request to JSON: " + e.getMessage()).cause(e).build();
+        }
+    }
+
+    private static void writeAllTypesRequest(AllTypesRequest pojo, StructuredJsonGenerator jsonGenerator) {
+        String stringMember = pojo.stringMember();
+        if (stringMember != null) {
+            jsonGenerator.writeFieldName("StringMember");
+            jsonGenerator.writeValue(stringMember);
+        }
+        Integer integerMember = pojo.integerMember();
+        if (integerMember != null) {
+            jsonGenerator.writeFieldName("IntegerMember");
+            jsonGenerator.writeValue(integerMember);
+        }
+        Long longMember = pojo.longMember();
+        if (longMember != null) {
+            jsonGenerator.writeFieldName("LongMember");
+            jsonGenerator.writeValue(longMember);
+        }
+        Short shortMember = pojo.shortMember();
+        if (shortMember != null) {
+            jsonGenerator.writeFieldName("ShortMember");
+            jsonGenerator.writeValue(shortMember);
+        }
+        Float floatMember = pojo.floatMember();
+        if (floatMember != null) {
+            jsonGenerator.writeFieldName("FloatMember");
+            jsonGenerator.writeValue(floatMember);
+        }
+        Double doubleMember = pojo.doubleMember();
+        if (doubleMember != null) {
+            jsonGenerator.writeFieldName("DoubleMember");
+            jsonGenerator.writeValue(doubleMember);
+        }
+        BigDecimal bigDecimalMember = pojo.bigDecimalMember();
+        if (bigDecimalMember != null) {
+            jsonGenerator.writeFieldName("BigDecimalMember");
+            jsonGenerator.writeValue(bigDecimalMember);
+        }
+        Boolean booleanMember = pojo.booleanMember();
+        if (booleanMember != null) {
+            jsonGenerator.writeFieldName("BooleanMember");
+            jsonGenerator.writeValue(booleanMember);
+        }
+        String enumMember = pojo.enumMemberAsString();
+        if (enumMember != null) {
+            jsonGenerator.writeFieldName("EnumMember");
+            jsonGenerator.writeValue(enumMember);
+        }
+        String renamedMember = pojo.renamedMember();
+        if (renamedMember != null) {
+            jsonGenerator.writeFieldName("renamed");
+            jsonGenerator.writeValue(renamedMember);
+        }
+        Instant timestampMember = pojo.timestampMember();
+        if (timestampMember != null) {
+            jsonGenerator.writeFieldName("TimestampMember");
+            jsonGenerator.writeValue(timestampMember);
+        }
+        Instant iso8601TimestampMember = pojo.iso8601TimestampMember();
+        if (iso8601TimestampMember != null) {
+            jsonGenerator.writeFieldName("Iso8601TimestampMember");
+            jsonGenerator.writeValue(DateUtils.formatIso8601Date(iso8601TimestampMember));
+        }
+        Instant unixTimestampMember = pojo.unixTimestampMember();
+        if (unixTimestampMember != null) {
+            jsonGenerator.writeFieldName("UnixTimestampMember");
+            jsonGenerator.writeNumber(DateUtils.formatUnixTimestampInstant(unixTimestampMember));
+        }
+        Instant rfc822TimestampMember = pojo.rfc822TimestampMember();
+        if (rfc822TimestampMember != null) {
+            jsonGenerator.writeFieldName("Rfc822TimestampMember");
+            jsonGenerator.writeValue(DateUtils.formatRfc1123Date(rfc822TimestampMember));
+        }
+        SdkBytes blobMember = pojo.blobMember();
+        if (blobMember != null) {
+            jsonGenerator.writeFieldName("BlobMember");
+            jsonGenerator.writeValue(blobMember.asByteBuffer());
+        }
+        String jsonValueMember = pojo.jsonValueMember();
+        if (jsonValueMember != null) {
+            jsonGenerator.writeFieldName("JsonValueMember");
+            jsonGenerator.writeValue(jsonValueMember);
+        }
+        String idempotencyToken = pojo.idempotencyToken();
+        if (idempotencyToken == null) {
+            idempotencyToken = IdempotentUtils.getGenerator().get();
+        }
+        if (idempotencyToken != null) {
+            jsonGenerator.writeFieldName("IdempotencyToken");
+            jsonGenerator.writeValue(idempotencyToken);
+        }
+        NestedStructure nestedStructure = pojo.nestedStructure();
+        if (nestedStructure != null) {
+            jsonGenerator.writeFieldName("NestedStructure");
+            writeNestedStructure(nestedStructure, jsonGenerator);
+        }
+        RecursiveStructure recursiveStructure = pojo.recursiveStructure();
+        if (recursiveStructure != null) {
+            jsonGenerator.writeFieldName("RecursiveStructure");
+            writeRecursiveStructure(recursiveStructure, jsonGenerator);
+        }
+    }
+
+    private static void writeNestedStructure(NestedStructure pojo, StructuredJsonGenerator jsonGenerator) {
+        jsonGenerator.writeStartObject();
+        String stringMember = pojo.stringMember();
+        if (stringMember != null) {
+            jsonGenerator.writeFieldName("StringMember");
+            jsonGenerator.writeValue(stringMember);
+        }
+        Instant iso8601TimestampMember = pojo.iso8601TimestampMember();
+        if (iso8601TimestampMember != null) {
+            jsonGenerator.writeFieldName("Iso8601TimestampMember");
+            jsonGenerator.writeValue(DateUtils.formatIso8601Date(iso8601TimestampMember));
+        }
+        SdkBytes blobMember = pojo.blobMember();
+        if (blobMember != null) {
+            jsonGenerator.writeFieldName("BlobMember");
+            jsonGenerator.writeValue(blobMember.asByteBuffer());
+        }
+        List<String> listOfStrings = pojo.listOfStrings();
+        if (listOfStrings != null && !(listOfStrings instanceof SdkAutoConstructList && listOfStrings.isEmpty())) {
+            jsonGenerator.writeFieldName("ListOfStrings");
+            jsonGenerator.writeStartArray();
+            for (String element0 : listOfStrings) {
+                if (element0 == null) {
+                    jsonGenerator.writeNull();
+                } else {
+                    jsonGenerator.writeValue(element0);
+                }
+            }
+            jsonGenerator.writeEndArray();
+        }
+        jsonGenerator.writeEndObject();
+    }
+
+    private static void writeRecursiveStructure(RecursiveStructure pojo, StructuredJsonGenerator jsonGenerator) {
+        jsonGenerator.writeStartObject();
+        String noRecurse = pojo.noRecurse();
+        if (noRecurse != null) {
+            jsonGenerator.writeFieldName("NoRecurse");
+            jsonGenerator.writeValue(noRecurse);
+        }
+        RecursiveStructure recursiveStructure = pojo.recursiveStructure();
+        if (recursiveStructure != null) {
+            jsonGenerator.writeFieldName("RecursiveStructure");
+            writeRecursiveStructure(recursiveStructure, jsonGenerator);
+        }
+        List<RecursiveStructure> recursiveList = pojo.recursiveList();
+        if (recursiveList != null && !(recursiveList instanceof SdkAutoConstructList && recursiveList.isEmpty())) {
+            jsonGenerator.writeFieldName("RecursiveList");
+            jsonGenerator.writeStartArray();
+            for (RecursiveStructure element0 : recursiveList) {
+                if (element0 == null) {
+                    jsonGenerator.writeNull();
+                } else {
+                    writeRecursiveStructure(element0, jsonGenerator);
+                }
+            }
+            jsonGenerator.writeEndArray();
+        }
+        Map<String, RecursiveStructure> recursiveMap = pojo.recursiveMap();
+        if (recursiveMap != null && !(recursiveMap instanceof SdkAutoConstructMap && recursiveMap.isEmpty())) {
+            jsonGenerator.writeFieldName("RecursiveMap");
+            jsonGenerator.writeStartObject();
+            for (Map.Entry<String, RecursiveStructure> entry0 : recursiveMap.entrySet()) {
+                if (entry0.getValue() != null) {
+                    jsonGenerator.writeFieldName(entry0.getKey());
+                    writeRecursiveStructure(entry0.getValue(), jsonGenerator);
+                }
+            }
+            jsonGenerator.writeEndObject();
+        }
+        jsonGenerator.writeEndObject();
+    }
+}
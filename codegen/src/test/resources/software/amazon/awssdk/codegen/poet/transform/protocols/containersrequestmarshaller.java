@@ -0,0 +1,292 @@
+package software.amazon.awssdk.services.directjsonmarshallers.transform;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import software.amazon.awssdk.annotations.Generated;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.core.SdkBytes;
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.core.runtime.transform.Marshaller;
+import software.amazon.awssdk.core.util.SdkAutoConstructList;
+import software.amazon.awssdk.core.util.SdkAutoConstructMap;
+import software.amazon.awssdk.http.SdkHttpFullRequest;
+import software.amazon.awssdk.http.SdkHttpMethod;
+import software.amazon.awssdk.protocols.core.OperationInfo;
+import software.amazon.awssdk.protocols.core.ProtocolMarshaller;
+import software.amazon.awssdk.protocols.json.BaseAwsJsonProtocolFactory;
+import software.amazon.awssdk.protocols.json.StructuredJsonGenerator;
+import software.amazon.awssdk.services.directjsonmarshallers.model.ContainersRequest;
+import software.amazon.awssdk.services.directjsonmarshallers.model.NestedStructure;
+import software.amazon.awssdk.utils.DateUtils;
+import software.amazon.awssdk.utils.Validate;
+
+/**
+ * {@link ContainersRequest} Marshaller
+ */
+@Generated("software.amazon.awssdk:codegen")
+@SdkInternalApi
+public class ContainersRequestMarshaller implements Marshaller<ContainersRequest> {
+    private static final OperationInfo SDK_OPERATION_BINDING = OperationInfo.builder().requestUri("/2016-03-11/containers")
+            .httpMethod(SdkHttpMethod.POST).hasExplicitPayloadMember(false).hasImplicitPayloadMembers(true)
+            .hasPayloadMembers(true).build();
+
+    private final BaseAwsJsonProtocolFactory protocolFactory;
+
+    public ContainersRequestMarshaller(BaseAwsJsonProtocolFactory protocolFactory) {
+        this.protocolFactory = protocolFactory;
+    }
+
+    @Override
+    public SdkHttpFullRequest marshall(ContainersRequest containersRequest) {
+        Validate.paramNotNull(containersRequest, "containersRequest");
+        try {
+            ProtocolMarshaller<SdkHttpFullRequest> protocolMarshaller = protocolFactory.createProtocolMarshaller(
+                    SDK_OPERATION_BINDING, ContainersRequestMarshaller::writeContainersRequest);
+            return protocolMarshaller.marshall(containersRequest);
+        } catch (Exception e) {
+            throw SdkClientException.builder().message("Unable to marshall request to JSON: " + e.getMessage()).cause(e).build();
+        }
+    }
+
+    private static void writeContainersRequest(ContainersRequest pojo, StructuredJsonGenerator jsonGenerator) {
+        List<String> listOfStrings = pojo.listOfStrings();
+        if (listOfStrings != null && !(listOfStrings instanceof SdkAutoConstructList && listOfStrings.isEmpty())) {
+            jsonGenerator.writeFieldName("ListOfStrings");
+            jsonGenerator.writeStartArray();
+            for (String element0 : listOfStrings) {
+                if (element0 == null) {
+                    jsonGenerator.writeNull();
+                } else {
+                    jsonGenerator.writeValue(element0);
+                }
+            }
+            jsonGenerator.writeEndArray();
+        }
+        List<String> listOfEnums = pojo.listOfEnumsAsStrings();
+        if (listOfEnums != null && !(listOfEnums instanceof SdkAutoConstructList && listOfEnums.isEmpty())) {
+            jsonGenerator.writeFieldName("ListOfEnums");
+            jsonGenerator.writeStartArray();
+            for (String element0 : listOfEnums) {
+                if (element0 == null) {
+                    jsonGenerator.writeNull();
+                } else {
+                    jsonGenerator.writeValue(element0);
+                }
+            }
+            jsonGenerator.writeEndArray();
+        }
+        List<SdkBytes> listOfBlobs = pojo.listOfBlobs();
+        if (listOfBlobs != null && !(listOfBlobs instanceof SdkAutoConstructList && listOfBlobs.isEmpty())) {
+            jsonGenerator.writeFieldName("ListOfBlobs");
+            jsonGenerator.writeStartArray();
+            for (SdkBytes element0 : listOfBlobs) {
+                if (element0 == null) {
+                    jsonGenerator.writeNull();
+                } else {
+                    jsonGenerator.writeValue(element0.asByteBuffer());
+                }
+            }
+            jsonGenerator.writeEndArray();
+        }
+        List<Instant> listOfTimestamps = pojo.listOfTimestamps();
+        if (listOfTimestamps != null && !(listOfTimestamps instanceof SdkAutoConstructList && listOfTimestamps.isEmpty())) {
+            jsonGenerator.writeFieldName("ListOfTimestamps");
+            jsonGenerator.writeStartArray();
+            for (Instant element0 : listOfTimestamps) {
+                if (element0 == null) {
+                    jsonGenerator.writeNull();
+                } else {
+                    jsonGenerator.writeValue(element0);
+                }
+            }
+            jsonGenerator.writeEndArray();
+        }
+        List<Instant> listOfIso8601Timestamps = pojo.listOfIso8601Timestamps();
+        if (listOfIso8601Timestamps != null
+                && !(listOfIso8601Timestamps instanceof SdkAutoConstructList && listOfIso8601Timestamps.isEmpty())) {
+            jsonGenerator.writeFieldName("ListOfIso8601Timestamps");
+            jsonGenerator.writeStartArray();
+            for (Instant element0 : listOfIso8601Timestamps) {
+                if (element0 == null) {
+                    jsonGenerator.writeNull();
+                } else {
+                    jsonGenerator.writeValue(element0);
+                }
+            }
+            jsonGenerator.writeEndArray();
+        }
+        List<NestedStructure> listOfStructures = pojo.listOfStructures();
+        if (listOfStructures != null && !(listOfStructures instanceof SdkAutoConstructList && listOfStructures.isEmpty())) {
+            jsonGenerator.writeFieldName("ListOfStructures");
+            jsonGenerator.writeStartArray();
+            for (NestedStructure element0 : listOfStructures) {
+                if (element0 == null) {
+                    jsonGenerator.writeNull();
+                } else {
+                    writeNestedStructure(element0, jsonGenerator);
+                }
+            }
+            jsonGenerator.writeEndArray();
+        }
+        List<List<String>> listOfListOfStrings = pojo.listOfListOfStrings();
+        if (listOfListOfStrings != null
+                && !(listOfListOfStrings instanceof SdkAutoConstructList && listOfListOfStrings.isEmpty())) {
+            jsonGenerator.writeFieldName("ListOfListOfStrings");
+            jsonGenerator.writeStartArray();
+            for (List<String> element0 : listOfListOfStrings) {
+                if (element0 == null) {
+                    jsonGenerator.writeNull();
+                } else if (!(element0 instanceof SdkAutoConstructList && element0.isEmpty())) {
+                    jsonGenerator.writeStartArray();
+                    for (String element1 : element0) {
+                        if (element1 == null) {
+                            jsonGenerator.writeNull();
+                        } else {
+                            jsonGenerator.writeValue(element1);
+                        }
+                    }
+                    jsonGenerator.writeEndArray();
+                }
+            }
+            jsonGenerator.writeEndArray();
+        }
+        List<Map<String, String>> listOfMapOfStringToString = pojo.listOfMapOfStringToString();
+        if (listOfMapOfStringToString != null
+                && !(listOfMapOfStringToString instanceof SdkAutoConstructList && listOfMapOfStringToString.isEmpty())) {
+            jsonGenerator.writeFieldName("ListOfMapOfStringToString");
+            jsonGenerator.writeStartArray();
+            for (Map<String, String> element0 : listOfMapOfStringToString) {
+                if (element0 == null) {
+                    jsonGenerator.writeNull();
+                } else if (!(element0 instanceof SdkAutoConstructMap && element0.isEmpty())) {
+                    jsonGenerator.writeStartObject();
+                    for (Map.Entry<String, String> entry1 : element0.entrySet()) {
+                        if (entry1.getValue() != null) {
+                            jsonGenerator.writeFieldName(entry1.getKey());
+                            jsonGenerator.writeValue(entry1.getValue());
+                        }
+                    }
+                    jsonGenerator.writeEndObject();
+                }
+            }
+            jsonGenerator.writeEndArray();
+        }
+        Map<String, String> mapOfStringToString = pojo.mapOfStringToString();
+        if (mapOfStringToString != null && !(mapOfStringToString instanceof SdkAutoConstructMap && mapOfStringToString.isEmpty())) {
+            jsonGenerator.writeFieldName("MapOfStringToString");
+            jsonGenerator.writeStartObject();
+            for (Map.Entry<String, String> entry0 : mapOfStringToString.entrySet()) {
+                if (entry0.getValue() != null) {
+                    jsonGenerator.writeFieldName(entry0.getKey());
+                    jsonGenerator.writeValue(entry0.getValue());
+                }
+            }
+            jsonGenerator.writeEndObject();
+        }
+        Map<String, SdkBytes> mapOfStringToBlob = pojo.mapOfStringToBlob();
+        if (mapOfStringToBlob != null && !(mapOfStringToBlob instanceof SdkAutoConstructMap && mapOfStringToBlob.isEmpty())) {
+            jsonGenerator.writeFieldName("MapOfStringToBlob");
+            jsonGenerator.writeStartObject();
+            for (Map.Entry<String, SdkBytes> entry0 : mapOfStringToBlob.entrySet()) {
+                if (entry0.getValue() != null) {
+                    jsonGenerator.writeFieldName(entry0.getKey());
+                    jsonGenerator.writeValue(entry0.getValue().asByteBuffer());
+                }
+            }
+            jsonGenerator.writeEndObject();
+        }
+        Map<String, Instant> mapOfStringToRfc822Timestamp = pojo.mapOfStringToRfc822Timestamp();
+        if (mapOfStringToRfc822Timestamp != null
+                && !(mapOfStringToRfc822Timestamp instanceof SdkAutoConstructMap && mapOfStringToRfc822Timestamp.isEmpty())) {
+            jsonGenerator.writeFieldName("MapOfStringToRfc822Timestamp");
+            jsonGenerator.writeStartObject();
+            for (Map.Entry<String, Instant> entry0 : mapOfStringToRfc822Timestamp.entrySet()) {
+                if (entry0.getValue() != null) {
+                    jsonGenerator.writeFieldName(entry0.getKey());
+                    jsonGenerator.writeValue(entry0.getValue());
+                }
+            }
+            jsonGenerator.writeEndObject();
+        }
+        Map<String, NestedStructure> mapOfStringToStructure = pojo.mapOfStringToStructure();
+        if (mapOfStringToStructure != null
+                && !(mapOfStringToStructure instanceof SdkAutoConstructMap && mapOfStringToStructure.isEmpty())) {
+            jsonGenerator.writeFieldName("MapOfStringToStructure");
+            jsonGenerator.writeStartObject();
+            for (Map.Entry<String, NestedStructure> entry0 : mapOfStringToStructure.entrySet()) {
+                if (entry0.getValue() != null) {
+                    jsonGenerator.writeFieldName(entry0.getKey());
+                    writeNestedStructure(entry0.getValue(), jsonGenerator);
+                }
+            }
+            jsonGenerator.writeEndObject();
+        }
+        Map<String, List<String>> mapOfStringToListOfStrings = pojo.mapOfStringToListOfStrings();
+        if (mapOfStringToListOfStrings != null
+                && !(mapOfStringToListOfStrings instanceof SdkAutoConstructMap && mapOfStringToListOfStrings.isEmpty())) {
+            jsonGenerator.writeFieldName("MapOfStringToListOfStrings");
+            jsonGenerator.writeStartObject();
+            for (Map.Entry<String, List<String>> entry0 : mapOfStringToListOfStrings.entrySet()) {
+                if (entry0.getValue() != null) {
+                    jsonGenerator.writeFieldName(entry0.getKey());
+                    jsonGenerator.writeStartArray();
+                    for (String element1 : entry0.getValue()) {
+                        if (element1 == null) {
+                            jsonGenerator.writeNull();
+                        } else {
+                            jsonGenerator.writeValue(element1);
+                        }
+                    }
+                    jsonGenerator.writeEndArray();
+                }
+            }
+            jsonGenerator.writeEndObject();
+        }
+        Map<String, String> mapOfEnumToEnum = pojo.mapOfEnumToEnumAsStrings();
+        if (mapOfEnumToEnum != null && !(mapOfEnumToEnum instanceof SdkAutoConstructMap && mapOfEnumToEnum.isEmpty())) {
+            jsonGenerator.writeFieldName("MapOfEnumToEnum");
+            jsonGenerator.writeStartObject();
+            for (Map.Entry<String, String> entry0 : mapOfEnumToEnum.entrySet()) {
+                if (entry0.getValue() != null) {
+                    jsonGenerator.writeFieldName(entry0.getKey());
+                    jsonGenerator.writeValue(entry0.getValue());
+                }
+            }
+            jsonGenerator.writeEndObject();
+        }
+    }
+
+    private static void writeNestedStructure(NestedStructure pojo, StructuredJsonGenerator jsonGenerator) {
+        jsonGenerator.writeStartObject();
+        String stringMember = pojo.stringMember();
+        if (stringMember != null) {
+            jsonGenerator.writeFieldName("StringMember");
+            jsonGenerator.writeValue(stringMember);
+        }
+        Instant iso8601TimestampMember = pojo.iso8601TimestampMember();
+        if (iso8601TimestampMember != null) {
+            jsonGenerator.writeFieldName("Iso8601TimestampMember");
+            jsonGenerator.writeValue(DateUtils.formatIso8601Date(iso8601TimestampMember));
+        }
+        SdkBytes blobMember = pojo.blobMember();
+        if (blobMember != null) {
+            jsonGenerator.writeFieldName("BlobMember");
+            jsonGenerator.writeValue(blobMember.asByteBuffer());
+        }
+        List<String> listOfStrings = pojo.listOfStrings();
+        if (listOfStrings != null && !(listOfStrings instanceof SdkAutoConstructList && listOfStrings.isEmpty())) {
+            jsonGenerator.writeFieldName("ListOfStrings");
+            jsonGenerator.writeStartArray();
+            for (String element0 : listOfStrings) {
+                if (element0 == null) {
+                    jsonGenerator.writeNull();
+                } else {
+                    jsonGenerator.writeValue(element0);
+                }
+            }
+            jsonGenerator.writeEndArray();
+        }
+        jsonGenerator.writeEndObject();
+    }
+}
@@ -0,0 +1,42 @@
+package software.amazon.awssdk.services.directjsonmarshallers.transform;
+
+import software.amazon.awssdk.annotations.Generated;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.core.runtime.transform.Marshaller;
+import software.amazon.awssdk.http.SdkHttpFullRequest;
+import software.amazon.awssdk.http.SdkHttpMethod;
+import software.amazon.awssdk.protocols.core.OperationInfo;
+import software.amazon.awssdk.protocols.core.ProtocolMarshaller;
+import software.amazon.awssdk.protocols.json.BaseAwsJsonProtocolFactory;
+import software.amazon.awssdk.services.directjsonmarshallers.model.DocumentMemberRequest;
+import software.amazon.awssdk.utils.Validate;
+
+/**
+ * {@link DocumentMemberRequest} Marshaller
+ */
+@Generated("software.amazon.awssdk:codegen")
+@SdkInternalApi
+public class DocumentMemberRequestMarshaller implements Marshaller<DocumentMemberRequest> {
+    private static final OperationInfo SDK_OPERATION_BINDING = OperationInfo.builder().requestUri("/2016-03-11/documentMember")
+            .httpMethod(SdkHttpMethod.POST).hasExplicitPayloadMember(false).hasImplicitPayloadMembers(true)
+            .hasPayloadMembers(true).build();
+
+    private final BaseAwsJsonProtocolFactory protocolFactory;
+
+    public DocumentMemberRequestMarshaller(BaseAwsJsonProtocolFactory protocolFactory) {
+        this.protocolFactory = protocolFactory;
+    }
+
+    @Override
+    public SdkHttpFullRequest marshall(DocumentMemberRequest documentMemberRequest) {
+        Validate.paramNotNull(documentMemberRequest, "documentMemberRequest");
+        try {
+            ProtocolMarshaller<SdkHttpFullRequest> protocolMarshaller = protocolFactory
+                    .createProtocolMarshaller(SDK_OPERATION_BINDING);
+            return protocolMarshaller.marshall(documentMemberRequest);
+        } catch (Exception e) {
+            throw SdkClientException.builder().message("Unable to marshall request to JSON: " + e.getMessage()).cause(e).build();
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package software.amazon.awssdk.services.directjsonmarshallers.transform;
+
+import software.amazon.awssdk.annotations.Generated;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.core.runtime.transform.Marshaller;
+import software.amazon.awssdk.http.SdkHttpFullRequest;
+import software.amazon.awssdk.http.SdkHttpMethod;
+import software.amazon.awssdk.protocols.core.OperationInfo;
+import software.amazon.awssdk.protocols.core.ProtocolMarshaller;
+import software.amazon.awssdk.protocols.json.BaseAwsJsonProtocolFactory;
+import software.amazon.awssdk.services.directjsonmarshallers.model.ExplicitPayloadRequest;
+import software.amazon.awssdk.utils.Validate;
+
+/**
+ * {@link ExplicitPayloadRequest} Marshaller
+ */
+@Generated("software.amazon.awssdk:codegen")
+@SdkInternalApi
+public class ExplicitPayloadRequestMarshaller implements Marshaller<ExplicitPayloadRequest> {
+    private static final OperationInfo SDK_OPERATION_BINDING = OperationInfo.builder().requestUri("/2016-03-11/explicitPayload")
+            .httpMethod(SdkHttpMethod.POST).hasExplicitPayloadMember(true).hasImplicitPayloadMembers(false)
+            .hasPayloadMembers(true).build();
+
+    private final BaseAwsJsonProtocolFactory protocolFactory;
+
+    public ExplicitPayloadRequestMarshaller(BaseAwsJsonProtocolFactory protocolFactory) {
+        this.protocolFactory = protocolFactory;
+    }
+
+    @Override
+    public SdkHttpFullRequest marshall(ExplicitPayloadRequest explicitPayloadRequest) {
+        Validate.paramNotNull(explicitPayloadRequest, "explicitPayloadRequest");
+        try {
+            ProtocolMarshaller<SdkHttpFullRequest> protocolMarshaller = protocolFactory
+                    .createProtocolMarshaller(SDK_OPERATION_BINDING);
+            return protocolMarshaller.marshall(explicitPayloadRequest);
+        } catch (Exception e) {
+            throw SdkClientException.builder().message("Unable to marshall request to JSON: " + e.getMessage()).cause(e).build();
+        }
+    }
+}
@@ -0,0 +1,182 @@
+package software.amazon.awssdk.services.directquerymarshallers.transform;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import software.amazon.awssdk.annotations.Generated;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.core.SdkBytes;
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.core.runtime.transform.Marshaller;
+import software.amazon.awssdk.core.util.IdempotentUtils;
+import software.amazon.awssdk.core.util.SdkAutoConstructList;
+import software.amazon.awssdk.http.SdkHttpFullRequest;
+import software.amazon.awssdk.http.SdkHttpMethod;
+import software.amazon.awssdk.protocols.core.OperationInfo;
+import software.amazon.awssdk.protocols.core.ProtocolMarshaller;
+import software.amazon.awssdk.protocols.query.AwsQueryProtocolFactory;
+import software.amazon.awssdk.services.directquerymarshallers.model.AllTypesRequest;
+import software.amazon.awssdk.services.directquerymarshallers.model.NestedStructure;
+import software.amazon.awssdk.services.directquerymarshallers.model.RecursiveStructure;
+import software.amazon.awssdk.utils.BinaryUtils;
+import software.amazon.awssdk.utils.DateUtils;
+import software.amazon.awssdk.utils.Validate;
+
+/**
+ * {@link AllTypesRequest} Marshaller
+ */
+@Generated("software.amazon.awssdk:codegen")
+@SdkInternalApi
+public class AllTypesRequestMarshaller implements Marshaller<AllTypesRequest> {
+    private static final OperationInfo SDK_OPERATION_BINDING = OperationInfo.builder().requestUri("/")
+            .httpMethod(SdkHttpMethod.POST).hasExplicitPayloadMember(false).hasPayloadMembers(true)
+            .operationIdentifier("AllTypes").apiVersion("2016-03-11").build();
+
+    private final AwsQueryProtocolFactory protocolFactory;
+
+    public AllTypesRequestMarshaller(AwsQueryProtocolFactory protocolFactory) {
+        this.protocolFactory = protocolFactory;
+    }
+
+    @Override
+    public SdkHttpFullRequest marshall(AllTypesRequest allTypesRequest) {
+        Validate.paramNotNull(allTypesRequest, "allTypesRequest");
+        try {
+            ProtocolMarshaller<SdkHttpFullRequest> protocolMarshaller = protocolFactory.createProtocolMarshaller(
+                    SDK_OPERATION_BINDING, AllTypesRequestMarshaller::writeAllTypesRequest);
+            return protocolMarshaller.marshall(allTypesRequest);
+        } catch (Exception e) {
+            throw SdkClientException.builder().message("Unable to marshall request to JSON: " + e.getMessage()).cause(e).build();
+        }
+    }
+
+    private static void writeAllTypesRequest(AllTypesRequest pojo, SdkHttpFullRequest.Builder request) {
+        String stringMember = pojo.stringMember();
+        if (stringMember != null) {
+            request.putRawQueryParameter("StringMember", stringMember);
+        }
+        Integer integerMember = pojo.integerMember();
+        if (integerMember != null) {
+            request.putRawQueryParameter("IntegerMember", integerMember.toString());
+        }
+        Long longMember = pojo.longMember();
+        if (longMember != null) {
+            request.putRawQueryParameter("LongMember", longMember.toString());
+        }
+        Short shortMember = pojo.shortMember();
+        if (shortMember != null) {
+            request.putRawQueryParameter("ShortMember", shortMember.toString());
+        }
+        Float floatMember = pojo.floatMember();
+        if (floatMember != null) {
+            request.putRawQueryParameter("FloatMember", floatMember.toString());
+        }
+        Double doubleMember = pojo.doubleMember();
+        if (doubleMember != null) {
+            request.putRawQueryParameter("DoubleMember", doubleMember.toString());
+        }
+        Boolean booleanMember = pojo.booleanMember();
+        if (booleanMember != null) {
+            request.putRawQueryParameter("BooleanMember", booleanMember.toString());
+        }
+        String enumMember = pojo.enumMemberAsString();
+        if (enumMember != null) {
+            request.putRawQueryParameter("EnumMember", enumMember);
+        }
+        String renamedMember = pojo.renamedMember();
+        if (renamedMember != null) {
+            request.putRawQueryParameter("renamed", renamedMember);
+        }
+        Instant timestampMember = pojo.timestampMember();
+        if (timestampMember != null) {
+            request.putRawQueryParameter("TimestampMember", DateUtils.formatIso8601Date(timestampMember));
+        }
+        Instant unixTimestampMember = pojo.unixTimestampMember();
+        if (unixTimestampMember != null) {
+            request.putRawQueryParameter("UnixTimestampMember", DateUtils.formatUnixTimestampInstant(unixTimestampMember));
+        }
+        Instant rfc822TimestampMember = pojo.rfc822TimestampMember();
+        if (rfc822TimestampMember != null) {
+            request.putRawQueryParameter("Rfc822TimestampMember", DateUtils.formatRfc1123Date(rfc822TimestampMember));
+        }
+        SdkBytes blobMember = pojo.blobMember();
+        if (blobMember != null) {
+            request.putRawQueryParameter("BlobMember", BinaryUtils.toBase64(blobMember.asByteArray()));
+        }
+        String idempotencyToken = pojo.idempotencyToken();
+        if (idempotencyToken == null) {
+            idempotencyToken = IdempotentUtils.getGenerator().get();
+        }
+        if (idempotencyToken != null) {
+            request.putRawQueryParameter("IdempotencyToken", idempotencyToken);
+        }
+        NestedStructure nestedStructure = pojo.nestedStructure();
+        if (nestedStructure != null) {
+            writeNestedStructure(nestedStructure, "NestedStructure", request);
+        }
+        RecursiveStructure recursiveStructure = pojo.recursiveStructure();
+        if (recursiveStructure != null) {
+            writeRecursiveStructure(recursiveStructure, "RecursiveStructure", request);
+        }
+    }
+
+    private static void writeNestedStructure(NestedStructure pojo, String path, SdkHttpFullRequest.Builder request) {
+        String stringMember = pojo.stringMember();
+        if (stringMember != null) {
+            request.putRawQueryParameter(path + ".StringMember", stringMember);
+        }
+        Instant timestampMember = pojo.timestampMember();
+        if (timestampMember != null) {
+            request.putRawQueryParameter(path + ".TimestampMember", DateUtils.formatIso8601Date(timestampMember));
+        }
+        SdkBytes blobMember = pojo.blobMember();
+        if (blobMember != null) {
+            request.putRawQueryParameter(path + ".BlobMember", BinaryUtils.toBase64(blobMember.asByteArray()));
+        }
+        List<String> listOfStrings = pojo.listOfStrings();
+        if (listOfStrings != null) {
+            if (listOfStrings.isEmpty() && !(listOfStrings instanceof SdkAutoConstructList)) {
+                request.putRawQueryParameter(path + ".ListOfStrings", "");
+            } else {
+                for (int i0 = 0; i0 < listOfStrings.size(); i0++) {
+                    String element0 = listOfStrings.get(i0);
+                    String elementName0 = path + ".ListOfStrings.member." + (i0 + 1);
+                    request.putRawQueryParameter(elementName0, element0);
+                }
+            }
+        }
+    }
+
+    private static void writeRecursiveStructure(RecursiveStructure pojo, String path, SdkHttpFullRequest.Builder request) {
+        String noRecurse = pojo.noRecurse();
+        if (noRecurse != null) {
+            request.putRawQueryParameter(path + ".NoRecurse", noRecurse);
+        }
+        RecursiveStructure recursiveStructure = pojo.recursiveStructure();
+        if (recursiveStructure != null) {
+            writeRecursiveStructure(recursiveStructure, path + ".RecursiveStructure", request);
+        }
+        List<RecursiveStructure> recursiveList = pojo.recursiveList();
+        if (recursiveList != null) {
+            if (recursiveList.isEmpty() && !(recursiveList instanceof SdkAutoConstructList)) {
+                request.putRawQueryParameter(path + ".RecursiveList", "");
+            } else {
+                for (int i0 = 0; i0 < recursiveList.size(); i0++) {
+                    RecursiveStructure element0 = recursiveList.get(i0);
+                    String elementName0 = path + ".RecursiveList.member." + (i0 + 1);
+                    writeRecursiveStructure(element0, elementName0, request);
+                }
+            }
+        }
+        Map<String, RecursiveStructure> recursiveMap = pojo.recursiveMap();
+        if (recursiveMap != null) {
+            int entryNumber0 = 1;
+            for (Map.Entry<String, RecursiveStructure> entry0 : recursiveMap.entrySet()) {
+                String entryName0 = path + ".RecursiveMap.entry." + entryNumber0++;
+                request.putRawQueryParameter(entryName0 + ".key", entry0.getKey());
+                RecursiveStructure entryValue0 = entry0.getValue();
+                writeRecursiveStructure(entryValue0, entryName0 + ".value", request);
+            }
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package software.amazon.awssdk.services.directquerymarshallers.transform;
+
+import software.amazon.awssdk.annotations.Generated;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.core.runtime.transform.Marshaller;
+import software.amazon.awssdk.http.SdkHttpFullRequest;
+import software.amazon.awssdk.http.SdkHttpMethod;
+import software.amazon.awssdk.protocols.core.OperationInfo;
+import software.amazon.awssdk.protocols.core.ProtocolMarshaller;
+import software.amazon.awssdk.protocols.query.AwsQueryProtocolFactory;
+import software.amazon.awssdk.services.directquerymarshallers.model.BigDecimalMemberRequest;
+import software.amazon.awssdk.utils.Validate;
+
+/**
+ * {@link BigDecimalMemberRequest} Marshaller
+ */
+@Generated("software.amazon.awssdk:codegen")
+@SdkInternalApi
+public class BigDecimalMemberRequestMarshaller implements Marshaller<BigDecimalMemberRequest> {
+    private static final OperationInfo SDK_OPERATION_BINDING = OperationInfo.builder().requestUri("/")
+            .httpMethod(SdkHttpMethod.POST).hasExplicitPayloadMember(false).hasPayloadMembers(true)
+            .operationIdentifier("BigDecimalMember").apiVersion("2016-03-11").build();
+
+    private final AwsQueryProtocolFactory protocolFactory;
+
+    public BigDecimalMemberRequestMarshaller(AwsQueryProtocolFactory protocolFactory) {
+        this.protocolFactory = protocolFactory;
+    }
+
+    @Override
+    public SdkHttpFullRequest marshall(BigDecimalMemberRequest bigDecimalMemberRequest) {
+        Validate.paramNotNull(bigDecimalMemberRequest, "bigDecimalMemberRequest");
+        try {
+            ProtocolMarshaller<SdkHttpFullRequest> protocolMarshaller = protocolFactory
+                    .createProtocolMarshaller(SDK_OPERATION_BINDING);
+            return protocolMarshaller.marshall(bigDecimalMemberRequest);
+        } catch (Exception e) {
+            throw SdkClientException.builder().message("Unable to marshall request to JSON: " + e.getMessage()).cause(e).build();
+        }
+    }
+}
@@ -0,0 +1,316 @@
+package software.amazon.awssdk.services.directquerymarshallers.transform;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import software.amazon.awssdk.annotations.Generated;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.core.SdkBytes;
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.core.runtime.transform.Marshaller;
+import software.amazon.awssdk.core.util.SdkAutoConstructList;
+import software.amazon.awssdk.http.SdkHttpFullRequest;
+import software.amazon.awssdk.http.SdkHttpMethod;
+import software.amazon.awssdk.protocols.core.OperationInfo;
+import software.amazon.awssdk.protocols.core.ProtocolMarshaller;
+import software.amazon.awssdk.protocols.query.AwsQueryProtocolFactory;
+import software.amazon.awssdk.services.directquerymarshallers.model.ContainersRequest;
+import software.amazon.awssdk.services.directquerymarshallers.model.NestedStructure;
+import software.amazon.awssdk.utils.BinaryUtils;
+import software.amazon.awssdk.utils.DateUtils;
+import software.amazon.awssdk.utils.Validate;
+
+/**
+ * {@link ContainersRequest} Marshaller
+ */
+@Generated("software.amazon.awssdk:codegen")
+@SdkInternalApi
+public class ContainersRequestMarshaller implements Marshaller<ContainersRequest> {
+    private static final OperationInfo SDK_OPERATION_BINDING = OperationInfo.builder().requestUri("/")
+            .httpMethod(SdkHttpMethod.POST).hasExplicitPayloadMember(false).hasPayloadMembers(true)
+            .operationIdentifier("Containers").apiVersion("2016-03-11").build();
+
+    private final AwsQueryProtocolFactory protocolFactory;
+
+    public ContainersRequestMarshaller(AwsQueryProtocolFactory protocolFactory) {
+        this.protocolFactory = protocolFactory;
+    }
+
+    @Override
+    public SdkHttpFullRequest marshall(ContainersRequest containersRequest) {
+        Validate.paramNotNull(containersRequest, "containersRequest");
+        try {
+            ProtocolMarshaller<SdkHttpFullRequest> protocolMarshaller = protocolFactory.createProtocolMarshaller(
+                    SDK_OPERATION_BINDING, ContainersRequestMarshaller::writeContainersRequest);
+            return protocolMarshaller.marshall(containersRequest);
+        } catch (Exception e) {
+            throw SdkClientException.builder().message("Unable to marshall request to JSON: " + e.getMessage()).cause(e).build();
+        }
+    }
+
+    private static void writeContainersRequest(ContainersRequest pojo, SdkHttpFullRequest.Builder request) {
+        List<String> listOfStrings = pojo.listOfStrings();
+        if (listOfStrings != null) {
+            if (listOfStrings.isEmpty() && !(listOfStrings instanceof SdkAutoConstructList)) {
+                request.putRawQueryParameter("ListOfStrings", "");
+            } else {
+                for (int i0 = 0; i0 < listOfStrings.size(); i0++) {
+                    String element0 = listOfStrings.get(i0);
+                    String elementName0 = "ListOfStrings.member." + (i0 + 1);
+                    request.putRawQueryParameter(elementName0, element0);
+                }
+            }
+        }
+        List<String> flattenedListOfStrings = pojo.flattenedListOfStrings();
+        if (flattenedListOfStrings != null) {
+            if (flattenedListOfStrings.isEmpty() && !(flattenedListOfStrings instanceof SdkAutoConstructList)) {
+                request.putRawQueryParameter("FlattenedListOfStrings", "");
+            } else {
+                for (int i0 = 0; i0 < flattenedListOfStrings.size(); i0++) {
+                    String element0 = flattenedListOfStrings.get(i0);
+                    String elementName0 = "FlattenedListOfStrings." + (i0 + 1);
+                    request.putRawQueryParameter(elementName0, element0);
+                }
+            }
+        }
+        List<String> listOfRenamedStrings = pojo.listOfRenamedStrings();
+        if (listOfRenamedStrings != null) {
+            if (listOfRenamedStrings.isEmpty() && !(listOfRenamedStrings instanceof SdkAutoConstructList)) {
+                request.putRawQueryParameter("ListOfRenamedStrings", "");
+            } else {
+                for (int i0 = 0; i0 < listOfRenamedStrings.size(); i0++) {
+                    String element0 = listOfRenamedStrings.get(i0);
+                    String elementName0 = "ListOfRenamedStrings.item." + (i0 + 1);
+                    request.putRawQueryParameter(elementName0, element0);
+                }
+            }
+        }
+        List<Integer> listOfIntegers = pojo.listOfIntegers();
+        if (listOfIntegers != null) {
+            if (listOfIntegers.isEmpty() && !(listOfIntegers instanceof SdkAutoConstructList)) {
+                request.putRawQueryParameter("ListOfIntegers", "");
+            } else {
+                for (int i0 = 0; i0 < listOfIntegers.size(); i0++) {
+                    Integer element0 = listOfIntegers.get(i0);
+                    String elementName0 = "ListOfIntegers.member." + (i0 + 1);
+                    request.putRawQueryParameter(elementName0, element0.toString());
+                }
+            }
+        }
+        List<String> listOfEnums = pojo.listOfEnumsAsStrings();
+        if (listOfEnums != null) {
+            if (listOfEnums.isEmpty() && !(listOfEnums instanceof SdkAutoConstructList)) {
+                request.putRawQueryParameter("ListOfEnums", "");
+            } else {
+                for (int i0 = 0; i0 < listOfEnums.size(); i0++) {
+                    String element0 = listOfEnums.get(i0);
+                    String elementName0 = "ListOfEnums.member." + (i0 + 1);
+                    request.putRawQueryParameter(elementName0, element0);
+                }
+            }
+        }
+        List<SdkBytes> listOfBlobs = pojo.listOfBlobs();
+        if (listOfBlobs != null) {
+            if (listOfBlobs.isEmpty() && !(listOfBlobs instanceof SdkAutoConstructList)) {
+                request.putRawQueryParameter("ListOfBlobs", "");
+            } else {
+                for (int i0 = 0; i0 < listOfBlobs.size(); i0++) {
+                    SdkBytes element0 = listOfBlobs.get(i0);
+                    String elementName0 = "ListOfBlobs.member." + (i0 + 1);
+                    request.putRawQueryParameter(elementName0, BinaryUtils.toBase64(element0.asByteArray()));
+                }
+            }
+        }
+        List<Instant> listOfTimestamps = pojo.listOfTimestamps();
+        if (listOfTimestamps != null) {
+            if (listOfTimestamps.isEmpty() && !(listOfTimestamps instanceof SdkAutoConstructList)) {
+                request.putRawQueryParameter("ListOfTimestamps", "");
+            } else {
+                for (int i0 = 0; i0 < listOfTimestamps.size(); i0++) {
+                    Instant element0 = listOfTimestamps.get(i0);
+                    String elementName0 = "ListOfTimestamps.member." + (i0 + 1);
+                    if (element0 == null) {
+                        request.putRawQueryParameter(elementName0, (String) null);
+                    } else {
+                        request.putRawQueryParameter(elementName0, DateUtils.formatIso8601Date(element0));
+                    }
+                }
+            }
+        }
+        List<Instant> listOfUnixTimestamps = pojo.listOfUnixTimestamps();
+        if (listOfUnixTimestamps != null) {
+            if (listOfUnixTimestamps.isEmpty() && !(listOfUnixTimestamps instanceof SdkAutoConstructList)) {
+                request.putRawQueryParameter("ListOfUnixTimestamps", "");
+            } else {
+                for (int i0 = 0; i0 < listOfUnixTimestamps.size(); i0++) {
+                    Instant element0 = listOfUnixTimestamps.get(i0);
+                    String elementName0 = "ListOfUnixTimestamps.member." + (i0 + 1);
+                    if (element0 == null) {
+                        request.putRawQueryParameter(elementName0, (String) null);
+                    } else {
+                        request.putRawQueryParameter(elementName0, DateUtils.formatUnixTimestampInstant(element0));
+                    }
+                }
+            }
+        }
+        List<NestedStructure> listOfStructures = pojo.listOfStructures();
+        if (listOfStructures != null) {
+            if (listOfStructures.isEmpty() && !(listOfStructures instanceof SdkAutoConstructList)) {
+                request.putRawQueryParameter("ListOfStructures", "");
+            } else {
+                for (int i0 = 0; i0 < listOfStructures.size(); i0++) {
+                    NestedStructure element0 = listOfStructures.get(i0);
+                    String elementName0 = "ListOfStructures.member." + (i0 + 1);
+                    writeNestedStructure(element0, elementName0, request);
+                }
+            }
+        }
+        List<List<String>> listOfListOfStrings = pojo.listOfListOfStrings();
+        if (listOfListOfStrings != null) {
+            if (listOfListOfStrings.isEmpty() && !(listOfListOfStrings instanceof SdkAutoConstructList)) {
+                request.putRawQueryParameter("ListOfListOfStrings", "");
+            } else {
+                for (int i0 = 0; i0 < listOfListOfStrings.size(); i0++) {
+                    List<String> element0 = listOfListOfStrings.get(i0);
+                    String elementName0 = "ListOfListOfStrings.member." + (i0 + 1);
+                    if (element0.isEmpty() && !(element0 instanceof SdkAutoConstructList)) {
+                        request.putRawQueryParameter(elementName0, "");
+                    } else {
+                        for (int i1 = 0; i1 < element0.size(); i1++) {
+                            String element1 = element0.get(i1);
+                            String elementName1 = elementName0 + ".member." + (i1 + 1);
+                            request.putRawQueryParameter(elementName1, element1);
+                        }
+                    }
+                }
+            }
+        }
+        List<Map<String, String>> listOfMapOfStringToString = pojo.listOfMapOfStringToString();
+        if (listOfMapOfStringToString != null) {
+            if (listOfMapOfStringToString.isEmpty() && !(listOfMapOfStringToString instanceof SdkAutoConstructList)) {
+                request.putRawQueryParameter("ListOfMapOfStringToString", "");
+            } else {
+                for (int i0 = 0; i0 < listOfMapOfStringToString.size(); i0++) {
+                    Map<String, String> element0 = listOfMapOfStringToString.get(i0);
+                    String elementName0 = "ListOfMapOfStringToString.member." + (i0 + 1);
+                    int entryNumber1 = 1;
+                    for (Map.Entry<String, String> entry1 : element0.entrySet()) {
+                        String entryName1 = elementName0 + ".entry." + entryNumber1++;
+                        request.putRawQueryParameter(entryName1 + ".key", entry1.getKey());
+                        String entryValue1 = entry1.getValue();
+                        request.putRawQueryParameter(entryName1 + ".value", entryValue1);
+                    }
+                }
+            }
+        }
+        Map<String, String> mapOfStringToString = pojo.mapOfStringToString();
+        if (mapOfStringToString != null) {
+            int entryNumber0 = 1;
+            for (Map.Entry<String, String> entry0 : mapOfStringToString.entrySet()) {
+                String entryName0 = "MapOfStringToString.entry." + entryNumber0++;
+                request.putRawQueryParameter(entryName0 + ".key", entry0.getKey());
+                String entryValue0 = entry0.getValue();
+                request.putRawQueryParameter(entryName0 + ".value", entryValue0);
+            }
+        }
+        Map<String, String> flattenedMapOfStringToString = pojo.flattenedMapOfStringToString();
+        if (flattenedMapOfStringToString != null) {
+            int entryNumber0 = 1;
+            for (Map.Entry<String, String> entry0 : flattenedMapOfStringToString.entrySet()) {
+                String entryName0 = "FlattenedMapOfStringToString." + entryNumber0++;
+                request.putRawQueryParameter(entryName0 + ".key", entry0.getKey());
+                String entryValue0 = entry0.getValue();
+                request.putRawQueryParameter(entryName0 + ".value", entryValue0);
+            }
+        }
+        Map<String, String> mapOfRenamedStringToString = pojo.mapOfRenamedStringToString();
+        if (mapOfRenamedStringToString != null) {
+            int entryNumber0 = 1;
+            for (Map.Entry<String, String> entry0 : mapOfRenamedStringToString.entrySet()) {
+                String entryName0 = "MapOfRenamedStringToString.entry." + entryNumber0++;
+                request.putRawQueryParameter(entryName0 + ".Name", entry0.getKey());
+                String entryValue0 = entry0.getValue();
+                request.putRawQueryParameter(entryName0 + ".Value", entryValue0);
+            }
+        }
+        Map<String, Instant> mapOfStringToRfc822Timestamp = pojo.mapOfStringToRfc822Timestamp();
+        if (mapOfStringToRfc822Timestamp != null) {
+            int entryNumber0 = 1;
+            for (Map.Entry<String, Instant> entry0 : mapOfStringToRfc822Timestamp.entrySet()) {
+                String entryName0 = "MapOfStringToRfc822Timestamp.entry." + entryNumber0++;
+                request.putRawQueryParameter(entryName0 + ".key", entry0.getKey());
+                Instant entryValue0 = entry0.getValue();
+                if (entryValue0 == null) {
+                    request.putRawQueryParameter(entryName0 + ".value", (String) null);
+                } else {
+                    request.putRawQueryParameter(entryName0 + ".value", DateUtils.formatRfc1123Date(entryValue0));
+                }
+            }
+        }
+        Map<String, NestedStructure> mapOfStringToStructure = pojo.mapOfStringToStructure();
+        if (mapOfStringToStructure != null) {
+            int entryNumber0 = 1;
+            for (Map.Entry<String, NestedStructure> entry0 : mapOfStringToStructure.entrySet()) {
+                String entryName0 = "MapOfStringToStructure.entry." + entryNumber0++;
+                request.putRawQueryParameter(entryName0 + ".key", entry0.getKey());
+                NestedStructure entryValue0 = entry0.getValue();
+                writeNestedStructure(entryValue0, entryName0 + ".value", request);
+            }
+        }
+        Map<String, List<String>> mapOfStringToListOfStrings = pojo.mapOfStringToListOfStrings();
+        if (mapOfStringToListOfStrings != null) {
+            int entryNumber0 = 1;
+            for (Map.Entry<String, List<String>> entry0 : mapOfStringToListOfStrings.entrySet()) {
+                String entryName0 = "MapOfStringToListOfStrings.entry." + entryNumber0++;
+                request.putRawQueryParameter(entryName0 + ".key", entry0.getKey());
+                List<String> entryValue0 = entry0.getValue();
+                if (entryValue0.isEmpty() && !(entryValue0 instanceof SdkAutoConstructList)) {
+                    request.putRawQueryParameter(entryName0 + ".value", "");
+                } else {
+                    for (int i1 = 0; i1 < entryValue0.size(); i1++) {
+                        String element1 = entryValue0.get(i1);
+                        String elementName1 = entryName0 + ".value.member." + (i1 + 1);
+                        request.putRawQueryParameter(elementName1, element1);
+                    }
+                }
+            }
+        }
+        Map<String, String> mapOfEnumToEnum = pojo.mapOfEnumToEnumAsStrings();
+        if (mapOfEnumToEnum != null) {
+            int entryNumber0 = 1;
+            for (Map.Entry<String, String> entry0 : mapOfEnumToEnum.entrySet()) {
+                String entryName0 = "MapOfEnumToEnum.entry." + entryNumber0++;
+                request.putRawQueryParameter(entryName0 + ".key", entry0.getKey());
+                String entryValue0 = entry0.getValue();
+                request.putRawQueryParameter(entryName0 + ".value", entryValue0);
+            }
+        }
+    }
+
+    private static void writeNestedStructure(NestedStructure pojo, String path, SdkHttpFullRequest.Builder request) {
+        String stringMember = pojo.stringMember();
+        if (stringMember != null) {
+            request.putRawQueryParameter(path + ".StringMember", stringMember);
+        }
+        Instant timestampMember = pojo.timestampMember();
+        if (timestampMember != null) {
+            request.putRawQueryParameter(path + ".TimestampMember", DateUtils.formatIso8601Date(timestampMember));
+        }
+        SdkBytes blobMember = pojo.blobMember();
+        if (blobMember != null) {
+            request.putRawQueryParameter(path + ".BlobMember", BinaryUtils.toBase64(blobMember.asByteArray()));
+        }
+        List<String> listOfStrings = pojo.listOfStrings();
+        if (listOfStrings != null) {
+            if (listOfStrings.isEmpty() && !(listOfStrings instanceof SdkAutoConstructList)) {
+                request.putRawQueryParameter(path + ".ListOfStrings", "");
+            } else {
+                for (int i0 = 0; i0 < listOfStrings.size(); i0++) {
+                    String element0 = listOfStrings.get(i0);
+                    String elementName0 = path + ".ListOfStrings.member." + (i0 + 1);
+                    request.putRawQueryParameter(elementName0, element0);
+                }
+            }
+        }
+    }
+}
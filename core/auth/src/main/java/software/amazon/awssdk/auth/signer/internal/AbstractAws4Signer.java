@@ -15,17 +15,12 @@
 
 package software.amazon.awssdk.auth.signer.internal;
 
-import static software.amazon.awssdk.utils.StringUtils.lowerCase;
-
 import java.io.InputStream;
 import java.nio.charset.Charset;
 import java.time.Instant;
-import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
-import java.util.TreeMap;
-import java.util.stream.Collectors;
 import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.auth.credentials.AwsCredentials;
 import software.amazon.awssdk.auth.credentials.AwsSessionCredentials;
@@ -37,6 +32,8 @@ import software.amazon.awssdk.core.exception.SdkClientException;
 import software.amazon.awssdk.core.interceptor.ExecutionAttributes;
 import software.amazon.awssdk.core.signer.Presigner;
 import software.amazon.awssdk.http.SdkHttpFullRequest;
+import software.amazon.awssdk.http.SdkHttpHeaderMap;
+import software.amazon.awssdk.http.SdkHttpMethod;
 import software.amazon.awssdk.utils.BinaryUtils;
 import software.amazon.awssdk.utils.Logger;
 import software.amazon.awssdk.utils.http.SdkHttpUtils;
@@ -64,15 +61,24 @@ public abstract class AbstractAws4Signer<T extends Aws4SignerParams, U extends A
                                                 T signingParams) {
         SdkHttpFullRequest.Builder mutableRequest = request.toBuilder();
         String contentHash = calculateContentHash(mutableRequest, signingParams);
-        return doSign(mutableRequest.build(), requestParams, signingParams, contentHash);
+        return doSign(mutableRequest, requestParams, signingParams, contentHash);
     }
 
     protected SdkHttpFullRequest.Builder doSign(SdkHttpFullRequest request,
                                                 Aws4SignerRequestParams requestParams,
                                                 T signingParams,
                                                 String contentSha256) {
+        return doSign(request.toBuilder(), requestParams, signingParams, contentSha256);
+    }
 
-        SdkHttpFullRequest.Builder mutableRequest = request.toBuilder();
+    /**
+     * Signs the request being built. The request is built once, to canonicalize it, and the signature is then added to the
+     * same builder.
+     */
+    private SdkHttpFullRequest.Builder doSign(SdkHttpFullRequest.Builder mutableRequest,
+                                              Aws4SignerRequestParams requestParams,
+                                              T signingParams,
+                                              String contentSha256) {
         AwsCredentials sanitizedCredentials = sanitizeCredentials(signingParams.awsCredentials());
         if (sanitizedCredentials instanceof AwsSessionCredentials) {
             addSessionCredentials(mutableRequest, (AwsSessionCredentials) sanitizedCredentials);
@@ -85,20 +91,21 @@ public abstract class AbstractAws4Signer<T extends Aws4SignerParams, U extends A
                       .filter(h -> h.equals("required"))
                       .ifPresent(h -> mutableRequest.putHeader(SignerConstant.X_AMZ_CONTENT_SHA256, contentSha256));
 
-        Map<String, List<String>> canonicalHeaders = canonicalizeSigningHeaders(mutableRequest.headers());
+        SdkHttpFullRequest requestToSign = mutableRequest.build();
+        SdkHttpHeaderMap canonicalHeaders = SdkHttpHeaderMap.copyOf(requestToSign.headers());
         String signedHeadersString = getSignedHeadersString(canonicalHeaders);
 
-        String canonicalRequest = createCanonicalRequest(mutableRequest,
-                                                         canonicalHeaders,
-                                                         signedHeadersString,
-                                                         contentSha256,
-                                                         signingParams.doubleUrlEncode());
-
-        String stringToSign = createStringToSign(canonicalRequest, requestParams);
+        byte[] canonicalRequestHash = hashCanonicalRequest(requestToSign.method(),
+                                                           requestToSign.encodedPath(),
+                                                           requestToSign.rawQueryParameters(),
+                                                           canonicalHeaders,
+                                                           signedHeadersString,
+                                                           contentSha256,
+                                                           signingParams.doubleUrlEncode());
 
         byte[] signingKey = deriveSigningKey(sanitizedCredentials, requestParams);
 
-        byte[] signature = computeSignature(stringToSign, signingKey);
+        byte[] signature = computeSignature(canonicalRequestHash, requestParams, signingKey);
 
         mutableRequest.putHeader(SignerConstant.AUTHORIZATION,
                                  buildAuthorizationHeader(signature, sanitizedCredentials, requestParams, signedHeadersString));
@@ -126,8 +133,9 @@ public abstract class AbstractAws4Signer<T extends Aws4SignerParams, U extends A
                                                 ((AwsSessionCredentials) sanitizedCredentials).sessionToken());
         }
 
-        // Add the important parameters for v4 signing
-        Map<String, List<String>> canonicalizedHeaders = canonicalizeSigningHeaders(mutableRequest.headers());
+        // Add the important parameters for v4 signing. They are only added to the query string, so the headers of the request
+        // built here are the ones that are signed.
+        SdkHttpHeaderMap canonicalizedHeaders = SdkHttpHeaderMap.copyOf(mutableRequest.build().headers());
         String signedHeadersString = getSignedHeadersString(canonicalizedHeaders);
 
         addPreSignInformationToRequest(mutableRequest, signedHeadersString, sanitizedCredentials,
@@ -135,14 +143,14 @@ public abstract class AbstractAws4Signer<T extends Aws4SignerParams, U extends A
 
         String contentSha256 = calculateContentHashPresign(mutableRequest, signingParams);
 
-        String canonicalRequest = createCanonicalRequest(mutableRequest, canonicalizedHeaders, signedHeadersString,
-                                                         contentSha256, signingParams.doubleUrlEncode());
-
-        String stringToSign = createStringToSign(canonicalRequest, requestParams);
+        byte[] canonicalRequestHash = hashCanonicalRequest(mutableRequest.method(), mutableRequest.encodedPath(),
+                                                           mutableRequest.rawQueryParameters(), canonicalizedHeaders,
+                                                           signedHeadersString, contentSha256,
+                                                           signingParams.doubleUrlEncode());
 
         byte[] signingKey = deriveSigningKey(sanitizedCredentials, requestParams);
 
-        byte[] signature = computeSignature(stringToSign, signingKey);
+        byte[] signature = computeSignature(canonicalRequestHash, requestParams, signingKey);
 
         mutableRequest.putRawQueryParameter(SignerConstant.X_AMZ_SIGNATURE, BinaryUtils.toHex(signature));
 
@@ -211,47 +219,57 @@ public abstract class AbstractAws4Signer<T extends Aws4SignerParams, U extends A
      * http://docs.aws
      * .amazon.com/general/latest/gr/sigv4-create-canonical-request.html to
      * generate the canonical request.
+     *
+     * @return The SHA-256 hash of the canonical request, which is hashed as it is written.
      */
-    private String createCanonicalRequest(SdkHttpFullRequest.Builder request,
-                                          Map<String, List<String>> canonicalHeaders,
-                                          String signedHeadersString,
-                                          String contentSha256,
-                                          boolean doubleUrlEncode) {
-        String canonicalRequest = request.method().toString() +
-                                  SignerConstant.LINE_SEPARATOR +
-                                  // This would optionally double url-encode the resource path
-                                  getCanonicalizedResourcePath(request.encodedPath(), doubleUrlEncode) +
-                                  SignerConstant.LINE_SEPARATOR +
-                                  getCanonicalizedQueryString(request.rawQueryParameters()) +
-                                  SignerConstant.LINE_SEPARATOR +
-                                  getCanonicalizedHeaderString(canonicalHeaders) +
-                                  SignerConstant.LINE_SEPARATOR +
-                                  signedHeadersString +
-                                  SignerConstant.LINE_SEPARATOR +
-                                  contentSha256;
-
-        LOG.trace(() -> "AWS4 Canonical Request: " + canonicalRequest);
-        return canonicalRequest;
+    private byte[] hashCanonicalRequest(SdkHttpMethod method,
+                                        String encodedPath,
+                                        Map<String, List<String>> rawQueryParameters,
+                                        SdkHttpHeaderMap canonicalHeaders,
+                                        String signedHeadersString,
+                                        String contentSha256,
+                                        boolean doubleUrlEncode) {
+        Aws4SigningWriter canonicalRequest = Aws4SigningWriter.sha256(LOG.isLoggingLevelEnabled("trace"));
+        canonicalRequest.append(method.toString())
+                        .append(SignerConstant.LINE_SEPARATOR)
+                        // This would optionally double url-encode the resource path
+                        .append(getCanonicalizedResourcePath(encodedPath, doubleUrlEncode))
+                        .append(SignerConstant.LINE_SEPARATOR)
+                        .appendCanonicalQueryString(rawQueryParameters)
+                        .append(SignerConstant.LINE_SEPARATOR);
+        appendCanonicalizedHeaders(canonicalRequest, canonicalHeaders);
+        canonicalRequest.append(SignerConstant.LINE_SEPARATOR)
+                        .append(signedHeadersString)
+                        .append(SignerConstant.LINE_SEPARATOR)
+                        .append(contentSha256);
+
+        LOG.trace(() -> "AWS4 Canonical Request: " + canonicalRequest.transcript());
+        return canonicalRequest.finish();
     }
 
     /**
-     * Step 2 of the AWS Signature version 4 calculation. Refer to
+     * Steps 2 and 3 of the AWS Signature version 4 calculation. Refer to
      * http://docs.aws
-     * .amazon.com/general/latest/gr/sigv4-create-string-to-sign.html.
+     * .amazon.com/general/latest/gr/sigv4-create-string-to-sign.html and
+     * http://docs.aws.amazon
+     * .com/general/latest/gr/sigv4-calculate-signature.html
+     *
+     * @return The signature, computed as the string to sign is written.
      */
-    private String createStringToSign(String canonicalRequest,
-                                      Aws4SignerRequestParams requestParams) {
-
-        String stringToSign = requestParams.getSigningAlgorithm() +
-                                    SignerConstant.LINE_SEPARATOR +
-                                    requestParams.getFormattedRequestSigningDateTime() +
-                                    SignerConstant.LINE_SEPARATOR +
-                                    requestParams.getScope() +
-                                    SignerConstant.LINE_SEPARATOR +
-                                    BinaryUtils.toHex(hash(canonicalRequest));
-
-        LOG.debug(() -> "AWS4 String to sign: " + stringToSign);
-        return stringToSign;
+    private byte[] computeSignature(byte[] canonicalRequestHash,
+                                    Aws4SignerRequestParams requestParams,
+                                    byte[] signingKey) {
+        Aws4SigningWriter stringToSign = Aws4SigningWriter.hmacSha256(signingKey, LOG.isLoggingLevelEnabled("debug"));
+        stringToSign.append(requestParams.getSigningAlgorithm())
+                    .append(SignerConstant.LINE_SEPARATOR)
+                    .append(requestParams.getFormattedRequestSigningDateTime())
+                    .append(SignerConstant.LINE_SEPARATOR)
+                    .append(requestParams.getScope())
+                    .append(SignerConstant.LINE_SEPARATOR)
+                    .appendHex(canonicalRequestHash);
+
+        LOG.debug(() -> "AWS4 String to sign: " + stringToSign.transcript());
+        return stringToSign.finish();
     }
 
     private String createSigningCacheKeyName(AwsCredentials credentials,
@@ -260,17 +278,6 @@ public abstract class AbstractAws4Signer<T extends Aws4SignerParams, U extends A
         return credentials.secretAccessKey() + "-" + regionName + "-" + serviceName;
     }
 
-    /**
-     * Step 3 of the AWS Signature version 4 calculation. It involves deriving
-     * the signing key and computing the signature. Refer to
-     * http://docs.aws.amazon
-     * .com/general/latest/gr/sigv4-calculate-signature.html
-     */
-    private byte[] computeSignature(String stringToSign, byte[] signingKey) {
-        return sign(stringToSign.getBytes(Charset.forName("UTF-8")), signingKey,
-                    SigningAlgorithm.HmacSHA256);
-    }
-
     /**
      * Creates the authorization header to be included in the request.
      */
@@ -305,92 +312,35 @@ public abstract class AbstractAws4Signer<T extends Aws4SignerParams, U extends A
         mutableRequest.putRawQueryParameter(SignerConstant.X_AMZ_CREDENTIAL, signingCredentials);
     }
 
-    private Map<String, List<String>> canonicalizeSigningHeaders(Map<String, List<String>> headers) {
-        Map<String, List<String>> result = new TreeMap<>();
-
-        for (Map.Entry<String, List<String>> header : headers.entrySet()) {
-            String lowerCaseHeader = lowerCase(header.getKey());
-            if (LIST_OF_HEADERS_TO_IGNORE_IN_LOWER_CASE.contains(lowerCaseHeader)) {
-                continue;
+    private void appendCanonicalizedHeaders(Aws4SigningWriter canonicalRequest, SdkHttpHeaderMap canonicalizedHeaders) {
+        canonicalizedHeaders.forEachLowerCase((headerName, headerValues) -> {
+            if (LIST_OF_HEADERS_TO_IGNORE_IN_LOWER_CASE.contains(headerName)) {
+                return;
             }
 
-            result.computeIfAbsent(lowerCaseHeader, x -> new ArrayList<>()).addAll(header.getValue());
-        }
-
-        return result;
-    }
-
-    private String getCanonicalizedHeaderString(Map<String, List<String>> canonicalizedHeaders) {
-        StringBuilder buffer = new StringBuilder();
-
-        canonicalizedHeaders.forEach((headerName, headerValues) -> {
-            buffer.append(headerName);
-            buffer.append(":");
-            buffer.append(String.join(",", trimAll(headerValues)));
-            buffer.append("\n");
-        });
-
-        return buffer.toString();
-    }
-
-    /**
-     * "The Trimall function removes excess white space before and after values,
-     * and converts sequential spaces to a single space."
-     * <p>
-     * https://docs.aws.amazon.com/general/latest/gr/sigv4-create-canonical-request.html
-     * <p>
-     * The collapse-whitespace logic is equivalent to:
-     * <pre>
-     *     value.replaceAll("\\s+", " ")
-     * </pre>
-     * but does not create a Pattern object that needs to compile the match
-     * string; it also prevents us from having to make a Matcher object as well.
-     */
-    private String trimAll(String value) {
-        boolean previousIsWhiteSpace = false;
-        StringBuilder sb = new StringBuilder(value.length());
-
-        for (int i = 0; i < value.length(); i++) {
-            char ch = value.charAt(i);
-            if (isWhiteSpace(ch)) {
-                if (previousIsWhiteSpace) {
-                    continue;
+            canonicalRequest.append(headerName).append(':');
+            for (int i = 0; i < headerValues.size(); i++) {
+                if (i > 0) {
+                    canonicalRequest.append(',');
                 }
-                sb.append(' ');
-                previousIsWhiteSpace = true;
-            } else {
-                sb.append(ch);
-                previousIsWhiteSpace = false;
+                canonicalRequest.appendTrimmed(headerValues.get(i));
             }
-        }
-
-        return sb.toString().trim();
-    }
-
-    private List<String> trimAll(List<String> values) {
-        return values.stream().map(this::trimAll).collect(Collectors.toList());
-    }
-
-    /**
-     * Tests a char to see if is it whitespace.
-     * This method considers the same characters to be white
-     * space as the Pattern class does when matching \s
-     *
-     * @param ch the character to be tested
-     * @return true if the character is white  space, false otherwise.
-     */
-    private boolean isWhiteSpace(final char ch) {
-        return ch == ' ' || ch == '\t' || ch == '\n' || ch == '\u000b' || ch == '\r' || ch == '\f';
+            canonicalRequest.append('\n');
+        });
     }
 
-    private String getSignedHeadersString(Map<String, List<String>> canonicalizedHeaders) {
+    private String getSignedHeadersString(SdkHttpHeaderMap canonicalizedHeaders) {
         StringBuilder buffer = new StringBuilder();
-        for (String header : canonicalizedHeaders.keySet()) {
+        canonicalizedHeaders.forEachLowerCase((headerName, headerValues) -> {
+            if (LIST_OF_HEADERS_TO_IGNORE_IN_LOWER_CASE.contains(headerName)) {
+                return;
+            }
+
             if (buffer.length() > 0) {
                 buffer.append(";");
             }
-            buffer.append(header);
-        }
+            buffer.append(headerName);
+        });
         return buffer.toString();
     }
 
@@ -21,12 +21,6 @@ import java.nio.charset.StandardCharsets;
 import java.security.DigestInputStream;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
-import java.util.ArrayList;
-import java.util.Collections;
-import java.util.List;
-import java.util.Map;
-import java.util.SortedMap;
-import java.util.TreeMap;
 import javax.crypto.Mac;
 import javax.crypto.spec.SecretKeySpec;
 import software.amazon.awssdk.annotations.SdkInternalApi;
@@ -83,7 +77,7 @@ public abstract class AbstractAwsSigner implements Signer {
     /**
      * Returns the re-usable thread local version of MessageDigest.
      */
-    private static MessageDigest getMessageDigestInstance() {
+    static MessageDigest getMessageDigestInstance() {
         MessageDigest messageDigest = SHA256_MESSAGE_DIGEST.get();
         messageDigest.reset();
         return messageDigest;
@@ -203,46 +197,6 @@ public abstract class AbstractAwsSigner implements Signer {
         }
     }
 
-    /**
-     * Examines the specified query string parameters and returns a
-     * canonicalized form.
-     * <p>
-     * The canonicalized query string is formed by first sorting all the query
-     * string parameters, then URI encoding both the key and value and then
-     * joining them, in order, separating key value pairs with an '&amp;'.
-     *
-     * @param parameters The query string parameters to be canonicalized.
-     * @return A canonicalized form for the specified query string parameters.
-     */
-    protected String getCanonicalizedQueryString(Map<String, List<String>> parameters) {
-
-        SortedMap<String, List<String>> sorted = new TreeMap<>();
-
-        /**
-         * Signing protocol expects the param values also to be sorted after url
-         * encoding in addition to sorted parameter names.
-         */
-        for (Map.Entry<String, List<String>> entry : parameters.entrySet()) {
-            String encodedParamName = SdkHttpUtils.urlEncode(entry.getKey());
-            List<String> paramValues = entry.getValue();
-            List<String> encodedValues = new ArrayList<>(paramValues.size());
-            for (String value : paramValues) {
-                String encodedValue = SdkHttpUtils.urlEncode(value);
-
-                // Null values should be treated as empty for the purposes of signing, not missing.
-                // For example "?foo=" instead of "?foo".
-                String signatureFormattedEncodedValue = encodedValue == null ? "" : encodedValue;
-
-                encodedValues.add(signatureFormattedEncodedValue);
-            }
-            Collections.sort(encodedValues);
-            sorted.put(encodedParamName, encodedValues);
-
-        }
-
-        return SdkHttpUtils.flattenQueryParameters(sorted).orElse("");
-    }
-
     protected InputStream getBinaryRequestPayloadStream(ContentStreamProvider streamProvider) {
         try {
             if (streamProvider == null) {
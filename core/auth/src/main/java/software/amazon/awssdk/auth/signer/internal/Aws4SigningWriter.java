@@ -0,0 +1,285 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.auth.signer.internal;
+
+import java.security.MessageDigest;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import software.amazon.awssdk.annotations.NotThreadSafe;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.utils.http.SdkHttpUtils;
+
+/**
+ * Writes the canonical request or the string to sign of a SigV4 signature directly into a SHA-256 digest or an HMAC-SHA256
+ * MAC.
+ * <p>
+ * Text is encoded as UTF-8 into a fixed-size buffer as it is written, and the buffer is passed to the digest or MAC each time
+ * it fills up. Neither the canonical request nor the string to sign are ever created as strings, unless a transcript is
+ * requested for logging. Each thread reuses the same writer, so a writer must be finished before another one is started.
+ */
+@SdkInternalApi
+@NotThreadSafe
+final class Aws4SigningWriter {
+
+    private static final int BUFFER_SIZE = 4096;
+
+    /**
+     * The most bytes a single character can be written as: the four byte UTF-8 form of a surrogate pair.
+     */
+    private static final int MAX_ENCODED_CHAR_LENGTH = 4;
+
+    private static final byte[] HEX_DIGITS = {'0', '1', '2', '3', '4', '5', '6', '7', '8', '9', 'a', 'b', 'c', 'd', 'e', 'f'};
+
+    private static final ThreadLocal<Aws4SigningWriter> WRITERS = ThreadLocal.withInitial(Aws4SigningWriter::new);
+
+    private final byte[] buffer = new byte[BUFFER_SIZE];
+    private int count;
+
+    private MessageDigest digest;
+    private Mac mac;
+    private StringBuilder transcript;
+
+    private Aws4SigningWriter() {
+    }
+
+    /**
+     * Start writing text whose SHA-256 hash is returned by {@link #finish()}.
+     *
+     * @param keepTranscript Whether to keep a copy of the text, to be returned by {@link #transcript()}.
+     */
+    static Aws4SigningWriter sha256(boolean keepTranscript) {
+        Aws4SigningWriter writer = WRITERS.get();
+        writer.start(keepTranscript);
+        writer.digest = AbstractAwsSigner.getMessageDigestInstance();
+        return writer;
+    }
+
+    /**
+     * Start writing text whose HMAC-SHA256 with the given key is returned by {@link #finish()}.
+     *
+     * @param keepTranscript Whether to keep a copy of the text, to be returned by {@link #transcript()}.
+     */
+    static Aws4SigningWriter hmacSha256(byte[] key, boolean keepTranscript) {
+        Aws4SigningWriter writer = WRITERS.get();
+        writer.start(keepTranscript);
+        try {
+            Mac mac = SigningAlgorithm.HmacSHA256.getMac();
+            mac.init(new SecretKeySpec(key, SigningAlgorithm.HmacSHA256.toString()));
+            writer.mac = mac;
+        } catch (Exception e) {
+            throw SdkClientException.builder()
+                                    .message("Unable to calculate a request signature: " + e.getMessage())
+                                    .cause(e)
+                                    .build();
+        }
+        return writer;
+    }
+
+    private void start(boolean keepTranscript) {
+        count = 0;
+        digest = null;
+        mac = null;
+        transcript = keepTranscript ? new StringBuilder() : null;
+    }
+
+    Aws4SigningWriter append(String value) {
+        appendRange(value, 0, value.length());
+        return this;
+    }
+
+    /**
+     * Append an ASCII character.
+     */
+    Aws4SigningWriter append(char c) {
+        ensureCapacity(1);
+        buffer[count++] = (byte) c;
+        if (transcript != null) {
+            transcript.append(c);
+        }
+        return this;
+    }
+
+    /**
+     * Append the lower-case hexadecimal form of the given bytes.
+     */
+    Aws4SigningWriter appendHex(byte[] bytes) {
+        for (byte b : bytes) {
+            ensureCapacity(2);
+            buffer[count++] = HEX_DIGITS[(b >> 4) & 0xF];
+            buffer[count++] = HEX_DIGITS[b & 0xF];
+            if (transcript != null) {
+                transcript.append((char) HEX_DIGITS[(b >> 4) & 0xF]).append((char) HEX_DIGITS[b & 0xF]);
+            }
+        }
+        return this;
+    }
+
+    /**
+     * Append a header value, trimmed as required for canonical headers: "The Trimall function removes excess white space
+     * before and after values, and converts sequential spaces to a single space."
+     * <p>
+     * https://docs.aws.amazon.com/general/latest/gr/sigv4-create-canonical-request.html
+     * <p>
+     * This is equivalent to {@code value.replaceAll("\\s+", " ").trim()}, without creating any string.
+     */
+    Aws4SigningWriter appendTrimmed(String value) {
+        int start = 0;
+        int end = value.length();
+        while (start < end && value.charAt(start) <= ' ') {
+            start++;
+        }
+        while (end > start && value.charAt(end - 1) <= ' ') {
+            end--;
+        }
+
+        int segmentStart = start;
+        for (int i = start; i < end; i++) {
+            if (isWhiteSpace(value.charAt(i))) {
+                appendRange(value, segmentStart, i);
+                append(' ');
+                while (isWhiteSpace(value.charAt(i + 1))) {
+                    i++;
+                }
+                segmentStart = i + 1;
+            }
+        }
+        appendRange(value, segmentStart, end);
+        return this;
+    }
+
+    /**
+     * Append the canonical form of the given query parameters: URI-encoded, sorted by name and then by value, and with null
+     * values treated as empty.
+     */
+    Aws4SigningWriter appendCanonicalQueryString(Map<String, List<String>> parameters) {
+        if (parameters.isEmpty()) {
+            return this;
+        }
+
+        String[] names = new String[parameters.size()];
+        String[][] values = new String[parameters.size()][];
+        Integer[] order = new Integer[parameters.size()];
+        int index = 0;
+        for (Map.Entry<String, List<String>> parameter : parameters.entrySet()) {
+            names[index] = SdkHttpUtils.urlEncode(parameter.getKey());
+            List<String> parameterValues = parameter.getValue();
+            String[] encodedValues = new String[parameterValues.size()];
+            for (int i = 0; i < encodedValues.length; i++) {
+                String encodedValue = SdkHttpUtils.urlEncode(parameterValues.get(i));
+                // Null values should be treated as empty for the purposes of signing, not missing.
+                // For example "?foo=" instead of "?foo".
+                encodedValues[i] = encodedValue == null ? "" : encodedValue;
+            }
+            Arrays.sort(encodedValues);
+            values[index] = encodedValues;
+            order[index] = index;
+            index++;
+        }
+        // The sort is stable, so of two parameters with the same encoded name, the last one is written.
+        Arrays.sort(order, (a, b) -> names[a].compareTo(names[b]));
+
+        boolean first = true;
+        for (int i = 0; i < order.length; i++) {
+            int parameter = order[i];
+            if (i + 1 < order.length && names[parameter].equals(names[order[i + 1]])) {
+                continue;
+            }
+            for (String value : values[parameter]) {
+                if (!first) {
+                    append('&');
+                }
+                first = false;
+                append(names[parameter]).append('=').append(value);
+            }
+        }
+        return this;
+    }
+
+    /**
+     * @return The text written so far, if this writer was started with a transcript.
+     */
+    String transcript() {
+        return transcript == null ? null : transcript.toString();
+    }
+
+    /**
+     * @return The SHA-256 hash or HMAC-SHA256 of the written text.
+     */
+    byte[] finish() {
+        flush();
+        byte[] result = digest != null ? digest.digest() : mac.doFinal();
+        digest = null;
+        mac = null;
+        transcript = null;
+        return result;
+    }
+
+    private void appendRange(String value, int start, int end) {
+        for (int i = start; i < end; i++) {
+            ensureCapacity(MAX_ENCODED_CHAR_LENGTH);
+            char c = value.charAt(i);
+            if (c < 0x80) {
+                buffer[count++] = (byte) c;
+            } else if (c < 0x800) {
+                buffer[count++] = (byte) (0xC0 | (c >> 6));
+                buffer[count++] = (byte) (0x80 | (c & 0x3F));
+            } else if (Character.isHighSurrogate(c) && i + 1 < end && Character.isLowSurrogate(value.charAt(i + 1))) {
+                int codePoint = Character.toCodePoint(c, value.charAt(++i));
+                buffer[count++] = (byte) (0xF0 | (codePoint >> 18));
+                buffer[count++] = (byte) (0x80 | ((codePoint >> 12) & 0x3F));
+                buffer[count++] = (byte) (0x80 | ((codePoint >> 6) & 0x3F));
+                buffer[count++] = (byte) (0x80 | (codePoint & 0x3F));
+            } else if (Character.isSurrogate(c)) {
+                // Unpaired surrogates can't be encoded as UTF-8 and are replaced, the same way String#getBytes does.
+                buffer[count++] = '?';
+            } else {
+                buffer[count++] = (byte) (0xE0 | (c >> 12));
+                buffer[count++] = (byte) (0x80 | ((c >> 6) & 0x3F));
+                buffer[count++] = (byte) (0x80 | (c & 0x3F));
+            }
+        }
+        if (transcript != null) {
+            transcript.append(value, start, end);
+        }
+    }
+
+    private void ensureCapacity(int additionalBytes) {
+        if (count + additionalBytes > buffer.length) {
+            flush();
+        }
+    }
+
+    private void flush() {
+        if (digest != null) {
+            digest.update(buffer, 0, count);
+        } else {
+            mac.update(buffer, 0, count);
+        }
+        count = 0;
+    }
+
+    /**
+     * Tests a char to see if is it whitespace. This method considers the same characters to be white space as the Pattern
+     * class does when matching \s.
+     */
+    private static boolean isWhiteSpace(char ch) {
+        return ch == ' ' || ch == '\t' || ch == '\n' || ch == '\u000b' || ch == '\r' || ch == '\f';
+    }
+}
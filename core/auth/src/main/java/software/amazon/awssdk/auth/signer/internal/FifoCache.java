@@ -15,14 +15,21 @@
 
 package software.amazon.awssdk.auth.signer.internal;
 
-import java.util.concurrent.locks.ReentrantReadWriteLock;
-import java.util.concurrent.locks.ReentrantReadWriteLock.ReadLock;
-import java.util.concurrent.locks.ReentrantReadWriteLock.WriteLock;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.annotations.ThreadSafe;
 
 /**
  * A bounded cache that has a FIFO eviction policy when the cache is full.
+ * <p>
+ * Reads and writes don't take any lock, so that threads signing requests concurrently don't contend on the cache. Entries
+ * are evicted in the order their keys were first added. While entries are being added concurrently, the cache can briefly
+ * hold more than its maximum number of entries.
+ * <p>
+ * Each key that is added to the cache gets a new node, which is queued exactly once. Eviction removes a key only if it is
+ * still mapped to the node that was dequeued, so a key that was evicted and added again is not evicted early.
  *
  * @param <T>
  *            value type
@@ -30,9 +37,9 @@ import software.amazon.awssdk.annotations.ThreadSafe;
 @ThreadSafe
 @SdkInternalApi
 public final class FifoCache<T> {
-    private final BoundedLinkedHashMap<String, T> map;
-    private final ReadLock rlock;
-    private final WriteLock wlock;
+    private final int maxSize;
+    private final ConcurrentHashMap<String, Node<T>> map;
+    private final Queue<Node<T>> insertionOrder;
 
     /**
      * @param maxSize
@@ -43,60 +50,71 @@ public final class FifoCache<T> {
             throw new IllegalArgumentException("maxSize " + maxSize
                                                + " must be at least 1");
         }
-        map = new BoundedLinkedHashMap<>(maxSize);
-        ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
-        rlock = lock.readLock();
-        wlock = lock.writeLock();
+        this.maxSize = maxSize;
+        this.map = new ConcurrentHashMap<>();
+        this.insertionOrder = new ConcurrentLinkedQueue<>();
     }
 
     /**
      * Adds an entry to the cache, evicting the earliest entry if necessary.
      */
     public T add(String key, T value) {
-        wlock.lock();
-        try {
-            return map.put(key, value);
-        } finally {
-            wlock.unlock();
+        Node<T> node = new Node<>(key, value);
+        Node<T> existing = map.putIfAbsent(key, node);
+        if (existing != null) {
+            T previous = existing.value;
+            existing.value = value;
+            return previous;
         }
+
+        insertionOrder.offer(node);
+        while (map.size() > maxSize) {
+            Node<T> eldest = insertionOrder.poll();
+            if (eldest == null) {
+                break;
+            }
+            map.remove(eldest.key, eldest);
+        }
+        return null;
     }
 
     /** Returns the value of the given key; or null of no such entry exists. */
     public T get(String key) {
-        rlock.lock();
-        try {
-            return map.get(key);
-        } finally {
-            rlock.unlock();
-        }
+        Node<T> node = map.get(key);
+        return node == null ? null : node.value;
     }
 
     /**
      * Returns the current size of the cache.
      */
     public int size() {
-        rlock.lock();
-        try {
-            return map.size();
-        } finally {
-            rlock.unlock();
-        }
+        return map.size();
     }
 
     /**
      * Returns the maximum size of the cache.
      */
     public int getMaxSize() {
-        return map.getMaxSize();
+        return maxSize;
     }
 
     @Override
     public String toString() {
-        rlock.lock();
-        try {
-            return map.toString();
-        } finally {
-            rlock.unlock();
+        return map.toString();
+    }
+
+    private static final class Node<T> {
+        private final String key;
+        private volatile T value;
+
+        private Node(String key, T value) {
+            this.key = key;
+            this.value = value;
+        }
+
+        @Override
+        public String toString() {
+            return String.valueOf(value);
         }
     }
 }
@@ -0,0 +1,93 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.auth.signer.internal;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Arrays.asList;
+import static java.util.Collections.singletonList;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.security.MessageDigest;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import org.junit.Test;
+import software.amazon.awssdk.utils.BinaryUtils;
+
+public class Aws4SigningWriterTest {
+
+    @Test
+    public void sha256_matchesDigestOfUtf8Text() throws Exception {
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < 2000; i++) {
+            text.append("héllo 中 😀 ");
+        }
+
+        Aws4SigningWriter writer = Aws4SigningWriter.sha256(true).append(text.toString()).append('\n');
+
+        String expected = text + "\n";
+        assertThat(writer.transcript()).isEqualTo(expected);
+        assertThat(writer.finish()).isEqualTo(MessageDigest.getInstance("SHA-256").digest(expected.getBytes(UTF_8)));
+    }
+
+    @Test
+    public void hmacSha256_matchesMacOfUtf8Text() throws Exception {
+        byte[] key = "key".getBytes(UTF_8);
+
+        byte[] result = Aws4SigningWriter.hmacSha256(key, false).append("AWS4-HMAC-SHA256").append('\n').finish();
+
+        Mac mac = Mac.getInstance("HmacSHA256");
+        mac.init(new SecretKeySpec(key, "HmacSHA256"));
+        assertThat(result).isEqualTo(mac.doFinal("AWS4-HMAC-SHA256\n".getBytes(UTF_8)));
+    }
+
+    @Test
+    public void appendHex_writesLowerCaseHex() {
+        byte[] bytes = {0x00, 0x0f, (byte) 0xab, (byte) 0xff, 0x7a};
+
+        Aws4SigningWriter writer = Aws4SigningWriter.sha256(true).appendHex(bytes);
+
+        assertThat(writer.transcript()).isEqualTo(BinaryUtils.toHex(bytes)).isEqualTo("000fabff7a");
+        writer.finish();
+    }
+
+    @Test
+    public void appendTrimmed_matchesTrimAll() {
+        for (String value : asList("", " ", "a", "  a  ", " a   b \t\n c ", "\"a   b   c\"", "\u0001 a \u0001", "a\u000bb\fc\rd",
+                                   "a  b")) {
+            Aws4SigningWriter writer = Aws4SigningWriter.sha256(true).appendTrimmed(value);
+
+            assertThat(writer.transcript()).as(value).isEqualTo(value.replaceAll("\\s+", " ").trim());
+            writer.finish();
+        }
+    }
+
+    @Test
+    public void appendCanonicalQueryString_sortsEncodedNamesAndValues() {
+        Map<String, List<String>> parameters = new LinkedHashMap<>();
+        parameters.put("b", asList("2", "1", null));
+        parameters.put("a b", singletonList("x y+z*~"));
+        parameters.put("a", singletonList(null));
+        parameters.put("empty", asList());
+
+        Aws4SigningWriter writer = Aws4SigningWriter.sha256(true).appendCanonicalQueryString(parameters);
+
+        assertThat(writer.transcript()).isEqualTo("a=&a%20b=x%20y%2Bz%2A~&b=&b=1&b=2");
+        writer.finish();
+    }
+}
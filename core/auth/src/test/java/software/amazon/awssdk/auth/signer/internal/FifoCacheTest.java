@@ -19,6 +19,12 @@ import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import org.junit.Test;
 
 public class FifoCacheTest {
@@ -73,4 +79,75 @@ public class FifoCacheTest {
         assertEquals("v3", cache.get("k3"));
         assertNull(cache.get("k2"));
     }
+
+    @Test
+    public void testConcurrentAdds() throws Exception {
+        FifoCache<String> cache = new FifoCache<String>(10);
+        int threads = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                int thread = t;
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < 10_000; i++) {
+                        String key = "k" + (i % 50) + "-" + (thread % 2);
+                        cache.add(key, "v" + i);
+                        String value = cache.get(key);
+                        assertTrue(value == null || value.startsWith("v"));
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertTrue(cache.size() <= cache.getMaxSize());
+
+        cache.add("last", "v");
+        assertEquals("v", cache.get("last"));
+        assertTrue(cache.size() <= cache.getMaxSize());
+    }
+
+    @Test
+    public void testEvictionOrderAfterConcurrentAdds() throws Exception {
+        FifoCache<String> cache = new FifoCache<String>(3);
+        int threads = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < 10_000; i++) {
+                        cache.add("k" + (i % 5), "v" + i);
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        // Every key that is still queued from the concurrent adds must be evicted before any of the new keys
+        for (int i = 0; i < 3; i++) {
+            cache.add("new" + i, "v");
+        }
+        assertEquals(3, cache.size());
+        for (int i = 0; i < 3; i++) {
+            assertEquals("v", cache.get("new" + i));
+        }
+    }
 }
@@ -52,7 +52,8 @@ public final class AwsSyncClientHandler extends SdkSyncClientHandler implements
     @Override
     public <InputT extends SdkRequest, OutputT extends SdkResponse> OutputT execute(
         ClientExecutionParams<InputT, OutputT> executionParams) {
-        ClientExecutionParams<InputT, OutputT> clientExecutionParams = addCrc32Validation(executionParams);
+        ClientExecutionParams<InputT, OutputT> clientExecutionParams =
+            addCrc32Validation(addAcceptEncodingIfEnabled(executionParams));
         return super.execute(clientExecutionParams);
     }
 
@@ -24,6 +24,8 @@ import software.amazon.awssdk.awscore.AwsExecutionAttribute;
 import software.amazon.awssdk.awscore.AwsRequestOverrideConfiguration;
 import software.amazon.awssdk.awscore.client.config.AwsAdvancedClientOption;
 import software.amazon.awssdk.awscore.client.config.AwsClientOption;
+import software.amazon.awssdk.core.CompressionConfiguration;
+import software.amazon.awssdk.core.HedgingConfiguration;
 import software.amazon.awssdk.core.RequestOverrideConfiguration;
 import software.amazon.awssdk.core.SdkRequest;
 import software.amazon.awssdk.core.SdkResponse;
@@ -37,6 +39,9 @@ import software.amazon.awssdk.core.interceptor.ExecutionInterceptorChain;
 import software.amazon.awssdk.core.interceptor.InterceptorContext;
 import software.amazon.awssdk.core.interceptor.SdkExecutionAttribute;
 import software.amazon.awssdk.core.interceptor.SdkInternalExecutionAttribute;
+import software.amazon.awssdk.core.interceptor.trait.Hedging;
+import software.amazon.awssdk.core.interceptor.trait.RequestCoalescing;
+import software.amazon.awssdk.core.interceptor.trait.RequestCompression;
 import software.amazon.awssdk.core.internal.InternalCoreExecutionAttribute;
 import software.amazon.awssdk.core.metrics.CoreMetric;
 import software.amazon.awssdk.core.signer.Signer;
@@ -93,8 +98,28 @@ public final class AwsExecutionContextBuilder {
                           clientConfig.option(SdkAdvancedClientOption.DISABLE_HOST_PREFIX_INJECTION))
             .putAttribute(SdkExecutionAttribute.SIGNER_OVERRIDDEN, clientConfig.option(SdkClientOption.SIGNER_OVERRIDDEN));
 
-        ExecutionInterceptorChain executionInterceptorChain =
+        // Operations the service is known to accept compressed payloads for carry the trait from codegen. Others are only
+        // compressed if the request explicitly enables it.
+        if (executionAttributes.getAttribute(SdkInternalExecutionAttribute.REQUEST_COMPRESSION) == null &&
+            isRequestCompressionEnabled(originalRequest)) {
+            boolean isStreaming = executionParams.getRequestBody() != null || executionParams.getAsyncRequestBody() != null;
+            executionAttributes.putAttribute(SdkInternalExecutionAttribute.REQUEST_COMPRESSION,
+                                             RequestCompression.create(isStreaming));
+        }
+
+        // Likewise, idempotent reads that are hedged by default carry the trait from codegen, and other operations are only
+        // hedged if the request explicitly enables it.
+        if (executionAttributes.getAttribute(SdkInternalExecutionAttribute.HEDGING) == null &&
+            isHedgingEnabled(originalRequest)) {
+            executionAttributes.putAttribute(SdkInternalExecutionAttribute.HEDGING, Hedging.create());
+        }
+
+        // The chain is created when the client is built, unless the configuration was not created by a client builder
+        ExecutionInterceptorChain executionInterceptorChain = clientConfig.option(SdkClientOption.EXECUTION_INTERCEPTOR_CHAIN);
+        if (executionInterceptorChain == null) {
+            executionInterceptorChain =
                 new ExecutionInterceptorChain(clientConfig.option(SdkClientOption.EXECUTION_INTERCEPTORS));
+        }
 
         InterceptorContext interceptorContext = InterceptorContext.builder()
                                                      .request(originalRequest)
@@ -110,6 +135,12 @@ public final class AwsExecutionContextBuilder {
                                                         metricCollector);
         executionAttributes.putAttribute(AwsSignerExecutionAttribute.AWS_CREDENTIALS, credentials);
 
+        // Requests of operations that may be coalesced only share a call with requests made with equal credentials
+        if (executionAttributes.getAttribute(SdkInternalExecutionAttribute.REQUEST_COALESCING) != null) {
+            executionAttributes.putAttribute(SdkInternalExecutionAttribute.REQUEST_COALESCING,
+                                             RequestCoalescing.create(credentials));
+        }
+
         return ExecutionContext.builder()
                                .interceptorChain(executionInterceptorChain)
                                .interceptorContext(interceptorContext)
@@ -120,6 +151,20 @@ public final class AwsExecutionContextBuilder {
                                .build();
     }
 
+    private static boolean isRequestCompressionEnabled(SdkRequest originalRequest) {
+        return originalRequest.overrideConfiguration()
+                              .flatMap(c -> c.compressionConfiguration())
+                              .flatMap(CompressionConfiguration::requestCompressionEnabled)
+                              .orElse(false);
+    }
+
+    private static boolean isHedgingEnabled(SdkRequest originalRequest) {
+        return originalRequest.overrideConfiguration()
+                              .flatMap(c -> c.hedgingConfiguration())
+                              .flatMap(HedgingConfiguration::hedgingEnabled)
+                              .orElse(false);
+    }
+
     /**
      * Resolves the credentials provider, with the request override configuration taking precedence over the
      * provided default.
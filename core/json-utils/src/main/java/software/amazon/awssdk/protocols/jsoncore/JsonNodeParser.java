@@ -36,6 +36,7 @@ import software.amazon.awssdk.thirdparty.jackson.core.JsonParseException;
 import software.amazon.awssdk.thirdparty.jackson.core.JsonParser;
 import software.amazon.awssdk.thirdparty.jackson.core.JsonToken;
 import software.amazon.awssdk.thirdparty.jackson.core.json.JsonReadFeature;
+import software.amazon.awssdk.utils.FunctionalUtils.UnsafeFunction;
 
 /**
  * Parses an JSON document into a simple DOM-like structure, {@link JsonNode}.
@@ -111,6 +112,56 @@ public final class JsonNodeParser {
         });
     }
 
+    /**
+     * Read the provided {@link InputStream} token-by-token with the provided reader, instead of parsing it into a
+     * {@link JsonNode}. The stream is not closed. Failures are reported the same way as by {@link #parse(InputStream)}.
+     */
+    public <T> T read(InputStream content, UnsafeFunction<JsonParser, T> reader) {
+        return invokeSafely(() -> {
+            try (JsonParser parser = jsonFactory.createParser(content)
+                                                .configure(JsonParser.Feature.AUTO_CLOSE_SOURCE, false)) {
+                return read(parser, reader);
+            }
+        });
+    }
+
+    /**
+     * Read {@code length} bytes of the provided {@code byte[]}, starting at {@code offset}, token-by-token with the provided
+     * reader. Failures are reported the same way as by {@link #parse(byte[])}.
+     */
+    public <T> T read(byte[] content, int offset, int length, UnsafeFunction<JsonParser, T> reader) {
+        return invokeSafely(() -> {
+            try (JsonParser parser = jsonFactory.createParser(content, offset, length)) {
+                return read(parser, reader);
+            }
+        });
+    }
+
+    /**
+     * Parse the value that the provided {@link JsonParser} is currently positioned on into a {@link JsonNode}. After this
+     * returns, the parser is positioned on the last token of that value.
+     *
+     * <p>This allows callers that are reading a document token-by-token to materialize a single member as a {@link JsonNode}
+     * without parsing the rest of the document into memory.
+     */
+    public JsonNode parseCurrentValue(JsonParser parser) {
+        return invokeSafely(() -> {
+            try {
+                return parseToken(parser, parser.currentToken());
+            } catch (Exception e) {
+                removeErrorLocationsIfRequired(e);
+                throw e;
+            }
+        });
+    }
+
+    /**
+     * The {@link JsonFactory} used by this parser to create the underlying {@link JsonParser}s.
+     */
+    public JsonFactory jsonFactory() {
+        return jsonFactory;
+    }
+
     private JsonNode parse(JsonParser parser) throws IOException {
         try {
             return parseToken(parser, parser.nextToken());
@@ -120,6 +171,15 @@ public final class JsonNodeParser {
         }
     }
 
+    private <T> T read(JsonParser parser, UnsafeFunction<JsonParser, T> reader) throws Exception {
+        try {
+            return reader.apply(parser);
+        } catch (Exception e) {
+            removeErrorLocationsIfRequired(e);
+            throw e;
+        }
+    }
+
     private void removeErrorLocationsIfRequired(Throwable exception) {
         if (removeErrorLocations) {
             removeErrorLocations(exception);
@@ -18,6 +18,7 @@ package software.amazon.awssdk.protocols.cbor.internal;
 import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.protocols.json.BaseAwsStructuredJsonFactory;
 import software.amazon.awssdk.protocols.json.StructuredJsonGenerator;
+import software.amazon.awssdk.protocols.json.internal.OutputBufferPool;
 import software.amazon.awssdk.thirdparty.jackson.core.JsonFactory;
 
 /**
@@ -34,6 +35,13 @@ public final class AwsStructuredCborFactory extends SdkStructuredCborFactory {
                 return CBOR_GENERATOR_SUPPLIER.apply(jsonFactory, contentType);
             }
 
+            @Override
+            protected StructuredJsonGenerator createWriter(JsonFactory jsonFactory,
+                                                           String contentType,
+                                                           OutputBufferPool bufferPool) {
+                return new SdkCborGenerator(jsonFactory, contentType, bufferPool);
+            }
+
             @Override
             public JsonFactory getJsonFactory() {
                 return CBOR_FACTORY;
@@ -20,6 +20,7 @@ import java.time.Instant;
 import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.protocols.json.SdkJsonGenerator;
 import software.amazon.awssdk.protocols.json.StructuredJsonGenerator;
+import software.amazon.awssdk.protocols.json.internal.OutputBufferPool;
 import software.amazon.awssdk.thirdparty.jackson.core.JsonFactory;
 import software.amazon.awssdk.thirdparty.jackson.dataformat.cbor.CBORGenerator;
 
@@ -35,6 +36,10 @@ public final class SdkCborGenerator extends SdkJsonGenerator {
         super(factory, contentType);
     }
 
+    SdkCborGenerator(JsonFactory factory, String contentType, OutputBufferPool bufferPool) {
+        super(factory, contentType, bufferPool);
+    }
+
     /**
      * Jackson doesn't have native support for timestamp. As per the RFC 7049
      * (https://tools.ietf.org/html/rfc7049#section-2.4.1) we will need to
@@ -0,0 +1,176 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.protocols.cbor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import software.amazon.awssdk.core.SdkBytes;
+import software.amazon.awssdk.core.SdkField;
+import software.amazon.awssdk.core.SdkPojo;
+import software.amazon.awssdk.core.client.config.SdkAdvancedClientOption;
+import software.amazon.awssdk.core.client.config.SdkClientConfiguration;
+import software.amazon.awssdk.core.interceptor.ExecutionAttributes;
+import software.amazon.awssdk.core.protocol.MarshallLocation;
+import software.amazon.awssdk.core.protocol.MarshallingType;
+import software.amazon.awssdk.core.traits.ListTrait;
+import software.amazon.awssdk.core.traits.LocationTrait;
+import software.amazon.awssdk.core.traits.Trait;
+import software.amazon.awssdk.http.AbortableInputStream;
+import software.amazon.awssdk.http.SdkHttpFullResponse;
+import software.amazon.awssdk.protocols.json.AwsJsonProtocol;
+import software.amazon.awssdk.protocols.json.JsonOperationMetadata;
+import software.amazon.awssdk.thirdparty.jackson.core.JsonGenerator;
+import software.amazon.awssdk.thirdparty.jackson.dataformat.cbor.CBORFactory;
+import software.amazon.awssdk.utils.builder.Buildable;
+
+public class CborFastUnmarshallingTest {
+
+    private static final byte[] BLOB = {0, 1, 2, (byte) 0xff};
+
+    private static final List<SdkField<?>> FIELDS = Arrays.asList(
+        field(MarshallingType.STRING, "StringMember"),
+        field(MarshallingType.INTEGER, "IntegerMember"),
+        field(MarshallingType.LONG, "LongMember"),
+        field(MarshallingType.LONG, "SmallLongMember"),
+        field(MarshallingType.DOUBLE, "DoubleMember"),
+        field(MarshallingType.DOUBLE, "FloatAsDoubleMember"),
+        field(MarshallingType.FLOAT, "FloatMember"),
+        field(MarshallingType.INSTANT, "TimestampMember"),
+        field(MarshallingType.SDK_BYTES, "BlobMember"),
+        field(MarshallingType.SDK_BYTES, "EmptyBlobMember"),
+        field(MarshallingType.LIST, "BlobListMember",
+              ListTrait.builder().memberFieldInfo(field(MarshallingType.SDK_BYTES, "member")).build()));
+
+    private static final JsonOperationMetadata OPERATION_METADATA = JsonOperationMetadata.builder()
+                                                                                         .isPayloadJson(true)
+                                                                                         .hasStreamingSuccessResponse(false)
+                                                                                         .build();
+
+    private static byte[] cbor;
+
+    @BeforeClass
+    public static void setup() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (JsonGenerator generator = new CBORFactory().createGenerator(out)) {
+            generator.writeStartObject();
+            generator.writeStringField("StringMember", "foo");
+            generator.writeNumberField("IntegerMember", 42);
+            generator.writeNumberField("LongMember", 1L << 40);
+            generator.writeNumberField("SmallLongMember", 7);
+            generator.writeNumberField("DoubleMember", 1.1d);
+            generator.writeNumberField("FloatAsDoubleMember", 1.1f);
+            generator.writeNumberField("FloatMember", 1.1f);
+            generator.writeNumberField("TimestampMember", 1398796238123L);
+            generator.writeBinaryField("BlobMember", BLOB);
+            generator.writeBinaryField("EmptyBlobMember", new byte[0]);
+            generator.writeArrayFieldStart("BlobListMember");
+            generator.writeBinary(BLOB);
+            generator.writeBinary(new byte[] {3});
+            generator.writeEndArray();
+            generator.writeEndObject();
+        }
+        cbor = out.toByteArray();
+    }
+
+    @Test
+    public void fastUnmarshalling_producesSameResultAsTreeUnmarshalling() throws Exception {
+        FakePojo expected = unmarshall(false);
+        FakePojo actual = unmarshall(true);
+
+        assertThat(actual).isEqualTo(expected);
+        assertThat(actual.values.get("IntegerMember")).isEqualTo(42);
+        assertThat(actual.values.get("LongMember")).isEqualTo(1L << 40);
+        assertThat(actual.values.get("SmallLongMember")).isEqualTo(7L);
+        assertThat(actual.values.get("DoubleMember")).isEqualTo(1.1d);
+        assertThat(actual.values.get("FloatMember")).isEqualTo(1.1f);
+        assertThat(actual.values.get("TimestampMember")).isEqualTo(Instant.ofEpochMilli(1398796238123L));
+        assertThat(actual.values.get("BlobMember")).isEqualTo(SdkBytes.fromByteArray(BLOB));
+        assertThat(actual.values.get("EmptyBlobMember")).isEqualTo(SdkBytes.fromByteArray(new byte[0]));
+        assertThat(actual.values.get("BlobListMember")).isEqualTo(Arrays.asList(SdkBytes.fromByteArray(BLOB),
+                                                                                SdkBytes.fromByteArray(new byte[] {3})));
+    }
+
+    @Test
+    public void fastUnmarshalling_enabledByClientOption_producesSameResultAsTreeUnmarshalling() throws Exception {
+        SdkClientConfiguration clientConfiguration =
+            SdkClientConfiguration.builder()
+                                  .option(SdkAdvancedClientOption.ENABLE_FAST_UNMARSHALLING, true)
+                                  .build();
+
+        FakePojo actual = unmarshall(AwsCborProtocolFactory.builder().clientConfiguration(clientConfiguration));
+
+        assertThat(actual).isEqualTo(unmarshall(false));
+    }
+
+    private static FakePojo unmarshall(boolean enableFastUnmarshalling) throws Exception {
+        return unmarshall(AwsCborProtocolFactory.builder().enableFastUnmarshalling(enableFastUnmarshalling));
+    }
+
+    private static FakePojo unmarshall(AwsCborProtocolFactory.Builder factory) throws Exception {
+        SdkHttpFullResponse response = SdkHttpFullResponse.builder()
+                                                          .statusCode(200)
+                                                          .content(AbortableInputStream.create(new ByteArrayInputStream(cbor)))
+                                                          .build();
+        return factory.protocol(AwsJsonProtocol.AWS_JSON)
+                      .build()
+                      .<FakePojo>createResponseHandler(OPERATION_METADATA, FakePojo::new)
+                      .handle(response, new ExecutionAttributes());
+    }
+
+    private static <T> SdkField<T> field(MarshallingType<? super T> type, String name, Trait... traits) {
+        Trait[] allTraits = Arrays.copyOf(traits, traits.length + 1);
+        allTraits[traits.length] = LocationTrait.builder().location(MarshallLocation.PAYLOAD).locationName(name).build();
+        return SdkField.<T>builder(type)
+                       .memberName(name)
+                       .getter(o -> null)
+                       .setter((o, v) -> ((FakePojo) o).values.put(name, v))
+                       .traits(allTraits)
+                       .build();
+    }
+
+    private static final class FakePojo implements SdkPojo, Buildable {
+        private final Map<String, Object> values = new HashMap<>();
+
+        @Override
+        public List<SdkField<?>> sdkFields() {
+            return FIELDS;
+        }
+
+        @Override
+        public Object build() {
+            return this;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof FakePojo && values.equals(((FakePojo) o).values);
+        }
+
+        @Override
+        public int hashCode() {
+            return values.hashCode();
+        }
+    }
+}
@@ -28,6 +28,7 @@ import software.amazon.awssdk.annotations.SdkProtectedApi;
 import software.amazon.awssdk.annotations.SdkTestInternalApi;
 import software.amazon.awssdk.awscore.exception.AwsServiceException;
 import software.amazon.awssdk.core.SdkPojo;
+import software.amazon.awssdk.core.client.config.SdkAdvancedClientOption;
 import software.amazon.awssdk.core.client.config.SdkClientConfiguration;
 import software.amazon.awssdk.core.client.config.SdkClientOption;
 import software.amazon.awssdk.core.http.HttpResponseHandler;
@@ -63,6 +64,7 @@ public abstract class BaseAwsJsonProtocolFactory {
     private final String customErrorCodeFieldName;
     private final SdkClientConfiguration clientConfiguration;
     private final JsonProtocolUnmarshaller protocolUnmarshaller;
+    private final boolean enableBufferPooling;
 
     protected BaseAwsJsonProtocolFactory(Builder<?> builder) {
         this.protocolMetadata = builder.protocolMetadata.build();
@@ -70,15 +72,25 @@ public abstract class BaseAwsJsonProtocolFactory {
         this.defaultServiceExceptionSupplier = builder.defaultServiceExceptionSupplier;
         this.customErrorCodeFieldName = builder.customErrorCodeFieldName;
         this.clientConfiguration = builder.clientConfiguration;
+        this.enableBufferPooling = builder.enableBufferPooling ||
+                                   isEnabled(builder.clientConfiguration, SdkAdvancedClientOption.ENABLE_BUFFER_POOLING);
         this.protocolUnmarshaller = JsonProtocolUnmarshaller
             .builder()
             .parser(JsonNodeParser.builder()
                                   .jsonFactory(getSdkFactory().getJsonFactory())
                                   .build())
             .defaultTimestampFormats(getDefaultTimestampFormats())
+            .enableFastUnmarshalling(builder.enableFastUnmarshalling ||
+                                     isEnabled(builder.clientConfiguration, SdkAdvancedClientOption.ENABLE_FAST_UNMARSHALLING))
+            .enableLazyUnmarshalling(builder.enableLazyUnmarshalling ||
+                                     isEnabled(builder.clientConfiguration, SdkAdvancedClientOption.ENABLE_LAZY_UNMARSHALLING))
             .build();
     }
 
+    private static boolean isEnabled(SdkClientConfiguration clientConfiguration, SdkAdvancedClientOption<Boolean> option) {
+        return clientConfiguration != null && Boolean.TRUE.equals(clientConfiguration.option(option));
+    }
+
     /**
      * Creates a new response handler with the given {@link JsonOperationMetadata} and a supplier of the POJO response
      * type.
@@ -144,7 +156,8 @@ public abstract class BaseAwsJsonProtocolFactory {
 
     @SdkTestInternalApi
     private StructuredJsonGenerator createGenerator() {
-        return getSdkFactory().createWriter(getContentType());
+        return enableBufferPooling ? getSdkFactory().createPooledWriter(getContentType())
+                                   : getSdkFactory().createWriter(getContentType());
     }
 
     @SdkTestInternalApi
@@ -179,6 +192,19 @@ public abstract class BaseAwsJsonProtocolFactory {
     }
 
     public final ProtocolMarshaller<SdkHttpFullRequest> createProtocolMarshaller(OperationInfo operationInfo) {
+        return createProtocolMarshaller(operationInfo, null);
+    }
+
+    /**
+     * Creates a marshaller that writes the implicit JSON payload of the request with the given {@link JsonPayloadWriter}
+     * instead of iterating over the fields of the request. Members bound to other locations are still marshalled by the
+     * protocol marshaller.
+     *
+     * @param operationInfo Metadata about the operation.
+     * @param payloadWriter Writer for the payload members of the request, or null to marshall all members by field.
+     */
+    public final <T extends SdkPojo> ProtocolMarshaller<SdkHttpFullRequest> createProtocolMarshaller(
+        OperationInfo operationInfo, JsonPayloadWriter<T> payloadWriter) {
         return JsonProtocolMarshallerBuilder.create()
                                             .endpoint(clientConfiguration.option(SdkClientOption.ENDPOINT))
                                             .jsonGenerator(createGenerator(operationInfo))
@@ -186,6 +212,7 @@ public abstract class BaseAwsJsonProtocolFactory {
                                             .operationInfo(operationInfo)
                                             .sendExplicitNullForPayload(false)
                                             .protocolMetadata(protocolMetadata)
+                                            .payloadWriter(payloadWriter)
                                             .build();
     }
 
@@ -199,6 +226,9 @@ public abstract class BaseAwsJsonProtocolFactory {
         private Supplier<SdkPojo> defaultServiceExceptionSupplier;
         private String customErrorCodeFieldName;
         private SdkClientConfiguration clientConfiguration;
+        private boolean enableFastUnmarshalling = false;
+        private boolean enableLazyUnmarshalling = false;
+        private boolean enableBufferPooling = false;
 
         protected Builder() {
         }
@@ -281,6 +311,46 @@ public abstract class BaseAwsJsonProtocolFactory {
             return getSubclass();
         }
 
+        /**
+         * Whether successful responses should be unmarshalled directly from the JSON token stream, without first parsing the
+         * whole response into an intermediate tree. This is also enabled by the
+         * {@link SdkAdvancedClientOption#ENABLE_FAST_UNMARSHALLING} option of the client. Defaults to false.
+         *
+         * @param enableFastUnmarshalling True to unmarshall successful responses directly from the token stream.
+         * @return This builder for method chaining.
+         */
+        public final SubclassT enableFastUnmarshalling(boolean enableFastUnmarshalling) {
+            this.enableFastUnmarshalling = enableFastUnmarshalling;
+            return getSubclass();
+        }
+
+        /**
+         * Whether the list and map members of successful responses should only be unmarshalled when they are first accessed.
+         * The response payload is retained until then. This implies {@link #enableFastUnmarshalling(boolean)}, and is also
+         * enabled by the {@link SdkAdvancedClientOption#ENABLE_LAZY_UNMARSHALLING} option of the client. Defaults to false.
+         *
+         * @param enableLazyUnmarshalling True to unmarshall list and map members on first access.
+         * @return This builder for method chaining.
+         */
+        public final SubclassT enableLazyUnmarshalling(boolean enableLazyUnmarshalling) {
+            this.enableLazyUnmarshalling = enableLazyUnmarshalling;
+            return getSubclass();
+        }
+
+        /**
+         * Whether requests should be marshalled into output buffers borrowed from a shared pool, instead of allocating a new
+         * buffer for every request. The marshalled body is copied out of the pooled buffer once, and the buffer is returned
+         * to the pool as soon as marshalling completes. This is also enabled by the
+         * {@link SdkAdvancedClientOption#ENABLE_BUFFER_POOLING} option of the client. Defaults to false.
+         *
+         * @param enableBufferPooling True to marshall requests into pooled output buffers.
+         * @return This builder for method chaining.
+         */
+        public final SubclassT enableBufferPooling(boolean enableBufferPooling) {
+            this.enableBufferPooling = enableBufferPooling;
+            return getSubclass();
+        }
+
         @SuppressWarnings("unchecked")
         private SubclassT getSubclass() {
             return (SubclassT) this;
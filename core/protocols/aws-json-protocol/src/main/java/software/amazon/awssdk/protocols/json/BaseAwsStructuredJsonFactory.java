@@ -16,6 +16,7 @@
 package software.amazon.awssdk.protocols.json;
 
 import software.amazon.awssdk.annotations.SdkProtectedApi;
+import software.amazon.awssdk.protocols.json.internal.OutputBufferPool;
 import software.amazon.awssdk.protocols.json.internal.unmarshall.JsonErrorCodeParser;
 import software.amazon.awssdk.thirdparty.jackson.core.JsonFactory;
 
@@ -37,9 +38,24 @@ public abstract class BaseAwsStructuredJsonFactory implements StructuredJsonFact
         return createWriter(jsonFactory, contentType);
     }
 
+    @Override
+    public StructuredJsonGenerator createPooledWriter(String contentType) {
+        return createWriter(jsonFactory, contentType, OutputBufferPool.shared());
+    }
+
     protected abstract StructuredJsonGenerator createWriter(JsonFactory jsonFactory,
                                                             String contentType);
 
+    /**
+     * Creates a writer whose output buffer is borrowed from the given pool. Subclasses that don't override this method
+     * don't pool buffers.
+     */
+    protected StructuredJsonGenerator createWriter(JsonFactory jsonFactory,
+                                                   String contentType,
+                                                   OutputBufferPool bufferPool) {
+        return createWriter(jsonFactory, contentType);
+    }
+
     @Override
     public ErrorCodeParser getErrorCodeParser(String customErrorCodeFieldName) {
         return new JsonErrorCodeParser(customErrorCodeFieldName);
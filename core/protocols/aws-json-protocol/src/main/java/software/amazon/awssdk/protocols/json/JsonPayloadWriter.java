@@ -0,0 +1,43 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.protocols.json;
+
+import software.amazon.awssdk.annotations.SdkProtectedApi;
+import software.amazon.awssdk.core.SdkPojo;
+
+/**
+ * Writes the members of a request that are bound to the implicit JSON payload directly to a {@link StructuredJsonGenerator}.
+ * Implementations are generated per request shape so that the payload can be written without iterating over the
+ * {@link software.amazon.awssdk.core.SdkField}s of the request and looking up a marshaller for each of them.
+ *
+ * <p>The writer is only responsible for the fields of the implicit payload object. Starting and ending that object, as
+ * well as marshalling members bound to other locations (headers, query parameters, URI path), is still done by the
+ * protocol marshaller.
+ *
+ * @param <T> Type of the request being written.
+ */
+@SdkProtectedApi
+@FunctionalInterface
+public interface JsonPayloadWriter<T extends SdkPojo> {
+
+    /**
+     * Writes the payload members of the given request as fields of the current JSON object.
+     *
+     * @param pojo Request to write.
+     * @param jsonGenerator Generator to write to.
+     */
+    void write(T pojo, StructuredJsonGenerator jsonGenerator);
+}
@@ -15,14 +15,16 @@
 
 package software.amazon.awssdk.protocols.json;
 
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.nio.ByteBuffer;
 import java.time.Instant;
+import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.annotations.SdkProtectedApi;
 import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.protocols.json.internal.OutputBufferPool;
+import software.amazon.awssdk.protocols.json.internal.OutputBufferPool.OutputBuffer;
 import software.amazon.awssdk.thirdparty.jackson.core.JsonFactory;
 import software.amazon.awssdk.thirdparty.jackson.core.JsonGenerator;
 import software.amazon.awssdk.utils.BinaryUtils;
@@ -35,23 +37,40 @@ import software.amazon.awssdk.utils.DateUtils;
 public class SdkJsonGenerator implements StructuredJsonGenerator {
 
     /**
-     * Default buffer size for the BAOS. Chosen somewhat arbitrarily. Should be large enough to
+     * Default size for unpooled output buffers. Chosen somewhat arbitrarily. Should be large enough to
      * prevent frequent resizings but small enough to avoid wasted allocations for small requests.
      */
     private static final int DEFAULT_BUFFER_SIZE = 1024;
-    private final ByteArrayOutputStream baos = new ByteArrayOutputStream(DEFAULT_BUFFER_SIZE);
+    private final OutputBuffer buffer;
+    private final boolean pooled;
     private final JsonGenerator generator;
     private final String contentType;
 
     public SdkJsonGenerator(JsonFactory factory, String contentType) {
+        this(factory, contentType, OutputBufferPool.unpooled(DEFAULT_BUFFER_SIZE), false);
+    }
+
+    /**
+     * Creates a generator that writes into a buffer borrowed from the given pool. The buffer is returned to the pool by
+     * {@link #getBytes()}, which can then only be called once.
+     */
+    @SdkInternalApi
+    public SdkJsonGenerator(JsonFactory factory, String contentType, OutputBufferPool bufferPool) {
+        this(factory, contentType, bufferPool.acquire(), true);
+    }
+
+    private SdkJsonGenerator(JsonFactory factory, String contentType, OutputBuffer buffer, boolean pooled) {
         try {
             /**
              * A {@link JsonGenerator} created is by default enabled with
              * UTF-8 encoding
              */
-            this.generator = factory.createGenerator(baos);
+            this.buffer = buffer;
+            this.pooled = pooled;
+            this.generator = factory.createGenerator(buffer);
             this.contentType = contentType;
         } catch (IOException e) {
+            buffer.release();
             throw new JsonGenerationException(e);
         }
     }
@@ -259,12 +278,27 @@ public class SdkJsonGenerator implements StructuredJsonGenerator {
      * reference rather then making repeated calls to this method as a new array will be created
      * each time.
      *
+     * <p>A generator whose output buffer is borrowed from a pool returns the buffer to the pool when this is called, so for
+     * those generators this can only be called once, and nothing can be written afterwards.
+     *
      * @return Array of UTF-8 encoded bytes that make up the generated JSON.
+     * @throws IllegalStateException If this generator is pooled and its content has already been retrieved.
      */
     @Override
     public byte[] getBytes() {
-        close();
-        return baos.toByteArray();
+        if (!pooled) {
+            close();
+            return buffer.toByteArray();
+        }
+        if (buffer.isReleased()) {
+            throw new IllegalStateException("The content of a pooled generator can only be retrieved once.");
+        }
+        try {
+            close();
+            return buffer.toByteArray();
+        } finally {
+            buffer.release();
+        }
     }
 
     @Override
@@ -31,6 +31,18 @@ public interface StructuredJsonFactory {
      */
     StructuredJsonGenerator createWriter(String contentType);
 
+    /**
+     * Returns a {@link StructuredJsonGenerator} whose output buffer is borrowed from a shared pool instead of being allocated
+     * for every request. The buffer is given back to the pool by {@link StructuredJsonGenerator#getBytes()}, which can then
+     * only be called once.
+     * Factories that don't support pooling return the same writer as {@link #createWriter(String)}.
+     *
+     * @param contentType Content type to send for requests.
+     */
+    default StructuredJsonGenerator createPooledWriter(String contentType) {
+        return createWriter(contentType);
+    }
+
     JsonFactory getJsonFactory();
 
     ErrorCodeParser getErrorCodeParser(String customErrorCodeFieldName);
@@ -41,6 +41,13 @@ public final class AwsStructuredPlainJsonFactory {
             return new SdkJsonGenerator(jsonFactory, contentType);
         }
 
+        @Override
+        protected StructuredJsonGenerator createWriter(JsonFactory jsonFactory,
+                                                       String contentType,
+                                                       OutputBufferPool bufferPool) {
+            return new SdkJsonGenerator(jsonFactory, contentType, bufferPool);
+        }
+
         @Override
         public JsonFactory getJsonFactory() {
             return JsonNodeParser.DEFAULT_JSON_FACTORY;
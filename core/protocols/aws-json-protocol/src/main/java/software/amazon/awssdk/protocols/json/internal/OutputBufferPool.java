@@ -0,0 +1,187 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.protocols.json.internal;
+
+import java.io.OutputStream;
+import java.util.Arrays;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.annotations.SdkTestInternalApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.utils.Validate;
+
+/**
+ * A bounded pool of byte arrays backing the output of the JSON and CBOR generators, so that marshalling a request does not
+ * have to allocate (and repeatedly grow) a new buffer every time.
+ *
+ * <p>Buffers are borrowed with {@link #acquire()} and given back with {@link OutputBuffer#release()}. At most
+ * {@code maxPooledBuffers} buffers are retained, and buffers that grew beyond {@code maxRetainedBufferSize} while marshalling
+ * an unusually large request are dropped instead of being retained. A buffer that is never released is simply garbage
+ * collected.
+ */
+@SdkInternalApi
+@ThreadSafe
+public final class OutputBufferPool {
+
+    /**
+     * Initial size of new buffers. Large enough to avoid resizing for most requests but small enough to avoid wasting
+     * memory for the buffers held by the pool.
+     */
+    private static final int DEFAULT_INITIAL_BUFFER_SIZE = 1024;
+
+    private static final int DEFAULT_MAX_RETAINED_BUFFER_SIZE = 256 * 1024;
+
+    private static final int DEFAULT_MAX_POOLED_BUFFERS = 64;
+
+    private static final OutputBufferPool SHARED = new OutputBufferPool(DEFAULT_INITIAL_BUFFER_SIZE,
+                                                                        DEFAULT_MAX_RETAINED_BUFFER_SIZE,
+                                                                        DEFAULT_MAX_POOLED_BUFFERS);
+
+    private final Queue<byte[]> buffers = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger pooledBuffers = new AtomicInteger();
+    private final int initialBufferSize;
+    private final int maxRetainedBufferSize;
+    private final int maxPooledBuffers;
+
+    OutputBufferPool(int initialBufferSize, int maxRetainedBufferSize, int maxPooledBuffers) {
+        this.initialBufferSize = Validate.isPositive(initialBufferSize, "initialBufferSize");
+        this.maxRetainedBufferSize = Validate.isPositive(maxRetainedBufferSize, "maxRetainedBufferSize");
+        this.maxPooledBuffers = Validate.isNotNegative(maxPooledBuffers, "maxPooledBuffers");
+    }
+
+    /**
+     * @return The pool shared by all JSON and CBOR protocol factories that have buffer pooling enabled.
+     */
+    public static OutputBufferPool shared() {
+        return SHARED;
+    }
+
+    /**
+     * Creates a buffer that is not backed by any pool. Releasing it has no effect.
+     *
+     * @param initialBufferSize Initial capacity of the buffer.
+     */
+    public static OutputBuffer unpooled(int initialBufferSize) {
+        return new OutputBuffer(null, new byte[initialBufferSize]);
+    }
+
+    /**
+     * Borrows an empty buffer from the pool, allocating a new one if none are available.
+     */
+    public OutputBuffer acquire() {
+        byte[] buffer = buffers.poll();
+        if (buffer == null) {
+            buffer = new byte[initialBufferSize];
+        } else {
+            pooledBuffers.decrementAndGet();
+        }
+        return new OutputBuffer(this, buffer);
+    }
+
+    @SdkTestInternalApi
+    int pooledBufferCount() {
+        return pooledBuffers.get();
+    }
+
+    private void offer(byte[] buffer) {
+        if (buffer.length > maxRetainedBufferSize) {
+            return;
+        }
+        if (pooledBuffers.incrementAndGet() > maxPooledBuffers) {
+            pooledBuffers.decrementAndGet();
+            return;
+        }
+        buffers.offer(buffer);
+    }
+
+    /**
+     * Growable, unsynchronized output stream over a (possibly pooled) byte array. An output buffer must only be used by one
+     * thread at a time, and must not be used after it has been released.
+     */
+    public static final class OutputBuffer extends OutputStream {
+
+        private final OutputBufferPool pool;
+        private byte[] buffer;
+        private int count;
+
+        private OutputBuffer(OutputBufferPool pool, byte[] buffer) {
+            this.pool = pool;
+            this.buffer = buffer;
+        }
+
+        @Override
+        public void write(int b) {
+            ensureCapacity(count + 1);
+            buffer[count++] = (byte) b;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            ensureCapacity(count + len);
+            System.arraycopy(b, off, buffer, count, len);
+            count += len;
+        }
+
+        /**
+         * @return The number of bytes written so far.
+         */
+        public int size() {
+            return count;
+        }
+
+        /**
+         * @return A copy of the bytes written so far, sized exactly to the content.
+         */
+        public byte[] toByteArray() {
+            assertNotReleased();
+            return Arrays.copyOf(buffer, count);
+        }
+
+        /**
+         * @return True if this buffer has been released.
+         */
+        public boolean isReleased() {
+            return buffer == null;
+        }
+
+        /**
+         * Returns the underlying array to the pool it was borrowed from. Calling this more than once has no effect.
+         */
+        public void release() {
+            byte[] released = buffer;
+            buffer = null;
+            count = 0;
+            if (pool != null && released != null) {
+                pool.offer(released);
+            }
+        }
+
+        private void ensureCapacity(int minCapacity) {
+            assertNotReleased();
+            if (minCapacity > buffer.length) {
+                buffer = Arrays.copyOf(buffer, Math.max(minCapacity, buffer.length << 1));
+            }
+        }
+
+        private void assertNotReleased() {
+            if (buffer == null) {
+                throw new IllegalStateException("The output buffer has already been released.");
+            }
+        }
+    }
+}
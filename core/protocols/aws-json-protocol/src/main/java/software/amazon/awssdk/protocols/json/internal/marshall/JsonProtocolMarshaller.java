@@ -43,6 +43,7 @@ import software.amazon.awssdk.protocols.core.ProtocolUtils;
 import software.amazon.awssdk.protocols.core.ValueToStringConverter.ValueToString;
 import software.amazon.awssdk.protocols.json.AwsJsonProtocol;
 import software.amazon.awssdk.protocols.json.AwsJsonProtocolMetadata;
+import software.amazon.awssdk.protocols.json.JsonPayloadWriter;
 import software.amazon.awssdk.protocols.json.StructuredJsonGenerator;
 
 /**
@@ -68,12 +69,14 @@ public class JsonProtocolMarshaller implements ProtocolMarshaller<SdkHttpFullReq
     private final JsonMarshallerContext marshallerContext;
     private final boolean hasEventStreamingInput;
     private final boolean hasEvent;
+    private final JsonPayloadWriter<SdkPojo> payloadWriter;
 
     JsonProtocolMarshaller(URI endpoint,
                            StructuredJsonGenerator jsonGenerator,
                            String contentType,
                            OperationInfo operationInfo,
-                           AwsJsonProtocolMetadata protocolMetadata) {
+                           AwsJsonProtocolMetadata protocolMetadata,
+                           JsonPayloadWriter<SdkPojo> payloadWriter) {
         this.endpoint = endpoint;
         this.jsonGenerator = jsonGenerator;
         this.contentType = contentType;
@@ -83,6 +86,7 @@ public class JsonProtocolMarshaller implements ProtocolMarshaller<SdkHttpFullReq
         this.hasStreamingInput = operationInfo.hasStreamingInput();
         this.hasEventStreamingInput = operationInfo.hasEventStreamingInput();
         this.hasEvent = operationInfo.hasEvent();
+        this.payloadWriter = payloadWriter;
         this.request = fillBasicRequestParams(operationInfo);
         this.marshallerContext = JsonMarshallerContext.builder()
                                                       .jsonGenerator(jsonGenerator)
@@ -215,10 +219,27 @@ public class JsonProtocolMarshaller implements ProtocolMarshaller<SdkHttpFullReq
     @Override
     public SdkHttpFullRequest marshall(SdkPojo pojo) {
         startMarshalling();
-        doMarshall(pojo);
+        if (payloadWriter != null) {
+            marshallWithPayloadWriter(pojo);
+        } else {
+            doMarshall(pojo);
+        }
         return finishMarshalling();
     }
 
+    /**
+     * Marshalls the members bound to the request URI and headers field by field, and lets the generated payload writer write
+     * the members bound to the implicit payload.
+     */
+    private void marshallWithPayloadWriter(SdkPojo pojo) {
+        for (SdkField<?> field : pojo.sdkFields()) {
+            if (field.location() != MarshallLocation.PAYLOAD) {
+                marshallField(field, field.getValueOrDefault(pojo));
+            }
+        }
+        payloadWriter.write(pojo, jsonGenerator);
+    }
+
     private SdkHttpFullRequest finishMarshalling() {
         // Content may already be set if the payload is binary data.
         if (request.contentStreamProvider() == null) {
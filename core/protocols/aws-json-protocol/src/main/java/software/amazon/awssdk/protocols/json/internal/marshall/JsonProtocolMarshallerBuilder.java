@@ -17,10 +17,12 @@ package software.amazon.awssdk.protocols.json.internal.marshall;
 
 import java.net.URI;
 import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.core.SdkPojo;
 import software.amazon.awssdk.http.SdkHttpFullRequest;
 import software.amazon.awssdk.protocols.core.OperationInfo;
 import software.amazon.awssdk.protocols.core.ProtocolMarshaller;
 import software.amazon.awssdk.protocols.json.AwsJsonProtocolMetadata;
+import software.amazon.awssdk.protocols.json.JsonPayloadWriter;
 import software.amazon.awssdk.protocols.json.StructuredJsonGenerator;
 
 /**
@@ -35,6 +37,7 @@ public final class JsonProtocolMarshallerBuilder {
     private OperationInfo operationInfo;
     private boolean sendExplicitNullForPayload;
     private AwsJsonProtocolMetadata protocolMetadata;
+    private JsonPayloadWriter<SdkPojo> payloadWriter;
 
     private JsonProtocolMarshallerBuilder() {
     }
@@ -102,6 +105,17 @@ public final class JsonProtocolMarshallerBuilder {
         return this;
     }
 
+    /**
+     * @param payloadWriter Generated writer for the implicit payload members of the request. If null, all members are
+     * marshalled by iterating over the fields of the request.
+     * @return This builder for method chaining.
+     */
+    @SuppressWarnings("unchecked")
+    public JsonProtocolMarshallerBuilder payloadWriter(JsonPayloadWriter<? extends SdkPojo> payloadWriter) {
+        this.payloadWriter = (JsonPayloadWriter<SdkPojo>) payloadWriter;
+        return this;
+    }
+
     /**
      * @return New instance of {@link ProtocolMarshaller}. If {@link #sendExplicitNullForPayload} is true then the marshaller
      * will be wrapped with {@link NullAsEmptyBodyProtocolRequestMarshaller}.
@@ -111,7 +125,8 @@ public final class JsonProtocolMarshallerBuilder {
                                                                                                jsonGenerator,
                                                                                                contentType,
                                                                                                operationInfo,
-                                                                                               protocolMetadata);
+                                                                                               protocolMetadata,
+                                                                                               payloadWriter);
         return sendExplicitNullForPayload ? protocolMarshaller
                                           : new NullAsEmptyBodyProtocolRequestMarshaller(protocolMarshaller);
     }
@@ -59,12 +59,18 @@ public final class JsonProtocolUnmarshaller {
 
     private final JsonNodeParser parser;
 
+    private final JsonTokenUnmarshaller tokenUnmarshaller;
+
     private JsonProtocolUnmarshaller(Builder builder) {
         this.parser = builder.parser;
         this.instantStringToValue = StringToInstant.create(builder.defaultTimestampFormats.isEmpty() ?
                                                            new EnumMap<>(MarshallLocation.class) :
                                                            new EnumMap<>(builder.defaultTimestampFormats));
         this.registry = createUnmarshallerRegistry(instantStringToValue);
+        this.tokenUnmarshaller = builder.enableFastUnmarshalling || builder.enableLazyUnmarshalling
+                                 ? new JsonTokenUnmarshaller(parser, instantStringToValue, registry,
+                                                            builder.enableLazyUnmarshalling)
+                                 : null;
     }
 
     private static JsonUnmarshallerRegistry createUnmarshallerRegistry(
@@ -186,6 +192,9 @@ public final class JsonProtocolUnmarshaller {
     public <TypeT extends SdkPojo> TypeT unmarshall(SdkPojo sdkPojo,
                             SdkHttpFullResponse response) throws IOException {
         if (hasPayloadMembersOnUnmarshall(sdkPojo) && !hasExplicitBlobPayloadMember(sdkPojo) && response.content().isPresent()) {
+            if (tokenUnmarshaller != null && JsonTokenUnmarshaller.supports(sdkPojo)) {
+                return tokenUnmarshaller.unmarshall(sdkPojo, response.content().get(), createContext(response));
+            }
             JsonNode jsonNode = parser.parse(response.content().get());
             return unmarshall(sdkPojo, response, jsonNode);
         } else {
@@ -213,11 +222,14 @@ public final class JsonProtocolUnmarshaller {
     public <TypeT extends SdkPojo> TypeT unmarshall(SdkPojo sdkPojo,
                             SdkHttpFullResponse response,
                             JsonNode jsonContent) {
-        JsonUnmarshallerContext context = JsonUnmarshallerContext.builder()
-                                                                 .unmarshallerRegistry(registry)
-                                                                 .response(response)
-                                                                 .build();
-        return unmarshallStructured(sdkPojo, jsonContent, context);
+        return unmarshallStructured(sdkPojo, jsonContent, createContext(response));
+    }
+
+    private JsonUnmarshallerContext createContext(SdkHttpFullResponse response) {
+        return JsonUnmarshallerContext.builder()
+                                      .unmarshallerRegistry(registry)
+                                      .response(response)
+                                      .build();
     }
 
     @SuppressWarnings("unchecked")
@@ -262,6 +274,8 @@ public final class JsonProtocolUnmarshaller {
 
         private JsonNodeParser parser;
         private Map<MarshallLocation, TimestampFormatTrait.Format> defaultTimestampFormats;
+        private boolean enableFastUnmarshalling = false;
+        private boolean enableLazyUnmarshalling = false;
 
         private Builder() {
         }
@@ -284,6 +298,34 @@ public final class JsonProtocolUnmarshaller {
             return this;
         }
 
+        /**
+         * Whether response payloads should be unmarshalled directly from the token stream of the parser, instead of first
+         * being parsed into a {@link JsonNode} tree. This reduces the memory used to unmarshall large responses.
+         *
+         * <p>By default, this is false.
+         *
+         * @param enableFastUnmarshalling True to unmarshall directly from the token stream.
+         * @return This builder for method chaining.
+         */
+        public Builder enableFastUnmarshalling(boolean enableFastUnmarshalling) {
+            this.enableFastUnmarshalling = enableFastUnmarshalling;
+            return this;
+        }
+
+        /**
+         * Whether the list and map members of responses should only be unmarshalled when they are first accessed. The
+         * response payload is retained until then. This implies {@link #enableFastUnmarshalling(boolean)}.
+         *
+         * <p>By default, this is false.
+         *
+         * @param enableLazyUnmarshalling True to unmarshall list and map members on first access.
+         * @return This builder for method chaining.
+         */
+        public Builder enableLazyUnmarshalling(boolean enableLazyUnmarshalling) {
+            this.enableLazyUnmarshalling = enableLazyUnmarshalling;
+            return this;
+        }
+
         /**
          * @return New instance of {@link JsonProtocolUnmarshaller}.
          */
@@ -0,0 +1,358 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.protocols.json.internal.unmarshall;
+
+import static software.amazon.awssdk.protocols.core.StringToValueConverter.TO_SDK_BYTES;
+import static software.amazon.awssdk.utils.FunctionalUtils.invokeSafely;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.core.SdkBytes;
+import software.amazon.awssdk.core.SdkField;
+import software.amazon.awssdk.core.SdkPojo;
+import software.amazon.awssdk.core.document.Document;
+import software.amazon.awssdk.core.protocol.MarshallLocation;
+import software.amazon.awssdk.core.protocol.MarshallingType;
+import software.amazon.awssdk.core.traits.ListTrait;
+import software.amazon.awssdk.core.traits.MapTrait;
+import software.amazon.awssdk.core.traits.PayloadTrait;
+import software.amazon.awssdk.core.util.LazySdkList;
+import software.amazon.awssdk.core.util.LazySdkMap;
+import software.amazon.awssdk.protocols.core.StringToValueConverter;
+import software.amazon.awssdk.protocols.core.StringToValueConverter.StringToValue;
+import software.amazon.awssdk.protocols.json.internal.unmarshall.document.DocumentUnmarshaller;
+import software.amazon.awssdk.protocols.jsoncore.JsonNode;
+import software.amazon.awssdk.protocols.jsoncore.JsonNodeParser;
+import software.amazon.awssdk.thirdparty.jackson.core.JsonParser;
+import software.amazon.awssdk.thirdparty.jackson.core.JsonToken;
+import software.amazon.awssdk.utils.IoUtils;
+import software.amazon.awssdk.utils.builder.Buildable;
+
+/**
+ * Unmarshaller that reads the response payload token-by-token from a {@link JsonParser} and sets each member directly on the
+ * POJO builder, instead of first parsing the whole payload into a {@link JsonNode} tree.
+ *
+ * <p>Members for which the token stream does not have the expected shape, and {@link Document} members, are materialized as a
+ * {@link JsonNode} and handed to the same {@link JsonUnmarshaller}s used by the tree based path, so both paths produce the same
+ * result for any given payload.
+ *
+ * <p>With lazy unmarshalling, the list and map members of the response POJO are only unmarshalled when they are first
+ * accessed. Each deferred member retains a copy of its own part of the payload, and nothing else of the response. Only the
+ * members of the response itself are deferred; the contents of a deferred member are unmarshalled all at once.
+ */
+@SdkInternalApi
+@ThreadSafe
+final class JsonTokenUnmarshaller {
+
+    private static final Map<Class<?>, Map<String, SdkField<?>>> PAYLOAD_FIELDS_BY_CLASS = new ConcurrentHashMap<>();
+
+    private final JsonNodeParser nodeParser;
+    private final Map<MarshallingType<?>, StringToValue<?>> simpleTypeConverters;
+    private final boolean lazyUnmarshalling;
+
+    /**
+     * Context used to unmarshall deferred members. It has no response, so that deferred members don't retain it.
+     */
+    private final JsonUnmarshallerContext payloadContext;
+
+    JsonTokenUnmarshaller(JsonNodeParser nodeParser, StringToValue<Instant> instantStringToValue,
+                          JsonUnmarshallerRegistry unmarshallerRegistry, boolean lazyUnmarshalling) {
+        this.nodeParser = nodeParser;
+        this.simpleTypeConverters = createSimpleTypeConverters(instantStringToValue);
+        this.lazyUnmarshalling = lazyUnmarshalling;
+        this.payloadContext = JsonUnmarshallerContext.builder().unmarshallerRegistry(unmarshallerRegistry).build();
+    }
+
+    private static Map<MarshallingType<?>, StringToValue<?>> createSimpleTypeConverters(
+        StringToValue<Instant> instantStringToValue) {
+
+        Map<MarshallingType<?>, StringToValue<?>> converters = new HashMap<>();
+        converters.put(MarshallingType.STRING, StringToValueConverter.TO_STRING);
+        converters.put(MarshallingType.INTEGER, StringToValueConverter.TO_INTEGER);
+        converters.put(MarshallingType.LONG, StringToValueConverter.TO_LONG);
+        converters.put(MarshallingType.SHORT, StringToValueConverter.TO_SHORT);
+        converters.put(MarshallingType.FLOAT, StringToValueConverter.TO_FLOAT);
+        converters.put(MarshallingType.DOUBLE, StringToValueConverter.TO_DOUBLE);
+        converters.put(MarshallingType.BIG_DECIMAL, StringToValueConverter.TO_BIG_DECIMAL);
+        converters.put(MarshallingType.BOOLEAN, StringToValueConverter.TO_BOOLEAN);
+        converters.put(MarshallingType.INSTANT, instantStringToValue);
+        return Collections.unmodifiableMap(converters);
+    }
+
+    /**
+     * @return True if the payload of the given POJO can be read by this unmarshaller. POJOs bound to a {@link Document}
+     * payload, or with more than one explicit payload member, are left to the tree based path.
+     */
+    static boolean supports(SdkPojo sdkPojo) {
+        int explicitPayloadMembers = 0;
+        for (SdkField<?> field : sdkPojo.sdkFields()) {
+            if (field.containsTrait(PayloadTrait.class)) {
+                if (field.marshallingType() == MarshallingType.DOCUMENT) {
+                    return false;
+                }
+                explicitPayloadMembers++;
+            }
+        }
+        return explicitPayloadMembers <= 1;
+    }
+
+    /**
+     * Unmarshalls the top level response POJO. Members bound to the headers or status code of the response are unmarshalled
+     * from the {@link JsonUnmarshallerContext} exactly like the tree based path does it. The payload is read through the
+     * {@link JsonNodeParser}, so that malformed payloads fail exactly like they do on the tree based path.
+     */
+    @SuppressWarnings("unchecked")
+    <TypeT extends SdkPojo> TypeT unmarshall(SdkPojo sdkPojo, InputStream content, JsonUnmarshallerContext context) {
+        SdkField<?> explicitPayloadMember = null;
+        for (SdkField<?> field : sdkPojo.sdkFields()) {
+            if (field.location() != MarshallLocation.PAYLOAD) {
+                JsonUnmarshaller<Object> unmarshaller = context.getUnmarshaller(field.location(), field.marshallingType());
+                field.set(sdkPojo, unmarshaller.unmarshall(context, null, (SdkField<Object>) field));
+            } else if (field.containsTrait(PayloadTrait.class)) {
+                explicitPayloadMember = field;
+            }
+        }
+
+        SdkField<?> payloadMember = explicitPayloadMember;
+        if (lazyUnmarshalling && payloadMember == null && hasListOrMapMembers(sdkPojo)) {
+            byte[] retainedContent = invokeSafely(() -> IoUtils.toByteArray(content));
+            nodeParser.read(retainedContent, 0, retainedContent.length,
+                            parser -> readPayload(sdkPojo, parser, null, context, retainedContent));
+        } else {
+            nodeParser.read(content, parser -> readPayload(sdkPojo, parser, payloadMember, context, null));
+        }
+        return (TypeT) ((Buildable) sdkPojo).build();
+    }
+
+    private SdkPojo readPayload(SdkPojo sdkPojo, JsonParser parser, SdkField<?> explicitPayloadMember,
+                                JsonUnmarshallerContext context, byte[] retainedContent) throws IOException {
+        JsonToken token = parser.nextToken();
+        if (token != null) {
+            if (explicitPayloadMember != null) {
+                explicitPayloadMember.set(sdkPojo, unmarshallValue(explicitPayloadMember, parser, token, context));
+            } else if (token == JsonToken.START_OBJECT) {
+                readMembers(sdkPojo, parser, context, retainedContent);
+            } else {
+                parser.skipChildren();
+            }
+        }
+        return sdkPojo;
+    }
+
+    private SdkPojo unmarshallStructure(SdkPojo sdkPojo, JsonParser parser, JsonUnmarshallerContext context)
+            throws IOException {
+        readMembers(sdkPojo, parser, context, null);
+        return (SdkPojo) ((Buildable) sdkPojo).build();
+    }
+
+    /**
+     * @param retainedContent The whole response payload that the parser is reading from, if list and map members should be
+     * unmarshalled lazily, or null otherwise. Deferred members copy their part of it, so it is not retained past this call.
+     */
+    private void readMembers(SdkPojo sdkPojo, JsonParser parser, JsonUnmarshallerContext context, byte[] retainedContent)
+            throws IOException {
+        Map<String, SdkField<?>> fields = payloadFieldsByLocationName(sdkPojo);
+        while (parser.nextToken() != JsonToken.END_OBJECT) {
+            SdkField<?> field = fields.get(parser.getText());
+            JsonToken valueToken = parser.nextToken();
+            if (field == null) {
+                parser.skipChildren();
+            } else if (retainedContent != null && isLazyValue(field, valueToken)) {
+                field.set(sdkPojo, unmarshallLazily(field, parser, retainedContent));
+            } else {
+                field.set(sdkPojo, unmarshallValue(field, parser, valueToken, context));
+            }
+        }
+    }
+
+    private static boolean hasListOrMapMembers(SdkPojo sdkPojo) {
+        for (SdkField<?> field : payloadFieldsByLocationName(sdkPojo).values()) {
+            if (field.marshallingType() == MarshallingType.LIST || field.marshallingType() == MarshallingType.MAP) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean isLazyValue(SdkField<?> field, JsonToken token) {
+        return (field.marshallingType() == MarshallingType.LIST && token == JsonToken.START_ARRAY) ||
+               (field.marshallingType() == MarshallingType.MAP && token == JsonToken.START_OBJECT);
+    }
+
+    /**
+     * Skips over the list or map the parser is positioned on, and returns a list or map that unmarshalls a copy of its bytes
+     * when it is first accessed.
+     */
+    @SuppressWarnings("unchecked")
+    private Object unmarshallLazily(SdkField<?> field, JsonParser parser, byte[] retainedContent) throws IOException {
+        int start = (int) parser.getTokenLocation().getByteOffset();
+        parser.skipChildren();
+        int end = (int) parser.getCurrentLocation().getByteOffset();
+        byte[] memberContent = Arrays.copyOfRange(retainedContent, start, end);
+        if (field.marshallingType() == MarshallingType.LIST) {
+            return LazySdkList.create(() -> Collections.unmodifiableList(
+                (List<Object>) unmarshallDeferred(field, memberContent)));
+        }
+        return LazySdkMap.create(() -> Collections.unmodifiableMap(
+            (Map<String, Object>) unmarshallDeferred(field, memberContent)));
+    }
+
+    private Object unmarshallDeferred(SdkField<?> field, byte[] memberContent) {
+        return nodeParser.read(memberContent, 0, memberContent.length,
+                               parser -> unmarshallValue(field, parser, parser.nextToken(), payloadContext));
+    }
+
+    @SuppressWarnings("unchecked")
+    private Object unmarshallValue(SdkField<?> field, JsonParser parser, JsonToken token, JsonUnmarshallerContext context)
+            throws IOException {
+
+        MarshallingType<?> marshallingType = field.marshallingType();
+        if (token == JsonToken.VALUE_NULL) {
+            return marshallingType == MarshallingType.DOCUMENT ? Document.fromNull() : null;
+        }
+
+        if (marshallingType == MarshallingType.SDK_POJO) {
+            if (token == JsonToken.START_OBJECT) {
+                return unmarshallStructure(field.constructor().get(), parser, context);
+            }
+        } else if (marshallingType == MarshallingType.LIST) {
+            if (token == JsonToken.START_ARRAY) {
+                return unmarshallList(field, parser, context);
+            }
+        } else if (marshallingType == MarshallingType.MAP) {
+            if (token == JsonToken.START_OBJECT) {
+                return unmarshallMap(field, parser, context);
+            }
+        } else if (marshallingType == MarshallingType.SDK_BYTES) {
+            if (token == JsonToken.VALUE_EMBEDDED_OBJECT) {
+                // Binary formats like CBOR decode each byte string into a new array that nothing else references, so it can
+                // be handed to the POJO without the defensive copy the tree based path makes.
+                return SdkBytes.fromByteArrayUnsafe((byte[]) parser.getEmbeddedObject());
+            }
+            if (token == JsonToken.VALUE_STRING) {
+                return TO_SDK_BYTES.convert(parser.getText(), (SdkField<SdkBytes>) field);
+            }
+        } else if (marshallingType != MarshallingType.DOCUMENT && isSimpleValue(token)) {
+            if (token.isNumeric()) {
+                Object number = readNumber(marshallingType, parser);
+                if (number != null) {
+                    return number;
+                }
+            }
+            StringToValue<Object> converter = (StringToValue<Object>) simpleTypeConverters.get(marshallingType);
+            if (converter != null) {
+                return converter.convert(parser.getText(), (SdkField<Object>) field);
+            }
+        }
+
+        return unmarshallFromJsonNode(field, parser, context);
+    }
+
+    private List<Object> unmarshallList(SdkField<?> field, JsonParser parser, JsonUnmarshallerContext context)
+            throws IOException {
+        SdkField<?> memberInfo = field.getTrait(ListTrait.class).memberFieldInfo();
+        List<Object> list = new ArrayList<>();
+        JsonToken token = parser.nextToken();
+        while (token != JsonToken.END_ARRAY) {
+            list.add(unmarshallValue(memberInfo, parser, token, context));
+            token = parser.nextToken();
+        }
+        return list;
+    }
+
+    private Map<String, Object> unmarshallMap(SdkField<?> field, JsonParser parser, JsonUnmarshallerContext context)
+            throws IOException {
+        SdkField<?> valueInfo = field.getTrait(MapTrait.class).valueFieldInfo();
+        Map<String, Object> map = new HashMap<>();
+        while (parser.nextToken() != JsonToken.END_OBJECT) {
+            String key = parser.getText();
+            map.put(key, unmarshallValue(valueInfo, parser, parser.nextToken(), context));
+        }
+        return map;
+    }
+
+    /**
+     * Falls back to the tree based representation for the current value. This is always used for {@link Document} members,
+     * and for values whose JSON type does not match the modeled type, so that they are handled identically to the tree based
+     * path.
+     */
+    @SuppressWarnings("unchecked")
+    private Object unmarshallFromJsonNode(SdkField<?> field, JsonParser parser, JsonUnmarshallerContext context) {
+        JsonNode jsonNode = nodeParser.parseCurrentValue(parser);
+        if (field.marshallingType() == MarshallingType.DOCUMENT) {
+            return jsonNode.visit(new DocumentUnmarshaller());
+        }
+        JsonUnmarshaller<Object> unmarshaller = context.getUnmarshaller(MarshallLocation.PAYLOAD, field.marshallingType());
+        return unmarshaller.unmarshall(context, jsonNode, (SdkField<Object>) field);
+    }
+
+    /**
+     * Reads a number directly from the parser when that gives exactly the value that converting the text of the number would
+     * give. Binary formats like CBOR don't encode numbers as text, so this avoids formatting each number as a string only to
+     * parse it again.
+     *
+     * @return The number, or null if the text of the number has to be converted instead.
+     */
+    private static Object readNumber(MarshallingType<?> marshallingType, JsonParser parser) throws IOException {
+        JsonParser.NumberType numberType = parser.getNumberType();
+        if (marshallingType == MarshallingType.INTEGER && numberType == JsonParser.NumberType.INT) {
+            return parser.getIntValue();
+        }
+        if (marshallingType == MarshallingType.LONG &&
+            (numberType == JsonParser.NumberType.INT || numberType == JsonParser.NumberType.LONG)) {
+            return parser.getLongValue();
+        }
+        if (marshallingType == MarshallingType.DOUBLE && numberType == JsonParser.NumberType.DOUBLE) {
+            return parser.getDoubleValue();
+        }
+        if (marshallingType == MarshallingType.FLOAT && numberType == JsonParser.NumberType.FLOAT) {
+            return parser.getFloatValue();
+        }
+        return null;
+    }
+
+    private static boolean isSimpleValue(JsonToken token) {
+        return token.isScalarValue() && token != JsonToken.VALUE_EMBEDDED_OBJECT;
+    }
+
+    private static Map<String, SdkField<?>> payloadFieldsByLocationName(SdkPojo sdkPojo) {
+        Map<String, SdkField<?>> fields = PAYLOAD_FIELDS_BY_CLASS.get(sdkPojo.getClass());
+        if (fields != null) {
+            return fields;
+        }
+        return PAYLOAD_FIELDS_BY_CLASS.computeIfAbsent(sdkPojo.getClass(), c -> indexPayloadFields(sdkPojo));
+    }
+
+    private static Map<String, SdkField<?>> indexPayloadFields(SdkPojo sdkPojo) {
+        Map<String, SdkField<?>> fields = new HashMap<>();
+        for (SdkField<?> field : sdkPojo.sdkFields()) {
+            if (field.location() == MarshallLocation.PAYLOAD) {
+                fields.put(field.locationName(), field);
+            }
+        }
+        return Collections.unmodifiableMap(fields);
+    }
+}
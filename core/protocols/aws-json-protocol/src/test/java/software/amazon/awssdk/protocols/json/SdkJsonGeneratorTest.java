@@ -17,15 +17,19 @@ package software.amazon.awssdk.protocols.json;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertThrows;
 import static org.junit.Assert.assertTrue;
 
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.nio.ByteBuffer;
 import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
 import java.time.Instant;
 import org.junit.Before;
 import org.junit.Test;
+import software.amazon.awssdk.protocols.json.internal.OutputBufferPool;
 import software.amazon.awssdk.protocols.jsoncore.JsonNode;
 import software.amazon.awssdk.thirdparty.jackson.core.JsonFactory;
 import software.amazon.awssdk.utils.BinaryUtils;
@@ -171,6 +175,32 @@ public class SdkJsonGeneratorTest {
         assertTrue(j == 3);
     }
 
+    @Test
+    public void pooledBuffer_ProducesSameContentAndIsReused() throws IOException {
+        OutputBufferPool pool = OutputBufferPool.shared();
+        for (int i = 0; i < 3; i++) {
+            StructuredJsonGenerator pooled = new SdkJsonGenerator(JsonFactory.builder().build(), "application/json", pool);
+            pooled.writeStartObject();
+            pooled.writeFieldName("stringProp").writeValue("stringVal" + i);
+            pooled.writeEndObject();
+            byte[] bytes = pooled.getBytes();
+            assertEquals("{\"stringProp\":\"stringVal" + i + "\"}", new String(bytes, StandardCharsets.UTF_8));
+            assertThrows(IllegalStateException.class, pooled::getBytes);
+        }
+    }
+
+    @Test
+    public void unpooledGetBytes_ReturnsNewArrayEachTime() {
+        jsonGenerator.writeStartObject();
+        jsonGenerator.writeFieldName("stringProp").writeValue("stringVal");
+        jsonGenerator.writeEndObject();
+        byte[] bytes = jsonGenerator.getBytes();
+        bytes[0] = 'x';
+
+        assertEquals("{\"stringProp\":\"stringVal\"}", new String(jsonGenerator.getBytes(), StandardCharsets.UTF_8));
+        assertNotSame(jsonGenerator.getBytes(), jsonGenerator.getBytes());
+    }
+
     private JsonNode toJsonNode() throws IOException {
         return JsonNode.parser().parse(new ByteArrayInputStream(jsonGenerator.getBytes()));
     }
@@ -0,0 +1,82 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.protocols.json.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.Test;
+import software.amazon.awssdk.protocols.json.internal.OutputBufferPool.OutputBuffer;
+
+public class OutputBufferPoolTest {
+
+    @Test
+    public void write_growsBeyondInitialSize() {
+        OutputBuffer buffer = new OutputBufferPool(4, 1024, 1).acquire();
+        buffer.write(new byte[] {1, 2, 3}, 0, 3);
+        buffer.write(4);
+        buffer.write(new byte[] {5, 6, 7, 8, 9}, 1, 3);
+
+        assertThat(buffer.size()).isEqualTo(7);
+        assertThat(buffer.toByteArray()).containsExactly(1, 2, 3, 4, 6, 7, 8);
+    }
+
+    @Test
+    public void release_bufferIsReusedAndStartsEmpty() {
+        OutputBufferPool pool = new OutputBufferPool(16, 1024, 1);
+        OutputBuffer first = pool.acquire();
+        first.write(1);
+        first.release();
+        assertThat(pool.pooledBufferCount()).isEqualTo(1);
+
+        OutputBuffer second = pool.acquire();
+        assertThat(pool.pooledBufferCount()).isZero();
+        assertThat(second.size()).isZero();
+        second.write(2);
+        assertThat(second.toByteArray()).containsExactly(2);
+    }
+
+    @Test
+    public void release_afterRelease_usingBufferThrows() {
+        OutputBuffer buffer = new OutputBufferPool(16, 1024, 1).acquire();
+        buffer.release();
+        buffer.release();
+
+        assertThatThrownBy(() -> buffer.write(1)).isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(buffer::toByteArray).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    public void release_oversizedBufferIsNotRetained() {
+        OutputBufferPool pool = new OutputBufferPool(4, 8, 1);
+        OutputBuffer buffer = pool.acquire();
+        buffer.write(new byte[16], 0, 16);
+        buffer.release();
+
+        assertThat(pool.pooledBufferCount()).isZero();
+    }
+
+    @Test
+    public void release_poolIsFull_bufferIsNotRetained() {
+        OutputBufferPool pool = new OutputBufferPool(4, 8, 1);
+        OutputBuffer first = pool.acquire();
+        OutputBuffer second = pool.acquire();
+        first.release();
+        second.release();
+
+        assertThat(pool.pooledBufferCount()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,142 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.protocols.json.internal.marshall;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.net.URI;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.Test;
+import software.amazon.awssdk.core.SdkField;
+import software.amazon.awssdk.core.SdkPojo;
+import software.amazon.awssdk.core.protocol.MarshallLocation;
+import software.amazon.awssdk.core.protocol.MarshallingType;
+import software.amazon.awssdk.core.traits.ListTrait;
+import software.amazon.awssdk.core.traits.LocationTrait;
+import software.amazon.awssdk.core.traits.Trait;
+import software.amazon.awssdk.http.SdkHttpFullRequest;
+import software.amazon.awssdk.http.SdkHttpMethod;
+import software.amazon.awssdk.protocols.core.OperationInfo;
+import software.amazon.awssdk.protocols.json.AwsJsonProtocol;
+import software.amazon.awssdk.protocols.json.AwsJsonProtocolMetadata;
+import software.amazon.awssdk.protocols.json.JsonPayloadWriter;
+import software.amazon.awssdk.protocols.json.StructuredJsonGenerator;
+import software.amazon.awssdk.protocols.json.internal.AwsStructuredPlainJsonFactory;
+import software.amazon.awssdk.utils.IoUtils;
+
+public class JsonProtocolMarshallerTest {
+
+    private static final List<SdkField<?>> FIELDS = Arrays.asList(
+        field(MarshallingType.STRING, MarshallLocation.HEADER, "x-amz-header"),
+        field(MarshallingType.STRING, MarshallLocation.PAYLOAD, "StringMember"),
+        field(MarshallingType.INTEGER, MarshallLocation.PAYLOAD, "IntegerMember"),
+        field(MarshallingType.LIST, MarshallLocation.PAYLOAD, "ListMember",
+              ListTrait.builder().memberFieldInfo(field(MarshallingType.STRING, MarshallLocation.PAYLOAD, "member")).build()));
+
+    private static final OperationInfo OPERATION_INFO = OperationInfo.builder()
+                                                                     .requestUri("/")
+                                                                     .httpMethod(SdkHttpMethod.POST)
+                                                                     .hasImplicitPayloadMembers(true)
+                                                                     .hasPayloadMembers(true)
+                                                                     .build();
+
+    private static final JsonPayloadWriter<FakePojo> PAYLOAD_WRITER = JsonProtocolMarshallerTest::writePayload;
+
+    @Test
+    public void payloadWriter_producesSameRequestAsFieldMarshalling() throws Exception {
+        FakePojo pojo = new FakePojo();
+        pojo.values.put("x-amz-header", "header-value");
+        pojo.values.put("StringMember", "foo");
+        pojo.values.put("ListMember", Arrays.asList("a", null, "c"));
+
+        SdkHttpFullRequest expected = marshaller(null).marshall(pojo);
+        SdkHttpFullRequest actual = marshaller(PAYLOAD_WRITER).marshall(pojo);
+
+        String expectedBody = IoUtils.toUtf8String(expected.contentStreamProvider().get().newStream());
+        String actualBody = IoUtils.toUtf8String(actual.contentStreamProvider().get().newStream());
+        assertThat(actualBody).isEqualTo(expectedBody)
+                              .isEqualTo("{\"StringMember\":\"foo\",\"ListMember\":[\"a\",null,\"c\"]}");
+        assertThat(actual.headers()).isEqualTo(expected.headers());
+        assertThat(actual.firstMatchingHeader("x-amz-header")).hasValue("header-value");
+    }
+
+    private static JsonProtocolMarshaller marshaller(JsonPayloadWriter<FakePojo> payloadWriter) {
+        return (JsonProtocolMarshaller) JsonProtocolMarshallerBuilder
+            .create()
+            .endpoint(URI.create("http://localhost"))
+            .jsonGenerator(AwsStructuredPlainJsonFactory.SDK_JSON_FACTORY.createWriter("application/json"))
+            .contentType("application/json")
+            .operationInfo(OPERATION_INFO)
+            .sendExplicitNullForPayload(true)
+            .protocolMetadata(AwsJsonProtocolMetadata.builder().protocol(AwsJsonProtocol.REST_JSON).build())
+            .payloadWriter(payloadWriter)
+            .build();
+    }
+
+    /**
+     * Hand written equivalent of the payload writer the code generator emits for {@link FakePojo}.
+     */
+    @SuppressWarnings("unchecked")
+    private static void writePayload(FakePojo pojo, StructuredJsonGenerator jsonGenerator) {
+        String stringMember = (String) pojo.values.get("StringMember");
+        if (stringMember != null) {
+            jsonGenerator.writeFieldName("StringMember");
+            jsonGenerator.writeValue(stringMember);
+        }
+        Integer integerMember = (Integer) pojo.values.get("IntegerMember");
+        if (integerMember != null) {
+            jsonGenerator.writeFieldName("IntegerMember");
+            jsonGenerator.writeValue(integerMember);
+        }
+        List<String> listMember = (List<String>) pojo.values.get("ListMember");
+        if (listMember != null) {
+            jsonGenerator.writeFieldName("ListMember");
+            jsonGenerator.writeStartArray();
+            for (String element : listMember) {
+                if (element == null) {
+                    jsonGenerator.writeNull();
+                } else {
+                    jsonGenerator.writeValue(element);
+                }
+            }
+            jsonGenerator.writeEndArray();
+        }
+    }
+
+    private static <T> SdkField<T> field(MarshallingType<? super T> type, MarshallLocation location, String name,
+                                         Trait... traits) {
+        Trait[] allTraits = Arrays.copyOf(traits, traits.length + 1);
+        allTraits[traits.length] = LocationTrait.builder().location(location).locationName(name).build();
+        return SdkField.<T>builder(type)
+                       .memberName(name)
+                       .getter(o -> (T) ((FakePojo) o).values.get(name))
+                       .setter((o, v) -> ((FakePojo) o).values.put(name, v))
+                       .traits(allTraits)
+                       .build();
+    }
+
+    private static final class FakePojo implements SdkPojo {
+        private final Map<String, Object> values = new HashMap<>();
+
+        @Override
+        public List<SdkField<?>> sdkFields() {
+            return FIELDS;
+        }
+    }
+}
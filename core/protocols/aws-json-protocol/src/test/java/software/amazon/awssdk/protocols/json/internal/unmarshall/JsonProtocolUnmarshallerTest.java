@@ -0,0 +1,331 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.protocols.json.internal.unmarshall;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
+import java.io.UncheckedIOException;
+import java.lang.ref.WeakReference;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+import org.junit.Test;
+import software.amazon.awssdk.core.SdkBytes;
+import software.amazon.awssdk.core.SdkField;
+import software.amazon.awssdk.core.SdkPojo;
+import software.amazon.awssdk.core.document.Document;
+import software.amazon.awssdk.core.protocol.MarshallLocation;
+import software.amazon.awssdk.core.protocol.MarshallingType;
+import software.amazon.awssdk.core.traits.ListTrait;
+import software.amazon.awssdk.core.traits.LocationTrait;
+import software.amazon.awssdk.core.traits.MapTrait;
+import software.amazon.awssdk.core.traits.PayloadTrait;
+import software.amazon.awssdk.core.traits.TimestampFormatTrait;
+import software.amazon.awssdk.core.traits.Trait;
+import software.amazon.awssdk.core.util.LazySdkList;
+import software.amazon.awssdk.core.util.LazySdkMap;
+import software.amazon.awssdk.http.AbortableInputStream;
+import software.amazon.awssdk.http.SdkHttpFullResponse;
+import software.amazon.awssdk.protocols.json.ValidSdkObjects;
+import software.amazon.awssdk.protocols.jsoncore.JsonNodeParser;
+import software.amazon.awssdk.thirdparty.jackson.core.JsonParseException;
+import software.amazon.awssdk.utils.builder.Buildable;
+
+public class JsonProtocolUnmarshallerTest {
+
+    private static final String JSON =
+        "{\"StringMember\":\"foo\","
+        + "\"IntegerMember\":42,"
+        + "\"BooleanMember\":true,"
+        + "\"TimestampMember\":1398796238.123,"
+        + "\"BlobMember\":\"aGVsbG8=\","
+        + "\"UnknownMember\":{\"Nested\":[1,2,{\"a\":null}]},"
+        + "\"ListMember\":[\"a\",null,\"c\"],"
+        + "\"MapMember\":{\"one\":1,\"two\":2},"
+        + "\"StructMember\":{\"StringMember\":\"bar\",\"ListMember\":[]},"
+        + "\"StructListMember\":[{\"StringMember\":\"baz\"},null],"
+        + "\"DocumentMember\":{\"a\":[1,\"b\",true,null]},"
+        + "\"NullStringMember\":null}";
+
+    private static final List<SdkField<?>> INNER_FIELDS = Arrays.asList(
+        payloadField(MarshallingType.STRING, "StringMember"),
+        payloadField(MarshallingType.LIST, "ListMember",
+                     ListTrait.builder().memberFieldInfo(payloadField(MarshallingType.STRING, "member")).build()));
+
+    private static final List<SdkField<?>> OUTER_FIELDS = Arrays.asList(
+        field(MarshallingType.STRING, MarshallLocation.HEADER, "x-amz-header", null),
+        payloadField(MarshallingType.STRING, "StringMember"),
+        payloadField(MarshallingType.STRING, "NullStringMember"),
+        payloadField(MarshallingType.INTEGER, "IntegerMember"),
+        payloadField(MarshallingType.BOOLEAN, "BooleanMember"),
+        payloadField(MarshallingType.INSTANT, "TimestampMember"),
+        payloadField(MarshallingType.SDK_BYTES, "BlobMember"),
+        payloadField(MarshallingType.LIST, "ListMember",
+                     ListTrait.builder().memberFieldInfo(payloadField(MarshallingType.STRING, "member")).build()),
+        payloadField(MarshallingType.MAP, "MapMember",
+                     MapTrait.builder().valueFieldInfo(payloadField(MarshallingType.INTEGER, "value")).build()),
+        field(MarshallingType.SDK_POJO, MarshallLocation.PAYLOAD, "StructMember", FakeInner::new),
+        payloadField(MarshallingType.LIST, "StructListMember",
+                     ListTrait.builder()
+                              .memberFieldInfo(field(MarshallingType.SDK_POJO, MarshallLocation.PAYLOAD, "member",
+                                                     FakeInner::new))
+                              .build()),
+        payloadField(MarshallingType.DOCUMENT, "DocumentMember"));
+
+    private static final List<SdkField<?>> SCALAR_OUTER_FIELDS = Arrays.asList(
+        payloadField(MarshallingType.STRING, "StringMember"),
+        payloadField(MarshallingType.INTEGER, "IntegerMember"));
+
+    private static final List<SdkField<?>> PAYLOAD_OUTER_FIELDS = Collections.singletonList(
+        field(MarshallingType.SDK_POJO, MarshallLocation.PAYLOAD, "PayloadMember", FakeInner::new, PayloadTrait.create()));
+
+    private static final JsonProtocolUnmarshaller TREE_UNMARSHALLER = unmarshaller(false);
+
+    private static final JsonProtocolUnmarshaller FAST_UNMARSHALLER = unmarshaller(true);
+
+    private static final JsonProtocolUnmarshaller LAZY_UNMARSHALLER = unmarshallerBuilder().enableLazyUnmarshalling(true).build();
+
+    @Test
+    public void fastUnmarshalling_producesSameResultAsTreeUnmarshalling() throws Exception {
+        FakeOuter expected = TREE_UNMARSHALLER.unmarshall(new FakeOuter(), response(JSON));
+        FakeOuter actual = FAST_UNMARSHALLER.unmarshall(new FakeOuter(), response(JSON));
+
+        assertThat(actual).isEqualTo(expected);
+        assertThat(actual.values.get("StringMember")).isEqualTo("foo");
+        assertThat(actual.values.get("IntegerMember")).isEqualTo(42);
+        assertThat(actual.values.get("TimestampMember")).isInstanceOf(Instant.class);
+        assertThat(actual.values.get("BlobMember")).isEqualTo(SdkBytes.fromUtf8String("hello"));
+        assertThat(actual.values.get("ListMember")).isEqualTo(Arrays.asList("a", null, "c"));
+        assertThat(actual.values.get("x-amz-header")).isEqualTo("header-value");
+        assertThat(actual.values.get("DocumentMember")).isInstanceOf(Document.class);
+    }
+
+    @Test
+    public void fastUnmarshalling_mismatchedJsonTypes_producesSameResultAsTreeUnmarshalling() throws Exception {
+        String json = "{\"StringMember\":[\"not\",\"a\",\"string\"],\"StructMember\":\"not a struct\",\"MapMember\":null}";
+
+        FakeOuter expected = TREE_UNMARSHALLER.unmarshall(new FakeOuter(), response(json));
+        FakeOuter actual = FAST_UNMARSHALLER.unmarshall(new FakeOuter(), response(json));
+
+        assertThat(actual).isEqualTo(expected);
+    }
+
+    @Test
+    public void fastUnmarshalling_emptyPayload_producesSameResultAsTreeUnmarshalling() throws Exception {
+        FakeOuter expected = TREE_UNMARSHALLER.unmarshall(new FakeOuter(), response(""));
+        FakeOuter actual = FAST_UNMARSHALLER.unmarshall(new FakeOuter(), response(""));
+
+        assertThat(actual).isEqualTo(expected);
+        assertThat(actual.values.get("x-amz-header")).isEqualTo("header-value");
+    }
+
+    @Test
+    public void fastUnmarshalling_explicitPayloadMember_unmarshallsWholeBodyIntoMember() throws Exception {
+        String json = "{\"StringMember\":\"bar\",\"ListMember\":[\"x\"]}";
+
+        FakePayloadOuter expected = TREE_UNMARSHALLER.unmarshall(new FakePayloadOuter(), response(json));
+        FakePayloadOuter actual = FAST_UNMARSHALLER.unmarshall(new FakePayloadOuter(), response(json));
+
+        assertThat(actual).isEqualTo(expected);
+        assertThat(((FakeInner) actual.values.get("PayloadMember")).values.get("StringMember")).isEqualTo("bar");
+    }
+
+    @Test
+    public void fastUnmarshalling_malformedPayload_failsLikeTreeUnmarshalling() {
+        String json = "{\"StringMember\":\"foo\",\"ListMember\":[\"a\",}";
+
+        Throwable expected = catchThrowable(() -> TREE_UNMARSHALLER.unmarshall(new FakeOuter(), response(json)));
+        Throwable actual = catchThrowable(() -> FAST_UNMARSHALLER.unmarshall(new FakeOuter(), response(json)));
+        Throwable lazy = catchThrowable(() -> LAZY_UNMARSHALLER.unmarshall(new FakeOuter(), response(json)));
+
+        assertThat(expected).isInstanceOf(UncheckedIOException.class).hasCauseInstanceOf(JsonParseException.class);
+        assertThat(actual).isInstanceOf(expected.getClass()).hasCauseInstanceOf(expected.getCause().getClass());
+        assertThat(lazy).isInstanceOf(expected.getClass()).hasCauseInstanceOf(expected.getCause().getClass());
+    }
+
+    @Test
+    public void lazyUnmarshalling_defersListAndMapMembers() throws Exception {
+        FakeOuter expected = TREE_UNMARSHALLER.unmarshall(new FakeOuter(), response(JSON));
+        FakeOuter actual = LAZY_UNMARSHALLER.unmarshall(new FakeOuter(), response(JSON));
+
+        assertThat(actual.values.get("ListMember")).isInstanceOf(LazySdkList.class);
+        assertThat(actual.values.get("StructListMember")).isInstanceOf(LazySdkList.class);
+        assertThat(actual.values.get("MapMember")).isInstanceOf(LazySdkMap.class);
+        assertThat(actual).isEqualTo(expected);
+        assertThat(expected).isEqualTo(actual);
+        assertThat(actual.hashCode()).isEqualTo(expected.hashCode());
+    }
+
+    @Test
+    public void lazyUnmarshalling_membersOfDeferredMembersAreNotDeferred() throws Exception {
+        FakeOuter actual = LAZY_UNMARSHALLER.unmarshall(new FakeOuter(), response(JSON));
+
+        FakeInner struct = (FakeInner) actual.values.get("StructMember");
+        assertThat(struct.values.get("ListMember")).isNotInstanceOf(LazySdkList.class);
+        List<?> structList = (List<?>) actual.values.get("StructListMember");
+        assertThat(((FakeInner) structList.get(0)).values.get("StringMember")).isEqualTo("baz");
+    }
+
+    @Test
+    public void lazyUnmarshalling_mismatchedJsonTypes_producesSameResultAsTreeUnmarshalling() throws Exception {
+        String json = "{\"ListMember\":[[\"not\",\"a\",\"string\"]]}";
+
+        FakeOuter expected = TREE_UNMARSHALLER.unmarshall(new FakeOuter(), response(json));
+        FakeOuter actual = LAZY_UNMARSHALLER.unmarshall(new FakeOuter(), response(json));
+
+        assertThat(actual).isEqualTo(expected);
+    }
+
+    @Test
+    public void lazyUnmarshalling_noListOrMapMembers_readsPayloadWithoutCopyingIt() throws Exception {
+        String json = "{\"StringMember\":\"foo\",\"IntegerMember\":42}";
+        InputStream failsAfterPayload = new SequenceInputStream(new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)),
+                                                                new InputStream() {
+                                                                    @Override
+                                                                    public int read() throws IOException {
+                                                                        throw new IOException("Read past the payload");
+                                                                    }
+                                                                });
+        SdkHttpFullResponse response = ValidSdkObjects.sdkHttpFullResponse()
+                                                      .content(AbortableInputStream.create(failsAfterPayload))
+                                                      .build();
+
+        FakeScalarOuter expected = TREE_UNMARSHALLER.unmarshall(new FakeScalarOuter(), response(json));
+        FakeScalarOuter actual = LAZY_UNMARSHALLER.unmarshall(new FakeScalarOuter(), response);
+
+        assertThat(actual).isEqualTo(expected);
+    }
+
+    @Test
+    public void lazyUnmarshalling_deferredMembers_doNotRetainResponse() throws Exception {
+        WeakReference<SdkHttpFullResponse> response = new WeakReference<>(response(JSON));
+        FakeOuter actual = LAZY_UNMARSHALLER.unmarshall(new FakeOuter(), response.get());
+
+        for (int i = 0; i < 10 && response.get() != null; i++) {
+            System.gc();
+            Thread.sleep(10);
+        }
+
+        assertThat(response.get()).isNull();
+        assertThat(actual.values.get("ListMember")).isEqualTo(Arrays.asList("a", null, "c"));
+    }
+
+    private static JsonProtocolUnmarshaller unmarshaller(boolean enableFastUnmarshalling) {
+        return unmarshallerBuilder().enableFastUnmarshalling(enableFastUnmarshalling).build();
+    }
+
+    private static JsonProtocolUnmarshaller.Builder unmarshallerBuilder() {
+        Map<MarshallLocation, TimestampFormatTrait.Format> formats = new HashMap<>();
+        formats.put(MarshallLocation.HEADER, TimestampFormatTrait.Format.RFC_822);
+        formats.put(MarshallLocation.PAYLOAD, TimestampFormatTrait.Format.UNIX_TIMESTAMP);
+        return JsonProtocolUnmarshaller.builder()
+                                       .parser(JsonNodeParser.create())
+                                       .defaultTimestampFormats(formats);
+    }
+
+    private static SdkHttpFullResponse response(String json) {
+        byte[] content = json.getBytes(StandardCharsets.UTF_8);
+        return ValidSdkObjects.sdkHttpFullResponse()
+                              .putHeader("x-amz-header", "header-value")
+                              .content(AbortableInputStream.create(new ByteArrayInputStream(content)))
+                              .build();
+    }
+
+    private static <T> SdkField<T> field(MarshallingType<? super T> type, MarshallLocation location, String name,
+                                         Supplier<SdkPojo> constructor, Trait... traits) {
+        SdkField.Builder<T> builder =
+            SdkField.<T>builder(type)
+                    .memberName(name)
+                    .getter(o -> null)
+                    .setter((o, v) -> ((FakePojo) o).set(name, v))
+                    .constructor(constructor);
+        Trait[] allTraits = Arrays.copyOf(traits, traits.length + 1);
+        allTraits[traits.length] = LocationTrait.builder().location(location).locationName(name).build();
+        return builder.traits(allTraits).build();
+    }
+
+    private static <T> SdkField<T> payloadField(MarshallingType<? super T> type, String name,
+                                                Trait... traits) {
+        return field(type, MarshallLocation.PAYLOAD, name, null, traits);
+    }
+
+    private abstract static class FakePojo implements SdkPojo, Buildable {
+        final Map<String, Object> values = new HashMap<>();
+
+        /**
+         * Null values are not recorded, matching generated builders where setting a member to null is the same as never
+         * setting it.
+         */
+        private void set(String name, Object value) {
+            if (value != null) {
+                values.put(name, value);
+            }
+        }
+
+        @Override
+        public Object build() {
+            return this;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o != null && getClass() == o.getClass() && values.equals(((FakePojo) o).values);
+        }
+
+        @Override
+        public int hashCode() {
+            return values.hashCode();
+        }
+    }
+
+    private static final class FakeOuter extends FakePojo {
+        @Override
+        public List<SdkField<?>> sdkFields() {
+            return OUTER_FIELDS;
+        }
+    }
+
+    private static final class FakeInner extends FakePojo {
+        @Override
+        public List<SdkField<?>> sdkFields() {
+            return INNER_FIELDS;
+        }
+    }
+
+    private static final class FakeScalarOuter extends FakePojo {
+        @Override
+        public List<SdkField<?>> sdkFields() {
+            return SCALAR_OUTER_FIELDS;
+        }
+    }
+
+    private static final class FakePayloadOuter extends FakePojo {
+        @Override
+        public List<SdkField<?>> sdkFields() {
+            return PAYLOAD_OUTER_FIELDS;
+        }
+    }
+}
@@ -25,6 +25,7 @@ import software.amazon.awssdk.annotations.SdkProtectedApi;
 import software.amazon.awssdk.awscore.AwsResponse;
 import software.amazon.awssdk.awscore.exception.AwsServiceException;
 import software.amazon.awssdk.core.SdkPojo;
+import software.amazon.awssdk.core.client.config.SdkAdvancedClientOption;
 import software.amazon.awssdk.core.client.config.SdkClientConfiguration;
 import software.amazon.awssdk.core.client.config.SdkClientOption;
 import software.amazon.awssdk.core.http.HttpResponseHandler;
@@ -50,9 +51,12 @@ public class AwsQueryProtocolFactory {
     private final List<ExceptionMetadata> modeledExceptions;
     private final Supplier<SdkPojo> defaultServiceExceptionSupplier;
     private final MetricCollectingHttpResponseHandler<AwsServiceException> errorUnmarshaller;
+    private final boolean enableFastUnmarshalling;
 
     AwsQueryProtocolFactory(Builder<?> builder) {
         this.clientConfiguration = builder.clientConfiguration;
+        this.enableFastUnmarshalling = builder.enableFastUnmarshalling ||
+                                       isFastUnmarshallingEnabled(builder.clientConfiguration);
         this.modeledExceptions = unmodifiableList(builder.modeledExceptions);
         this.defaultServiceExceptionSupplier = builder.defaultServiceExceptionSupplier;
         this.errorUnmarshaller = timeUnmarshalling(AwsXmlErrorProtocolUnmarshaller
@@ -65,6 +69,11 @@ public class AwsQueryProtocolFactory {
             .build());
     }
 
+    private static boolean isFastUnmarshallingEnabled(SdkClientConfiguration clientConfiguration) {
+        return clientConfiguration != null &&
+               Boolean.TRUE.equals(clientConfiguration.option(SdkAdvancedClientOption.ENABLE_FAST_UNMARSHALLING));
+    }
+
     /**
      * Creates a new marshaller for the given request.
      *
@@ -73,10 +82,24 @@ public class AwsQueryProtocolFactory {
      */
     public final ProtocolMarshaller<SdkHttpFullRequest> createProtocolMarshaller(
         OperationInfo operationInfo) {
+        return createProtocolMarshaller(operationInfo, null);
+    }
+
+    /**
+     * Creates a marshaller that writes the query parameters of the request with the given {@link QueryParameterWriter}
+     * instead of iterating over the fields of the request.
+     *
+     * @param operationInfo Object containing metadata about the operation.
+     * @param parameterWriter Writer for the members of the request, or null to marshall all members by field.
+     * @return New {@link ProtocolMarshaller}.
+     */
+    public final <T extends SdkPojo> ProtocolMarshaller<SdkHttpFullRequest> createProtocolMarshaller(
+        OperationInfo operationInfo, QueryParameterWriter<T> parameterWriter) {
         return QueryProtocolMarshaller.builder()
                                       .endpoint(clientConfiguration.option(SdkClientOption.ENDPOINT))
                                       .operationInfo(operationInfo)
                                       .isEc2(isEc2())
+                                      .parameterWriter(parameterWriter)
                                       .build();
     }
 
@@ -90,6 +113,8 @@ public class AwsQueryProtocolFactory {
     public final <T extends AwsResponse> HttpResponseHandler<T> createResponseHandler(Supplier<SdkPojo> pojoSupplier) {
         return timeUnmarshalling(new AwsQueryResponseHandler<>(QueryProtocolUnmarshaller.builder()
                                                                                         .hasResultWrapper(!isEc2())
+                                                                                        .enableFastUnmarshalling(
+                                                                                            enableFastUnmarshalling)
                                                                                         .build(), r -> pojoSupplier.get()));
     }
 
@@ -140,6 +165,7 @@ public class AwsQueryProtocolFactory {
         private final List<ExceptionMetadata> modeledExceptions = new ArrayList<>();
         private SdkClientConfiguration clientConfiguration;
         private Supplier<SdkPojo> defaultServiceExceptionSupplier;
+        private boolean enableFastUnmarshalling = false;
 
         Builder() {
         }
@@ -178,6 +204,19 @@ public class AwsQueryProtocolFactory {
             return getSubclass();
         }
 
+        /**
+         * Whether successful responses should be unmarshalled directly from the XML event stream, without first parsing the
+         * whole response into an intermediate tree. Error responses are not affected. This is also enabled by the
+         * {@link SdkAdvancedClientOption#ENABLE_FAST_UNMARSHALLING} option of the client. Defaults to false.
+         *
+         * @param enableFastUnmarshalling True to unmarshall successful responses directly from the XML event stream.
+         * @return This builder for method chaining.
+         */
+        public final SubclassT enableFastUnmarshalling(boolean enableFastUnmarshalling) {
+            this.enableFastUnmarshalling = enableFastUnmarshalling;
+            return getSubclass();
+        }
+
         @SuppressWarnings("unchecked")
         private SubclassT getSubclass() {
             return (SubclassT) this;
@@ -0,0 +1,43 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.protocols.query;
+
+import software.amazon.awssdk.annotations.SdkProtectedApi;
+import software.amazon.awssdk.core.SdkPojo;
+import software.amazon.awssdk.http.SdkHttpFullRequest;
+
+/**
+ * Writes the members of a request as AWS/Query (or EC2) query parameters. Implementations are generated per request shape so
+ * that the parameters can be written without iterating over the {@link software.amazon.awssdk.core.SdkField}s of the request
+ * and looking up a marshaller for each of them.
+ *
+ * <p>The writer is only responsible for the parameters of the request members. The {@code Action} and {@code Version}
+ * parameters, as well as the rest of the request, are still set up by the protocol marshaller.
+ *
+ * @param <T> Type of the request being written.
+ */
+@SdkProtectedApi
+@FunctionalInterface
+public interface QueryParameterWriter<T extends SdkPojo> {
+
+    /**
+     * Writes the members of the given request as raw query parameters of the HTTP request.
+     *
+     * @param pojo Request to write.
+     * @param request HTTP request to add the query parameters to.
+     */
+    void write(T pojo, SdkHttpFullRequest.Builder request);
+}
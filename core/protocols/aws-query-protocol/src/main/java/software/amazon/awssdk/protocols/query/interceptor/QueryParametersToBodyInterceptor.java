@@ -27,8 +27,8 @@ import software.amazon.awssdk.core.interceptor.ExecutionInterceptor;
 import software.amazon.awssdk.http.SdkHttpFullRequest;
 import software.amazon.awssdk.http.SdkHttpMethod;
 import software.amazon.awssdk.http.SdkHttpRequest;
+import software.amazon.awssdk.protocols.query.internal.marshall.FormDataWriter;
 import software.amazon.awssdk.utils.CollectionUtils;
-import software.amazon.awssdk.utils.http.SdkHttpUtils;
 
 /**
  * Modifies an HTTP request by moving query parameters to the body under the following conditions:
@@ -68,8 +68,7 @@ public final class QueryParametersToBodyInterceptor implements ExecutionIntercep
     }
 
     private SdkHttpRequest changeQueryParametersToFormData(SdkHttpFullRequest input) {
-        byte[] params = SdkHttpUtils.encodeAndFlattenFormData(input.rawQueryParameters()).orElse("")
-                .getBytes(StandardCharsets.UTF_8);
+        byte[] params = FormDataWriter.encode(input.rawQueryParameters());
 
         return input.toBuilder().clearQueryParameters()
                 .contentStreamProvider(() -> new ByteArrayInputStream(params))
@@ -0,0 +1,180 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.protocols.query.internal.marshall;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.utils.Validate;
+import software.amazon.awssdk.utils.http.SdkHttpUtils;
+
+/**
+ * Writes form data as an {@code application/x-www-form-urlencoded} body, directly as UTF-8 bytes.
+ *
+ * <p>The output is byte for byte the same as
+ * {@code SdkHttpUtils.encodeAndFlattenFormData(formData).orElse("").getBytes(UTF_8)}, which the request signer relies on,
+ * but it avoids creating an encoded copy of every key and value, the intermediate map and string holding them, and the
+ * final string to byte conversion. Characters are encoded with a precomputed table and written into a buffer that is reused
+ * by each thread.
+ */
+@SdkInternalApi
+@ThreadSafe
+public final class FormDataWriter {
+
+    private static final int INITIAL_BUFFER_SIZE = 1024;
+
+    /**
+     * Buffers that grew beyond this size while writing an unusually large request are not retained by the thread.
+     */
+    private static final int MAX_RETAINED_BUFFER_SIZE = 64 * 1024;
+
+    /**
+     * The most bytes a single character can be written as: the percent-encoded four byte UTF-8 form of a surrogate pair.
+     */
+    private static final int MAX_ENCODED_CHAR_LENGTH = 12;
+
+    private static final byte[] HEX_DIGITS = {'0', '1', '2', '3', '4', '5', '6', '7', '8', '9', 'A', 'B', 'C', 'D', 'E', 'F'};
+
+    /**
+     * For each ASCII character, the byte it is written as, or 0 if it has to be percent-encoded. Matches the characters that
+     * {@link java.net.URLEncoder} leaves as they are.
+     */
+    private static final byte[] ASCII_ENCODING = asciiEncoding();
+
+    private static final ThreadLocal<FormDataWriter> WRITERS = ThreadLocal.withInitial(FormDataWriter::new);
+
+    private byte[] buffer = new byte[INITIAL_BUFFER_SIZE];
+    private int count;
+
+    private FormDataWriter() {
+    }
+
+    /**
+     * Encodes and flattens the given form data, in iteration order, into a form data request body.
+     *
+     * @param formData Unencoded form data. Parameters with a null list of values are skipped, and null values are written
+     * as a key without a value.
+     * @return The UTF-8 bytes of the form data body. Empty if there is no form data.
+     * @see SdkHttpUtils#encodeAndFlattenFormData(Map)
+     */
+    public static byte[] encode(Map<String, List<String>> formData) {
+        Validate.notNull(formData, "Form data must not be null.");
+        FormDataWriter writer = WRITERS.get();
+        try {
+            writer.writeFormData(formData);
+            return Arrays.copyOf(writer.buffer, writer.count);
+        } finally {
+            writer.reset();
+        }
+    }
+
+    private void writeFormData(Map<String, List<String>> formData) {
+        for (Map.Entry<String, List<String>> parameter : formData.entrySet()) {
+            List<String> values = parameter.getValue();
+            if (values == null) {
+                continue;
+            }
+            for (String value : values) {
+                if (count > 0) {
+                    writeByte('&');
+                }
+                writeEncoded(parameter.getKey());
+                if (value != null) {
+                    writeByte('=');
+                    writeEncoded(value);
+                }
+            }
+        }
+    }
+
+    private void writeEncoded(String value) {
+        int length = value.length();
+        for (int i = 0; i < length; i++) {
+            ensureCapacity(MAX_ENCODED_CHAR_LENGTH);
+            char c = value.charAt(i);
+            if (c < 0x80) {
+                byte encoded = ASCII_ENCODING[c];
+                if (encoded != 0) {
+                    buffer[count++] = encoded;
+                } else {
+                    writePercentEncoded(c);
+                }
+            } else if (c < 0x800) {
+                writePercentEncoded(0xC0 | (c >> 6));
+                writePercentEncoded(0x80 | (c & 0x3F));
+            } else if (Character.isHighSurrogate(c) && i + 1 < length && Character.isLowSurrogate(value.charAt(i + 1))) {
+                int codePoint = Character.toCodePoint(c, value.charAt(++i));
+                writePercentEncoded(0xF0 | (codePoint >> 18));
+                writePercentEncoded(0x80 | ((codePoint >> 12) & 0x3F));
+                writePercentEncoded(0x80 | ((codePoint >> 6) & 0x3F));
+                writePercentEncoded(0x80 | (codePoint & 0x3F));
+            } else if (Character.isSurrogate(c)) {
+                // Unpaired surrogates can't be encoded as UTF-8 and are replaced, the same way String#getBytes does.
+                writePercentEncoded('?');
+            } else {
+                writePercentEncoded(0xE0 | (c >> 12));
+                writePercentEncoded(0x80 | ((c >> 6) & 0x3F));
+                writePercentEncoded(0x80 | (c & 0x3F));
+            }
+        }
+    }
+
+    private void writePercentEncoded(int b) {
+        buffer[count++] = '%';
+        buffer[count++] = HEX_DIGITS[(b >> 4) & 0xF];
+        buffer[count++] = HEX_DIGITS[b & 0xF];
+    }
+
+    private void writeByte(char c) {
+        ensureCapacity(1);
+        buffer[count++] = (byte) c;
+    }
+
+    private void ensureCapacity(int additionalBytes) {
+        int minCapacity = count + additionalBytes;
+        if (minCapacity > buffer.length) {
+            buffer = Arrays.copyOf(buffer, Math.max(minCapacity, buffer.length << 1));
+        }
+    }
+
+    private void reset() {
+        count = 0;
+        if (buffer.length > MAX_RETAINED_BUFFER_SIZE) {
+            buffer = new byte[INITIAL_BUFFER_SIZE];
+        }
+    }
+
+    private static byte[] asciiEncoding() {
+        byte[] encoding = new byte[0x80];
+        for (char c = 'a'; c <= 'z'; c++) {
+            encoding[c] = (byte) c;
+        }
+        for (char c = 'A'; c <= 'Z'; c++) {
+            encoding[c] = (byte) c;
+        }
+        for (char c = '0'; c <= '9'; c++) {
+            encoding[c] = (byte) c;
+        }
+        encoding['.'] = '.';
+        encoding['-'] = '-';
+        encoding['*'] = '*';
+        encoding['_'] = '_';
+        encoding[' '] = '+';
+        return encoding;
+    }
+}
@@ -40,11 +40,11 @@ public class ListQueryMarshaller implements QueryMarshaller<List<?>> {
             context.request().putRawQueryParameter(path, "");
             return;
         }
+        ListTrait listTrait = sdkField.getTrait(ListTrait.class);
+        QueryMarshaller<Object> marshaller = context.marshallerRegistry().getMarshaller(
+            ((SdkField<?>) listTrait.memberFieldInfo()).marshallingType(), val);
         for (int i = 0; i < val.size(); i++) {
-            ListTrait listTrait = sdkField.getTrait(ListTrait.class);
             String listPath = pathResolver.resolve(path, i, listTrait);
-            QueryMarshaller<Object> marshaller = context.marshallerRegistry().getMarshaller(
-                ((SdkField<?>) listTrait.memberFieldInfo()).marshallingType(), val);
             marshaller.marshall(context, listPath, val.get(i), listTrait.memberFieldInfo());
         }
     }
@@ -63,8 +63,8 @@ public class ListQueryMarshaller implements QueryMarshaller<List<?>> {
     public static ListQueryMarshaller awsQuery() {
         return new ListQueryMarshaller((path, i, listTrait) ->
                                            listTrait.isFlattened() ?
-                                           String.format("%s.%d", path, i + 1) :
-                                           String.format("%s.%s.%d", path, listTrait.memberFieldInfo().locationName(), i + 1));
+                                           path + "." + (i + 1) :
+                                           path + "." + listTrait.memberFieldInfo().locationName() + "." + (i + 1));
     }
 
     /**
@@ -74,6 +74,6 @@ public class ListQueryMarshaller implements QueryMarshaller<List<?>> {
      * @return ListQueryMarshaller.
      */
     public static ListQueryMarshaller ec2Query() {
-        return new ListQueryMarshaller((path, i, listTrait) -> String.format("%s.%d", path, i + 1));
+        return new ListQueryMarshaller((path, i, listTrait) -> path + "." + (i + 1));
     }
 }
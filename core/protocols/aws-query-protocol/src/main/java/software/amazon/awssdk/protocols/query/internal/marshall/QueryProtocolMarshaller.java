@@ -24,6 +24,7 @@ import software.amazon.awssdk.http.SdkHttpFullRequest;
 import software.amazon.awssdk.protocols.core.OperationInfo;
 import software.amazon.awssdk.protocols.core.ProtocolMarshaller;
 import software.amazon.awssdk.protocols.core.ProtocolUtils;
+import software.amazon.awssdk.protocols.query.QueryParameterWriter;
 
 /**
  * Implementation of {@link ProtocolMarshaller} for AWS Query services.
@@ -43,11 +44,13 @@ public final class QueryProtocolMarshaller
     private final SdkHttpFullRequest.Builder request;
     private final QueryMarshallerRegistry registry;
     private final URI endpoint;
+    private final QueryParameterWriter<SdkPojo> parameterWriter;
 
     private QueryProtocolMarshaller(Builder builder) {
         this.endpoint = builder.endpoint;
         this.request = fillBasicRequestParams(builder.operationInfo);
         this.registry = builder.isEc2 ? EC2_QUERY_MARSHALLER_REGISTRY : AWS_QUERY_MARSHALLER_REGISTRY;
+        this.parameterWriter = builder.parameterWriter;
     }
 
     private SdkHttpFullRequest.Builder fillBasicRequestParams(OperationInfo operationInfo) {
@@ -59,6 +62,10 @@ public final class QueryProtocolMarshaller
 
     @Override
     public SdkHttpFullRequest marshall(SdkPojo pojo) {
+        if (parameterWriter != null) {
+            parameterWriter.write(pojo, request);
+            return request.build();
+        }
         QueryMarshallerContext context = QueryMarshallerContext.builder()
                                                                .request(request)
                                                                .protocolHandler(this)
@@ -113,6 +120,7 @@ public final class QueryProtocolMarshaller
         private OperationInfo operationInfo;
         private boolean isEc2;
         private URI endpoint;
+        private QueryParameterWriter<SdkPojo> parameterWriter;
 
         /**
          * @param operationInfo Metadata about the operation like URI, HTTP method, etc.
@@ -142,6 +150,17 @@ public final class QueryProtocolMarshaller
             return this;
         }
 
+        /**
+         * @param parameterWriter Generated writer for the query parameters of the request. If null, all members are
+         * marshalled by iterating over the fields of the request.
+         * @return This builder for method chaining.
+         */
+        @SuppressWarnings("unchecked")
+        public Builder parameterWriter(QueryParameterWriter<? extends SdkPojo> parameterWriter) {
+            this.parameterWriter = (QueryParameterWriter<SdkPojo>) parameterWriter;
+            return this;
+        }
+
         /**
          * @return New instance of {@link QueryProtocolMarshaller}.
          */
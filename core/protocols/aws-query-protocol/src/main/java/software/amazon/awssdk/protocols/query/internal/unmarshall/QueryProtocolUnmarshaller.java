@@ -21,9 +21,12 @@ import static software.amazon.awssdk.protocols.query.internal.marshall.SimpleTyp
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
 import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.core.SdkField;
 import software.amazon.awssdk.core.SdkPojo;
+import software.amazon.awssdk.core.exception.SdkClientException;
 import software.amazon.awssdk.core.protocol.MarshallingType;
 import software.amazon.awssdk.http.SdkHttpFullResponse;
 import software.amazon.awssdk.protocols.core.StringToInstant;
@@ -31,6 +34,8 @@ import software.amazon.awssdk.protocols.core.StringToValueConverter;
 import software.amazon.awssdk.protocols.query.unmarshall.XmlDomParser;
 import software.amazon.awssdk.protocols.query.unmarshall.XmlElement;
 import software.amazon.awssdk.protocols.query.unmarshall.XmlErrorUnmarshaller;
+import software.amazon.awssdk.protocols.query.unmarshall.XmlStreamParser;
+import software.amazon.awssdk.protocols.query.unmarshall.XmlStreamUnmarshaller;
 import software.amazon.awssdk.utils.CollectionUtils;
 import software.amazon.awssdk.utils.Pair;
 import software.amazon.awssdk.utils.builder.Buildable;
@@ -61,14 +66,36 @@ public final class QueryProtocolUnmarshaller implements XmlErrorUnmarshaller {
             context.protocolUnmarshaller().unmarshall(context, field.constructor().get(), content.get(0)))
         .build();
 
+    private static final XmlStreamUnmarshaller STREAM_UNMARSHALLER = XmlStreamUnmarshaller
+        .builder()
+        .simpleTypeConverter(MarshallingType.STRING, StringToValueConverter.TO_STRING)
+        .simpleTypeConverter(MarshallingType.INTEGER, StringToValueConverter.TO_INTEGER)
+        .simpleTypeConverter(MarshallingType.LONG, StringToValueConverter.TO_LONG)
+        .simpleTypeConverter(MarshallingType.SHORT, StringToValueConverter.TO_SHORT)
+        .simpleTypeConverter(MarshallingType.FLOAT, StringToValueConverter.TO_FLOAT)
+        .simpleTypeConverter(MarshallingType.DOUBLE, StringToValueConverter.TO_DOUBLE)
+        .simpleTypeConverter(MarshallingType.BOOLEAN, StringToValueConverter.TO_BOOLEAN)
+        .simpleTypeConverter(MarshallingType.INSTANT, StringToInstant.create(defaultTimestampFormats()))
+        .simpleTypeConverter(MarshallingType.SDK_BYTES, StringToValueConverter.TO_SDK_BYTES)
+        .matchListMembersByName(false)
+        .build();
+
+    private static final String RESPONSE_METADATA = "ResponseMetadata";
+    private static final String REQUEST_ID = "requestId";
+
     private final boolean hasResultWrapper;
+    private final boolean enableFastUnmarshalling;
 
     private QueryProtocolUnmarshaller(Builder builder) {
         this.hasResultWrapper = builder.hasResultWrapper;
+        this.enableFastUnmarshalling = builder.enableFastUnmarshalling;
     }
 
     public <TypeT extends SdkPojo> Pair<TypeT, Map<String, String>> unmarshall(SdkPojo sdkPojo,
                                                                                SdkHttpFullResponse response) {
+        if (enableFastUnmarshalling && response.content().isPresent()) {
+            return unmarshallFromStream(sdkPojo, XmlStreamParser.createReader(response.content().get()));
+        }
         XmlElement document = response.content().map(XmlDomParser::parse).orElseGet(XmlElement::empty);
         XmlElement resultRoot = hasResultWrapper ? document.getFirstChild() : document;
         return Pair.of(unmarshall(sdkPojo, resultRoot, response), parseMetadata(document));
@@ -89,21 +116,65 @@ public final class QueryProtocolUnmarshaller implements XmlErrorUnmarshaller {
         return (TypeT) unmarshall(unmarshallerContext, sdkPojo, resultRoot);
     }
 
+    /**
+     * Unmarshalls the response directly from the XML event stream. The result is read from the first child of the root
+     * element (or the root itself if there's no result wrapper), and the response metadata from the children of the root
+     * element, following the same rules as {@link #unmarshall(SdkPojo, SdkHttpFullResponse)} uses for the parsed document.
+     */
+    @SuppressWarnings("unchecked")
+    private <TypeT extends SdkPojo> Pair<TypeT, Map<String, String>> unmarshallFromStream(SdkPojo sdkPojo,
+                                                                                          XMLStreamReader reader) {
+        Map<String, String> metadata = new HashMap<>();
+        try {
+            if (hasResultWrapper) {
+                boolean isFirstChild = true;
+                while (XmlStreamParser.nextChildElement(reader)) {
+                    if (isFirstChild && !RESPONSE_METADATA.equals(reader.getLocalName())) {
+                        STREAM_UNMARSHALLER.readMembers(sdkPojo, reader, XmlStreamUnmarshaller.UnknownElementHandler.SKIP);
+                    } else {
+                        readMetadataElement(reader, metadata);
+                    }
+                    isFirstChild = false;
+                }
+            } else {
+                STREAM_UNMARSHALLER.readMembers(sdkPojo, reader, r -> readMetadataElement(r, metadata));
+            }
+        } catch (XMLStreamException e) {
+            throw SdkClientException.create("Could not parse XML response.", e);
+        } finally {
+            XmlStreamParser.closeQuietly(reader);
+        }
+        return Pair.of((TypeT) ((Buildable) sdkPojo).build(), metadata);
+    }
+
+    private void readMetadataElement(XMLStreamReader reader, Map<String, String> metadata) throws XMLStreamException {
+        String elementName = reader.getLocalName();
+        if (RESPONSE_METADATA.equals(elementName)) {
+            while (XmlStreamParser.nextChildElement(reader)) {
+                metadata.put(metadataKeyName(reader.getLocalName()), XmlStreamParser.readText(reader));
+            }
+        } else if (REQUEST_ID.equals(elementName)) {
+            metadata.put(AWS_REQUEST_ID, XmlStreamParser.readText(reader));
+        } else {
+            XmlStreamParser.skipElement(reader);
+        }
+    }
+
     private Map<String, String> parseMetadata(XmlElement document) {
-        XmlElement responseMetadata = document.getElementByName("ResponseMetadata");
+        XmlElement responseMetadata = document.getElementByName(RESPONSE_METADATA);
         Map<String, String> metadata = new HashMap<>();
         if (responseMetadata != null) {
-            responseMetadata.children().forEach(c -> metadata.put(metadataKeyName(c), c.textContent()));
+            responseMetadata.children().forEach(c -> metadata.put(metadataKeyName(c.elementName()), c.textContent()));
         }
-        XmlElement requestId = document.getElementByName("requestId");
+        XmlElement requestId = document.getElementByName(REQUEST_ID);
         if (requestId != null) {
             metadata.put(AWS_REQUEST_ID, requestId.textContent());
         }
         return metadata;
     }
 
-    private String metadataKeyName(XmlElement c) {
-        return c.elementName().equals("RequestId") ? AWS_REQUEST_ID : c.elementName();
+    private String metadataKeyName(String elementName) {
+        return elementName.equals("RequestId") ? AWS_REQUEST_ID : elementName;
     }
 
     private SdkPojo unmarshall(QueryUnmarshallerContext context, SdkPojo sdkPojo, XmlElement root) {
@@ -134,6 +205,7 @@ public final class QueryProtocolUnmarshaller implements XmlErrorUnmarshaller {
     public static final class Builder {
 
         private boolean hasResultWrapper;
+        private boolean enableFastUnmarshalling;
 
         private Builder() {
         }
@@ -183,6 +255,19 @@ public final class QueryProtocolUnmarshaller implements XmlErrorUnmarshaller {
             return this;
         }
 
+        /**
+         * Whether successful responses should be unmarshalled directly from the XML event stream, instead of first being
+         * parsed into an {@link XmlElement} tree. This only applies to {@link #unmarshall(SdkPojo, SdkHttpFullResponse)};
+         * errors are always unmarshalled from the parsed document.
+         *
+         * @param enableFastUnmarshalling True to unmarshall directly from the XML event stream.
+         * @return This builder for method chaining.
+         */
+        public Builder enableFastUnmarshalling(boolean enableFastUnmarshalling) {
+            this.enableFastUnmarshalling = enableFastUnmarshalling;
+            return this;
+        }
+
         /**
          * @return New instance of {@link QueryProtocolUnmarshaller}.
          */
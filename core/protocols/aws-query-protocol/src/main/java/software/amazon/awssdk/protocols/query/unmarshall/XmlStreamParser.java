@@ -0,0 +1,204 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.protocols.query.unmarshall;
+
+import java.io.InputStream;
+import java.util.HashMap;
+import java.util.Map;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import software.amazon.awssdk.annotations.SdkProtectedApi;
+import software.amazon.awssdk.core.exception.SdkClientException;
+
+/**
+ * Helpers for reading an XML document through the StAX cursor API ({@link XMLStreamReader}) without building an
+ * {@link XmlElement} tree for it.
+ *
+ * <p>All methods that take a reader positioned on a {@link XMLStreamConstants#START_ELEMENT} consume that element
+ * completely and leave the reader positioned on its matching {@link XMLStreamConstants#END_ELEMENT}. Text and attributes are
+ * read with the same rules as {@link XmlDomParser}, so values are identical regardless of which parser is used.
+ */
+@SdkProtectedApi
+public final class XmlStreamParser {
+
+    private static final ThreadLocal<XMLInputFactory> FACTORY =
+        ThreadLocal.withInitial(XmlStreamParser::createXmlInputFactory);
+
+    private XmlStreamParser() {
+    }
+
+    /**
+     * Creates a new reader over the given content and advances it to the start of the root element.
+     *
+     * @param inputStream XML content.
+     * @return Reader positioned on the root element.
+     * @throws SdkClientException If the content could not be read or has no root element.
+     */
+    public static XMLStreamReader createReader(InputStream inputStream) {
+        try {
+            XMLStreamReader reader = FACTORY.get().createXMLStreamReader(inputStream);
+            while (reader.hasNext()) {
+                if (reader.next() == XMLStreamConstants.START_ELEMENT) {
+                    return reader;
+                }
+            }
+            throw SdkClientException.create("Could not parse XML response.");
+        } catch (XMLStreamException e) {
+            throw SdkClientException.create("Could not parse XML response.", e);
+        }
+    }
+
+    /**
+     * Advances to the next direct child element of the element currently being read.
+     *
+     * @param reader Reader positioned on the start of the parent, or the end of one of its children.
+     * @return True if the reader is now positioned on the start of the next child, false if the end of the parent was
+     * reached.
+     */
+    public static boolean nextChildElement(XMLStreamReader reader) throws XMLStreamException {
+        while (true) {
+            int event = reader.next();
+            if (event == XMLStreamConstants.START_ELEMENT) {
+                return true;
+            }
+            if (event == XMLStreamConstants.END_ELEMENT) {
+                return false;
+            }
+        }
+    }
+
+    /**
+     * Skips over the current element and all of its descendants.
+     */
+    public static void skipElement(XMLStreamReader reader) throws XMLStreamException {
+        int depth = 1;
+        while (depth > 0) {
+            int event = reader.next();
+            if (event == XMLStreamConstants.START_ELEMENT) {
+                depth++;
+            } else if (event == XMLStreamConstants.END_ELEMENT) {
+                depth--;
+            }
+        }
+    }
+
+    /**
+     * Reads the text content of the current element. Like {@link XmlElement#textContent()}, this is the last run of character
+     * data directly within the element, or an empty string if there is none. Child elements are skipped.
+     */
+    public static String readText(XMLStreamReader reader) throws XMLStreamException {
+        String text = "";
+        StringBuilder run = null;
+        while (true) {
+            int event = reader.next();
+            if (isCharacters(event)) {
+                if (run == null) {
+                    run = new StringBuilder();
+                }
+                run.append(reader.getTextCharacters(), reader.getTextStart(), reader.getTextLength());
+                continue;
+            }
+            if (run != null) {
+                text = run.toString();
+                run = null;
+            }
+            if (event == XMLStreamConstants.START_ELEMENT) {
+                skipElement(reader);
+            } else if (event == XMLStreamConstants.END_ELEMENT) {
+                return text;
+            }
+        }
+    }
+
+    /**
+     * Reads the attributes of the current element, keyed by {@code prefix:localName} like {@link XmlElement#attributes()}.
+     */
+    public static Map<String, String> readAttributes(XMLStreamReader reader) {
+        Map<String, String> attributes = new HashMap<>();
+        for (int i = 0; i < reader.getAttributeCount(); i++) {
+            attributes.put(attributeKey(reader, i), reader.getAttributeValue(i));
+        }
+        return attributes;
+    }
+
+    /**
+     * Reads the current element and all of its descendants into an {@link XmlElement}. This allows a caller that is streaming
+     * over a document to fall back to the tree representation, for example when the document turns out to be an error.
+     */
+    public static XmlElement parseElement(XMLStreamReader reader) throws XMLStreamException {
+        XmlElement.Builder elementBuilder = XmlElement.builder().elementName(reader.getLocalName());
+        if (reader.getAttributeCount() > 0) {
+            elementBuilder.attributes(readAttributes(reader));
+        }
+
+        StringBuilder run = null;
+        while (true) {
+            int event = reader.next();
+            if (isCharacters(event)) {
+                if (run == null) {
+                    run = new StringBuilder();
+                }
+                run.append(reader.getTextCharacters(), reader.getTextStart(), reader.getTextLength());
+                continue;
+            }
+            if (run != null) {
+                elementBuilder.textContent(run.toString());
+                run = null;
+            }
+            if (event == XMLStreamConstants.START_ELEMENT) {
+                elementBuilder.addChildElement(parseElement(reader));
+            } else if (event == XMLStreamConstants.END_ELEMENT) {
+                return elementBuilder.build();
+            }
+        }
+    }
+
+    /**
+     * Closes the reader, ignoring any failure. This does not close the underlying input stream.
+     */
+    public static void closeQuietly(XMLStreamReader reader) {
+        try {
+            reader.close();
+        } catch (XMLStreamException e) {
+            // Ignored, the underlying stream is closed by the response handler
+        }
+    }
+
+    private static String attributeKey(XMLStreamReader reader, int index) {
+        String prefix = reader.getAttributePrefix(index);
+        return (prefix == null ? "" : prefix) + ":" + reader.getAttributeLocalName(index);
+    }
+
+    private static boolean isCharacters(int event) {
+        return event == XMLStreamConstants.CHARACTERS
+               || event == XMLStreamConstants.CDATA
+               || event == XMLStreamConstants.SPACE;
+    }
+
+    /**
+     * Disables certain dangerous features that attempt to automatically fetch DTDs
+     *
+     * See <a href="https://www.owasp.org/index.php/XML_External_Entity_(XXE)_Prevention_Cheat_Sheet">OWASP XXE Cheat Sheet</a>
+     */
+    private static XMLInputFactory createXmlInputFactory() {
+        XMLInputFactory factory = XMLInputFactory.newInstance();
+        factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        return factory;
+    }
+}
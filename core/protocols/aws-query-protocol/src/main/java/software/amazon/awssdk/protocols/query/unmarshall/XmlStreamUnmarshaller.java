@@ -0,0 +1,349 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.protocols.query.unmarshall;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import software.amazon.awssdk.annotations.SdkProtectedApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.core.SdkField;
+import software.amazon.awssdk.core.SdkPojo;
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.core.protocol.MarshallLocation;
+import software.amazon.awssdk.core.protocol.MarshallingType;
+import software.amazon.awssdk.core.traits.ListTrait;
+import software.amazon.awssdk.core.traits.MapTrait;
+import software.amazon.awssdk.core.traits.XmlAttributeTrait;
+import software.amazon.awssdk.protocols.core.StringToValueConverter.StringToValue;
+import software.amazon.awssdk.utils.builder.Buildable;
+
+/**
+ * Unmarshalls the payload members of a POJO directly from an {@link XMLStreamReader}, without first parsing the document into
+ * an {@link XmlElement} tree. This is shared by the AWS/Query, EC2 and REST/XML protocols, and follows the same rules their
+ * tree based unmarshallers use to locate members:
+ *
+ * <ul>
+ *     <li>Members are matched against direct children by {@link SdkField#unmarshallLocationName()}. If a member appears more
+ *     than once, the first occurrence is used.</li>
+ *     <li>Flattened lists and maps collect every matching child.</li>
+ *     <li>Map entries are read from their key and value child elements.</li>
+ * </ul>
+ *
+ * <p>Header and status code members are not handled here; they are left to the protocol specific unmarshaller.
+ */
+@SdkProtectedApi
+@ThreadSafe
+public final class XmlStreamUnmarshaller {
+
+    private static final Map<Class<?>, Map<String, SdkField<?>>> PAYLOAD_FIELDS_BY_CLASS = new ConcurrentHashMap<>();
+
+    private final Map<MarshallingType<?>, StringToValue<?>> simpleTypeConverters;
+    private final boolean matchListMembersByName;
+
+    private XmlStreamUnmarshaller(Builder builder) {
+        this.simpleTypeConverters = Collections.unmodifiableMap(new HashMap<>(builder.simpleTypeConverters));
+        this.matchListMembersByName = builder.matchListMembersByName;
+    }
+
+    /**
+     * Handler for child elements that do not correspond to any member of the POJO being unmarshalled.
+     */
+    @FunctionalInterface
+    public interface UnknownElementHandler {
+
+        /**
+         * Skips an element.
+         */
+        UnknownElementHandler SKIP = XmlStreamParser::skipElement;
+
+        /**
+         * @param reader Reader positioned on the start of the unknown element. Implementations must consume the element.
+         */
+        void handle(XMLStreamReader reader) throws XMLStreamException;
+    }
+
+    /**
+     * Unmarshalls the payload members of the POJO from the current element and builds it.
+     *
+     * @param sdkPojo Builder of the POJO to unmarshall into.
+     * @param reader Reader positioned on the start of the element containing the POJO's members.
+     * @return The built POJO.
+     */
+    public SdkPojo unmarshall(SdkPojo sdkPojo, XMLStreamReader reader) throws XMLStreamException {
+        readMembers(sdkPojo, reader, UnknownElementHandler.SKIP);
+        return build(sdkPojo);
+    }
+
+    /**
+     * Sets the payload members of the POJO from the current element, without building it.
+     *
+     * @param sdkPojo Builder of the POJO to unmarshall into.
+     * @param reader Reader positioned on the start of the element containing the POJO's members.
+     * @param unknownElementHandler Handler for children that do not correspond to a member.
+     */
+    public void readMembers(SdkPojo sdkPojo, XMLStreamReader reader, UnknownElementHandler unknownElementHandler)
+            throws XMLStreamException {
+
+        Map<String, SdkField<?>> fields = payloadFieldsByLocationName(sdkPojo);
+        readAttributes(sdkPojo, reader);
+
+        Map<SdkField<?>, Object> flattened = null;
+        Map<SdkField<?>, Boolean> seen = null;
+        while (XmlStreamParser.nextChildElement(reader)) {
+            SdkField<?> field = fields.get(reader.getLocalName());
+            if (field == null) {
+                unknownElementHandler.handle(reader);
+            } else if (isFlattened(field)) {
+                if (flattened == null) {
+                    flattened = new IdentityHashMap<>();
+                }
+                readFlattenedMember(field, reader, flattened);
+            } else {
+                if (seen == null) {
+                    seen = new IdentityHashMap<>();
+                }
+                if (seen.put(field, Boolean.TRUE) == null) {
+                    field.set(sdkPojo, unmarshallValue(field, reader));
+                } else {
+                    XmlStreamParser.skipElement(reader);
+                }
+            }
+        }
+
+        if (flattened != null) {
+            flattened.forEach((f, v) -> f.set(sdkPojo, v));
+        }
+    }
+
+    /**
+     * Unmarshalls the value of a single member from the current element.
+     *
+     * @param field Member being unmarshalled.
+     * @param reader Reader positioned on the start of the element holding the member's value.
+     * @return Unmarshalled value.
+     */
+    public Object unmarshallValue(SdkField<?> field, XMLStreamReader reader) throws XMLStreamException {
+        MarshallingType<?> marshallingType = field.marshallingType();
+        if (marshallingType == MarshallingType.SDK_POJO) {
+            return unmarshall(field.constructor().get(), reader);
+        }
+        if (marshallingType == MarshallingType.LIST) {
+            return unmarshallList(field, reader);
+        }
+        if (marshallingType == MarshallingType.MAP) {
+            Map<String, Object> map = new HashMap<>();
+            MapTrait mapTrait = field.getTrait(MapTrait.class);
+            if (mapTrait.isFlattened()) {
+                readEntry(mapTrait, reader, map);
+            } else {
+                while (XmlStreamParser.nextChildElement(reader)) {
+                    if ("entry".equals(reader.getLocalName())) {
+                        readEntry(mapTrait, reader, map);
+                    } else {
+                        XmlStreamParser.skipElement(reader);
+                    }
+                }
+            }
+            return map;
+        }
+        if (marshallingType == MarshallingType.NULL) {
+            XmlStreamParser.skipElement(reader);
+            return null;
+        }
+        return convert(field, XmlStreamParser.readText(reader));
+    }
+
+    private List<Object> unmarshallList(SdkField<?> field, XMLStreamReader reader) throws XMLStreamException {
+        ListTrait listTrait = field.getTrait(ListTrait.class);
+        SdkField<?> memberInfo = listTrait.memberFieldInfo();
+        List<Object> list = new ArrayList<>();
+        if (listTrait.isFlattened()) {
+            list.add(unmarshallValue(memberInfo, reader));
+            return list;
+        }
+
+        String memberName = matchListMembersByName ? listMemberName(listTrait) : null;
+        while (XmlStreamParser.nextChildElement(reader)) {
+            if (memberName == null || memberName.equals(reader.getLocalName())) {
+                list.add(unmarshallValue(memberInfo, reader));
+            } else {
+                XmlStreamParser.skipElement(reader);
+            }
+        }
+        return list;
+    }
+
+    @SuppressWarnings("unchecked")
+    private void readFlattenedMember(SdkField<?> field, XMLStreamReader reader, Map<SdkField<?>, Object> flattened)
+            throws XMLStreamException {
+
+        if (field.marshallingType() == MarshallingType.LIST) {
+            List<Object> list = (List<Object>) flattened.computeIfAbsent(field, f -> new ArrayList<>());
+            list.add(unmarshallValue(field.getTrait(ListTrait.class).memberFieldInfo(), reader));
+        } else {
+            Map<String, Object> map = (Map<String, Object>) flattened.computeIfAbsent(field, f -> new HashMap<>());
+            readEntry(field.getTrait(MapTrait.class), reader, map);
+        }
+    }
+
+    private void readEntry(MapTrait mapTrait, XMLStreamReader reader, Map<String, Object> map) throws XMLStreamException {
+        String key = null;
+        Object value = null;
+        boolean hasKey = false;
+        boolean hasValue = false;
+        while (XmlStreamParser.nextChildElement(reader)) {
+            String name = reader.getLocalName();
+            if (!hasKey && name.equals(mapTrait.keyLocationName())) {
+                key = XmlStreamParser.readText(reader);
+                hasKey = true;
+            } else if (!hasValue && name.equals(mapTrait.valueLocationName())) {
+                value = unmarshallValue(mapTrait.valueFieldInfo(), reader);
+                hasValue = true;
+            } else {
+                XmlStreamParser.skipElement(reader);
+            }
+        }
+        if (hasKey) {
+            map.put(key, value);
+        }
+    }
+
+    private void readAttributes(SdkPojo sdkPojo, XMLStreamReader reader) {
+        if (reader.getAttributeCount() == 0) {
+            return;
+        }
+        Map<String, String> attributes = null;
+        for (SdkField<?> field : sdkPojo.sdkFields()) {
+            if (field.containsTrait(XmlAttributeTrait.class)) {
+                if (attributes == null) {
+                    attributes = XmlStreamParser.readAttributes(reader);
+                }
+                String value = attributes.get(field.unmarshallLocationName());
+                if (value != null) {
+                    field.set(sdkPojo, value);
+                }
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private Object convert(SdkField<?> field, String text) {
+        StringToValue<Object> converter = (StringToValue<Object>) simpleTypeConverters.get(field.marshallingType());
+        if (converter == null) {
+            throw SdkClientException.create(String.format("No unmarshaller of type %s registered for location %s.",
+                                                          field.marshallingType(), field.location()));
+        }
+        return converter.convert(text, (SdkField<Object>) field);
+    }
+
+    private static boolean isFlattened(SdkField<?> field) {
+        if (field.marshallingType() == MarshallingType.LIST) {
+            return field.getTrait(ListTrait.class).isFlattened();
+        }
+        if (field.marshallingType() == MarshallingType.MAP) {
+            return field.getTrait(MapTrait.class).isFlattened();
+        }
+        return false;
+    }
+
+    private static String listMemberName(ListTrait listTrait) {
+        return listTrait.memberLocationName() != null ? listTrait.memberLocationName()
+                                                      : listTrait.memberFieldInfo().locationName();
+    }
+
+    private static SdkPojo build(SdkPojo sdkPojo) {
+        if (!(sdkPojo instanceof Buildable)) {
+            throw new RuntimeException("The sdkPojo passed to the unmarshaller is not buildable (must implement "
+                                       + "Buildable)");
+        }
+        return (SdkPojo) ((Buildable) sdkPojo).build();
+    }
+
+    private static Map<String, SdkField<?>> payloadFieldsByLocationName(SdkPojo sdkPojo) {
+        Map<String, SdkField<?>> fields = PAYLOAD_FIELDS_BY_CLASS.get(sdkPojo.getClass());
+        if (fields != null) {
+            return fields;
+        }
+        return PAYLOAD_FIELDS_BY_CLASS.computeIfAbsent(sdkPojo.getClass(), c -> indexPayloadFields(sdkPojo));
+    }
+
+    private static Map<String, SdkField<?>> indexPayloadFields(SdkPojo sdkPojo) {
+        Map<String, SdkField<?>> fields = new HashMap<>();
+        for (SdkField<?> field : sdkPojo.sdkFields()) {
+            if (field.location() == MarshallLocation.PAYLOAD && !field.containsTrait(XmlAttributeTrait.class)) {
+                fields.putIfAbsent(field.unmarshallLocationName(), field);
+            }
+        }
+        return Collections.unmodifiableMap(fields);
+    }
+
+    /**
+     * @return New {@link Builder} instance.
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Builder for {@link XmlStreamUnmarshaller}.
+     */
+    public static final class Builder {
+
+        private final Map<MarshallingType<?>, StringToValue<?>> simpleTypeConverters = new HashMap<>();
+        private boolean matchListMembersByName;
+
+        private Builder() {
+        }
+
+        /**
+         * Registers the converter used for members of a simple type, such as strings, numbers and timestamps.
+         *
+         * @param marshallingType Type of member.
+         * @param converter Converter from the element's text content.
+         * @return This builder for method chaining.
+         */
+        public <T> Builder simpleTypeConverter(MarshallingType<T> marshallingType, StringToValue<T> converter) {
+            this.simpleTypeConverters.put(marshallingType, converter);
+            return this;
+        }
+
+        /**
+         * Whether the members of non-flattened lists are only read from child elements named after the modeled member
+         * (REST/XML), or from every child element regardless of name (AWS/Query and EC2).
+         *
+         * @param matchListMembersByName True to only read children named after the modeled member.
+         * @return This builder for method chaining.
+         */
+        public Builder matchListMembersByName(boolean matchListMembersByName) {
+            this.matchListMembersByName = matchListMembersByName;
+            return this;
+        }
+
+        /**
+         * @return New instance of {@link XmlStreamUnmarshaller}.
+         */
+        public XmlStreamUnmarshaller build() {
+            return new XmlStreamUnmarshaller(this);
+        }
+    }
+}
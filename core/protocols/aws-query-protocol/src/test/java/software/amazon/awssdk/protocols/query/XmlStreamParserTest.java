@@ -0,0 +1,84 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.protocols.query;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import javax.xml.stream.XMLStreamReader;
+import org.junit.Test;
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.protocols.query.unmarshall.XmlDomParser;
+import software.amazon.awssdk.protocols.query.unmarshall.XmlElement;
+import software.amazon.awssdk.protocols.query.unmarshall.XmlStreamParser;
+import software.amazon.awssdk.utils.StringInputStream;
+
+public class XmlStreamParserTest {
+
+    private static final String XML = "<?xml version=\"1.0\" encoding=\"UTF-8\"?>"
+                                      + "<Struct xmlns:xsi=\"http://www.w3.org/2001/XMLSchema-instance\" xsi:type=\"foo\">"
+                                      + " <stringMember>string<![CDATA[Val]]></stringMember>"
+                                      + " <unknownMember><nested>ignored</nested></unknownMember>"
+                                      + " <member>valOne</member>"
+                                      + " <member>valTwo</member>"
+                                      + "</Struct>";
+
+    @Test
+    public void parseElement_ProducesSameTreeAsDomParser() throws Exception {
+        XmlElement expected = XmlDomParser.parse(new StringInputStream(XML));
+        XmlElement actual = XmlStreamParser.parseElement(XmlStreamParser.createReader(new StringInputStream(XML)));
+
+        assertSameElement(actual, expected);
+    }
+
+    @Test
+    public void readChildren_SkipsUnreadElementsAndReadsText() throws Exception {
+        XMLStreamReader reader = XmlStreamParser.createReader(new StringInputStream(XML));
+        assertThat(reader.getLocalName()).isEqualTo("Struct");
+        assertThat(XmlStreamParser.readAttributes(reader)).containsEntry("xsi:type", "foo");
+
+        assertThat(XmlStreamParser.nextChildElement(reader)).isTrue();
+        assertThat(XmlStreamParser.readText(reader)).isEqualTo("stringVal");
+
+        assertThat(XmlStreamParser.nextChildElement(reader)).isTrue();
+        assertThat(reader.getLocalName()).isEqualTo("unknownMember");
+        XmlStreamParser.skipElement(reader);
+
+        assertThat(XmlStreamParser.nextChildElement(reader)).isTrue();
+        assertThat(XmlStreamParser.readText(reader)).isEqualTo("valOne");
+        assertThat(XmlStreamParser.nextChildElement(reader)).isTrue();
+        assertThat(XmlStreamParser.readText(reader)).isEqualTo("valTwo");
+
+        assertThat(XmlStreamParser.nextChildElement(reader)).isFalse();
+        XmlStreamParser.closeQuietly(reader);
+    }
+
+    @Test
+    public void noRootElement_ThrowsException() {
+        assertThatThrownBy(() -> XmlStreamParser.createReader(new StringInputStream("<?xml version=\"1.0\"?>")))
+            .isInstanceOf(SdkClientException.class);
+    }
+
+    private static void assertSameElement(XmlElement actual, XmlElement expected) {
+        assertThat(actual.elementName()).isEqualTo(expected.elementName());
+        assertThat(actual.textContent()).isEqualTo(expected.textContent());
+        assertThat(actual.attributes()).isEqualTo(expected.attributes());
+        assertThat(actual.children()).hasSameSizeAs(expected.children());
+        for (int i = 0; i < expected.children().size(); i++) {
+            assertSameElement(actual.children().get(i), expected.children().get(i));
+        }
+    }
+}
@@ -0,0 +1,108 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.protocols.query.internal.marshall;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.Test;
+import software.amazon.awssdk.utils.http.SdkHttpUtils;
+
+public class FormDataWriterTest {
+
+    @Test
+    public void emptyFormData_writesEmptyBody() {
+        assertThat(FormDataWriter.encode(Collections.emptyMap())).isEmpty();
+    }
+
+    @Test
+    public void simpleFormData_matchesSdkHttpUtils() {
+        Map<String, List<String>> formData = new LinkedHashMap<>();
+        formData.put("Action", Collections.singletonList("DescribeInstances"));
+        formData.put("Version", Collections.singletonList("2016-11-15"));
+        formData.put("InstanceId.1", Collections.singletonList("i-1234567890abcdef0"));
+
+        assertMatchesSdkHttpUtils(formData);
+        assertThat(new String(FormDataWriter.encode(formData), StandardCharsets.UTF_8))
+            .isEqualTo("Action=DescribeInstances&Version=2016-11-15&InstanceId.1=i-1234567890abcdef0");
+    }
+
+    @Test
+    public void specialCharacters_matchSdkHttpUtils() {
+        Map<String, List<String>> formData = new LinkedHashMap<>();
+        formData.put("Reserved", Collections.singletonList("a b+c&d=e/f?g%h~i*j.k-l_m!'()"));
+        formData.put("Control", Collections.singletonList("\r\n\t\u0000\u007f"));
+        formData.put("Key With Spaces", Collections.singletonList(""));
+
+        assertMatchesSdkHttpUtils(formData);
+    }
+
+    @Test
+    public void multiByteCharacters_matchSdkHttpUtils() {
+        Map<String, List<String>> formData = new LinkedHashMap<>();
+        formData.put("TwoBytes", Collections.singletonList("éß߿"));
+        formData.put("ThreeBytes", Collections.singletonList("中€￿"));
+        formData.put("FourBytes", Collections.singletonList("😀𐀀"));
+        formData.put("é中😀", Collections.singletonList("key"));
+
+        assertMatchesSdkHttpUtils(formData);
+    }
+
+    @Test
+    public void unpairedSurrogates_matchSdkHttpUtils() {
+        Map<String, List<String>> formData = new LinkedHashMap<>();
+        formData.put("High", Collections.singletonList("a\ud83db"));
+        formData.put("Low", Collections.singletonList("a\ude00b"));
+        formData.put("HighAtEnd", Collections.singletonList("a\ud83d"));
+        formData.put("Reversed", Collections.singletonList("\ude00\ud83d"));
+
+        assertMatchesSdkHttpUtils(formData);
+    }
+
+    @Test
+    public void nullValues_matchSdkHttpUtils() {
+        Map<String, List<String>> formData = new LinkedHashMap<>();
+        formData.put("NullList", null);
+        formData.put("NullValue", Arrays.asList("a", null, "b"));
+        formData.put("EmptyList", Collections.emptyList());
+        formData.put("", Collections.singletonList(null));
+        formData.put("Last", Collections.singletonList("value"));
+
+        assertMatchesSdkHttpUtils(formData);
+    }
+
+    @Test
+    public void largeFormData_matchesSdkHttpUtils() {
+        char[] value = new char[100_000];
+        Arrays.fill(value, '中');
+        Map<String, List<String>> formData = new LinkedHashMap<>();
+        formData.put("Large", Collections.singletonList(new String(value)));
+
+        assertMatchesSdkHttpUtils(formData);
+        // The writer must still produce correct output after releasing the large buffer.
+        assertMatchesSdkHttpUtils(Collections.singletonMap("Small", Collections.singletonList("value")));
+    }
+
+    private static void assertMatchesSdkHttpUtils(Map<String, List<String>> formData) {
+        byte[] expected = SdkHttpUtils.encodeAndFlattenFormData(formData).orElse("").getBytes(StandardCharsets.UTF_8);
+        assertThat(FormDataWriter.encode(formData)).isEqualTo(expected);
+    }
+}
@@ -0,0 +1,121 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.protocols.query.internal.marshall;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.net.URI;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.Test;
+import software.amazon.awssdk.core.SdkField;
+import software.amazon.awssdk.core.SdkPojo;
+import software.amazon.awssdk.core.protocol.MarshallLocation;
+import software.amazon.awssdk.core.protocol.MarshallingType;
+import software.amazon.awssdk.core.traits.ListTrait;
+import software.amazon.awssdk.core.traits.LocationTrait;
+import software.amazon.awssdk.core.traits.Trait;
+import software.amazon.awssdk.http.SdkHttpFullRequest;
+import software.amazon.awssdk.http.SdkHttpMethod;
+import software.amazon.awssdk.protocols.core.OperationInfo;
+import software.amazon.awssdk.protocols.query.QueryParameterWriter;
+
+public class QueryProtocolMarshallerTest {
+
+    private static final List<SdkField<?>> FIELDS = Arrays.asList(
+        field(MarshallingType.STRING, "StringMember"),
+        field(MarshallingType.INTEGER, "IntegerMember"),
+        field(MarshallingType.LIST, "ListMember",
+              ListTrait.builder().memberLocationName("item").memberFieldInfo(field(MarshallingType.STRING, "item")).build()));
+
+    private static final OperationInfo OPERATION_INFO = OperationInfo.builder()
+                                                                     .requestUri("/")
+                                                                     .httpMethod(SdkHttpMethod.POST)
+                                                                     .operationIdentifier("Operation")
+                                                                     .apiVersion("2016-03-11")
+                                                                     .hasPayloadMembers(true)
+                                                                     .build();
+
+    private static final QueryParameterWriter<FakePojo> PARAMETER_WRITER = QueryProtocolMarshallerTest::writeParameters;
+
+    @Test
+    public void parameterWriter_producesSameRequestAsFieldMarshalling() {
+        FakePojo pojo = new FakePojo();
+        pojo.values.put("StringMember", "foo");
+        pojo.values.put("ListMember", Arrays.asList("a", "b"));
+
+        SdkHttpFullRequest expected = marshaller(null).marshall(pojo);
+        SdkHttpFullRequest actual = marshaller(PARAMETER_WRITER).marshall(pojo);
+
+        assertThat(actual.rawQueryParameters()).isEqualTo(expected.rawQueryParameters());
+        assertThat(actual.rawQueryParameters()).containsOnlyKeys("Action", "Version", "StringMember",
+                                                                 "ListMember.1", "ListMember.2");
+        assertThat(actual.getUri()).isEqualTo(expected.getUri());
+        assertThat(actual.method()).isEqualTo(expected.method());
+    }
+
+    private static QueryProtocolMarshaller marshaller(QueryParameterWriter<FakePojo> parameterWriter) {
+        return QueryProtocolMarshaller.builder()
+                                      .endpoint(URI.create("http://localhost"))
+                                      .operationInfo(OPERATION_INFO)
+                                      .isEc2(true)
+                                      .parameterWriter(parameterWriter)
+                                      .build();
+    }
+
+    /**
+     * Hand written equivalent of the parameter writer the code generator emits for {@link FakePojo} of an EC2 service.
+     */
+    @SuppressWarnings("unchecked")
+    private static void writeParameters(FakePojo pojo, SdkHttpFullRequest.Builder request) {
+        String stringMember = (String) pojo.values.get("StringMember");
+        if (stringMember != null) {
+            request.putRawQueryParameter("StringMember", stringMember);
+        }
+        Integer integerMember = (Integer) pojo.values.get("IntegerMember");
+        if (integerMember != null) {
+            request.putRawQueryParameter("IntegerMember", integerMember.toString());
+        }
+        List<String> listMember = (List<String>) pojo.values.get("ListMember");
+        if (listMember != null) {
+            for (int i = 0; i < listMember.size(); i++) {
+                request.putRawQueryParameter("ListMember." + (i + 1), listMember.get(i));
+            }
+        }
+    }
+
+    private static <T> SdkField<T> field(MarshallingType<? super T> type, String name, Trait... traits) {
+        Trait[] allTraits = Arrays.copyOf(traits, traits.length + 1);
+        allTraits[traits.length] = LocationTrait.builder().location(MarshallLocation.PAYLOAD).locationName(name).build();
+        return SdkField.<T>builder(type)
+                       .memberName(name)
+                       .getter(o -> (T) ((FakePojo) o).values.get(name))
+                       .setter((o, v) -> ((FakePojo) o).values.put(name, v))
+                       .traits(allTraits)
+                       .build();
+    }
+
+    private static final class FakePojo implements SdkPojo {
+        private final Map<String, Object> values = new HashMap<>();
+
+        @Override
+        public List<SdkField<?>> sdkFields() {
+            return FIELDS;
+        }
+    }
+}
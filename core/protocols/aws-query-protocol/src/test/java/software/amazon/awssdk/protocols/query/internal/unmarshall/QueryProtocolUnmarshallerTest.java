@@ -0,0 +1,214 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.protocols.query.internal.unmarshall;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+import static software.amazon.awssdk.awscore.util.AwsHeader.AWS_REQUEST_ID;
+import static software.amazon.awssdk.protocols.query.internal.unmarshall.TestShape.listMember;
+import static software.amazon.awssdk.protocols.query.internal.unmarshall.TestShape.mapMember;
+import static software.amazon.awssdk.protocols.query.internal.unmarshall.TestShape.member;
+import static software.amazon.awssdk.protocols.query.internal.unmarshall.TestShape.structureMember;
+import static software.amazon.awssdk.protocols.query.internal.unmarshall.TestShape.valueInfo;
+
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import org.junit.Test;
+import software.amazon.awssdk.core.SdkBytes;
+import software.amazon.awssdk.core.SdkField;
+import software.amazon.awssdk.core.SdkPojo;
+import software.amazon.awssdk.core.protocol.MarshallingType;
+import software.amazon.awssdk.core.traits.TimestampFormatTrait;
+import software.amazon.awssdk.http.AbortableInputStream;
+import software.amazon.awssdk.http.SdkHttpFullResponse;
+import software.amazon.awssdk.utils.Pair;
+import software.amazon.awssdk.utils.StringInputStream;
+
+/**
+ * Verifies that unmarshalling a response directly from the XML event stream produces the same result as unmarshalling it
+ * from the parsed document.
+ */
+public class QueryProtocolUnmarshallerTest {
+
+    private static final Instant TIMESTAMP = Instant.parse("2021-01-02T03:04:05Z");
+
+    private static final SdkField<String> NAME = member(MarshallingType.STRING, "Name");
+    private static final SdkField<Integer> COUNT = member(MarshallingType.INTEGER, "Count");
+
+    private static final SdkField<String> STRING_MEMBER = member(MarshallingType.STRING, "StringMember");
+    private static final SdkField<Integer> INTEGER_MEMBER = member(MarshallingType.INTEGER, "IntegerMember");
+    private static final SdkField<Boolean> BOOLEAN_MEMBER = member(MarshallingType.BOOLEAN, "BooleanMember");
+    private static final SdkField<Instant> ISO_TIMESTAMP = member(MarshallingType.INSTANT, "IsoTimestamp");
+    private static final SdkField<Instant> EPOCH_TIMESTAMP =
+        member(MarshallingType.INSTANT, "EpochTimestamp",
+               TimestampFormatTrait.create(TimestampFormatTrait.Format.UNIX_TIMESTAMP));
+    private static final SdkField<Instant> RFC_822_TIMESTAMP =
+        member(MarshallingType.INSTANT, "Rfc822Timestamp", TimestampFormatTrait.create(TimestampFormatTrait.Format.RFC_822));
+    private static final SdkField<SdkBytes> BLOB = member(MarshallingType.SDK_BYTES, "Blob");
+    private static final SdkField<SdkPojo> NESTED = structureMember("Nested", Nested::new);
+    private static final SdkField<List<?>> LIST =
+        listMember("List", "member", false, valueInfo(MarshallingType.STRING, "member"));
+    private static final SdkField<List<?>> FLATTENED_LIST =
+        listMember("FlattenedList", null, true, structureMember("FlattenedList", Nested::new));
+    private static final SdkField<Map<String, ?>> MAP = mapMember("Map", false, valueInfo(MarshallingType.STRING, "value"));
+    private static final SdkField<Map<String, ?>> FLATTENED_MAP =
+        mapMember("FlattenedMap", true, structureMember("value", Nested::new));
+    private static final SdkField<String> EMPTY_STRING = member(MarshallingType.STRING, "EmptyString");
+    private static final SdkField<List<?>> EMPTY_LIST =
+        listMember("EmptyList", "member", false, valueInfo(MarshallingType.STRING, "member"));
+    private static final SdkField<SdkPojo> EMPTY_NESTED = structureMember("EmptyNested", Nested::new);
+
+    private static final String MEMBERS =
+        "<StringMember>string</StringMember>"
+        + "<StringMember>ignored duplicate</StringMember>"
+        + "<IntegerMember>42</IntegerMember>"
+        + "<BooleanMember>true</BooleanMember>"
+        + "<IsoTimestamp>2021-01-02T03:04:05Z</IsoTimestamp>"
+        + "<EpochTimestamp>1609556645</EpochTimestamp>"
+        + "<Rfc822Timestamp>Sat, 02 Jan 2021 03:04:05 GMT</Rfc822Timestamp>"
+        + "<Blob>aGVsbG8=</Blob>"
+        + "<Unknown><StringMember>ignored</StringMember></Unknown>"
+        + "<Nested><Name>nested</Name><Count>1</Count></Nested>"
+        // EC2 does not always model the member name of lists correctly, so every child is a member
+        + "<List><item>one</item><item>two</item></List>"
+        + "<FlattenedList><Name>first</Name></FlattenedList>"
+        + "<Map><entry><key>a</key><value>1</value></entry><entry><key>b</key><value>2</value></entry></Map>"
+        + "<FlattenedList><Name>second</Name><Count>2</Count></FlattenedList>"
+        + "<FlattenedMap><key>x</key><value><Name>mapped</Name></value></FlattenedMap>"
+        + "<FlattenedMap><key>y</key><value/></FlattenedMap>"
+        + "<EmptyString/>"
+        + "<EmptyList></EmptyList>"
+        + "<EmptyNested/>";
+
+    @Test
+    public void resultWrapper_streamMatchesDom() {
+        String xml = "<DescribeResponse>"
+                     + "<DescribeResult>" + MEMBERS + "</DescribeResult>"
+                     + "<ResponseMetadata><RequestId>request-id</RequestId><Other>other</Other></ResponseMetadata>"
+                     + "</DescribeResponse>";
+
+        Pair<Result, Map<String, String>> result = assertStreamMatchesDom(xml, true);
+
+        assertAllMembersUnmarshalled(result.left());
+        assertThat(result.right()).containsEntry(AWS_REQUEST_ID, "request-id")
+                                  .containsEntry("Other", "other");
+    }
+
+    @Test
+    public void noResultWrapper_streamMatchesDom() {
+        String xml = "<DescribeResponse xmlns=\"http://ec2.amazonaws.com/doc/2016-11-15/\">"
+                     + "<requestId>request-id</requestId>"
+                     + MEMBERS
+                     + "</DescribeResponse>";
+
+        Pair<Result, Map<String, String>> result = assertStreamMatchesDom(xml, false);
+
+        assertAllMembersUnmarshalled(result.left());
+        assertThat(result.right()).containsOnly(entry(AWS_REQUEST_ID, "request-id"));
+    }
+
+    @Test
+    public void noResultWrapper_responseMetadata_streamMatchesDom() {
+        String xml = "<DescribeResponse>"
+                     + "<StringMember>string</StringMember>"
+                     + "<ResponseMetadata><RequestId>request-id</RequestId></ResponseMetadata>"
+                     + "</DescribeResponse>";
+
+        Pair<Result, Map<String, String>> result = assertStreamMatchesDom(xml, false);
+
+        assertThat(STRING_MEMBER.getValueOrDefault(result.left())).isEqualTo("string");
+        assertThat(result.right()).containsOnly(entry(AWS_REQUEST_ID, "request-id"));
+    }
+
+    @Test
+    public void emptyResult_streamMatchesDom() {
+        String xml = "<DescribeResponse>"
+                     + "<DescribeResult/>"
+                     + "<ResponseMetadata><RequestId>request-id</RequestId></ResponseMetadata>"
+                     + "</DescribeResponse>";
+
+        Pair<Result, Map<String, String>> result = assertStreamMatchesDom(xml, true);
+
+        assertThat(result.left()).isEqualTo(new Result());
+        assertThat(result.right()).containsOnly(entry(AWS_REQUEST_ID, "request-id"));
+    }
+
+    private static Pair<Result, Map<String, String>> assertStreamMatchesDom(String xml, boolean hasResultWrapper) {
+        Pair<Result, Map<String, String>> fromDom = unmarshall(xml, hasResultWrapper, false);
+        Pair<Result, Map<String, String>> fromStream = unmarshall(xml, hasResultWrapper, true);
+
+        assertThat(fromStream.left()).isEqualTo(fromDom.left());
+        assertThat(fromStream.right()).isEqualTo(fromDom.right());
+        return fromStream;
+    }
+
+    private static Pair<Result, Map<String, String>> unmarshall(String xml, boolean hasResultWrapper,
+                                                                boolean enableFastUnmarshalling) {
+        QueryProtocolUnmarshaller unmarshaller = QueryProtocolUnmarshaller.builder()
+                                                                          .hasResultWrapper(hasResultWrapper)
+                                                                          .enableFastUnmarshalling(enableFastUnmarshalling)
+                                                                          .build();
+        SdkHttpFullResponse response = SdkHttpFullResponse.builder()
+                                                          .statusCode(200)
+                                                          .content(AbortableInputStream.create(new StringInputStream(xml)))
+                                                          .build();
+        return unmarshaller.unmarshall(new Result(), response);
+    }
+
+    private static void assertAllMembersUnmarshalled(Result result) {
+        assertThat(STRING_MEMBER.getValueOrDefault(result)).isEqualTo("string");
+        assertThat(INTEGER_MEMBER.getValueOrDefault(result)).isEqualTo(42);
+        assertThat(BOOLEAN_MEMBER.getValueOrDefault(result)).isTrue();
+        assertThat(ISO_TIMESTAMP.getValueOrDefault(result)).isEqualTo(TIMESTAMP);
+        assertThat(EPOCH_TIMESTAMP.getValueOrDefault(result)).isEqualTo(TIMESTAMP);
+        assertThat(RFC_822_TIMESTAMP.getValueOrDefault(result)).isEqualTo(TIMESTAMP);
+        assertThat(BLOB.getValueOrDefault(result)).isEqualTo(SdkBytes.fromUtf8String("hello"));
+        assertThat(NESTED.getValueOrDefault(result)).isEqualTo(nested("nested", 1));
+        assertThat(LIST.getValueOrDefault(result)).isEqualTo(Arrays.asList("one", "two"));
+        assertThat(FLATTENED_LIST.getValueOrDefault(result)).isEqualTo(Arrays.asList(nested("first", null),
+                                                                                     nested("second", 2)));
+        assertThat((Map<String, Object>) MAP.getValueOrDefault(result)).containsOnly(entry("a", "1"), entry("b", "2"));
+        assertThat((Map<String, Object>) FLATTENED_MAP.getValueOrDefault(result))
+            .containsOnly(entry("x", nested("mapped", null)), entry("y", new Nested()));
+        assertThat(EMPTY_STRING.getValueOrDefault(result)).isEmpty();
+        assertThat(EMPTY_LIST.getValueOrDefault(result)).isEmpty();
+        assertThat(EMPTY_NESTED.getValueOrDefault(result)).isEqualTo(new Nested());
+    }
+
+    private static Nested nested(String name, Integer count) {
+        Nested nested = new Nested();
+        NAME.set(nested, name);
+        if (count != null) {
+            COUNT.set(nested, count);
+        }
+        return nested;
+    }
+
+    private static final class Nested extends TestShape {
+        private Nested() {
+            super(NAME, COUNT);
+        }
+    }
+
+    private static final class Result extends TestShape {
+        private Result() {
+            super(STRING_MEMBER, INTEGER_MEMBER, BOOLEAN_MEMBER, ISO_TIMESTAMP, EPOCH_TIMESTAMP, RFC_822_TIMESTAMP, BLOB,
+                  NESTED, LIST, FLATTENED_LIST, MAP, FLATTENED_MAP, EMPTY_STRING, EMPTY_LIST, EMPTY_NESTED);
+        }
+    }
+}
@@ -27,6 +27,7 @@ import software.amazon.awssdk.awscore.AwsResponse;
 import software.amazon.awssdk.awscore.exception.AwsServiceException;
 import software.amazon.awssdk.core.Response;
 import software.amazon.awssdk.core.SdkPojo;
+import software.amazon.awssdk.core.client.config.SdkAdvancedClientOption;
 import software.amazon.awssdk.core.client.config.SdkClientConfiguration;
 import software.amazon.awssdk.core.client.config.SdkClientOption;
 import software.amazon.awssdk.core.http.HttpResponseHandler;
@@ -78,11 +79,16 @@ public class AwsXmlProtocolFactory {
     private final Supplier<SdkPojo> defaultServiceExceptionSupplier;
     private final HttpResponseHandler<AwsServiceException> errorUnmarshaller;
     private final SdkClientConfiguration clientConfiguration;
+    private final XmlProtocolUnmarshaller responseUnmarshaller;
+    private final boolean enableFastUnmarshalling;
 
     AwsXmlProtocolFactory(Builder<?> builder) {
         this.modeledExceptions = unmodifiableList(builder.modeledExceptions);
         this.defaultServiceExceptionSupplier = builder.defaultServiceExceptionSupplier;
         this.clientConfiguration = builder.clientConfiguration;
+        this.enableFastUnmarshalling = builder.enableFastUnmarshalling ||
+                                       isFastUnmarshallingEnabled(builder.clientConfiguration);
+        this.responseUnmarshaller = enableFastUnmarshalling ? XmlProtocolUnmarshaller.create(true) : XML_PROTOCOL_UNMARSHALLER;
 
         this.errorUnmarshaller = timeUnmarshalling(
             AwsXmlErrorProtocolUnmarshaller.builder()
@@ -93,6 +99,11 @@ public class AwsXmlProtocolFactory {
                                            .build());
     }
 
+    private static boolean isFastUnmarshallingEnabled(SdkClientConfiguration clientConfiguration) {
+        return clientConfiguration != null &&
+               Boolean.TRUE.equals(clientConfiguration.option(SdkAdvancedClientOption.ENABLE_FAST_UNMARSHALLING));
+    }
+
     /**
      * Creates an instance of {@link XmlProtocolMarshaller} to be used for marshalling the request.
      *
@@ -116,7 +127,7 @@ public class AwsXmlProtocolFactory {
         return timeUnmarshalling(
             new AwsXmlResponseHandler<>(
                 new XmlResponseHandler<>(
-                    XML_PROTOCOL_UNMARSHALLER, pojoSupplier,
+                    responseUnmarshaller, pojoSupplier,
                     staxOperationMetadata.isHasStreamingSuccessResponse())));
     }
 
@@ -124,7 +135,14 @@ public class AwsXmlProtocolFactory {
         Supplier<SdkPojo> pojoSupplier) {
 
         return new AwsXmlResponseTransformer<>(
-            XML_PROTOCOL_UNMARSHALLER, r -> pojoSupplier.get());
+            responseUnmarshaller, r -> pojoSupplier.get());
+    }
+
+    /**
+     * @return True if successful responses should be unmarshalled directly from the XML stream.
+     */
+    boolean isFastUnmarshallingEnabled() {
+        return enableFastUnmarshalling;
     }
 
     protected Function<AwsXmlUnmarshallingContext, AwsServiceException> createErrorTransformer() {
@@ -179,6 +197,7 @@ public class AwsXmlProtocolFactory {
         private final List<ExceptionMetadata> modeledExceptions = new ArrayList<>();
         private Supplier<SdkPojo> defaultServiceExceptionSupplier;
         private SdkClientConfiguration clientConfiguration;
+        private boolean enableFastUnmarshalling = false;
 
         Builder() {
         }
@@ -217,6 +236,19 @@ public class AwsXmlProtocolFactory {
             return getSubclass();
         }
 
+        /**
+         * Enables unmarshalling successful responses directly from the XML stream, without first parsing the whole response
+         * into an {@link XmlElement} tree. Error responses are always unmarshalled from the tree. This is also enabled by the
+         * {@link SdkAdvancedClientOption#ENABLE_FAST_UNMARSHALLING} option of the client. Defaults to false.
+         *
+         * @param enableFastUnmarshalling Whether to enable streaming unmarshalling.
+         * @return This builder for method chaining.
+         */
+        public SubclassT enableFastUnmarshalling(boolean enableFastUnmarshalling) {
+            this.enableFastUnmarshalling = enableFastUnmarshalling;
+            return getSubclass();
+        }
+
         @SuppressWarnings("unchecked")
         private SubclassT getSubclass() {
             return (SubclassT) this;
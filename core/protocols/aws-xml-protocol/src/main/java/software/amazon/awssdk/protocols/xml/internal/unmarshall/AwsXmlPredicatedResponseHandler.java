@@ -17,6 +17,8 @@ package software.amazon.awssdk.protocols.xml.internal.unmarshall;
 
 import java.util.Optional;
 import java.util.function.Function;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import software.amazon.awssdk.annotations.SdkInternalApi;
@@ -30,6 +32,7 @@ import software.amazon.awssdk.core.http.HttpResponseHandler;
 import software.amazon.awssdk.core.interceptor.ExecutionAttributes;
 import software.amazon.awssdk.http.SdkHttpFullResponse;
 import software.amazon.awssdk.protocols.query.unmarshall.XmlElement;
+import software.amazon.awssdk.protocols.query.unmarshall.XmlStreamParser;
 import software.amazon.awssdk.utils.IoUtils;
 
 /**
@@ -42,12 +45,14 @@ import software.amazon.awssdk.utils.IoUtils;
 @SdkInternalApi
 public class AwsXmlPredicatedResponseHandler<OutputT> implements HttpResponseHandler<Response<OutputT>> {
     private static final Logger log = LoggerFactory.getLogger(AwsXmlPredicatedResponseHandler.class);
+    private static final String ERROR_ELEMENT_NAME = "Error";
 
     private final Function<SdkHttpFullResponse, SdkPojo> pojoSupplier;
     private final Function<AwsXmlUnmarshallingContext, OutputT> successResponseTransformer;
     private final Function<AwsXmlUnmarshallingContext, ? extends SdkException> errorResponseTransformer;
     private final Function<AwsXmlUnmarshallingContext, AwsXmlUnmarshallingContext> decorateContextWithError;
     private final boolean needsConnectionLeftOpen;
+    private final boolean enableFastUnmarshalling;
 
     /**
      * Standard constructor
@@ -63,12 +68,34 @@ public class AwsXmlPredicatedResponseHandler<OutputT> implements HttpResponseHan
         Function<AwsXmlUnmarshallingContext, ? extends SdkException> errorResponseTransformer,
         Function<AwsXmlUnmarshallingContext, AwsXmlUnmarshallingContext> decorateContextWithError,
         boolean needsConnectionLeftOpen) {
+        this(pojoSupplier, successResponseTransformer, errorResponseTransformer, decorateContextWithError,
+             needsConnectionLeftOpen, false);
+    }
+
+    /**
+     * Standard constructor
+     * @param pojoSupplier A method that supplies an empty builder of the correct type
+     * @param successResponseTransformer A function that can unmarshall a response object from parsed XML
+     * @param errorResponseTransformer A function that can unmarshall an exception object from parsed XML
+     * @param decorateContextWithError A function that determines if the response was an error or not
+     * @param needsConnectionLeftOpen true if the underlying connection should not be closed once parsed
+     * @param enableFastUnmarshalling true if successful responses should be streamed to the success response transformer
+     *                                instead of being parsed into an {@link XmlElement} tree first
+     */
+    public AwsXmlPredicatedResponseHandler(
+        Function<SdkHttpFullResponse, SdkPojo> pojoSupplier,
+        Function<AwsXmlUnmarshallingContext, OutputT> successResponseTransformer,
+        Function<AwsXmlUnmarshallingContext, ? extends SdkException> errorResponseTransformer,
+        Function<AwsXmlUnmarshallingContext, AwsXmlUnmarshallingContext> decorateContextWithError,
+        boolean needsConnectionLeftOpen,
+        boolean enableFastUnmarshalling) {
 
         this.pojoSupplier = pojoSupplier;
         this.successResponseTransformer = successResponseTransformer;
         this.errorResponseTransformer = errorResponseTransformer;
         this.decorateContextWithError = decorateContextWithError;
         this.needsConnectionLeftOpen = needsConnectionLeftOpen;
+        this.enableFastUnmarshalling = enableFastUnmarshalling;
     }
 
     /**
@@ -111,13 +138,39 @@ public class AwsXmlPredicatedResponseHandler<OutputT> implements HttpResponseHan
 
     private AwsXmlUnmarshallingContext parseResponse(SdkHttpFullResponse httpFullResponse,
                                                      ExecutionAttributes executionAttributes) {
-        XmlElement document = XmlResponseParserUtils.parse(pojoSupplier.apply(httpFullResponse), httpFullResponse);
+        AwsXmlUnmarshallingContext.Builder context = AwsXmlUnmarshallingContext.builder()
+                                                                               .executionAttributes(executionAttributes)
+                                                                               .sdkHttpFullResponse(httpFullResponse);
+        SdkPojo sdkPojo = pojoSupplier.apply(httpFullResponse);
+
+        if (enableFastUnmarshalling && httpFullResponse.isSuccessful()
+            && XmlResponseParserUtils.shouldParse(sdkPojo, httpFullResponse)) {
+            return streamResponse(httpFullResponse, context);
+        }
+
+        return context.parsedXml(XmlResponseParserUtils.parse(sdkPojo, httpFullResponse))
+                      .build();
+    }
+
+    /**
+     * Positions a stream reader on the root of a successful response so that it can be unmarshalled without building an
+     * {@link XmlElement} tree. A root element named 'Error' is still parsed into a tree so that it flows through the usual
+     * error handling.
+     */
+    private AwsXmlUnmarshallingContext streamResponse(SdkHttpFullResponse httpFullResponse,
+                                                      AwsXmlUnmarshallingContext.Builder context) {
+        XMLStreamReader reader = XmlStreamParser.createReader(httpFullResponse.content().get());
+        if (!ERROR_ELEMENT_NAME.equals(reader.getLocalName())) {
+            return context.xmlStreamReader(reader).build();
+        }
 
-        return AwsXmlUnmarshallingContext.builder()
-                                         .parsedXml(document)
-                                         .executionAttributes(executionAttributes)
-                                         .sdkHttpFullResponse(httpFullResponse)
-                                         .build();
+        try {
+            return context.parsedXml(XmlStreamParser.parseElement(reader)).build();
+        } catch (XMLStreamException e) {
+            throw SdkClientException.create("Could not parse XML response.", e);
+        } finally {
+            XmlStreamParser.closeQuietly(reader);
+        }
     }
 
     /**
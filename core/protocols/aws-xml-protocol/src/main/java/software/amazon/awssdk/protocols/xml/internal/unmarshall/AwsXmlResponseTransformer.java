@@ -20,6 +20,7 @@ import static software.amazon.awssdk.awscore.util.AwsHeader.AWS_REQUEST_ID;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.function.Function;
+import javax.xml.stream.XMLStreamReader;
 import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.awscore.AwsResponse;
 import software.amazon.awssdk.awscore.AwsResponseMetadata;
@@ -51,13 +52,15 @@ public final class AwsXmlResponseTransformer<T extends AwsResponse>
 
     @Override
     public T apply(AwsXmlUnmarshallingContext context) {
-        return unmarshallResponse(context.sdkHttpFullResponse(), context.parsedRootXml());
+        return unmarshallResponse(context.sdkHttpFullResponse(), context.parsedRootXml(), context.xmlStreamReader());
     }
 
     @SuppressWarnings("unchecked")
-    private T unmarshallResponse(SdkHttpFullResponse response, XmlElement parsedXml) {
+    private T unmarshallResponse(SdkHttpFullResponse response, XmlElement parsedXml, XMLStreamReader xmlStreamReader) {
         SdkStandardLogger.REQUEST_LOGGER.trace(() -> "Unmarshalling parsed service response XML.");
-        T result = unmarshaller.unmarshall(pojoSupplier.apply(response), parsedXml, response);
+        T result = xmlStreamReader != null ?
+                   unmarshaller.unmarshall(pojoSupplier.apply(response), xmlStreamReader, response) :
+                   unmarshaller.unmarshall(pojoSupplier.apply(response), parsedXml, response);
         SdkStandardLogger.REQUEST_LOGGER.trace(() -> "Done unmarshalling parsed service response.");
         AwsResponseMetadata responseMetadata = generateResponseMetadata(response);
         return (T) result.toBuilder().responseMetadata(responseMetadata).build();
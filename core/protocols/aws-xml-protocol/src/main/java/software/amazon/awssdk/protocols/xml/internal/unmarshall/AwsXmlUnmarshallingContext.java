@@ -15,6 +15,7 @@
 
 package software.amazon.awssdk.protocols.xml.internal.unmarshall;
 
+import javax.xml.stream.XMLStreamReader;
 import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.core.interceptor.ExecutionAttributes;
 import software.amazon.awssdk.http.SdkHttpFullResponse;
@@ -31,6 +32,7 @@ public class AwsXmlUnmarshallingContext {
     private final ExecutionAttributes executionAttributes;
     private final Boolean isResponseSuccess;
     private final XmlElement parsedErrorXml;
+    private final XMLStreamReader xmlStreamReader;
 
     private AwsXmlUnmarshallingContext(Builder builder) {
         this.sdkHttpFullResponse = builder.sdkHttpFullResponse;
@@ -38,6 +40,7 @@ public class AwsXmlUnmarshallingContext {
         this.executionAttributes = builder.executionAttributes;
         this.isResponseSuccess = builder.isResponseSuccess;
         this.parsedErrorXml = builder.parsedErrorXml;
+        this.xmlStreamReader = builder.xmlStreamReader;
     }
 
     public static Builder builder() {
@@ -79,12 +82,21 @@ public class AwsXmlUnmarshallingContext {
         return parsedErrorXml;
     }
 
+    /**
+     * A reader positioned on the root element of the body, if the body was not parsed up front so that it can be unmarshalled
+     * directly from the XML event stream. null otherwise.
+     */
+    public XMLStreamReader xmlStreamReader() {
+        return xmlStreamReader;
+    }
+
     public Builder toBuilder() {
         return builder().sdkHttpFullResponse(this.sdkHttpFullResponse)
                         .parsedXml(this.parsedXml)
                         .executionAttributes(this.executionAttributes)
                         .isResponseSuccess(this.isResponseSuccess)
-                        .parsedErrorXml(this.parsedErrorXml);
+                        .parsedErrorXml(this.parsedErrorXml)
+                        .xmlStreamReader(this.xmlStreamReader);
     }
 
     @Override
@@ -132,6 +144,7 @@ public class AwsXmlUnmarshallingContext {
         private ExecutionAttributes executionAttributes;
         private Boolean isResponseSuccess;
         private XmlElement parsedErrorXml;
+        private XMLStreamReader xmlStreamReader;
 
         private Builder() {
         }
@@ -161,6 +174,11 @@ public class AwsXmlUnmarshallingContext {
             return this;
         }
 
+        public Builder xmlStreamReader(XMLStreamReader xmlStreamReader) {
+            this.xmlStreamReader = xmlStreamReader;
+            return this;
+        }
+
         public AwsXmlUnmarshallingContext build() {
             return new AwsXmlUnmarshallingContext(this);
         }
@@ -24,10 +24,13 @@ import java.util.EnumMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
 import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.core.SdkBytes;
 import software.amazon.awssdk.core.SdkField;
 import software.amazon.awssdk.core.SdkPojo;
+import software.amazon.awssdk.core.exception.SdkClientException;
 import software.amazon.awssdk.core.protocol.MarshallLocation;
 import software.amazon.awssdk.core.protocol.MarshallingType;
 import software.amazon.awssdk.core.traits.PayloadTrait;
@@ -38,6 +41,8 @@ import software.amazon.awssdk.protocols.core.StringToInstant;
 import software.amazon.awssdk.protocols.core.StringToValueConverter;
 import software.amazon.awssdk.protocols.query.unmarshall.XmlElement;
 import software.amazon.awssdk.protocols.query.unmarshall.XmlErrorUnmarshaller;
+import software.amazon.awssdk.protocols.query.unmarshall.XmlStreamParser;
+import software.amazon.awssdk.protocols.query.unmarshall.XmlStreamUnmarshaller;
 import software.amazon.awssdk.utils.CollectionUtils;
 import software.amazon.awssdk.utils.builder.Buildable;
 
@@ -49,19 +54,83 @@ public final class XmlProtocolUnmarshaller implements XmlErrorUnmarshaller {
 
     private static final XmlUnmarshallerRegistry REGISTRY = createUnmarshallerRegistry();
 
-    private XmlProtocolUnmarshaller() {
+    private static final XmlStreamUnmarshaller STREAM_UNMARSHALLER = createStreamUnmarshaller();
+
+    private final boolean enableFastUnmarshalling;
+
+    private XmlProtocolUnmarshaller(boolean enableFastUnmarshalling) {
+        this.enableFastUnmarshalling = enableFastUnmarshalling;
     }
 
     public static XmlProtocolUnmarshaller create() {
-        return new XmlProtocolUnmarshaller();
+        return new XmlProtocolUnmarshaller(false);
+    }
+
+    /**
+     * @param enableFastUnmarshalling Whether successful responses should be unmarshalled directly from the XML event stream,
+     * instead of first being parsed into an {@link XmlElement} tree.
+     * @return New instance of {@link XmlProtocolUnmarshaller}.
+     */
+    public static XmlProtocolUnmarshaller create(boolean enableFastUnmarshalling) {
+        return new XmlProtocolUnmarshaller(enableFastUnmarshalling);
+    }
+
+    /**
+     * @return True if successful responses should be unmarshalled directly from the XML event stream.
+     */
+    public boolean isFastUnmarshallingEnabled() {
+        return enableFastUnmarshalling;
     }
 
     public <TypeT extends SdkPojo> TypeT unmarshall(SdkPojo sdkPojo,
                                                     SdkHttpFullResponse response) {
+        if (enableFastUnmarshalling && response.isSuccessful() && XmlResponseParserUtils.shouldParse(sdkPojo, response)) {
+            return unmarshall(sdkPojo, XmlStreamParser.createReader(response.content().get()), response);
+        }
         XmlElement document = XmlResponseParserUtils.parse(sdkPojo, response);
         return unmarshall(sdkPojo, document, response);
     }
 
+    /**
+     * Unmarshalls a successful response directly from the XML event stream. The reader is closed once the response has been
+     * unmarshalled.
+     *
+     * @param sdkPojo Builder of the response POJO.
+     * @param reader Reader positioned on the root element of the response body.
+     * @param response HTTP response.
+     */
+    @SuppressWarnings("unchecked")
+    public <TypeT extends SdkPojo> TypeT unmarshall(SdkPojo sdkPojo,
+                                                    XMLStreamReader reader,
+                                                    SdkHttpFullResponse response) {
+        XmlUnmarshallerContext context = XmlUnmarshallerContext.builder()
+                                                               .response(response)
+                                                               .registry(REGISTRY)
+                                                               .protocolUnmarshaller(this)
+                                                               .build();
+        try {
+            SdkField<?> explicitPayloadMember = null;
+            for (SdkField<?> field : sdkPojo.sdkFields()) {
+                if (field.location() != MarshallLocation.PAYLOAD) {
+                    XmlUnmarshaller<Object> unmarshaller = REGISTRY.getUnmarshaller(field.location(), field.marshallingType());
+                    field.set(sdkPojo, unmarshaller.unmarshall(context, null, (SdkField<Object>) field));
+                } else if (isExplicitPayloadMember(field)) {
+                    explicitPayloadMember = field;
+                }
+            }
+
+            if (explicitPayloadMember != null) {
+                explicitPayloadMember.set(sdkPojo, STREAM_UNMARSHALLER.unmarshallValue(explicitPayloadMember, reader));
+                return (TypeT) ((Buildable) sdkPojo).build();
+            }
+            return (TypeT) STREAM_UNMARSHALLER.unmarshall(sdkPojo, reader);
+        } catch (XMLStreamException e) {
+            throw SdkClientException.create("Could not parse XML response.", e);
+        } finally {
+            XmlStreamParser.closeQuietly(reader);
+        }
+    }
+
     /**
      * This method is also used to unmarshall exceptions. We use this since we've already parsed the XML
      * and the result root is in a different location depending on the protocol/service.
@@ -137,6 +206,23 @@ public final class XmlProtocolUnmarshaller implements XmlErrorUnmarshaller {
         return Collections.unmodifiableMap(formats);
     }
 
+    private static XmlStreamUnmarshaller createStreamUnmarshaller() {
+        return XmlStreamUnmarshaller
+            .builder()
+            .simpleTypeConverter(MarshallingType.STRING, StringToValueConverter.TO_STRING)
+            .simpleTypeConverter(MarshallingType.INTEGER, StringToValueConverter.TO_INTEGER)
+            .simpleTypeConverter(MarshallingType.LONG, StringToValueConverter.TO_LONG)
+            .simpleTypeConverter(MarshallingType.SHORT, StringToValueConverter.TO_SHORT)
+            .simpleTypeConverter(MarshallingType.FLOAT, StringToValueConverter.TO_FLOAT)
+            .simpleTypeConverter(MarshallingType.DOUBLE, StringToValueConverter.TO_DOUBLE)
+            .simpleTypeConverter(MarshallingType.BIG_DECIMAL, StringToValueConverter.TO_BIG_DECIMAL)
+            .simpleTypeConverter(MarshallingType.BOOLEAN, StringToValueConverter.TO_BOOLEAN)
+            .simpleTypeConverter(MarshallingType.INSTANT, INSTANT_STRING_TO_VALUE)
+            .simpleTypeConverter(MarshallingType.SDK_BYTES, StringToValueConverter.TO_SDK_BYTES)
+            .matchListMembersByName(true)
+            .build();
+    }
+
     private static XmlUnmarshallerRegistry createUnmarshallerRegistry() {
         return XmlUnmarshallerRegistry
             .builder()
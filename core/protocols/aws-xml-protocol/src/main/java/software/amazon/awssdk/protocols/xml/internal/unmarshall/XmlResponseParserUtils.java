@@ -51,8 +51,7 @@ public final class XmlResponseParserUtils {
 
             // In some cases the responseContent is present but empty, so when we are not expecting a body we should
             // not attempt to parse it even if the body appears to be present.
-            if ((!response.isSuccessful() || hasPayloadMembers(sdkPojo)) && responseContent.isPresent() &&
-                    !contentLengthZero(response) && !getBlobTypePayloadMemberToUnmarshal(sdkPojo).isPresent()) {
+            if (shouldParse(sdkPojo, response)) {
                 return XmlDomParser.parse(responseContent.get());
             } else {
                 return XmlElement.empty();
@@ -66,6 +65,16 @@ public final class XmlResponseParserUtils {
         }
     }
 
+    /**
+     * @param sdkPojo the SDK builder object associated with the final response
+     * @param response the HTTP response
+     * @return True if the body of the response is expected to be an XML document that should be parsed.
+     */
+    public static boolean shouldParse(SdkPojo sdkPojo, SdkHttpFullResponse response) {
+        return (!response.isSuccessful() || hasPayloadMembers(sdkPojo)) && response.content().isPresent() &&
+               !contentLengthZero(response) && !getBlobTypePayloadMemberToUnmarshal(sdkPojo).isPresent();
+    }
+
     /**
      * Gets the Member which is a Payload and which is of Blob Type.
      * @param sdkPojo
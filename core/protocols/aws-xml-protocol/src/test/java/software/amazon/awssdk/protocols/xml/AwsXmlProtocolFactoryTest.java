@@ -0,0 +1,58 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.protocols.xml;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.Test;
+import software.amazon.awssdk.core.client.config.SdkAdvancedClientOption;
+import software.amazon.awssdk.core.client.config.SdkClientConfiguration;
+
+public class AwsXmlProtocolFactoryTest {
+
+    @Test
+    public void fastUnmarshalling_disabledByDefault() {
+        AwsXmlProtocolFactory factory = AwsXmlProtocolFactory.builder()
+                                                             .clientConfiguration(SdkClientConfiguration.builder().build())
+                                                             .build();
+
+        assertThat(factory.isFastUnmarshallingEnabled()).isFalse();
+    }
+
+    @Test
+    public void fastUnmarshalling_enabledByClientOption() {
+        SdkClientConfiguration clientConfiguration =
+            SdkClientConfiguration.builder()
+                                  .option(SdkAdvancedClientOption.ENABLE_FAST_UNMARSHALLING, true)
+                                  .build();
+
+        AwsXmlProtocolFactory factory = AwsXmlProtocolFactory.builder().clientConfiguration(clientConfiguration).build();
+
+        assertThat(factory.isFastUnmarshallingEnabled()).isTrue();
+    }
+
+    @Test
+    public void fastUnmarshalling_enabledForS3ByClientOption() {
+        SdkClientConfiguration clientConfiguration =
+            SdkClientConfiguration.builder()
+                                  .option(SdkAdvancedClientOption.ENABLE_FAST_UNMARSHALLING, true)
+                                  .build();
+
+        AwsXmlProtocolFactory factory = AwsS3ProtocolFactory.builder().clientConfiguration(clientConfiguration).build();
+
+        assertThat(factory.isFastUnmarshallingEnabled()).isTrue();
+    }
+}
@@ -0,0 +1,116 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.protocols.xml.internal.unmarshall;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static software.amazon.awssdk.protocols.xml.internal.unmarshall.TestShape.member;
+
+import java.util.Collections;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.junit.Test;
+import software.amazon.awssdk.awscore.exception.AwsServiceException;
+import software.amazon.awssdk.core.Response;
+import software.amazon.awssdk.core.SdkField;
+import software.amazon.awssdk.core.interceptor.ExecutionAttributes;
+import software.amazon.awssdk.core.protocol.MarshallingType;
+import software.amazon.awssdk.http.AbortableInputStream;
+import software.amazon.awssdk.http.SdkHttpFullResponse;
+import software.amazon.awssdk.utils.StringInputStream;
+
+public class AwsXmlPredicatedResponseHandlerTest {
+
+    private static final SdkField<String> ETAG = member(MarshallingType.STRING, "ETag");
+
+    private static final String ERROR_XML = "<?xml version=\"1.0\" encoding=\"UTF-8\"?>"
+                                            + "<Error>"
+                                            + "<Code>InternalError</Code>"
+                                            + "<Message>We encountered an internal error. Please try again.</Message>"
+                                            + "<RequestId>request-id</RequestId>"
+                                            + "</Error>";
+
+    private static final String SUCCESS_XML = "<?xml version=\"1.0\" encoding=\"UTF-8\"?>"
+                                              + "<CopyObjectResult><ETag>etag</ETag></CopyObjectResult>";
+
+    @Test
+    public void errorInSuccessBody_fastUnmarshalling_matchesDom() {
+        Response<CopyObjectResult> fromDom = handle(ERROR_XML, false, new AtomicBoolean());
+        Response<CopyObjectResult> fromStream = handle(ERROR_XML, true, new AtomicBoolean());
+
+        assertThat(fromStream.isSuccess()).isFalse();
+        assertThat(fromDom.isSuccess()).isFalse();
+
+        AwsServiceException expected = (AwsServiceException) fromDom.exception();
+        AwsServiceException actual = (AwsServiceException) fromStream.exception();
+        assertThat(actual.awsErrorDetails().errorCode()).isEqualTo("InternalError")
+                                                         .isEqualTo(expected.awsErrorDetails().errorCode());
+        assertThat(actual.awsErrorDetails().errorMessage()).isEqualTo(expected.awsErrorDetails().errorMessage());
+        assertThat(actual.requestId()).isEqualTo("request-id")
+                                      .isEqualTo(expected.requestId());
+        assertThat(actual.statusCode()).isEqualTo(200)
+                                       .isEqualTo(expected.statusCode());
+    }
+
+    @Test
+    public void successBody_fastUnmarshalling_isStreamedAndMatchesDom() {
+        AtomicBoolean domStreamed = new AtomicBoolean();
+        AtomicBoolean streamStreamed = new AtomicBoolean();
+        Response<CopyObjectResult> fromDom = handle(SUCCESS_XML, false, domStreamed);
+        Response<CopyObjectResult> fromStream = handle(SUCCESS_XML, true, streamStreamed);
+
+        assertThat(domStreamed).isFalse();
+        assertThat(streamStreamed).isTrue();
+        assertThat(fromStream.isSuccess()).isTrue();
+        assertThat(fromStream.response()).isEqualTo(fromDom.response());
+        assertThat(ETAG.getValueOrDefault(fromStream.response())).isEqualTo("etag");
+    }
+
+    private static Response<CopyObjectResult> handle(String xml, boolean enableFastUnmarshalling, AtomicBoolean streamed) {
+        XmlProtocolUnmarshaller unmarshaller = XmlProtocolUnmarshaller.create(enableFastUnmarshalling);
+        AwsXmlPredicatedResponseHandler<CopyObjectResult> handler =
+            new AwsXmlPredicatedResponseHandler<>(r -> new CopyObjectResult(),
+                                                  context -> {
+                                                      streamed.set(context.xmlStreamReader() != null);
+                                                      return streamed.get() ?
+                                                             unmarshaller.unmarshall(new CopyObjectResult(),
+                                                                                     context.xmlStreamReader(),
+                                                                                     context.sdkHttpFullResponse()) :
+                                                             unmarshaller.unmarshall(new CopyObjectResult(),
+                                                                                     context.parsedRootXml(),
+                                                                                     context.sdkHttpFullResponse());
+                                                  },
+                                                  AwsXmlErrorTransformer.builder()
+                                                                        .defaultExceptionSupplier(AwsServiceException::builder)
+                                                                        .exceptions(Collections.emptyList())
+                                                                        .errorUnmarshaller(unmarshaller)
+                                                                        .build(),
+                                                  DecorateErrorFromResponseBodyUnmarshaller.of(Optional::of),
+                                                  false,
+                                                  enableFastUnmarshalling);
+
+        SdkHttpFullResponse response = SdkHttpFullResponse.builder()
+                                                          .statusCode(200)
+                                                          .content(AbortableInputStream.create(new StringInputStream(xml)))
+                                                          .build();
+        return handler.handle(response, new ExecutionAttributes());
+    }
+
+    private static final class CopyObjectResult extends TestShape {
+        private CopyObjectResult() {
+            super(ETAG);
+        }
+    }
+}
@@ -0,0 +1,139 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.protocols.xml.internal.unmarshall;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Supplier;
+import software.amazon.awssdk.core.SdkField;
+import software.amazon.awssdk.core.SdkPojo;
+import software.amazon.awssdk.core.protocol.MarshallLocation;
+import software.amazon.awssdk.core.protocol.MarshallingType;
+import software.amazon.awssdk.core.traits.ListTrait;
+import software.amazon.awssdk.core.traits.LocationTrait;
+import software.amazon.awssdk.core.traits.MapTrait;
+import software.amazon.awssdk.core.traits.Trait;
+import software.amazon.awssdk.utils.builder.Buildable;
+
+/**
+ * Modeled shape backed by a map of member values, so that tests can describe arbitrary shapes with {@link SdkField}s and
+ * compare the unmarshalled results. Each shape must be its own subclass, as unmarshallers may cache the members by class.
+ */
+abstract class TestShape implements SdkPojo, Buildable {
+
+    private final List<SdkField<?>> sdkFields;
+    private final Map<String, Object> values = new HashMap<>();
+
+    protected TestShape(SdkField<?>... sdkFields) {
+        this.sdkFields = Arrays.asList(sdkFields);
+    }
+
+    static <T> SdkField<T> member(MarshallingType<? super T> marshallingType, String name, Trait... traits) {
+        return TestShape.<T>memberBuilder(MarshallLocation.PAYLOAD, marshallingType, name, traits).build();
+    }
+
+    static <T> SdkField<T> headerMember(MarshallingType<? super T> marshallingType, String name) {
+        return TestShape.<T>memberBuilder(MarshallLocation.HEADER, marshallingType, name).build();
+    }
+
+    static SdkField<Integer> statusCodeMember(String name) {
+        return TestShape.<Integer>memberBuilder(MarshallLocation.STATUS_CODE, MarshallingType.INTEGER, name).build();
+    }
+
+    static SdkField<SdkPojo> structureMember(String name, Supplier<SdkPojo> constructor, Trait... traits) {
+        return TestShape.<SdkPojo>memberBuilder(MarshallLocation.PAYLOAD, MarshallingType.SDK_POJO, name, traits)
+                        .constructor(constructor)
+                        .build();
+    }
+
+    static SdkField<List<?>> listMember(String name, String memberName, boolean isFlattened, SdkField<?> memberField) {
+        return member(MarshallingType.LIST, name, ListTrait.builder()
+                                                           .memberLocationName(memberName)
+                                                           .memberFieldInfo(memberField)
+                                                           .isFlattened(isFlattened)
+                                                           .build());
+    }
+
+    static SdkField<Map<String, ?>> mapMember(String name, boolean isFlattened, SdkField<?> valueField) {
+        return member(MarshallingType.MAP, name, MapTrait.builder()
+                                                         .keyLocationName("key")
+                                                         .valueLocationName("value")
+                                                         .valueFieldInfo(valueField)
+                                                         .isFlattened(isFlattened)
+                                                         .build());
+    }
+
+    static <T> SdkField<T> valueInfo(MarshallingType<? super T> marshallingType, String name) {
+        return SdkField.<T>builder(marshallingType)
+                       .traits(LocationTrait.builder()
+                                            .location(MarshallLocation.PAYLOAD)
+                                            .locationName(name)
+                                            .unmarshallLocationName(name)
+                                            .build())
+                       .build();
+    }
+
+    private static <T> SdkField.Builder<T> memberBuilder(MarshallLocation location,
+                                                         MarshallingType<? super T> marshallingType,
+                                                         String name,
+                                                         Trait... traits) {
+        Trait[] allTraits = Arrays.copyOf(traits, traits.length + 1);
+        allTraits[traits.length] = LocationTrait.builder()
+                                                .location(location)
+                                                .locationName(name)
+                                                .unmarshallLocationName(name)
+                                                .build();
+        return SdkField.<T>builder(marshallingType)
+                       .memberName(name)
+                       .getter(obj -> (T) ((TestShape) obj).values.get(name))
+                       .setter((obj, val) -> ((TestShape) obj).values.put(name, val))
+                       .traits(allTraits);
+    }
+
+    @Override
+    public List<SdkField<?>> sdkFields() {
+        return sdkFields;
+    }
+
+    @Override
+    public Object build() {
+        return this;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        return Objects.equals(values, ((TestShape) o).values);
+    }
+
+    @Override
+    public int hashCode() {
+        return values.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + values;
+    }
+}
@@ -0,0 +1,207 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.protocols.xml.internal.unmarshall;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+import static software.amazon.awssdk.protocols.xml.internal.unmarshall.TestShape.headerMember;
+import static software.amazon.awssdk.protocols.xml.internal.unmarshall.TestShape.listMember;
+import static software.amazon.awssdk.protocols.xml.internal.unmarshall.TestShape.mapMember;
+import static software.amazon.awssdk.protocols.xml.internal.unmarshall.TestShape.member;
+import static software.amazon.awssdk.protocols.xml.internal.unmarshall.TestShape.statusCodeMember;
+import static software.amazon.awssdk.protocols.xml.internal.unmarshall.TestShape.structureMember;
+import static software.amazon.awssdk.protocols.xml.internal.unmarshall.TestShape.valueInfo;
+
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+import org.junit.Test;
+import software.amazon.awssdk.core.SdkBytes;
+import software.amazon.awssdk.core.SdkField;
+import software.amazon.awssdk.core.SdkPojo;
+import software.amazon.awssdk.core.protocol.MarshallingType;
+import software.amazon.awssdk.core.traits.PayloadTrait;
+import software.amazon.awssdk.core.traits.TimestampFormatTrait;
+import software.amazon.awssdk.core.traits.XmlAttributeTrait;
+import software.amazon.awssdk.http.AbortableInputStream;
+import software.amazon.awssdk.http.SdkHttpFullResponse;
+import software.amazon.awssdk.utils.StringInputStream;
+
+/**
+ * Verifies that unmarshalling a REST/XML response directly from the XML event stream produces the same result as
+ * unmarshalling it from the parsed document.
+ */
+public class XmlProtocolUnmarshallerTest {
+
+    private static final Instant TIMESTAMP = Instant.parse("2021-01-02T03:04:05Z");
+
+    private static final SdkField<String> NAME = member(MarshallingType.STRING, "Name");
+    private static final SdkField<Integer> COUNT = member(MarshallingType.INTEGER, "Count");
+    private static final SdkField<String> TYPE_ATTRIBUTE =
+        member(MarshallingType.STRING, "xsi:type", XmlAttributeTrait.create());
+
+    private static final SdkField<String> STRING_MEMBER = member(MarshallingType.STRING, "StringMember");
+    private static final SdkField<Long> LONG_MEMBER = member(MarshallingType.LONG, "LongMember");
+    private static final SdkField<Boolean> BOOLEAN_MEMBER = member(MarshallingType.BOOLEAN, "BooleanMember");
+    private static final SdkField<Instant> ISO_TIMESTAMP = member(MarshallingType.INSTANT, "IsoTimestamp");
+    private static final SdkField<Instant> EPOCH_TIMESTAMP =
+        member(MarshallingType.INSTANT, "EpochTimestamp",
+               TimestampFormatTrait.create(TimestampFormatTrait.Format.UNIX_TIMESTAMP));
+    private static final SdkField<Instant> RFC_822_TIMESTAMP =
+        member(MarshallingType.INSTANT, "Rfc822Timestamp", TimestampFormatTrait.create(TimestampFormatTrait.Format.RFC_822));
+    private static final SdkField<SdkBytes> BLOB = member(MarshallingType.SDK_BYTES, "Blob");
+    private static final SdkField<SdkPojo> NESTED = structureMember("Nested", Nested::new);
+    private static final SdkField<List<?>> LIST =
+        listMember("List", "member", false, valueInfo(MarshallingType.STRING, "member"));
+    private static final SdkField<List<?>> FLATTENED_LIST =
+        listMember("FlattenedList", null, true, structureMember("FlattenedList", Nested::new));
+    private static final SdkField<Map<String, ?>> MAP = mapMember("Map", false, valueInfo(MarshallingType.STRING, "value"));
+    private static final SdkField<Map<String, ?>> FLATTENED_MAP =
+        mapMember("FlattenedMap", true, structureMember("value", Nested::new));
+    private static final SdkField<String> EMPTY_STRING = member(MarshallingType.STRING, "EmptyString");
+    private static final SdkField<List<?>> EMPTY_LIST =
+        listMember("EmptyList", "member", false, valueInfo(MarshallingType.STRING, "member"));
+    private static final SdkField<SdkPojo> EMPTY_NESTED = structureMember("EmptyNested", Nested::new);
+    private static final SdkField<String> HEADER = headerMember(MarshallingType.STRING, "x-amz-header");
+    private static final SdkField<Integer> STATUS_CODE = statusCodeMember("StatusCode");
+
+    private static final SdkField<SdkPojo> PAYLOAD = structureMember("Grantee", Nested::new, PayloadTrait.create());
+
+    private static final String XML =
+        "<?xml version=\"1.0\" encoding=\"UTF-8\"?>"
+        + "<Result xmlns=\"http://s3.amazonaws.com/doc/2006-03-01/\""
+        + " xmlns:xsi=\"http://www.w3.org/2001/XMLSchema-instance\" xsi:type=\"Root\">"
+        + "<StringMember>string</StringMember>"
+        + "<StringMember>ignored duplicate</StringMember>"
+        + "<LongMember>42</LongMember>"
+        + "<BooleanMember>false</BooleanMember>"
+        + "<IsoTimestamp>2021-01-02T03:04:05.000Z</IsoTimestamp>"
+        + "<EpochTimestamp>1609556645</EpochTimestamp>"
+        + "<Rfc822Timestamp>Sat, 02 Jan 2021 03:04:05 GMT</Rfc822Timestamp>"
+        + "<Blob>aGVsbG8=</Blob>"
+        + "<Unknown><StringMember>ignored</StringMember></Unknown>"
+        + "<Nested xmlns:xsi=\"http://www.w3.org/2001/XMLSchema-instance\" xsi:type=\"CanonicalUser\">"
+        + "<Name>nested</Name><Count>1</Count>"
+        + "</Nested>"
+        + "<List><member>one</member><unexpected>ignored</unexpected><member>two</member></List>"
+        + "<FlattenedList><Name>first</Name></FlattenedList>"
+        + "<Map><entry><key>a</key><value>1</value></entry><entry><key>b</key><value>2</value></entry></Map>"
+        + "<FlattenedList><Name>second</Name><Count>2</Count></FlattenedList>"
+        + "<FlattenedMap><key>x</key><value><Name>mapped</Name></value></FlattenedMap>"
+        + "<FlattenedMap><key>y</key><value/></FlattenedMap>"
+        + "<EmptyString/>"
+        + "<EmptyList></EmptyList>"
+        + "<EmptyNested/>"
+        + "</Result>";
+
+    @Test
+    public void payloadMembers_streamMatchesDom() {
+        Result result = assertStreamMatchesDom(XML, Result::new);
+
+        assertThat(TYPE_ATTRIBUTE.getValueOrDefault(result)).isEqualTo("Root");
+        assertThat(STRING_MEMBER.getValueOrDefault(result)).isEqualTo("string");
+        assertThat(LONG_MEMBER.getValueOrDefault(result)).isEqualTo(42L);
+        assertThat(BOOLEAN_MEMBER.getValueOrDefault(result)).isFalse();
+        assertThat(ISO_TIMESTAMP.getValueOrDefault(result)).isEqualTo(TIMESTAMP);
+        assertThat(EPOCH_TIMESTAMP.getValueOrDefault(result)).isEqualTo(TIMESTAMP);
+        assertThat(RFC_822_TIMESTAMP.getValueOrDefault(result)).isEqualTo(TIMESTAMP);
+        assertThat(BLOB.getValueOrDefault(result)).isEqualTo(SdkBytes.fromUtf8String("hello"));
+        assertThat(NESTED.getValueOrDefault(result)).isEqualTo(nested("nested", 1, "CanonicalUser"));
+        assertThat(LIST.getValueOrDefault(result)).isEqualTo(Arrays.asList("one", "two"));
+        assertThat(FLATTENED_LIST.getValueOrDefault(result)).isEqualTo(Arrays.asList(nested("first", null, null),
+                                                                                     nested("second", 2, null)));
+        assertThat((Map<String, Object>) MAP.getValueOrDefault(result)).containsOnly(entry("a", "1"), entry("b", "2"));
+        assertThat((Map<String, Object>) FLATTENED_MAP.getValueOrDefault(result))
+            .containsOnly(entry("x", nested("mapped", null, null)), entry("y", new Nested()));
+        assertThat(EMPTY_STRING.getValueOrDefault(result)).isEmpty();
+        assertThat(EMPTY_LIST.getValueOrDefault(result)).isEmpty();
+        assertThat(EMPTY_NESTED.getValueOrDefault(result)).isEqualTo(new Nested());
+        assertThat(HEADER.getValueOrDefault(result)).isEqualTo("header-value");
+        assertThat(STATUS_CODE.getValueOrDefault(result)).isEqualTo(200);
+    }
+
+    @Test
+    public void explicitPayloadMember_streamMatchesDom() {
+        String xml = "<Grantee xmlns:xsi=\"http://www.w3.org/2001/XMLSchema-instance\" xsi:type=\"Group\">"
+                     + "<Name>grantee</Name>"
+                     + "</Grantee>";
+
+        PayloadResult result = assertStreamMatchesDom(xml, PayloadResult::new);
+
+        assertThat(PAYLOAD.getValueOrDefault(result)).isEqualTo(nested("grantee", null, "Group"));
+        assertThat(HEADER.getValueOrDefault(result)).isEqualTo("header-value");
+    }
+
+    @Test
+    public void emptyDocument_streamMatchesDom() {
+        Result result = assertStreamMatchesDom("<Result/>", Result::new);
+
+        Result expected = new Result();
+        HEADER.set(expected, "header-value");
+        STATUS_CODE.set(expected, 200);
+        assertThat(result).isEqualTo(expected);
+    }
+
+    private static <T extends TestShape> T assertStreamMatchesDom(String xml, Supplier<T> shape) {
+        T fromDom = XmlProtocolUnmarshaller.create(false).unmarshall(shape.get(), response(xml));
+        T fromStream = XmlProtocolUnmarshaller.create(true).unmarshall(shape.get(), response(xml));
+
+        assertThat(fromStream).isEqualTo(fromDom);
+        return fromStream;
+    }
+
+    private static SdkHttpFullResponse response(String xml) {
+        return SdkHttpFullResponse.builder()
+                                  .statusCode(200)
+                                  .putHeader("x-amz-header", "header-value")
+                                  .content(AbortableInputStream.create(new StringInputStream(xml)))
+                                  .build();
+    }
+
+    private static Nested nested(String name, Integer count, String type) {
+        Nested nested = new Nested();
+        NAME.set(nested, name);
+        if (count != null) {
+            COUNT.set(nested, count);
+        }
+        if (type != null) {
+            TYPE_ATTRIBUTE.set(nested, type);
+        }
+        return nested;
+    }
+
+    private static final class Nested extends TestShape {
+        private Nested() {
+            super(TYPE_ATTRIBUTE, NAME, COUNT);
+        }
+    }
+
+    private static final class Result extends TestShape {
+        private Result() {
+            super(TYPE_ATTRIBUTE, STRING_MEMBER, LONG_MEMBER, BOOLEAN_MEMBER, ISO_TIMESTAMP, EPOCH_TIMESTAMP, RFC_822_TIMESTAMP,
+                  BLOB, NESTED, LIST, FLATTENED_LIST, MAP, FLATTENED_MAP, EMPTY_STRING, EMPTY_LIST, EMPTY_NESTED, HEADER,
+                  STATUS_CODE);
+        }
+    }
+
+    private static final class PayloadResult extends TestShape {
+        private PayloadResult() {
+            super(HEADER, PAYLOAD);
+        }
+    }
+}
@@ -0,0 +1,142 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core;
+
+import java.util.Objects;
+import java.util.Optional;
+import software.amazon.awssdk.annotations.SdkPublicApi;
+import software.amazon.awssdk.utils.ToString;
+import software.amazon.awssdk.utils.Validate;
+import software.amazon.awssdk.utils.builder.CopyableBuilder;
+import software.amazon.awssdk.utils.builder.ToCopyableBuilder;
+
+/**
+ * Configuration for the gzip compression of request payloads. All values are optional, and the default values will be used
+ * if they are not specified.
+ *
+ * <p>Operations that the service accepts compressed payloads for are compressed by default once their payload reaches the
+ * minimum compression threshold. Compression can be disabled for those operations, or enabled for other operations, through
+ * {@link RequestOverrideConfiguration.Builder#compressionConfiguration(CompressionConfiguration)}. Only enable it for
+ * operations of services that accept a {@code Content-Encoding: gzip} request payload.
+ */
+@SdkPublicApi
+public final class CompressionConfiguration implements ToCopyableBuilder<CompressionConfiguration.Builder,
+    CompressionConfiguration> {
+
+    private final Boolean requestCompressionEnabled;
+    private final Integer minimumCompressionThresholdInBytes;
+
+    private CompressionConfiguration(Builder builder) {
+        this.requestCompressionEnabled = builder.requestCompressionEnabled;
+        this.minimumCompressionThresholdInBytes = builder.minimumCompressionThresholdInBytes == null
+                                                  ? null
+                                                  : Validate.isNotNegative(builder.minimumCompressionThresholdInBytes,
+                                                                           "minimumCompressionThresholdInBytes");
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * @return whether request payloads should be compressed, if specified
+     */
+    public Optional<Boolean> requestCompressionEnabled() {
+        return Optional.ofNullable(requestCompressionEnabled);
+    }
+
+    /**
+     * @return the size in bytes a request payload must reach before it is compressed, if specified
+     */
+    public Optional<Integer> minimumCompressionThresholdInBytes() {
+        return Optional.ofNullable(minimumCompressionThresholdInBytes);
+    }
+
+    @Override
+    public Builder toBuilder() {
+        return new Builder().requestCompressionEnabled(requestCompressionEnabled)
+                            .minimumCompressionThresholdInBytes(minimumCompressionThresholdInBytes);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+
+        CompressionConfiguration that = (CompressionConfiguration) o;
+
+        if (!Objects.equals(requestCompressionEnabled, that.requestCompressionEnabled)) {
+            return false;
+        }
+        return Objects.equals(minimumCompressionThresholdInBytes, that.minimumCompressionThresholdInBytes);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = requestCompressionEnabled != null ? requestCompressionEnabled.hashCode() : 0;
+        result = 31 * result + (minimumCompressionThresholdInBytes != null ? minimumCompressionThresholdInBytes.hashCode() : 0);
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return ToString.builder("CompressionConfiguration")
+                       .add("requestCompressionEnabled", requestCompressionEnabled)
+                       .add("minimumCompressionThresholdInBytes", minimumCompressionThresholdInBytes)
+                       .build();
+    }
+
+    public static final class Builder implements CopyableBuilder<CompressionConfiguration.Builder, CompressionConfiguration> {
+        private Boolean requestCompressionEnabled;
+        private Integer minimumCompressionThresholdInBytes;
+
+        private Builder() {
+        }
+
+        /**
+         * Define whether request payloads should be compressed. For operations the service accepts compressed payloads for,
+         * this defaults to true.
+         *
+         * @param requestCompressionEnabled The new requestCompressionEnabled value.
+         * @return This object for method chaining.
+         */
+        public Builder requestCompressionEnabled(Boolean requestCompressionEnabled) {
+            this.requestCompressionEnabled = requestCompressionEnabled;
+            return this;
+        }
+
+        /**
+         * Define the size in bytes a request payload must reach before it is compressed. Smaller payloads are sent
+         * uncompressed, because compressing them costs more CPU than it saves in transfer time. Defaults to 10240 bytes.
+         *
+         * @param minimumCompressionThresholdInBytes The new minimumCompressionThresholdInBytes value.
+         * @return This object for method chaining.
+         */
+        public Builder minimumCompressionThresholdInBytes(Integer minimumCompressionThresholdInBytes) {
+            this.minimumCompressionThresholdInBytes = minimumCompressionThresholdInBytes;
+            return this;
+        }
+
+        @Override
+        public CompressionConfiguration build() {
+            return new CompressionConfiguration(this);
+        }
+    }
+}
@@ -0,0 +1,175 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.Optional;
+import software.amazon.awssdk.annotations.SdkPublicApi;
+import software.amazon.awssdk.utils.ToString;
+import software.amazon.awssdk.utils.Validate;
+import software.amazon.awssdk.utils.builder.CopyableBuilder;
+import software.amazon.awssdk.utils.builder.ToCopyableBuilder;
+
+/**
+ * Configuration for hedging requests. All values are optional, and the default values will be used if they are not specified.
+ *
+ * <p>When a request is hedged, an attempt that has not received a response within the hedging delay is raced against a second,
+ * identical request. The first of the two to receive a response is used, and the other is cancelled. The hedging delay is a
+ * percentile of the recently observed latencies of the operation, so that only the slowest requests are hedged. Hedged
+ * requests draw from the same capacity as retries, so the client stops hedging while the service is failing requests.
+ *
+ * <p>Idempotent read operations of some services, such as DynamoDB {@code GetItem} and S3 {@code GetObject}, are hedged by
+ * default when they are invoked on an asynchronous client. Hedging can be disabled for those operations, or enabled for other
+ * idempotent operations, through {@link RequestOverrideConfiguration.Builder#hedgingConfiguration(HedgingConfiguration)}.
+ * Requests with a streaming payload are never hedged.
+ */
+@SdkPublicApi
+public final class HedgingConfiguration implements ToCopyableBuilder<HedgingConfiguration.Builder, HedgingConfiguration> {
+
+    private final Boolean hedgingEnabled;
+    private final Double delayPercentile;
+    private final Duration minimumDelay;
+
+    private HedgingConfiguration(Builder builder) {
+        this.hedgingEnabled = builder.hedgingEnabled;
+        if (builder.delayPercentile != null) {
+            Validate.isTrue(builder.delayPercentile > 0 && builder.delayPercentile < 100,
+                            "delayPercentile must be between 0 and 100, but was %s", builder.delayPercentile);
+        }
+        this.delayPercentile = builder.delayPercentile;
+        this.minimumDelay = builder.minimumDelay == null ? null : Validate.isNotNegative(builder.minimumDelay, "minimumDelay");
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * @return whether requests should be hedged, if specified
+     */
+    public Optional<Boolean> hedgingEnabled() {
+        return Optional.ofNullable(hedgingEnabled);
+    }
+
+    /**
+     * @return the percentile of the operation's latency after which a request is hedged, if specified
+     */
+    public Optional<Double> delayPercentile() {
+        return Optional.ofNullable(delayPercentile);
+    }
+
+    /**
+     * @return the minimum time to wait for a response before a request is hedged, if specified
+     */
+    public Optional<Duration> minimumDelay() {
+        return Optional.ofNullable(minimumDelay);
+    }
+
+    @Override
+    public Builder toBuilder() {
+        return new Builder().hedgingEnabled(hedgingEnabled)
+                            .delayPercentile(delayPercentile)
+                            .minimumDelay(minimumDelay);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+
+        HedgingConfiguration that = (HedgingConfiguration) o;
+
+        if (!Objects.equals(hedgingEnabled, that.hedgingEnabled)) {
+            return false;
+        }
+        if (!Objects.equals(delayPercentile, that.delayPercentile)) {
+            return false;
+        }
+        return Objects.equals(minimumDelay, that.minimumDelay);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = hedgingEnabled != null ? hedgingEnabled.hashCode() : 0;
+        result = 31 * result + (delayPercentile != null ? delayPercentile.hashCode() : 0);
+        result = 31 * result + (minimumDelay != null ? minimumDelay.hashCode() : 0);
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return ToString.builder("HedgingConfiguration")
+                       .add("hedgingEnabled", hedgingEnabled)
+                       .add("delayPercentile", delayPercentile)
+                       .add("minimumDelay", minimumDelay)
+                       .build();
+    }
+
+    public static final class Builder implements CopyableBuilder<HedgingConfiguration.Builder, HedgingConfiguration> {
+        private Boolean hedgingEnabled;
+        private Double delayPercentile;
+        private Duration minimumDelay;
+
+        private Builder() {
+        }
+
+        /**
+         * Define whether requests should be hedged. For operations that are hedged by default, this defaults to true. Only
+         * enable hedging for operations that are safe to send twice.
+         *
+         * @param hedgingEnabled The new hedgingEnabled value.
+         * @return This object for method chaining.
+         */
+        public Builder hedgingEnabled(Boolean hedgingEnabled) {
+            this.hedgingEnabled = hedgingEnabled;
+            return this;
+        }
+
+        /**
+         * Define the percentile of the operation's recently observed latency that an attempt may take before it is hedged. For
+         * example, a value of 95 hedges the 5% slowest attempts. Must be between 0 and 100, exclusive. Defaults to 95.
+         *
+         * @param delayPercentile The new delayPercentile value.
+         * @return This object for method chaining.
+         */
+        public Builder delayPercentile(Double delayPercentile) {
+            this.delayPercentile = delayPercentile;
+            return this;
+        }
+
+        /**
+         * Define the minimum time to wait for a response before an attempt is hedged, regardless of the observed latency of the
+         * operation. Defaults to 10 milliseconds.
+         *
+         * @param minimumDelay The new minimumDelay value.
+         * @return This object for method chaining.
+         */
+        public Builder minimumDelay(Duration minimumDelay) {
+            this.minimumDelay = minimumDelay;
+            return this;
+        }
+
+        @Override
+        public HedgingConfiguration build() {
+            return new HedgingConfiguration(this);
+        }
+    }
+}
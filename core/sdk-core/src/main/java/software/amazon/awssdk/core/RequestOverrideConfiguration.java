@@ -49,6 +49,8 @@ public abstract class RequestOverrideConfiguration {
     private final Signer signer;
     private final List<MetricPublisher> metricPublishers;
     private final ExecutionAttributes executionAttributes;
+    private final CompressionConfiguration compressionConfiguration;
+    private final HedgingConfiguration hedgingConfiguration;
 
     protected RequestOverrideConfiguration(Builder<?> builder) {
         this.headers = CollectionUtils.deepUnmodifiableMap(builder.headers(), () -> new TreeMap<>(String.CASE_INSENSITIVE_ORDER));
@@ -59,6 +61,8 @@ public abstract class RequestOverrideConfiguration {
         this.signer = builder.signer();
         this.metricPublishers = Collections.unmodifiableList(new ArrayList<>(builder.metricPublishers()));
         this.executionAttributes = ExecutionAttributes.unmodifiableExecutionAttributes(builder.executionAttributes());
+        this.compressionConfiguration = builder.compressionConfiguration();
+        this.hedgingConfiguration = builder.hedgingConfiguration();
     }
 
     /**
@@ -152,6 +156,26 @@ public abstract class RequestOverrideConfiguration {
         return executionAttributes;
     }
 
+    /**
+     * Returns the configuration for compressing the payload of this request. If this value is not set, request payloads are
+     * compressed only for operations that the service accepts compressed payloads for.
+     *
+     * @see Builder#compressionConfiguration(CompressionConfiguration)
+     */
+    public Optional<CompressionConfiguration> compressionConfiguration() {
+        return Optional.ofNullable(compressionConfiguration);
+    }
+
+    /**
+     * Returns the configuration for hedging this request. If this value is not set, only idempotent read operations that are
+     * hedged by default are hedged.
+     *
+     * @see Builder#hedgingConfiguration(HedgingConfiguration)
+     */
+    public Optional<HedgingConfiguration> hedgingConfiguration() {
+        return Optional.ofNullable(hedgingConfiguration);
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) {
@@ -168,7 +192,9 @@ public abstract class RequestOverrideConfiguration {
                Objects.equals(apiCallAttemptTimeout, that.apiCallAttemptTimeout) &&
                Objects.equals(signer, that.signer) &&
                Objects.equals(metricPublishers, that.metricPublishers) &&
-               Objects.equals(executionAttributes, that.executionAttributes);
+               Objects.equals(executionAttributes, that.executionAttributes) &&
+               Objects.equals(compressionConfiguration, that.compressionConfiguration) &&
+               Objects.equals(hedgingConfiguration, that.hedgingConfiguration);
     }
 
     @Override
@@ -182,6 +208,8 @@ public abstract class RequestOverrideConfiguration {
         hashCode = 31 * hashCode + Objects.hashCode(signer);
         hashCode = 31 * hashCode + Objects.hashCode(metricPublishers);
         hashCode = 31 * hashCode + Objects.hashCode(executionAttributes);
+        hashCode = 31 * hashCode + Objects.hashCode(compressionConfiguration);
+        hashCode = 31 * hashCode + Objects.hashCode(hedgingConfiguration);
         return hashCode;
     }
 
@@ -403,6 +431,46 @@ public abstract class RequestOverrideConfiguration {
 
         ExecutionAttributes executionAttributes();
 
+        /**
+         * Configure the compression of the payload of this request, for example to disable compression for an operation that
+         * would otherwise be compressed, or to enable it for an operation of a service that accepts gzip-encoded payloads.
+         *
+         * @param compressionConfiguration The compression configuration for this request.
+         * @return This object for method chaining.
+         */
+        B compressionConfiguration(CompressionConfiguration compressionConfiguration);
+
+        /**
+         * Configure the compression of the payload of this request.
+         *
+         * @param compressionConfigurationConsumer A {@link Consumer} that accepts a {@link CompressionConfiguration.Builder}.
+         * @return This object for method chaining.
+         * @see #compressionConfiguration(CompressionConfiguration)
+         */
+        B compressionConfiguration(Consumer<CompressionConfiguration.Builder> compressionConfigurationConsumer);
+
+        CompressionConfiguration compressionConfiguration();
+
+        /**
+         * Configure the hedging of this request, for example to disable hedging for an operation that would otherwise be
+         * hedged, or to enable it for another operation that is safe to send twice.
+         *
+         * @param hedgingConfiguration The hedging configuration for this request.
+         * @return This object for method chaining.
+         */
+        B hedgingConfiguration(HedgingConfiguration hedgingConfiguration);
+
+        /**
+         * Configure the hedging of this request.
+         *
+         * @param hedgingConfigurationConsumer A {@link Consumer} that accepts a {@link HedgingConfiguration.Builder}.
+         * @return This object for method chaining.
+         * @see #hedgingConfiguration(HedgingConfiguration)
+         */
+        B hedgingConfiguration(Consumer<HedgingConfiguration.Builder> hedgingConfigurationConsumer);
+
+        HedgingConfiguration hedgingConfiguration();
+
         /**
          * Create a new {@code SdkRequestOverrideConfiguration} with the properties set on this builder.
          *
@@ -420,6 +488,8 @@ public abstract class RequestOverrideConfiguration {
         private Signer signer;
         private List<MetricPublisher> metricPublishers = new ArrayList<>();
         private ExecutionAttributes.Builder executionAttributesBuilder = ExecutionAttributes.builder();
+        private CompressionConfiguration compressionConfiguration;
+        private HedgingConfiguration hedgingConfiguration;
 
         protected BuilderImpl() {
         }
@@ -428,6 +498,8 @@ public abstract class RequestOverrideConfiguration {
             headers(sdkRequestOverrideConfig.headers);
             rawQueryParameters(sdkRequestOverrideConfig.rawQueryParameters);
             sdkRequestOverrideConfig.apiNames.forEach(this::addApiName);
+            compressionConfiguration(sdkRequestOverrideConfig.compressionConfiguration);
+            hedgingConfiguration(sdkRequestOverrideConfig.hedgingConfiguration);
         }
 
         @Override
@@ -581,5 +653,49 @@ public abstract class RequestOverrideConfiguration {
         public void setExecutionAttributes(ExecutionAttributes executionAttributes) {
             executionAttributes(executionAttributes);
         }
+
+        @Override
+        public B compressionConfiguration(CompressionConfiguration compressionConfiguration) {
+            this.compressionConfiguration = compressionConfiguration;
+            return (B) this;
+        }
+
+        @Override
+        public B compressionConfiguration(Consumer<CompressionConfiguration.Builder> compressionConfigurationConsumer) {
+            CompressionConfiguration.Builder b = CompressionConfiguration.builder();
+            compressionConfigurationConsumer.accept(b);
+            return compressionConfiguration(b.build());
+        }
+
+        public void setCompressionConfiguration(CompressionConfiguration compressionConfiguration) {
+            compressionConfiguration(compressionConfiguration);
+        }
+
+        @Override
+        public CompressionConfiguration compressionConfiguration() {
+            return compressionConfiguration;
+        }
+
+        @Override
+        public B hedgingConfiguration(HedgingConfiguration hedgingConfiguration) {
+            this.hedgingConfiguration = hedgingConfiguration;
+            return (B) this;
+        }
+
+        @Override
+        public B hedgingConfiguration(Consumer<HedgingConfiguration.Builder> hedgingConfigurationConsumer) {
+            HedgingConfiguration.Builder b = HedgingConfiguration.builder();
+            hedgingConfigurationConsumer.accept(b);
+            return hedgingConfiguration(b.build());
+        }
+
+        public void setHedgingConfiguration(HedgingConfiguration hedgingConfiguration) {
+            hedgingConfiguration(hedgingConfiguration);
+        }
+
+        @Override
+        public HedgingConfiguration hedgingConfiguration() {
+            return hedgingConfiguration;
+        }
     }
 }
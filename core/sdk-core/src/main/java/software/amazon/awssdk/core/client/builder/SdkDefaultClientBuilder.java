@@ -18,7 +18,12 @@ package software.amazon.awssdk.core.client.builder;
 import static software.amazon.awssdk.core.ClientType.ASYNC;
 import static software.amazon.awssdk.core.ClientType.SYNC;
 import static software.amazon.awssdk.core.client.config.SdkAdvancedAsyncClientOption.FUTURE_COMPLETION_EXECUTOR;
+import static software.amazon.awssdk.core.client.config.SdkAdvancedClientOption.ACCEPT_COMPRESSED_RESPONSES;
+import static software.amazon.awssdk.core.client.config.SdkAdvancedClientOption.COALESCE_IDENTICAL_REQUESTS;
 import static software.amazon.awssdk.core.client.config.SdkAdvancedClientOption.DISABLE_HOST_PREFIX_INJECTION;
+import static software.amazon.awssdk.core.client.config.SdkAdvancedClientOption.ENABLE_BUFFER_POOLING;
+import static software.amazon.awssdk.core.client.config.SdkAdvancedClientOption.ENABLE_FAST_UNMARSHALLING;
+import static software.amazon.awssdk.core.client.config.SdkAdvancedClientOption.ENABLE_LAZY_UNMARSHALLING;
 import static software.amazon.awssdk.core.client.config.SdkAdvancedClientOption.SIGNER;
 import static software.amazon.awssdk.core.client.config.SdkAdvancedClientOption.USER_AGENT_PREFIX;
 import static software.amazon.awssdk.core.client.config.SdkAdvancedClientOption.USER_AGENT_SUFFIX;
@@ -30,12 +35,14 @@ import static software.amazon.awssdk.core.client.config.SdkClientOption.CRC32_FR
 import static software.amazon.awssdk.core.client.config.SdkClientOption.ENDPOINT_OVERRIDDEN;
 import static software.amazon.awssdk.core.client.config.SdkClientOption.EXECUTION_ATTRIBUTES;
 import static software.amazon.awssdk.core.client.config.SdkClientOption.EXECUTION_INTERCEPTORS;
+import static software.amazon.awssdk.core.client.config.SdkClientOption.EXECUTION_INTERCEPTOR_CHAIN;
 import static software.amazon.awssdk.core.client.config.SdkClientOption.METRIC_PUBLISHERS;
 import static software.amazon.awssdk.core.client.config.SdkClientOption.PROFILE_FILE;
 import static software.amazon.awssdk.core.client.config.SdkClientOption.PROFILE_NAME;
 import static software.amazon.awssdk.core.client.config.SdkClientOption.RETRY_POLICY;
 import static software.amazon.awssdk.core.client.config.SdkClientOption.SCHEDULED_EXECUTOR_SERVICE;
 import static software.amazon.awssdk.core.client.config.SdkClientOption.SIGNER_OVERRIDDEN;
+import static software.amazon.awssdk.core.client.config.SdkClientOption.TIMEOUT_SCHEDULER;
 import static software.amazon.awssdk.core.internal.SdkInternalTestAdvancedClientOption.ENDPOINT_OVERRIDDEN_OVERRIDE;
 import static software.amazon.awssdk.utils.CollectionUtils.mergeLists;
 import static software.amazon.awssdk.utils.Validate.paramNotNull;
@@ -62,11 +69,16 @@ import software.amazon.awssdk.core.client.config.SdkClientConfiguration;
 import software.amazon.awssdk.core.client.config.SdkClientOption;
 import software.amazon.awssdk.core.interceptor.ClasspathInterceptorChainFactory;
 import software.amazon.awssdk.core.interceptor.ExecutionInterceptor;
+import software.amazon.awssdk.core.interceptor.ExecutionInterceptorChain;
 import software.amazon.awssdk.core.internal.http.loader.DefaultSdkAsyncHttpClientBuilder;
 import software.amazon.awssdk.core.internal.http.loader.DefaultSdkHttpClientBuilder;
+import software.amazon.awssdk.core.internal.http.timers.ExecutorTimeoutScheduler;
+import software.amazon.awssdk.core.internal.http.timers.HashedWheelTimeoutScheduler;
 import software.amazon.awssdk.core.internal.interceptor.HttpChecksumRequiredInterceptor;
+import software.amazon.awssdk.core.internal.util.UnmanagedScheduledExecutorService;
 import software.amazon.awssdk.core.retry.RetryMode;
 import software.amazon.awssdk.core.retry.RetryPolicy;
+import software.amazon.awssdk.core.timeout.TimeoutScheduler;
 import software.amazon.awssdk.core.util.SdkUserAgent;
 import software.amazon.awssdk.http.ExecutableHttpRequest;
 import software.amazon.awssdk.http.HttpExecuteRequest;
@@ -246,9 +258,13 @@ public abstract class SdkDefaultClientBuilder<B extends SdkClientBuilder<B, C>,
      * Finalize global configuration from the default-applied configuration.
      */
     private SdkClientConfiguration finalizeConfiguration(SdkClientConfiguration config) {
+        List<ExecutionInterceptor> executionInterceptors = resolveExecutionInterceptors(config);
+        ScheduledExecutorService scheduledExecutor = resolveScheduledExecutorService(config);
         return config.toBuilder()
-                     .option(SCHEDULED_EXECUTOR_SERVICE, resolveScheduledExecutorService())
-                     .option(EXECUTION_INTERCEPTORS, resolveExecutionInterceptors(config))
+                     .option(SCHEDULED_EXECUTOR_SERVICE, scheduledExecutor)
+                     .option(TIMEOUT_SCHEDULER, resolveTimeoutScheduler(config, scheduledExecutor))
+                     .option(EXECUTION_INTERCEPTORS, executionInterceptors)
+                     .option(EXECUTION_INTERCEPTOR_CHAIN, new ExecutionInterceptorChain(executionInterceptors))
                      .option(RETRY_POLICY, resolveRetryPolicy(config))
                      .build();
     }
@@ -328,9 +344,28 @@ public abstract class SdkDefaultClientBuilder<B extends SdkClientBuilder<B, C>,
      * Finalize the internal SDK scheduled executor service that is used for scheduling tasks such
      * as async retry attempts and timeout task.
      */
-    private ScheduledExecutorService resolveScheduledExecutorService() {
-        return Executors.newScheduledThreadPool(5, new ThreadFactoryBuilder()
-            .threadNamePrefix("sdk-ScheduledExecutor").build());
+    private ScheduledExecutorService resolveScheduledExecutorService(SdkClientConfiguration config) {
+        return Optional.ofNullable(config.option(SCHEDULED_EXECUTOR_SERVICE))
+                       .orElseGet(() -> Executors.newScheduledThreadPool(5, new ThreadFactoryBuilder()
+                           .threadNamePrefix("sdk-ScheduledExecutor").build()));
+    }
+
+    /**
+     * Finalize the scheduler used to enforce API call and API call attempt timeouts. If the customer configured a scheduled
+     * executor service, timeouts are scheduled on it. Otherwise, all clients share a single hashed-wheel timer, which hands
+     * expired timeouts off to the scheduled executor service of the client that scheduled them.
+     */
+    private TimeoutScheduler resolveTimeoutScheduler(SdkClientConfiguration config, ScheduledExecutorService scheduledExecutor) {
+        TimeoutScheduler timeoutScheduler = config.option(TIMEOUT_SCHEDULER);
+        if (timeoutScheduler != null) {
+            return timeoutScheduler;
+        }
+
+        if (config.option(SCHEDULED_EXECUTOR_SERVICE) != null) {
+            return new ExecutorTimeoutScheduler(scheduledExecutor);
+        }
+
+        return HashedWheelTimeoutScheduler.shared().dispatchingTo(scheduledExecutor);
     }
 
     /**
@@ -389,10 +424,24 @@ public abstract class SdkDefaultClientBuilder<B extends SdkClientBuilder<B, C>,
         clientConfiguration.option(API_CALL_ATTEMPT_TIMEOUT, overrideConfig.apiCallAttemptTimeout().orElse(null));
         clientConfiguration.option(DISABLE_HOST_PREFIX_INJECTION,
                                    overrideConfig.advancedOption(DISABLE_HOST_PREFIX_INJECTION).orElse(null));
+        clientConfiguration.option(ENABLE_FAST_UNMARSHALLING,
+                                   overrideConfig.advancedOption(ENABLE_FAST_UNMARSHALLING).orElse(null));
+        clientConfiguration.option(ENABLE_LAZY_UNMARSHALLING,
+                                   overrideConfig.advancedOption(ENABLE_LAZY_UNMARSHALLING).orElse(null));
+        clientConfiguration.option(ENABLE_BUFFER_POOLING,
+                                   overrideConfig.advancedOption(ENABLE_BUFFER_POOLING).orElse(null));
+        clientConfiguration.option(ACCEPT_COMPRESSED_RESPONSES,
+                                   overrideConfig.advancedOption(ACCEPT_COMPRESSED_RESPONSES).orElse(null));
+        clientConfiguration.option(COALESCE_IDENTICAL_REQUESTS,
+                                   overrideConfig.advancedOption(COALESCE_IDENTICAL_REQUESTS).orElse(null));
         clientConfiguration.option(PROFILE_FILE, overrideConfig.defaultProfileFile().orElse(null));
         clientConfiguration.option(PROFILE_NAME, overrideConfig.defaultProfileName().orElse(null));
         clientConfiguration.option(METRIC_PUBLISHERS, overrideConfig.metricPublishers());
         clientConfiguration.option(EXECUTION_ATTRIBUTES, overrideConfig.executionAttributes());
+        clientConfiguration.option(SCHEDULED_EXECUTOR_SERVICE,
+                                   overrideConfig.scheduledExecutorService()
+                                                 .map(UnmanagedScheduledExecutorService::new)
+                                                 .orElse(null));
         overrideConfig.advancedOption(ENDPOINT_OVERRIDDEN_OVERRIDE).ifPresent(value -> {
             clientConfiguration.option(ENDPOINT_OVERRIDDEN, value);
         });
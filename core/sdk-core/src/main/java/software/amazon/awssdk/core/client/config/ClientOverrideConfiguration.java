@@ -23,6 +23,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.TreeMap;
+import java.util.concurrent.ScheduledExecutorService;
 import java.util.function.Consumer;
 import software.amazon.awssdk.annotations.SdkPublicApi;
 import software.amazon.awssdk.core.interceptor.ExecutionAttribute;
@@ -60,6 +61,7 @@ public final class ClientOverrideConfiguration
     private final String defaultProfileName;
     private final List<MetricPublisher> metricPublishers;
     private final ExecutionAttributes executionAttributes;
+    private final ScheduledExecutorService scheduledExecutorService;
 
     /**
      * Initialize this configuration. Private to require use of {@link #builder()}.
@@ -75,6 +77,7 @@ public final class ClientOverrideConfiguration
         this.defaultProfileName = builder.defaultProfileName();
         this.metricPublishers = Collections.unmodifiableList(new ArrayList<>(builder.metricPublishers()));
         this.executionAttributes = ExecutionAttributes.unmodifiableExecutionAttributes(builder.executionAttributes());
+        this.scheduledExecutorService = builder.scheduledExecutorService();
     }
 
     @Override
@@ -87,7 +90,8 @@ public final class ClientOverrideConfiguration
                 .executionInterceptors(executionInterceptors)
                 .defaultProfileFile(defaultProfileFile)
                 .defaultProfileName(defaultProfileName)
-                .executionAttributes(executionAttributes);
+                .executionAttributes(executionAttributes)
+                .scheduledExecutorService(scheduledExecutorService);
     }
 
     /**
@@ -210,6 +214,15 @@ public final class ClientOverrideConfiguration
         return executionAttributes;
     }
 
+    /**
+     * The scheduled executor service that the client schedules tasks such as async retry attempts and timeouts on.
+     *
+     * @see Builder#scheduledExecutorService(ScheduledExecutorService)
+     */
+    public Optional<ScheduledExecutorService> scheduledExecutorService() {
+        return Optional.ofNullable(scheduledExecutorService);
+    }
+
     @Override
     public String toString() {
         return ToString.builder("ClientOverrideConfiguration")
@@ -469,6 +482,23 @@ public final class ClientOverrideConfiguration
         <T> Builder putExecutionAttribute(ExecutionAttribute<T> attribute, T value);
 
         ExecutionAttributes executionAttributes();
+
+        /**
+         * Configure the scheduled executor service that the client uses to schedule tasks such as async retry attempts, and to
+         * enforce the {@link #apiCallTimeout(Duration)} and {@link #apiCallAttemptTimeout(Duration)}.
+         *
+         * <p>The client does not shut down this executor when it is closed. It is the responsibility of the caller to shut it
+         * down once all clients using it have been closed.</p>
+         *
+         * <p>If this is not configured, the client creates its own executor, and timeouts are tracked on a timer that is shared
+         * by all clients.</p>
+         *
+         * @param scheduledExecutorService The scheduled executor service to use.
+         * @return This object for method chaining.
+         */
+        Builder scheduledExecutorService(ScheduledExecutorService scheduledExecutorService);
+
+        ScheduledExecutorService scheduledExecutorService();
     }
 
     /**
@@ -485,6 +515,7 @@ public final class ClientOverrideConfiguration
         private String defaultProfileName;
         private List<MetricPublisher> metricPublishers = new ArrayList<>();
         private ExecutionAttributes.Builder executionAttributesBuilder = ExecutionAttributes.builder();
+        private ScheduledExecutorService scheduledExecutorService;
 
         @Override
         public Builder headers(Map<String, List<String>> headers) {
@@ -667,6 +698,21 @@ public final class ClientOverrideConfiguration
             return executionAttributesBuilder.build();
         }
 
+        @Override
+        public Builder scheduledExecutorService(ScheduledExecutorService scheduledExecutorService) {
+            this.scheduledExecutorService = scheduledExecutorService;
+            return this;
+        }
+
+        public void setScheduledExecutorService(ScheduledExecutorService scheduledExecutorService) {
+            scheduledExecutorService(scheduledExecutorService);
+        }
+
+        @Override
+        public ScheduledExecutorService scheduledExecutorService() {
+            return scheduledExecutorService;
+        }
+
         @Override
         public ClientOverrideConfiguration build() {
             return new ClientOverrideConfiguration(this);
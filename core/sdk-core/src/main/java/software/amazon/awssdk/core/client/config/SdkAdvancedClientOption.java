@@ -54,6 +54,58 @@ public class SdkAdvancedClientOption<T> extends ClientOption<T> {
     public static final SdkAdvancedClientOption<Boolean> DISABLE_HOST_PREFIX_INJECTION =
         new SdkAdvancedClientOption<>(Boolean.class);
 
+    /**
+     * Whether responses should be unmarshalled directly from the token stream of their payload, instead of first parsing the
+     * whole payload into an intermediate tree. This reduces the memory allocated for each response, and produces the same
+     * result as the default unmarshaller. Error responses are not affected.
+     *
+     * <p>This is supported by services using the JSON, CBOR, XML and Query protocols, and is disabled by default.
+     */
+    public static final SdkAdvancedClientOption<Boolean> ENABLE_FAST_UNMARSHALLING =
+        new SdkAdvancedClientOption<>(Boolean.class);
+
+    /**
+     * Whether list and map members of responses should be unmarshalled lazily, when they are first accessed, instead of
+     * when the response is received. Responses that have such members keep their raw payload in memory until then, which
+     * makes reading only a few members of a large response cheaper.
+     *
+     * <p>This is currently supported by services using the JSON and CBOR protocols, and is disabled by default.
+     */
+    public static final SdkAdvancedClientOption<Boolean> ENABLE_LAZY_UNMARSHALLING =
+        new SdkAdvancedClientOption<>(Boolean.class);
+
+    /**
+     * Whether requests should be marshalled into output buffers borrowed from a pool shared by all clients, instead of
+     * allocating and growing a new buffer for every request. This reduces allocation when sending many requests.
+     *
+     * <p>This is currently supported by services using the JSON and CBOR protocols, and is disabled by default.
+     */
+    public static final SdkAdvancedClientOption<Boolean> ENABLE_BUFFER_POOLING =
+        new SdkAdvancedClientOption<>(Boolean.class);
+
+    /**
+     * Whether the client should ask for gzip-compressed responses by sending {@code Accept-Encoding: gzip} with requests whose
+     * responses are not streamed to the caller. Compressed responses are decompressed as they are unmarshalled, and CRC32
+     * checksums sent by the service are validated against the compressed or decompressed payload as the service expects.
+     *
+     * <p>This trades CPU for network bandwidth, which is usually worthwhile for large JSON or XML responses. It is disabled
+     * by default, and has no effect on requests that already set an {@code Accept-Encoding} header.
+     */
+    public static final SdkAdvancedClientOption<Boolean> ACCEPT_COMPRESSED_RESPONSES =
+        new SdkAdvancedClientOption<>(Boolean.class);
+
+    /**
+     * Whether concurrent identical requests of an asynchronous client should share one HTTP call and its response. This only
+     * applies to safe, side-effect-free operations that are known to support it, such as DynamoDB GetItem, S3 HeadObject or
+     * SSM GetParameter. Requests are identical if they are made with the same credentials and signer, and marshal to the same
+     * HTTP request.
+     *
+     * <p>A request that joins a call already in flight may receive a response that was read before the request was made. It is
+     * disabled by default.
+     */
+    public static final SdkAdvancedClientOption<Boolean> COALESCE_IDENTICAL_REQUESTS =
+        new SdkAdvancedClientOption<>(Boolean.class);
+
     protected SdkAdvancedClientOption(Class<T> valueClass) {
         super(valueClass);
     }
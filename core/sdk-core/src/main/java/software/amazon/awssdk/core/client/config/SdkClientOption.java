@@ -25,8 +25,10 @@ import software.amazon.awssdk.core.ClientType;
 import software.amazon.awssdk.core.ServiceConfiguration;
 import software.amazon.awssdk.core.interceptor.ExecutionAttributes;
 import software.amazon.awssdk.core.interceptor.ExecutionInterceptor;
+import software.amazon.awssdk.core.interceptor.ExecutionInterceptorChain;
 import software.amazon.awssdk.core.retry.RetryMode;
 import software.amazon.awssdk.core.retry.RetryPolicy;
+import software.amazon.awssdk.core.timeout.TimeoutScheduler;
 import software.amazon.awssdk.http.SdkHttpClient;
 import software.amazon.awssdk.http.async.SdkAsyncHttpClient;
 import software.amazon.awssdk.metrics.MetricPublisher;
@@ -54,6 +56,12 @@ public final class SdkClientOption<T> extends ClientOption<T> {
     public static final SdkClientOption<List<ExecutionInterceptor>> EXECUTION_INTERCEPTORS =
             new SdkClientOption<>(new UnsafeValueType(List.class));
 
+    /**
+     * The chain of the {@link #EXECUTION_INTERCEPTORS}, created once when the client is built.
+     */
+    public static final SdkClientOption<ExecutionInterceptorChain> EXECUTION_INTERCEPTOR_CHAIN =
+            new SdkClientOption<>(ExecutionInterceptorChain.class);
+
     /**
      * The effective endpoint the client is configured to make requests to. If the client has been configured with
      * an endpoint override then this value will be the provided endpoint value.
@@ -85,6 +93,13 @@ public final class SdkClientOption<T> extends ClientOption<T> {
     public static final SdkClientOption<ScheduledExecutorService> SCHEDULED_EXECUTOR_SERVICE =
             new SdkClientOption<>(ScheduledExecutorService.class);
 
+    /**
+     * The scheduler used to enforce API call and API call attempt timeouts. If not set, timeouts are scheduled on the
+     * {@link #SCHEDULED_EXECUTOR_SERVICE}.
+     */
+    public static final SdkClientOption<TimeoutScheduler> TIMEOUT_SCHEDULER =
+            new SdkClientOption<>(TimeoutScheduler.class);
+
     /**
      * The asynchronous HTTP client implementation to make HTTP requests with.
      */
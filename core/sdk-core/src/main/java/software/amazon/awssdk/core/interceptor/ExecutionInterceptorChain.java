@@ -16,12 +16,15 @@
 package software.amazon.awssdk.core.interceptor;
 
 import java.io.InputStream;
+import java.lang.reflect.Method;
 import java.nio.ByteBuffer;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.function.Consumer;
+import java.util.Set;
 import org.reactivestreams.Publisher;
 import software.amazon.awssdk.annotations.SdkProtectedApi;
 import software.amazon.awssdk.core.SdkRequest;
@@ -43,48 +46,103 @@ import software.amazon.awssdk.utils.Validate;
  * Interceptors are invoked in forward order up to {@link #beforeTransmission} and in reverse order after (and including)
  * {@link #afterTransmission}. This ensures the last interceptors to modify the request are the first interceptors to see the
  * response.
+ *
+ * Each hook is only invoked on the interceptors that override it, because the default implementations in
+ * {@link ExecutionInterceptor} do nothing. Which interceptors override which hooks is determined once, when the chain is
+ * created.
  */
 @SdkProtectedApi
 public class ExecutionInterceptorChain {
     private static final Logger LOG = Logger.loggerFor(ExecutionInterceptorChain.class);
 
+    /**
+     * The names of the {@link ExecutionInterceptor} hooks that are overridden by an interceptor class.
+     */
+    private static final ClassValue<Set<String>> OVERRIDDEN_HOOKS = new ClassValue<Set<String>>() {
+        @Override
+        protected Set<String> computeValue(Class<?> interceptorClass) {
+            return overriddenHooks(interceptorClass);
+        }
+    };
+
     private final List<ExecutionInterceptor> interceptors;
 
+    private final ExecutionInterceptor[] beforeExecutionInterceptors;
+    private final ExecutionInterceptor[] modifyRequestInterceptors;
+    private final ExecutionInterceptor[] beforeMarshallingInterceptors;
+    private final ExecutionInterceptor[] afterMarshallingInterceptors;
+    private final ExecutionInterceptor[] modifyHttpRequestInterceptors;
+    private final ExecutionInterceptor[] beforeTransmissionInterceptors;
+    private final ExecutionInterceptor[] afterTransmissionInterceptors;
+    private final ExecutionInterceptor[] modifyHttpResponseInterceptors;
+    private final ExecutionInterceptor[] modifyAsyncHttpResponseInterceptors;
+    private final ExecutionInterceptor[] beforeUnmarshallingInterceptors;
+    private final ExecutionInterceptor[] afterUnmarshallingInterceptors;
+    private final ExecutionInterceptor[] modifyResponseInterceptors;
+    private final ExecutionInterceptor[] afterExecutionInterceptors;
+    private final ExecutionInterceptor[] modifyExceptionInterceptors;
+    private final ExecutionInterceptor[] onExecutionFailureInterceptors;
+
     /**
      * Create a chain that will execute the provided interceptors in the order they are provided.
      */
     public ExecutionInterceptorChain(List<ExecutionInterceptor> interceptors) {
         this.interceptors = new ArrayList<>(Validate.paramNotNull(interceptors, "interceptors"));
         LOG.debug(() -> "Creating an interceptor chain that will apply interceptors in the following order: " + interceptors);
+
+        this.beforeExecutionInterceptors = overriding(false, "beforeExecution");
+        this.modifyRequestInterceptors = overriding(false, "modifyRequest");
+        this.beforeMarshallingInterceptors = overriding(false, "beforeMarshalling");
+        this.afterMarshallingInterceptors = overriding(false, "afterMarshalling");
+        this.modifyHttpRequestInterceptors = overriding(false, "modifyHttpRequest", "modifyHttpContent",
+                                                        "modifyAsyncHttpContent");
+        this.beforeTransmissionInterceptors = overriding(false, "beforeTransmission");
+        this.afterTransmissionInterceptors = overriding(true, "afterTransmission");
+        this.modifyHttpResponseInterceptors = overriding(true, "modifyHttpResponse", "modifyHttpResponseContent");
+        this.modifyAsyncHttpResponseInterceptors = overriding(true, "modifyAsyncHttpResponseContent");
+        this.beforeUnmarshallingInterceptors = overriding(true, "beforeUnmarshalling");
+        this.afterUnmarshallingInterceptors = overriding(true, "afterUnmarshalling");
+        this.modifyResponseInterceptors = overriding(true, "modifyResponse");
+        this.afterExecutionInterceptors = overriding(true, "afterExecution");
+        this.modifyExceptionInterceptors = overriding(true, "modifyException");
+        this.onExecutionFailureInterceptors = overriding(false, "onExecutionFailure");
     }
 
     public void beforeExecution(Context.BeforeExecution context, ExecutionAttributes executionAttributes) {
-        interceptors.forEach(i -> i.beforeExecution(context, executionAttributes));
+        for (ExecutionInterceptor interceptor : beforeExecutionInterceptors) {
+            interceptor.beforeExecution(context, executionAttributes);
+        }
     }
 
     public InterceptorContext modifyRequest(InterceptorContext context, ExecutionAttributes executionAttributes) {
         InterceptorContext result = context;
-        for (ExecutionInterceptor interceptor : interceptors) {
+        for (ExecutionInterceptor interceptor : modifyRequestInterceptors) {
             SdkRequest interceptorResult = interceptor.modifyRequest(result, executionAttributes);
             validateInterceptorResult(result.request(), interceptorResult, interceptor, "modifyRequest");
 
-            result = result.copy(b -> b.request(interceptorResult));
+            if (interceptorResult != result.request()) {
+                result = result.copy(b -> b.request(interceptorResult));
+            }
         }
         return result;
     }
 
     public void beforeMarshalling(Context.BeforeMarshalling context, ExecutionAttributes executionAttributes) {
-        interceptors.forEach(i -> i.beforeMarshalling(context, executionAttributes));
+        for (ExecutionInterceptor interceptor : beforeMarshallingInterceptors) {
+            interceptor.beforeMarshalling(context, executionAttributes);
+        }
     }
 
     public void afterMarshalling(Context.AfterMarshalling context, ExecutionAttributes executionAttributes) {
-        interceptors.forEach(i -> i.afterMarshalling(context, executionAttributes));
+        for (ExecutionInterceptor interceptor : afterMarshallingInterceptors) {
+            interceptor.afterMarshalling(context, executionAttributes);
+        }
     }
 
     public InterceptorContext modifyHttpRequestAndHttpContent(InterceptorContext context,
                                                               ExecutionAttributes executionAttributes) {
         InterceptorContext result = context;
-        for (ExecutionInterceptor interceptor : interceptors) {
+        for (ExecutionInterceptor interceptor : modifyHttpRequestInterceptors) {
             AsyncRequestBody asyncRequestBody = interceptor.modifyAsyncHttpContent(result, executionAttributes).orElse(null);
             RequestBody requestBody = interceptor.modifyHttpContent(result, executionAttributes).orElse(null);
             SdkHttpRequest interceptorResult = interceptor.modifyHttpRequest(result, executionAttributes);
@@ -126,23 +184,26 @@ public class ExecutionInterceptorChain {
     }
 
     public void beforeTransmission(Context.BeforeTransmission context, ExecutionAttributes executionAttributes) {
-        interceptors.forEach(i -> i.beforeTransmission(context, executionAttributes));
+        for (ExecutionInterceptor interceptor : beforeTransmissionInterceptors) {
+            interceptor.beforeTransmission(context, executionAttributes);
+        }
     }
 
     public void afterTransmission(Context.AfterTransmission context, ExecutionAttributes executionAttributes) {
-        reverseForEach(i -> i.afterTransmission(context, executionAttributes));
+        for (ExecutionInterceptor interceptor : afterTransmissionInterceptors) {
+            interceptor.afterTransmission(context, executionAttributes);
+        }
     }
 
     public InterceptorContext modifyHttpResponse(InterceptorContext context,
                                                  ExecutionAttributes executionAttributes) {
         InterceptorContext result = context;
 
-        for (int i = interceptors.size() - 1; i >= 0; i--) {
-            SdkHttpResponse interceptorResult =
-                interceptors.get(i).modifyHttpResponse(result, executionAttributes);
-            validateInterceptorResult(result.httpResponse(), interceptorResult, interceptors.get(i), "modifyHttpResponse");
+        for (ExecutionInterceptor interceptor : modifyHttpResponseInterceptors) {
+            SdkHttpResponse interceptorResult = interceptor.modifyHttpResponse(result, executionAttributes);
+            validateInterceptorResult(result.httpResponse(), interceptorResult, interceptor, "modifyHttpResponse");
 
-            InputStream response = interceptors.get(i).modifyHttpResponseContent(result, executionAttributes).orElse(null);
+            InputStream response = interceptor.modifyHttpResponseContent(result, executionAttributes).orElse(null);
 
             result = result.toBuilder().httpResponse(interceptorResult).responseBody(response).build();
         }
@@ -154,9 +215,7 @@ public class ExecutionInterceptorChain {
                                                       ExecutionAttributes executionAttributes) {
         InterceptorContext result = context;
 
-        for (int i = interceptors.size() - 1; i >= 0; i--) {
-            ExecutionInterceptor interceptor = interceptors.get(i);
-
+        for (ExecutionInterceptor interceptor : modifyAsyncHttpResponseInterceptors) {
             Publisher<ByteBuffer> newResponsePublisher =
                 interceptor.modifyAsyncHttpResponseContent(result, executionAttributes).orElse(null);
 
@@ -169,43 +228,56 @@ public class ExecutionInterceptorChain {
     }
 
     public void beforeUnmarshalling(Context.BeforeUnmarshalling context, ExecutionAttributes executionAttributes) {
-        reverseForEach(i -> i.beforeUnmarshalling(context, executionAttributes));
+        for (ExecutionInterceptor interceptor : beforeUnmarshallingInterceptors) {
+            interceptor.beforeUnmarshalling(context, executionAttributes);
+        }
     }
 
     public void afterUnmarshalling(Context.AfterUnmarshalling context, ExecutionAttributes executionAttributes) {
-        reverseForEach(i -> i.afterUnmarshalling(context, executionAttributes));
+        for (ExecutionInterceptor interceptor : afterUnmarshallingInterceptors) {
+            interceptor.afterUnmarshalling(context, executionAttributes);
+        }
     }
 
     public InterceptorContext modifyResponse(InterceptorContext context, ExecutionAttributes executionAttributes) {
         InterceptorContext result = context;
-        for (int i = interceptors.size() - 1; i >= 0; i--) {
-            SdkResponse interceptorResult = interceptors.get(i).modifyResponse(result, executionAttributes);
-            validateInterceptorResult(result.response(), interceptorResult, interceptors.get(i), "modifyResponse");
+        for (ExecutionInterceptor interceptor : modifyResponseInterceptors) {
+            SdkResponse interceptorResult = interceptor.modifyResponse(result, executionAttributes);
+            validateInterceptorResult(result.response(), interceptorResult, interceptor, "modifyResponse");
 
-            result = result.copy(b -> b.response(interceptorResult));
+            if (interceptorResult != result.response()) {
+                result = result.copy(b -> b.response(interceptorResult));
+            }
         }
 
         return result;
     }
 
     public void afterExecution(Context.AfterExecution context, ExecutionAttributes executionAttributes) {
-        reverseForEach(i -> i.afterExecution(context, executionAttributes));
+        for (ExecutionInterceptor interceptor : afterExecutionInterceptors) {
+            interceptor.afterExecution(context, executionAttributes);
+        }
     }
 
     public DefaultFailedExecutionContext modifyException(DefaultFailedExecutionContext context,
                                                          ExecutionAttributes executionAttributes) {
         DefaultFailedExecutionContext result = context;
-        for (int i = interceptors.size() - 1; i >= 0; i--) {
-            Throwable interceptorResult = interceptors.get(i).modifyException(result, executionAttributes);
-            validateInterceptorResult(result.exception(), interceptorResult, interceptors.get(i), "modifyException");
-            result = result.copy(b -> b.exception(interceptorResult));
+        for (ExecutionInterceptor interceptor : modifyExceptionInterceptors) {
+            Throwable interceptorResult = interceptor.modifyException(result, executionAttributes);
+            validateInterceptorResult(result.exception(), interceptorResult, interceptor, "modifyException");
+
+            if (interceptorResult != result.exception()) {
+                result = result.copy(b -> b.exception(interceptorResult));
+            }
         }
 
         return result;
     }
 
     public void onExecutionFailure(Context.FailedExecution context, ExecutionAttributes executionAttributes) {
-        interceptors.forEach(i -> i.onExecutionFailure(context, executionAttributes));
+        for (ExecutionInterceptor interceptor : onExecutionFailureInterceptors) {
+            interceptor.onExecutionFailure(context, executionAttributes);
+        }
     }
 
     /**
@@ -227,11 +299,45 @@ public class ExecutionInterceptorChain {
     }
 
     /**
-     * Execute the provided action against the interceptors in this chain in the reverse order they are configured.
+     * Return the interceptors in this chain that override any of the given hooks, in the order they are configured or in
+     * reverse order.
+     */
+    private ExecutionInterceptor[] overriding(boolean reverse, String... hooks) {
+        List<ExecutionInterceptor> result = new ArrayList<>();
+        for (ExecutionInterceptor interceptor : interceptors) {
+            Set<String> overriddenHooks = OVERRIDDEN_HOOKS.get(interceptor.getClass());
+            for (String hook : hooks) {
+                if (overriddenHooks.contains(hook)) {
+                    result.add(interceptor);
+                    break;
+                }
+            }
+        }
+        if (reverse) {
+            Collections.reverse(result);
+        }
+        return result.toArray(new ExecutionInterceptor[0]);
+    }
+
+    /**
+     * Determine which of the default {@link ExecutionInterceptor} hooks are overridden by the given interceptor class. If that
+     * cannot be determined, all hooks are assumed to be overridden.
      */
-    private void reverseForEach(Consumer<ExecutionInterceptor> action) {
-        for (int i = interceptors.size() - 1; i >= 0; i--) {
-            action.accept(interceptors.get(i));
+    private static Set<String> overriddenHooks(Class<?> interceptorClass) {
+        Set<String> overriddenHooks = new HashSet<>();
+        for (Method hook : ExecutionInterceptor.class.getMethods()) {
+            if (!hook.isDefault()) {
+                continue;
+            }
+            try {
+                Method implementation = interceptorClass.getMethod(hook.getName(), hook.getParameterTypes());
+                if (implementation.getDeclaringClass() != ExecutionInterceptor.class) {
+                    overriddenHooks.add(hook.getName());
+                }
+            } catch (NoSuchMethodException | SecurityException e) {
+                overriddenHooks.add(hook.getName());
+            }
         }
+        return overriddenHooks;
     }
 }
@@ -16,7 +16,10 @@
 package software.amazon.awssdk.core.interceptor;
 
 import software.amazon.awssdk.annotations.SdkProtectedApi;
+import software.amazon.awssdk.core.interceptor.trait.Hedging;
 import software.amazon.awssdk.core.interceptor.trait.HttpChecksumRequired;
+import software.amazon.awssdk.core.interceptor.trait.RequestCoalescing;
+import software.amazon.awssdk.core.interceptor.trait.RequestCompression;
 
 /**
  * Attributes that can be applied to all sdk requests. Only generated code from the SDK clients should set these values.
@@ -40,6 +43,28 @@ public final class SdkInternalExecutionAttribute extends SdkExecutionAttribute {
     public static final ExecutionAttribute<HttpChecksumRequired> HTTP_CHECKSUM_REQUIRED =
         new ExecutionAttribute<>("HttpChecksumRequired");
 
+    /**
+     * Present if the payload of the request may be gzip-compressed before it is sent. Whether it actually is depends on the
+     * {@link software.amazon.awssdk.core.CompressionConfiguration} of the request and the size of the payload.
+     */
+    public static final ExecutionAttribute<RequestCompression> REQUEST_COMPRESSION =
+        new ExecutionAttribute<>("RequestCompression");
+
+    /**
+     * Present if the request may be hedged by sending a second request when the first is slow to receive a response. Whether
+     * it actually is depends on the {@link software.amazon.awssdk.core.HedgingConfiguration} of the request and the observed
+     * latency of the operation.
+     */
+    public static final ExecutionAttribute<Hedging> HEDGING =
+        new ExecutionAttribute<>("Hedging");
+
+    /**
+     * Present if the request may share one HTTP call and its response with concurrent identical requests. Whether it actually
+     * does depends on {@link software.amazon.awssdk.core.client.config.SdkAdvancedClientOption#COALESCE_IDENTICAL_REQUESTS}.
+     */
+    public static final ExecutionAttribute<RequestCoalescing> REQUEST_COALESCING =
+        new ExecutionAttribute<>("RequestCoalescing");
+
     /**
      * Whether host prefix injection has been disbabled on the client.
      * See {@link software.amazon.awssdk.core.client.config.SdkAdvancedClientOption#DISABLE_HOST_PREFIX_INJECTION}
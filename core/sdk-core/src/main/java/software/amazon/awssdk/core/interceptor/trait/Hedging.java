@@ -0,0 +1,34 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.interceptor.trait;
+
+import software.amazon.awssdk.annotations.SdkProtectedApi;
+
+/**
+ * Indicates that an operation is an idempotent read that may be hedged, by sending a second request when the first is slow to
+ * receive a response.
+ */
+@SdkProtectedApi
+public final class Hedging {
+    private static final Hedging INSTANCE = new Hedging();
+
+    private Hedging() {
+    }
+
+    public static Hedging create() {
+        return INSTANCE;
+    }
+}
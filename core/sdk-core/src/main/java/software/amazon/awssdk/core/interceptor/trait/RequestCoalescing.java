@@ -0,0 +1,55 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.interceptor.trait;
+
+import java.util.Optional;
+import software.amazon.awssdk.annotations.SdkProtectedApi;
+
+/**
+ * Indicates that an operation is a safe, side-effect-free read whose concurrent identical requests may share one HTTP call and
+ * its response, if {@link software.amazon.awssdk.core.client.config.SdkAdvancedClientOption#COALESCE_IDENTICAL_REQUESTS} is
+ * enabled on the client.
+ */
+@SdkProtectedApi
+public final class RequestCoalescing {
+    private static final RequestCoalescing NO_IDENTITY = new RequestCoalescing(null);
+
+    private final Object identity;
+
+    private RequestCoalescing(Object identity) {
+        this.identity = identity;
+    }
+
+    public static RequestCoalescing create() {
+        return NO_IDENTITY;
+    }
+
+    /**
+     * Create the trait for a request made with the given identity, such as the resolved credentials of the request. Only
+     * requests with equal identities share a call.
+     */
+    public static RequestCoalescing create(Object identity) {
+        return new RequestCoalescing(identity);
+    }
+
+    /**
+     * @return The identity the request is made with, or empty if it is not known yet. A request is never coalesced with another
+     * unless its identity is known.
+     */
+    public Optional<Object> identity() {
+        return Optional.ofNullable(identity);
+    }
+}
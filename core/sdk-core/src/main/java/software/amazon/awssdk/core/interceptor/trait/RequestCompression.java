@@ -0,0 +1,42 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.interceptor.trait;
+
+import software.amazon.awssdk.annotations.SdkProtectedApi;
+
+/**
+ * Indicates that the service accepts a gzip-compressed payload for an operation.
+ */
+@SdkProtectedApi
+public final class RequestCompression {
+    private final boolean isStreaming;
+
+    private RequestCompression(boolean isStreaming) {
+        this.isStreaming = isStreaming;
+    }
+
+    /**
+     * @param isStreaming Whether the operation has a streaming input, whose payload is compressed as it is sent instead of
+     * being compressed in memory.
+     */
+    public static RequestCompression create(boolean isStreaming) {
+        return new RequestCompression(isStreaming);
+    }
+
+    public boolean isStreaming() {
+        return isStreaming;
+    }
+}
@@ -20,12 +20,13 @@ import static software.amazon.awssdk.utils.FunctionalUtils.invokeSafely;
 import java.io.ByteArrayOutputStream;
 import java.nio.ByteBuffer;
 import java.util.concurrent.CompletableFuture;
-import org.reactivestreams.Subscriber;
+import java.util.function.Consumer;
 import org.reactivestreams.Subscription;
 import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.core.ResponseBytes;
 import software.amazon.awssdk.core.async.AsyncResponseTransformer;
 import software.amazon.awssdk.core.async.SdkPublisher;
+import software.amazon.awssdk.http.async.ReleasableByteBufferSubscriber;
 import software.amazon.awssdk.utils.BinaryUtils;
 
 /**
@@ -65,17 +66,24 @@ public final class ByteArrayAsyncResponseTransformer<ResponseT> implements
         cf.completeExceptionally(throwable);
     }
 
-    static class BaosSubscriber implements Subscriber<ByteBuffer> {
+    static class BaosSubscriber implements ReleasableByteBufferSubscriber {
         private final CompletableFuture<byte[]> resultFuture;
 
         private ByteArrayOutputStream baos = new ByteArrayOutputStream();
 
+        private volatile Consumer<ByteBuffer> bufferReleaser = ignored -> { };
+
         private Subscription subscription;
 
         BaosSubscriber(CompletableFuture<byte[]> resultFuture) {
             this.resultFuture = resultFuture;
         }
 
+        @Override
+        public void onBufferReleaser(Consumer<ByteBuffer> releaser) {
+            this.bufferReleaser = releaser;
+        }
+
         @Override
         public void onSubscribe(Subscription s) {
             if (this.subscription != null) {
@@ -88,7 +96,11 @@ public final class ByteArrayAsyncResponseTransformer<ResponseT> implements
 
         @Override
         public void onNext(ByteBuffer byteBuffer) {
-            invokeSafely(() -> baos.write(BinaryUtils.copyBytesFrom(byteBuffer)));
+            try {
+                invokeSafely(() -> baos.write(BinaryUtils.copyBytesFrom(byteBuffer)));
+            } finally {
+                bufferReleaser.accept(byteBuffer);
+            }
             subscription.request(1);
         }
 
@@ -69,6 +69,13 @@ public final class FileAsyncRequestBody implements AsyncRequestBody {
         this.chunkSizeInBytes = builder.chunkSizeInBytes == null ? DEFAULT_CHUNK_SIZE : builder.chunkSizeInBytes;
     }
 
+    /**
+     * @return The file this body reads.
+     */
+    public Path path() {
+        return path;
+    }
+
     @Override
     public Optional<Long> contentLength() {
         try {
@@ -32,6 +32,7 @@ import org.reactivestreams.Subscription;
 import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.core.async.AsyncResponseTransformer;
 import software.amazon.awssdk.core.async.SdkPublisher;
+import software.amazon.awssdk.http.async.ReleasableByteBufferSubscriber;
 
 /**
  * {@link AsyncResponseTransformer} that writes the data to the specified file.
@@ -89,9 +90,9 @@ public final class FileAsyncResponseTransformer<ResponseT> implements AsyncRespo
     }
 
     /**
-     * {@link Subscriber} implementation that writes chunks to a file.
+     * {@link Subscriber} implementation that writes chunks to a file, and releases each of them once it is written.
      */
-    static class FileSubscriber implements Subscriber<ByteBuffer> {
+    static class FileSubscriber implements ReleasableByteBufferSubscriber {
         private final AtomicLong position = new AtomicLong();
 
         private final AsynchronousFileChannel fileChannel;
@@ -101,6 +102,7 @@ public final class FileAsyncResponseTransformer<ResponseT> implements AsyncRespo
 
         private volatile boolean writeInProgress = false;
         private volatile boolean closeOnLastWrite = false;
+        private volatile Consumer<ByteBuffer> bufferReleaser = ignored -> { };
         private Subscription subscription;
 
         FileSubscriber(AsynchronousFileChannel fileChannel, Path path, CompletableFuture<Void> future,
@@ -111,6 +113,11 @@ public final class FileAsyncResponseTransformer<ResponseT> implements AsyncRespo
             this.onErrorMethod = onErrorMethod;
         }
 
+        @Override
+        public void onBufferReleaser(Consumer<ByteBuffer> releaser) {
+            this.bufferReleaser = releaser;
+        }
+
         @Override
         public void onSubscribe(Subscription s) {
             if (this.subscription != null) {
@@ -142,6 +149,7 @@ public final class FileAsyncResponseTransformer<ResponseT> implements AsyncRespo
                     if (byteBuffer.hasRemaining()) {
                         performWrite(byteBuffer);
                     } else {
+                        bufferReleaser.accept(byteBuffer);
                         synchronized (FileSubscriber.this) {
                             writeInProgress = false;
                             if (closeOnLastWrite) {
@@ -155,6 +163,7 @@ public final class FileAsyncResponseTransformer<ResponseT> implements AsyncRespo
 
                 @Override
                 public void failed(Throwable exc, ByteBuffer attachment) {
+                    bufferReleaser.accept(byteBuffer);
                     subscription.cancel();
                     future.completeExceptionally(exc);
                 }
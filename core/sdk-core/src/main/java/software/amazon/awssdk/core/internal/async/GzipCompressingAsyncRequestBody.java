@@ -0,0 +1,212 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.internal.async;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.core.async.AsyncRequestBody;
+import software.amazon.awssdk.utils.Validate;
+
+/**
+ * An {@link AsyncRequestBody} that gzip-compresses the content of another {@link AsyncRequestBody} as it is published, without
+ * buffering the whole payload. Each buffer of the wrapped body is compressed into (at most) one published buffer, and the gzip
+ * trailer is published once the wrapped body completes. The compressed length is not known in advance, so
+ * {@link #contentLength()} is always empty.
+ */
+@SdkInternalApi
+public final class GzipCompressingAsyncRequestBody implements AsyncRequestBody {
+    private static final byte[] GZIP_HEADER = {0x1f, (byte) 0x8b, Deflater.DEFLATED, 0, 0, 0, 0, 0, 0, (byte) 0xff};
+
+    private final AsyncRequestBody delegate;
+
+    public GzipCompressingAsyncRequestBody(AsyncRequestBody delegate) {
+        this.delegate = Validate.paramNotNull(delegate, "delegate");
+    }
+
+    @Override
+    public Optional<Long> contentLength() {
+        return Optional.empty();
+    }
+
+    @Override
+    public String contentType() {
+        return delegate.contentType();
+    }
+
+    @Override
+    public void subscribe(Subscriber<? super ByteBuffer> subscriber) {
+        Validate.paramNotNull(subscriber, "subscriber");
+        delegate.subscribe(new CompressingSubscriber(subscriber));
+    }
+
+    /**
+     * Compresses each upstream buffer as it arrives. Every upstream request is made on behalf of one unit of downstream demand,
+     * which is consumed when the compressed buffer is published; when the deflater produces no output for a buffer, the unit is
+     * used to request another upstream buffer instead. The trailer is published once there is demand for it.
+     */
+    private static final class CompressingSubscriber implements Subscriber<ByteBuffer>, Subscription {
+        private final Subscriber<? super ByteBuffer> downstream;
+        private final Deflater deflater = new Deflater(Deflater.DEFAULT_COMPRESSION, true);
+        private final CRC32 crc = new CRC32();
+        private final byte[] deflateBuffer = new byte[8192];
+        private final AtomicLong demand = new AtomicLong();
+        private final AtomicReference<ByteBuffer> pendingTrailer = new AtomicReference<>();
+
+        private Subscription upstream;
+        private boolean headerWritten;
+        private volatile boolean cancelled;
+
+        private CompressingSubscriber(Subscriber<? super ByteBuffer> downstream) {
+            this.downstream = downstream;
+        }
+
+        @Override
+        public void onSubscribe(Subscription subscription) {
+            if (upstream != null) {
+                subscription.cancel();
+                return;
+            }
+            upstream = subscription;
+            downstream.onSubscribe(this);
+        }
+
+        @Override
+        public void request(long n) {
+            if (n <= 0) {
+                cancel();
+                downstream.onError(new IllegalArgumentException("Demand must be positive"));
+                return;
+            }
+            demand.getAndUpdate(current -> Long.MAX_VALUE - current > n ? current + n : Long.MAX_VALUE);
+            publishTrailerIfReady();
+            upstream.request(n);
+        }
+
+        @Override
+        public void cancel() {
+            cancelled = true;
+            upstream.cancel();
+            deflater.end();
+        }
+
+        @Override
+        public void onNext(ByteBuffer byteBuffer) {
+            if (cancelled) {
+                return;
+            }
+            ByteBuffer compressed;
+            try {
+                compressed = compress(byteBuffer);
+            } catch (RuntimeException e) {
+                cancel();
+                downstream.onError(e);
+                return;
+            }
+
+            if (compressed.hasRemaining()) {
+                demand.decrementAndGet();
+                downstream.onNext(compressed);
+            } else {
+                upstream.request(1);
+            }
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            deflater.end();
+            downstream.onError(t);
+        }
+
+        @Override
+        public void onComplete() {
+            if (cancelled) {
+                return;
+            }
+            ByteBuffer trailer;
+            try {
+                trailer = finish();
+            } catch (RuntimeException e) {
+                downstream.onError(e);
+                return;
+            }
+            pendingTrailer.set(trailer);
+            publishTrailerIfReady();
+        }
+
+        private void publishTrailerIfReady() {
+            if (demand.get() <= 0 || pendingTrailer.get() == null) {
+                return;
+            }
+            ByteBuffer trailer = pendingTrailer.getAndSet(null);
+            if (trailer != null) {
+                demand.decrementAndGet();
+                downstream.onNext(trailer);
+                downstream.onComplete();
+            }
+        }
+
+        private ByteBuffer compress(ByteBuffer byteBuffer) {
+            byte[] input = new byte[byteBuffer.remaining()];
+            byteBuffer.get(input);
+            crc.update(input);
+            deflater.setInput(input);
+
+            ByteArrayOutputStream output = newOutput(input.length / 2);
+            while (!deflater.needsInput()) {
+                int deflated = deflater.deflate(deflateBuffer);
+                output.write(deflateBuffer, 0, deflated);
+            }
+            return ByteBuffer.wrap(output.toByteArray());
+        }
+
+        private ByteBuffer finish() {
+            ByteArrayOutputStream output = newOutput(64);
+            deflater.finish();
+            while (!deflater.finished()) {
+                int deflated = deflater.deflate(deflateBuffer);
+                output.write(deflateBuffer, 0, deflated);
+            }
+            writeInt(output, (int) crc.getValue());
+            writeInt(output, (int) deflater.getBytesRead());
+            deflater.end();
+            return ByteBuffer.wrap(output.toByteArray());
+        }
+
+        private ByteArrayOutputStream newOutput(int sizeHint) {
+            ByteArrayOutputStream output = new ByteArrayOutputStream(Math.max(sizeHint, 32));
+            if (!headerWritten) {
+                headerWritten = true;
+                output.write(GZIP_HEADER, 0, GZIP_HEADER.length);
+            }
+            return output;
+        }
+
+        private static void writeInt(ByteArrayOutputStream output, int value) {
+            output.write(value & 0xff);
+            output.write((value >> 8) & 0xff);
+            output.write((value >> 16) & 0xff);
+            output.write((value >> 24) & 0xff);
+        }
+    }
+}
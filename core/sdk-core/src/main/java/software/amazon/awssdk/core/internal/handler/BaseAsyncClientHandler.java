@@ -70,8 +70,9 @@ public abstract class BaseAsyncClientHandler extends BaseClientHandler implement
 
     @Override
     public <InputT extends SdkRequest, OutputT extends SdkResponse> CompletableFuture<OutputT> execute(
-        ClientExecutionParams<InputT, OutputT> executionParams) {
+        ClientExecutionParams<InputT, OutputT> params) {
 
+        ClientExecutionParams<InputT, OutputT> executionParams = addAcceptEncodingIfEnabled(params);
         return measureApiCallSuccess(executionParams, () -> {
             // Running beforeExecution interceptors and modifyRequest interceptors.
             ExecutionContext executionContext = invokeInterceptorsAndCreateExecutionContext(executionParams);
@@ -36,6 +36,7 @@ import software.amazon.awssdk.core.interceptor.SdkExecutionAttribute;
 import software.amazon.awssdk.core.internal.InternalCoreExecutionAttribute;
 import software.amazon.awssdk.core.internal.util.MetricUtils;
 import software.amazon.awssdk.core.metrics.CoreMetric;
+import software.amazon.awssdk.core.runtime.transform.Marshaller;
 import software.amazon.awssdk.core.sync.RequestBody;
 import software.amazon.awssdk.http.ContentStreamProvider;
 import software.amazon.awssdk.http.SdkHttpFullRequest;
@@ -46,6 +47,8 @@ import software.amazon.awssdk.utils.StringUtils;
 
 @SdkInternalApi
 public abstract class BaseClientHandler {
+    private static final String ACCEPT_ENCODING = "Accept-Encoding";
+
     private SdkClientConfiguration clientConfiguration;
 
     protected BaseClientHandler(SdkClientConfiguration clientConfiguration) {
@@ -186,8 +189,10 @@ public abstract class BaseClientHandler {
             .putAttribute(SdkExecutionAttribute.PROFILE_FILE, clientConfiguration.option(SdkClientOption.PROFILE_FILE))
             .putAttribute(SdkExecutionAttribute.PROFILE_NAME, clientConfiguration.option(SdkClientOption.PROFILE_NAME));
 
-        ExecutionInterceptorChain interceptorChain =
-            new ExecutionInterceptorChain(clientConfiguration.option(SdkClientOption.EXECUTION_INTERCEPTORS));
+        ExecutionInterceptorChain interceptorChain = clientConfiguration.option(SdkClientOption.EXECUTION_INTERCEPTOR_CHAIN);
+        if (interceptorChain == null) {
+            interceptorChain = new ExecutionInterceptorChain(clientConfiguration.option(SdkClientOption.EXECUTION_INTERCEPTORS));
+        }
 
         InterceptorContext interceptorContext = InterceptorContext.builder()
                                                                   .request(originalRequest)
@@ -211,6 +216,27 @@ public abstract class BaseClientHandler {
         return clientConfiguration.option(SdkClientOption.CRC32_FROM_COMPRESSED_DATA_ENABLED);
     }
 
+    /**
+     * Ask for a gzip-compressed response if {@link SdkAdvancedClientOption#ACCEPT_COMPRESSED_RESPONSES} is enabled. This must
+     * only be used for operations whose response is fully handled by the SDK, where it is decompressed by
+     * {@link software.amazon.awssdk.core.http.Crc32Validation}, and not for responses streamed to the caller.
+     */
+    protected <InputT extends SdkRequest, OutputT> ClientExecutionParams<InputT, OutputT> addAcceptEncodingIfEnabled(
+        ClientExecutionParams<InputT, OutputT> executionParams) {
+        if (!Boolean.TRUE.equals(clientConfiguration.option(SdkAdvancedClientOption.ACCEPT_COMPRESSED_RESPONSES))) {
+            return executionParams;
+        }
+
+        Marshaller<InputT> marshaller = executionParams.getMarshaller();
+        return executionParams.withMarshaller(input -> {
+            SdkHttpFullRequest request = marshaller.marshall(input);
+            if (request.firstMatchingHeader(ACCEPT_ENCODING).isPresent()) {
+                return request;
+            }
+            return request.toBuilder().putHeader(ACCEPT_ENCODING, "gzip").build();
+        });
+    }
+
     /**
      * Decorate response handlers by running after unmarshalling Interceptors and adding http response metadata.
      */
@@ -17,13 +17,19 @@ package software.amazon.awssdk.core.internal.http;
 
 import static software.amazon.awssdk.utils.Validate.paramNotNull;
 
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.function.Consumer;
 import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.core.SdkGlobalTime;
 import software.amazon.awssdk.core.client.config.SdkClientConfiguration;
 import software.amazon.awssdk.core.internal.http.pipeline.RequestPipeline;
 import software.amazon.awssdk.core.internal.http.pipeline.RequestPipelineBuilder;
+import software.amazon.awssdk.core.internal.http.pipeline.stages.utils.CoalescedRequest;
+import software.amazon.awssdk.core.internal.http.pipeline.stages.utils.RequestCoalescingKey;
 import software.amazon.awssdk.core.internal.retry.ClockSkewAdjuster;
+import software.amazon.awssdk.core.internal.retry.LatencyHistogram;
 import software.amazon.awssdk.utils.SdkAutoCloseable;
 
 /**
@@ -34,6 +40,8 @@ import software.amazon.awssdk.utils.SdkAutoCloseable;
 public final class HttpClientDependencies implements SdkAutoCloseable {
     private final ClockSkewAdjuster clockSkewAdjuster;
     private final SdkClientConfiguration clientConfiguration;
+    private final Map<String, LatencyHistogram> operationLatencies = new ConcurrentHashMap<>();
+    private final ConcurrentMap<RequestCoalescingKey, CoalescedRequest<?>> inFlightRequests = new ConcurrentHashMap<>();
 
     /**
      * Time offset may be mutated by {@link RequestPipeline} implementations if a clock skew is detected.
@@ -75,6 +83,20 @@ public final class HttpClientDependencies implements SdkAutoCloseable {
         SdkGlobalTime.setGlobalTimeOffset(timeOffset);
     }
 
+    /**
+     * @return The recent latencies of the given operation of this client, used to decide when to hedge its requests.
+     */
+    public LatencyHistogram operationLatency(String operationName) {
+        return operationLatencies.computeIfAbsent(operationName, n -> new LatencyHistogram());
+    }
+
+    /**
+     * @return The calls of this client that are in flight and may be shared by identical requests.
+     */
+    public ConcurrentMap<RequestCoalescingKey, CoalescedRequest<?>> inFlightRequests() {
+        return inFlightRequests;
+    }
+
     @Override
     public void close() {
         this.clientConfiguration.close();
@@ -25,6 +25,7 @@ import software.amazon.awssdk.core.interceptor.ExecutionAttributes;
 import software.amazon.awssdk.core.interceptor.ExecutionInterceptorChain;
 import software.amazon.awssdk.core.interceptor.SdkExecutionAttribute;
 import software.amazon.awssdk.core.internal.http.pipeline.RequestPipeline;
+import software.amazon.awssdk.core.internal.http.pipeline.stages.utils.AttemptHedging;
 import software.amazon.awssdk.core.internal.http.timers.TimeoutTracker;
 import software.amazon.awssdk.core.signer.Signer;
 import software.amazon.awssdk.metrics.MetricCollector;
@@ -44,6 +45,7 @@ public final class RequestExecutionContext {
     private TimeoutTracker apiCallTimeoutTracker;
     private TimeoutTracker apiCallAttemptTimeoutTracker;
     private MetricCollector attemptMetricCollector;
+    private AttemptHedging attemptHedging;
 
     private RequestExecutionContext(Builder builder) {
         this.requestProvider = builder.requestProvider;
@@ -127,6 +129,17 @@ public final class RequestExecutionContext {
         this.attemptMetricCollector = metricCollector;
     }
 
+    /**
+     * @return The hedging of the current attempt, or null if the attempt should not be hedged.
+     */
+    public AttemptHedging attemptHedging() {
+        return attemptHedging;
+    }
+
+    public void attemptHedging(AttemptHedging attemptHedging) {
+        this.attemptHedging = attemptHedging;
+    }
+
     /**
      * Sets the request body provider.
      * Used for transforming the original body provider to sign events for
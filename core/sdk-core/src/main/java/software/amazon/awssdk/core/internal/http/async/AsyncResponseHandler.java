@@ -20,9 +20,9 @@ import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.nio.ByteBuffer;
 import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
 import java.util.function.Function;
 import org.reactivestreams.Publisher;
-import org.reactivestreams.Subscriber;
 import org.reactivestreams.Subscription;
 import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.core.http.HttpResponseHandler;
@@ -31,6 +31,7 @@ import software.amazon.awssdk.core.internal.http.TransformingAsyncResponseHandle
 import software.amazon.awssdk.http.AbortableInputStream;
 import software.amazon.awssdk.http.SdkHttpFullResponse;
 import software.amazon.awssdk.http.SdkHttpResponse;
+import software.amazon.awssdk.http.async.ReleasableByteBufferSubscriber;
 import software.amazon.awssdk.utils.BinaryUtils;
 import software.amazon.awssdk.utils.CompletableFutureUtils;
 
@@ -94,9 +95,10 @@ public final class AsyncResponseHandler<T> implements TransformingAsyncResponseH
         });
     }
 
-    private static class BaosSubscriber implements Subscriber<ByteBuffer> {
+    private static class BaosSubscriber implements ReleasableByteBufferSubscriber {
         private final ByteArrayOutputStream baos = new ByteArrayOutputStream();
         private final CompletableFuture<ByteArrayOutputStream> streamFuture;
+        private volatile Consumer<ByteBuffer> bufferReleaser = ignored -> { };
         private Subscription subscription;
         private boolean dataWritten = false;
 
@@ -104,6 +106,11 @@ public final class AsyncResponseHandler<T> implements TransformingAsyncResponseH
             this.streamFuture = streamFuture;
         }
 
+        @Override
+        public void onBufferReleaser(Consumer<ByteBuffer> releaser) {
+            this.bufferReleaser = releaser;
+        }
+
         @Override
         public void onSubscribe(Subscription subscription) {
             this.subscription = subscription;
@@ -115,11 +122,14 @@ public final class AsyncResponseHandler<T> implements TransformingAsyncResponseH
             dataWritten = true;
             try {
                 baos.write(BinaryUtils.copyBytesFrom(byteBuffer));
-                this.subscription.request(1);
             } catch (IOException e) {
                 // Should never happen
                 streamFuture.completeExceptionally(e);
+                return;
+            } finally {
+                bufferReleaser.accept(byteBuffer);
             }
+            this.subscription.request(1);
         }
 
         @Override
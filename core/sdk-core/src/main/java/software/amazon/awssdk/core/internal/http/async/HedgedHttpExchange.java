@@ -0,0 +1,269 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.internal.http.async;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.core.internal.http.pipeline.stages.utils.AttemptHedging;
+import software.amazon.awssdk.core.timeout.TimeoutScheduler;
+import software.amazon.awssdk.http.SdkHttpResponse;
+import software.amazon.awssdk.http.async.SdkAsyncHttpResponseHandler;
+import software.amazon.awssdk.utils.Logger;
+
+/**
+ * Races the HTTP exchange of a request attempt against a hedged request that is sent if the attempt has not received a response
+ * within the delay of its {@link AttemptHedging}.
+ *
+ * <p>The first exchange to receive response headers wins. Its response is forwarded to the response handler of the attempt and
+ * the other exchange is cancelled. An exchange that fails before either has received a response is only reported to the
+ * response handler if the other exchange can no longer win, so a hedged request also masks a failed connection.
+ */
+@SdkInternalApi
+@ThreadSafe
+public final class HedgedHttpExchange {
+    private static final Logger log = Logger.loggerFor(HedgedHttpExchange.class);
+
+    private static final int PRIMARY = 0;
+    private static final int HEDGED = 1;
+    private static final int UNDECIDED = -1;
+
+    private final SdkAsyncHttpResponseHandler responseHandler;
+    private final AttemptHedging hedging;
+
+    @SuppressWarnings("unchecked")
+    private final CompletableFuture<Void>[] exchangeFutures = new CompletableFuture[2];
+    private final boolean[] failed = new boolean[2];
+    private int winner = UNDECIDED;
+    private boolean hedgedRequestStarted = false;
+    private TimeoutScheduler.ScheduledTimeout hedgeTimer;
+
+    public HedgedHttpExchange(SdkAsyncHttpResponseHandler responseHandler, AttemptHedging hedging) {
+        this.responseHandler = responseHandler;
+        this.hedging = hedging;
+    }
+
+    /**
+     * @return The response handler to execute the original request of the attempt with.
+     */
+    public SdkAsyncHttpResponseHandler primaryResponseHandler() {
+        return new ExchangeResponseHandler(PRIMARY);
+    }
+
+    /**
+     * Register the future of the original request of the attempt, and schedule the hedged request.
+     *
+     * @param primaryFuture The future returned by the HTTP client for the original request.
+     * @param timeoutScheduler The scheduler to wait for the hedging delay on.
+     * @param executor The executor to send the hedged request on, so that the scheduler's thread is not blocked.
+     * @param hedgedRequestSender Sends the hedged request with the given response handler, returning the future of the HTTP
+     * client.
+     */
+    public void start(CompletableFuture<Void> primaryFuture,
+                      TimeoutScheduler timeoutScheduler,
+                      Executor executor,
+                      Function<SdkAsyncHttpResponseHandler, CompletableFuture<Void>> hedgedRequestSender) {
+        synchronized (this) {
+            exchangeFutures[PRIMARY] = primaryFuture;
+            if (winner != UNDECIDED) {
+                return;
+            }
+        }
+
+        TimeoutScheduler.ScheduledTimeout timer =
+            timeoutScheduler.schedule(() -> executor.execute(() -> sendHedgedRequest(hedgedRequestSender)),
+                                      hedging.delay().toNanos(), TimeUnit.NANOSECONDS);
+        synchronized (this) {
+            hedgeTimer = timer;
+            if (winner != UNDECIDED) {
+                timer.cancel();
+            }
+        }
+    }
+
+    /**
+     * Cancel both exchanges, because the attempt failed or was cancelled.
+     */
+    public void cancel(Throwable cause) {
+        CompletableFuture<Void> primaryFuture;
+        CompletableFuture<Void> hedgedFuture;
+        synchronized (this) {
+            cancelHedgeTimer();
+            primaryFuture = exchangeFutures[PRIMARY];
+            hedgedFuture = exchangeFutures[HEDGED];
+        }
+        if (primaryFuture != null) {
+            primaryFuture.completeExceptionally(cause);
+        }
+        if (hedgedFuture != null) {
+            hedgedFuture.completeExceptionally(cause);
+        }
+    }
+
+    private void sendHedgedRequest(Function<SdkAsyncHttpResponseHandler, CompletableFuture<Void>> hedgedRequestSender) {
+        synchronized (this) {
+            if (winner != UNDECIDED || hedgedRequestStarted || !hedging.tryStartHedgedRequest()) {
+                return;
+            }
+            hedgedRequestStarted = true;
+        }
+
+        log.debug(() -> "No response received within " + hedging.delay().toMillis() + "ms. Sending hedged request.");
+
+        CompletableFuture<Void> hedgedFuture;
+        try {
+            hedgedFuture = hedgedRequestSender.apply(new ExchangeResponseHandler(HEDGED));
+        } catch (Throwable t) {
+            onError(HEDGED, t);
+            return;
+        }
+
+        boolean lost;
+        synchronized (this) {
+            exchangeFutures[HEDGED] = hedgedFuture;
+            lost = winner != UNDECIDED && winner != HEDGED;
+        }
+        if (lost) {
+            cancelExchange(hedgedFuture);
+        }
+    }
+
+    private void onHeaders(int exchange, SdkHttpResponse headers) {
+        CompletableFuture<Void> loserFuture;
+        synchronized (this) {
+            if (winner != UNDECIDED) {
+                return;
+            }
+            winner = exchange;
+            cancelHedgeTimer();
+            loserFuture = exchangeFutures[other(exchange)];
+        }
+
+        if (exchange == HEDGED) {
+            hedging.hedgedRequestWon();
+        }
+        if (loserFuture != null) {
+            cancelExchange(loserFuture);
+        }
+        responseHandler.onHeaders(headers);
+    }
+
+    private void onStream(int exchange, Publisher<ByteBuffer> stream) {
+        boolean isWinner;
+        synchronized (this) {
+            isWinner = winner == exchange;
+        }
+
+        if (isWinner) {
+            responseHandler.onStream(stream);
+        } else {
+            stream.subscribe(new CancellingSubscriber());
+        }
+    }
+
+    private void onError(int exchange, Throwable error) {
+        synchronized (this) {
+            failed[exchange] = true;
+            if (winner == UNDECIDED) {
+                if (isInFlight(other(exchange))) {
+                    log.debug(() -> "Request failed while a hedged request of the same attempt is in flight.", error);
+                    return;
+                }
+                winner = exchange;
+                cancelHedgeTimer();
+            } else if (winner != exchange) {
+                return;
+            }
+        }
+
+        responseHandler.onError(error);
+    }
+
+    private boolean isInFlight(int exchange) {
+        return !failed[exchange] && (exchange == PRIMARY || hedgedRequestStarted);
+    }
+
+    private void cancelHedgeTimer() {
+        if (hedgeTimer != null) {
+            hedgeTimer.cancel();
+        }
+    }
+
+    private static void cancelExchange(CompletableFuture<Void> future) {
+        future.completeExceptionally(new CancellationException("Another request of the same attempt received a response "
+                                                               + "first."));
+    }
+
+    private static int other(int exchange) {
+        return exchange == PRIMARY ? HEDGED : PRIMARY;
+    }
+
+    /**
+     * Forwards the events of one of the exchanges to the {@link HedgedHttpExchange}.
+     */
+    private final class ExchangeResponseHandler implements SdkAsyncHttpResponseHandler {
+        private final int exchange;
+
+        private ExchangeResponseHandler(int exchange) {
+            this.exchange = exchange;
+        }
+
+        @Override
+        public void onHeaders(SdkHttpResponse headers) {
+            HedgedHttpExchange.this.onHeaders(exchange, headers);
+        }
+
+        @Override
+        public void onStream(Publisher<ByteBuffer> stream) {
+            HedgedHttpExchange.this.onStream(exchange, stream);
+        }
+
+        @Override
+        public void onError(Throwable error) {
+            HedgedHttpExchange.this.onError(exchange, error);
+        }
+    }
+
+    /**
+     * Releases the response stream of the exchange that lost the race.
+     */
+    private static final class CancellingSubscriber implements Subscriber<ByteBuffer> {
+        @Override
+        public void onSubscribe(Subscription subscription) {
+            subscription.cancel();
+        }
+
+        @Override
+        public void onNext(ByteBuffer byteBuffer) {
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+        }
+
+        @Override
+        public void onComplete() {
+        }
+    }
+}
@@ -16,11 +16,11 @@
 package software.amazon.awssdk.core.internal.http.pipeline.stages;
 
 import static software.amazon.awssdk.core.internal.http.timers.TimerUtils.resolveTimeoutInMillis;
+import static software.amazon.awssdk.core.internal.http.timers.TimerUtils.resolveTimeoutScheduler;
 import static software.amazon.awssdk.core.internal.http.timers.TimerUtils.timeSyncTaskIfNeeded;
 import static software.amazon.awssdk.utils.FunctionalUtils.invokeSafely;
 
 import java.time.Duration;
-import java.util.concurrent.ScheduledExecutorService;
 import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.core.Response;
 import software.amazon.awssdk.core.client.config.SdkClientOption;
@@ -34,6 +34,7 @@ import software.amazon.awssdk.core.internal.http.pipeline.RequestPipeline;
 import software.amazon.awssdk.core.internal.http.pipeline.RequestToResponsePipeline;
 import software.amazon.awssdk.core.internal.http.timers.SyncTimeoutTask;
 import software.amazon.awssdk.core.internal.http.timers.TimeoutTracker;
+import software.amazon.awssdk.core.timeout.TimeoutScheduler;
 import software.amazon.awssdk.http.SdkHttpFullRequest;
 
 /**
@@ -44,13 +45,13 @@ public final class ApiCallAttemptTimeoutTrackingStage<OutputT> implements Reques
 
     private final RequestPipeline<SdkHttpFullRequest, Response<OutputT>> wrapped;
     private final Duration apiCallAttemptTimeout;
-    private final ScheduledExecutorService timeoutExecutor;
+    private final TimeoutScheduler timeoutScheduler;
 
     public ApiCallAttemptTimeoutTrackingStage(HttpClientDependencies dependencies,
                                               RequestPipeline<SdkHttpFullRequest,
                                               Response<OutputT>> wrapped) {
         this.wrapped = wrapped;
-        this.timeoutExecutor = dependencies.clientConfiguration().option(SdkClientOption.SCHEDULED_EXECUTOR_SERVICE);
+        this.timeoutScheduler = resolveTimeoutScheduler(dependencies.clientConfiguration());
         this.apiCallAttemptTimeout = dependencies.clientConfiguration().option(SdkClientOption.API_CALL_ATTEMPT_TIMEOUT);
     }
 
@@ -65,7 +66,7 @@ public final class ApiCallAttemptTimeoutTrackingStage<OutputT> implements Reques
         try {
             long timeoutInMillis = resolveTimeoutInMillis(context.requestConfig()::apiCallAttemptTimeout, apiCallAttemptTimeout);
 
-            TimeoutTracker timeoutTracker = timeSyncTaskIfNeeded(timeoutExecutor, timeoutInMillis, Thread.currentThread());
+            TimeoutTracker timeoutTracker = timeSyncTaskIfNeeded(timeoutScheduler, timeoutInMillis, Thread.currentThread());
 
             Response<OutputT> response;
             try {
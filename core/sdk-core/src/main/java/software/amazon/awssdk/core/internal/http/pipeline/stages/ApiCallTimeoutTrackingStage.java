@@ -16,11 +16,11 @@
 package software.amazon.awssdk.core.internal.http.pipeline.stages;
 
 import static software.amazon.awssdk.core.internal.http.timers.TimerUtils.resolveTimeoutInMillis;
+import static software.amazon.awssdk.core.internal.http.timers.TimerUtils.resolveTimeoutScheduler;
 import static software.amazon.awssdk.core.internal.http.timers.TimerUtils.timeSyncTaskIfNeeded;
 import static software.amazon.awssdk.utils.FunctionalUtils.invokeSafely;
 
 import java.time.Duration;
-import java.util.concurrent.ScheduledExecutorService;
 import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.core.Response;
 import software.amazon.awssdk.core.client.config.SdkClientConfiguration;
@@ -34,6 +34,7 @@ import software.amazon.awssdk.core.internal.http.pipeline.RequestPipeline;
 import software.amazon.awssdk.core.internal.http.pipeline.RequestToResponsePipeline;
 import software.amazon.awssdk.core.internal.http.timers.SyncTimeoutTask;
 import software.amazon.awssdk.core.internal.http.timers.TimeoutTracker;
+import software.amazon.awssdk.core.timeout.TimeoutScheduler;
 import software.amazon.awssdk.http.SdkHttpFullRequest;
 
 /**
@@ -43,14 +44,14 @@ import software.amazon.awssdk.http.SdkHttpFullRequest;
 public final class ApiCallTimeoutTrackingStage<OutputT> implements RequestToResponsePipeline<OutputT> {
     private final RequestPipeline<SdkHttpFullRequest, Response<OutputT>> wrapped;
     private final SdkClientConfiguration clientConfig;
-    private final ScheduledExecutorService timeoutExecutor;
+    private final TimeoutScheduler timeoutScheduler;
     private final Duration apiCallTimeout;
 
     public ApiCallTimeoutTrackingStage(HttpClientDependencies dependencies,
                                        RequestPipeline<SdkHttpFullRequest, Response<OutputT>> wrapped) {
         this.wrapped = wrapped;
         this.clientConfig = dependencies.clientConfiguration();
-        this.timeoutExecutor = dependencies.clientConfiguration().option(SdkClientOption.SCHEDULED_EXECUTOR_SERVICE);
+        this.timeoutScheduler = resolveTimeoutScheduler(dependencies.clientConfiguration());
         this.apiCallTimeout = clientConfig.option(SdkClientOption.API_CALL_TIMEOUT);
     }
 
@@ -72,7 +73,7 @@ public final class ApiCallTimeoutTrackingStage<OutputT> implements RequestToResp
     private Response<OutputT> executeWithTimer(SdkHttpFullRequest request, RequestExecutionContext context) throws Exception {
         long timeoutInMillis = resolveTimeoutInMillis(context.requestConfig()::apiCallTimeout, apiCallTimeout);
 
-        TimeoutTracker timeoutTracker = timeSyncTaskIfNeeded(timeoutExecutor, timeoutInMillis, Thread.currentThread());
+        TimeoutTracker timeoutTracker = timeSyncTaskIfNeeded(timeoutScheduler, timeoutInMillis, Thread.currentThread());
 
         Response<OutputT> response;
         try {
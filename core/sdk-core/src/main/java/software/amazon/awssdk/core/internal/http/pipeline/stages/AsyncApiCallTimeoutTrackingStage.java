@@ -16,10 +16,10 @@
 package software.amazon.awssdk.core.internal.http.pipeline.stages;
 
 import static software.amazon.awssdk.core.internal.http.timers.TimerUtils.resolveTimeoutInMillis;
+import static software.amazon.awssdk.core.internal.http.timers.TimerUtils.resolveTimeoutScheduler;
 import static software.amazon.awssdk.core.internal.http.timers.TimerUtils.timeAsyncTaskIfNeeded;
 
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.ScheduledExecutorService;
 import java.util.function.Supplier;
 import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.core.client.config.SdkClientConfiguration;
@@ -30,6 +30,7 @@ import software.amazon.awssdk.core.internal.http.HttpClientDependencies;
 import software.amazon.awssdk.core.internal.http.RequestExecutionContext;
 import software.amazon.awssdk.core.internal.http.pipeline.RequestPipeline;
 import software.amazon.awssdk.core.internal.http.timers.TimeoutTracker;
+import software.amazon.awssdk.core.timeout.TimeoutScheduler;
 import software.amazon.awssdk.http.SdkHttpFullRequest;
 import software.amazon.awssdk.utils.CompletableFutureUtils;
 
@@ -38,12 +39,12 @@ public class AsyncApiCallTimeoutTrackingStage<OutputT>
     implements RequestPipeline<SdkHttpFullRequest, CompletableFuture<OutputT>> {
     private final RequestPipeline<SdkHttpFullRequest, CompletableFuture<OutputT>> requestPipeline;
     private final SdkClientConfiguration clientConfig;
-    private final ScheduledExecutorService scheduledExecutor;
+    private final TimeoutScheduler timeoutScheduler;
 
     public AsyncApiCallTimeoutTrackingStage(HttpClientDependencies dependencies,
                                             RequestPipeline<SdkHttpFullRequest, CompletableFuture<OutputT>> requestPipeline) {
         this.requestPipeline = requestPipeline;
-        this.scheduledExecutor = dependencies.clientConfiguration().option(SdkClientOption.SCHEDULED_EXECUTOR_SERVICE);
+        this.timeoutScheduler = resolveTimeoutScheduler(dependencies.clientConfiguration());
         this.clientConfig = dependencies.clientConfiguration();
     }
 
@@ -56,7 +57,7 @@ public class AsyncApiCallTimeoutTrackingStage<OutputT>
 
         Supplier<SdkClientException> exceptionSupplier = () -> ApiCallTimeoutException.create(apiCallTimeoutInMillis);
         TimeoutTracker timeoutTracker = timeAsyncTaskIfNeeded(future,
-                                                              scheduledExecutor,
+                                                              timeoutScheduler,
                                                               exceptionSupplier,
                                                               apiCallTimeoutInMillis);
         context.apiCallTimeoutTracker(timeoutTracker);
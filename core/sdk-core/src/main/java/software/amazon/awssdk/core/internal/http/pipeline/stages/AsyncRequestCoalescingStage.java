@@ -0,0 +1,86 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.internal.http.pipeline.stages;
+
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentMap;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.core.client.config.SdkAdvancedClientOption;
+import software.amazon.awssdk.core.internal.http.HttpClientDependencies;
+import software.amazon.awssdk.core.internal.http.RequestExecutionContext;
+import software.amazon.awssdk.core.internal.http.pipeline.RequestPipeline;
+import software.amazon.awssdk.core.internal.http.pipeline.stages.utils.CoalescedRequest;
+import software.amazon.awssdk.core.internal.http.pipeline.stages.utils.RequestCoalescingKey;
+import software.amazon.awssdk.http.SdkHttpFullRequest;
+import software.amazon.awssdk.utils.CompletableFutureUtils;
+
+/**
+ * Lets concurrent identical requests share one HTTP call and its response, if
+ * {@link SdkAdvancedClientOption#COALESCE_IDENTICAL_REQUESTS} is enabled. The first request makes the call through the wrapped
+ * pipeline, and identical requests made while it is in flight wait for its response instead of making their own call.
+ */
+@SdkInternalApi
+public final class AsyncRequestCoalescingStage<OutputT>
+    implements RequestPipeline<SdkHttpFullRequest, CompletableFuture<OutputT>> {
+
+    private final RequestPipeline<SdkHttpFullRequest, CompletableFuture<OutputT>> wrapped;
+    private final ConcurrentMap<RequestCoalescingKey, CoalescedRequest<?>> inFlightRequests;
+    private final boolean coalescingEnabled;
+
+    public AsyncRequestCoalescingStage(HttpClientDependencies dependencies,
+                                       RequestPipeline<SdkHttpFullRequest, CompletableFuture<OutputT>> wrapped) {
+        this.wrapped = wrapped;
+        this.inFlightRequests = dependencies.inFlightRequests();
+        this.coalescingEnabled = Boolean.TRUE.equals(
+            dependencies.clientConfiguration().option(SdkAdvancedClientOption.COALESCE_IDENTICAL_REQUESTS));
+    }
+
+    @Override
+    public CompletableFuture<OutputT> execute(SdkHttpFullRequest request, RequestExecutionContext context) throws Exception {
+        Optional<RequestCoalescingKey> key = coalescingEnabled ? RequestCoalescingKey.create(request, context)
+                                                               : Optional.empty();
+        if (!key.isPresent()) {
+            return wrapped.execute(request, context);
+        }
+
+        while (true) {
+            CoalescedRequest<OutputT> call = new CoalescedRequest<>(context, c -> inFlightRequests.remove(key.get(), c));
+            CoalescedRequest<?> inFlight = inFlightRequests.putIfAbsent(key.get(), call);
+            if (inFlight == null) {
+                return call.start(executeCall(request, context));
+            }
+
+            // Identical requests invoke the same operation, so they have the same output type
+            @SuppressWarnings("unchecked")
+            Optional<CompletableFuture<OutputT>> joined = ((CoalescedRequest<OutputT>) inFlight).join(context);
+            if (joined.isPresent()) {
+                return joined.get();
+            }
+
+            // The call completed after it was looked up, so make a new one
+            inFlightRequests.remove(key.get(), inFlight);
+        }
+    }
+
+    private CompletableFuture<OutputT> executeCall(SdkHttpFullRequest request, RequestExecutionContext context) {
+        try {
+            return wrapped.execute(request, context);
+        } catch (Exception e) {
+            return CompletableFutureUtils.failedFuture(e);
+        }
+    }
+}
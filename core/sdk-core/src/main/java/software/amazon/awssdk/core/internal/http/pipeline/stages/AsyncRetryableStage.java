@@ -139,8 +139,10 @@ public final class AsyncRetryableStage<OutputT> implements RequestPipeline<SdkHt
 
         private void attemptExecute(CompletableFuture<Response<OutputT>> future) {
             CompletableFuture<Response<OutputT>> responseFuture;
+            long attemptStartTime = System.nanoTime();
             try {
                 retryableStageHelper.logSendingRequest();
+                context.attemptHedging(retryableStageHelper.attemptHedging());
                 responseFuture = requestPipeline.execute(retryableStageHelper.requestToSend(), context);
 
                 // If the result future fails, go ahead and fail the response future.
@@ -169,6 +171,7 @@ public final class AsyncRetryableStage<OutputT> implements RequestPipeline<SdkHt
                 }
 
                 retryableStageHelper.updateClientSendingRateForSuccessResponse();
+                retryableStageHelper.recordAttemptLatency(Duration.ofNanos(System.nanoTime() - attemptStartTime));
 
                 retryableStageHelper.attemptSucceeded();
                 future.complete(response);
@@ -0,0 +1,135 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.internal.http.pipeline.stages;
+
+import static software.amazon.awssdk.http.Header.CONTENT_LENGTH;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Optional;
+import java.util.zip.GZIPOutputStream;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.core.CompressionConfiguration;
+import software.amazon.awssdk.core.async.AsyncRequestBody;
+import software.amazon.awssdk.core.interceptor.SdkInternalExecutionAttribute;
+import software.amazon.awssdk.core.interceptor.trait.RequestCompression;
+import software.amazon.awssdk.core.internal.async.GzipCompressingAsyncRequestBody;
+import software.amazon.awssdk.core.internal.http.HttpClientDependencies;
+import software.amazon.awssdk.core.internal.http.RequestExecutionContext;
+import software.amazon.awssdk.core.internal.http.pipeline.MutableRequestToRequestPipeline;
+import software.amazon.awssdk.http.ContentStreamProvider;
+import software.amazon.awssdk.http.SdkHttpFullRequest;
+import software.amazon.awssdk.utils.IoUtils;
+
+/**
+ * Gzip-compress the payload of the request, if the operation accepts compressed payloads (see
+ * {@link SdkInternalExecutionAttribute#REQUEST_COMPRESSION}), the {@link CompressionConfiguration} of the request doesn't
+ * disable it, and the payload reaches the minimum compression threshold. This runs before signing, so the signature covers
+ * the compressed payload.
+ */
+@SdkInternalApi
+public class CompressRequestStage implements MutableRequestToRequestPipeline {
+    private static final int DEFAULT_MIN_COMPRESSION_THRESHOLD_IN_BYTES = 10_240;
+    private static final String CONTENT_ENCODING = "Content-Encoding";
+    private static final String GZIP = "gzip";
+
+    public CompressRequestStage(HttpClientDependencies dependencies) {
+    }
+
+    @Override
+    public SdkHttpFullRequest.Builder execute(SdkHttpFullRequest.Builder request, RequestExecutionContext context)
+            throws Exception {
+        RequestCompression requestCompression =
+            context.executionAttributes().getAttribute(SdkInternalExecutionAttribute.REQUEST_COMPRESSION);
+        if (requestCompression == null) {
+            return request;
+        }
+
+        Optional<CompressionConfiguration> compressionConfiguration = context.requestConfig().compressionConfiguration();
+        if (!compressionConfiguration.flatMap(CompressionConfiguration::requestCompressionEnabled).orElse(true)) {
+            return request;
+        }
+        int threshold = compressionConfiguration.flatMap(CompressionConfiguration::minimumCompressionThresholdInBytes)
+                                                .orElse(DEFAULT_MIN_COMPRESSION_THRESHOLD_IN_BYTES);
+
+        if (!requestCompression.isStreaming()) {
+            return compressPayload(request, threshold);
+        }
+
+        if (context.requestProvider() != null) {
+            return compressAsyncPayload(request, context, threshold);
+        }
+
+        // Streaming payloads of sync clients are read straight from the caller's stream by the signer and the HTTP client,
+        // with a known content length. Compressing them would require chunked transfer encoding, so they are sent as-is.
+        return request;
+    }
+
+    /**
+     * Compress a payload that has been marshalled into memory, replacing its content length with the compressed length.
+     */
+    private static SdkHttpFullRequest.Builder compressPayload(SdkHttpFullRequest.Builder request, int threshold)
+            throws IOException {
+        ContentStreamProvider contentStreamProvider = request.contentStreamProvider();
+        if (contentStreamProvider == null || contentLength(request).map(length -> length < threshold).orElse(false)) {
+            return request;
+        }
+
+        byte[] payload;
+        try (InputStream content = contentStreamProvider.newStream()) {
+            payload = IoUtils.toByteArray(content);
+        }
+        if (payload.length < threshold) {
+            return request;
+        }
+
+        byte[] compressed = gzip(payload);
+        return request.contentStreamProvider(() -> new ByteArrayInputStream(compressed))
+                      .putHeader(CONTENT_LENGTH, Integer.toString(compressed.length))
+                      .appendHeader(CONTENT_ENCODING, GZIP);
+    }
+
+    /**
+     * Compress a streaming payload of an async client as it is sent. The compressed length isn't known up front, so the
+     * payload is sent without a content length.
+     */
+    private static SdkHttpFullRequest.Builder compressAsyncPayload(SdkHttpFullRequest.Builder request,
+                                                                   RequestExecutionContext context,
+                                                                   int threshold) {
+        AsyncRequestBody requestBody = context.requestProvider();
+        if (requestBody.contentLength().map(length -> length < threshold).orElse(false)) {
+            return request;
+        }
+
+        context.requestProvider(new GzipCompressingAsyncRequestBody(requestBody));
+        return request.removeHeader(CONTENT_LENGTH)
+                      .appendHeader(CONTENT_ENCODING, GZIP);
+    }
+
+    private static Optional<Long> contentLength(SdkHttpFullRequest.Builder request) {
+        return request.firstMatchingHeader(CONTENT_LENGTH).map(Long::parseLong);
+    }
+
+    private static byte[] gzip(byte[] payload) throws IOException {
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream(payload.length / 4);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(compressed)) {
+            gzip.write(payload);
+        }
+        return compressed.toByteArray();
+    }
+}
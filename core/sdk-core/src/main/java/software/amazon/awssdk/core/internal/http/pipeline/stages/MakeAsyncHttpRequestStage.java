@@ -16,14 +16,15 @@
 package software.amazon.awssdk.core.internal.http.pipeline.stages;
 
 import static software.amazon.awssdk.core.internal.http.timers.TimerUtils.resolveTimeoutInMillis;
+import static software.amazon.awssdk.core.internal.http.timers.TimerUtils.resolveTimeoutScheduler;
 import static software.amazon.awssdk.http.Header.CONTENT_LENGTH;
 
 import java.nio.ByteBuffer;
+import java.nio.file.Path;
 import java.time.Duration;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Executor;
-import java.util.concurrent.ScheduledExecutorService;
 import java.util.function.Supplier;
 import org.reactivestreams.Publisher;
 import org.reactivestreams.Subscriber;
@@ -36,21 +37,27 @@ import software.amazon.awssdk.core.exception.ApiCallAttemptTimeoutException;
 import software.amazon.awssdk.core.exception.SdkClientException;
 import software.amazon.awssdk.core.interceptor.ExecutionAttributes;
 import software.amazon.awssdk.core.interceptor.SdkInternalExecutionAttribute;
+import software.amazon.awssdk.core.internal.async.FileAsyncRequestBody;
 import software.amazon.awssdk.core.internal.http.HttpClientDependencies;
 import software.amazon.awssdk.core.internal.http.RequestExecutionContext;
 import software.amazon.awssdk.core.internal.http.TransformingAsyncResponseHandler;
+import software.amazon.awssdk.core.internal.http.async.HedgedHttpExchange;
 import software.amazon.awssdk.core.internal.http.async.SimpleHttpContentPublisher;
 import software.amazon.awssdk.core.internal.http.pipeline.RequestPipeline;
+import software.amazon.awssdk.core.internal.http.pipeline.stages.utils.AttemptHedging;
 import software.amazon.awssdk.core.internal.http.timers.TimeoutTracker;
 import software.amazon.awssdk.core.internal.http.timers.TimerUtils;
 import software.amazon.awssdk.core.internal.util.MetricUtils;
 import software.amazon.awssdk.core.metrics.CoreMetric;
+import software.amazon.awssdk.core.timeout.TimeoutScheduler;
 import software.amazon.awssdk.http.SdkHttpFullRequest;
 import software.amazon.awssdk.http.SdkHttpMethod;
 import software.amazon.awssdk.http.SdkHttpResponse;
 import software.amazon.awssdk.http.async.AsyncExecuteRequest;
 import software.amazon.awssdk.http.async.SdkAsyncHttpClient;
+import software.amazon.awssdk.http.async.SdkAsyncHttpResponseHandler;
 import software.amazon.awssdk.http.async.SdkHttpContentPublisher;
+import software.amazon.awssdk.http.async.SdkHttpFileContentPublisher;
 import software.amazon.awssdk.metrics.MetricCollector;
 import software.amazon.awssdk.utils.CompletableFutureUtils;
 import software.amazon.awssdk.utils.Logger;
@@ -67,7 +74,7 @@ public final class MakeAsyncHttpRequestStage<OutputT>
     private final SdkAsyncHttpClient sdkAsyncHttpClient;
     private final TransformingAsyncResponseHandler<Response<OutputT>> responseHandler;
     private final Executor futureCompletionExecutor;
-    private final ScheduledExecutorService timeoutExecutor;
+    private final TimeoutScheduler timeoutScheduler;
     private final Duration apiCallAttemptTimeout;
 
     public MakeAsyncHttpRequestStage(TransformingAsyncResponseHandler<Response<OutputT>> responseHandler,
@@ -77,7 +84,7 @@ public final class MakeAsyncHttpRequestStage<OutputT>
                 dependencies.clientConfiguration().option(SdkAdvancedAsyncClientOption.FUTURE_COMPLETION_EXECUTOR);
         this.sdkAsyncHttpClient = dependencies.clientConfiguration().option(SdkClientOption.ASYNC_HTTP_CLIENT);
         this.apiCallAttemptTimeout = dependencies.clientConfiguration().option(SdkClientOption.API_CALL_ATTEMPT_TIMEOUT);
-        this.timeoutExecutor = dependencies.clientConfiguration().option(SdkClientOption.SCHEDULED_EXECUTOR_SERVICE);
+        this.timeoutScheduler = resolveTimeoutScheduler(dependencies.clientConfiguration());
     }
 
     @Override
@@ -174,29 +181,45 @@ public final class MakeAsyncHttpRequestStage<OutputT>
 
         SdkHttpContentPublisher requestProvider = context.requestProvider() == null
                                                   ? new SimpleHttpContentPublisher(request)
-                                                  : new SdkHttpContentPublisherAdapter(context.requestProvider());
+                                                  : SdkHttpContentPublisherAdapter.create(context.requestProvider());
         // Set content length if it hasn't been set already.
         SdkHttpFullRequest requestWithContentLength = getRequestWithContentLength(request, requestProvider);
 
+        // Requests with a streaming payload are never hedged, because the payload can only be read once
+        AttemptHedging hedging = context.requestProvider() == null ? context.attemptHedging() : null;
+        HedgedHttpExchange hedgedExchange = hedging == null ? null : new HedgedHttpExchange(wrappedResponseHandler, hedging);
+        SdkAsyncHttpResponseHandler httpResponseHandler = hedgedExchange == null
+                                                          ? wrappedResponseHandler
+                                                          : hedgedExchange.primaryResponseHandler();
+
         MetricCollector httpMetricCollector = MetricUtils.createHttpMetricsCollector(context);
 
         AsyncExecuteRequest executeRequest = AsyncExecuteRequest.builder()
                                                                 .request(requestWithContentLength)
                                                                 .requestContentPublisher(requestProvider)
-                                                                .responseHandler(wrappedResponseHandler)
+                                                                .responseHandler(httpResponseHandler)
                                                                 .fullDuplex(isFullDuplex(context.executionAttributes()))
                                                                 .metricCollector(httpMetricCollector)
                                                                 .build();
 
         CompletableFuture<Void> httpClientFuture = doExecuteHttpRequest(context, executeRequest);
 
+        if (hedgedExchange != null) {
+            hedgedExchange.start(httpClientFuture, timeoutScheduler, futureCompletionExecutor,
+                                 handler -> executeHedgedHttpRequest(requestWithContentLength, handler, context));
+        }
+
         TimeoutTracker timeoutTracker = setupAttemptTimer(responseFuture, context);
         context.apiCallAttemptTimeoutTracker(timeoutTracker);
 
         // Forward the cancellation
         responseFuture.whenComplete((r, t) -> {
             if (t != null) {
-                httpClientFuture.completeExceptionally(t);
+                if (hedgedExchange != null) {
+                    hedgedExchange.cancel(t);
+                } else {
+                    httpClientFuture.completeExceptionally(t);
+                }
             }
         });
 
@@ -230,6 +253,19 @@ public final class MakeAsyncHttpRequestStage<OutputT>
         return result;
     }
 
+    private CompletableFuture<Void> executeHedgedHttpRequest(SdkHttpFullRequest request,
+                                                             SdkAsyncHttpResponseHandler responseHandler,
+                                                             RequestExecutionContext context) {
+        AsyncExecuteRequest executeRequest = AsyncExecuteRequest.builder()
+                                                                .request(request)
+                                                                .requestContentPublisher(new SimpleHttpContentPublisher(request))
+                                                                .responseHandler(responseHandler)
+                                                                .fullDuplex(isFullDuplex(context.executionAttributes()))
+                                                                .metricCollector(MetricUtils.createHttpMetricsCollector(context))
+                                                                .build();
+        return sdkAsyncHttpClient.execute(executeRequest);
+    }
+
     private boolean isFullDuplex(ExecutionAttributes executionAttributes) {
         return executionAttributes.getAttribute(SdkInternalExecutionAttribute.IS_FULL_DUPLEX) != null &&
                executionAttributes.getAttribute(SdkInternalExecutionAttribute.IS_FULL_DUPLEX);
@@ -259,7 +295,7 @@ public final class MakeAsyncHttpRequestStage<OutputT>
         Supplier<SdkClientException> exceptionSupplier = () -> ApiCallAttemptTimeoutException.create(timeoutMillis);
 
         return TimerUtils.timeAsyncTaskIfNeeded(executeFuture,
-                                                timeoutExecutor,
+                                                timeoutScheduler,
                                                 exceptionSupplier,
                                                 timeoutMillis);
     }
@@ -269,7 +305,7 @@ public final class MakeAsyncHttpRequestStage<OutputT>
      * provide the request content in a non-blocking manner. This adapts that interface to the
      * {@link SdkHttpContentPublisher} which the HTTP client SPI expects.
      */
-    private static final class SdkHttpContentPublisherAdapter implements SdkHttpContentPublisher {
+    private static class SdkHttpContentPublisherAdapter implements SdkHttpContentPublisher {
 
         private final AsyncRequestBody asyncRequestBody;
 
@@ -277,6 +313,16 @@ public final class MakeAsyncHttpRequestStage<OutputT>
             this.asyncRequestBody = asyncRequestBody;
         }
 
+        /**
+         * Adapt the given body, exposing the file of a file-backed body so that the HTTP client can write it directly.
+         */
+        static SdkHttpContentPublisher create(AsyncRequestBody asyncRequestBody) {
+            if (asyncRequestBody instanceof FileAsyncRequestBody) {
+                return new FileContentPublisherAdapter((FileAsyncRequestBody) asyncRequestBody);
+            }
+            return new SdkHttpContentPublisherAdapter(asyncRequestBody);
+        }
+
         @Override
         public Optional<Long> contentLength() {
             return asyncRequestBody.contentLength();
@@ -287,4 +333,23 @@ public final class MakeAsyncHttpRequestStage<OutputT>
             asyncRequestBody.subscribe(s);
         }
     }
+
+    /**
+     * Adapts a {@link FileAsyncRequestBody} to a {@link SdkHttpFileContentPublisher}.
+     */
+    private static final class FileContentPublisherAdapter extends SdkHttpContentPublisherAdapter
+        implements SdkHttpFileContentPublisher {
+
+        private final Path path;
+
+        private FileContentPublisherAdapter(FileAsyncRequestBody asyncRequestBody) {
+            super(asyncRequestBody);
+            this.path = asyncRequestBody.path();
+        }
+
+        @Override
+        public Path path() {
+            return path;
+        }
+    }
 }
@@ -0,0 +1,72 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.internal.http.pipeline.stages.utils;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.core.internal.retry.SdkDefaultRetrySetting;
+import software.amazon.awssdk.core.retry.conditions.TokenBucketRetryCondition;
+
+/**
+ * The hedging of a single request attempt, created by {@link RetryableStageHelper#attemptHedging()}. If the attempt has not
+ * received a response after {@link #delay()}, a hedged request may be sent alongside it, as long as the retry capacity allows.
+ */
+@SdkInternalApi
+@ThreadSafe
+public final class AttemptHedging {
+    private final Duration delay;
+    private final TokenBucketRetryCondition retryCapacity;
+    private final AtomicInteger hedgedRequests;
+    private final AtomicInteger hedgedRequestWins;
+
+    public AttemptHedging(Duration delay,
+                          TokenBucketRetryCondition retryCapacity,
+                          AtomicInteger hedgedRequests,
+                          AtomicInteger hedgedRequestWins) {
+        this.delay = delay;
+        this.retryCapacity = retryCapacity;
+        this.hedgedRequests = hedgedRequests;
+        this.hedgedRequestWins = hedgedRequestWins;
+    }
+
+    /**
+     * @return How long to wait for a response to the attempt before sending a hedged request.
+     */
+    public Duration delay() {
+        return delay;
+    }
+
+    /**
+     * Acquire the retry capacity for a hedged request. Returns false if the client has too little capacity left, in which case
+     * the hedged request must not be sent.
+     */
+    public boolean tryStartHedgedRequest() {
+        if (!retryCapacity.tryAcquireCapacity(SdkDefaultRetrySetting.HEDGED_REQUEST_TOKEN_COST)) {
+            return false;
+        }
+        hedgedRequests.incrementAndGet();
+        return true;
+    }
+
+    /**
+     * Invoke when the hedged request received a response before the attempt it was sent alongside.
+     */
+    public void hedgedRequestWon() {
+        hedgedRequestWins.incrementAndGet();
+    }
+}
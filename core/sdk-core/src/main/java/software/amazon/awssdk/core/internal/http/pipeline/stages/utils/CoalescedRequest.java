@@ -0,0 +1,148 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.internal.http.pipeline.stages.utils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.core.interceptor.InterceptorContext;
+import software.amazon.awssdk.core.internal.http.RequestExecutionContext;
+import software.amazon.awssdk.core.metrics.CoreMetric;
+
+/**
+ * An HTTP call shared by concurrent identical requests. The call is made by the first of the requests, and the others join it
+ * while it is in flight. Every request gets its own future for the shared response, and the call is only cancelled once all of
+ * them have failed or been cancelled.
+ */
+@SdkInternalApi
+@ThreadSafe
+public final class CoalescedRequest<OutputT> {
+    private final RequestExecutionContext leaderContext;
+    private final Consumer<CoalescedRequest<OutputT>> onClose;
+    private final List<Participant<OutputT>> participants = new ArrayList<>();
+
+    private CompletableFuture<OutputT> execution;
+    private int activeParticipants = 1;
+    private boolean closed;
+
+    /**
+     * @param leaderContext The context of the request that makes the call.
+     * @param onClose Invoked once the call can no longer be joined.
+     */
+    public CoalescedRequest(RequestExecutionContext leaderContext, Consumer<CoalescedRequest<OutputT>> onClose) {
+        this.leaderContext = leaderContext;
+        this.onClose = onClose;
+    }
+
+    /**
+     * Start sharing the given execution of the call, and return the future of the request that made it.
+     */
+    public CompletableFuture<OutputT> start(CompletableFuture<OutputT> execution) {
+        CompletableFuture<OutputT> leaderFuture;
+        synchronized (this) {
+            this.execution = execution;
+            leaderFuture = addParticipant(leaderContext);
+        }
+        execution.whenComplete(this::complete);
+        return leaderFuture;
+    }
+
+    /**
+     * Join the call with the request of the given context. Returns empty if the call has completed or been cancelled, in which
+     * case the request must make its own call.
+     */
+    public Optional<CompletableFuture<OutputT>> join(RequestExecutionContext context) {
+        CompletableFuture<OutputT> future;
+        synchronized (this) {
+            if (closed) {
+                return Optional.empty();
+            }
+            context.executionContext().metricCollector().reportMetric(CoreMetric.REQUEST_COALESCED, true);
+            activeParticipants++;
+            future = addParticipant(context);
+        }
+        return Optional.of(future);
+    }
+
+    private CompletableFuture<OutputT> addParticipant(RequestExecutionContext context) {
+        CompletableFuture<OutputT> future = new CompletableFuture<>();
+        participants.add(new Participant<>(context, future));
+        future.whenComplete((r, t) -> {
+            if (t != null) {
+                leave(t);
+            }
+        });
+        return future;
+    }
+
+    private void leave(Throwable cause) {
+        CompletableFuture<OutputT> toCancel;
+        synchronized (this) {
+            if (closed || --activeParticipants > 0) {
+                return;
+            }
+            closed = true;
+            toCancel = execution;
+        }
+        onClose.accept(this);
+        toCancel.completeExceptionally(cause);
+    }
+
+    private void complete(OutputT response, Throwable t) {
+        List<Participant<OutputT>> toComplete;
+        synchronized (this) {
+            closed = true;
+            toComplete = new ArrayList<>(participants);
+        }
+        onClose.accept(this);
+
+        leaderContext.executionContext().metricCollector().reportMetric(CoreMetric.REQUEST_COALESCED, false);
+        leaderContext.executionContext().metricCollector().reportMetric(CoreMetric.COALESCED_REQUEST_COUNT,
+                                                                        toComplete.size() - 1);
+
+        InterceptorContext leaderInterceptorContext = leaderContext.executionContext().interceptorContext();
+        for (Participant<OutputT> participant : toComplete) {
+            if (t != null) {
+                participant.future.completeExceptionally(t);
+                continue;
+            }
+
+            if (participant.context != leaderContext) {
+                // afterExecution interceptors of the request see the HTTP request and response of the shared call
+                InterceptorContext interceptorContext = participant.context.executionContext().interceptorContext();
+                participant.context.executionContext().interceptorContext(
+                    interceptorContext.copy(b -> b.httpRequest(leaderInterceptorContext.httpRequest())
+                                                  .httpResponse(leaderInterceptorContext.httpResponse())
+                                                  .response(leaderInterceptorContext.response())));
+            }
+            participant.future.complete(response);
+        }
+    }
+
+    private static final class Participant<OutputT> {
+        private final RequestExecutionContext context;
+        private final CompletableFuture<OutputT> future;
+
+        private Participant(RequestExecutionContext context, CompletableFuture<OutputT> future) {
+            this.context = context;
+            this.future = future;
+        }
+    }
+}
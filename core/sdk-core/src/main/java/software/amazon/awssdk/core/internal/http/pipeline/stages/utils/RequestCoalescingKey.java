@@ -0,0 +1,154 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.internal.http.pipeline.stages.utils;
+
+import static software.amazon.awssdk.utils.StringUtils.lowerCase;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.core.interceptor.SdkExecutionAttribute;
+import software.amazon.awssdk.core.interceptor.SdkInternalExecutionAttribute;
+import software.amazon.awssdk.core.interceptor.trait.RequestCoalescing;
+import software.amazon.awssdk.core.internal.http.RequestExecutionContext;
+import software.amazon.awssdk.core.internal.http.pipeline.stages.ApplyTransactionIdStage;
+import software.amazon.awssdk.core.signer.Signer;
+import software.amazon.awssdk.http.ContentStreamProvider;
+import software.amazon.awssdk.http.SdkHttpFullRequest;
+import software.amazon.awssdk.http.SdkHttpMethod;
+import software.amazon.awssdk.utils.IoUtils;
+
+/**
+ * Identifies concurrent requests that may share one HTTP call and its response. Two requests are identical if they invoke the
+ * same operation with the same identity and signer, and were marshalled to the same HTTP request, apart from headers that are
+ * unique to every request, such as the invocation ID.
+ */
+@SdkInternalApi
+public final class RequestCoalescingKey {
+    private final String operationName;
+    private final Object identity;
+    private final Signer signer;
+    private final SdkHttpMethod method;
+    private final String protocol;
+    private final String host;
+    private final int port;
+    private final String encodedPath;
+    private final Map<String, List<String>> rawQueryParameters;
+    private final Map<String, List<String>> headers;
+    private final byte[] body;
+    private final int hashCode;
+
+    private RequestCoalescingKey(String operationName, Object identity, SdkHttpFullRequest request, byte[] body,
+                                 Signer signer) {
+        this.operationName = operationName;
+        this.identity = identity;
+        this.signer = signer;
+        this.method = request.method();
+        this.protocol = request.protocol();
+        this.host = request.host();
+        this.port = request.port();
+        this.encodedPath = request.encodedPath();
+        this.rawQueryParameters = request.rawQueryParameters();
+        this.headers = new HashMap<>();
+        request.headers().forEach((name, values) -> this.headers.put(lowerCase(name), values));
+        this.headers.remove(ApplyTransactionIdStage.HEADER_SDK_TRANSACTION_ID);
+        this.body = body;
+        this.hashCode = computeHashCode();
+    }
+
+    /**
+     * Create the key of a marshalled request, before it is signed. Returns empty if the request must not be coalesced, because
+     * its operation does not support it, its identity is not known or its payload is streamed.
+     */
+    public static Optional<RequestCoalescingKey> create(SdkHttpFullRequest request, RequestExecutionContext context) {
+        RequestCoalescing requestCoalescing =
+            context.executionAttributes().getAttribute(SdkInternalExecutionAttribute.REQUEST_COALESCING);
+
+        if (requestCoalescing == null || context.requestProvider() != null) {
+            return Optional.empty();
+        }
+
+        return requestCoalescing.identity().map(identity -> {
+            String operationName = context.executionAttributes().getAttribute(SdkExecutionAttribute.OPERATION_NAME);
+            return new RequestCoalescingKey(operationName, identity, request, body(request), context.signer());
+        });
+    }
+
+    private static byte[] body(SdkHttpFullRequest request) {
+        Optional<ContentStreamProvider> contentStreamProvider = request.contentStreamProvider();
+        if (!contentStreamProvider.isPresent()) {
+            return new byte[0];
+        }
+
+        try (InputStream content = contentStreamProvider.get().newStream()) {
+            return IoUtils.toByteArray(content);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private int computeHashCode() {
+        int result = Objects.hashCode(operationName);
+        result = 31 * result + identity.hashCode();
+        result = 31 * result + Objects.hashCode(signer);
+        result = 31 * result + Objects.hashCode(method);
+        result = 31 * result + Objects.hashCode(protocol);
+        result = 31 * result + Objects.hashCode(host);
+        result = 31 * result + port;
+        result = 31 * result + Objects.hashCode(encodedPath);
+        result = 31 * result + rawQueryParameters.hashCode();
+        result = 31 * result + headers.hashCode();
+        result = 31 * result + Arrays.hashCode(body);
+        return result;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+
+        RequestCoalescingKey that = (RequestCoalescingKey) o;
+
+        return hashCode == that.hashCode &&
+               port == that.port &&
+               Objects.equals(operationName, that.operationName) &&
+               identity.equals(that.identity) &&
+               Objects.equals(signer, that.signer) &&
+               method == that.method &&
+               Objects.equals(protocol, that.protocol) &&
+               Objects.equals(host, that.host) &&
+               Objects.equals(encodedPath, that.encodedPath) &&
+               rawQueryParameters.equals(that.rawQueryParameters) &&
+               headers.equals(that.headers) &&
+               Arrays.equals(body, that.body);
+    }
+
+    @Override
+    public int hashCode() {
+        return hashCode;
+    }
+}
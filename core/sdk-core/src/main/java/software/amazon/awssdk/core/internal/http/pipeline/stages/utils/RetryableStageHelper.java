@@ -16,9 +16,12 @@
 package software.amazon.awssdk.core.internal.http.pipeline.stages.utils;
 
 import java.time.Duration;
+import java.util.Optional;
 import java.util.OptionalDouble;
 import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicInteger;
 import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.core.HedgingConfiguration;
 import software.amazon.awssdk.core.Response;
 import software.amazon.awssdk.core.SdkStandardLogger;
 import software.amazon.awssdk.core.client.config.SdkClientOption;
@@ -26,18 +29,23 @@ import software.amazon.awssdk.core.exception.NonRetryableException;
 import software.amazon.awssdk.core.exception.SdkClientException;
 import software.amazon.awssdk.core.exception.SdkException;
 import software.amazon.awssdk.core.interceptor.ExecutionAttribute;
+import software.amazon.awssdk.core.interceptor.SdkExecutionAttribute;
+import software.amazon.awssdk.core.interceptor.SdkInternalExecutionAttribute;
 import software.amazon.awssdk.core.internal.InternalCoreExecutionAttribute;
 import software.amazon.awssdk.core.internal.http.HttpClientDependencies;
 import software.amazon.awssdk.core.internal.http.RequestExecutionContext;
 import software.amazon.awssdk.core.internal.http.pipeline.stages.AsyncRetryableStage;
 import software.amazon.awssdk.core.internal.http.pipeline.stages.RetryableStage;
 import software.amazon.awssdk.core.internal.retry.ClockSkewAdjuster;
+import software.amazon.awssdk.core.internal.retry.LatencyHistogram;
 import software.amazon.awssdk.core.internal.retry.RateLimitingTokenBucket;
 import software.amazon.awssdk.core.metrics.CoreMetric;
 import software.amazon.awssdk.core.retry.RetryMode;
 import software.amazon.awssdk.core.retry.RetryPolicy;
 import software.amazon.awssdk.core.retry.RetryPolicyContext;
 import software.amazon.awssdk.core.retry.RetryUtils;
+import software.amazon.awssdk.core.retry.conditions.RetryCondition;
+import software.amazon.awssdk.core.retry.conditions.TokenBucketRetryCondition;
 import software.amazon.awssdk.http.SdkHttpFullRequest;
 import software.amazon.awssdk.http.SdkHttpResponse;
 
@@ -52,6 +60,9 @@ public class RetryableStageHelper {
     public static final ExecutionAttribute<Duration> LAST_BACKOFF_DELAY_DURATION =
         new ExecutionAttribute<>("LastBackoffDuration");
 
+    private static final double DEFAULT_HEDGING_DELAY_PERCENTILE = 95;
+    private static final Duration DEFAULT_HEDGING_MINIMUM_DELAY = Duration.ofMillis(10);
+
     private final SdkHttpFullRequest request;
     private final RequestExecutionContext context;
     private final RetryPolicy retryPolicy;
@@ -62,6 +73,11 @@ public class RetryableStageHelper {
     private SdkHttpResponse lastResponse = null;
     private SdkException lastException = null;
 
+    private Boolean hedgingEnabled = null;
+    private LatencyHistogram operationLatency = null;
+    private final AtomicInteger hedgedRequests = new AtomicInteger();
+    private final AtomicInteger hedgedRequestWins = new AtomicInteger();
+
     public RetryableStageHelper(SdkHttpFullRequest request,
                                 RequestExecutionContext context,
                                 RateLimitingTokenBucket rateLimitingTokenBucket,
@@ -109,6 +125,7 @@ public class RetryableStageHelper {
      */
     public SdkException retryPolicyDisallowedRetryException() {
         context.executionContext().metricCollector().reportMetric(CoreMetric.RETRY_COUNT, retriesAttemptedSoFar(true));
+        reportHedgingMetrics();
         return lastException;
     }
 
@@ -174,6 +191,7 @@ public class RetryableStageHelper {
     public void attemptSucceeded() {
         retryPolicy.aggregateRetryCondition().requestSucceeded(retryPolicyContext(false));
         context.executionContext().metricCollector().reportMetric(CoreMetric.RETRY_COUNT, retriesAttemptedSoFar(false));
+        reportHedgingMetrics();
     }
 
     /**
@@ -293,6 +311,86 @@ public class RetryableStageHelper {
         rateLimitingTokenBucket.updateClientSendingRate(false);
     }
 
+    /**
+     * Whether attempts of this request may be hedged. This requires the operation to be hedged by default or the request to
+     * enable hedging, the request to have no streaming payload, and the retry policy to limit the capacity for additional
+     * requests with a {@link TokenBucketRetryCondition}.
+     */
+    public boolean isHedgingEnabled() {
+        if (hedgingEnabled == null) {
+            hedgingEnabled = context.executionAttributes().getAttribute(SdkInternalExecutionAttribute.HEDGING) != null &&
+                             hedgingConfiguration().flatMap(HedgingConfiguration::hedgingEnabled).orElse(true) &&
+                             context.requestProvider() == null &&
+                             operationName() != null &&
+                             retryCapacityCondition().isPresent();
+        }
+        return hedgingEnabled;
+    }
+
+    /**
+     * Retrieve the hedging of the current attempt, or null if the attempt should not be hedged. Attempts are not hedged until
+     * enough latencies of the operation have been recorded with {@link #recordAttemptLatency(Duration)} to tell how long an
+     * attempt usually takes.
+     */
+    public AttemptHedging attemptHedging() {
+        if (!isHedgingEnabled()) {
+            return null;
+        }
+
+        Optional<HedgingConfiguration> hedgingConfiguration = hedgingConfiguration();
+        double percentile = hedgingConfiguration.flatMap(HedgingConfiguration::delayPercentile)
+                                                .orElse(DEFAULT_HEDGING_DELAY_PERCENTILE);
+        Duration minimumDelay = hedgingConfiguration.flatMap(HedgingConfiguration::minimumDelay)
+                                                    .orElse(DEFAULT_HEDGING_MINIMUM_DELAY);
+
+        return operationLatency().percentile(percentile)
+                                 .map(latency -> latency.compareTo(minimumDelay) > 0 ? latency : minimumDelay)
+                                 .map(delay -> new AttemptHedging(delay, retryCapacityCondition().get(),
+                                                                  hedgedRequests, hedgedRequestWins))
+                                 .orElse(null);
+    }
+
+    /**
+     * Record how long a successful attempt took, so that later attempts of the operation can be hedged once they take longer
+     * than usual. This is a noop if hedging is not enabled.
+     */
+    public void recordAttemptLatency(Duration latency) {
+        if (isHedgingEnabled()) {
+            operationLatency().record(latency);
+        }
+    }
+
+    private void reportHedgingMetrics() {
+        if (Boolean.TRUE.equals(hedgingEnabled)) {
+            context.executionContext().metricCollector().reportMetric(CoreMetric.HEDGED_REQUEST_COUNT, hedgedRequests.get());
+            context.executionContext().metricCollector().reportMetric(CoreMetric.HEDGED_REQUEST_WIN_COUNT,
+                                                                      hedgedRequestWins.get());
+        }
+    }
+
+    private Optional<HedgingConfiguration> hedgingConfiguration() {
+        return context.requestConfig().hedgingConfiguration();
+    }
+
+    private Optional<TokenBucketRetryCondition> retryCapacityCondition() {
+        RetryCondition retryCapacityCondition = retryPolicy.retryCapacityCondition();
+        if (retryCapacityCondition instanceof TokenBucketRetryCondition) {
+            return Optional.of((TokenBucketRetryCondition) retryCapacityCondition);
+        }
+        return Optional.empty();
+    }
+
+    private String operationName() {
+        return context.executionAttributes().getAttribute(SdkExecutionAttribute.OPERATION_NAME);
+    }
+
+    private LatencyHistogram operationLatency() {
+        if (operationLatency == null) {
+            operationLatency = dependencies.operationLatency(operationName());
+        }
+        return operationLatency;
+    }
+
     private boolean isInitialAttempt() {
         return attemptNumber == 1;
     }
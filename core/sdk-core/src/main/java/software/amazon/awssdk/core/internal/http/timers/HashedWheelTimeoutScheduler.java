@@ -0,0 +1,350 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.internal.http.timers;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.LockSupport;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.annotations.SdkTestInternalApi;
+import software.amazon.awssdk.core.timeout.TimeoutScheduler;
+import software.amazon.awssdk.core.timeout.TimeoutScheduler.ScheduledTimeout;
+import software.amazon.awssdk.utils.Logger;
+import software.amazon.awssdk.utils.ThreadFactoryBuilder;
+import software.amazon.awssdk.utils.Validate;
+
+/**
+ * A hashed timing wheel that {@link TimeoutScheduler}s schedule timeouts on, in the style of Varghese and Lauck's "Hashed and
+ * Hierarchical Timing Wheels".
+ *
+ * <p>Time is divided into ticks. Each timeout is placed in the bucket of the tick it expires in, and a single worker thread
+ * expires one bucket per tick. Scheduling and cancelling are O(1) and lock-free: both push the timeout onto an intrusive
+ * stack that the worker drains on its next tick, so callers never contend on a lock or a heap the way they do with a
+ * {@link java.util.concurrent.ScheduledThreadPoolExecutor}. The timeout object itself is the only allocation per timer.
+ *
+ * <p>Timeouts fire on a tick boundary, so they may run up to one tick late. The worker never runs the tasks itself: it hands each
+ * expired task to the executor of the {@link #dispatchingTo(Executor) scheduler} it was scheduled with, so that a task that
+ * blocks, such as one aborting a request, only delays the client that scheduled it.
+ *
+ * <p>One {@link #shared()} instance is used by all clients that don't configure their own scheduler. Its worker is a daemon
+ * thread that is started on first use and never stopped.
+ */
+@SdkInternalApi
+public final class HashedWheelTimeoutScheduler {
+    private static final Logger log = Logger.loggerFor(HashedWheelTimeoutScheduler.class);
+
+    private static final long DEFAULT_TICK_DURATION_MILLIS = 10;
+    private static final int DEFAULT_TICKS_PER_WHEEL = 512;
+
+    private static final int WORKER_STATE_INIT = 0;
+    private static final int WORKER_STATE_STARTED = 1;
+    private static final int WORKER_STATE_SHUTDOWN = 2;
+
+    private static final AtomicIntegerFieldUpdater<HashedWheelTimeoutScheduler> WORKER_STATE_UPDATER =
+        AtomicIntegerFieldUpdater.newUpdater(HashedWheelTimeoutScheduler.class, "workerState");
+
+    private final long tickDurationNanos;
+    private final Bucket[] wheel;
+    private final int mask;
+    private final long startTime;
+    private final Thread workerThread;
+
+    private final AtomicReference<WheelTimeout> pendingTimeouts = new AtomicReference<>();
+    private final AtomicReference<WheelTimeout> cancelledTimeouts = new AtomicReference<>();
+
+    private volatile int workerState = WORKER_STATE_INIT;
+
+    /**
+     * The current tick. Only accessed by the worker thread.
+     */
+    private long tick;
+
+    @SdkTestInternalApi
+    HashedWheelTimeoutScheduler(long tickDuration, TimeUnit unit, int ticksPerWheel) {
+        Validate.isPositive(tickDuration, "tickDuration");
+        Validate.isPositive(ticksPerWheel, "ticksPerWheel");
+        Validate.isTrue(Integer.bitCount(ticksPerWheel) == 1, "ticksPerWheel must be a power of two: %s", ticksPerWheel);
+
+        this.tickDurationNanos = unit.toNanos(tickDuration);
+        this.wheel = new Bucket[ticksPerWheel];
+        for (int i = 0; i < wheel.length; i++) {
+            wheel[i] = new Bucket();
+        }
+        this.mask = ticksPerWheel - 1;
+        this.startTime = System.nanoTime();
+        this.workerThread = new ThreadFactoryBuilder().threadNamePrefix("sdk-TimeoutScheduler")
+                                                      .build()
+                                                      .newThread(this::runWorker);
+    }
+
+    /**
+     * @return The scheduler shared by all clients that do not configure their own {@link TimeoutScheduler}.
+     */
+    public static HashedWheelTimeoutScheduler shared() {
+        return SharedSchedulerHolder.INSTANCE;
+    }
+
+    /**
+     * Create a {@link TimeoutScheduler} that schedules timeouts on this wheel, and runs them on the provided executor once they
+     * expire.
+     *
+     * @param executor the executor that runs the expired tasks
+     * @return a scheduler backed by this wheel
+     */
+    public TimeoutScheduler dispatchingTo(Executor executor) {
+        Validate.paramNotNull(executor, "executor");
+        return (task, delay, unit) -> schedule(task, delay, unit, executor);
+    }
+
+    private ScheduledTimeout schedule(Runnable task, long delay, TimeUnit unit, Executor executor) {
+        Validate.paramNotNull(task, "task");
+        Validate.paramNotNull(unit, "unit");
+        startWorkerIfNeeded();
+
+        long deadline = System.nanoTime() + unit.toNanos(delay) - startTime;
+        if (delay > 0 && deadline < 0) {
+            // Guard against overflow for very long delays
+            deadline = Long.MAX_VALUE;
+        }
+
+        WheelTimeout timeout = new WheelTimeout(this, task, executor, deadline);
+        WheelTimeout head;
+        do {
+            head = pendingTimeouts.get();
+            timeout.nextPending = head;
+        } while (!pendingTimeouts.compareAndSet(head, timeout));
+        return timeout;
+    }
+
+    /**
+     * Stop the worker thread. Timeouts that have not expired yet will never run. The {@link #shared()} scheduler must not be
+     * shut down.
+     */
+    @SdkTestInternalApi
+    void shutdown() {
+        int previousState = WORKER_STATE_UPDATER.getAndSet(this, WORKER_STATE_SHUTDOWN);
+        if (previousState == WORKER_STATE_STARTED) {
+            LockSupport.unpark(workerThread);
+        }
+    }
+
+    private void startWorkerIfNeeded() {
+        switch (workerState) {
+            case WORKER_STATE_INIT:
+                if (WORKER_STATE_UPDATER.compareAndSet(this, WORKER_STATE_INIT, WORKER_STATE_STARTED)) {
+                    workerThread.start();
+                }
+                break;
+            case WORKER_STATE_STARTED:
+                break;
+            case WORKER_STATE_SHUTDOWN:
+                throw new IllegalStateException("The timeout scheduler has been shut down.");
+            default:
+                throw new IllegalStateException("Unknown worker state: " + workerState);
+        }
+    }
+
+    private void onCancelled(WheelTimeout timeout) {
+        WheelTimeout head;
+        do {
+            head = cancelledTimeouts.get();
+            timeout.nextCancelled = head;
+        } while (!cancelledTimeouts.compareAndSet(head, timeout));
+    }
+
+    private void runWorker() {
+        while (workerState == WORKER_STATE_STARTED) {
+            long deadline = waitForNextTick();
+            if (deadline > 0) {
+                removeCancelledTimeouts();
+                transferPendingTimeoutsToBuckets();
+                wheel[(int) (tick & mask)].expireTimeouts(deadline);
+                tick++;
+            }
+        }
+    }
+
+    /**
+     * Wait until the start of the next tick.
+     *
+     * @return The time elapsed since {@link #startTime}, or -1 if the scheduler was shut down while waiting.
+     */
+    private long waitForNextTick() {
+        long deadline = tickDurationNanos * (tick + 1);
+        while (true) {
+            long currentTime = System.nanoTime() - startTime;
+            long sleepTimeNanos = deadline - currentTime;
+            if (sleepTimeNanos <= 0) {
+                return currentTime;
+            }
+
+            LockSupport.parkNanos(this, sleepTimeNanos);
+            if (workerState == WORKER_STATE_SHUTDOWN) {
+                return -1;
+            }
+        }
+    }
+
+    private void removeCancelledTimeouts() {
+        WheelTimeout timeout = cancelledTimeouts.getAndSet(null);
+        while (timeout != null) {
+            WheelTimeout next = timeout.nextCancelled;
+            timeout.nextCancelled = null;
+            // Timeouts cancelled before they were transferred are not in a bucket, and are skipped by the transfer.
+            if (timeout.bucket != null) {
+                timeout.bucket.remove(timeout);
+            }
+            timeout = next;
+        }
+    }
+
+    private void transferPendingTimeoutsToBuckets() {
+        WheelTimeout timeout = pendingTimeouts.getAndSet(null);
+        while (timeout != null) {
+            WheelTimeout next = timeout.nextPending;
+            timeout.nextPending = null;
+            if (timeout.state == WheelTimeout.STATE_INIT) {
+                long expirationTick = timeout.deadline / tickDurationNanos;
+                timeout.remainingRounds = (expirationTick - tick) / wheel.length;
+
+                // Timeouts that are already due go in the current bucket and expire on this tick.
+                long ticks = Math.max(expirationTick, tick);
+                wheel[(int) (ticks & mask)].add(timeout);
+            }
+            timeout = next;
+        }
+    }
+
+    private static final class SharedSchedulerHolder {
+        private static final HashedWheelTimeoutScheduler INSTANCE =
+            new HashedWheelTimeoutScheduler(DEFAULT_TICK_DURATION_MILLIS, TimeUnit.MILLISECONDS, DEFAULT_TICKS_PER_WHEEL);
+    }
+
+    /**
+     * A doubly-linked list of the timeouts that hash to one slot of the wheel. Only accessed by the worker thread.
+     */
+    private static final class Bucket {
+        private WheelTimeout head;
+        private WheelTimeout tail;
+
+        private void add(WheelTimeout timeout) {
+            timeout.bucket = this;
+            if (head == null) {
+                head = timeout;
+                tail = timeout;
+            } else {
+                tail.next = timeout;
+                timeout.prev = tail;
+                tail = timeout;
+            }
+        }
+
+        private WheelTimeout remove(WheelTimeout timeout) {
+            WheelTimeout next = timeout.next;
+            if (timeout.prev != null) {
+                timeout.prev.next = next;
+            }
+            if (timeout.next != null) {
+                timeout.next.prev = timeout.prev;
+            }
+            if (timeout == head) {
+                head = next;
+            }
+            if (timeout == tail) {
+                tail = timeout.prev;
+            }
+            timeout.prev = null;
+            timeout.next = null;
+            timeout.bucket = null;
+            return next;
+        }
+
+        private void expireTimeouts(long deadline) {
+            WheelTimeout timeout = head;
+            while (timeout != null) {
+                WheelTimeout next = timeout.next;
+                if (timeout.state != WheelTimeout.STATE_INIT) {
+                    next = remove(timeout);
+                } else if (timeout.remainingRounds <= 0 && timeout.deadline <= deadline) {
+                    next = remove(timeout);
+                    timeout.expire();
+                } else if (timeout.remainingRounds > 0) {
+                    timeout.remainingRounds--;
+                }
+                timeout = next;
+            }
+        }
+    }
+
+    private static final class WheelTimeout implements ScheduledTimeout {
+        private static final int STATE_INIT = 0;
+        private static final int STATE_CANCELLED = 1;
+        private static final int STATE_EXPIRED = 2;
+
+        private static final AtomicIntegerFieldUpdater<WheelTimeout> STATE_UPDATER =
+            AtomicIntegerFieldUpdater.newUpdater(WheelTimeout.class, "state");
+
+        private final HashedWheelTimeoutScheduler scheduler;
+        private final Runnable task;
+        private final Executor executor;
+        private final long deadline;
+
+        private volatile int state = STATE_INIT;
+
+        // Written by the scheduling or cancelling thread before the push that publishes it, read by the worker after the
+        // drain that consumes it.
+        private WheelTimeout nextPending;
+        private WheelTimeout nextCancelled;
+
+        // Only accessed by the worker thread.
+        private long remainingRounds;
+        private Bucket bucket;
+        private WheelTimeout prev;
+        private WheelTimeout next;
+
+        private WheelTimeout(HashedWheelTimeoutScheduler scheduler, Runnable task, Executor executor, long deadline) {
+            this.scheduler = scheduler;
+            this.task = task;
+            this.executor = executor;
+            this.deadline = deadline;
+        }
+
+        @Override
+        public boolean cancel() {
+            if (!STATE_UPDATER.compareAndSet(this, STATE_INIT, STATE_CANCELLED)) {
+                return false;
+            }
+            scheduler.onCancelled(this);
+            return true;
+        }
+
+        private void expire() {
+            if (!STATE_UPDATER.compareAndSet(this, STATE_INIT, STATE_EXPIRED)) {
+                return;
+            }
+            try {
+                executor.execute(task);
+            } catch (RejectedExecutionException e) {
+                log.debug(() -> "An expired timeout task was rejected by its executor, which was probably shut down.", e);
+            } catch (Throwable t) {
+                log.warn(() -> "A timeout task threw an exception.", t);
+            }
+        }
+    }
+}
@@ -15,6 +15,8 @@
 
 package software.amazon.awssdk.core.internal.http.timers;
 
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.http.Abortable;
 import software.amazon.awssdk.utils.Validate;
@@ -29,7 +31,7 @@ public final class SyncTimeoutTask implements TimeoutTask {
     private volatile boolean isCancelled;
 
     // Synchronize calls to run(), cancel(), and hasExecuted().
-    private final Object lock = new Object();
+    private final Lock lock = new ReentrantLock();
 
     private Abortable abortable;
 
@@ -52,7 +54,8 @@ public final class SyncTimeoutTask implements TimeoutTask {
      */
     @Override
     public void run() {
-        synchronized (this.lock) {
+        lock.lock();
+        try {
             if (isCancelled) {
                 return;
             }
@@ -62,6 +65,8 @@ public final class SyncTimeoutTask implements TimeoutTask {
             if (abortable != null) {
                 abortable.abort();
             }
+        } finally {
+            lock.unlock();
         }
     }
 
@@ -71,8 +76,11 @@ public final class SyncTimeoutTask implements TimeoutTask {
      */
     @Override
     public void cancel() {
-        synchronized (this.lock) {
+        lock.lock();
+        try {
             isCancelled = true;
+        } finally {
+            lock.unlock();
         }
     }
 
@@ -83,8 +91,11 @@ public final class SyncTimeoutTask implements TimeoutTask {
      */
     @Override
     public boolean hasExecuted() {
-        synchronized (this.lock) {
+        lock.lock();
+        try {
             return hasExecuted;
+        } finally {
+            lock.unlock();
         }
     }
 }
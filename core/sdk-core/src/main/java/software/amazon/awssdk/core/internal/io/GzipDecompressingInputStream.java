@@ -0,0 +1,293 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.internal.io;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.zip.CRC32;
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
+import java.util.zip.ZipException;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.utils.Validate;
+
+/**
+ * An {@link InputStream} that decompresses gzip-encoded content as it is read, without buffering the whole payload.
+ *
+ * <p>Unlike {@link java.util.zip.GZIPInputStream}, the {@link Inflater} and the compressed-data buffer used by this stream are
+ * taken from a small shared pool and handed back when the stream is closed, so that decompressing many small responses does
+ * not allocate a new native inflater for each of them. Concatenated gzip members are decompressed in sequence, and the CRC32
+ * and size recorded in the trailer of each member are validated.
+ */
+@SdkInternalApi
+public final class GzipDecompressingInputStream extends InputStream {
+    private static final int GZIP_MAGIC = 0x8b1f;
+    private static final int DEFLATE = 8;
+
+    private static final int FHCRC = 2;
+    private static final int FEXTRA = 4;
+    private static final int FNAME = 8;
+    private static final int FCOMMENT = 16;
+
+    private static final int BUFFER_SIZE = 8192;
+    private static final int MAX_POOLED_DECODERS = 64;
+    private static final BlockingQueue<Decoder> DECODER_POOL = new ArrayBlockingQueue<>(MAX_POOLED_DECODERS);
+
+    private final InputStream in;
+    private final CRC32 crc = new CRC32();
+    private final byte[] singleByte = new byte[1];
+
+    private Decoder decoder;
+    private int pos;
+    private int limit;
+    private boolean eof;
+
+    /**
+     * Create a stream decompressing the given source. The header of the first gzip member is read eagerly, so that content
+     * which is not gzip-encoded is rejected here rather than on the first read.
+     */
+    public GzipDecompressingInputStream(InputStream in) throws IOException {
+        this.in = Validate.paramNotNull(in, "in");
+        this.decoder = acquireDecoder();
+        try {
+            if (!readHeader()) {
+                throw new EOFException("Unexpected end of gzip stream.");
+            }
+        } catch (IOException | RuntimeException e) {
+            releaseDecoder();
+            throw e;
+        }
+    }
+
+    @Override
+    public int read() throws IOException {
+        return read(singleByte, 0, 1) == -1 ? -1 : singleByte[0] & 0xff;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        ensureOpen();
+        if (off < 0 || len < 0 || len > b.length - off) {
+            throw new IndexOutOfBoundsException();
+        }
+        if (eof) {
+            return -1;
+        }
+        if (len == 0) {
+            return 0;
+        }
+
+        Inflater inflater = decoder.inflater;
+        while (true) {
+            if (inflater.finished()) {
+                pos = limit - inflater.getRemaining();
+                readTrailer();
+                if (!readHeader()) {
+                    eof = true;
+                    return -1;
+                }
+                continue;
+            }
+
+            if (inflater.needsInput()) {
+                if (pos == limit && !fill()) {
+                    throw new EOFException("Unexpected end of gzip stream.");
+                }
+                inflater.setInput(decoder.buffer, pos, limit - pos);
+                pos = limit;
+            }
+
+            int inflated = inflate(inflater, b, off, len);
+            if (inflated > 0) {
+                crc.update(b, off, inflated);
+                return inflated;
+            }
+            if (inflater.needsDictionary()) {
+                throw new ZipException("Gzip stream requires a preset dictionary, which is not supported.");
+            }
+        }
+    }
+
+    @Override
+    public int available() throws IOException {
+        ensureOpen();
+        return eof ? 0 : 1;
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (decoder != null) {
+            releaseDecoder();
+            in.close();
+        }
+    }
+
+    private static int inflate(Inflater inflater, byte[] b, int off, int len) throws ZipException {
+        try {
+            return inflater.inflate(b, off, len);
+        } catch (DataFormatException e) {
+            ZipException zipException = new ZipException("Invalid gzip data: " + e.getMessage());
+            zipException.initCause(e);
+            throw zipException;
+        }
+    }
+
+    /**
+     * Read the header of the next gzip member. Returns false if the source is exhausted, or if it continues with bytes that
+     * do not start a new member, which (like {@link java.util.zip.GZIPInputStream}) are ignored.
+     */
+    private boolean readHeader() throws IOException {
+        crc.reset();
+        int first = readRawByte();
+        if (first == -1) {
+            return false;
+        }
+        int second = readRawByte();
+        if (second == -1 || (second << 8 | first) != GZIP_MAGIC) {
+            if (decoder.membersRead == 0) {
+                throw new ZipException("Not in GZIP format.");
+            }
+            return false;
+        }
+        crc.update(first);
+        crc.update(second);
+        if (readHeaderByte() != DEFLATE) {
+            throw new ZipException("Unsupported gzip compression method.");
+        }
+
+        int flags = readHeaderByte();
+        // MTIME (4), XFL (1) and OS (1).
+        skipHeaderBytes(6);
+        if ((flags & FEXTRA) == FEXTRA) {
+            skipHeaderBytes(readHeaderByte() | readHeaderByte() << 8);
+        }
+        if ((flags & FNAME) == FNAME) {
+            skipZeroTerminatedHeaderField();
+        }
+        if ((flags & FCOMMENT) == FCOMMENT) {
+            skipZeroTerminatedHeaderField();
+        }
+        if ((flags & FHCRC) == FHCRC) {
+            int expectedHeaderCrc = (int) crc.getValue() & 0xffff;
+            if ((readHeaderByte() | readHeaderByte() << 8) != expectedHeaderCrc) {
+                throw new ZipException("Corrupt gzip header.");
+            }
+        }
+
+        crc.reset();
+        decoder.inflater.reset();
+        decoder.membersRead++;
+        return true;
+    }
+
+    private void readTrailer() throws IOException {
+        long expectedCrc = readTrailerInt();
+        long expectedSize = readTrailerInt();
+        if (expectedCrc != crc.getValue()) {
+            throw new ZipException("Corrupt gzip trailer: CRC32 mismatch.");
+        }
+        if (expectedSize != (decoder.inflater.getBytesWritten() & 0xffffffffL)) {
+            throw new ZipException("Corrupt gzip trailer: size mismatch.");
+        }
+    }
+
+    private long readTrailerInt() throws IOException {
+        long value = 0;
+        for (int i = 0; i < 4; i++) {
+            value |= (long) requireRawByte() << (8 * i);
+        }
+        return value;
+    }
+
+    private void skipZeroTerminatedHeaderField() throws IOException {
+        while (readHeaderByte() != 0) {
+            // Field contents are not used.
+        }
+    }
+
+    private void skipHeaderBytes(int count) throws IOException {
+        for (int i = 0; i < count; i++) {
+            readHeaderByte();
+        }
+    }
+
+    private int readHeaderByte() throws IOException {
+        int value = requireRawByte();
+        crc.update(value);
+        return value;
+    }
+
+    private int requireRawByte() throws IOException {
+        int value = readRawByte();
+        if (value == -1) {
+            throw new EOFException("Unexpected end of gzip stream.");
+        }
+        return value;
+    }
+
+    private int readRawByte() throws IOException {
+        if (pos == limit && !fill()) {
+            return -1;
+        }
+        return decoder.buffer[pos++] & 0xff;
+    }
+
+    private boolean fill() throws IOException {
+        int read = in.read(decoder.buffer, 0, decoder.buffer.length);
+        while (read == 0) {
+            read = in.read(decoder.buffer, 0, decoder.buffer.length);
+        }
+        if (read == -1) {
+            return false;
+        }
+        pos = 0;
+        limit = read;
+        return true;
+    }
+
+    private void ensureOpen() throws IOException {
+        if (decoder == null) {
+            throw new IOException("Stream closed");
+        }
+    }
+
+    private static Decoder acquireDecoder() {
+        Decoder pooled = DECODER_POOL.poll();
+        return pooled != null ? pooled : new Decoder();
+    }
+
+    private void releaseDecoder() {
+        Decoder released = decoder;
+        decoder = null;
+        released.inflater.reset();
+        released.membersRead = 0;
+        if (!DECODER_POOL.offer(released)) {
+            released.inflater.end();
+        }
+    }
+
+    /**
+     * The reusable state of a stream: a raw inflater and the buffer compressed data is read into.
+     */
+    private static final class Decoder {
+        private final Inflater inflater = new Inflater(true);
+        private final byte[] buffer = new byte[BUFFER_SIZE];
+        private int membersRead;
+    }
+}
@@ -0,0 +1,126 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.internal.retry;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.utils.Validate;
+
+/**
+ * A lock-free histogram of recent request latencies, used to derive the delay after which a request is hedged.
+ *
+ * <p>Latencies are counted in logarithmic buckets, four per power of two, so a percentile is accurate to within 19% of the
+ * recorded latency. To follow changes in latency, all counts are halved every {@link #DECAY_INTERVAL} samples, so older
+ * samples carry exponentially less weight than recent ones.
+ */
+@SdkInternalApi
+@ThreadSafe
+public final class LatencyHistogram {
+    /**
+     * The number of samples that must be recorded before a percentile is reported.
+     */
+    static final int MINIMUM_SAMPLES = 100;
+
+    /**
+     * The number of samples after which the counts of all buckets are halved.
+     */
+    static final int DECAY_INTERVAL = 1000;
+
+    private static final int SUB_BUCKET_BITS = 2;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int MAX_EXPONENT = 40;
+    private static final long MIN_MICROS = SUB_BUCKETS;
+    private static final long MAX_MICROS = (1L << (MAX_EXPONENT + 1)) - 1;
+
+    private final AtomicLongArray counts = new AtomicLongArray((MAX_EXPONENT - SUB_BUCKET_BITS + 1) * SUB_BUCKETS);
+    private final AtomicLong samples = new AtomicLong();
+
+    /**
+     * Record the latency of a request.
+     */
+    public void record(Duration latency) {
+        counts.incrementAndGet(bucketIndex(toMicros(latency)));
+
+        if (samples.incrementAndGet() % DECAY_INTERVAL == 0) {
+            decay();
+        }
+    }
+
+    /**
+     * Return the latency below which the given percentile of the recent samples fall, or empty if too few samples have been
+     * recorded to estimate it.
+     *
+     * @param percentile The percentile, between 0 and 100 exclusive.
+     */
+    public Optional<Duration> percentile(double percentile) {
+        Validate.isTrue(percentile > 0 && percentile < 100, "percentile must be between 0 and 100, but was %s", percentile);
+
+        if (samples.get() < MINIMUM_SAMPLES) {
+            return Optional.empty();
+        }
+
+        long total = 0;
+        long[] snapshot = new long[counts.length()];
+        for (int i = 0; i < snapshot.length; i++) {
+            snapshot[i] = counts.get(i);
+            total += snapshot[i];
+        }
+
+        double target = total * percentile / 100;
+        long seen = 0;
+        for (int i = 0; i < snapshot.length; i++) {
+            seen += snapshot[i];
+            if (seen >= target && seen > 0) {
+                return Optional.of(Duration.ofNanos(TimeUnit.MICROSECONDS.toNanos(bucketUpperBound(i))));
+            }
+        }
+        return Optional.empty();
+    }
+
+    private void decay() {
+        for (int i = 0; i < counts.length(); i++) {
+            counts.getAndUpdate(i, c -> c >> 1);
+        }
+    }
+
+    private static long toMicros(Duration latency) {
+        long micros = TimeUnit.NANOSECONDS.toMicros(latency.toNanos());
+        return Math.min(Math.max(micros, MIN_MICROS), MAX_MICROS);
+    }
+
+    /**
+     * The bucket of a value is given by the position of its highest bit and the {@link #SUB_BUCKET_BITS} bits below it.
+     */
+    static int bucketIndex(long micros) {
+        int exponent = 63 - Long.numberOfLeadingZeros(micros);
+        int subBucket = (int) (micros >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+        return (exponent - SUB_BUCKET_BITS) * SUB_BUCKETS + subBucket;
+    }
+
+    /**
+     * The smallest value, in microseconds, that is larger than all values in the given bucket.
+     */
+    static long bucketUpperBound(int index) {
+        int exponent = index / SUB_BUCKETS + SUB_BUCKET_BITS;
+        long subBucket = index % SUB_BUCKETS;
+        return (SUB_BUCKETS + subBucket + 1) << (exponent - SUB_BUCKET_BITS);
+    }
+}
@@ -16,10 +16,20 @@
 package software.amazon.awssdk.core.internal.retry;
 
 import java.util.OptionalDouble;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
 import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.annotations.SdkTestInternalApi;
 import software.amazon.awssdk.core.exception.SdkClientException;
 
+/**
+ * The client-side rate limiter used by {@link software.amazon.awssdk.core.retry.RetryMode#ADAPTIVE}.
+ * <p>
+ * The bucket is shared by every request a client makes, so it is lock-free: all of its state is held in an immutable
+ * snapshot, and each operation computes a new snapshot and installs it with a compare-and-set, retrying if
+ * another thread got there first. Until the first throttling error enables the bucket, {@link #acquireNonBlocking} only reads
+ * the current snapshot.
+ */
 @SdkInternalApi
 public class RateLimitingTokenBucket {
     private static final double MIN_FILL_RATE = 0.5;
@@ -31,18 +41,7 @@ public class RateLimitingTokenBucket {
 
     private final Clock clock;
 
-    private Double fillRate;
-    private Double maxCapacity;
-    private double currentCapacity;
-    private Double lastTimestamp;
-    private boolean enabled;
-    private double measuredTxRate;
-    private double lastTxRateBucket;
-    private long requestCount;
-    private double lastMaxRate;
-    private double lastThrottleTime;
-
-    private double timeWindow;
+    private final AtomicReference<State> state = new AtomicReference<>();
 
     public interface Clock {
         double time();
@@ -151,32 +150,31 @@ public class RateLimitingTokenBucket {
      * @return The amount of time in seconds to wait before proceeding.
      */
     public OptionalDouble acquireNonBlocking(double amount, boolean fastFail) {
-        double waitTime = 0.0;
-
-        synchronized (this) {
-            // If rate limiting is not enabled, we technically have an uncapped limit
-            if (!enabled) {
-                return OptionalDouble.of(0.0);
-            }
+        // If rate limiting is not enabled, we technically have an uncapped limit
+        if (!state.get().enabled) {
+            return OptionalDouble.of(0.0);
+        }
 
-            refill();
+        // Refilling first and acquiring separately is equivalent to doing both atomically: a refill only brings the bucket
+        // up to date with the clock, so any operation that runs in between starts from an equally valid state.
+        refill();
 
-            double originalCapacity = currentCapacity;
-            double unfulfilled = tryAcquireCapacity(amount);
+        while (true) {
+            State current = state.get();
+            double unfulfilled = unfulfilledAmount(current, amount);
 
             if (unfulfilled > 0.0 && fastFail) {
-                currentCapacity = originalCapacity;
                 return OptionalDouble.empty();
             }
 
-            // If all the tokens couldn't be acquired immediately, wait enough
-            // time to fill the remainder.
-            if (unfulfilled > 0) {
-                waitTime = unfulfilled / fillRate;
+            State next = current.copy();
+            next.currentCapacity = Math.max(current.currentCapacity - amount, 0.0);
+            if (state.compareAndSet(current, next)) {
+                // If all the tokens couldn't be acquired immediately, wait enough
+                // time to fill the remainder.
+                return OptionalDouble.of(unfulfilled > 0 ? unfulfilled / current.fillRate : 0.0);
             }
         }
-
-        return OptionalDouble.of(waitTime);
     }
 
     /**
@@ -185,28 +183,46 @@ public class RateLimitingTokenBucket {
      * @return The unfulfilled amount.
      */
     double tryAcquireCapacity(double amount) {
-        if (amount <= currentCapacity) {
-            currentCapacity = currentCapacity - amount;
-            amount = 0;
-        } else {
-            amount = amount - currentCapacity;
-            currentCapacity = 0;
-        }
+        double[] unfulfilled = new double[1];
+        updateState(s -> {
+            unfulfilled[0] = unfulfilledAmount(s, amount);
+            s.currentCapacity = Math.max(s.currentCapacity - amount, 0.0);
+        });
+        return unfulfilled[0];
+    }
 
-        return amount;
+    private static double unfulfilledAmount(State s, double amount) {
+        return amount <= s.currentCapacity ? 0.0 : amount - s.currentCapacity;
     }
 
     private void initialize() {
-        fillRate = null;
-        maxCapacity = null;
-        currentCapacity = 0.0;
-        lastTimestamp = null;
-        enabled = false;
-        measuredTxRate = 0.0;
-        lastTxRateBucket = Math.floor(clock.time());
-        requestCount = 0;
-        lastMaxRate = 0.0;
-        lastThrottleTime = clock.time();
+        State initial = new State();
+        initial.fillRate = Double.NaN;
+        initial.maxCapacity = Double.NaN;
+        initial.currentCapacity = 0.0;
+        initial.lastTimestamp = Double.NaN;
+        initial.enabled = false;
+        initial.measuredTxRate = 0.0;
+        initial.lastTxRateBucket = Math.floor(clock.time());
+        initial.requestCount = 0;
+        initial.lastMaxRate = 0.0;
+        initial.lastThrottleTime = clock.time();
+        state.set(initial);
+    }
+
+    /**
+     * Atomically apply a mutation to a copy of the current state and install the copy, retrying if the state was replaced
+     * concurrently. The mutation may be applied more than once, so it must not have side effects other than on the copy.
+     */
+    private void updateState(Consumer<State> mutation) {
+        while (true) {
+            State current = state.get();
+            State next = current.copy();
+            mutation.accept(next);
+            if (state.compareAndSet(current, next)) {
+                return;
+            }
+        }
     }
 
     /**
@@ -222,16 +238,20 @@ public class RateLimitingTokenBucket {
      * </pre>
      */
     // Package private for testing
-    synchronized void refill() {
+    void refill() {
         double timestamp = clock.time();
-        if (lastTimestamp == null) {
-            lastTimestamp = timestamp;
+        updateState(s -> refill(s, timestamp));
+    }
+
+    private static void refill(State s, double timestamp) {
+        if (Double.isNaN(s.lastTimestamp)) {
+            s.lastTimestamp = timestamp;
             return;
         }
 
-        double fillAmount = (timestamp - lastTimestamp) * fillRate;
-        currentCapacity = Math.min(maxCapacity, currentCapacity + fillAmount);
-        lastTimestamp = timestamp;
+        double fillAmount = (timestamp - s.lastTimestamp) * s.fillRate;
+        s.currentCapacity = Math.min(s.maxCapacity, s.currentCapacity + fillAmount);
+        s.lastTimestamp = timestamp;
     }
 
     /**
@@ -246,11 +266,11 @@ public class RateLimitingTokenBucket {
      *   current_capacity = min(current_capacity, max_capacity)
      * </pre>
      */
-    private synchronized void updateRate(double newRps) {
-        refill();
-        fillRate = Math.max(newRps, MIN_FILL_RATE);
-        maxCapacity = Math.max(newRps, MIN_CAPACITY);
-        currentCapacity = Math.min(currentCapacity, maxCapacity);
+    private static void updateRate(State s, double newRps, double timestamp) {
+        refill(s, timestamp);
+        s.fillRate = Math.max(newRps, MIN_FILL_RATE);
+        s.maxCapacity = Math.max(newRps, MIN_CAPACITY);
+        s.currentCapacity = Math.min(s.currentCapacity, s.maxCapacity);
     }
 
     /**
@@ -265,20 +285,19 @@ public class RateLimitingTokenBucket {
      *   last_tx_rate_bucket = time_bucket
      * </pre>
      */
-    private synchronized void updateMeasuredRate() {
-        double t = clock.time();
+    private static void updateMeasuredRate(State s, double t) {
         double timeBucket = Math.floor(t * 2) / 2;
-        requestCount = requestCount + 1;
-        if (timeBucket > lastTxRateBucket) {
-            double currentRate = requestCount / (timeBucket - lastTxRateBucket);
-            measuredTxRate = (currentRate * SMOOTH) + (measuredTxRate * (1 - SMOOTH));
-            requestCount = 0;
-            lastTxRateBucket = timeBucket;
+        s.requestCount = s.requestCount + 1;
+        if (timeBucket > s.lastTxRateBucket) {
+            double currentRate = s.requestCount / (timeBucket - s.lastTxRateBucket);
+            s.measuredTxRate = (currentRate * SMOOTH) + (s.measuredTxRate * (1 - SMOOTH));
+            s.requestCount = 0;
+            s.lastTxRateBucket = timeBucket;
         }
     }
 
-    synchronized void enable() {
-        enabled = true;
+    void enable() {
+        updateState(s -> s.enabled = true);
     }
 
     /**
@@ -306,30 +325,35 @@ public class RateLimitingTokenBucket {
      *   _TokenBucketUpdateRate(new_rate)
      * </pre>
      */
-    public synchronized void updateClientSendingRate(boolean throttlingResponse) {
-        updateMeasuredRate();
+    public void updateClientSendingRate(boolean throttlingResponse) {
+        double timestamp = clock.time();
+        updateState(s -> updateClientSendingRate(s, throttlingResponse, timestamp));
+    }
+
+    private void updateClientSendingRate(State s, boolean throttlingResponse, double timestamp) {
+        updateMeasuredRate(s, timestamp);
 
         double calculatedRate;
         if (throttlingResponse) {
             double rateToUse;
-            if (!enabled) {
-                rateToUse = measuredTxRate;
+            if (!s.enabled) {
+                rateToUse = s.measuredTxRate;
             } else {
-                rateToUse = Math.min(measuredTxRate, fillRate);
+                rateToUse = Math.min(s.measuredTxRate, s.fillRate);
             }
 
-            lastMaxRate = rateToUse;
-            calculateTimeWindow();
-            lastThrottleTime = clock.time();
+            s.lastMaxRate = rateToUse;
+            calculateTimeWindow(s);
+            s.lastThrottleTime = timestamp;
             calculatedRate = cubicThrottle(rateToUse);
-            enable();
+            s.enabled = true;
         } else {
-            calculateTimeWindow();
-            calculatedRate = cubicSuccess(clock.time());
+            calculateTimeWindow(s);
+            calculatedRate = cubicSuccess(s, timestamp);
         }
 
-        double newRate = Math.min(calculatedRate, 2 * measuredTxRate);
-        updateRate(newRate);
+        double newRate = Math.min(calculatedRate, 2 * s.measuredTxRate);
+        updateRate(s, newRate, timestamp);
     }
 
     /**
@@ -341,8 +365,12 @@ public class RateLimitingTokenBucket {
      * </pre>
      */
     // Package private for testing
-    synchronized void calculateTimeWindow() {
-        timeWindow = Math.pow((lastMaxRate * (1 - BETA)) / SCALE_CONSTANT, 1.0 / 3);
+    void calculateTimeWindow() {
+        updateState(RateLimitingTokenBucket::calculateTimeWindow);
+    }
+
+    private static void calculateTimeWindow(State s) {
+        s.timeWindow = Math.pow((s.lastMaxRate * (1 - BETA)) / SCALE_CONSTANT, 1.0 / 3);
     }
 
     /**
@@ -381,9 +409,13 @@ public class RateLimitingTokenBucket {
      * </pre>
      */
     // Package private for testing
-    synchronized double cubicSuccess(double timestamp) {
-        double dt = timestamp - lastThrottleTime;
-        double calculatedRate = SCALE_CONSTANT * Math.pow(dt - timeWindow, 3) + lastMaxRate;
+    double cubicSuccess(double timestamp) {
+        return cubicSuccess(state.get(), timestamp);
+    }
+
+    private static double cubicSuccess(State s, double timestamp) {
+        double dt = timestamp - s.lastThrottleTime;
+        double calculatedRate = SCALE_CONSTANT * Math.pow(dt - s.timeWindow, 3) + s.lastMaxRate;
         return calculatedRate;
     }
 
@@ -396,37 +428,73 @@ public class RateLimitingTokenBucket {
     }
 
     @SdkTestInternalApi
-    synchronized void setLastMaxRate(double lastMaxRate) {
-        this.lastMaxRate = lastMaxRate;
+    void setLastMaxRate(double lastMaxRate) {
+        updateState(s -> s.lastMaxRate = lastMaxRate);
     }
 
     @SdkTestInternalApi
-    synchronized void setLastThrottleTime(double lastThrottleTime) {
-        this.lastThrottleTime = lastThrottleTime;
+    void setLastThrottleTime(double lastThrottleTime) {
+        updateState(s -> s.lastThrottleTime = lastThrottleTime);
     }
 
     @SdkTestInternalApi
-    synchronized double getMeasuredTxRate() {
-        return measuredTxRate;
+    double getMeasuredTxRate() {
+        return state.get().measuredTxRate;
     }
 
     @SdkTestInternalApi
-    synchronized double getFillRate() {
-        return fillRate;
+    double getFillRate() {
+        return state.get().fillRate;
     }
 
     @SdkTestInternalApi
-    synchronized void setCurrentCapacity(double currentCapacity) {
-        this.currentCapacity = currentCapacity;
+    void setCurrentCapacity(double currentCapacity) {
+        updateState(s -> s.currentCapacity = currentCapacity);
     }
 
     @SdkTestInternalApi
-    synchronized double getCurrentCapacity() {
-        return currentCapacity;
+    double getCurrentCapacity() {
+        return state.get().currentCapacity;
     }
 
     @SdkTestInternalApi
-    synchronized void setFillRate(double fillRate) {
-        this.fillRate = fillRate;
+    void setFillRate(double fillRate) {
+        updateState(s -> s.fillRate = fillRate);
+    }
+
+    /**
+     * A snapshot of the bucket's state. A snapshot is only modified by the thread that copied it, before it is published by
+     * the compare-and-set in {@link #updateState}; published snapshots are never modified.
+     * <p>
+     * {@code NaN} stands for an unset {@code fillRate}, {@code maxCapacity} or {@code lastTimestamp}.
+     */
+    private static final class State {
+        private double fillRate;
+        private double maxCapacity;
+        private double currentCapacity;
+        private double lastTimestamp;
+        private boolean enabled;
+        private double measuredTxRate;
+        private double lastTxRateBucket;
+        private long requestCount;
+        private double lastMaxRate;
+        private double lastThrottleTime;
+        private double timeWindow;
+
+        private State copy() {
+            State copy = new State();
+            copy.fillRate = fillRate;
+            copy.maxCapacity = maxCapacity;
+            copy.currentCapacity = currentCapacity;
+            copy.lastTimestamp = lastTimestamp;
+            copy.enabled = enabled;
+            copy.measuredTxRate = measuredTxRate;
+            copy.lastTxRateBucket = lastTxRateBucket;
+            copy.requestCount = requestCount;
+            copy.lastMaxRate = lastMaxRate;
+            copy.lastThrottleTime = lastThrottleTime;
+            copy.timeWindow = timeWindow;
+            return copy;
+        }
     }
 }
@@ -62,6 +62,12 @@ public final class SdkDefaultRetrySetting {
 
     public static final int TOKEN_BUCKET_SIZE = 500;
 
+    /**
+     * The retry capacity a hedged request costs. Successful requests replenish one unit each, so in steady state the client
+     * sends at most one hedged request for every five successful requests.
+     */
+    public static final int HEDGED_REQUEST_TOKEN_COST = 5;
+
     public static final Duration MAX_BACKOFF = Duration.ofSeconds(20);
 
     public static final Set<Integer> RETRYABLE_STATUS_CODES;
@@ -50,6 +50,35 @@ public final class CoreMetric {
     public static final SdkMetric<Integer> RETRY_COUNT =
         metric("RetryCount", Integer.class, MetricLevel.ERROR);
 
+    /**
+     * The number of hedged requests that the SDK sent in the execution of the request. A hedged request is sent alongside an
+     * attempt that has not received a response within the hedging delay of the operation. This is only reported for requests
+     * that may be hedged.
+     */
+    public static final SdkMetric<Integer> HEDGED_REQUEST_COUNT =
+        metric("HedgedRequestCount", Integer.class, MetricLevel.INFO);
+
+    /**
+     * The number of hedged requests that received a response before the attempt they were sent alongside. This is only reported
+     * for requests that may be hedged.
+     */
+    public static final SdkMetric<Integer> HEDGED_REQUEST_WIN_COUNT =
+        metric("HedgedRequestWinCount", Integer.class, MetricLevel.INFO);
+
+    /**
+     * The number of concurrent identical requests that shared the HTTP call and response of this request, instead of making
+     * their own. This is only reported for requests that may be coalesced, when the request made the call.
+     */
+    public static final SdkMetric<Integer> COALESCED_REQUEST_COUNT =
+        metric("CoalescedRequestCount", Integer.class, MetricLevel.INFO);
+
+    /**
+     * True if the request did not make its own HTTP call, but shared the call and response of a concurrent identical request.
+     * This is only reported for requests that may be coalesced.
+     */
+    public static final SdkMetric<Boolean> REQUEST_COALESCED =
+        metric("RequestCoalesced", Boolean.class, MetricLevel.INFO);
+
     /**
      * The duration of the API call. This includes all call attempts made.
      *
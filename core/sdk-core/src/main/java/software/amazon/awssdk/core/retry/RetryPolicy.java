@@ -151,6 +151,13 @@ public final class RetryPolicy implements ToCopyableBuilder<RetryPolicy.Builder,
         return retryCondition;
     }
 
+    /**
+     * Retrieve the {@link Builder#retryCapacityCondition(RetryCondition)} configured on the builder.
+     */
+    public RetryCondition retryCapacityCondition() {
+        return retryCapacityCondition;
+    }
+
     /**
      * Retrieve the {@link Builder#backoffStrategy(BackoffStrategy)} configured on the builder.
      */
@@ -114,6 +114,18 @@ public class TokenBucketRetryCondition implements RetryCondition {
         return capacity.currentCapacity();
     }
 
+    /**
+     * Try to acquire capacity for sending a request that is not a retry of a failed attempt, such as a hedged request. Capacity
+     * acquired this way is not released when the request completes, so it is only replenished by successful requests.
+     *
+     * @param amountToAcquire The amount of capacity to acquire.
+     * @return True if the capacity was acquired.
+     */
+    public boolean tryAcquireCapacity(int amountToAcquire) {
+        Validate.isTrue(amountToAcquire >= 0, "Amount to acquire must not be negative, but was " + amountToAcquire);
+        return capacity.tryAcquire(amountToAcquire).isPresent();
+    }
+
     @Override
     public boolean shouldRetry(RetryPolicyContext context) {
         int costOfFailure = exceptionCostFunction.apply(context.exception());
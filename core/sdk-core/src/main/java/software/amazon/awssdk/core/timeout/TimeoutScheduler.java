@@ -0,0 +1,58 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.timeout;
+
+import java.util.concurrent.TimeUnit;
+import software.amazon.awssdk.annotations.SdkProtectedApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+
+/**
+ * Schedules the tasks that enforce API call and API call attempt timeouts.
+ *
+ * <p>A task is scheduled for every API call and every attempt that has a timeout configured, and is almost always cancelled
+ * before it runs, so implementations should make both {@link #schedule} and {@link ScheduledTimeout#cancel()} cheap.
+ * Scheduled tasks should be short: they only fail a future, interrupt a thread or abort a request.
+ *
+ * @see software.amazon.awssdk.core.client.config.SdkClientOption#TIMEOUT_SCHEDULER
+ */
+@SdkProtectedApi
+@ThreadSafe
+public interface TimeoutScheduler {
+
+    /**
+     * Schedule the provided task to run once after the given delay.
+     *
+     * @param task the task to run when the timeout expires
+     * @param delay the delay after which the task should run
+     * @param unit the unit of the delay
+     * @return a handle that can be used to cancel the task
+     */
+    ScheduledTimeout schedule(Runnable task, long delay, TimeUnit unit);
+
+    /**
+     * A handle to a task scheduled by a {@link TimeoutScheduler}.
+     */
+    @FunctionalInterface
+    interface ScheduledTimeout {
+
+        /**
+         * Best-effort attempt to prevent the task from running if it has not started yet.
+         *
+         * @return true if the task was cancelled before it started running
+         */
+        boolean cancel();
+    }
+}
@@ -0,0 +1,241 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.util;
+
+import java.io.Serializable;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import software.amazon.awssdk.annotations.SdkProtectedApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.utils.Validate;
+
+/**
+ * An unmodifiable list whose elements are only computed when the list is first accessed.
+ * <p>
+ * This is used by unmarshallers to defer unmarshalling large list members of a response until (and unless) they are read.
+ * Once computed, the elements are retained and every method delegates to them, so this list is indistinguishable from the
+ * list it defers, including for {@link #equals(Object)} and {@link #hashCode()}. The supplier must return an unmodifiable
+ * list. This class should not be used directly by the user.
+ *
+ * @param <T> The element type.
+ */
+@SdkProtectedApi
+@ThreadSafe
+public final class LazySdkList<T> implements List<T>, Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private transient Supplier<? extends List<T>> supplier;
+
+    private transient volatile List<T> impl;
+
+    // Guards the supplier, which parses the response and may take a while for large collections.
+    private final transient Lock lock = new ReentrantLock();
+
+    private LazySdkList(Supplier<? extends List<T>> supplier) {
+        this.supplier = Validate.paramNotNull(supplier, "supplier");
+    }
+
+    /**
+     * Creates a list whose elements are computed by the given supplier when the list is first accessed.
+     *
+     * @param supplier Supplier of the elements. Called at most once, and must return an unmodifiable list.
+     */
+    public static <T> LazySdkList<T> create(Supplier<? extends List<T>> supplier) {
+        return new LazySdkList<>(supplier);
+    }
+
+    /**
+     * Defers copying a {@link LazySdkList} until it is first accessed. This is used by the copiers of generated models, so
+     * that setting a lazy list on a builder does not compute its elements.
+     *
+     * @param list A {@link LazySdkList}.
+     * @param copier Copier to apply to the elements of the list once they are computed.
+     * @return A new lazy list, whose elements are the result of copying the elements of the given list.
+     */
+    @SuppressWarnings("unchecked")
+    public static <C extends Collection<?>, T> List<T> copyLazily(C list, Function<? super C, ? extends List<T>> copier) {
+        LazySdkList<?> lazyList = Validate.isInstanceOf(LazySdkList.class, list, "Not a lazy list: %s", list.getClass());
+        return new LazySdkList<>(() -> copier.apply((C) lazyList.impl()));
+    }
+
+    private List<T> impl() {
+        List<T> result = impl;
+        if (result == null) {
+            lock.lock();
+            try {
+                result = impl;
+                if (result == null) {
+                    result = Validate.notNull(supplier.get(), "Lazy list supplier returned null.");
+                    impl = result;
+                    supplier = null;
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public int size() {
+        return impl().size();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return impl().isEmpty();
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        return impl().contains(o);
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        return impl().iterator();
+    }
+
+    @Override
+    public void forEach(Consumer<? super T> action) {
+        impl().forEach(action);
+    }
+
+    @Override
+    public Object[] toArray() {
+        return impl().toArray();
+    }
+
+    @Override
+    public <T1> T1[] toArray(T1[] a) {
+        return impl().toArray(a);
+    }
+
+    @Override
+    public boolean add(T t) {
+        return impl().add(t);
+    }
+
+    @Override
+    public boolean remove(Object o) {
+        return impl().remove(o);
+    }
+
+    @Override
+    public boolean containsAll(Collection<?> c) {
+        return impl().containsAll(c);
+    }
+
+    @Override
+    public boolean addAll(Collection<? extends T> c) {
+        return impl().addAll(c);
+    }
+
+    @Override
+    public boolean addAll(int index, Collection<? extends T> c) {
+        return impl().addAll(index, c);
+    }
+
+    @Override
+    public boolean removeAll(Collection<?> c) {
+        return impl().removeAll(c);
+    }
+
+    @Override
+    public boolean retainAll(Collection<?> c) {
+        return impl().retainAll(c);
+    }
+
+    @Override
+    public void clear() {
+        impl().clear();
+    }
+
+    @Override
+    public T get(int index) {
+        return impl().get(index);
+    }
+
+    @Override
+    public T set(int index, T element) {
+        return impl().set(index, element);
+    }
+
+    @Override
+    public void add(int index, T element) {
+        impl().add(index, element);
+    }
+
+    @Override
+    public T remove(int index) {
+        return impl().remove(index);
+    }
+
+    @Override
+    public int indexOf(Object o) {
+        return impl().indexOf(o);
+    }
+
+    @Override
+    public int lastIndexOf(Object o) {
+        return impl().lastIndexOf(o);
+    }
+
+    @Override
+    public ListIterator<T> listIterator() {
+        return impl().listIterator();
+    }
+
+    @Override
+    public ListIterator<T> listIterator(int index) {
+        return impl().listIterator(index);
+    }
+
+    @Override
+    public List<T> subList(int fromIndex, int toIndex) {
+        return impl().subList(fromIndex, toIndex);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return impl().equals(o);
+    }
+
+    @Override
+    public int hashCode() {
+        return impl().hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return impl().toString();
+    }
+
+    /**
+     * Serializes the computed elements instead of this list, which can't serialize its supplier.
+     */
+    private Object writeReplace() {
+        return impl();
+    }
+}
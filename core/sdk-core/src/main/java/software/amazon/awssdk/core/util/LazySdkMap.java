@@ -0,0 +1,189 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.util;
+
+import java.io.Serializable;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import software.amazon.awssdk.annotations.SdkProtectedApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.utils.Validate;
+
+/**
+ * An unmodifiable map whose entries are only computed when the map is first accessed.
+ * <p>
+ * This is the map equivalent of {@link LazySdkList}. Once computed, the entries are retained and every method delegates to
+ * them. The supplier must return an unmodifiable map. This class should not be used directly by the user.
+ *
+ * @param <K> The key type.
+ * @param <V> The value type.
+ */
+@SdkProtectedApi
+@ThreadSafe
+public final class LazySdkMap<K, V> implements Map<K, V>, Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private transient Supplier<? extends Map<K, V>> supplier;
+
+    private transient volatile Map<K, V> impl;
+
+    // Guards the supplier, which parses the response and may take a while for large collections.
+    private final transient Lock lock = new ReentrantLock();
+
+    private LazySdkMap(Supplier<? extends Map<K, V>> supplier) {
+        this.supplier = Validate.paramNotNull(supplier, "supplier");
+    }
+
+    /**
+     * Creates a map whose entries are computed by the given supplier when the map is first accessed.
+     *
+     * @param supplier Supplier of the entries. Called at most once, and must return an unmodifiable map.
+     */
+    public static <K, V> LazySdkMap<K, V> create(Supplier<? extends Map<K, V>> supplier) {
+        return new LazySdkMap<>(supplier);
+    }
+
+    /**
+     * Defers copying a {@link LazySdkMap} until it is first accessed. This is used by the copiers of generated models, so
+     * that setting a lazy map on a builder does not compute its entries.
+     *
+     * @param map A {@link LazySdkMap}.
+     * @param copier Copier to apply to the entries of the map once they are computed.
+     * @return A new lazy map, whose entries are the result of copying the entries of the given map.
+     */
+    @SuppressWarnings("unchecked")
+    public static <M extends Map<?, ?>, K, V> Map<K, V> copyLazily(M map, Function<? super M, ? extends Map<K, V>> copier) {
+        LazySdkMap<?, ?> lazyMap = Validate.isInstanceOf(LazySdkMap.class, map, "Not a lazy map: %s", map.getClass());
+        return new LazySdkMap<>(() -> copier.apply((M) lazyMap.impl()));
+    }
+
+    private Map<K, V> impl() {
+        Map<K, V> result = impl;
+        if (result == null) {
+            lock.lock();
+            try {
+                result = impl;
+                if (result == null) {
+                    result = Validate.notNull(supplier.get(), "Lazy map supplier returned null.");
+                    impl = result;
+                    supplier = null;
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public int size() {
+        return impl().size();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return impl().isEmpty();
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return impl().containsKey(key);
+    }
+
+    @Override
+    public boolean containsValue(Object value) {
+        return impl().containsValue(value);
+    }
+
+    @Override
+    public V get(Object key) {
+        return impl().get(key);
+    }
+
+    @Override
+    public V getOrDefault(Object key, V defaultValue) {
+        return impl().getOrDefault(key, defaultValue);
+    }
+
+    @Override
+    public V put(K key, V value) {
+        return impl().put(key, value);
+    }
+
+    @Override
+    public V remove(Object key) {
+        return impl().remove(key);
+    }
+
+    @Override
+    public void putAll(Map<? extends K, ? extends V> m) {
+        impl().putAll(m);
+    }
+
+    @Override
+    public void clear() {
+        impl().clear();
+    }
+
+    @Override
+    public Set<K> keySet() {
+        return impl().keySet();
+    }
+
+    @Override
+    public Collection<V> values() {
+        return impl().values();
+    }
+
+    @Override
+    public Set<Entry<K, V>> entrySet() {
+        return impl().entrySet();
+    }
+
+    @Override
+    public void forEach(BiConsumer<? super K, ? super V> action) {
+        impl().forEach(action);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return impl().equals(o);
+    }
+
+    @Override
+    public int hashCode() {
+        return impl().hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return impl().toString();
+    }
+
+    /**
+     * Serializes the computed entries instead of this map, which can't serialize its supplier.
+     */
+    private Object writeReplace() {
+        return impl();
+    }
+}
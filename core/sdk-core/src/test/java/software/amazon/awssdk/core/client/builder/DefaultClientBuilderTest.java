@@ -33,6 +33,10 @@ import java.net.URI;
 import java.time.Duration;
 import java.util.Arrays;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 import org.assertj.core.api.Assertions;
 import org.junit.Before;
 import org.junit.Test;
@@ -43,7 +47,9 @@ import software.amazon.awssdk.core.client.config.ClientOverrideConfiguration;
 import software.amazon.awssdk.core.client.config.SdkAdvancedClientOption;
 import software.amazon.awssdk.core.client.config.SdkClientOption;
 import software.amazon.awssdk.core.client.config.SdkClientConfiguration;
+import software.amazon.awssdk.core.internal.http.timers.ExecutorTimeoutScheduler;
 import software.amazon.awssdk.core.signer.NoOpSigner;
+import software.amazon.awssdk.core.timeout.TimeoutScheduler;
 import software.amazon.awssdk.http.SdkHttpClient;
 import software.amazon.awssdk.http.SdkHttpConfigurationOption;
 import software.amazon.awssdk.http.async.SdkAsyncHttpClient;
@@ -160,6 +166,48 @@ public class DefaultClientBuilderTest {
         verify(defaultAsyncHttpClientFactory, never()).buildWithDefaults(any());
     }
 
+    @Test
+    public void noScheduledExecutorProvided_expiredTimeoutsRunOnClientExecutor() throws Exception {
+        TestClient client = testClientBuilder().build();
+        try {
+            TimeoutScheduler timeoutScheduler = client.clientConfiguration.option(SdkClientOption.TIMEOUT_SCHEDULER);
+            assertThat(timeoutScheduler).isNotInstanceOf(ExecutorTimeoutScheduler.class);
+
+            CompletableFuture<String> threadName = new CompletableFuture<>();
+            timeoutScheduler.schedule(() -> threadName.complete(Thread.currentThread().getName()), 1, TimeUnit.MILLISECONDS);
+            assertThat(threadName.get(5, TimeUnit.SECONDS)).startsWith("sdk-ScheduledExecutor");
+        } finally {
+            client.clientConfiguration.close();
+        }
+    }
+
+    @Test
+    public void scheduledExecutorProvided_timeoutsAreScheduledOnItAndItIsNotShutDown() throws Exception {
+        ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor();
+        try {
+            ClientOverrideConfiguration overrideConfig =
+                ClientOverrideConfiguration.builder()
+                                           .putAdvancedOption(SIGNER, TEST_SIGNER)
+                                           .scheduledExecutorService(executor)
+                                           .build();
+            TestClient client = new TestClientBuilder().overrideConfiguration(overrideConfig).build();
+
+            TimeoutScheduler timeoutScheduler = client.clientConfiguration.option(SdkClientOption.TIMEOUT_SCHEDULER);
+            assertThat(timeoutScheduler).isInstanceOf(ExecutorTimeoutScheduler.class);
+
+            CompletableFuture<Thread> thread = new CompletableFuture<>();
+            executor.submit(() -> thread.complete(Thread.currentThread())).get(5, TimeUnit.SECONDS);
+            CompletableFuture<Thread> timeoutThread = new CompletableFuture<>();
+            timeoutScheduler.schedule(() -> timeoutThread.complete(Thread.currentThread()), 1, TimeUnit.MILLISECONDS);
+            assertThat(timeoutThread.get(5, TimeUnit.SECONDS)).isSameAs(thread.join());
+
+            client.clientConfiguration.close();
+            assertThat(executor.isShutdown()).isFalse();
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
     @Test
     public void clientBuilderFieldsHaveBeanEquivalents() throws Exception {
         SdkClientBuilder<TestClientBuilder, TestClient> builder = testClientBuilder();
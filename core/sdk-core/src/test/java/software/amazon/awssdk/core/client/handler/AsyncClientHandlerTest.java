@@ -37,6 +37,7 @@ import org.mockito.runners.MockitoJUnitRunner;
 import software.amazon.awssdk.core.SdkRequest;
 import software.amazon.awssdk.core.SdkResponse;
 import software.amazon.awssdk.core.async.EmptyPublisher;
+import software.amazon.awssdk.core.client.config.SdkAdvancedClientOption;
 import software.amazon.awssdk.core.client.config.SdkClientConfiguration;
 import software.amazon.awssdk.core.client.config.SdkClientOption;
 import software.amazon.awssdk.core.exception.SdkServiceException;
@@ -129,6 +130,32 @@ public class AsyncClientHandlerTest {
         verifyNoMoreInteractions(responseHandler); // Response handler is not called
     }
 
+    @Test
+    public void acceptCompressedResponsesEnabled_requestsGzipEncoding() throws Exception {
+        SdkAsyncClientHandler handler = new SdkAsyncClientHandler(
+            clientConfiguration().toBuilder().option(SdkAdvancedClientOption.ACCEPT_COMPRESSED_RESPONSES, true).build());
+        ArgumentCaptor<AsyncExecuteRequest> executeRequest = ArgumentCaptor.forClass(AsyncExecuteRequest.class);
+
+        expectRetrievalFromMocks();
+        when(httpClient.execute(executeRequest.capture())).thenReturn(httpClientFuture);
+
+        handler.execute(clientExecutionParams());
+
+        assertThat(executeRequest.getValue().request().firstMatchingHeader("Accept-Encoding")).hasValue("gzip");
+    }
+
+    @Test
+    public void acceptCompressedResponsesNotEnabled_doesNotRequestEncoding() throws Exception {
+        ArgumentCaptor<AsyncExecuteRequest> executeRequest = ArgumentCaptor.forClass(AsyncExecuteRequest.class);
+
+        expectRetrievalFromMocks();
+        when(httpClient.execute(executeRequest.capture())).thenReturn(httpClientFuture);
+
+        asyncClientHandler.execute(clientExecutionParams());
+
+        assertThat(executeRequest.getValue().request().firstMatchingHeader("Accept-Encoding")).isEmpty();
+    }
+
     private void expectRetrievalFromMocks() {
         when(marshaller.marshall(request)).thenReturn(marshalledRequest);
     }
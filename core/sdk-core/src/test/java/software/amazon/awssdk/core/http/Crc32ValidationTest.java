@@ -22,11 +22,11 @@ import java.io.InputStream;
 import java.io.UncheckedIOException;
 import java.io.UnsupportedEncodingException;
 import java.lang.reflect.Field;
-import java.util.zip.GZIPInputStream;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.runners.MockitoJUnitRunner;
 import org.unitils.util.ReflectionUtils;
+import software.amazon.awssdk.core.internal.io.GzipDecompressingInputStream;
 import software.amazon.awssdk.core.internal.util.Crc32ChecksumValidatingInputStream;
 import software.amazon.awssdk.http.AbortableInputStream;
 import software.amazon.awssdk.http.SdkHttpFullResponse;
@@ -74,7 +74,7 @@ public class Crc32ValidationTest {
                                                                   .build();
             SdkHttpFullResponse adapted = adapt(httpResponse);
             InputStream in = getField(adapted.content().get(), "in");
-            assertThat(in).isInstanceOf((GZIPInputStream.class));
+            assertThat(in).isInstanceOf((GzipDecompressingInputStream.class));
         }
     }
 
@@ -90,7 +90,7 @@ public class Crc32ValidationTest {
 
             SdkHttpFullResponse adapted = Crc32Validation.validate(true, httpResponse);
             InputStream in = getField(adapted.content().get(), "in");
-            assertThat(in).isInstanceOf((GZIPInputStream.class));
+            assertThat(in).isInstanceOf((GzipDecompressingInputStream.class));
         }
     }
 
@@ -105,7 +105,7 @@ public class Crc32ValidationTest {
 
         SdkHttpFullResponse adapted = adapt(httpResponse);
         InputStream in = getField(adapted.content().get(), "in");
-        assertThat(in).isInstanceOf((GZIPInputStream.class));
+        assertThat(in).isInstanceOf((GzipDecompressingInputStream.class));
     }
 
     @Test
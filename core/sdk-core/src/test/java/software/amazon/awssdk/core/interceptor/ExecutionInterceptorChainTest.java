@@ -0,0 +1,130 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.interceptor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import org.junit.Test;
+import software.amazon.awssdk.core.SdkRequest;
+import software.amazon.awssdk.core.http.NoopTestRequest;
+import software.amazon.awssdk.core.sync.RequestBody;
+import utils.ValidSdkObjects;
+
+public class ExecutionInterceptorChainTest {
+    private final ExecutionAttributes executionAttributes = new ExecutionAttributes();
+    private final List<String> invocations = new ArrayList<>();
+
+    @Test
+    public void hooks_invokedInDocumentedOrder() {
+        ExecutionInterceptorChain chain = new ExecutionInterceptorChain(Arrays.asList(new RecordingInterceptor("first"),
+                                                                                      new RecordingInterceptor("second")));
+        InterceptorContext context = context();
+
+        chain.beforeExecution(context, executionAttributes);
+        chain.afterExecution(context, executionAttributes);
+
+        assertThat(invocations).containsExactly("first.beforeExecution", "second.beforeExecution",
+                                                "second.afterExecution", "first.afterExecution");
+    }
+
+    @Test
+    public void hooks_onlyInvokedOnInterceptorsThatOverrideThem() {
+        ExecutionInterceptorChain chain = new ExecutionInterceptorChain(Arrays.asList(new RecordingInterceptor("recording"),
+                                                                                      new ExecutionInterceptor() { },
+                                                                                      new SubclassInterceptor("subclass")));
+        InterceptorContext context = context();
+
+        chain.beforeExecution(context, executionAttributes);
+        chain.beforeMarshalling(context, executionAttributes);
+        chain.afterExecution(context, executionAttributes);
+
+        assertThat(invocations).containsExactly("recording.beforeExecution", "subclass.beforeExecution",
+                                                "subclass.afterExecution", "recording.afterExecution");
+    }
+
+    @Test
+    public void modifyRequest_unmodified_contextNotCopied() {
+        ExecutionInterceptorChain chain = new ExecutionInterceptorChain(Arrays.asList(new ExecutionInterceptor() {
+            @Override
+            public SdkRequest modifyRequest(Context.ModifyRequest context, ExecutionAttributes executionAttributes) {
+                return context.request();
+            }
+        }));
+        InterceptorContext context = context();
+
+        assertThat(chain.modifyRequest(context, executionAttributes)).isSameAs(context);
+    }
+
+    @Test
+    public void modifyRequest_modified_contextUpdated() {
+        SdkRequest modifiedRequest = NoopTestRequest.builder().build();
+        ExecutionInterceptorChain chain = new ExecutionInterceptorChain(Arrays.asList(new ExecutionInterceptor() {
+            @Override
+            public SdkRequest modifyRequest(Context.ModifyRequest context, ExecutionAttributes executionAttributes) {
+                return modifiedRequest;
+            }
+        }));
+
+        assertThat(chain.modifyRequest(context(), executionAttributes).request()).isSameAs(modifiedRequest);
+    }
+
+    @Test
+    public void modifyHttpContent_onlyOverridden_contentUpdated() {
+        RequestBody requestBody = RequestBody.fromString("content");
+        ExecutionInterceptorChain chain = new ExecutionInterceptorChain(Arrays.asList(new ExecutionInterceptor() {
+            @Override
+            public Optional<RequestBody> modifyHttpContent(Context.ModifyHttpRequest context,
+                                                           ExecutionAttributes executionAttributes) {
+                return Optional.of(requestBody);
+            }
+        }));
+        InterceptorContext context = context().copy(b -> b.httpRequest(ValidSdkObjects.sdkHttpFullRequest().build()));
+
+        assertThat(chain.modifyHttpRequestAndHttpContent(context, executionAttributes).requestBody()).contains(requestBody);
+    }
+
+    private static InterceptorContext context() {
+        return InterceptorContext.builder().request(NoopTestRequest.builder().build()).build();
+    }
+
+    private class RecordingInterceptor implements ExecutionInterceptor {
+        private final String name;
+
+        private RecordingInterceptor(String name) {
+            this.name = name;
+        }
+
+        @Override
+        public void beforeExecution(Context.BeforeExecution context, ExecutionAttributes executionAttributes) {
+            invocations.add(name + ".beforeExecution");
+        }
+
+        @Override
+        public void afterExecution(Context.AfterExecution context, ExecutionAttributes executionAttributes) {
+            invocations.add(name + ".afterExecution");
+        }
+    }
+
+    private class SubclassInterceptor extends RecordingInterceptor {
+        private SubclassInterceptor(String name) {
+            super(name);
+        }
+    }
+}
@@ -20,10 +20,15 @@ import static org.assertj.core.api.Assertions.assertThat;
 import com.google.common.jimfs.Jimfs;
 import java.io.IOException;
 import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.FileSystem;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
@@ -34,6 +39,7 @@ import org.junit.Test;
 import org.reactivestreams.Subscriber;
 import org.reactivestreams.Subscription;
 import software.amazon.awssdk.core.async.SdkPublisher;
+import software.amazon.awssdk.http.async.ReleasableByteBufferSubscriber;
 
 /**
  * Tests for {@link FileAsyncResponseTransformer}.
@@ -97,6 +103,47 @@ public class FileAsyncResponseTransformerTest {
         assertThat(future.isCompletedExceptionally()).isFalse();
     }
 
+    @Test
+    public void releasableBuffers_areReleasedOnceWritten() throws Exception {
+        Path testPath = testFs.getPath("releasable_test_file.txt");
+        FileAsyncResponseTransformer transformer = new FileAsyncResponseTransformer(testPath);
+        CompletableFuture prepareFuture = transformer.prepare();
+        transformer.onResponse(new Object());
+
+        List<ByteBuffer> published = new ArrayList<>();
+        Set<ByteBuffer> released = Collections.synchronizedSet(Collections.newSetFromMap(new IdentityHashMap<>()));
+        transformer.onStream(subscriber -> {
+            ((ReleasableByteBufferSubscriber) subscriber).onBufferReleaser(buffer -> {
+                assertThat(buffer.hasRemaining()).isFalse();
+                released.add(buffer);
+            });
+            subscriber.onSubscribe(new Subscription() {
+                private int requested = 0;
+
+                @Override
+                public void request(long l) {
+                    if (++requested > 3) {
+                        subscriber.onComplete();
+                        return;
+                    }
+                    ByteBuffer buffer = ByteBuffer.wrap(("chunk" + requested).getBytes(StandardCharsets.UTF_8))
+                                                  .asReadOnlyBuffer();
+                    published.add(buffer);
+                    subscriber.onNext(buffer);
+                }
+
+                @Override
+                public void cancel() {
+                }
+            });
+        });
+
+        prepareFuture.get(10, TimeUnit.SECONDS);
+        assertThat(released).hasSize(3);
+        assertThat(published).allMatch(released::contains);
+        assertThat(new String(Files.readAllBytes(testPath), StandardCharsets.UTF_8)).isEqualTo("chunk1chunk2chunk3");
+    }
+
     static class TestPublisher implements SdkPublisher<ByteBuffer> {
         private AtomicInteger requestNumber = new AtomicInteger(0);
         private volatile boolean isDone = false;
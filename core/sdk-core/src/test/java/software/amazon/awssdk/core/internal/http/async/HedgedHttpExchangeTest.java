@@ -0,0 +1,235 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.internal.http.async;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.Before;
+import org.junit.Test;
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+import software.amazon.awssdk.core.internal.http.pipeline.stages.utils.AttemptHedging;
+import software.amazon.awssdk.core.retry.conditions.TokenBucketExceptionCostFunction;
+import software.amazon.awssdk.core.retry.conditions.TokenBucketRetryCondition;
+import software.amazon.awssdk.core.timeout.TimeoutScheduler;
+import software.amazon.awssdk.http.SdkHttpResponse;
+import software.amazon.awssdk.http.async.SdkAsyncHttpResponseHandler;
+
+public class HedgedHttpExchangeTest {
+    private static final SdkHttpResponse RESPONSE = SdkHttpResponse.builder().statusCode(200).build();
+
+    private RecordingResponseHandler responseHandler;
+    private AtomicInteger hedgedRequests;
+    private AtomicInteger hedgedRequestWins;
+    private Runnable scheduledHedge;
+    private CompletableFuture<Void> primaryFuture;
+    private CompletableFuture<Void> hedgedFuture;
+    private SdkAsyncHttpResponseHandler hedgedResponseHandler;
+
+    @Before
+    public void setup() {
+        responseHandler = new RecordingResponseHandler();
+        hedgedRequests = new AtomicInteger();
+        hedgedRequestWins = new AtomicInteger();
+        primaryFuture = new CompletableFuture<>();
+        hedgedFuture = new CompletableFuture<>();
+    }
+
+    @Test
+    public void primaryRespondsBeforeDelay_hedgedRequestNotSent() {
+        HedgedHttpExchange exchange = startExchange(500);
+        SdkAsyncHttpResponseHandler primary = exchange.primaryResponseHandler();
+
+        primary.onHeaders(RESPONSE);
+        scheduledHedge.run();
+
+        assertThat(responseHandler.headers).containsExactly(RESPONSE);
+        assertThat(hedgedResponseHandler).isNull();
+        assertThat(hedgedRequests).hasValue(0);
+        assertThat(primaryFuture).isNotDone();
+    }
+
+    @Test
+    public void primarySlow_hedgedRequestWins_primaryCancelled() {
+        HedgedHttpExchange exchange = startExchange(500);
+        SdkAsyncHttpResponseHandler primary = exchange.primaryResponseHandler();
+
+        scheduledHedge.run();
+        hedgedResponseHandler.onHeaders(RESPONSE);
+        TestPublisher hedgedStream = new TestPublisher();
+        hedgedResponseHandler.onStream(hedgedStream);
+
+        assertThat(responseHandler.headers).containsExactly(RESPONSE);
+        assertThat(responseHandler.streams).containsExactly(hedgedStream);
+        assertThat(primaryFuture).isCompletedExceptionally();
+        assertThat(hedgedRequests).hasValue(1);
+        assertThat(hedgedRequestWins).hasValue(1);
+
+        // The cancelled request reports its cancellation, which must not reach the attempt
+        primary.onError(new CancellationException());
+        assertThat(responseHandler.errors).isEmpty();
+    }
+
+    @Test
+    public void primaryRespondsAfterHedgedRequestSent_hedgedRequestCancelled() {
+        HedgedHttpExchange exchange = startExchange(500);
+        SdkAsyncHttpResponseHandler primary = exchange.primaryResponseHandler();
+
+        scheduledHedge.run();
+        primary.onHeaders(RESPONSE);
+        TestPublisher lateHedgedStream = new TestPublisher();
+        hedgedResponseHandler.onHeaders(RESPONSE);
+        hedgedResponseHandler.onStream(lateHedgedStream);
+
+        assertThat(responseHandler.headers).containsExactly(RESPONSE);
+        assertThat(hedgedFuture).isCompletedExceptionally();
+        assertThat(lateHedgedStream.cancelled.get()).isTrue();
+        assertThat(responseHandler.streams).isEmpty();
+        assertThat(hedgedRequests).hasValue(1);
+        assertThat(hedgedRequestWins).hasValue(0);
+    }
+
+    @Test
+    public void primaryFailsBeforeDelay_errorForwarded_hedgedRequestNotSent() {
+        HedgedHttpExchange exchange = startExchange(500);
+        IOException error = new IOException("connection reset");
+
+        exchange.primaryResponseHandler().onError(error);
+        scheduledHedge.run();
+
+        assertThat(responseHandler.errors).containsExactly(error);
+        assertThat(hedgedResponseHandler).isNull();
+    }
+
+    @Test
+    public void primaryFailsWhileHedgedRequestInFlight_hedgedResponseUsed() {
+        HedgedHttpExchange exchange = startExchange(500);
+
+        scheduledHedge.run();
+        exchange.primaryResponseHandler().onError(new IOException("connection reset"));
+        hedgedResponseHandler.onHeaders(RESPONSE);
+
+        assertThat(responseHandler.errors).isEmpty();
+        assertThat(responseHandler.headers).containsExactly(RESPONSE);
+    }
+
+    @Test
+    public void bothRequestsFail_lastErrorForwarded() {
+        HedgedHttpExchange exchange = startExchange(500);
+        IOException hedgedError = new IOException("hedged");
+
+        scheduledHedge.run();
+        exchange.primaryResponseHandler().onError(new IOException("primary"));
+        hedgedResponseHandler.onError(hedgedError);
+
+        assertThat(responseHandler.errors).containsExactly(hedgedError);
+    }
+
+    @Test
+    public void noRetryCapacity_hedgedRequestNotSent() {
+        HedgedHttpExchange exchange = startExchange(0);
+
+        scheduledHedge.run();
+        exchange.primaryResponseHandler().onHeaders(RESPONSE);
+
+        assertThat(hedgedResponseHandler).isNull();
+        assertThat(hedgedRequests).hasValue(0);
+        assertThat(responseHandler.headers).containsExactly(RESPONSE);
+    }
+
+    @Test
+    public void attemptCancelled_cancelsBothRequests() {
+        HedgedHttpExchange exchange = startExchange(500);
+
+        scheduledHedge.run();
+        exchange.cancel(new CancellationException());
+
+        assertThat(primaryFuture).isCompletedExceptionally();
+        assertThat(hedgedFuture).isCompletedExceptionally();
+    }
+
+    private HedgedHttpExchange startExchange(int retryCapacity) {
+        TokenBucketRetryCondition retryCondition =
+            TokenBucketRetryCondition.builder()
+                                     .tokenBucketSize(retryCapacity)
+                                     .exceptionCostFunction(TokenBucketExceptionCostFunction.builder()
+                                                                                            .throttlingExceptionCost(5)
+                                                                                            .defaultExceptionCost(5)
+                                                                                            .build())
+                                     .build();
+        AttemptHedging hedging = new AttemptHedging(Duration.ofMillis(10), retryCondition, hedgedRequests, hedgedRequestWins);
+        TimeoutScheduler scheduler = (task, delay, unit) -> {
+            scheduledHedge = task;
+            return () -> true;
+        };
+
+        HedgedHttpExchange exchange = new HedgedHttpExchange(responseHandler, hedging);
+        exchange.start(primaryFuture, scheduler, Runnable::run, handler -> {
+            hedgedResponseHandler = handler;
+            return hedgedFuture;
+        });
+        return exchange;
+    }
+
+    private static final class RecordingResponseHandler implements SdkAsyncHttpResponseHandler {
+        private final List<SdkHttpResponse> headers = new ArrayList<>();
+        private final List<Publisher<ByteBuffer>> streams = new ArrayList<>();
+        private final List<Throwable> errors = new ArrayList<>();
+
+        @Override
+        public void onHeaders(SdkHttpResponse headers) {
+            this.headers.add(headers);
+        }
+
+        @Override
+        public void onStream(Publisher<ByteBuffer> stream) {
+            streams.add(stream);
+        }
+
+        @Override
+        public void onError(Throwable error) {
+            errors.add(error);
+        }
+    }
+
+    private static final class TestPublisher implements Publisher<ByteBuffer> {
+        private final AtomicBoolean cancelled = new AtomicBoolean();
+
+        @Override
+        public void subscribe(Subscriber<? super ByteBuffer> subscriber) {
+            subscriber.onSubscribe(new Subscription() {
+                @Override
+                public void request(long n) {
+                }
+
+                @Override
+                public void cancel() {
+                    cancelled.set(true);
+                }
+            });
+        }
+    }
+}
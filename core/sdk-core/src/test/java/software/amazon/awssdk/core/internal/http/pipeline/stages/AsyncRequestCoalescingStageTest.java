@@ -0,0 +1,207 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.internal.http.pipeline.stages;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import org.junit.Before;
+import org.junit.Test;
+import software.amazon.awssdk.core.client.config.SdkAdvancedClientOption;
+import software.amazon.awssdk.core.http.ExecutionContext;
+import software.amazon.awssdk.core.http.NoopTestRequest;
+import software.amazon.awssdk.core.interceptor.ExecutionAttributes;
+import software.amazon.awssdk.core.interceptor.InterceptorContext;
+import software.amazon.awssdk.core.interceptor.SdkExecutionAttribute;
+import software.amazon.awssdk.core.interceptor.SdkInternalExecutionAttribute;
+import software.amazon.awssdk.core.interceptor.trait.RequestCoalescing;
+import software.amazon.awssdk.core.internal.http.HttpClientDependencies;
+import software.amazon.awssdk.core.internal.http.RequestExecutionContext;
+import software.amazon.awssdk.core.internal.http.pipeline.RequestPipeline;
+import software.amazon.awssdk.core.metrics.CoreMetric;
+import software.amazon.awssdk.http.SdkHttpFullRequest;
+import software.amazon.awssdk.http.SdkHttpResponse;
+import software.amazon.awssdk.metrics.MetricCollector;
+import software.amazon.awssdk.metrics.SdkMetric;
+import utils.ValidSdkObjects;
+
+public class AsyncRequestCoalescingStageTest {
+    private static final SdkHttpResponse HTTP_RESPONSE = SdkHttpResponse.builder().statusCode(200).build();
+
+    private List<CompletableFuture<String>> calls;
+    private List<RequestExecutionContext> callContexts;
+    private AsyncRequestCoalescingStage<String> stage;
+
+    @Before
+    public void setup() {
+        calls = new ArrayList<>();
+        callContexts = new ArrayList<>();
+        stage = createStage(true);
+    }
+
+    @Test
+    public void identicalRequests_shareOneCall() throws Exception {
+        RequestExecutionContext leaderContext = context("identity");
+        RequestExecutionContext followerContext = context("identity");
+
+        CompletableFuture<String> leader = stage.execute(request("invocation-1"), leaderContext);
+        CompletableFuture<String> follower = stage.execute(request("invocation-2"), followerContext);
+
+        assertThat(calls.size()).isEqualTo(1);
+        completeCall(0, "response");
+
+        assertThat(leader.join()).isEqualTo("response");
+        assertThat(follower.join()).isEqualTo("response");
+        assertThat(followerContext.executionContext().interceptorContext().httpResponse()).isEqualTo(HTTP_RESPONSE);
+        assertThat(metricValues(leaderContext, CoreMetric.COALESCED_REQUEST_COUNT)).containsExactly(1);
+        assertThat(metricValues(leaderContext, CoreMetric.REQUEST_COALESCED)).containsExactly(false);
+        assertThat(metricValues(followerContext, CoreMetric.REQUEST_COALESCED)).containsExactly(true);
+    }
+
+    @Test
+    public void differentIdentities_doNotShareCall() throws Exception {
+        stage.execute(request("invocation-1"), context("identity"));
+        stage.execute(request("invocation-2"), context("other-identity"));
+
+        assertThat(calls.size()).isEqualTo(2);
+    }
+
+    @Test
+    public void differentRequests_doNotShareCall() throws Exception {
+        stage.execute(request("invocation-1"), context("identity"));
+        stage.execute(request("invocation-2").toBuilder().encodedPath("/other").build(), context("identity"));
+
+        assertThat(calls.size()).isEqualTo(2);
+    }
+
+    @Test
+    public void coalescingDisabled_doesNotShareCall() throws Exception {
+        stage = createStage(false);
+
+        stage.execute(request("invocation-1"), context("identity"));
+        stage.execute(request("invocation-2"), context("identity"));
+
+        assertThat(calls.size()).isEqualTo(2);
+    }
+
+    @Test
+    public void unknownIdentity_doesNotShareCall() throws Exception {
+        stage.execute(request("invocation-1"), context(null));
+        stage.execute(request("invocation-2"), context(null));
+
+        assertThat(calls.size()).isEqualTo(2);
+    }
+
+    @Test
+    public void callCompleted_nextRequestMakesNewCall() throws Exception {
+        stage.execute(request("invocation-1"), context("identity"));
+        completeCall(0, "response");
+
+        CompletableFuture<String> next = stage.execute(request("invocation-2"), context("identity"));
+
+        assertThat(calls.size()).isEqualTo(2);
+        assertThat(next).isNotDone();
+    }
+
+    @Test
+    public void callFailed_allRequestsFail() throws Exception {
+        CompletableFuture<String> leader = stage.execute(request("invocation-1"), context("identity"));
+        CompletableFuture<String> follower = stage.execute(request("invocation-2"), context("identity"));
+
+        calls.get(0).completeExceptionally(new RuntimeException("failed"));
+
+        assertThat(leader).isCompletedExceptionally();
+        assertThat(follower).isCompletedExceptionally();
+    }
+
+    @Test
+    public void leaderCancelled_callContinuesForFollower() throws Exception {
+        CompletableFuture<String> leader = stage.execute(request("invocation-1"), context("identity"));
+        CompletableFuture<String> follower = stage.execute(request("invocation-2"), context("identity"));
+
+        leader.cancel(false);
+
+        assertThat(calls.get(0)).isNotDone();
+        completeCall(0, "response");
+        assertThat(follower.join()).isEqualTo("response");
+    }
+
+    @Test
+    public void allRequestsCancelled_callCancelled() throws Exception {
+        CompletableFuture<String> leader = stage.execute(request("invocation-1"), context("identity"));
+        CompletableFuture<String> follower = stage.execute(request("invocation-2"), context("identity"));
+
+        follower.cancel(false);
+        leader.cancel(false);
+
+        assertThat(calls.get(0)).isCompletedExceptionally();
+
+        stage.execute(request("invocation-3"), context("identity"));
+        assertThat(calls.size()).isEqualTo(2);
+    }
+
+    private AsyncRequestCoalescingStage<String> createStage(boolean coalescingEnabled) {
+        HttpClientDependencies dependencies =
+            HttpClientDependencies.builder()
+                                  .clientConfiguration(c -> c.option(SdkAdvancedClientOption.COALESCE_IDENTICAL_REQUESTS,
+                                                                     coalescingEnabled))
+                                  .build();
+        RequestPipeline<SdkHttpFullRequest, CompletableFuture<String>> wrapped = (request, context) -> {
+            CompletableFuture<String> call = new CompletableFuture<>();
+            calls.add(call);
+            callContexts.add(context);
+            return call;
+        };
+        return new AsyncRequestCoalescingStage<>(dependencies, wrapped);
+    }
+
+    private void completeCall(int index, String response) {
+        ExecutionContext executionContext = callContexts.get(index).executionContext();
+        executionContext.interceptorContext(executionContext.interceptorContext().copy(b -> b.httpResponse(HTTP_RESPONSE)));
+        calls.get(index).complete(response);
+    }
+
+    private static SdkHttpFullRequest request(String invocationId) {
+        return ValidSdkObjects.sdkHttpFullRequest()
+                              .putHeader(ApplyTransactionIdStage.HEADER_SDK_TRANSACTION_ID, invocationId)
+                              .build();
+    }
+
+    private static RequestExecutionContext context(Object identity) {
+        ExecutionAttributes executionAttributes = new ExecutionAttributes();
+        executionAttributes.putAttribute(SdkExecutionAttribute.OPERATION_NAME, "GetThing");
+        executionAttributes.putAttribute(SdkInternalExecutionAttribute.REQUEST_COALESCING,
+                                         identity == null ? RequestCoalescing.create() : RequestCoalescing.create(identity));
+
+        NoopTestRequest originalRequest = NoopTestRequest.builder().build();
+        ExecutionContext executionContext =
+            ExecutionContext.builder()
+                            .executionAttributes(executionAttributes)
+                            .interceptorContext(InterceptorContext.builder().request(originalRequest).build())
+                            .metricCollector(MetricCollector.create("ApiCall"))
+                            .build();
+        return RequestExecutionContext.builder()
+                                      .originalRequest(originalRequest)
+                                      .executionContext(executionContext)
+                                      .build();
+    }
+
+    private static <T> List<T> metricValues(RequestExecutionContext context, SdkMetric<T> metric) {
+        return context.executionContext().metricCollector().collect().metricValues(metric);
+    }
+}
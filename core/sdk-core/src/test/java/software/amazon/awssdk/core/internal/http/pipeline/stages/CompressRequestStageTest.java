@@ -0,0 +1,218 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.internal.http.pipeline.stages;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPInputStream;
+import org.junit.Test;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+import software.amazon.awssdk.core.CompressionConfiguration;
+import software.amazon.awssdk.core.SdkRequest;
+import software.amazon.awssdk.core.SdkRequestOverrideConfiguration;
+import software.amazon.awssdk.core.async.AsyncRequestBody;
+import software.amazon.awssdk.core.client.config.SdkClientConfiguration;
+import software.amazon.awssdk.core.http.ExecutionContext;
+import software.amazon.awssdk.core.http.NoopTestRequest;
+import software.amazon.awssdk.core.interceptor.SdkInternalExecutionAttribute;
+import software.amazon.awssdk.core.interceptor.trait.RequestCompression;
+import software.amazon.awssdk.core.internal.http.HttpClientDependencies;
+import software.amazon.awssdk.core.internal.http.RequestExecutionContext;
+import software.amazon.awssdk.core.internal.http.timers.ClientExecutionAndRequestTimerTestUtils;
+import software.amazon.awssdk.http.SdkHttpFullRequest;
+import software.amazon.awssdk.utils.IoUtils;
+import software.amazon.awssdk.utils.StringUtils;
+import utils.ValidSdkObjects;
+
+public class CompressRequestStageTest {
+    private static final String LARGE_PAYLOAD = StringUtils.repeat("MetricName=Latency&Value=42&", 1000);
+
+    private final CompressRequestStage stage =
+        new CompressRequestStage(HttpClientDependencies.builder()
+                                                       .clientConfiguration(SdkClientConfiguration.builder().build())
+                                                       .build());
+
+    @Test
+    public void operationWithoutTrait_payloadNotCompressed() throws Exception {
+        SdkHttpFullRequest.Builder request = requestWithPayload(LARGE_PAYLOAD);
+
+        stage.execute(request, requestContext(NoopTestRequest.builder().build(), null));
+
+        assertThat(request.firstMatchingHeader("Content-Encoding")).isEmpty();
+        assertThat(payload(request)).isEqualTo(LARGE_PAYLOAD);
+    }
+
+    @Test
+    public void operationWithTrait_largePayload_compressedWithContentLengthUpdated() throws Exception {
+        SdkHttpFullRequest.Builder request = requestWithPayload(LARGE_PAYLOAD);
+
+        stage.execute(request, requestContext(NoopTestRequest.builder().build(), RequestCompression.create(false)));
+
+        assertThat(request.firstMatchingHeader("Content-Encoding")).hasValue("gzip");
+        byte[] compressed = IoUtils.toByteArray(request.contentStreamProvider().newStream());
+        assertThat(request.firstMatchingHeader("Content-Length")).hasValue(Integer.toString(compressed.length));
+        assertThat(compressed.length).isLessThan(LARGE_PAYLOAD.length());
+        assertThat(gunzip(new ByteArrayInputStream(compressed))).isEqualTo(LARGE_PAYLOAD);
+    }
+
+    @Test
+    public void operationWithTrait_payloadBelowThreshold_notCompressed() throws Exception {
+        SdkHttpFullRequest.Builder request = requestWithPayload("MetricName=Latency&Value=42");
+
+        stage.execute(request, requestContext(NoopTestRequest.builder().build(), RequestCompression.create(false)));
+
+        assertThat(request.firstMatchingHeader("Content-Encoding")).isEmpty();
+        assertThat(payload(request)).isEqualTo("MetricName=Latency&Value=42");
+    }
+
+    @Test
+    public void operationWithTrait_thresholdOverriddenOnRequest_smallPayloadCompressed() throws Exception {
+        SdkHttpFullRequest.Builder request = requestWithPayload("MetricName=Latency&Value=42");
+        SdkRequest originalRequest = requestWithCompression(CompressionConfiguration.builder()
+                                                                                    .minimumCompressionThresholdInBytes(0)
+                                                                                    .build());
+
+        stage.execute(request, requestContext(originalRequest, RequestCompression.create(false)));
+
+        assertThat(request.firstMatchingHeader("Content-Encoding")).hasValue("gzip");
+        assertThat(gunzip(request.contentStreamProvider().newStream())).isEqualTo("MetricName=Latency&Value=42");
+    }
+
+    @Test
+    public void operationWithTrait_compressionDisabledOnRequest_payloadNotCompressed() throws Exception {
+        SdkHttpFullRequest.Builder request = requestWithPayload(LARGE_PAYLOAD);
+        SdkRequest originalRequest = requestWithCompression(CompressionConfiguration.builder()
+                                                                                    .requestCompressionEnabled(false)
+                                                                                    .build());
+
+        stage.execute(request, requestContext(originalRequest, RequestCompression.create(false)));
+
+        assertThat(request.firstMatchingHeader("Content-Encoding")).isEmpty();
+        assertThat(payload(request)).isEqualTo(LARGE_PAYLOAD);
+    }
+
+    @Test
+    public void existingContentEncoding_gzipAppended() throws Exception {
+        SdkHttpFullRequest.Builder request = requestWithPayload(LARGE_PAYLOAD).putHeader("Content-Encoding", "identity");
+
+        stage.execute(request, requestContext(NoopTestRequest.builder().build(), RequestCompression.create(false)));
+
+        assertThat(request.headers().get("Content-Encoding")).containsExactly("identity", "gzip");
+    }
+
+    @Test
+    public void asyncStreamingPayload_compressedAsItIsPublished() throws Exception {
+        SdkHttpFullRequest.Builder request = SdkHttpFullRequest.builder()
+                                                               .putHeader("Content-Length",
+                                                                          Integer.toString(LARGE_PAYLOAD.length()));
+        RequestExecutionContext context = requestContext(NoopTestRequest.builder().build(), RequestCompression.create(true));
+        context.requestProvider(AsyncRequestBody.fromString(LARGE_PAYLOAD));
+
+        stage.execute(request, context);
+
+        assertThat(request.firstMatchingHeader("Content-Encoding")).hasValue("gzip");
+        assertThat(request.firstMatchingHeader("Content-Length")).isEmpty();
+        assertThat(context.requestProvider().contentLength()).isEmpty();
+        assertThat(gunzip(new ByteArrayInputStream(collect(context.requestProvider())))).isEqualTo(LARGE_PAYLOAD);
+    }
+
+    @Test
+    public void syncStreamingPayload_notCompressed() throws Exception {
+        SdkHttpFullRequest.Builder request = requestWithPayload(LARGE_PAYLOAD);
+
+        stage.execute(request, requestContext(NoopTestRequest.builder().build(), RequestCompression.create(true)));
+
+        assertThat(request.firstMatchingHeader("Content-Encoding")).isEmpty();
+        assertThat(payload(request)).isEqualTo(LARGE_PAYLOAD);
+    }
+
+    private static SdkHttpFullRequest.Builder requestWithPayload(String payload) {
+        byte[] content = payload.getBytes(StandardCharsets.UTF_8);
+        return ValidSdkObjects.sdkHttpFullRequest()
+                              .contentStreamProvider(() -> new ByteArrayInputStream(content))
+                              .putHeader("Content-Length", Integer.toString(content.length));
+    }
+
+    private static SdkRequest requestWithCompression(CompressionConfiguration compressionConfiguration) {
+        return NoopTestRequest.builder()
+                              .overrideConfiguration(SdkRequestOverrideConfiguration.builder()
+                                                                                    .compressionConfiguration(
+                                                                                        compressionConfiguration)
+                                                                                    .build())
+                              .build();
+    }
+
+    private static RequestExecutionContext requestContext(SdkRequest request, RequestCompression requestCompression) {
+        ExecutionContext executionContext =
+            ClientExecutionAndRequestTimerTestUtils.executionContext(ValidSdkObjects.sdkHttpFullRequest().build());
+        executionContext.executionAttributes().putAttribute(SdkInternalExecutionAttribute.REQUEST_COMPRESSION,
+                                                            requestCompression);
+        return RequestExecutionContext.builder()
+                                      .executionContext(executionContext)
+                                      .originalRequest(request)
+                                      .build();
+    }
+
+    private static String payload(SdkHttpFullRequest.Builder request) throws IOException {
+        return IoUtils.toUtf8String(request.contentStreamProvider().newStream());
+    }
+
+    private static String gunzip(InputStream compressed) throws IOException {
+        return IoUtils.toUtf8String(new GZIPInputStream(compressed));
+    }
+
+    private static byte[] collect(AsyncRequestBody body) throws Exception {
+        CompletableFuture<byte[]> result = new CompletableFuture<>();
+        body.subscribe(new Subscriber<ByteBuffer>() {
+            private final ByteArrayOutputStream output = new ByteArrayOutputStream();
+            private Subscription subscription;
+
+            @Override
+            public void onSubscribe(Subscription subscription) {
+                this.subscription = subscription;
+                subscription.request(1);
+            }
+
+            @Override
+            public void onNext(ByteBuffer byteBuffer) {
+                byte[] bytes = new byte[byteBuffer.remaining()];
+                byteBuffer.get(bytes);
+                output.write(bytes, 0, bytes.length);
+                subscription.request(1);
+            }
+
+            @Override
+            public void onError(Throwable t) {
+                result.completeExceptionally(t);
+            }
+
+            @Override
+            public void onComplete() {
+                result.complete(output.toByteArray());
+            }
+        });
+        return result.get(5, TimeUnit.SECONDS);
+    }
+}
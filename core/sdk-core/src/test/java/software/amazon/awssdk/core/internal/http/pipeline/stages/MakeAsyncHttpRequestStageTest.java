@@ -29,6 +29,9 @@ import static software.amazon.awssdk.core.client.config.SdkClientOption.ASYNC_HT
 import static software.amazon.awssdk.core.client.config.SdkClientOption.SCHEDULED_EXECUTOR_SERVICE;
 import static software.amazon.awssdk.core.internal.util.AsyncResponseHandlerTestUtils.combinedAsyncResponseHandler;
 
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.time.Duration;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ScheduledExecutorService;
@@ -40,6 +43,7 @@ import org.junit.runner.RunWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.runners.MockitoJUnitRunner;
+import software.amazon.awssdk.core.async.AsyncRequestBody;
 import software.amazon.awssdk.core.client.config.SdkAdvancedAsyncClientOption;
 import software.amazon.awssdk.core.client.config.SdkClientConfiguration;
 import software.amazon.awssdk.core.http.ExecutionContext;
@@ -53,6 +57,8 @@ import software.amazon.awssdk.http.SdkHttpFullRequest;
 import software.amazon.awssdk.http.SdkHttpMethod;
 import software.amazon.awssdk.http.async.AsyncExecuteRequest;
 import software.amazon.awssdk.http.async.SdkAsyncHttpClient;
+import software.amazon.awssdk.http.async.SdkHttpContentPublisher;
+import software.amazon.awssdk.http.async.SdkHttpFileContentPublisher;
 import software.amazon.awssdk.metrics.MetricCollector;
 import utils.ValidSdkObjects;
 
@@ -152,6 +158,50 @@ public class MakeAsyncHttpRequestStageTest {
         }
     }
 
+    @Test
+    public void fileRequestBody_contentPublisherExposesFile() throws Exception {
+        stage = new MakeAsyncHttpRequestStage<>(
+            combinedAsyncResponseHandler(AsyncResponseHandlerTestUtils.noOpResponseHandler(),
+                                         AsyncResponseHandlerTestUtils.noOpResponseHandler()),
+            clientDependencies(null));
+
+        Path file = Files.createTempFile("MakeAsyncHttpRequestStageTest", ".txt");
+        try {
+            Files.write(file, "content".getBytes(StandardCharsets.UTF_8));
+            RequestExecutionContext context = requestContext();
+            context.requestProvider(AsyncRequestBody.fromFile(file));
+
+            stage.execute(CompletableFuture.completedFuture(ValidSdkObjects.sdkHttpFullRequest().method(SdkHttpMethod.PUT).build()), context);
+
+            ArgumentCaptor<AsyncExecuteRequest> httpRequestCaptor = ArgumentCaptor.forClass(AsyncExecuteRequest.class);
+            verify(sdkAsyncHttpClient).execute(httpRequestCaptor.capture());
+            SdkHttpContentPublisher contentPublisher = httpRequestCaptor.getValue().requestContentPublisher();
+            assertThat(contentPublisher).isInstanceOf(SdkHttpFileContentPublisher.class);
+            assertThat(((SdkHttpFileContentPublisher) contentPublisher).path()).isEqualTo(file);
+            assertThat(contentPublisher.contentLength()).contains(7L);
+            assertThat(httpRequestCaptor.getValue().request().firstMatchingHeader("Content-Length")).contains("7");
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    @Test
+    public void nonFileRequestBody_contentPublisherIsNotFileBacked() {
+        stage = new MakeAsyncHttpRequestStage<>(
+            combinedAsyncResponseHandler(AsyncResponseHandlerTestUtils.noOpResponseHandler(),
+                                         AsyncResponseHandlerTestUtils.noOpResponseHandler()),
+            clientDependencies(null));
+
+        RequestExecutionContext context = requestContext();
+        context.requestProvider(AsyncRequestBody.fromString("content"));
+
+        stage.execute(CompletableFuture.completedFuture(ValidSdkObjects.sdkHttpFullRequest().build()), context);
+
+        ArgumentCaptor<AsyncExecuteRequest> httpRequestCaptor = ArgumentCaptor.forClass(AsyncExecuteRequest.class);
+        verify(sdkAsyncHttpClient).execute(httpRequestCaptor.capture());
+        assertThat(httpRequestCaptor.getValue().requestContentPublisher()).isNotInstanceOf(SdkHttpFileContentPublisher.class);
+    }
+
     private HttpClientDependencies clientDependencies(Duration timeout) {
         SdkClientConfiguration configuration = SdkClientConfiguration.builder()
                                                                      .option(SdkAdvancedAsyncClientOption.FUTURE_COMPLETION_EXECUTOR, Runnable::run)
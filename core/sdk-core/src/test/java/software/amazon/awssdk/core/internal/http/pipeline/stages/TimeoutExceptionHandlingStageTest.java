@@ -22,7 +22,6 @@ import static org.mockito.Mockito.when;
 
 import java.io.IOException;
 import java.net.SocketException;
-import java.util.concurrent.ScheduledFuture;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -42,6 +41,7 @@ import software.amazon.awssdk.core.internal.http.pipeline.RequestPipeline;
 import software.amazon.awssdk.core.internal.http.timers.ApiCallTimeoutTracker;
 import software.amazon.awssdk.core.internal.http.timers.ClientExecutionAndRequestTimerTestUtils;
 import software.amazon.awssdk.core.internal.http.timers.TimeoutTask;
+import software.amazon.awssdk.core.timeout.TimeoutScheduler.ScheduledTimeout;
 import software.amazon.awssdk.http.SdkHttpFullRequest;
 import utils.ValidSdkObjects;
 
@@ -58,7 +58,7 @@ public class TimeoutExceptionHandlingStageTest {
     private TimeoutTask apiCallAttemptTimeoutTask;
 
     @Mock
-    private ScheduledFuture scheduledFuture;
+    private ScheduledTimeout scheduledTimeout;
 
 
     private TimeoutExceptionHandlingStage<String> stage;
@@ -203,8 +203,8 @@ public class TimeoutExceptionHandlingStageTest {
 
     private void verifyExceptionThrown(Class exceptionToAssert) {
         RequestExecutionContext context = requestContext();
-        context.apiCallTimeoutTracker(new ApiCallTimeoutTracker(apiCallTimeoutTask, scheduledFuture));
-        context.apiCallAttemptTimeoutTracker(new ApiCallTimeoutTracker(apiCallAttemptTimeoutTask, scheduledFuture));
+        context.apiCallTimeoutTracker(new ApiCallTimeoutTracker(apiCallTimeoutTask, scheduledTimeout));
+        context.apiCallAttemptTimeoutTracker(new ApiCallTimeoutTracker(apiCallAttemptTimeoutTask, scheduledTimeout));
 
         assertThatThrownBy(() -> stage.execute(ValidSdkObjects.sdkHttpFullRequest().build(), context))
             .isExactlyInstanceOf(exceptionToAssert);
@@ -0,0 +1,205 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.internal.http.timers;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.After;
+import org.junit.Test;
+import software.amazon.awssdk.core.timeout.TimeoutScheduler;
+import software.amazon.awssdk.core.timeout.TimeoutScheduler.ScheduledTimeout;
+import software.amazon.awssdk.utils.ThreadFactoryBuilder;
+
+public class HashedWheelTimeoutSchedulerTest {
+    private final HashedWheelTimeoutScheduler wheel = new HashedWheelTimeoutScheduler(1, TimeUnit.MILLISECONDS, 8);
+    private final ExecutorService taskExecutor = Executors.newCachedThreadPool();
+    private final TimeoutScheduler scheduler = wheel.dispatchingTo(taskExecutor);
+
+    @After
+    public void tearDown() {
+        wheel.shutdown();
+        taskExecutor.shutdownNow();
+    }
+
+    @Test
+    public void scheduledTask_runsAfterDelay() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(1);
+        long start = System.nanoTime();
+
+        scheduler.schedule(latch::countDown, 20, TimeUnit.MILLISECONDS);
+
+        assertThat(latch.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(System.nanoTime() - start).isGreaterThanOrEqualTo(TimeUnit.MILLISECONDS.toNanos(20));
+    }
+
+    @Test
+    public void delayLongerThanOneRotation_runsAfterFullDelay() throws InterruptedException {
+        // 8 ticks of 1ms per rotation, so this timeout needs several rounds before it expires
+        CountDownLatch latch = new CountDownLatch(1);
+        long start = System.nanoTime();
+
+        scheduler.schedule(latch::countDown, 50, TimeUnit.MILLISECONDS);
+
+        assertThat(latch.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(System.nanoTime() - start).isGreaterThanOrEqualTo(TimeUnit.MILLISECONDS.toNanos(50));
+    }
+
+    @Test
+    public void zeroDelay_runsOnNextTick() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(1);
+
+        scheduler.schedule(latch::countDown, 0, TimeUnit.MILLISECONDS);
+
+        assertThat(latch.await(5, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    public void cancelledTask_doesNotRun() throws InterruptedException {
+        AtomicInteger runs = new AtomicInteger();
+        CountDownLatch later = new CountDownLatch(1);
+
+        ScheduledTimeout timeout = scheduler.schedule(runs::incrementAndGet, 10, TimeUnit.MILLISECONDS);
+        scheduler.schedule(later::countDown, 50, TimeUnit.MILLISECONDS);
+
+        assertThat(timeout.cancel()).isTrue();
+        assertThat(timeout.cancel()).isFalse();
+        assertThat(later.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(runs.get()).isZero();
+    }
+
+    @Test
+    public void cancelAfterRunning_returnsFalse() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(1);
+
+        ScheduledTimeout timeout = scheduler.schedule(latch::countDown, 1, TimeUnit.MILLISECONDS);
+
+        assertThat(latch.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(timeout.cancel()).isFalse();
+    }
+
+    @Test
+    public void expiredTask_runsOnExecutorInsteadOfWheelThread() throws Exception {
+        CompletableFuture<String> threadName = new CompletableFuture<>();
+        ExecutorService namedExecutor =
+            Executors.newSingleThreadExecutor(new ThreadFactoryBuilder().threadNamePrefix("timeout-task").build());
+        try {
+            wheel.dispatchingTo(namedExecutor)
+                 .schedule(() -> threadName.complete(Thread.currentThread().getName()), 1, TimeUnit.MILLISECONDS);
+
+            assertThat(threadName.get(5, TimeUnit.SECONDS)).startsWith("timeout-task");
+        } finally {
+            namedExecutor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void blockingTask_doesNotDelayTasksOfOtherExecutors() throws InterruptedException {
+        CountDownLatch blockedTaskRelease = new CountDownLatch(1);
+        CountDownLatch otherTaskRan = new CountDownLatch(1);
+        ExecutorService blockingExecutor = Executors.newSingleThreadExecutor();
+        try {
+            wheel.dispatchingTo(blockingExecutor).schedule(() -> {
+                try {
+                    blockedTaskRelease.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }, 1, TimeUnit.MILLISECONDS);
+            scheduler.schedule(otherTaskRan::countDown, 20, TimeUnit.MILLISECONDS);
+
+            assertThat(otherTaskRan.await(5, TimeUnit.SECONDS)).isTrue();
+        } finally {
+            blockedTaskRelease.countDown();
+            blockingExecutor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void executorRejectsTask_laterTasksStillRun() throws InterruptedException {
+        ExecutorService shutDownExecutor = Executors.newSingleThreadExecutor();
+        shutDownExecutor.shutdown();
+        CountDownLatch latch = new CountDownLatch(1);
+
+        wheel.dispatchingTo(shutDownExecutor).schedule(() -> { }, 1, TimeUnit.MILLISECONDS);
+        scheduler.schedule(latch::countDown, 20, TimeUnit.MILLISECONDS);
+
+        assertThat(latch.await(5, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    public void taskThrowsException_laterTasksStillRun() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(1);
+
+        scheduler.schedule(() -> {
+            throw new RuntimeException("boom");
+        }, 1, TimeUnit.MILLISECONDS);
+        scheduler.schedule(latch::countDown, 20, TimeUnit.MILLISECONDS);
+
+        assertThat(latch.await(5, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    public void scheduleAfterShutdown_throwsException() {
+        wheel.shutdown();
+
+        assertThatThrownBy(() -> scheduler.schedule(() -> { }, 1, TimeUnit.MILLISECONDS))
+            .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    public void concurrentScheduleAndCancel_onlyUncancelledTasksRun() throws Exception {
+        int threads = 8;
+        int timeoutsPerThread = 10_000;
+        AtomicInteger runs = new AtomicInteger();
+        AtomicInteger expectedRuns = new AtomicInteger();
+
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                futures.add(executor.submit(() -> {
+                    for (int j = 0; j < timeoutsPerThread; j++) {
+                        ScheduledTimeout timeout = scheduler.schedule(runs::incrementAndGet, j % 20, TimeUnit.MILLISECONDS);
+                        if (j % 10 != 0 && timeout.cancel()) {
+                            continue;
+                        }
+                        expectedRuns.incrementAndGet();
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        CountDownLatch drained = new CountDownLatch(1);
+        scheduler.schedule(drained::countDown, 50, TimeUnit.MILLISECONDS);
+        assertThat(drained.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(runs.get()).isEqualTo(expectedRuns.get());
+    }
+}
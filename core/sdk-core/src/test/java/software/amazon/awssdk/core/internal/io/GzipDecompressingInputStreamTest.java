@@ -0,0 +1,172 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.internal.io;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.zip.CRC32;
+import java.util.zip.GZIPOutputStream;
+import java.util.zip.ZipException;
+import org.junit.Test;
+import software.amazon.awssdk.utils.IoUtils;
+
+public class GzipDecompressingInputStreamTest {
+
+    @Test
+    public void read_largeContent_decompressesContent() throws IOException {
+        byte[] content = randomText(1024 * 1024);
+
+        assertThat(decompress(gzip(content))).isEqualTo(content);
+    }
+
+    @Test
+    public void read_singleBytes_decompressesContent() throws IOException {
+        byte[] content = randomText(10_000);
+
+        try (InputStream in = new GzipDecompressingInputStream(new ByteArrayInputStream(gzip(content)))) {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            int b;
+            while ((b = in.read()) != -1) {
+                out.write(b);
+            }
+            assertThat(out.toByteArray()).isEqualTo(content);
+        }
+    }
+
+    @Test
+    public void read_sourceReturningOneByteAtATime_decompressesContent() throws IOException {
+        byte[] content = randomText(10_000);
+        InputStream trickling = new ByteArrayInputStream(gzip(content)) {
+            @Override
+            public synchronized int read(byte[] b, int off, int len) {
+                return super.read(b, off, Math.min(len, 1));
+            }
+        };
+
+        try (InputStream in = new GzipDecompressingInputStream(trickling)) {
+            assertThat(IoUtils.toByteArray(in)).isEqualTo(content);
+        }
+    }
+
+    @Test
+    public void read_concatenatedMembers_decompressesAllMembers() throws IOException {
+        byte[] first = randomText(5_000);
+        byte[] second = randomText(7_000);
+
+        assertThat(decompress(concat(gzip(first), gzip(second)))).isEqualTo(concat(first, second));
+    }
+
+    @Test
+    public void read_trailingBytesAfterMember_areIgnored() throws IOException {
+        byte[] content = randomText(1_000);
+
+        assertThat(decompress(concat(gzip(content), new byte[] {0, 0, 0}))).isEqualTo(content);
+    }
+
+    @Test
+    public void read_headerWithOptionalFields_decompressesContent() throws IOException {
+        byte[] content = randomText(1_000);
+        byte[] deflated = Arrays.copyOfRange(gzip(content), 10, gzip(content).length);
+
+        ByteArrayOutputStream header = new ByteArrayOutputStream();
+        // Magic, method, flags: FHCRC | FEXTRA | FNAME | FCOMMENT, MTIME, XFL, OS.
+        header.write(new byte[] {0x1f, (byte) 0x8b, 8, 2 | 4 | 8 | 16, 0, 0, 0, 0, 0, (byte) 0xff});
+        header.write(new byte[] {3, 0, 'a', 'b', 'c'});
+        header.write(new byte[] {'n', 'a', 'm', 'e', 0});
+        header.write(new byte[] {'c', 'o', 'm', 'm', 'e', 'n', 't', 0});
+        CRC32 headerCrc = new CRC32();
+        headerCrc.update(header.toByteArray());
+        header.write((int) headerCrc.getValue() & 0xff);
+        header.write((int) (headerCrc.getValue() >> 8) & 0xff);
+
+        assertThat(decompress(concat(header.toByteArray(), deflated))).isEqualTo(content);
+    }
+
+    @Test
+    public void create_contentNotGzip_throwsException() {
+        assertThatThrownBy(() -> new GzipDecompressingInputStream(new ByteArrayInputStream("not gzip".getBytes())))
+            .isInstanceOf(ZipException.class);
+    }
+
+    @Test
+    public void create_emptyContent_throwsException() {
+        assertThatThrownBy(() -> new GzipDecompressingInputStream(new ByteArrayInputStream(new byte[0])))
+            .isInstanceOf(EOFException.class);
+    }
+
+    @Test
+    public void read_truncatedContent_throwsException() throws IOException {
+        byte[] compressed = gzip(randomText(10_000));
+
+        assertThatThrownBy(() -> decompress(Arrays.copyOf(compressed, compressed.length - 4)))
+            .isInstanceOf(EOFException.class);
+    }
+
+    @Test
+    public void read_corruptTrailer_throwsException() throws IOException {
+        byte[] compressed = gzip(randomText(10_000));
+        compressed[compressed.length - 8] ^= 1;
+
+        assertThatThrownBy(() -> decompress(compressed)).isInstanceOf(ZipException.class)
+                                                        .hasMessageContaining("CRC32");
+    }
+
+    @Test
+    public void read_afterClose_throwsException() throws IOException {
+        InputStream in = new GzipDecompressingInputStream(new ByteArrayInputStream(gzip(randomText(10))));
+        in.close();
+        in.close();
+
+        assertThatThrownBy(in::read).isInstanceOf(IOException.class);
+    }
+
+    private static byte[] decompress(byte[] compressed) throws IOException {
+        try (InputStream in = new GzipDecompressingInputStream(new ByteArrayInputStream(compressed))) {
+            return IoUtils.toByteArray(in);
+        }
+    }
+
+    private static byte[] gzip(byte[] content) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(content);
+        }
+        return out.toByteArray();
+    }
+
+    private static byte[] randomText(int length) {
+        Random random = new Random(length);
+        byte[] content = new byte[length];
+        for (int i = 0; i < length; i++) {
+            content[i] = (byte) ('a' + random.nextInt(8));
+        }
+        return content;
+    }
+
+    private static byte[] concat(byte[] first, byte[] second) {
+        byte[] result = Arrays.copyOf(first, first.length + second.length);
+        System.arraycopy(second, 0, result, first.length, second.length);
+        return result;
+    }
+}
@@ -0,0 +1,67 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.internal.retry;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import org.junit.Test;
+
+public class LatencyHistogramTest {
+
+    @Test
+    public void percentile_tooFewSamples_returnsEmpty() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        record(histogram, Duration.ofMillis(5), LatencyHistogram.MINIMUM_SAMPLES - 1);
+
+        assertThat(histogram.percentile(95)).isEmpty();
+    }
+
+    @Test
+    public void percentile_returnsUpperBoundOfBucket() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        record(histogram, Duration.ofMillis(5), 90);
+        record(histogram, Duration.ofMillis(200), 10);
+
+        assertThat(histogram.percentile(50).get()).isBetween(Duration.ofMillis(5), Duration.ofMillis(6));
+        assertThat(histogram.percentile(90).get()).isBetween(Duration.ofMillis(5), Duration.ofMillis(6));
+        assertThat(histogram.percentile(95).get()).isBetween(Duration.ofMillis(200), Duration.ofMillis(240));
+    }
+
+    @Test
+    public void percentile_recentSamplesOutweighOlderSamples() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        record(histogram, Duration.ofMillis(200), LatencyHistogram.DECAY_INTERVAL);
+        record(histogram, Duration.ofMillis(5), 4 * LatencyHistogram.DECAY_INTERVAL);
+
+        assertThat(histogram.percentile(95).get()).isBetween(Duration.ofMillis(5), Duration.ofMillis(6));
+    }
+
+    @Test
+    public void bucketUpperBound_isAboveAllValuesOfBucket() {
+        for (long micros = 4; micros < 100_000; micros++) {
+            int index = LatencyHistogram.bucketIndex(micros);
+            assertThat(LatencyHistogram.bucketUpperBound(index)).isGreaterThan(micros);
+            assertThat(index == 0 || LatencyHistogram.bucketUpperBound(index - 1) <= micros).isTrue();
+        }
+    }
+
+    private static void record(LatencyHistogram histogram, Duration latency, int times) {
+        for (int i = 0; i < times; i++) {
+            histogram.record(latency);
+        }
+    }
+}
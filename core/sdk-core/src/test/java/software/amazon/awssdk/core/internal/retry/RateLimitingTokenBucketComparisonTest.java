@@ -0,0 +1,176 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.internal.retry;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.OptionalDouble;
+import java.util.Random;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.assertj.core.data.Offset;
+import org.junit.Test;
+
+/**
+ * Checks that the lock-free {@link RateLimitingTokenBucket} behaves like the original monitor-based implementation,
+ * {@link ReferenceRateLimitingTokenBucket}, and that concurrent updates are not lost.
+ */
+public class RateLimitingTokenBucketComparisonTest {
+    private static final Offset<Double> EPSILON = Offset.offset(1E-9);
+
+    @Test
+    public void randomOperations_matchReferenceImplementation() {
+        for (long seed = 0; seed < 20; seed++) {
+            Random random = new Random(seed);
+            TestClock clock = new TestClock();
+            RateLimitingTokenBucket bucket = new RateLimitingTokenBucket(clock);
+            ReferenceRateLimitingTokenBucket reference = new ReferenceRateLimitingTokenBucket(clock);
+
+            for (int i = 0; i < 2_000; i++) {
+                clock.time += random.nextDouble() * 0.2;
+
+                int operation = random.nextInt(10);
+                if (operation < 4) {
+                    double amount = random.nextInt(3) + 1;
+                    boolean fastFail = random.nextBoolean();
+                    assertSameWaitTime(bucket.acquireNonBlocking(amount, fastFail),
+                                       reference.acquireNonBlocking(amount, fastFail));
+                } else {
+                    boolean throttled = operation == 9;
+                    bucket.updateClientSendingRate(throttled);
+                    reference.updateClientSendingRate(throttled);
+                    assertThat(bucket.getFillRate()).isCloseTo(reference.getFillRate(), EPSILON);
+                    assertThat(bucket.getMeasuredTxRate()).isCloseTo(reference.getMeasuredTxRate(), EPSILON);
+                }
+                assertThat(bucket.getCurrentCapacity()).isCloseTo(reference.getCurrentCapacity(), EPSILON);
+            }
+        }
+    }
+
+    @Test
+    public void concurrentUpdates_noRequestsLostFromMeasuredRate() throws Exception {
+        int threads = 8;
+        int updatesPerThread = 5_000;
+        TestClock clock = new TestClock();
+        RateLimitingTokenBucket bucket = new RateLimitingTokenBucket(clock);
+        ReferenceRateLimitingTokenBucket reference = new ReferenceRateLimitingTokenBucket(clock);
+
+        clock.time = 0.1;
+        runConcurrently(threads, () -> {
+            for (int i = 0; i < updatesPerThread; i++) {
+                bucket.updateClientSendingRate(false);
+            }
+        });
+        for (int i = 0; i < threads * updatesPerThread; i++) {
+            reference.updateClientSendingRate(false);
+        }
+
+        // Moving to the next time bucket computes the measured rate from the number of requests counted in the previous one
+        clock.time = 0.6;
+        bucket.updateClientSendingRate(false);
+        reference.updateClientSendingRate(false);
+
+        assertThat(bucket.getMeasuredTxRate()).isCloseTo(reference.getMeasuredTxRate(), EPSILON);
+        assertThat(bucket.getFillRate()).isCloseTo(reference.getFillRate(), EPSILON);
+    }
+
+    @Test
+    public void concurrentFastFailAcquires_acquireExactlyTheAvailableCapacity() throws Exception {
+        int threads = 8;
+        TestClock clock = new TestClock();
+        RateLimitingTokenBucket bucket = new RateLimitingTokenBucket(clock);
+
+        // Measure a high sending rate, then throttle to enable the bucket and let it fill up
+        clock.time = 0.1;
+        for (int i = 0; i < 2_000; i++) {
+            bucket.updateClientSendingRate(false);
+        }
+        clock.time = 0.6;
+        bucket.updateClientSendingRate(true);
+        clock.time = 10.0;
+        bucket.refill();
+
+        // The clock is stopped, so no capacity is refilled while the threads compete for it
+        double capacity = bucket.getCurrentCapacity();
+        assertThat(capacity).isGreaterThan(1_000.0);
+
+        AtomicInteger acquired = new AtomicInteger();
+        runConcurrently(threads, () -> {
+            for (int i = 0; i < 500; i++) {
+                if (bucket.acquire(1.0, true)) {
+                    acquired.incrementAndGet();
+                }
+            }
+        });
+
+        assertThat(acquired.get()).isEqualTo((int) Math.floor(capacity));
+        assertThat(bucket.getCurrentCapacity()).isCloseTo(capacity - Math.floor(capacity), EPSILON);
+    }
+
+    @Test
+    public void notEnabled_acquireDoesNotChangeState() {
+        TestClock clock = new TestClock();
+        RateLimitingTokenBucket bucket = new RateLimitingTokenBucket(clock);
+        bucket.setCurrentCapacity(5.0);
+
+        clock.time = 10.0;
+
+        assertThat(bucket.acquireNonBlocking(100.0, true)).hasValue(0.0);
+        assertThat(bucket.getCurrentCapacity()).isEqualTo(5.0);
+    }
+
+    private static void assertSameWaitTime(OptionalDouble actual, OptionalDouble expected) {
+        assertThat(actual.isPresent()).isEqualTo(expected.isPresent());
+        if (expected.isPresent()) {
+            assertThat(actual.getAsDouble()).isCloseTo(expected.getAsDouble(), EPSILON);
+        }
+    }
+
+    private static void runConcurrently(int threads, Runnable task) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            CyclicBarrier start = new CyclicBarrier(threads);
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    task.run();
+                    return null;
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    private static class TestClock implements RateLimitingTokenBucket.Clock {
+        private volatile double time;
+
+        @Override
+        public double time() {
+            return time;
+        }
+    }
+}
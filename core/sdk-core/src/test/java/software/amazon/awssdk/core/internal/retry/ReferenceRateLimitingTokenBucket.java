@@ -0,0 +1,138 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.internal.retry;
+
+import java.util.OptionalDouble;
+
+/**
+ * The original, monitor-based implementation of the adaptive retry mode token bucket, kept to check that
+ * {@link RateLimitingTokenBucket} computes the same rates and wait times.
+ */
+class ReferenceRateLimitingTokenBucket {
+    private static final double MIN_FILL_RATE = 0.5;
+    private static final double MIN_CAPACITY = 1.0;
+
+    private static final double SMOOTH = 0.8;
+    private static final double BETA = 0.7;
+    private static final double SCALE_CONSTANT = 0.4;
+
+    private final RateLimitingTokenBucket.Clock clock;
+
+    private Double fillRate;
+    private Double maxCapacity;
+    private double currentCapacity;
+    private Double lastTimestamp;
+    private boolean enabled;
+    private double measuredTxRate;
+    private double lastTxRateBucket;
+    private long requestCount;
+    private double lastMaxRate;
+    private double lastThrottleTime;
+
+    private double timeWindow;
+
+    ReferenceRateLimitingTokenBucket(RateLimitingTokenBucket.Clock clock) {
+        this.clock = clock;
+        currentCapacity = 0.0;
+        lastTxRateBucket = Math.floor(clock.time());
+        lastThrottleTime = clock.time();
+    }
+
+    synchronized OptionalDouble acquireNonBlocking(double amount, boolean fastFail) {
+        if (!enabled) {
+            return OptionalDouble.of(0.0);
+        }
+
+        refill();
+
+        double originalCapacity = currentCapacity;
+        double unfulfilled;
+        if (amount <= currentCapacity) {
+            currentCapacity = currentCapacity - amount;
+            unfulfilled = 0;
+        } else {
+            unfulfilled = amount - currentCapacity;
+            currentCapacity = 0;
+        }
+
+        if (unfulfilled > 0.0 && fastFail) {
+            currentCapacity = originalCapacity;
+            return OptionalDouble.empty();
+        }
+
+        return OptionalDouble.of(unfulfilled > 0 ? unfulfilled / fillRate : 0.0);
+    }
+
+    synchronized void updateClientSendingRate(boolean throttlingResponse) {
+        double t = clock.time();
+        double timeBucket = Math.floor(t * 2) / 2;
+        requestCount = requestCount + 1;
+        if (timeBucket > lastTxRateBucket) {
+            double currentRate = requestCount / (timeBucket - lastTxRateBucket);
+            measuredTxRate = (currentRate * SMOOTH) + (measuredTxRate * (1 - SMOOTH));
+            requestCount = 0;
+            lastTxRateBucket = timeBucket;
+        }
+
+        double calculatedRate;
+        if (throttlingResponse) {
+            double rateToUse = enabled ? Math.min(measuredTxRate, fillRate) : measuredTxRate;
+
+            lastMaxRate = rateToUse;
+            calculateTimeWindow();
+            lastThrottleTime = clock.time();
+            calculatedRate = rateToUse * BETA;
+            enabled = true;
+        } else {
+            calculateTimeWindow();
+            calculatedRate = SCALE_CONSTANT * Math.pow(clock.time() - lastThrottleTime - timeWindow, 3) + lastMaxRate;
+        }
+
+        double newRate = Math.min(calculatedRate, 2 * measuredTxRate);
+        refill();
+        fillRate = Math.max(newRate, MIN_FILL_RATE);
+        maxCapacity = Math.max(newRate, MIN_CAPACITY);
+        currentCapacity = Math.min(currentCapacity, maxCapacity);
+    }
+
+    synchronized double getFillRate() {
+        return fillRate;
+    }
+
+    synchronized double getMeasuredTxRate() {
+        return measuredTxRate;
+    }
+
+    synchronized double getCurrentCapacity() {
+        return currentCapacity;
+    }
+
+    private void refill() {
+        double timestamp = clock.time();
+        if (lastTimestamp == null) {
+            lastTimestamp = timestamp;
+            return;
+        }
+
+        double fillAmount = (timestamp - lastTimestamp) * fillRate;
+        currentCapacity = Math.min(maxCapacity, currentCapacity + fillAmount);
+        lastTimestamp = timestamp;
+    }
+
+    private void calculateTimeWindow() {
+        timeWindow = Math.pow((lastMaxRate * (1 - BETA)) / SCALE_CONSTANT, 1.0 / 3);
+    }
+}
@@ -0,0 +1,138 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.Test;
+
+public class LazySdkListTest {
+
+    private static final List<String> ELEMENTS = Collections.unmodifiableList(Arrays.asList("a", "b", "c"));
+
+    @Test
+    public void create_doesNotComputeElements() {
+        AtomicInteger calls = new AtomicInteger();
+        LazySdkList.create(() -> {
+            calls.incrementAndGet();
+            return ELEMENTS;
+        });
+
+        assertThat(calls).hasValue(0);
+    }
+
+    @Test
+    public void access_computesElementsOnce() {
+        AtomicInteger calls = new AtomicInteger();
+        List<String> list = LazySdkList.create(() -> {
+            calls.incrementAndGet();
+            return ELEMENTS;
+        });
+
+        assertThat(list).containsExactly("a", "b", "c");
+        assertThat(list.get(1)).isEqualTo("b");
+        assertThat(calls).hasValue(1);
+    }
+
+    @Test
+    public void equalsAndHashCode_sameAsElements() {
+        List<String> list = LazySdkList.create(() -> ELEMENTS);
+
+        assertThat(list).isEqualTo(new ArrayList<>(ELEMENTS));
+        assertThat(new ArrayList<>(ELEMENTS)).isEqualTo(list);
+        assertThat(list.hashCode()).isEqualTo(ELEMENTS.hashCode());
+        assertThat(list.toString()).isEqualTo(ELEMENTS.toString());
+    }
+
+    @Test
+    public void modification_throws() {
+        List<String> list = LazySdkList.create(() -> ELEMENTS);
+
+        assertThatThrownBy(() -> list.add("d")).isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    @Test
+    public void copyLazily_defersCopier() {
+        AtomicInteger copies = new AtomicInteger();
+        List<String> list = LazySdkList.create(() -> ELEMENTS);
+
+        List<String> copy = LazySdkList.copyLazily(list, c -> {
+            copies.incrementAndGet();
+            return Collections.unmodifiableList(new ArrayList<>(c));
+        });
+
+        assertThat(copy).isInstanceOf(LazySdkList.class);
+        assertThat(copies).hasValue(0);
+        assertThat(copy).isEqualTo(ELEMENTS);
+        assertThat(copies).hasValue(1);
+    }
+
+    @Test
+    public void serialization_serializesElements() throws Exception {
+        List<String> list = LazySdkList.create(() -> ELEMENTS);
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(list);
+        }
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            assertThat(in.readObject()).isEqualTo(ELEMENTS);
+        }
+    }
+
+    @Test(timeout = 10_000)
+    public void readerWaitingForSupplier_parksRatherThanBlocksOnMonitor() throws Exception {
+        CountDownLatch supplierStarted = new CountDownLatch(1);
+        CountDownLatch finishSupplier = new CountDownLatch(1);
+        List<String> list = LazySdkList.create(() -> {
+            supplierStarted.countDown();
+            try {
+                finishSupplier.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return ELEMENTS;
+        });
+
+        Thread computing = new Thread(list::size);
+        computing.start();
+        supplierStarted.await();
+
+        Thread waiting = new Thread(list::size);
+        waiting.start();
+        while (waiting.getState() == Thread.State.NEW || waiting.getState() == Thread.State.RUNNABLE) {
+            Thread.sleep(1);
+        }
+
+        // A virtual thread that is BLOCKED on a monitor pins its carrier thread, while a WAITING one is unmounted from it
+        assertThat(waiting.getState()).isEqualTo(Thread.State.WAITING);
+        finishSupplier.countDown();
+        computing.join();
+        waiting.join();
+        assertThat(list).containsExactly("a", "b", "c");
+    }
+}
@@ -0,0 +1,99 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.Test;
+
+public class LazySdkMapTest {
+
+    private static final Map<String, String> ENTRIES;
+
+    static {
+        Map<String, String> entries = new HashMap<>();
+        entries.put("a", "1");
+        entries.put("b", "2");
+        ENTRIES = Collections.unmodifiableMap(entries);
+    }
+
+    @Test
+    public void access_computesEntriesOnce() {
+        AtomicInteger calls = new AtomicInteger();
+        Map<String, String> map = LazySdkMap.create(() -> {
+            calls.incrementAndGet();
+            return ENTRIES;
+        });
+
+        assertThat(calls).hasValue(0);
+        assertThat(map).containsEntry("a", "1").hasSize(2);
+        assertThat(map).isEqualTo(ENTRIES);
+        assertThat(calls).hasValue(1);
+    }
+
+    @Test
+    public void copyLazily_defersCopier() {
+        AtomicInteger copies = new AtomicInteger();
+        Map<String, String> map = LazySdkMap.create(() -> ENTRIES);
+
+        Map<String, String> copy = LazySdkMap.copyLazily(map, m -> {
+            copies.incrementAndGet();
+            return Collections.unmodifiableMap(new HashMap<>(m));
+        });
+
+        assertThat(copy).isInstanceOf(LazySdkMap.class);
+        assertThat(copies).hasValue(0);
+        assertThat(copy).isEqualTo(ENTRIES);
+        assertThat(copies).hasValue(1);
+    }
+
+    @Test(timeout = 10_000)
+    public void readerWaitingForSupplier_parksRatherThanBlocksOnMonitor() throws Exception {
+        CountDownLatch supplierStarted = new CountDownLatch(1);
+        CountDownLatch finishSupplier = new CountDownLatch(1);
+        Map<String, String> map = LazySdkMap.create(() -> {
+            supplierStarted.countDown();
+            try {
+                finishSupplier.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return ENTRIES;
+        });
+
+        Thread computing = new Thread(map::size);
+        computing.start();
+        supplierStarted.await();
+
+        Thread waiting = new Thread(map::size);
+        waiting.start();
+        while (waiting.getState() == Thread.State.NEW || waiting.getState() == Thread.State.RUNNABLE) {
+            Thread.sleep(1);
+        }
+
+        // A virtual thread that is BLOCKED on a monitor pins its carrier thread, while a WAITING one is unmounted from it
+        assertThat(waiting.getState()).isEqualTo(Thread.State.WAITING);
+        finishSupplier.countDown();
+        computing.join();
+        waiting.join();
+        assertThat(map).isEqualTo(ENTRIES);
+    }
+}
@@ -23,7 +23,6 @@ import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
-import java.util.TreeMap;
 import java.util.function.Consumer;
 import software.amazon.awssdk.annotations.Immutable;
 import software.amazon.awssdk.annotations.SdkInternalApi;
@@ -46,7 +45,7 @@ final class DefaultSdkHttpFullRequest implements SdkHttpFullRequest {
     private final String path;
     private final Map<String, List<String>> queryParameters;
     private final SdkHttpMethod httpMethod;
-    private final Map<String, List<String>> headers;
+    private final SdkHttpHeaderMap headers;
     private final ContentStreamProvider contentStreamProvider;
 
     private DefaultSdkHttpFullRequest(Builder builder) {
@@ -60,9 +59,7 @@ final class DefaultSdkHttpFullRequest implements SdkHttpFullRequest {
         this.queryParameters = builder.queryParametersAreFromToBuilder
                                ? builder.queryParameters
                                : deepUnmodifiableMap(builder.queryParameters, () -> new LinkedHashMap<>());
-        this.headers = builder.headersAreFromToBuilder
-                       ? builder.headers
-                       : deepUnmodifiableMap(builder.headers, () -> new TreeMap<>(String.CASE_INSENSITIVE_ORDER));
+        this.headers = builder.shareHeaders();
     }
 
     private String standardizeProtocol(String protocol) {
@@ -175,7 +172,7 @@ final class DefaultSdkHttpFullRequest implements SdkHttpFullRequest {
 
         private SdkHttpMethod httpMethod;
 
-        private boolean headersAreFromToBuilder;
+        private boolean headersAreShared;
         private Map<String, List<String>> headers;
 
         private ContentStreamProvider contentStreamProvider;
@@ -184,14 +181,14 @@ final class DefaultSdkHttpFullRequest implements SdkHttpFullRequest {
             queryParameters = new LinkedHashMap<>();
             queryParametersAreFromToBuilder = false;
             headers = new LinkedHashMap<>();
-            headersAreFromToBuilder = false;
+            headersAreShared = false;
         }
 
         Builder(DefaultSdkHttpFullRequest request) {
             queryParameters = request.queryParameters;
             queryParametersAreFromToBuilder = true;
             headers = request.headers;
-            headersAreFromToBuilder = true;
+            headersAreShared = true;
             protocol = request.protocol;
             host = request.host;
             port = request.port;
@@ -312,14 +309,19 @@ final class DefaultSdkHttpFullRequest implements SdkHttpFullRequest {
         @Override
         public SdkHttpFullRequest.Builder appendHeader(String headerName, String headerValue) {
             copyHeadersIfNeeded();
-            this.headers.computeIfAbsent(headerName, k -> new ArrayList<>()).add(headerValue);
+            List<String> headerValues = this.headers.get(headerName);
+            if (headerValues == null || SdkHttpHeaderMap.isShared(headerValues)) {
+                headerValues = headerValues == null ? new ArrayList<>() : new ArrayList<>(headerValues);
+                this.headers.put(headerName, headerValues);
+            }
+            headerValues.add(headerValue);
             return this;
         }
 
         @Override
         public DefaultSdkHttpFullRequest.Builder headers(Map<String, List<String>> headers) {
             this.headers = CollectionUtils.deepCopyMap(headers);
-            headersAreFromToBuilder = false;
+            headersAreShared = false;
             return this;
         }
 
@@ -333,7 +335,7 @@ final class DefaultSdkHttpFullRequest implements SdkHttpFullRequest {
         @Override
         public SdkHttpFullRequest.Builder clearHeaders() {
             this.headers = new LinkedHashMap<>();
-            headersAreFromToBuilder = false;
+            headersAreShared = false;
             return this;
         }
 
@@ -342,11 +344,27 @@ final class DefaultSdkHttpFullRequest implements SdkHttpFullRequest {
             return CollectionUtils.unmodifiableMapOfLists(this.headers);
         }
 
+        /**
+         * Called before the headers are modified. If they are shared with a built request, make a copy of the map for this
+         * builder. The value lists are still shared: they are copied individually if they are appended to.
+         */
         private void copyHeadersIfNeeded() {
-            if (headersAreFromToBuilder) {
-                headersAreFromToBuilder = false;
-                this.headers = deepCopyMap(headers);
+            if (headersAreShared) {
+                headersAreShared = false;
+                this.headers = new LinkedHashMap<>(headers);
+            }
+        }
+
+        /**
+         * Hand the headers of this builder over to the request being built. The builder keeps referencing them, and copies
+         * them if it is modified afterwards.
+         */
+        private SdkHttpHeaderMap shareHeaders() {
+            if (!headersAreShared) {
+                headers = SdkHttpHeaderMap.adopt(headers);
+                headersAreShared = true;
             }
+            return (SdkHttpHeaderMap) headers;
         }
 
         @Override
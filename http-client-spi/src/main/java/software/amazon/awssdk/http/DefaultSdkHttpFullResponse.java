@@ -15,9 +15,6 @@
 
 package software.amazon.awssdk.http;
 
-import static software.amazon.awssdk.utils.CollectionUtils.deepCopyMap;
-import static software.amazon.awssdk.utils.CollectionUtils.deepUnmodifiableMap;
-
 import java.beans.Transient;
 import java.io.Serializable;
 import java.util.ArrayList;
@@ -26,7 +23,6 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.TreeMap;
 import software.amazon.awssdk.annotations.Immutable;
 import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.utils.CollectionUtils;
@@ -44,15 +40,13 @@ class DefaultSdkHttpFullResponse implements SdkHttpFullResponse, Serializable {
 
     private final String statusText;
     private final int statusCode;
-    private final Map<String, List<String>> headers;
+    private final SdkHttpHeaderMap headers;
     private final transient AbortableInputStream content;
 
     private DefaultSdkHttpFullResponse(Builder builder) {
         this.statusCode = Validate.isNotNegative(builder.statusCode, "Status code must not be negative.");
         this.statusText = builder.statusText;
-        this.headers = builder.headersAreFromToBuilder
-                       ? builder.headers
-                       : deepUnmodifiableMap(builder.headers, () -> new TreeMap<>(String.CASE_INSENSITIVE_ORDER));
+        this.headers = builder.shareHeaders();
         this.content = builder.content;
     }
 
@@ -112,11 +106,11 @@ class DefaultSdkHttpFullResponse implements SdkHttpFullResponse, Serializable {
         private int statusCode;
         private AbortableInputStream content;
 
-        private boolean headersAreFromToBuilder;
+        private boolean headersAreShared;
         private Map<String, List<String>> headers;
 
         Builder() {
-            headersAreFromToBuilder = false;
+            headersAreShared = false;
             headers = new LinkedHashMap<>();
         }
 
@@ -124,7 +118,7 @@ class DefaultSdkHttpFullResponse implements SdkHttpFullResponse, Serializable {
             statusText = defaultSdkHttpFullResponse.statusText;
             statusCode = defaultSdkHttpFullResponse.statusCode;
             content = defaultSdkHttpFullResponse.content;
-            headersAreFromToBuilder = true;
+            headersAreShared = true;
             headers = defaultSdkHttpFullResponse.headers;
         }
 
@@ -175,7 +169,12 @@ class DefaultSdkHttpFullResponse implements SdkHttpFullResponse, Serializable {
             Validate.paramNotNull(headerName, "headerName");
             Validate.paramNotNull(headerValue, "headerValue");
             copyHeadersIfNeeded();
-            this.headers.computeIfAbsent(headerName, k -> new ArrayList<>()).add(headerValue);
+            List<String> headerValues = this.headers.get(headerName);
+            if (headerValues == null || SdkHttpHeaderMap.isShared(headerValues)) {
+                headerValues = headerValues == null ? new ArrayList<>() : new ArrayList<>(headerValues);
+                this.headers.put(headerName, headerValues);
+            }
+            headerValues.add(headerValue);
             return this;
         }
 
@@ -183,7 +182,7 @@ class DefaultSdkHttpFullResponse implements SdkHttpFullResponse, Serializable {
         public Builder headers(Map<String, List<String>> headers) {
             Validate.paramNotNull(headers, "headers");
             this.headers = CollectionUtils.deepCopyMap(headers);
-            headersAreFromToBuilder = false;
+            headersAreShared = false;
             return this;
         }
 
@@ -197,7 +196,7 @@ class DefaultSdkHttpFullResponse implements SdkHttpFullResponse, Serializable {
         @Override
         public Builder clearHeaders() {
             this.headers = new LinkedHashMap<>();
-            headersAreFromToBuilder = false;
+            headersAreShared = false;
             return this;
         }
 
@@ -206,11 +205,27 @@ class DefaultSdkHttpFullResponse implements SdkHttpFullResponse, Serializable {
             return CollectionUtils.unmodifiableMapOfLists(this.headers);
         }
 
+        /**
+         * Called before the headers are modified. If they are shared with a built response, make a copy of the map for this
+         * builder. The value lists are still shared: they are copied individually if they are appended to.
+         */
         private void copyHeadersIfNeeded() {
-            if (headersAreFromToBuilder) {
-                headersAreFromToBuilder = false;
-                this.headers = deepCopyMap(headers);
+            if (headersAreShared) {
+                headersAreShared = false;
+                this.headers = new LinkedHashMap<>(headers);
+            }
+        }
+
+        /**
+         * Hand the headers of this builder over to the response being built. The builder keeps referencing them, and copies
+         * them if it is modified afterwards.
+         */
+        private SdkHttpHeaderMap shareHeaders() {
+            if (!headersAreShared) {
+                headers = SdkHttpHeaderMap.adopt(headers);
+                headersAreShared = true;
             }
+            return (SdkHttpHeaderMap) headers;
         }
 
         /**
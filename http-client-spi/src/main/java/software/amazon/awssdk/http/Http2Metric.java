@@ -15,6 +15,7 @@
 
 package software.amazon.awssdk.http;
 
+import java.time.Duration;
 import software.amazon.awssdk.annotations.SdkPublicApi;
 import software.amazon.awssdk.metrics.MetricCategory;
 import software.amazon.awssdk.metrics.MetricLevel;
@@ -42,6 +43,21 @@ public final class Http2Metric {
     public static final SdkMetric<Integer> REMOTE_STREAM_WINDOW_SIZE_IN_BYTES =
         metric("RemoteStreamWindowSize", Integer.class, MetricLevel.TRACE);
 
+    /**
+     * The smoothed round-trip time of the HTTP/2 connection that this request was executed on, as measured with PING frames.
+     * This is only reported when window auto-tuning is enabled.
+     */
+    public static final SdkMetric<Duration> CONNECTION_ROUND_TRIP_TIME =
+        metric("ConnectionRoundTripTime", Duration.class, MetricLevel.TRACE);
+
+    /**
+     * The number of HTTP/2 connections to the host of this request that were saturated when the request was executed. A
+     * connection is saturated when flow control or congestion limit its throughput, which makes the client place new streams
+     * on other connections, or open a new one. This is only reported when window auto-tuning is enabled.
+     */
+    public static final SdkMetric<Integer> SATURATED_CONNECTIONS =
+        metric("SaturatedConnections", Integer.class, MetricLevel.TRACE);
+
     private Http2Metric() {
     }
 
@@ -15,6 +15,7 @@
 
 package software.amazon.awssdk.http;
 
+import java.time.Duration;
 import software.amazon.awssdk.annotations.SdkPublicApi;
 import software.amazon.awssdk.metrics.MetricCategory;
 import software.amazon.awssdk.metrics.MetricLevel;
@@ -96,6 +97,15 @@ public final class HttpMetric {
     public static final SdkMetric<Integer> PENDING_CONCURRENCY_ACQUIRES =
         metric("PendingConcurrencyAcquires", Integer.class, MetricLevel.INFO);
 
+    /**
+     * The time taken to acquire a connection (for HTTP/1 operations) or a stream (for HTTP/2 operations) from the HTTP client,
+     * including the time taken to establish a new connection if none could be reused.
+     *
+     * <p>Note: This is currently only reported by 'AwsCommonRuntime'.
+     */
+    public static final SdkMetric<Duration> CONCURRENCY_ACQUIRE_DURATION =
+        metric("ConcurrencyAcquireDuration", Duration.class, MetricLevel.INFO);
+
     /**
      * The status code of the HTTP response.
      *
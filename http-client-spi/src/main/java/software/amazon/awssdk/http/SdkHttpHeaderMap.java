@@ -0,0 +1,310 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http;
+
+import java.io.Serializable;
+import java.util.AbstractList;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Optional;
+import java.util.RandomAccess;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import software.amazon.awssdk.annotations.Immutable;
+import software.amazon.awssdk.annotations.SdkProtectedApi;
+import software.amazon.awssdk.utils.StringUtils;
+
+/**
+ * An immutable map of HTTP headers, whose keys are compared case-insensitively.
+ * <p>
+ * This behaves like an unmodifiable {@code TreeMap<>(String.CASE_INSENSITIVE_ORDER)} of unmodifiable lists, which is what
+ * {@link SdkHttpHeaders#headers()} used to return, but is cheaper to create and to read: the headers are kept in two sorted
+ * arrays, lookups are a binary search that does not allocate, and the lower-case name of each header is computed once, so
+ * that signers can canonicalize the headers without lower-casing and sorting them again (see
+ * {@link #forEachLowerCase(BiConsumer)}).
+ * <p>
+ * If the same header is present more than once with different cases, the name of the first one is kept with the values
+ * of the last one, like {@link java.util.TreeMap#put}.
+ */
+@SdkProtectedApi
+@Immutable
+public final class SdkHttpHeaderMap extends AbstractMap<String, List<String>> implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private static final SdkHttpHeaderMap EMPTY = new SdkHttpHeaderMap(new String[0], new String[0], newValueArray(0));
+
+    private static final Comparator<Map.Entry<String, ?>> NAME_ORDER =
+        (a, b) -> String.CASE_INSENSITIVE_ORDER.compare(a.getKey(), b.getKey());
+
+    private final String[] names;
+    private final String[] lowerCaseNames;
+    private final List<String>[] values;
+
+    private transient Set<Map.Entry<String, List<String>>> entrySet;
+
+    private SdkHttpHeaderMap(String[] names, String[] lowerCaseNames, List<String>[] values) {
+        this.names = names;
+        this.lowerCaseNames = lowerCaseNames;
+        this.values = values;
+    }
+
+    /**
+     * @return An empty header map.
+     */
+    public static SdkHttpHeaderMap empty() {
+        return EMPTY;
+    }
+
+    /**
+     * Create a header map containing a copy of the provided headers. If the provided headers are already a
+     * {@link SdkHttpHeaderMap}, they are returned as-is.
+     */
+    public static SdkHttpHeaderMap copyOf(Map<String, ? extends List<String>> headers) {
+        if (headers instanceof SdkHttpHeaderMap) {
+            return (SdkHttpHeaderMap) headers;
+        }
+        return create(headers, true);
+    }
+
+    /**
+     * Create a header map that takes ownership of the value lists of the provided headers, instead of copying them. Used by
+     * the request and response builders, which hand their lists over to the object they build and copy them again only if
+     * they are modified afterwards (see {@link #isShared(List)}).
+     */
+    static SdkHttpHeaderMap adopt(Map<String, List<String>> headers) {
+        if (headers instanceof SdkHttpHeaderMap) {
+            return (SdkHttpHeaderMap) headers;
+        }
+        return create(headers, false);
+    }
+
+    /**
+     * Whether the provided value list belongs to a {@link SdkHttpHeaderMap}, and must therefore be copied before it is
+     * modified.
+     */
+    static boolean isShared(List<String> headerValues) {
+        return headerValues instanceof HeaderValues;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static SdkHttpHeaderMap create(Map<String, ? extends List<String>> headers, boolean copyValues) {
+        if (headers.isEmpty()) {
+            return EMPTY;
+        }
+
+        Map.Entry<String, ? extends List<String>>[] entries = headers.entrySet().toArray(new Map.Entry[0]);
+        // The sort is stable, so duplicate names stay in insertion order.
+        Arrays.sort(entries, NAME_ORDER);
+
+        String[] names = new String[entries.length];
+        String[] lowerCaseNames = new String[entries.length];
+        List<String>[] values = newValueArray(entries.length);
+        int size = 0;
+        for (Map.Entry<String, ? extends List<String>> entry : entries) {
+            List<String> headerValues = entry.getValue();
+            if (copyValues) {
+                headerValues = new HeaderValues(new ArrayList<>(headerValues));
+            } else if (!isShared(headerValues)) {
+                headerValues = new HeaderValues(headerValues);
+            }
+
+            if (size > 0 && String.CASE_INSENSITIVE_ORDER.compare(names[size - 1], entry.getKey()) == 0) {
+                values[size - 1] = headerValues;
+                continue;
+            }
+            names[size] = entry.getKey();
+            lowerCaseNames[size] = StringUtils.lowerCase(entry.getKey());
+            values[size] = headerValues;
+            size++;
+        }
+
+        if (size < entries.length) {
+            names = Arrays.copyOf(names, size);
+            lowerCaseNames = Arrays.copyOf(lowerCaseNames, size);
+            values = Arrays.copyOf(values, size);
+        }
+        return new SdkHttpHeaderMap(names, lowerCaseNames, values);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<String>[] newValueArray(int size) {
+        return new List[size];
+    }
+
+    private int indexOf(Object name) {
+        if (!(name instanceof String)) {
+            return -1;
+        }
+
+        int low = 0;
+        int high = names.length - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            int comparison = String.CASE_INSENSITIVE_ORDER.compare(names[mid], (String) name);
+            if (comparison < 0) {
+                low = mid + 1;
+            } else if (comparison > 0) {
+                high = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Retrieve the first value of the provided header, compared case-insensitively.
+     *
+     * <p>This is equivalent to {@link software.amazon.awssdk.utils.http.SdkHttpUtils#firstMatchingHeader(Map, String)}, without
+     * scanning every header.</p>
+     */
+    public Optional<String> firstValue(String name) {
+        int index = indexOf(name);
+        if (index < 0 || values[index].isEmpty()) {
+            return Optional.empty();
+        }
+        return Optional.of(values[index].get(0));
+    }
+
+    /**
+     * Invoke the provided consumer with the lower-case name and the values of each header, in the lexicographic order of the
+     * lower-case names. This is the order in which headers appear in a SigV4 canonical request.
+     */
+    public void forEachLowerCase(BiConsumer<String, List<String>> consumer) {
+        for (int i = 0; i < names.length; i++) {
+            consumer.accept(lowerCaseNames[i], values[i]);
+        }
+    }
+
+    @Override
+    public int size() {
+        return names.length;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return names.length == 0;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return indexOf(key) >= 0;
+    }
+
+    @Override
+    public List<String> get(Object key) {
+        int index = indexOf(key);
+        return index < 0 ? null : values[index];
+    }
+
+    @Override
+    public void forEach(BiConsumer<? super String, ? super List<String>> action) {
+        for (int i = 0; i < names.length; i++) {
+            action.accept(names[i], values[i]);
+        }
+    }
+
+    @Override
+    public List<String> put(String key, List<String> value) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public List<String> remove(Object key) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void putAll(Map<? extends String, ? extends List<String>> m) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void clear() {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public Set<Map.Entry<String, List<String>>> entrySet() {
+        Set<Map.Entry<String, List<String>>> result = entrySet;
+        if (result == null) {
+            result = new EntrySet();
+            entrySet = result;
+        }
+        return result;
+    }
+
+    private final class EntrySet extends AbstractSet<Map.Entry<String, List<String>>> {
+        @Override
+        public Iterator<Map.Entry<String, List<String>>> iterator() {
+            return new Iterator<Map.Entry<String, List<String>>>() {
+                private int index = 0;
+
+                @Override
+                public boolean hasNext() {
+                    return index < names.length;
+                }
+
+                @Override
+                public Map.Entry<String, List<String>> next() {
+                    if (!hasNext()) {
+                        throw new NoSuchElementException();
+                    }
+                    Map.Entry<String, List<String>> entry = new SimpleImmutableEntry<>(names[index], values[index]);
+                    index++;
+                    return entry;
+                }
+            };
+        }
+
+        @Override
+        public int size() {
+            return names.length;
+        }
+    }
+
+    /**
+     * The unmodifiable values of a header. Lists of this type are only created by {@link SdkHttpHeaderMap}, which owns the
+     * list they wrap, so {@link #isShared(List)} can tell them apart from unmodifiable lists created by anyone else.
+     */
+    private static final class HeaderValues extends AbstractList<String> implements RandomAccess, Serializable {
+        private static final long serialVersionUID = 1L;
+
+        private final List<String> values;
+
+        private HeaderValues(List<String> values) {
+            this.values = values;
+        }
+
+        @Override
+        public String get(int index) {
+            return values.get(index);
+        }
+
+        @Override
+        public int size() {
+            return values.size();
+        }
+    }
+}
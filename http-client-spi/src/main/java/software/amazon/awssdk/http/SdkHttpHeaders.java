@@ -51,6 +51,10 @@ public interface SdkHttpHeaders {
      * @return The first header that matched the requested one, or empty if one was not found.
      */
     default Optional<String> firstMatchingHeader(String header) {
-        return SdkHttpUtils.firstMatchingHeader(headers(), header);
+        Map<String, List<String>> headers = headers();
+        if (headers instanceof SdkHttpHeaderMap) {
+            return ((SdkHttpHeaderMap) headers).firstValue(header);
+        }
+        return SdkHttpUtils.firstMatchingHeader(headers, header);
     }
 }
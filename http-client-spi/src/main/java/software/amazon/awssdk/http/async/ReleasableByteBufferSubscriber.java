@@ -0,0 +1,46 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.async;
+
+import java.nio.ByteBuffer;
+import java.util.function.Consumer;
+import org.reactivestreams.Subscriber;
+import software.amazon.awssdk.annotations.SdkProtectedApi;
+
+/**
+ * A {@link Subscriber} of response content that tells the publisher when it is done with each buffer it received, which
+ * allows an HTTP client to publish views over its own pooled I/O buffers instead of copying the content into new buffers.
+ * <p>
+ * An HTTP client that supports this calls {@link #onBufferReleaser(Consumer)} before {@link #onSubscribe}. From then on, every
+ * buffer passed to {@link #onNext} must be passed to the releaser exactly once, when the subscriber no longer reads it,
+ * including when the subscriber fails or is cancelled before it is done with the buffer. A buffer must not be read after it
+ * is released, because its memory may be reused for other content. The buffers are read-only.
+ * <p>
+ * HTTP clients that don't support this, or that are not configured to use it, never call {@link #onBufferReleaser(Consumer)},
+ * and publish buffers that the subscriber owns.
+ */
+@SdkProtectedApi
+public interface ReleasableByteBufferSubscriber extends Subscriber<ByteBuffer> {
+
+    /**
+     * Invoked by the publisher, before {@link #onSubscribe}, with the function that the buffers it publishes must be released
+     * with.
+     *
+     * @param releaser Releases a buffer previously passed to {@link #onNext}. Thread safe, and a no-op for buffers that did
+     * not come from this publisher.
+     */
+    void onBufferReleaser(Consumer<ByteBuffer> releaser);
+}
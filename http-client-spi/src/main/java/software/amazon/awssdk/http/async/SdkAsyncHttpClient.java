@@ -15,11 +15,14 @@
 
 package software.amazon.awssdk.http.async;
 
+import java.net.URI;
+import java.time.Duration;
 import java.util.concurrent.CompletableFuture;
 import software.amazon.awssdk.annotations.Immutable;
 import software.amazon.awssdk.annotations.SdkPublicApi;
 import software.amazon.awssdk.annotations.ThreadSafe;
 import software.amazon.awssdk.utils.AttributeMap;
+import software.amazon.awssdk.utils.CompletableFutureUtils;
 import software.amazon.awssdk.utils.SdkAutoCloseable;
 import software.amazon.awssdk.utils.builder.SdkBuilder;
 
@@ -58,6 +61,24 @@ public interface SdkAsyncHttpClient extends SdkAutoCloseable {
         return "UNKNOWN";
     }
 
+    /**
+     * Establish connections to an endpoint ahead of the requests to it, so that the first requests after the client is
+     * created don't have to wait for TCP and TLS handshakes.
+     *
+     * <p>The connections are opened concurrently and are returned to the connection pool once all of them are ready to be
+     * used. At most as many connections as the client allows to the endpoint are opened. Support for this is optional; the
+     * default implementation completes the returned future exceptionally with an {@link UnsupportedOperationException}.
+     *
+     * @param endpoint The endpoint to connect to. Only its scheme, host and port are used.
+     * @param connections The number of connections to establish.
+     * @return A future that is completed with the time it took to establish the connections once they are ready, or
+     * exceptionally if any of them could not be established.
+     */
+    default CompletableFuture<Duration> warmUp(URI endpoint, int connections) {
+        return CompletableFutureUtils.failedFuture(
+            new UnsupportedOperationException(clientName() + " does not support warming up connections."));
+    }
+
     @FunctionalInterface
     interface Builder<T extends SdkAsyncHttpClient.Builder<T>> extends SdkBuilder<T, SdkAsyncHttpClient> {
         /**
@@ -0,0 +1,34 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.async;
+
+import java.nio.file.Path;
+import software.amazon.awssdk.annotations.SdkPublicApi;
+
+/**
+ * A {@link SdkHttpContentPublisher} whose content is the content of a file, starting at its beginning. HTTP clients may
+ * write the file to the connection directly, for example with {@code sendfile}, instead of subscribing to this publisher.
+ * An HTTP client that does so must still honor the content length of the request, and must fail the request if the file
+ * is shorter than that.
+ */
+@SdkPublicApi
+public interface SdkHttpFileContentPublisher extends SdkHttpContentPublisher {
+
+    /**
+     * @return The file the content is read from.
+     */
+    Path path();
+}
@@ -0,0 +1,126 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.singletonList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import org.junit.Test;
+
+public class SdkHttpHeaderMapTest {
+    @Test
+    public void behavesLikeCaseInsensitiveTreeMap() {
+        Map<String, List<String>> headers = new LinkedHashMap<>();
+        headers.put("X-Amz-Date", singletonList("20150830T123600Z"));
+        headers.put("host", singletonList("example.amazonaws.com"));
+        headers.put("Content-Type", asList("a", "b"));
+        headers.put("HOST", singletonList("other.amazonaws.com"));
+
+        Map<String, List<String>> expected = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+        expected.putAll(headers);
+
+        SdkHttpHeaderMap headerMap = SdkHttpHeaderMap.copyOf(headers);
+
+        assertThat(headerMap).isEqualTo(expected);
+        assertThat(expected).isEqualTo(headerMap);
+        assertThat(headerMap.hashCode()).isEqualTo(expected.hashCode());
+        assertThat(headerMap.keySet()).containsExactly("Content-Type", "host", "X-Amz-Date");
+        assertThat(headerMap.get("HOST")).containsExactly("other.amazonaws.com");
+        assertThat(headerMap.containsKey("content-type")).isTrue();
+        assertThat(headerMap.containsKey("Content-Length")).isFalse();
+        assertThat(headerMap.get(1)).isNull();
+    }
+
+    @Test
+    public void firstValue_matchesCaseInsensitively() {
+        Map<String, List<String>> headers = new LinkedHashMap<>();
+        headers.put("Content-Type", asList("a", "b"));
+        headers.put("Empty", new ArrayList<>());
+
+        SdkHttpHeaderMap headerMap = SdkHttpHeaderMap.copyOf(headers);
+
+        assertThat(headerMap.firstValue("content-type")).hasValue("a");
+        assertThat(headerMap.firstValue("empty")).isEmpty();
+        assertThat(headerMap.firstValue("missing")).isEmpty();
+    }
+
+    @Test
+    public void forEachLowerCase_visitsHeadersInCanonicalOrder() {
+        Map<String, List<String>> headers = new LinkedHashMap<>();
+        headers.put("X-Amz-Date", singletonList("20150830T123600Z"));
+        headers.put("Host", singletonList("example.amazonaws.com"));
+        headers.put("content-type", singletonList("application/json"));
+
+        List<String> names = new ArrayList<>();
+        SdkHttpHeaderMap.copyOf(headers).forEachLowerCase((name, values) -> names.add(name));
+
+        assertThat(names).containsExactly("content-type", "host", "x-amz-date");
+    }
+
+    @Test
+    public void copyOf_isNotAffectedByChangesToSource() {
+        List<String> values = new ArrayList<>(singletonList("a"));
+        Map<String, List<String>> headers = new LinkedHashMap<>();
+        headers.put("Foo", values);
+
+        SdkHttpHeaderMap headerMap = SdkHttpHeaderMap.copyOf(headers);
+        values.add("b");
+        headers.put("Bar", singletonList("c"));
+
+        assertThat(headerMap).containsOnlyKeys("Foo");
+        assertThat(headerMap.get("Foo")).containsExactly("a");
+        assertThat(SdkHttpHeaderMap.copyOf(headerMap)).isSameAs(headerMap);
+    }
+
+    @Test
+    public void isUnmodifiable() {
+        SdkHttpHeaderMap headerMap = SdkHttpHeaderMap.copyOf(singletonMap("Foo", "a"));
+
+        assertThatThrownBy(() -> headerMap.put("Bar", singletonList("b"))).isInstanceOf(UnsupportedOperationException.class);
+        assertThatThrownBy(() -> headerMap.get("Foo").add("b")).isInstanceOf(UnsupportedOperationException.class);
+        assertThatThrownBy(() -> headerMap.entrySet().iterator().next().setValue(singletonList("b")))
+            .isInstanceOf(UnsupportedOperationException.class);
+        assertThatThrownBy(headerMap::clear).isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    @Test
+    public void isShared_onlyForValuesOfHeaderMaps() {
+        List<String> otherUnmodifiableList = Collections.unmodifiableList(new ArrayList<>(singletonList("a")));
+        Map<String, List<String>> headers = new LinkedHashMap<>();
+        headers.put("Foo", otherUnmodifiableList);
+
+        SdkHttpHeaderMap headerMap = SdkHttpHeaderMap.adopt(headers);
+
+        assertThat(SdkHttpHeaderMap.isShared(otherUnmodifiableList)).isFalse();
+        assertThat(SdkHttpHeaderMap.isShared(headerMap.get("Foo"))).isTrue();
+        assertThat(SdkHttpHeaderMap.isShared(SdkHttpHeaderMap.copyOf(headers).get("Foo"))).isTrue();
+        assertThat(headerMap.get("Foo")).isNotSameAs(otherUnmodifiableList).containsExactly("a");
+    }
+
+    private static Map<String, List<String>> singletonMap(String name, String value) {
+        Map<String, List<String>> headers = new LinkedHashMap<>();
+        headers.put(name, singletonList(value));
+        return headers;
+    }
+}
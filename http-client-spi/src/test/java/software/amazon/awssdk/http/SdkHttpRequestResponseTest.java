@@ -57,6 +57,30 @@ public class SdkHttpRequestResponseTest {
         assertThat(response2.headers()).isSameAs(response.headers());
     }
 
+    @Test
+    public void headersAreNotCopiedWhenBuiltTwiceWithoutModification() {
+        SdkHttpFullRequest.Builder requestBuilder = validRequestWithMapsBuilder();
+        assertThat(requestBuilder.build().headers()).isSameAs(requestBuilder.build().headers());
+
+        SdkHttpResponse.Builder responseBuilder = validResponseWithMapsBuilder();
+        assertThat(responseBuilder.build().headers()).isSameAs(responseBuilder.build().headers());
+    }
+
+    @Test
+    public void headersOfBuiltObjectAreNotModifiedByBuilder() {
+        SdkHttpFullRequest.Builder requestBuilder = validRequestWithMapsBuilder();
+        SdkHttpFullRequest request = requestBuilder.build();
+        requestBuilder.appendHeader("Accept", "text/plain");
+        assertThat(request.headers().get("Accept")).containsExactly("*/*");
+        assertThat(requestBuilder.build().headers().get("Accept")).containsExactly("*/*", "text/plain");
+
+        SdkHttpResponse.Builder responseBuilder = validResponseWithMapsBuilder();
+        SdkHttpResponse response = responseBuilder.build();
+        responseBuilder.appendHeader("Accept", "text/plain");
+        assertThat(response.headers().get("Accept")).containsExactly("*/*");
+        assertThat(responseBuilder.build().headers().get("Accept")).containsExactly("*/*", "text/plain");
+    }
+
     @Test
     public void requestHeaderMapsAreCopiedWhenModified() {
         assertRequestHeaderMapsAreCopied(b -> b.putHeader("foo", "bar"));
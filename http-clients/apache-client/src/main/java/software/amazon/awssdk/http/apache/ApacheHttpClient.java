@@ -27,14 +27,17 @@ import static software.amazon.awssdk.utils.NumericUtils.saturatedCast;
 
 import java.io.IOException;
 import java.net.InetAddress;
+import java.net.URI;
 import java.security.KeyManagementException;
 import java.security.NoSuchAlgorithmException;
 import java.security.cert.CertificateException;
 import java.security.cert.X509Certificate;
 import java.time.Duration;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeUnit;
 import java.util.stream.Stream;
 import javax.net.ssl.HostnameVerifier;
@@ -61,6 +64,7 @@ import org.apache.http.conn.ssl.SSLConnectionSocketFactory;
 import org.apache.http.conn.ssl.SSLInitializationException;
 import org.apache.http.impl.client.HttpClientBuilder;
 import org.apache.http.impl.client.HttpClients;
+import org.apache.http.impl.conn.DefaultRoutePlanner;
 import org.apache.http.impl.conn.DefaultSchemePortResolver;
 import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
 import org.apache.http.pool.PoolStats;
@@ -81,6 +85,7 @@ import software.amazon.awssdk.http.apache.internal.ApacheHttpRequestConfig;
 import software.amazon.awssdk.http.apache.internal.DefaultConfiguration;
 import software.amazon.awssdk.http.apache.internal.SdkProxyRoutePlanner;
 import software.amazon.awssdk.http.apache.internal.conn.ClientConnectionManagerFactory;
+import software.amazon.awssdk.http.apache.internal.conn.ConnectionPoolWarmer;
 import software.amazon.awssdk.http.apache.internal.conn.IdleConnectionReaper;
 import software.amazon.awssdk.http.apache.internal.conn.SdkConnectionKeepAliveStrategy;
 import software.amazon.awssdk.http.apache.internal.conn.SdkTlsSocketFactory;
@@ -91,6 +96,7 @@ import software.amazon.awssdk.http.apache.internal.utils.ApacheUtils;
 import software.amazon.awssdk.metrics.MetricCollector;
 import software.amazon.awssdk.metrics.NoOpMetricCollector;
 import software.amazon.awssdk.utils.AttributeMap;
+import software.amazon.awssdk.utils.CompletableFutureUtils;
 import software.amazon.awssdk.utils.Logger;
 import software.amazon.awssdk.utils.Validate;
 
@@ -114,6 +120,7 @@ public final class ApacheHttpClient implements SdkHttpClient {
     private final ConnectionManagerAwareHttpClient httpClient;
     private final ApacheHttpRequestConfig requestConfig;
     private final AttributeMap resolvedOptions;
+    private final ConnectionPoolWarmer connectionPoolWarmer;
 
     @SdkTestInternalApi
     ApacheHttpClient(ConnectionManagerAwareHttpClient httpClient,
@@ -122,12 +129,22 @@ public final class ApacheHttpClient implements SdkHttpClient {
         this.httpClient = httpClient;
         this.requestConfig = requestConfig;
         this.resolvedOptions = resolvedOptions;
+        this.connectionPoolWarmer = new ConnectionPoolWarmer(httpClient.getHttpClientConnectionManager(),
+                                                             new DefaultRoutePlanner(DefaultSchemePortResolver.INSTANCE),
+                                                             requestConfig,
+                                                             Duration.ZERO);
     }
 
     private ApacheHttpClient(DefaultBuilder builder, AttributeMap resolvedOptions) {
         this.httpClient = createClient(builder, resolvedOptions);
         this.requestConfig = createRequestConfig(builder, resolvedOptions);
         this.resolvedOptions = resolvedOptions;
+        this.connectionPoolWarmer = new ConnectionPoolWarmer(httpClient.getHttpClientConnectionManager(),
+                                                             resolveRoutePlanner(builder),
+                                                             requestConfig,
+                                                             resolvedOptions.get(SdkHttpConfigurationOption
+                                                                                     .CONNECTION_MAX_IDLE_TIMEOUT));
+        builder.warmUpConnections.forEach(this::warmUpInBackground);
     }
 
     public static Builder builder() {
@@ -181,29 +198,37 @@ public final class ApacheHttpClient implements SdkHttpClient {
         Validate.isTrue(configuration.credentialsProvider == null || !isAuthenticatedProxy(proxyConfiguration),
                         "The credentialsProvider and proxyConfiguration username/password can't both be configured.");
 
-        HttpRoutePlanner routePlanner = configuration.httpRoutePlanner;
         if (isProxyEnabled(proxyConfiguration)) {
             log.debug(() -> "Configuring Proxy. Proxy Host: " + proxyConfiguration.host());
-            routePlanner = new SdkProxyRoutePlanner(proxyConfiguration.host(),
-                                                    proxyConfiguration.port(),
-                                                    proxyConfiguration.scheme(),
-                                                    proxyConfiguration.nonProxyHosts());
         }
+        HttpRoutePlanner routePlanner = resolveRoutePlanner(configuration);
 
         CredentialsProvider credentialsProvider = configuration.credentialsProvider;
         if (isAuthenticatedProxy(proxyConfiguration)) {
             credentialsProvider = ApacheUtils.newProxyCredentialsProvider(proxyConfiguration);
         }
 
-        if (routePlanner != null) {
-            builder.setRoutePlanner(routePlanner);
-        }
+        builder.setRoutePlanner(routePlanner);
 
         if (credentialsProvider != null) {
             builder.setDefaultCredentialsProvider(credentialsProvider);
         }
     }
 
+    private HttpRoutePlanner resolveRoutePlanner(DefaultBuilder configuration) {
+        ProxyConfiguration proxyConfiguration = configuration.proxyConfiguration;
+        if (isProxyEnabled(proxyConfiguration)) {
+            return new SdkProxyRoutePlanner(proxyConfiguration.host(),
+                                            proxyConfiguration.port(),
+                                            proxyConfiguration.scheme(),
+                                            proxyConfiguration.nonProxyHosts());
+        }
+        if (configuration.httpRoutePlanner != null) {
+            return configuration.httpRoutePlanner;
+        }
+        return new DefaultRoutePlanner(DefaultSchemePortResolver.INSTANCE);
+    }
+
     private ConnectionKeepAliveStrategy buildKeepAliveStrategy(AttributeMap standardOptions) {
         long maxIdle = standardOptions.get(SdkHttpConfigurationOption.CONNECTION_MAX_IDLE_TIMEOUT).toMillis();
         return maxIdle > 0 ? new SdkConnectionKeepAliveStrategy(maxIdle) : null;
@@ -242,6 +267,40 @@ public final class ApacheHttpClient implements SdkHttpClient {
         };
     }
 
+    /**
+     * Establish connections to the given endpoint ahead of the first requests to it, so that those requests don't pay for
+     * the TCP and TLS handshakes. The number of connections is capped at the maximum number of connections of this client.
+     *
+     * <p>Connections through a proxy that has to tunnel them, i.e. HTTPS connections through a proxy, can't be warmed
+     * up; the returned future is completed exceptionally with an {@link UnsupportedOperationException} for them.
+     *
+     * @param endpoint The endpoint to connect to, for example {@code https://s3.us-west-2.amazonaws.com}. Only the scheme, host
+     * and port are used.
+     * @param connections The number of connections to establish.
+     * @return A future that is completed with the time it took to establish the connections, or exceptionally if any of them
+     * couldn't be established.
+     */
+    public CompletableFuture<Duration> warmUp(URI endpoint, int connections) {
+        try {
+            Validate.paramNotNull(endpoint, "endpoint");
+            Validate.isPositive(connections, "connections");
+        } catch (RuntimeException e) {
+            return CompletableFutureUtils.failedFuture(e);
+        }
+        int maxConnections = resolvedOptions.get(SdkHttpConfigurationOption.MAX_CONNECTIONS);
+        return connectionPoolWarmer.warmUp(endpoint, Math.min(connections, maxConnections));
+    }
+
+    private void warmUpInBackground(URI endpoint, int connections) {
+        warmUp(endpoint, connections).whenComplete((d, t) -> {
+            if (t != null) {
+                log.warn(() -> "Unable to warm up connections to " + endpoint, t);
+            } else {
+                log.debug(() -> "Warmed up " + connections + " connections to " + endpoint + " in " + d);
+            }
+        });
+    }
+
     @Override
     public void close() {
         HttpClientConnectionManager cm = httpClient.getHttpClientConnectionManager();
@@ -438,6 +497,19 @@ public final class ApacheHttpClient implements SdkHttpClient {
          * when constructing the SSL context.
          */
         Builder tlsTrustManagersProvider(TlsTrustManagersProvider tlsTrustManagersProvider);
+
+        /**
+         * Configure connections to establish to an endpoint as soon as the client is built, so that the first requests to it
+         * don't have to wait for TCP and TLS handshakes. This can be invoked once for each endpoint.
+         * <p>
+         * The connections are established in the background; failures are logged. Use
+         * {@link ApacheHttpClient#warmUp(URI, int)} to wait until the connections are ready.
+         *
+         * @param endpoint The endpoint to connect to. Only its scheme, host and port are used.
+         * @param connections The number of connections to establish.
+         * @return The builder for method chaining.
+         */
+        Builder warmUpConnections(URI endpoint, int connections);
     }
 
     private static final class DefaultBuilder implements Builder {
@@ -448,6 +520,7 @@ public final class ApacheHttpClient implements SdkHttpClient {
         private HttpRoutePlanner httpRoutePlanner;
         private CredentialsProvider credentialsProvider;
         private DnsResolver dnsResolver;
+        private final Map<URI, Integer> warmUpConnections = new LinkedHashMap<>();
 
         private DefaultBuilder() {
         }
@@ -618,6 +691,14 @@ public final class ApacheHttpClient implements SdkHttpClient {
             tlsTrustManagersProvider(tlsTrustManagersProvider);
         }
 
+        @Override
+        public Builder warmUpConnections(URI endpoint, int connections) {
+            Validate.paramNotNull(endpoint, "endpoint");
+            Validate.isPositive(connections, "connections");
+            warmUpConnections.put(endpoint, connections);
+            return this;
+        }
+
         @Override
         public SdkHttpClient buildWithDefaults(AttributeMap serviceDefaults) {
             AttributeMap resolvedOptions = standardOptions.build().merge(serviceDefaults).merge(
@@ -0,0 +1,147 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.apache.internal.conn;
+
+import static software.amazon.awssdk.utils.FunctionalUtils.invokeSafely;
+import static software.amazon.awssdk.utils.FunctionalUtils.runAndLogError;
+
+import java.io.IOException;
+import java.net.URI;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.apache.http.HttpClientConnection;
+import org.apache.http.HttpHost;
+import org.apache.http.client.config.RequestConfig;
+import org.apache.http.client.protocol.HttpClientContext;
+import org.apache.http.conn.HttpClientConnectionManager;
+import org.apache.http.conn.routing.HttpRoute;
+import org.apache.http.conn.routing.HttpRoutePlanner;
+import org.apache.http.message.BasicHttpRequest;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.http.apache.internal.ApacheHttpRequestConfig;
+import software.amazon.awssdk.utils.CompletableFutureUtils;
+import software.amazon.awssdk.utils.Logger;
+import software.amazon.awssdk.utils.ThreadFactoryBuilder;
+
+/**
+ * Establishes connections of a connection manager ahead of requests.
+ *
+ * <p>All connections are leased at the same time, so that the pool has to create a new one for each of them, and are
+ * connected concurrently on short-lived threads. They are released together once all of them are connected, which for
+ * HTTPS includes the TLS handshake.
+ */
+@SdkInternalApi
+public final class ConnectionPoolWarmer {
+    private static final Logger log = Logger.loggerFor(ConnectionPoolWarmer.class);
+    private static final int MAX_THREADS = 16;
+
+    private final HttpClientConnectionManager connectionManager;
+    private final HttpRoutePlanner routePlanner;
+    private final ApacheHttpRequestConfig requestConfig;
+    private final long keepAliveMillis;
+
+    /**
+     * @param connectionManager The connection manager to warm up.
+     * @param routePlanner The route planner of the client, which determines the route to the endpoint.
+     * @param requestConfig The request configuration of the client.
+     * @param keepAlive How long the established connections may stay idle in the pool.
+     */
+    public ConnectionPoolWarmer(HttpClientConnectionManager connectionManager,
+                                HttpRoutePlanner routePlanner,
+                                ApacheHttpRequestConfig requestConfig,
+                                Duration keepAlive) {
+        this.connectionManager = connectionManager;
+        this.routePlanner = routePlanner;
+        this.requestConfig = requestConfig;
+        this.keepAliveMillis = keepAlive.toMillis();
+    }
+
+    /**
+     * @param endpoint The endpoint to connect to.
+     * @param connections The number of connections to establish.
+     * @return A future that is completed with the time it took until all connections were established.
+     */
+    public CompletableFuture<Duration> warmUp(URI endpoint, int connections) {
+        long start = System.nanoTime();
+
+        HttpRoute route;
+        try {
+            route = determineRoute(endpoint);
+        } catch (Exception e) {
+            return CompletableFutureUtils.failedFuture(e);
+        }
+
+        if (route.isTunnelled()) {
+            return CompletableFutureUtils.failedFuture(
+                new UnsupportedOperationException("Connections that are tunnelled through a proxy can't be warmed up."));
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(Math.min(connections, MAX_THREADS),
+                                                                new ThreadFactoryBuilder().threadNamePrefix("sdk-warm-up")
+                                                                                          .build());
+        List<CompletableFuture<HttpClientConnection>> leases = new ArrayList<>(connections);
+        try {
+            for (int i = 0; i < connections; i++) {
+                leases.add(CompletableFuture.supplyAsync(() -> invokeSafely(() -> leaseConnected(route)), executor));
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        return CompletableFuture.allOf(leases.toArray(new CompletableFuture[0]))
+                                .whenComplete((r, t) -> leases.forEach(l -> l.thenAccept(this::release)))
+                                .thenApply(r -> Duration.ofNanos(System.nanoTime() - start));
+    }
+
+    private HttpRoute determineRoute(URI endpoint) throws Exception {
+        HttpHost target = new HttpHost(endpoint.getHost(), endpoint.getPort(), endpoint.getScheme());
+        return routePlanner.determineRoute(target, new BasicHttpRequest("GET", "/"), newContext());
+    }
+
+    private HttpClientConnection leaseConnected(HttpRoute route) throws Exception {
+        long acquireTimeoutMillis = requestConfig.connectionAcquireTimeout().toMillis();
+        HttpClientConnection connection = connectionManager.requestConnection(route, null)
+                                                           .get(acquireTimeoutMillis, TimeUnit.MILLISECONDS);
+        try {
+            if (!connection.isOpen()) {
+                HttpClientContext context = newContext();
+                connectionManager.connect(connection, route, (int) requestConfig.connectionTimeout().toMillis(), context);
+                connectionManager.routeComplete(connection, route, context);
+            }
+            return connection;
+        } catch (IOException | RuntimeException e) {
+            // A connection that isn't open or whose route isn't complete is discarded by the pool when it's released.
+            runAndLogError(log.logger(), "Unable to shut down the connection", connection::shutdown);
+            connectionManager.releaseConnection(connection, null, 0, TimeUnit.MILLISECONDS);
+            throw e;
+        }
+    }
+
+    private void release(HttpClientConnection connection) {
+        connectionManager.releaseConnection(connection, null, keepAliveMillis, TimeUnit.MILLISECONDS);
+    }
+
+    private HttpClientContext newContext() {
+        HttpClientContext context = HttpClientContext.create();
+        context.setRequestConfig(RequestConfig.custom().setLocalAddress(requestConfig.localAddress()).build());
+        return context;
+    }
+}
@@ -21,6 +21,8 @@ import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.Supplier;
 import org.apache.http.conn.HttpClientConnectionManager;
 import org.slf4j.Logger;
@@ -43,6 +45,9 @@ public final class IdleConnectionReaper {
 
     private final long sleepPeriod;
 
+    // Guards the registration of connection managers and the lifecycle of the executor.
+    private final Lock lock = new ReentrantLock();
+
     private volatile ExecutorService exec;
 
     private volatile ReaperTask reaperTask;
@@ -80,10 +85,15 @@ public final class IdleConnectionReaper {
      * @return {@code true} If the connection manager was not previously registered with this reaper, {@code false}
      * otherwise.
      */
-    public synchronized boolean registerConnectionManager(HttpClientConnectionManager manager, long maxIdleTime) {
-        boolean notPreviouslyRegistered = connectionManagers.put(manager, maxIdleTime) == null;
-        setupExecutorIfNecessary();
-        return notPreviouslyRegistered;
+    public boolean registerConnectionManager(HttpClientConnectionManager manager, long maxIdleTime) {
+        lock.lock();
+        try {
+            boolean notPreviouslyRegistered = connectionManagers.put(manager, maxIdleTime) == null;
+            setupExecutorIfNecessary();
+            return notPreviouslyRegistered;
+        } finally {
+            lock.unlock();
+        }
     }
 
     /**
@@ -93,10 +103,15 @@ public final class IdleConnectionReaper {
      * @return {@code true} If this connection manager was previously registered with this reaper and it was removed, {@code
      * false} otherwise.
      */
-    public synchronized boolean deregisterConnectionManager(HttpClientConnectionManager manager) {
-        boolean wasRemoved = connectionManagers.remove(manager) != null;
-        cleanupExecutorIfNecessary();
-        return wasRemoved;
+    public boolean deregisterConnectionManager(HttpClientConnectionManager manager) {
+        lock.lock();
+        try {
+            boolean wasRemoved = connectionManagers.remove(manager) != null;
+            cleanupExecutorIfNecessary();
+            return wasRemoved;
+        } finally {
+            lock.unlock();
+        }
     }
 
     /**
@@ -15,11 +15,19 @@
 
 package software.amazon.awssdk.http.apache;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
+import java.io.IOException;
 import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
 import java.net.URI;
 import java.net.UnknownHostException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CopyOnWriteArrayList;
 import org.apache.http.client.CredentialsProvider;
 import org.apache.http.conn.DnsResolver;
 import org.apache.http.conn.routing.HttpRoutePlanner;
@@ -145,4 +153,73 @@ public class ApacheHttpClientTest {
                         .build()
                         .close();
     }
+
+    @Test
+    public void warmUp_establishesConnections() throws Exception {
+        try (ServerSocket server = new ServerSocket(0)) {
+            List<Socket> accepted = acceptConnections(server);
+            URI endpoint = URI.create("http://localhost:" + server.getLocalPort());
+
+            try (ApacheHttpClient client = (ApacheHttpClient) ApacheHttpClient.builder().build()) {
+                Duration duration = client.warmUp(endpoint, 3).join();
+
+                assertThat(duration).isGreaterThanOrEqualTo(Duration.ZERO);
+                assertThat(awaitConnections(accepted, 3)).hasSize(3);
+            }
+        }
+    }
+
+    @Test
+    public void warmUp_isLimitedToMaxConnections() throws Exception {
+        try (ServerSocket server = new ServerSocket(0)) {
+            List<Socket> accepted = acceptConnections(server);
+            URI endpoint = URI.create("http://localhost:" + server.getLocalPort());
+
+            try (ApacheHttpClient client = (ApacheHttpClient) ApacheHttpClient.builder().maxConnections(2).build()) {
+                client.warmUp(endpoint, 5).join();
+
+                assertThat(awaitConnections(accepted, 2)).hasSize(2);
+            }
+        }
+    }
+
+    @Test
+    public void warmUp_throughTunnellingProxy_isNotSupported() {
+        ProxyConfiguration proxyConfig = ProxyConfiguration.builder()
+                                                           .endpoint(URI.create("http://localhost:1234"))
+                                                           .useSystemPropertyValues(Boolean.FALSE)
+                                                           .build();
+        try (ApacheHttpClient client = (ApacheHttpClient) ApacheHttpClient.builder().proxyConfiguration(proxyConfig).build()) {
+            assertThatThrownBy(() -> client.warmUp(URI.create("https://localhost:443"), 1).join())
+                .isInstanceOf(CompletionException.class)
+                .hasCauseInstanceOf(UnsupportedOperationException.class);
+        }
+    }
+
+    /**
+     * The client sees a connection as established before the server has accepted it, so wait for the acceptor to catch up.
+     */
+    private static List<Socket> awaitConnections(List<Socket> accepted, int expected) throws InterruptedException {
+        long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        while (accepted.size() < expected && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        return accepted;
+    }
+
+    private static List<Socket> acceptConnections(ServerSocket server) {
+        List<Socket> accepted = new CopyOnWriteArrayList<>();
+        Thread acceptor = new Thread(() -> {
+            try {
+                while (true) {
+                    accepted.add(server.accept());
+                }
+            } catch (IOException e) {
+                // The server socket was closed.
+            }
+        });
+        acceptor.setDaemon(true);
+        acceptor.start();
+        return accepted;
+    }
 }
@@ -15,11 +15,16 @@
 
 package software.amazon.awssdk.http.crt;
 
+import static software.amazon.awssdk.http.HttpMetric.HTTP_CLIENT_NAME;
+import static software.amazon.awssdk.utils.FunctionalUtils.invokeSafely;
 import static software.amazon.awssdk.utils.Validate.paramNotNull;
 
 import java.net.URI;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.LinkedList;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
@@ -27,6 +32,7 @@ import java.util.function.Consumer;
 import software.amazon.awssdk.annotations.SdkPreviewApi;
 import software.amazon.awssdk.annotations.SdkPublicApi;
 import software.amazon.awssdk.crt.CrtResource;
+import software.amazon.awssdk.crt.http.HttpClientConnection;
 import software.amazon.awssdk.crt.http.HttpClientConnectionManager;
 import software.amazon.awssdk.crt.http.HttpClientConnectionManagerOptions;
 import software.amazon.awssdk.crt.http.HttpMonitoringOptions;
@@ -39,6 +45,7 @@ import software.amazon.awssdk.crt.io.TlsContextOptions;
 import software.amazon.awssdk.http.SdkHttpConfigurationOption;
 import software.amazon.awssdk.http.async.AsyncExecuteRequest;
 import software.amazon.awssdk.http.async.SdkAsyncHttpClient;
+import software.amazon.awssdk.http.crt.internal.CrtConnectionPoolMetrics;
 import software.amazon.awssdk.http.crt.internal.CrtRequestContext;
 import software.amazon.awssdk.http.crt.internal.CrtRequestExecutor;
 import software.amazon.awssdk.utils.AttributeMap;
@@ -63,6 +70,7 @@ public final class AwsCrtAsyncHttpClient implements SdkAsyncHttpClient {
     private static final int DEFAULT_STREAM_WINDOW_SIZE = 16 * 1024 * 1024; // 16 MB
 
     private final Map<URI, HttpClientConnectionManager> connectionPools = new ConcurrentHashMap<>();
+    private final Map<URI, CrtConnectionPoolMetrics> connectionPoolMetrics = new ConcurrentHashMap<>();
     private final LinkedList<CrtResource> ownedSubResources = new LinkedList<>();
     private final ClientBootstrap bootstrap;
     private final SocketOptions socketOptions;
@@ -97,6 +105,8 @@ public final class AwsCrtAsyncHttpClient implements SdkAsyncHttpClient {
             this.maxConnectionIdleInMilliseconds = config.get(SdkHttpConfigurationOption.CONNECTION_MAX_IDLE_TIMEOUT).toMillis();
             this.proxyOptions = buildProxyOptions(builder.proxyConfiguration);
         }
+
+        builder.warmUpConnections.forEach(this::warmUpInBackground);
     }
 
     private HttpMonitoringOptions revolveHttpMonitoringOptions(ConnectionHealthChecksConfiguration config) {
@@ -232,9 +242,13 @@ public final class AwsCrtAsyncHttpClient implements SdkAsyncHttpClient {
          * we have a pool and no one can destroy it underneath us until we've finished submitting the
          * request)
          */
-        try (HttpClientConnectionManager crtConnPool = getOrCreateConnectionPool(asyncRequest.request().getUri())) {
+        asyncRequest.metricCollector().ifPresent(m -> m.reportMetric(HTTP_CLIENT_NAME, clientName()));
+
+        URI poolKey = poolKey(asyncRequest.request().getUri());
+        try (HttpClientConnectionManager crtConnPool = getOrCreateConnectionPool(poolKey)) {
             CrtRequestContext context = CrtRequestContext.builder()
                                                          .crtConnPool(crtConnPool)
+                                                         .crtConnPoolMetrics(getConnectionPoolMetrics(poolKey))
                                                          .readBufferSize(readBufferSize)
                                                          .request(asyncRequest)
                                                          .build();
@@ -243,6 +257,64 @@ public final class AwsCrtAsyncHttpClient implements SdkAsyncHttpClient {
         }
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * <p>The connections have completed their TLS handshake, if they use TLS, once the returned future completes.
+     */
+    @Override
+    public CompletableFuture<Duration> warmUp(URI endpoint, int connections) {
+        paramNotNull(endpoint, "endpoint");
+        Validate.isPositive(connections, "connections");
+        long start = System.nanoTime();
+
+        // See the note on getOrCreateConnectionPool(). Pending acquisitions are failed if the client is closed.
+        URI poolKey = poolKey(endpoint);
+        try (HttpClientConnectionManager crtConnPool = getOrCreateConnectionPool(poolKey)) {
+            CrtConnectionPoolMetrics poolMetrics = getConnectionPoolMetrics(poolKey);
+            int connectionCount = Math.min(connections, maxConnectionsPerEndpoint);
+            List<CompletableFuture<HttpClientConnection>> acquisitions = new ArrayList<>(connectionCount);
+            for (int i = 0; i < connectionCount; i++) {
+                long acquireStartNanos = poolMetrics.acquireStarted(null);
+                acquisitions.add(crtConnPool.acquireConnection()
+                                            .whenComplete((c, t) -> poolMetrics.acquireCompleted(null, acquireStartNanos,
+                                                                                                 t == null)));
+            }
+
+            // Closing a connection returns it to its pool, which is only done once all of them were acquired so that the
+            // pool can't hand out a connection twice.
+            return CompletableFuture.allOf(acquisitions.toArray(new CompletableFuture[0]))
+                                    .whenComplete((r, t) -> acquisitions.forEach(a -> a.thenAccept(c -> {
+                                        c.close();
+                                        poolMetrics.released(true);
+                                    })))
+                                    .thenApply(r -> Duration.ofNanos(System.nanoTime() - start));
+        }
+    }
+
+    private void warmUpInBackground(URI endpoint, int connections) {
+        warmUp(endpoint, connections).whenComplete((duration, t) -> {
+            if (t != null) {
+                log.warn(() -> "Failed to warm up connections to " + endpoint, t);
+            } else {
+                log.debug(() -> "Warmed up " + connections + " connection(s) to " + endpoint + " in " + duration.toMillis()
+                                + " ms");
+            }
+        });
+    }
+
+    private CrtConnectionPoolMetrics getConnectionPoolMetrics(URI poolKey) {
+        return connectionPoolMetrics.computeIfAbsent(poolKey, k -> new CrtConnectionPoolMetrics(
+            maxConnectionsPerEndpoint, Duration.ofMillis(maxConnectionIdleInMilliseconds)));
+    }
+
+    /**
+     * Connections only depend on the scheme, host and port of a URI, so requests to all paths of an endpoint share a pool.
+     */
+    private static URI poolKey(URI uri) {
+        return invokeSafely(() -> new URI(uri.getScheme(), null, uri.getHost(), uri.getPort(), null, null, null));
+    }
+
     @Override
     public void close() {
         synchronized (this) {
@@ -335,6 +407,19 @@ public final class AwsCrtAsyncHttpClient implements SdkAsyncHttpClient {
          * Configure the maximum amount of time that a connection should be allowed to remain open while idle.
          */
         Builder connectionMaxIdleTime(Duration connectionMaxIdleTime);
+
+        /**
+         * Configure connections to establish to an endpoint as soon as the client is built, so that the first requests to it
+         * don't have to wait for TCP and TLS handshakes. This can be invoked once for each endpoint.
+         * <p>
+         * The connections are established in the background; failures are logged. Use
+         * {@link SdkAsyncHttpClient#warmUp(URI, int)} to wait until the connections are ready.
+         *
+         * @param endpoint The endpoint to connect to. Only its scheme, host and port are used.
+         * @param connections The number of connections to establish.
+         * @return The builder of the method chaining.
+         */
+        Builder warmUpConnections(URI endpoint, int connections);
     }
 
     /**
@@ -343,6 +428,7 @@ public final class AwsCrtAsyncHttpClient implements SdkAsyncHttpClient {
      */
     private static final class DefaultBuilder implements Builder {
         private final AttributeMap.Builder standardOptions = AttributeMap.builder();
+        private final Map<URI, Integer> warmUpConnections = new LinkedHashMap<>();
         private TlsCipherPreference cipherPreference = TlsCipherPreference.TLS_CIPHER_SYSTEM_DEFAULT;
         private int readBufferSize = DEFAULT_STREAM_WINDOW_SIZE;
         private ProxyConfiguration proxyConfiguration;
@@ -419,5 +505,13 @@ public final class AwsCrtAsyncHttpClient implements SdkAsyncHttpClient {
             proxyConfigurationBuilderConsumer.accept(builder);
             return proxyConfiguration(builder.build());
         }
+
+        @Override
+        public Builder warmUpConnections(URI endpoint, int connections) {
+            paramNotNull(endpoint, "endpoint");
+            Validate.isPositive(connections, "connections");
+            warmUpConnections.put(endpoint, connections);
+            return this;
+        }
     }
 }
@@ -0,0 +1,140 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.crt.internal;
+
+import static software.amazon.awssdk.http.HttpMetric.AVAILABLE_CONCURRENCY;
+import static software.amazon.awssdk.http.HttpMetric.CONCURRENCY_ACQUIRE_DURATION;
+import static software.amazon.awssdk.http.HttpMetric.LEASED_CONCURRENCY;
+import static software.amazon.awssdk.http.HttpMetric.MAX_CONCURRENCY;
+import static software.amazon.awssdk.http.HttpMetric.PENDING_CONCURRENCY_ACQUIRES;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.metrics.MetricCollector;
+import software.amazon.awssdk.metrics.NoOpMetricCollector;
+
+/**
+ * Tracks the usage of a CRT connection pool, which doesn't expose statistics of its own.
+ *
+ * <p>The number of leased connections and of pending acquires are exact. The number of idle connections is an estimate: a
+ * connection is assumed to go back to the pool when its request succeeds, and to be closed by the pool once it has been idle
+ * for longer than the maximum idle time, if there is one. Connections closed by the server while idle are still counted
+ * until then.
+ */
+@SdkInternalApi
+public final class CrtConnectionPoolMetrics {
+    private final int maxConcurrency;
+    private final long maxIdleNanos;
+    private final AtomicInteger leased = new AtomicInteger();
+    private final AtomicInteger pendingAcquires = new AtomicInteger();
+
+    /**
+     * When each connection believed to be idle in the pool was released, most recent first. The pool hands out the most
+     * recently used connection first, and closes the least recently used one first.
+     */
+    private final Deque<Long> idleSince = new ArrayDeque<>();
+    private final Lock idleLock = new ReentrantLock();
+
+    public CrtConnectionPoolMetrics(int maxConcurrency, Duration maxIdleTime) {
+        this.maxConcurrency = maxConcurrency;
+        this.maxIdleNanos = maxIdleTime.toNanos();
+    }
+
+    /**
+     * Record that a connection is being acquired, and report the state of the pool to the given collector.
+     *
+     * @return The time the acquire started, to be passed to {@link #acquireCompleted}.
+     */
+    public long acquireStarted(MetricCollector metricCollector) {
+        long now = System.nanoTime();
+        if (metricsAreEnabled(metricCollector)) {
+            int leasedConnections = leased.get();
+            metricCollector.reportMetric(MAX_CONCURRENCY, maxConcurrency);
+            metricCollector.reportMetric(LEASED_CONCURRENCY, leasedConnections);
+            metricCollector.reportMetric(PENDING_CONCURRENCY_ACQUIRES, pendingAcquires.get());
+            metricCollector.reportMetric(AVAILABLE_CONCURRENCY,
+                                         Math.min(idleConnections(now), Math.max(maxConcurrency - leasedConnections, 0)));
+        }
+        pendingAcquires.incrementAndGet();
+        return now;
+    }
+
+    /**
+     * Record that an acquire finished, and report how long it took to the given collector.
+     */
+    public void acquireCompleted(MetricCollector metricCollector, long acquireStartNanos, boolean succeeded) {
+        pendingAcquires.decrementAndGet();
+        if (succeeded) {
+            leased.incrementAndGet();
+            removeMostRecentIdle();
+        }
+        if (metricsAreEnabled(metricCollector)) {
+            metricCollector.reportMetric(CONCURRENCY_ACQUIRE_DURATION, Duration.ofNanos(System.nanoTime() - acquireStartNanos));
+        }
+    }
+
+    /**
+     * Record that a leased connection was given back to the pool.
+     *
+     * @param reusable Whether the connection can be reused, i.e. whether its request succeeded.
+     */
+    public void released(boolean reusable) {
+        leased.decrementAndGet();
+        if (!reusable) {
+            return;
+        }
+
+        idleLock.lock();
+        try {
+            idleSince.addFirst(System.nanoTime());
+            if (idleSince.size() > maxConcurrency) {
+                idleSince.removeLast();
+            }
+        } finally {
+            idleLock.unlock();
+        }
+    }
+
+    private void removeMostRecentIdle() {
+        idleLock.lock();
+        try {
+            idleSince.pollFirst();
+        } finally {
+            idleLock.unlock();
+        }
+    }
+
+    private int idleConnections(long now) {
+        idleLock.lock();
+        try {
+            while (maxIdleNanos > 0 && !idleSince.isEmpty() && now - idleSince.peekLast() > maxIdleNanos) {
+                idleSince.removeLast();
+            }
+            return idleSince.size();
+        } finally {
+            idleLock.unlock();
+        }
+    }
+
+    private static boolean metricsAreEnabled(MetricCollector metricCollector) {
+        return metricCollector != null && !(metricCollector instanceof NoOpMetricCollector);
+    }
+}
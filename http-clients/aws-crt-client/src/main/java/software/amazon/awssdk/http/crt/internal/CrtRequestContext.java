@@ -18,17 +18,23 @@ package software.amazon.awssdk.http.crt.internal;
 import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.crt.http.HttpClientConnectionManager;
 import software.amazon.awssdk.http.async.AsyncExecuteRequest;
+import software.amazon.awssdk.metrics.MetricCollector;
+import software.amazon.awssdk.metrics.NoOpMetricCollector;
 
 @SdkInternalApi
 public final class CrtRequestContext {
     private final AsyncExecuteRequest request;
     private final int readBufferSize;
     private final HttpClientConnectionManager crtConnPool;
+    private final CrtConnectionPoolMetrics crtConnPoolMetrics;
+    private final MetricCollector metricCollector;
 
     private CrtRequestContext(Builder builder) {
         this.request = builder.request;
         this.readBufferSize = builder.readBufferSize;
         this.crtConnPool = builder.crtConnPool;
+        this.crtConnPoolMetrics = builder.crtConnPoolMetrics;
+        this.metricCollector = request.metricCollector().orElseGet(NoOpMetricCollector::create);
     }
 
     public static Builder builder() {
@@ -47,10 +53,19 @@ public final class CrtRequestContext {
         return crtConnPool;
     }
 
+    public CrtConnectionPoolMetrics crtConnPoolMetrics() {
+        return crtConnPoolMetrics;
+    }
+
+    public MetricCollector metricCollector() {
+        return metricCollector;
+    }
+
     public static class Builder {
         private AsyncExecuteRequest request;
         private int readBufferSize;
         private HttpClientConnectionManager crtConnPool;
+        private CrtConnectionPoolMetrics crtConnPoolMetrics;
 
         private Builder() {
         }
@@ -70,6 +85,11 @@ public final class CrtRequestContext {
             return this;
         }
 
+        public Builder crtConnPoolMetrics(CrtConnectionPoolMetrics crtConnPoolMetrics) {
+            this.crtConnPoolMetrics = crtConnPoolMetrics;
+            return this;
+        }
+
         public CrtRequestContext build() {
             return new CrtRequestContext(this);
         }
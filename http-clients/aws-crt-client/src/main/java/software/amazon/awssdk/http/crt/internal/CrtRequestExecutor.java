@@ -34,6 +34,7 @@ import software.amazon.awssdk.http.SdkCancellationException;
 import software.amazon.awssdk.http.SdkHttpRequest;
 import software.amazon.awssdk.http.async.AsyncExecuteRequest;
 import software.amazon.awssdk.http.async.SdkAsyncHttpResponseHandler;
+import software.amazon.awssdk.metrics.MetricCollector;
 import software.amazon.awssdk.utils.Logger;
 import software.amazon.awssdk.utils.http.SdkHttpUtils;
 
@@ -44,11 +45,16 @@ public final class CrtRequestExecutor {
     public CompletableFuture<Void> execute(CrtRequestContext executionContext) {
         CompletableFuture<Void> requestFuture = createExecutionFuture(executionContext.sdkRequest());
 
+        CrtConnectionPoolMetrics poolMetrics = executionContext.crtConnPoolMetrics();
+        MetricCollector metricCollector = executionContext.metricCollector();
+        long acquireStartNanos = poolMetrics.acquireStarted(metricCollector);
+
         // When a Connection is ready from the Connection Pool, schedule the Request on the connection
         CompletableFuture<HttpClientConnection> httpClientConnectionCompletableFuture =
             executionContext.crtConnPool().acquireConnection();
 
         httpClientConnectionCompletableFuture.whenComplete((crtConn, throwable) -> {
+            poolMetrics.acquireCompleted(metricCollector, acquireStartNanos, throwable == null);
             AsyncExecuteRequest asyncRequest = executionContext.sdkRequest();
             // If we didn't get a connection for some reason, fail the request
             if (throwable != null) {
@@ -58,6 +64,9 @@ public final class CrtRequestExecutor {
                 return;
             }
 
+            // The connection goes back to the pool once the response is complete, or right away if the request fails to start
+            requestFuture.whenComplete((r, t) -> poolMetrics.released(t == null));
+
             AwsCrtAsyncHttpStreamAdapter crtToSdkAdapter =
                 new AwsCrtAsyncHttpStreamAdapter(crtConn, requestFuture, asyncRequest, executionContext.readBufferSize());
             HttpRequest crtRequest = toCrtRequest(asyncRequest, crtToSdkAdapter);
@@ -67,6 +76,7 @@ public final class CrtRequestExecutor {
                     crtConn.makeRequest(crtRequest, crtToSdkAdapter).activate();
                 } catch (IllegalStateException | CrtRuntimeException e) {
                     log.debug(() -> "An exception occurred when making the request", e);
+                    crtConn.close();
                     handleFailure(new IOException("An exception occurred when making the request", e),
                                   requestFuture,
                                   asyncRequest.responseHandler());
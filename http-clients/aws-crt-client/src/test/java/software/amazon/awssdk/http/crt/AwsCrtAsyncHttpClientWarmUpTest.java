@@ -0,0 +1,163 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+
+package software.amazon.awssdk.http.crt;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.any;
+import static com.github.tomakehurst.wiremock.client.WireMock.anyUrl;
+import static com.github.tomakehurst.wiremock.client.WireMock.stubFor;
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.wireMockConfig;
+import static java.util.Collections.singletonMap;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static software.amazon.awssdk.http.HttpTestUtils.createProvider;
+import static software.amazon.awssdk.http.crt.CrtHttpClientTestUtils.createRequest;
+
+import com.github.tomakehurst.wiremock.http.trafficlistener.WiremockNetworkTrafficListener;
+import com.github.tomakehurst.wiremock.junit.WireMockRule;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.URI;
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import software.amazon.awssdk.crt.CrtResource;
+import software.amazon.awssdk.crt.io.EventLoopGroup;
+import software.amazon.awssdk.crt.io.HostResolver;
+import software.amazon.awssdk.http.RecordingResponseHandler;
+import software.amazon.awssdk.http.SdkHttpMethod;
+import software.amazon.awssdk.http.async.AsyncExecuteRequest;
+import software.amazon.awssdk.http.async.SdkAsyncHttpClient;
+
+public class AwsCrtAsyncHttpClientWarmUpTest {
+    private final ConnectionCountingListener connections = new ConnectionCountingListener();
+
+    @Rule
+    public WireMockRule mockServer = new WireMockRule(wireMockConfig()
+                                                          .dynamicPort()
+                                                          .networkTrafficListener(connections));
+
+    @Before
+    public void methodSetup() {
+        stubFor(any(anyUrl()).willReturn(aResponse().withBody("body")));
+    }
+
+    @After
+    public void tearDown() {
+        // Verify there is no resource leak.
+        EventLoopGroup.closeStaticDefault();
+        HostResolver.closeStaticDefault();
+        CrtResource.waitForNoResources();
+    }
+
+    @Test
+    public void warmUp_establishesConnections() throws Exception {
+        try (SdkAsyncHttpClient client = AwsCrtAsyncHttpClient.create()) {
+            Duration duration = client.warmUp(endpoint(), 3).get(5, TimeUnit.SECONDS);
+
+            assertThat(duration).isGreaterThanOrEqualTo(Duration.ZERO);
+            assertThat(awaitConnections(3)).isEqualTo(3);
+        }
+    }
+
+    @Test
+    public void warmUp_isLimitedToMaxConcurrency() throws Exception {
+        try (SdkAsyncHttpClient client = AwsCrtAsyncHttpClient.builder().maxConcurrency(2).build()) {
+            client.warmUp(endpoint(), 5).get(5, TimeUnit.SECONDS);
+
+            assertThat(awaitConnections(2)).isEqualTo(2);
+        }
+    }
+
+    @Test
+    public void warmUp_connectionRefused_fails() throws Exception {
+        URI closedEndpoint;
+        try (ServerSocket socket = new ServerSocket(0)) {
+            closedEndpoint = URI.create("http://localhost:" + socket.getLocalPort());
+        }
+
+        try (SdkAsyncHttpClient client = AwsCrtAsyncHttpClient.create()) {
+            assertThatThrownBy(() -> client.warmUp(closedEndpoint, 1).get(5, TimeUnit.SECONDS))
+                .isInstanceOf(ExecutionException.class);
+        }
+    }
+
+    @Test
+    public void warmUp_connectionsAreReusedByRequestsToOtherPathsOfTheEndpoint() throws Exception {
+        try (SdkAsyncHttpClient client = AwsCrtAsyncHttpClient.create()) {
+            client.warmUp(URI.create(endpoint() + "/warm/up"), 1).get(5, TimeUnit.SECONDS);
+            assertThat(awaitConnections(1)).isEqualTo(1);
+
+            RecordingResponseHandler recorder = new RecordingResponseHandler();
+            client.execute(AsyncExecuteRequest.builder()
+                                              .request(createRequest(endpoint(), "/other/path", null, SdkHttpMethod.GET,
+                                                                     singletonMap("query", "value")))
+                                              .requestContentPublisher(createProvider(""))
+                                              .responseHandler(recorder)
+                                              .build());
+            recorder.completeFuture().get(5, TimeUnit.SECONDS);
+
+            assertThat(connections.opened()).isEqualTo(1);
+        }
+    }
+
+    private URI endpoint() {
+        return URI.create("http://localhost:" + mockServer.port());
+    }
+
+    /**
+     * The client sees a connection as established before the server has accepted it, so wait for the server to catch up.
+     */
+    private int awaitConnections(int expected) throws InterruptedException {
+        long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        while (connections.opened() < expected && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        return connections.opened();
+    }
+
+    private static final class ConnectionCountingListener implements WiremockNetworkTrafficListener {
+        private final AtomicInteger opened = new AtomicInteger();
+
+        @Override
+        public void opened(Socket socket) {
+            opened.incrementAndGet();
+        }
+
+        @Override
+        public void incoming(Socket socket, ByteBuffer bytes) {
+        }
+
+        @Override
+        public void outgoing(Socket socket, ByteBuffer bytes) {
+        }
+
+        @Override
+        public void closed(Socket socket) {
+        }
+
+        int opened() {
+            return opened.get();
+        }
+    }
+}
@@ -0,0 +1,108 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.crt.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import org.junit.Test;
+import software.amazon.awssdk.http.HttpMetric;
+import software.amazon.awssdk.metrics.MetricCollection;
+import software.amazon.awssdk.metrics.MetricCollector;
+
+public class CrtConnectionPoolMetricsTest {
+    private final CrtConnectionPoolMetrics poolMetrics = new CrtConnectionPoolMetrics(2, Duration.ofMinutes(1));
+
+    @Test
+    public void acquire_reportsPoolStateBeforeTheAcquire() {
+        long start = poolMetrics.acquireStarted(null);
+        poolMetrics.acquireCompleted(null, start, true);
+        poolMetrics.acquireStarted(null);
+
+        MetricCollection metrics = acquireStarted();
+
+        assertThat(metrics.metricValues(HttpMetric.MAX_CONCURRENCY)).containsExactly(2);
+        assertThat(metrics.metricValues(HttpMetric.LEASED_CONCURRENCY)).containsExactly(1);
+        assertThat(metrics.metricValues(HttpMetric.PENDING_CONCURRENCY_ACQUIRES)).containsExactly(1);
+        assertThat(metrics.metricValues(HttpMetric.AVAILABLE_CONCURRENCY)).containsExactly(0);
+    }
+
+    @Test
+    public void acquireCompleted_reportsAcquireDuration() {
+        MetricCollector metricCollector = MetricCollector.create("test");
+        long start = poolMetrics.acquireStarted(null);
+        poolMetrics.acquireCompleted(metricCollector, start, true);
+
+        assertThat(metricCollector.collect().metricValues(HttpMetric.CONCURRENCY_ACQUIRE_DURATION))
+            .hasOnlyOneElementSatisfying(d -> assertThat(d).isGreaterThanOrEqualTo(Duration.ZERO));
+    }
+
+    @Test
+    public void failedAcquire_isNotLeased() {
+        long start = poolMetrics.acquireStarted(null);
+        poolMetrics.acquireCompleted(null, start, false);
+
+        MetricCollection metrics = acquireStarted();
+
+        assertThat(metrics.metricValues(HttpMetric.LEASED_CONCURRENCY)).containsExactly(0);
+        assertThat(metrics.metricValues(HttpMetric.PENDING_CONCURRENCY_ACQUIRES)).containsExactly(0);
+    }
+
+    @Test
+    public void successfulRelease_makesConnectionAvailableUntilReacquired() {
+        long start = poolMetrics.acquireStarted(null);
+        poolMetrics.acquireCompleted(null, start, true);
+        poolMetrics.released(true);
+
+        assertThat(acquireStarted().metricValues(HttpMetric.AVAILABLE_CONCURRENCY)).containsExactly(1);
+
+        poolMetrics.acquireCompleted(null, start, true);
+
+        assertThat(acquireStarted().metricValues(HttpMetric.AVAILABLE_CONCURRENCY)).containsExactly(0);
+    }
+
+    @Test
+    public void failedRelease_doesNotMakeConnectionAvailable() {
+        long start = poolMetrics.acquireStarted(null);
+        poolMetrics.acquireCompleted(null, start, true);
+        poolMetrics.released(false);
+
+        MetricCollection metrics = acquireStarted();
+
+        assertThat(metrics.metricValues(HttpMetric.LEASED_CONCURRENCY)).containsExactly(0);
+        assertThat(metrics.metricValues(HttpMetric.AVAILABLE_CONCURRENCY)).containsExactly(0);
+    }
+
+    @Test
+    public void idleConnections_areNoLongerAvailableAfterMaxIdleTime() throws InterruptedException {
+        CrtConnectionPoolMetrics shortIdlePoolMetrics = new CrtConnectionPoolMetrics(2, Duration.ofMillis(10));
+        long start = shortIdlePoolMetrics.acquireStarted(null);
+        shortIdlePoolMetrics.acquireCompleted(null, start, true);
+        shortIdlePoolMetrics.released(true);
+
+        Thread.sleep(50);
+
+        MetricCollector metricCollector = MetricCollector.create("test");
+        shortIdlePoolMetrics.acquireStarted(metricCollector);
+        assertThat(metricCollector.collect().metricValues(HttpMetric.AVAILABLE_CONCURRENCY)).containsExactly(0);
+    }
+
+    private MetricCollection acquireStarted() {
+        MetricCollector metricCollector = MetricCollector.create("test");
+        poolMetrics.acquireStarted(metricCollector);
+        return metricCollector.collect();
+    }
+}
@@ -21,6 +21,7 @@ import static software.amazon.awssdk.http.crt.CrtHttpClientTestUtils.createReque
 
 import java.io.IOException;
 import java.net.URI;
+import java.time.Duration;
 import java.util.concurrent.CompletableFuture;
 import org.junit.After;
 import org.junit.Before;
@@ -34,15 +35,19 @@ import software.amazon.awssdk.crt.CrtRuntimeException;
 import software.amazon.awssdk.crt.http.HttpClientConnection;
 import software.amazon.awssdk.crt.http.HttpClientConnectionManager;
 import software.amazon.awssdk.crt.http.HttpRequest;
+import software.amazon.awssdk.http.HttpMetric;
 import software.amazon.awssdk.http.SdkCancellationException;
 import software.amazon.awssdk.http.SdkHttpFullRequest;
 import software.amazon.awssdk.http.async.AsyncExecuteRequest;
 import software.amazon.awssdk.http.async.SdkAsyncHttpResponseHandler;
+import software.amazon.awssdk.metrics.MetricCollection;
+import software.amazon.awssdk.metrics.MetricCollector;
 
 @RunWith(MockitoJUnitRunner.class)
 public class CrtRequestExecutorTest {
 
     private CrtRequestExecutor requestExecutor;
+    private CrtConnectionPoolMetrics poolMetrics;
     @Mock
     private HttpClientConnectionManager connectionManager;
 
@@ -55,6 +60,7 @@ public class CrtRequestExecutorTest {
     @Before
     public void setup() {
         requestExecutor = new CrtRequestExecutor();
+        poolMetrics = new CrtConnectionPoolMetrics(10, Duration.ofMinutes(1));
     }
 
     @After
@@ -67,6 +73,7 @@ public class CrtRequestExecutorTest {
         RuntimeException exception = new RuntimeException("error");
         CrtRequestContext context = CrtRequestContext.builder()
                                                      .crtConnPool(connectionManager)
+                                                     .crtConnPoolMetrics(poolMetrics)
                                                      .request(AsyncExecuteRequest.builder()
                                                                                  .responseHandler(responseHandler)
                                                                                  .build())
@@ -94,6 +101,7 @@ public class CrtRequestExecutorTest {
         CrtRequestContext context = CrtRequestContext.builder()
                                                      .readBufferSize(2000)
                                                      .crtConnPool(connectionManager)
+                                                     .crtConnPoolMetrics(poolMetrics)
                                                      .request(AsyncExecuteRequest.builder()
                                                                                  .request(request)
                                                                                  .requestContentPublisher(createProvider(""))
@@ -125,6 +133,7 @@ public class CrtRequestExecutorTest {
         CrtRequestContext context = CrtRequestContext.builder()
                                                      .readBufferSize(2000)
                                                      .crtConnPool(connectionManager)
+                                                     .crtConnPoolMetrics(poolMetrics)
                                                      .request(AsyncExecuteRequest.builder()
                                                                                  .request(request)
                                                                                  .requestContentPublisher(createProvider(""))
@@ -143,6 +152,7 @@ public class CrtRequestExecutorTest {
     public void cancelRequest_shouldInvokeOnError() {
         CrtRequestContext context = CrtRequestContext.builder()
                                                      .crtConnPool(connectionManager)
+                                                     .crtConnPoolMetrics(poolMetrics)
                                                      .request(AsyncExecuteRequest.builder()
                                                                                  .responseHandler(responseHandler)
                                                                                  .build())
@@ -161,4 +171,33 @@ public class CrtRequestExecutorTest {
         assertThat(actualException).hasMessageContaining("The request was cancelled");
         assertThat(actualException).isInstanceOf(SdkCancellationException.class);
     }
+
+    @Test
+    public void metricCollectorProvided_shouldReportConnectionPoolMetrics() {
+        SdkHttpFullRequest request = createRequest(URI.create("http://localhost"));
+        MetricCollector metricCollector = MetricCollector.create("test");
+        CrtRequestContext context = CrtRequestContext.builder()
+                                                     .readBufferSize(2000)
+                                                     .crtConnPool(connectionManager)
+                                                     .crtConnPoolMetrics(poolMetrics)
+                                                     .request(AsyncExecuteRequest.builder()
+                                                                                 .request(request)
+                                                                                 .requestContentPublisher(createProvider(""))
+                                                                                 .responseHandler(responseHandler)
+                                                                                 .metricCollector(metricCollector)
+                                                                                 .build())
+                                                     .build();
+        CompletableFuture<HttpClientConnection> completableFuture = new CompletableFuture<>();
+        Mockito.when(connectionManager.acquireConnection()).thenReturn(completableFuture);
+
+        requestExecutor.execute(context);
+        completableFuture.complete(httpClientConnection);
+
+        MetricCollection metrics = metricCollector.collect();
+        assertThat(metrics.metricValues(HttpMetric.MAX_CONCURRENCY)).containsExactly(10);
+        assertThat(metrics.metricValues(HttpMetric.LEASED_CONCURRENCY)).containsExactly(0);
+        assertThat(metrics.metricValues(HttpMetric.PENDING_CONCURRENCY_ACQUIRES)).containsExactly(0);
+        assertThat(metrics.metricValues(HttpMetric.AVAILABLE_CONCURRENCY)).containsExactly(0);
+        assertThat(metrics.metricValues(HttpMetric.CONCURRENCY_ACQUIRE_DURATION)).hasSize(1);
+    }
 }
@@ -0,0 +1,328 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.javahttp;
+
+import static software.amazon.awssdk.http.HttpMetric.HTTP_CLIENT_NAME;
+import static software.amazon.awssdk.utils.FunctionalUtils.runAndLogError;
+
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import software.amazon.awssdk.annotations.SdkPublicApi;
+import software.amazon.awssdk.http.Protocol;
+import software.amazon.awssdk.http.SdkHttpConfigurationOption;
+import software.amazon.awssdk.http.SdkHttpResponse;
+import software.amazon.awssdk.http.TlsKeyManagersProvider;
+import software.amazon.awssdk.http.TlsTrustManagersProvider;
+import software.amazon.awssdk.http.async.AsyncExecuteRequest;
+import software.amazon.awssdk.http.async.SdkAsyncHttpClient;
+import software.amazon.awssdk.http.async.SdkAsyncHttpResponseHandler;
+import software.amazon.awssdk.http.javahttp.internal.ConcurrencyLimiter;
+import software.amazon.awssdk.http.javahttp.internal.HttpRequestAdapter;
+import software.amazon.awssdk.http.javahttp.internal.JavaHttpClientFactory;
+import software.amazon.awssdk.http.javahttp.internal.ResponseBodySubscriber;
+import software.amazon.awssdk.metrics.MetricCollector;
+import software.amazon.awssdk.metrics.NoOpMetricCollector;
+import software.amazon.awssdk.utils.AttributeMap;
+import software.amazon.awssdk.utils.Logger;
+
+/**
+ * An implementation of {@link SdkAsyncHttpClient} that uses the {@link HttpClient} of the JDK, which is available on Java 11
+ * and later. It supports HTTP/1.1 and HTTP/2, where requests to the same host are multiplexed over a single connection, and
+ * has no dependencies beyond the JDK. This makes it a light and fast-starting alternative to the Netty based client, e.g.
+ * for AWS Lambda functions.
+ *
+ * <p>This can be created via {@link #builder()}</p>
+ */
+@SdkPublicApi
+public final class JavaAsyncHttpClient implements SdkAsyncHttpClient {
+    private static final Logger log = Logger.loggerFor(JavaAsyncHttpClient.class);
+    private static final String CLIENT_NAME = "JavaHttp";
+
+    private final HttpClient httpClient;
+    private final ConcurrencyLimiter concurrencyLimiter;
+    private final Duration readTimeout;
+
+    private JavaAsyncHttpClient(AttributeMap options) {
+        this.httpClient = JavaHttpClientFactory.createHttpClient(options);
+        this.concurrencyLimiter = JavaHttpClientFactory.createConcurrencyLimiter(options);
+        this.readTimeout = options.get(SdkHttpConfigurationOption.READ_TIMEOUT);
+    }
+
+    public static Builder builder() {
+        return new DefaultBuilder();
+    }
+
+    /**
+     * Create a {@link JavaAsyncHttpClient} with the default properties
+     *
+     * @return a {@link JavaAsyncHttpClient}
+     */
+    public static SdkAsyncHttpClient create() {
+        return new DefaultBuilder().build();
+    }
+
+    @Override
+    public CompletableFuture<Void> execute(AsyncExecuteRequest request) {
+        MetricCollector metricCollector = request.metricCollector().orElseGet(NoOpMetricCollector::create);
+        metricCollector.reportMetric(HTTP_CLIENT_NAME, clientName());
+
+        CompletableFuture<Void> executeFuture = new CompletableFuture<>();
+        concurrencyLimiter.acquire().whenComplete((ignored, acquireFailure) -> {
+            concurrencyLimiter.collectMetrics(metricCollector);
+            if (acquireFailure != null) {
+                fail(request.responseHandler(), executeFuture, acquireFailure);
+                return;
+            }
+            executeFuture.whenComplete((r, t) -> concurrencyLimiter.release());
+            send(request, executeFuture);
+        });
+        return executeFuture;
+    }
+
+    private void send(AsyncExecuteRequest request, CompletableFuture<Void> executeFuture) {
+        SdkAsyncHttpResponseHandler responseHandler = request.responseHandler();
+        ResponseBodySubscriber[] bodySubscriber = new ResponseBodySubscriber[1];
+        CompletableFuture<HttpResponse<Void>> responseFuture;
+        try {
+            HttpRequest httpRequest = HttpRequestAdapter.adapt(request.request(),
+                                                               HttpRequestAdapter.body(request.request(),
+                                                                                       request.requestContentPublisher()),
+                                                               readTimeout);
+            responseFuture = httpClient.sendAsync(httpRequest, responseInfo -> {
+                responseHandler.onHeaders(SdkHttpResponse.builder()
+                                                         .statusCode(responseInfo.statusCode())
+                                                         .headers(responseInfo.headers().map())
+                                                         .build());
+                bodySubscriber[0] = new ResponseBodySubscriber(responseHandler);
+                return bodySubscriber[0];
+            });
+        } catch (RuntimeException e) {
+            fail(responseHandler, executeFuture, e);
+            return;
+        }
+
+        responseFuture.whenComplete((response, t) -> {
+            if (t == null) {
+                executeFuture.complete(null);
+            } else if (bodySubscriber[0] != null && bodySubscriber[0].cancelled()) {
+                // The subscriber of the handler gave up on the body, so only the caller needs to know.
+                executeFuture.completeExceptionally(unwrap(t));
+            } else {
+                fail(responseHandler, executeFuture, unwrap(t));
+            }
+        });
+
+        // Cancelling the response aborts the exchange, from Java 16 on.
+        executeFuture.whenComplete((r, t) -> {
+            if (executeFuture.isCancelled()) {
+                responseFuture.cancel(true);
+            }
+        });
+    }
+
+    private static void fail(SdkAsyncHttpResponseHandler responseHandler, CompletableFuture<Void> executeFuture, Throwable t) {
+        runAndLogError(log.logger(), "SdkAsyncHttpResponseHandler threw an exception.", () -> responseHandler.onError(t));
+        executeFuture.completeExceptionally(t);
+    }
+
+    private static Throwable unwrap(Throwable t) {
+        return t instanceof CompletionException && t.getCause() != null ? t.getCause() : t;
+    }
+
+    @Override
+    public String clientName() {
+        return CLIENT_NAME;
+    }
+
+    @Override
+    public void close() {
+        // HttpClient can only be closed from Java 21 on. Before that, its connections are closed once it is unreachable.
+        if (httpClient instanceof AutoCloseable) {
+            runAndLogError(log.logger(), "Unable to close the HTTP client.", ((AutoCloseable) httpClient)::close);
+        }
+    }
+
+    /**
+     * Builder that allows configuration of the Java HTTP client. Use {@link #builder()} to configure and construct a
+     * {@link JavaAsyncHttpClient}.
+     */
+    public interface Builder extends SdkAsyncHttpClient.Builder<JavaAsyncHttpClient.Builder> {
+
+        /**
+         * Maximum number of requests that the client executes at once. Requests beyond that wait for one to finish. With
+         * HTTP/1.1 this is the maximum number of connections, with HTTP/2 it is the maximum number of concurrent streams.
+         *
+         * @param maxConcurrency New value for max concurrency.
+         * @return This builder for method chaining.
+         */
+        Builder maxConcurrency(Integer maxConcurrency);
+
+        /**
+         * The maximum number of requests that are allowed to wait to be executed, once the max concurrency is reached. Requests
+         * beyond that fail immediately.
+         *
+         * @param maxPendingConnectionAcquires New value for max pending connection acquires.
+         * @return This builder for method chaining.
+         */
+        Builder maxPendingConnectionAcquires(Integer maxPendingConnectionAcquires);
+
+        /**
+         * The amount of time a request waits to be executed, once the max concurrency is reached, before it fails. A duration
+         * of 0 means infinity.
+         *
+         * @param connectionAcquisitionTimeout the timeout duration
+         * @return this builder for method chaining.
+         */
+        Builder connectionAcquisitionTimeout(Duration connectionAcquisitionTimeout);
+
+        /**
+         * The amount of time to wait when initially establishing a connection before giving up and timing out. A duration of 0
+         * means infinity, and is not recommended.
+         *
+         * @param connectionTimeout timeout duration
+         * @return this builder for method chaining.
+         */
+        Builder connectionTimeout(Duration connectionTimeout);
+
+        /**
+         * The amount of time to wait for the response headers of a request, starting when the request is sent. This includes
+         * the time it takes to send the request content, so it should be increased for large uploads. A duration of 0 means
+         * infinity, and is not recommended.
+         *
+         * @param readTimeout timeout duration
+         * @return this builder for method chaining.
+         */
+        Builder readTimeout(Duration readTimeout);
+
+        /**
+         * Sets the HTTP protocol to use (i.e. HTTP/1.1 or HTTP/2). Not all services support HTTP/2.
+         *
+         * @param protocol Protocol to use.
+         * @return This builder for method chaining.
+         */
+        Builder protocol(Protocol protocol);
+
+        /**
+         * Configure the {@link TlsKeyManagersProvider} that will provide the {@link javax.net.ssl.KeyManager}s to use
+         * when constructing the SSL context.
+         */
+        Builder tlsKeyManagersProvider(TlsKeyManagersProvider tlsKeyManagersProvider);
+
+        /**
+         * Configure the {@link TlsTrustManagersProvider} that will provide the {@link javax.net.ssl.TrustManager}s to use
+         * when constructing the SSL context.
+         */
+        Builder tlsTrustManagersProvider(TlsTrustManagersProvider tlsTrustManagersProvider);
+    }
+
+    private static final class DefaultBuilder implements Builder {
+        private final AttributeMap.Builder standardOptions = AttributeMap.builder();
+
+        private DefaultBuilder() {
+        }
+
+        @Override
+        public Builder maxConcurrency(Integer maxConcurrency) {
+            standardOptions.put(SdkHttpConfigurationOption.MAX_CONNECTIONS, maxConcurrency);
+            return this;
+        }
+
+        public void setMaxConcurrency(Integer maxConcurrency) {
+            maxConcurrency(maxConcurrency);
+        }
+
+        @Override
+        public Builder maxPendingConnectionAcquires(Integer maxPendingConnectionAcquires) {
+            standardOptions.put(SdkHttpConfigurationOption.MAX_PENDING_CONNECTION_ACQUIRES, maxPendingConnectionAcquires);
+            return this;
+        }
+
+        public void setMaxPendingConnectionAcquires(Integer maxPendingConnectionAcquires) {
+            maxPendingConnectionAcquires(maxPendingConnectionAcquires);
+        }
+
+        @Override
+        public Builder connectionAcquisitionTimeout(Duration connectionAcquisitionTimeout) {
+            standardOptions.put(SdkHttpConfigurationOption.CONNECTION_ACQUIRE_TIMEOUT, connectionAcquisitionTimeout);
+            return this;
+        }
+
+        public void setConnectionAcquisitionTimeout(Duration connectionAcquisitionTimeout) {
+            connectionAcquisitionTimeout(connectionAcquisitionTimeout);
+        }
+
+        @Override
+        public Builder connectionTimeout(Duration connectionTimeout) {
+            standardOptions.put(SdkHttpConfigurationOption.CONNECTION_TIMEOUT, connectionTimeout);
+            return this;
+        }
+
+        public void setConnectionTimeout(Duration connectionTimeout) {
+            connectionTimeout(connectionTimeout);
+        }
+
+        @Override
+        public Builder readTimeout(Duration readTimeout) {
+            standardOptions.put(SdkHttpConfigurationOption.READ_TIMEOUT, readTimeout);
+            return this;
+        }
+
+        public void setReadTimeout(Duration readTimeout) {
+            readTimeout(readTimeout);
+        }
+
+        @Override
+        public Builder protocol(Protocol protocol) {
+            standardOptions.put(SdkHttpConfigurationOption.PROTOCOL, protocol);
+            return this;
+        }
+
+        public void setProtocol(Protocol protocol) {
+            protocol(protocol);
+        }
+
+        @Override
+        public Builder tlsKeyManagersProvider(TlsKeyManagersProvider tlsKeyManagersProvider) {
+            standardOptions.put(SdkHttpConfigurationOption.TLS_KEY_MANAGERS_PROVIDER, tlsKeyManagersProvider);
+            return this;
+        }
+
+        public void setTlsKeyManagersProvider(TlsKeyManagersProvider tlsKeyManagersProvider) {
+            tlsKeyManagersProvider(tlsKeyManagersProvider);
+        }
+
+        @Override
+        public Builder tlsTrustManagersProvider(TlsTrustManagersProvider tlsTrustManagersProvider) {
+            standardOptions.put(SdkHttpConfigurationOption.TLS_TRUST_MANAGERS_PROVIDER, tlsTrustManagersProvider);
+            return this;
+        }
+
+        public void setTlsTrustManagersProvider(TlsTrustManagersProvider tlsTrustManagersProvider) {
+            tlsTrustManagersProvider(tlsTrustManagersProvider);
+        }
+
+        @Override
+        public SdkAsyncHttpClient buildWithDefaults(AttributeMap serviceDefaults) {
+            return new JavaAsyncHttpClient(standardOptions.build()
+                                                          .merge(serviceDefaults)
+                                                          .merge(SdkHttpConfigurationOption.GLOBAL_HTTP_DEFAULTS));
+        }
+    }
+}
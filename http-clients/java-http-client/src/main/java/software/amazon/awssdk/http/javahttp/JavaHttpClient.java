@@ -0,0 +1,365 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.javahttp;
+
+import static software.amazon.awssdk.utils.FunctionalUtils.runAndLogError;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import software.amazon.awssdk.annotations.SdkPublicApi;
+import software.amazon.awssdk.http.AbortableInputStream;
+import software.amazon.awssdk.http.ExecutableHttpRequest;
+import software.amazon.awssdk.http.HttpExecuteRequest;
+import software.amazon.awssdk.http.HttpExecuteResponse;
+import software.amazon.awssdk.http.Protocol;
+import software.amazon.awssdk.http.SdkHttpClient;
+import software.amazon.awssdk.http.SdkHttpConfigurationOption;
+import software.amazon.awssdk.http.SdkHttpMethod;
+import software.amazon.awssdk.http.SdkHttpResponse;
+import software.amazon.awssdk.http.TlsKeyManagersProvider;
+import software.amazon.awssdk.http.TlsTrustManagersProvider;
+import software.amazon.awssdk.http.javahttp.internal.ConcurrencyLimiter;
+import software.amazon.awssdk.http.javahttp.internal.HttpRequestAdapter;
+import software.amazon.awssdk.http.javahttp.internal.JavaHttpClientFactory;
+import software.amazon.awssdk.utils.AttributeMap;
+import software.amazon.awssdk.utils.Logger;
+
+/**
+ * An implementation of {@link SdkHttpClient} that uses the {@link HttpClient} of the JDK, which is available on Java 11 and
+ * later. Unlike software.amazon.awssdk.http.urlconnection.UrlConnectionHttpClient, it pools its connections itself and
+ * supports HTTP/2, while also having no dependencies beyond the JDK.
+ *
+ * <p>This can be created via {@link #builder()}</p>
+ */
+@SdkPublicApi
+public final class JavaHttpClient implements SdkHttpClient {
+    private static final Logger log = Logger.loggerFor(JavaHttpClient.class);
+    private static final String CLIENT_NAME = "JavaHttp";
+
+    private final HttpClient httpClient;
+    private final ConcurrencyLimiter concurrencyLimiter;
+    private final Duration readTimeout;
+
+    private JavaHttpClient(AttributeMap options) {
+        this.httpClient = JavaHttpClientFactory.createHttpClient(options);
+        this.concurrencyLimiter = JavaHttpClientFactory.createConcurrencyLimiter(options);
+        this.readTimeout = options.get(SdkHttpConfigurationOption.READ_TIMEOUT);
+    }
+
+    public static Builder builder() {
+        return new DefaultBuilder();
+    }
+
+    /**
+     * Create a {@link JavaHttpClient} with the default properties
+     *
+     * @return a {@link JavaHttpClient}
+     */
+    public static SdkHttpClient create() {
+        return new DefaultBuilder().build();
+    }
+
+    @Override
+    public ExecutableHttpRequest prepareRequest(HttpExecuteRequest request) {
+        HttpRequest httpRequest = HttpRequestAdapter.adapt(request.httpRequest(),
+                                                           HttpRequestAdapter.body(request.httpRequest(),
+                                                                                   request.contentStreamProvider()),
+                                                           readTimeout);
+        return new RequestCallable(httpRequest);
+    }
+
+    @Override
+    public void close() {
+        // HttpClient can only be closed from Java 21 on. Before that, its connections are closed once it is unreachable.
+        if (httpClient instanceof AutoCloseable) {
+            runAndLogError(log.logger(), "Unable to close the HTTP client.", ((AutoCloseable) httpClient)::close);
+        }
+    }
+
+    @Override
+    public String clientName() {
+        return CLIENT_NAME;
+    }
+
+    private final class RequestCallable implements ExecutableHttpRequest {
+        private final HttpRequest httpRequest;
+        private volatile CompletableFuture<HttpResponse<InputStream>> responseFuture;
+        private volatile InputStream responseStream;
+        private volatile boolean aborted;
+
+        private RequestCallable(HttpRequest httpRequest) {
+            this.httpRequest = httpRequest;
+        }
+
+        @Override
+        public HttpExecuteResponse call() throws IOException {
+            acquire();
+            HttpResponse<InputStream> response;
+            try {
+                response = send();
+            } catch (IOException | RuntimeException e) {
+                concurrencyLimiter.release();
+                throw e;
+            }
+
+            SdkHttpResponse sdkResponse = SdkHttpResponse.builder()
+                                                         .statusCode(response.statusCode())
+                                                         .headers(response.headers().map())
+                                                         .build();
+            if (response.body() == null) {
+                concurrencyLimiter.release();
+                return HttpExecuteResponse.builder().response(sdkResponse).build();
+            }
+
+            responseStream = new ReleasingInputStream(response.body());
+            if (aborted) {
+                responseStream.close();
+            }
+            return HttpExecuteResponse.builder()
+                                      .response(sdkResponse)
+                                      .responseBody(AbortableInputStream.create(responseStream, this::abort))
+                                      .build();
+        }
+
+        private void acquire() throws IOException {
+            try {
+                concurrencyLimiter.acquire().get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException("Interrupted while waiting to execute the request.");
+            } catch (ExecutionException e) {
+                throw new IOException(e.getCause().getMessage(), e.getCause());
+            }
+        }
+
+        private HttpResponse<InputStream> send() throws IOException {
+            HttpResponse.BodyHandler<InputStream> bodyHandler =
+                httpRequest.method().equals(SdkHttpMethod.HEAD.name())
+                ? HttpResponse.BodyHandlers.replacing(null)
+                : HttpResponse.BodyHandlers.ofInputStream();
+            responseFuture = httpClient.sendAsync(httpRequest, bodyHandler);
+            if (aborted) {
+                responseFuture.cancel(true);
+            }
+            try {
+                return responseFuture.get();
+            } catch (InterruptedException e) {
+                responseFuture.cancel(true);
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException("Interrupted while waiting for the response.");
+            } catch (ExecutionException | CompletionException e) {
+                Throwable cause = e.getCause() != null ? e.getCause() : e;
+                if (cause instanceof IOException) {
+                    throw (IOException) cause;
+                }
+                throw new IOException(cause.getMessage(), cause);
+            }
+        }
+
+        @Override
+        public void abort() {
+            aborted = true;
+            CompletableFuture<HttpResponse<InputStream>> future = responseFuture;
+            if (future != null) {
+                future.cancel(true);
+            }
+            InputStream stream = responseStream;
+            if (stream != null) {
+                runAndLogError(log.logger(), "Unable to close the response stream.", stream::close);
+            }
+        }
+    }
+
+    /**
+     * Releases the permit of its request once the response is closed, which also returns the connection to the pool of the
+     * {@link HttpClient} if the response was read completely.
+     */
+    private final class ReleasingInputStream extends FilterInputStream {
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        private ReleasingInputStream(InputStream in) {
+            super(in);
+        }
+
+        @Override
+        public void close() throws IOException {
+            try {
+                super.close();
+            } finally {
+                if (released.compareAndSet(false, true)) {
+                    concurrencyLimiter.release();
+                }
+            }
+        }
+    }
+
+    /**
+     * A builder for an instance of {@link SdkHttpClient} that uses the {@link HttpClient} of the JDK. A builder can be created
+     * via {@link #builder()}.
+     *
+     * <pre class="brush: java">
+     * SdkHttpClient httpClient = JavaHttpClient.builder()
+     * .socketTimeout(Duration.ofSeconds(10))
+     * .connectionTimeout(Duration.ofSeconds(1))
+     * .build();
+     * </pre>
+     */
+    public interface Builder extends SdkHttpClient.Builder<JavaHttpClient.Builder> {
+
+        /**
+         * The amount of time to wait for the response headers of a request, starting when the request is sent. This includes
+         * the time it takes to send the request content, so it should be increased for large uploads. A duration of 0 means
+         * infinity, and is not recommended.
+         */
+        Builder socketTimeout(Duration socketTimeout);
+
+        /**
+         * The amount of time to wait when initially establishing a connection before giving up and timing out. A duration of 0
+         * means infinity, and is not recommended.
+         */
+        Builder connectionTimeout(Duration connectionTimeout);
+
+        /**
+         * The maximum number of requests that the client executes at once. Requests beyond that wait for one to finish, for at
+         * most the {@link #connectionAcquisitionTimeout(Duration)}.
+         */
+        Builder maxConnections(Integer maxConnections);
+
+        /**
+         * The amount of time a request waits to be executed, once the maximum number of connections is reached, before it
+         * fails. A duration of 0 means infinity.
+         */
+        Builder connectionAcquisitionTimeout(Duration connectionAcquisitionTimeout);
+
+        /**
+         * Sets the HTTP protocol to use (i.e. HTTP/1.1 or HTTP/2). Not all services support HTTP/2.
+         */
+        Builder protocol(Protocol protocol);
+
+        /**
+         * Configure the {@link TlsKeyManagersProvider} that will provide the {@link javax.net.ssl.KeyManager}s to use
+         * when constructing the SSL context.
+         */
+        Builder tlsKeyManagersProvider(TlsKeyManagersProvider tlsKeyManagersProvider);
+
+        /**
+         * Configure the {@link TlsTrustManagersProvider} that will provide the {@link javax.net.ssl.TrustManager}s to use
+         * when constructing the SSL context.
+         */
+        Builder tlsTrustManagersProvider(TlsTrustManagersProvider tlsTrustManagersProvider);
+    }
+
+    private static final class DefaultBuilder implements Builder {
+        private final AttributeMap.Builder standardOptions = AttributeMap.builder();
+
+        private DefaultBuilder() {
+        }
+
+        @Override
+        public Builder socketTimeout(Duration socketTimeout) {
+            standardOptions.put(SdkHttpConfigurationOption.READ_TIMEOUT, socketTimeout);
+            return this;
+        }
+
+        public void setSocketTimeout(Duration socketTimeout) {
+            socketTimeout(socketTimeout);
+        }
+
+        @Override
+        public Builder connectionTimeout(Duration connectionTimeout) {
+            standardOptions.put(SdkHttpConfigurationOption.CONNECTION_TIMEOUT, connectionTimeout);
+            return this;
+        }
+
+        public void setConnectionTimeout(Duration connectionTimeout) {
+            connectionTimeout(connectionTimeout);
+        }
+
+        @Override
+        public Builder maxConnections(Integer maxConnections) {
+            standardOptions.put(SdkHttpConfigurationOption.MAX_CONNECTIONS, maxConnections);
+            return this;
+        }
+
+        public void setMaxConnections(Integer maxConnections) {
+            maxConnections(maxConnections);
+        }
+
+        @Override
+        public Builder connectionAcquisitionTimeout(Duration connectionAcquisitionTimeout) {
+            standardOptions.put(SdkHttpConfigurationOption.CONNECTION_ACQUIRE_TIMEOUT, connectionAcquisitionTimeout);
+            return this;
+        }
+
+        public void setConnectionAcquisitionTimeout(Duration connectionAcquisitionTimeout) {
+            connectionAcquisitionTimeout(connectionAcquisitionTimeout);
+        }
+
+        @Override
+        public Builder protocol(Protocol protocol) {
+            standardOptions.put(SdkHttpConfigurationOption.PROTOCOL, protocol);
+            return this;
+        }
+
+        public void setProtocol(Protocol protocol) {
+            protocol(protocol);
+        }
+
+        @Override
+        public Builder tlsKeyManagersProvider(TlsKeyManagersProvider tlsKeyManagersProvider) {
+            standardOptions.put(SdkHttpConfigurationOption.TLS_KEY_MANAGERS_PROVIDER, tlsKeyManagersProvider);
+            return this;
+        }
+
+        public void setTlsKeyManagersProvider(TlsKeyManagersProvider tlsKeyManagersProvider) {
+            tlsKeyManagersProvider(tlsKeyManagersProvider);
+        }
+
+        @Override
+        public Builder tlsTrustManagersProvider(TlsTrustManagersProvider tlsTrustManagersProvider) {
+            standardOptions.put(SdkHttpConfigurationOption.TLS_TRUST_MANAGERS_PROVIDER, tlsTrustManagersProvider);
+            return this;
+        }
+
+        public void setTlsTrustManagersProvider(TlsTrustManagersProvider tlsTrustManagersProvider) {
+            tlsTrustManagersProvider(tlsTrustManagersProvider);
+        }
+
+        /**
+         * Used by the SDK to create a {@link SdkHttpClient} with service-default values if no other values have been configured
+         *
+         * @param serviceDefaults Service specific defaults. Keys will be one of the constants defined in
+         * {@link SdkHttpConfigurationOption}.
+         * @return an instance of {@link SdkHttpClient}
+         */
+        @Override
+        public SdkHttpClient buildWithDefaults(AttributeMap serviceDefaults) {
+            return new JavaHttpClient(standardOptions.build()
+                                                     .merge(serviceDefaults)
+                                                     .merge(SdkHttpConfigurationOption.GLOBAL_HTTP_DEFAULTS));
+        }
+    }
+}
@@ -0,0 +1,134 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.javahttp.internal;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.http.HttpMetric;
+import software.amazon.awssdk.metrics.MetricCollector;
+
+/**
+ * Limits the number of requests that a client executes at once. {@link java.net.http.HttpClient} doesn't limit the number of
+ * connections it opens, so requests beyond the limit wait here for a permit instead of in a connection pool, in the order in
+ * which they were made.
+ */
+@SdkInternalApi
+@ThreadSafe
+public final class ConcurrencyLimiter {
+    private final int maxConcurrency;
+    private final int maxPendingAcquires;
+    private final Duration acquireTimeout;
+
+    private final Deque<CompletableFuture<Void>> pendingAcquires = new ArrayDeque<>();
+    private int leased;
+
+    /**
+     * @param maxConcurrency The number of permits.
+     * @param maxPendingAcquires The number of acquires that may wait for a permit, beyond which acquires fail immediately.
+     * @param acquireTimeout How long an acquire may wait for a permit before it fails, where zero means forever.
+     */
+    public ConcurrencyLimiter(int maxConcurrency, int maxPendingAcquires, Duration acquireTimeout) {
+        this.maxConcurrency = maxConcurrency;
+        this.maxPendingAcquires = maxPendingAcquires;
+        this.acquireTimeout = acquireTimeout;
+    }
+
+    /**
+     * Acquire a permit, which must be {@link #release()}d once the request is done.
+     *
+     * @return A future that is completed once the permit is acquired, or completed exceptionally if it could not be.
+     */
+    public CompletableFuture<Void> acquire() {
+        CompletableFuture<Void> acquire;
+        synchronized (this) {
+            if (leased < maxConcurrency) {
+                leased++;
+                return CompletableFuture.completedFuture(null);
+            }
+            if (pendingAcquires.size() >= maxPendingAcquires) {
+                return CompletableFuture.failedFuture(new IllegalStateException(
+                    "Too many outstanding acquire operations. Increase the maximum pending acquires (currently "
+                    + maxPendingAcquires + ") or the maximum concurrency (currently " + maxConcurrency + ")."));
+            }
+            acquire = new CompletableFuture<>();
+            pendingAcquires.addLast(acquire);
+        }
+
+        if (!acquireTimeout.isZero()) {
+            CompletableFuture.delayedExecutor(acquireTimeout.toMillis(), TimeUnit.MILLISECONDS).execute(() -> {
+                // Free the pending slot before failing, so that it is available to whoever observes the failure.
+                removePending(acquire);
+                acquire.completeExceptionally(new TimeoutException(
+                    "Acquire operation took longer than the configured maximum time (" + acquireTimeout + "). This indicates "
+                    + "that a request cannot get a permit to execute because the maximum concurrency (" + maxConcurrency
+                    + ") is reached."));
+            });
+        }
+        acquire.whenComplete((r, t) -> {
+            if (t != null) {
+                removePending(acquire);
+            }
+        });
+        return acquire;
+    }
+
+    private synchronized void removePending(CompletableFuture<Void> acquire) {
+        pendingAcquires.remove(acquire);
+    }
+
+    /**
+     * Release a permit, passing it on to the oldest pending acquire if there is one.
+     */
+    public void release() {
+        while (true) {
+            CompletableFuture<Void> next;
+            synchronized (this) {
+                next = pendingAcquires.pollFirst();
+                if (next == null) {
+                    leased--;
+                    return;
+                }
+            }
+            // Complete outside of the lock, because this runs the request that acquired the permit. The acquire is already
+            // done if it timed out or was cancelled, in which case the permit goes to the next one.
+            if (next.complete(null)) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Report the current {@link HttpMetric#MAX_CONCURRENCY}, {@link HttpMetric#LEASED_CONCURRENCY} and
+     * {@link HttpMetric#PENDING_CONCURRENCY_ACQUIRES} of this limiter.
+     */
+    public void collectMetrics(MetricCollector metrics) {
+        int currentlyLeased;
+        int currentlyPending;
+        synchronized (this) {
+            currentlyLeased = leased;
+            currentlyPending = pendingAcquires.size();
+        }
+        metrics.reportMetric(HttpMetric.MAX_CONCURRENCY, maxConcurrency);
+        metrics.reportMetric(HttpMetric.LEASED_CONCURRENCY, currentlyLeased);
+        metrics.reportMetric(HttpMetric.PENDING_CONCURRENCY_ACQUIRES, currentlyPending);
+    }
+}
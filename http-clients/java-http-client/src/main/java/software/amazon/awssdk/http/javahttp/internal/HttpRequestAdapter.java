@@ -0,0 +1,211 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.javahttp.internal;
+
+import java.io.IOException;
+import java.net.http.HttpRequest;
+import java.net.http.HttpRequest.BodyPublisher;
+import java.net.http.HttpRequest.BodyPublishers;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.Flow;
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.http.ContentStreamProvider;
+import software.amazon.awssdk.http.SdkHttpRequest;
+import software.amazon.awssdk.http.async.SdkHttpContentPublisher;
+import software.amazon.awssdk.http.async.SdkHttpFileContentPublisher;
+import software.amazon.awssdk.utils.Logger;
+
+/**
+ * Adapts SDK requests to {@link HttpRequest}s.
+ */
+@SdkInternalApi
+public final class HttpRequestAdapter {
+    private static final Logger log = Logger.loggerFor(HttpRequestAdapter.class);
+
+    /**
+     * Headers that {@link HttpRequest} doesn't allow to be set, because the client sets them itself: from the URI, from the
+     * content length of the body publisher, and from {@link HttpRequest.Builder#expectContinue(boolean)}.
+     */
+    private static final Set<String> CLIENT_MANAGED_HEADERS = new TreeSet<>(String.CASE_INSENSITIVE_ORDER);
+
+    static {
+        CLIENT_MANAGED_HEADERS.addAll(Arrays.asList("Connection", "Content-Length", "Expect", "Host", "Upgrade"));
+    }
+
+    private HttpRequestAdapter() {
+    }
+
+    /**
+     * @param readTimeout How long to wait for the response headers once the request is sent, where zero means forever.
+     */
+    public static HttpRequest adapt(SdkHttpRequest request, BodyPublisher body, Duration readTimeout) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(request.getUri())
+                                                 .method(request.method().name(), body);
+        if (!readTimeout.isZero()) {
+            builder.timeout(readTimeout);
+        }
+
+        request.headers().forEach((name, values) -> {
+            if (!CLIENT_MANAGED_HEADERS.contains(name)) {
+                values.forEach(value -> builder.header(name, value));
+            }
+        });
+        request.firstMatchingHeader("Expect")
+               .filter("100-continue"::equalsIgnoreCase)
+               .ifPresent(expect -> builder.expectContinue(true));
+        return builder.build();
+    }
+
+    /**
+     * Create the body of an async request. The file of a file-backed publisher is sent by the {@link java.net.http.HttpClient}
+     * itself, when the request sends the whole file.
+     */
+    public static BodyPublisher body(SdkHttpRequest request, SdkHttpContentPublisher contentPublisher) {
+        long contentLength = contentLength(request, contentPublisher.contentLength());
+        if (contentLength == 0) {
+            return BodyPublishers.noBody();
+        }
+        if (contentPublisher instanceof SdkHttpFileContentPublisher) {
+            Optional<BodyPublisher> fileBody = fileBody(((SdkHttpFileContentPublisher) contentPublisher).path(), contentLength);
+            if (fileBody.isPresent()) {
+                return fileBody.get();
+            }
+        }
+
+        Flow.Publisher<ByteBuffer> publisher = new FlowPublisherAdapter(contentPublisher);
+        return contentLength > 0 ? BodyPublishers.fromPublisher(publisher, contentLength)
+                                 : BodyPublishers.fromPublisher(publisher);
+    }
+
+    /**
+     * Create the body of a sync request.
+     */
+    public static BodyPublisher body(SdkHttpRequest request, Optional<ContentStreamProvider> contentStreamProvider) {
+        if (!contentStreamProvider.isPresent()) {
+            return BodyPublishers.noBody();
+        }
+
+        long contentLength = contentLength(request, Optional.empty());
+        if (contentLength == 0) {
+            return BodyPublishers.noBody();
+        }
+
+        BodyPublisher publisher = BodyPublishers.ofInputStream(contentStreamProvider.get()::newStream);
+        return contentLength > 0 ? BodyPublishers.fromPublisher(publisher, contentLength) : publisher;
+    }
+
+    /**
+     * @return The content length of the request, which the Content-Length header takes precedence for, or -1 if unknown.
+     */
+    private static long contentLength(SdkHttpRequest request, Optional<Long> publisherContentLength) {
+        Optional<String> header = request.firstMatchingHeader("Content-Length");
+        if (header.isPresent()) {
+            try {
+                return Long.parseLong(header.get());
+            } catch (NumberFormatException e) {
+                log.warn(() -> "Unable to parse 'Content-Length' header. Treating it as non existent.");
+            }
+        }
+        return publisherContentLength.orElse(-1L);
+    }
+
+    private static Optional<BodyPublisher> fileBody(Path path, long contentLength) {
+        try {
+            if (Files.size(path) == contentLength) {
+                return Optional.of(BodyPublishers.ofFile(path));
+            }
+        } catch (IOException e) {
+            log.debug(() -> "Unable to send " + path + " directly, reading it through the content publisher instead.", e);
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Adapts the Reactive Streams publisher of the SDK to the {@link Flow.Publisher} that {@link java.net.http.HttpClient}
+     * expects.
+     */
+    private static final class FlowPublisherAdapter implements Flow.Publisher<ByteBuffer> {
+        private final Publisher<ByteBuffer> publisher;
+
+        private FlowPublisherAdapter(Publisher<ByteBuffer> publisher) {
+            this.publisher = publisher;
+        }
+
+        @Override
+        public void subscribe(Flow.Subscriber<? super ByteBuffer> subscriber) {
+            publisher.subscribe(new FlowSubscriberAdapter(subscriber));
+        }
+    }
+
+    /**
+     * Forwards the signals of the SDK publisher to the {@link Flow.Subscriber} of {@link java.net.http.HttpClient}.
+     */
+    private static final class FlowSubscriberAdapter implements Subscriber<ByteBuffer> {
+        private final Flow.Subscriber<? super ByteBuffer> subscriber;
+
+        private FlowSubscriberAdapter(Flow.Subscriber<? super ByteBuffer> subscriber) {
+            this.subscriber = subscriber;
+        }
+
+        @Override
+        public void onSubscribe(Subscription subscription) {
+            subscriber.onSubscribe(new FlowSubscriptionAdapter(subscription));
+        }
+
+        @Override
+        public void onNext(ByteBuffer byteBuffer) {
+            subscriber.onNext(byteBuffer);
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            subscriber.onError(t);
+        }
+
+        @Override
+        public void onComplete() {
+            subscriber.onComplete();
+        }
+    }
+
+    private static final class FlowSubscriptionAdapter implements Flow.Subscription {
+        private final Subscription subscription;
+
+        private FlowSubscriptionAdapter(Subscription subscription) {
+            this.subscription = subscription;
+        }
+
+        @Override
+        public void request(long n) {
+            subscription.request(n);
+        }
+
+        @Override
+        public void cancel() {
+            subscription.cancel();
+        }
+    }
+}
@@ -0,0 +1,145 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.javahttp.internal;
+
+import java.net.Socket;
+import java.net.http.HttpClient;
+import java.security.KeyManagementException;
+import java.security.NoSuchAlgorithmException;
+import java.security.cert.X509Certificate;
+import java.time.Duration;
+import javax.net.ssl.KeyManager;
+import javax.net.ssl.SSLContext;
+import javax.net.ssl.SSLEngine;
+import javax.net.ssl.TrustManager;
+import javax.net.ssl.X509ExtendedTrustManager;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.http.Protocol;
+import software.amazon.awssdk.http.SdkHttpConfigurationOption;
+import software.amazon.awssdk.http.TlsKeyManagersProvider;
+import software.amazon.awssdk.http.TlsTrustManagersProvider;
+import software.amazon.awssdk.utils.AttributeMap;
+import software.amazon.awssdk.utils.Logger;
+import software.amazon.awssdk.utils.Validate;
+
+/**
+ * Creates the {@link HttpClient} and the {@link ConcurrencyLimiter} that the sync and async clients of this module use,
+ * from the {@link SdkHttpConfigurationOption}s they were configured with.
+ */
+@SdkInternalApi
+public final class JavaHttpClientFactory {
+    private static final Logger log = Logger.loggerFor(JavaHttpClientFactory.class);
+
+    private JavaHttpClientFactory() {
+    }
+
+    public static HttpClient createHttpClient(AttributeMap options) {
+        HttpClient.Builder builder =
+            HttpClient.newBuilder()
+                      // HTTP/2 requests to the same host are multiplexed over a single connection. HTTP/2 falls back to
+                      // HTTP/1.1 if the server doesn't support it.
+                      .version(options.get(SdkHttpConfigurationOption.PROTOCOL) == Protocol.HTTP2 ? HttpClient.Version.HTTP_2
+                                                                                                 : HttpClient.Version.HTTP_1_1)
+                      // Disable following redirects since it breaks SDK error handling and matches Apache.
+                      .followRedirects(HttpClient.Redirect.NEVER)
+                      .sslContext(sslContext(options));
+
+        Duration connectionTimeout = options.get(SdkHttpConfigurationOption.CONNECTION_TIMEOUT);
+        if (!connectionTimeout.isZero()) {
+            builder.connectTimeout(connectionTimeout);
+        }
+        return builder.build();
+    }
+
+    public static ConcurrencyLimiter createConcurrencyLimiter(AttributeMap options) {
+        return new ConcurrencyLimiter(options.get(SdkHttpConfigurationOption.MAX_CONNECTIONS),
+                                      options.get(SdkHttpConfigurationOption.MAX_PENDING_CONNECTION_ACQUIRES),
+                                      options.get(SdkHttpConfigurationOption.CONNECTION_ACQUIRE_TIMEOUT));
+    }
+
+    private static SSLContext sslContext(AttributeMap options) {
+        TlsTrustManagersProvider trustManagersProvider = options.get(SdkHttpConfigurationOption.TLS_TRUST_MANAGERS_PROVIDER);
+        boolean trustAllCertificates = options.get(SdkHttpConfigurationOption.TRUST_ALL_CERTIFICATES);
+        Validate.isTrue(trustManagersProvider == null || !trustAllCertificates,
+                        "A TlsTrustManagerProvider can't be provided if TrustAllCertificates is also set");
+
+        TrustManager[] trustManagers = null;
+        if (trustManagersProvider != null) {
+            trustManagers = trustManagersProvider.trustManagers();
+        }
+
+        if (trustAllCertificates) {
+            log.warn(() -> "SSL Certificate verification is disabled. This is not a safe setting and should only be "
+                           + "used for testing.");
+            trustManagers = new TrustManager[] { TrustAllManager.INSTANCE };
+        }
+
+        TlsKeyManagersProvider keyManagersProvider = options.get(SdkHttpConfigurationOption.TLS_KEY_MANAGERS_PROVIDER);
+        KeyManager[] keyManagers = keyManagersProvider.keyManagers();
+
+        try {
+            SSLContext context = SSLContext.getInstance("TLS");
+            context.init(keyManagers, trustManagers, null);
+            return context;
+        } catch (NoSuchAlgorithmException | KeyManagementException ex) {
+            throw new RuntimeException(ex.getMessage(), ex);
+        }
+    }
+
+    /**
+     * Insecure trust manager to trust all certs. Should only be used for testing. It is an {@link X509ExtendedTrustManager},
+     * because the JDK verifies the host name of the server around any other kind of trust manager.
+     */
+    private static final class TrustAllManager extends X509ExtendedTrustManager {
+
+        private static final TrustAllManager INSTANCE = new TrustAllManager();
+
+        @Override
+        public void checkClientTrusted(X509Certificate[] x509Certificates, String s) {
+            log.debug(() -> "Accepting a client certificate: " + x509Certificates[0].getSubjectDN());
+        }
+
+        @Override
+        public void checkClientTrusted(X509Certificate[] x509Certificates, String s, Socket socket) {
+            checkClientTrusted(x509Certificates, s);
+        }
+
+        @Override
+        public void checkClientTrusted(X509Certificate[] x509Certificates, String s, SSLEngine sslEngine) {
+            checkClientTrusted(x509Certificates, s);
+        }
+
+        @Override
+        public void checkServerTrusted(X509Certificate[] x509Certificates, String s) {
+            log.debug(() -> "Accepting a server certificate: " + x509Certificates[0].getSubjectDN());
+        }
+
+        @Override
+        public void checkServerTrusted(X509Certificate[] x509Certificates, String s, Socket socket) {
+            checkServerTrusted(x509Certificates, s);
+        }
+
+        @Override
+        public void checkServerTrusted(X509Certificate[] x509Certificates, String s, SSLEngine sslEngine) {
+            checkServerTrusted(x509Certificates, s);
+        }
+
+        @Override
+        public X509Certificate[] getAcceptedIssuers() {
+            return new X509Certificate[0];
+        }
+    }
+}
@@ -0,0 +1,155 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.javahttp.internal;
+
+import java.io.IOException;
+import java.net.http.HttpResponse;
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Flow;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.http.async.SdkAsyncHttpResponseHandler;
+import software.amazon.awssdk.utils.async.FlatteningSubscriber;
+
+/**
+ * Bridges the response body of a {@link java.net.http.HttpClient} request to the Reactive Streams publisher that the
+ * {@link SdkAsyncHttpResponseHandler} expects. The body is published to the handler as soon as it is available, and the
+ * buffers that the client receives are passed on as they are, without copying them.
+ * <p>
+ * The body is done, i.e. {@link #getBody()} is completed, when the client has delivered all of it, when it failed, or when the
+ * subscriber of the handler cancelled its subscription.
+ */
+@SdkInternalApi
+public final class ResponseBodySubscriber implements HttpResponse.BodySubscriber<Void> {
+    private final SdkAsyncHttpResponseHandler responseHandler;
+    private final CompletableFuture<Void> body = new CompletableFuture<>();
+
+    private volatile Flow.Subscription upstream;
+    private volatile Subscriber<Iterable<ByteBuffer>> downstream;
+    private boolean downstreamSubscribed;
+    private boolean upstreamComplete;
+    private Throwable upstreamError;
+    private volatile boolean cancelled;
+
+    public ResponseBodySubscriber(SdkAsyncHttpResponseHandler responseHandler) {
+        this.responseHandler = responseHandler;
+    }
+
+    /**
+     * @return Whether the body is done because the subscriber of the handler cancelled its subscription.
+     */
+    public boolean cancelled() {
+        return cancelled;
+    }
+
+    @Override
+    public CompletionStage<Void> getBody() {
+        return body;
+    }
+
+    @Override
+    public void onSubscribe(Flow.Subscription subscription) {
+        upstream = subscription;
+        responseHandler.onStream(this::subscribeDownstream);
+    }
+
+    private void subscribeDownstream(Subscriber<? super ByteBuffer> subscriber) {
+        Subscriber<Iterable<ByteBuffer>> flattening = new FlatteningSubscriber<>(subscriber);
+        synchronized (this) {
+            if (downstream != null) {
+                subscriber.onSubscribe(new NoOpSubscription());
+                subscriber.onError(new IllegalStateException("The response body can only be subscribed to once."));
+                return;
+            }
+            downstream = flattening;
+        }
+
+        flattening.onSubscribe(new Subscription() {
+            @Override
+            public void request(long n) {
+                upstream.request(n);
+            }
+
+            @Override
+            public void cancel() {
+                cancelled = true;
+                upstream.cancel();
+                body.completeExceptionally(new IOException("Subscriber cancelled before all events were published"));
+            }
+        });
+
+        // The client may have finished the body, e.g. an empty one, before it was subscribed to, in which case it is up to us
+        // to signal that once the subscriber is ready for it.
+        boolean complete;
+        Throwable error;
+        synchronized (this) {
+            downstreamSubscribed = true;
+            complete = upstreamComplete;
+            error = upstreamError;
+        }
+        if (error != null) {
+            flattening.onError(error);
+        } else if (complete) {
+            flattening.onComplete();
+        }
+    }
+
+    @Override
+    public void onNext(List<ByteBuffer> item) {
+        // The client only delivers items on demand, which only the downstream subscriber signals.
+        downstream.onNext(item);
+    }
+
+    @Override
+    public void onError(Throwable throwable) {
+        boolean signalDownstream;
+        synchronized (this) {
+            upstreamError = throwable;
+            signalDownstream = downstreamSubscribed;
+        }
+        if (signalDownstream) {
+            downstream.onError(throwable);
+        }
+        body.completeExceptionally(throwable);
+    }
+
+    @Override
+    public void onComplete() {
+        boolean signalDownstream;
+        synchronized (this) {
+            upstreamComplete = true;
+            signalDownstream = downstreamSubscribed;
+        }
+        if (signalDownstream) {
+            downstream.onComplete();
+        }
+        body.complete(null);
+    }
+
+    private static final class NoOpSubscription implements Subscription {
+        @Override
+        public void request(long n) {
+        }
+
+        @Override
+        public void cancel() {
+        }
+    }
+}
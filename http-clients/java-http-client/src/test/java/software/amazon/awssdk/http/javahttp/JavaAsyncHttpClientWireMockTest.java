@@ -0,0 +1,235 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.javahttp;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.any;
+import static com.github.tomakehurst.wiremock.client.WireMock.equalTo;
+import static com.github.tomakehurst.wiremock.client.WireMock.postRequestedFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlPathEqualTo;
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.wireMockConfig;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.github.tomakehurst.wiremock.junit.WireMockRule;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.ConnectException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import org.junit.AfterClass;
+import org.junit.Rule;
+import org.junit.Test;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+import software.amazon.awssdk.http.EmptyPublisher;
+import software.amazon.awssdk.http.HttpMetric;
+import software.amazon.awssdk.http.RecordingResponseHandler;
+import software.amazon.awssdk.http.SdkHttpFullRequest;
+import software.amazon.awssdk.http.SdkHttpMethod;
+import software.amazon.awssdk.http.async.AsyncExecuteRequest;
+import software.amazon.awssdk.http.async.SdkAsyncHttpClient;
+import software.amazon.awssdk.http.async.SdkHttpContentPublisher;
+import software.amazon.awssdk.metrics.MetricCollection;
+
+public class JavaAsyncHttpClientWireMockTest {
+
+    @Rule
+    public WireMockRule mockServer = new WireMockRule(wireMockConfig().dynamicPort());
+
+    private static SdkAsyncHttpClient client = JavaAsyncHttpClient.create();
+
+    @AfterClass
+    public static void tearDown() {
+        client.close();
+    }
+
+    @Test
+    public void get_publishesResponseToHandler() throws Exception {
+        mockServer.stubFor(any(urlPathEqualTo("/")).willReturn(aResponse().withStatus(200)
+                                                                          .withHeader("Some-Header", "With Value")
+                                                                          .withBody("hello")));
+
+        RecordingResponseHandler handler = execute(client, request(SdkHttpMethod.GET), new EmptyPublisher());
+
+        assertThat(handler.responses()).hasSize(1);
+        assertThat(handler.responses().get(0).statusCode()).isEqualTo(200);
+        assertThat(handler.responses().get(0).firstMatchingHeader("Some-Header")).contains("With Value");
+        assertThat(handler.fullResponseAsString()).isEqualTo("hello");
+    }
+
+    @Test
+    public void post_sendsRequestContent() throws Exception {
+        mockServer.stubFor(any(urlPathEqualTo("/")).willReturn(aResponse().withStatus(202)));
+
+        SdkHttpFullRequest request = request(SdkHttpMethod.POST).toBuilder().putHeader("Content-Length", "4").build();
+        RecordingResponseHandler handler = execute(client, request, new BodyPublisher("Body", true));
+
+        assertThat(handler.responses().get(0).statusCode()).isEqualTo(202);
+        mockServer.verify(postRequestedFor(urlPathEqualTo("/")).withHeader("Content-Length", equalTo("4"))
+                                                               .withRequestBody(equalTo("Body")));
+    }
+
+    @Test
+    public void post_withoutContentLength_sendsRequestContent() throws Exception {
+        mockServer.stubFor(any(urlPathEqualTo("/")).willReturn(aResponse().withStatus(200)));
+
+        execute(client, request(SdkHttpMethod.POST), new BodyPublisher("Body", false));
+
+        mockServer.verify(postRequestedFor(urlPathEqualTo("/")).withRequestBody(equalTo("Body")));
+    }
+
+    @Test
+    public void head_completesWithoutContent() throws Exception {
+        mockServer.stubFor(any(urlPathEqualTo("/")).willReturn(aResponse().withStatus(200)
+                                                                          .withHeader("Content-Length", "5")));
+
+        RecordingResponseHandler handler = execute(client, request(SdkHttpMethod.HEAD), new EmptyPublisher());
+
+        assertThat(handler.responses().get(0).statusCode()).isEqualTo(200);
+        assertThat(handler.fullResponseAsString()).isEmpty();
+    }
+
+    @Test
+    public void connectionFailure_isReportedToHandler() {
+        SdkHttpFullRequest request = request(SdkHttpMethod.GET).toBuilder().port(unusedPort()).build();
+        RecordingResponseHandler handler = new RecordingResponseHandler();
+
+        CompletableFuture<Void> executeFuture = client.execute(asyncRequest(request, new EmptyPublisher(), handler));
+
+        assertThatThrownBy(() -> executeFuture.get(10, TimeUnit.SECONDS)).hasCauseInstanceOf(ConnectException.class);
+        assertThatThrownBy(() -> handler.completeFuture().get(10, TimeUnit.SECONDS))
+            .hasCauseInstanceOf(ConnectException.class);
+    }
+
+    @Test
+    public void metricsAreCollectedForSuccessfulCalls() throws Exception {
+        mockServer.stubFor(any(urlPathEqualTo("/")).willReturn(aResponse().withStatus(200).withBody("hello")));
+
+        try (SdkAsyncHttpClient customClient = JavaAsyncHttpClient.builder().maxConcurrency(10).build()) {
+            RecordingResponseHandler handler = execute(customClient, request(SdkHttpMethod.GET), new EmptyPublisher());
+
+            MetricCollection metrics = handler.collector().collect();
+            assertThat(metrics.metricValues(HttpMetric.HTTP_CLIENT_NAME)).containsExactly("JavaHttp");
+            assertThat(metrics.metricValues(HttpMetric.MAX_CONCURRENCY)).containsExactly(10);
+            assertThat(metrics.metricValues(HttpMetric.LEASED_CONCURRENCY)).containsExactly(1);
+            assertThat(metrics.metricValues(HttpMetric.PENDING_CONCURRENCY_ACQUIRES)).containsExactly(0);
+        }
+    }
+
+    @Test
+    public void requestsBeyondMaxConcurrency_waitForPermit() throws Exception {
+        mockServer.stubFor(any(urlPathEqualTo("/")).willReturn(aResponse().withStatus(200)
+                                                                          .withBody("hello")
+                                                                          .withFixedDelay(200)));
+
+        try (SdkAsyncHttpClient customClient = JavaAsyncHttpClient.builder().maxConcurrency(1).build()) {
+            List<RecordingResponseHandler> handlers = new ArrayList<>();
+            List<CompletableFuture<Void>> futures = new ArrayList<>();
+            for (int i = 0; i < 3; i++) {
+                RecordingResponseHandler handler = new RecordingResponseHandler();
+                handlers.add(handler);
+                futures.add(customClient.execute(asyncRequest(request(SdkHttpMethod.GET), new EmptyPublisher(), handler)));
+            }
+
+            CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).get(10, TimeUnit.SECONDS);
+            for (RecordingResponseHandler handler : handlers) {
+                handler.completeFuture().get(10, TimeUnit.SECONDS);
+                assertThat(handler.fullResponseAsString()).isEqualTo("hello");
+                assertThat(handler.collector().collect().metricValues(HttpMetric.LEASED_CONCURRENCY)).containsExactly(1);
+            }
+        }
+    }
+
+    private SdkHttpFullRequest request(SdkHttpMethod method) {
+        return SdkHttpFullRequest.builder()
+                                 .uri(URI.create("http://localhost:" + mockServer.port()))
+                                 .method(method)
+                                 .putHeader("Host", "localhost")
+                                 .build();
+    }
+
+    private static RecordingResponseHandler execute(SdkAsyncHttpClient client,
+                                                    SdkHttpFullRequest request,
+                                                    SdkHttpContentPublisher contentPublisher) throws Exception {
+        RecordingResponseHandler handler = new RecordingResponseHandler();
+        client.execute(asyncRequest(request, contentPublisher, handler)).get(10, TimeUnit.SECONDS);
+        handler.completeFuture().get(10, TimeUnit.SECONDS);
+        return handler;
+    }
+
+    private static AsyncExecuteRequest asyncRequest(SdkHttpFullRequest request,
+                                                    SdkHttpContentPublisher contentPublisher,
+                                                    RecordingResponseHandler handler) {
+        return AsyncExecuteRequest.builder()
+                                  .request(request)
+                                  .requestContentPublisher(contentPublisher)
+                                  .responseHandler(handler)
+                                  .metricCollector(handler.collector())
+                                  .build();
+    }
+
+    private static int unusedPort() {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static final class BodyPublisher implements SdkHttpContentPublisher {
+        private final byte[] body;
+        private final boolean knownLength;
+
+        private BodyPublisher(String body, boolean knownLength) {
+            this.body = body.getBytes(StandardCharsets.UTF_8);
+            this.knownLength = knownLength;
+        }
+
+        @Override
+        public Optional<Long> contentLength() {
+            return knownLength ? Optional.of((long) body.length) : Optional.empty();
+        }
+
+        @Override
+        public void subscribe(Subscriber<? super ByteBuffer> subscriber) {
+            subscriber.onSubscribe(new Subscription() {
+                private boolean done;
+
+                @Override
+                public void request(long n) {
+                    if (!done) {
+                        done = true;
+                        subscriber.onNext(ByteBuffer.wrap(body));
+                        subscriber.onComplete();
+                    }
+                }
+
+                @Override
+                public void cancel() {
+                    done = true;
+                }
+            });
+        }
+    }
+}
@@ -0,0 +1,119 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.javahttp.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import org.junit.Test;
+import software.amazon.awssdk.http.HttpMetric;
+import software.amazon.awssdk.metrics.MetricCollection;
+import software.amazon.awssdk.metrics.MetricCollector;
+
+public class ConcurrencyLimiterTest {
+
+    @Test
+    public void acquire_belowMaxConcurrency_completesImmediately() {
+        ConcurrencyLimiter limiter = new ConcurrencyLimiter(2, 10, Duration.ZERO);
+
+        assertThat(limiter.acquire()).isCompleted();
+        assertThat(limiter.acquire()).isCompleted();
+        assertThat(limiter.acquire()).isNotDone();
+    }
+
+    @Test
+    public void release_passesPermitToOldestPendingAcquire() {
+        ConcurrencyLimiter limiter = new ConcurrencyLimiter(1, 10, Duration.ZERO);
+        limiter.acquire();
+        CompletableFuture<Void> first = limiter.acquire();
+        CompletableFuture<Void> second = limiter.acquire();
+
+        limiter.release();
+
+        assertThat(first).isCompleted();
+        assertThat(second).isNotDone();
+
+        limiter.release();
+
+        assertThat(second).isCompleted();
+    }
+
+    @Test
+    public void release_withoutPendingAcquires_freesPermit() {
+        ConcurrencyLimiter limiter = new ConcurrencyLimiter(1, 10, Duration.ZERO);
+        limiter.acquire();
+
+        limiter.release();
+
+        assertThat(limiter.acquire()).isCompleted();
+    }
+
+    @Test
+    public void release_skipsCancelledAcquires() {
+        ConcurrencyLimiter limiter = new ConcurrencyLimiter(1, 10, Duration.ZERO);
+        limiter.acquire();
+        CompletableFuture<Void> cancelled = limiter.acquire();
+        CompletableFuture<Void> pending = limiter.acquire();
+        cancelled.cancel(false);
+
+        limiter.release();
+
+        assertThat(pending).isCompleted();
+    }
+
+    @Test
+    public void acquire_beyondMaxPendingAcquires_fails() {
+        ConcurrencyLimiter limiter = new ConcurrencyLimiter(1, 1, Duration.ZERO);
+        limiter.acquire();
+        limiter.acquire();
+
+        assertThatThrownBy(() -> limiter.acquire().join()).hasCauseInstanceOf(IllegalStateException.class)
+                                                         .hasMessageContaining("Too many outstanding acquire operations");
+    }
+
+    @Test
+    public void acquire_waitingLongerThanTimeout_failsAndFreesPendingSlot() throws Exception {
+        ConcurrencyLimiter limiter = new ConcurrencyLimiter(1, 1, Duration.ofMillis(50));
+        limiter.acquire();
+
+        CompletableFuture<Void> pending = limiter.acquire();
+
+        assertThatThrownBy(() -> pending.get(5, TimeUnit.SECONDS)).isInstanceOf(ExecutionException.class)
+                                                                  .hasCauseInstanceOf(TimeoutException.class);
+        assertThat(limiter.acquire()).isNotDone();
+    }
+
+    @Test
+    public void collectMetrics_reportsLeasedAndPendingAcquires() {
+        ConcurrencyLimiter limiter = new ConcurrencyLimiter(2, 10, Duration.ZERO);
+        limiter.acquire();
+        limiter.acquire();
+        limiter.acquire();
+
+        MetricCollector collector = MetricCollector.create("test");
+        limiter.collectMetrics(collector);
+        MetricCollection metrics = collector.collect();
+
+        assertThat(metrics.metricValues(HttpMetric.MAX_CONCURRENCY)).containsExactly(2);
+        assertThat(metrics.metricValues(HttpMetric.LEASED_CONCURRENCY)).containsExactly(2);
+        assertThat(metrics.metricValues(HttpMetric.PENDING_CONCURRENCY_ACQUIRES)).containsExactly(1);
+    }
+}
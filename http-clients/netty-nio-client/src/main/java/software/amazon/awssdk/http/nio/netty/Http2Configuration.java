@@ -28,11 +28,13 @@ import software.amazon.awssdk.utils.builder.ToCopyableBuilder;
 public final class Http2Configuration implements ToCopyableBuilder<Http2Configuration.Builder, Http2Configuration> {
     private final Long maxStreams;
     private final Integer initialWindowSize;
+    private final Integer maxWindowSize;
     private final Duration healthCheckPingPeriod;
 
     private Http2Configuration(DefaultBuilder builder) {
         this.maxStreams = builder.maxStreams;
         this.initialWindowSize = builder.initialWindowSize;
+        this.maxWindowSize = builder.maxWindowSize;
         this.healthCheckPingPeriod = builder.healthCheckPingPeriod;
     }
 
@@ -50,6 +52,13 @@ public final class Http2Configuration implements ToCopyableBuilder<Http2Configur
         return initialWindowSize;
     }
 
+    /**
+     * @return The size up to which the window of an HTTP/2 stream may be grown.
+     */
+    public Integer maxWindowSize() {
+        return maxWindowSize;
+    }
+
     /**
      * @return The health check period for an HTTP/2 connection.
      */
@@ -78,7 +87,11 @@ public final class Http2Configuration implements ToCopyableBuilder<Http2Configur
             return false;
         }
 
-        return initialWindowSize != null ? initialWindowSize.equals(that.initialWindowSize) : that.initialWindowSize == null;
+        if (initialWindowSize != null ? !initialWindowSize.equals(that.initialWindowSize) : that.initialWindowSize != null) {
+            return false;
+        }
+
+        return maxWindowSize != null ? maxWindowSize.equals(that.maxWindowSize) : that.maxWindowSize == null;
 
     }
 
@@ -86,6 +99,7 @@ public final class Http2Configuration implements ToCopyableBuilder<Http2Configur
     public int hashCode() {
         int result = maxStreams != null ? maxStreams.hashCode() : 0;
         result = 31 * result + (initialWindowSize != null ? initialWindowSize.hashCode() : 0);
+        result = 31 * result + (maxWindowSize != null ? maxWindowSize.hashCode() : 0);
         return result;
     }
 
@@ -117,6 +131,25 @@ public final class Http2Configuration implements ToCopyableBuilder<Http2Configur
          */
         Builder initialWindowSize(Integer initialWindowSize);
 
+        /**
+         * Enables auto-tuning of the window size of streams, and sets the size up to which it may be grown. This setting is
+         * only respected when the HTTP/2 protocol is used.
+         *
+         * <p>With auto-tuning, the client estimates the bandwidth-delay product of each connection from the data it receives
+         * while a health check {@code PING} is outstanding, see {@link #healthCheckPingPeriod(Duration)}. When that fills most
+         * of the open receive windows, flow control is limiting the throughput and the windows are doubled, up to this size.
+         * This benefits high-bandwidth, high-latency connections, at the cost of buffering more data per stream. Auto-tuning is
+         * disabled by default, and when this is not larger than the {@link #initialWindowSize(Integer)}.</p>
+         *
+         * <p>When auto-tuning is enabled, new streams are also placed on the connection with the lowest measured throughput
+         * first, and connections whose throughput is limited by flow control or congestion are avoided while another
+         * connection can be used or opened.</p>
+         *
+         * @param maxWindowSize The maximum window size of a stream.
+         * @return This builder for method chaining.
+         */
+        Builder maxWindowSize(Integer maxWindowSize);
+
         /**
          * Sets the period that the Netty client will send {@code PING} frames to the remote endpoint to check the
          * health of the connection. The default value is {@link
@@ -132,6 +165,7 @@ public final class Http2Configuration implements ToCopyableBuilder<Http2Configur
     private static final class DefaultBuilder implements Builder {
         private Long maxStreams;
         private Integer initialWindowSize;
+        private Integer maxWindowSize;
         private Duration healthCheckPingPeriod;
 
         private DefaultBuilder() {
@@ -140,6 +174,7 @@ public final class Http2Configuration implements ToCopyableBuilder<Http2Configur
         private DefaultBuilder(Http2Configuration http2Configuration) {
             this.maxStreams = http2Configuration.maxStreams;
             this.initialWindowSize = http2Configuration.initialWindowSize;
+            this.maxWindowSize = http2Configuration.maxWindowSize;
             this.healthCheckPingPeriod = http2Configuration.healthCheckPingPeriod;
         }
 
@@ -163,6 +198,16 @@ public final class Http2Configuration implements ToCopyableBuilder<Http2Configur
             initialWindowSize(initialWindowSize);
         }
 
+        @Override
+        public Builder maxWindowSize(Integer maxWindowSize) {
+            this.maxWindowSize = Validate.isPositiveOrNull(maxWindowSize, "maxWindowSize");
+            return this;
+        }
+
+        public void setMaxWindowSize(Integer maxWindowSize) {
+            maxWindowSize(maxWindowSize);
+        }
+
         @Override
         public Builder healthCheckPingPeriod(Duration healthCheckPingPeriod) {
             this.healthCheckPingPeriod = healthCheckPingPeriod;
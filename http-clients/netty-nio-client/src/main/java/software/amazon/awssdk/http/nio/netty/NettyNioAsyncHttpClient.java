@@ -29,6 +29,9 @@ import io.netty.handler.ssl.SslProvider;
 import java.net.SocketOptions;
 import java.net.URI;
 import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
@@ -45,9 +48,12 @@ import software.amazon.awssdk.http.SystemPropertyTlsKeyManagersProvider;
 import software.amazon.awssdk.http.TlsKeyManagersProvider;
 import software.amazon.awssdk.http.TlsTrustManagersProvider;
 import software.amazon.awssdk.http.async.AsyncExecuteRequest;
+import software.amazon.awssdk.http.async.ReleasableByteBufferSubscriber;
 import software.amazon.awssdk.http.async.SdkAsyncHttpClient;
 import software.amazon.awssdk.http.nio.netty.internal.AwaitCloseChannelPoolMap;
+import software.amazon.awssdk.http.nio.netty.internal.ChannelPoolWarmer;
 import software.amazon.awssdk.http.nio.netty.internal.NettyConfiguration;
+import software.amazon.awssdk.http.nio.netty.internal.NettyConfigurationOption;
 import software.amazon.awssdk.http.nio.netty.internal.NettyRequestExecutor;
 import software.amazon.awssdk.http.nio.netty.internal.NonManagedEventLoopGroup;
 import software.amazon.awssdk.http.nio.netty.internal.RequestContext;
@@ -58,6 +64,7 @@ import software.amazon.awssdk.http.nio.netty.internal.SharedSdkEventLoopGroup;
 import software.amazon.awssdk.utils.AttributeMap;
 import software.amazon.awssdk.utils.Either;
 import software.amazon.awssdk.utils.Validate;
+import software.amazon.awssdk.utils.http.SdkHttpUtils;
 
 /**
  * An implementation of {@link SdkAsyncHttpClient} that uses a Netty non-blocking HTTP client to communicate with the service.
@@ -100,11 +107,14 @@ public final class NettyNioAsyncHttpClient implements SdkAsyncHttpClient {
                                              .protocol(protocol)
                                              .maxStreams(maxStreams)
                                              .initialWindowSize(initialWindowSize)
+                                             .maxWindowSize(resolveMaxWindowSize(http2Configuration, initialWindowSize))
                                              .healthCheckPingPeriod(resolveHealthCheckPingPeriod(http2Configuration))
                                              .sdkEventLoopGroup(sdkEventLoopGroup)
                                              .sslProvider(resolveSslProvider(builder))
                                              .proxyConfiguration(builder.proxyConfiguration)
                                              .build();
+
+        builder.warmUpConnections.forEach(this::warmUpInBackground);
     }
 
     @SdkTestInternalApi
@@ -123,6 +133,31 @@ public final class NettyNioAsyncHttpClient implements SdkAsyncHttpClient {
         return new NettyRequestExecutor(ctx).execute();
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * <p>For HTTP/2, this opens the given number of streams, which share connections up to the max streams per connection
+     * (see {@link Http2Configuration#maxStreams()}). Each of their connections has completed the exchange of SETTINGS with
+     * the server once the returned future completes.
+     */
+    @Override
+    public CompletableFuture<Duration> warmUp(URI endpoint, int connections) {
+        Validate.paramNotNull(endpoint, "endpoint");
+        Validate.isPositive(connections, "connections");
+        SdkChannelPool pool = pools.get(poolKey(endpoint));
+        return ChannelPoolWarmer.warmUp(pool, Math.min(connections, configuration.maxConnections()));
+    }
+
+    private void warmUpInBackground(URI endpoint, int connections) {
+        warmUp(endpoint, connections).whenComplete((duration, t) -> {
+            if (t != null) {
+                log.warn("Failed to warm up connections to {}", endpoint, t);
+            } else {
+                log.debug("Warmed up {} connection(s) to {} in {} ms", connections, endpoint, duration.toMillis());
+            }
+        });
+    }
+
     public static Builder builder() {
         return new DefaultBuilder();
     }
@@ -154,6 +189,12 @@ public final class NettyNioAsyncHttpClient implements SdkAsyncHttpClient {
                                           sdkRequest.port(), null, null, null));
     }
 
+    private static URI poolKey(URI endpoint) {
+        String scheme = endpoint.getScheme().toLowerCase(Locale.ROOT);
+        int port = endpoint.getPort() != -1 ? endpoint.getPort() : SdkHttpUtils.standardPort(scheme);
+        return invokeSafely(() -> new URI(scheme, null, endpoint.getHost(), port, null, null, null));
+    }
+
     private SslProvider resolveSslProvider(DefaultBuilder builder) {
         if (builder.sslProvider != null) {
             return builder.sslProvider;
@@ -181,6 +222,13 @@ public final class NettyNioAsyncHttpClient implements SdkAsyncHttpClient {
         return http2Configuration.initialWindowSize();
     }
 
+    private int resolveMaxWindowSize(Http2Configuration http2Configuration, int initialWindowSize) {
+        if (http2Configuration == null || http2Configuration.maxWindowSize() == null) {
+            return initialWindowSize;
+        }
+        return http2Configuration.maxWindowSize();
+    }
+
     private Duration resolveHealthCheckPingPeriod(Http2Configuration http2Configuration) {
         if (http2Configuration != null) {
             return http2Configuration.healthCheckPingPeriod();
@@ -477,6 +525,52 @@ public final class NettyNioAsyncHttpClient implements SdkAsyncHttpClient {
          * @return the builder for method chaining.
          */
         Builder http2Configuration(Consumer<Http2Configuration.Builder> http2ConfigurationBuilderConsumer);
+
+        /**
+         * Configure whether response content is published without copying it out of Netty's pooled buffers, to the
+         * subscribers that support releasing them, such as those of {@code AsyncResponseTransformer.toFile} and
+         * {@code AsyncResponseTransformer.toBytes}. Other subscribers still receive copies of the content.
+         * <p>
+         * This avoids copying every byte of large downloads into newly allocated heap buffers, but the memory of the buffers
+         * stays in use until the subscriber has released them, for example until it has been written to a file. A subscriber
+         * implementing {@link ReleasableByteBufferSubscriber} that doesn't release every buffer leaks Netty's pooled memory.
+         * <p>
+         * By default, this is disabled.
+         *
+         * @param zeroCopyResponseContent Whether to publish response content without copying it.
+         * @return The builder for method chaining.
+         * @see ReleasableByteBufferSubscriber
+         */
+        Builder zeroCopyResponseContent(Boolean zeroCopyResponseContent);
+
+        /**
+         * Configure whether host names are resolved with Netty's non-blocking DNS resolver, instead of the JVM's blocking
+         * {@link java.net.InetAddress} lookups on the event loop.
+         * <p>
+         * The non-blocking resolver caches the records it resolves for as long as their TTL allows, and spreads new
+         * connections to a host across all of its addresses in round-robin order, instead of connecting to the first
+         * address that is returned. This helps to distribute load when a service endpoint resolves to many addresses, such
+         * as Amazon S3. It reads the name servers from the platform's configuration, for example {@code /etc/resolv.conf}.
+         * <p>
+         * This requires {@code io.netty:netty-resolver-dns} to be on the classpath. By default, this is disabled.
+         *
+         * @param useNonBlockingDnsResolver Whether to use the non-blocking DNS resolver.
+         * @return The builder for method chaining.
+         */
+        Builder useNonBlockingDnsResolver(Boolean useNonBlockingDnsResolver);
+
+        /**
+         * Configure connections to establish to an endpoint as soon as the client is built, so that the first requests to it
+         * don't have to wait for TCP and TLS handshakes. This can be invoked once for each endpoint.
+         * <p>
+         * The connections are established in the background; failures are logged. Use
+         * {@link SdkAsyncHttpClient#warmUp(URI, int)} to wait until the connections are ready.
+         *
+         * @param endpoint The endpoint to connect to. Only its scheme, host and port are used.
+         * @param connections The number of connections to establish.
+         * @return The builder for method chaining.
+         */
+        Builder warmUpConnections(URI endpoint, int connections);
     }
 
     /**
@@ -485,6 +579,7 @@ public final class NettyNioAsyncHttpClient implements SdkAsyncHttpClient {
      */
     private static final class DefaultBuilder implements Builder {
         private final AttributeMap.Builder standardOptions = AttributeMap.builder();
+        private final Map<URI, Integer> warmUpConnections = new LinkedHashMap<>();
 
         private SdkChannelOptions sdkChannelOptions = new SdkChannelOptions();
 
@@ -718,11 +813,40 @@ public final class NettyNioAsyncHttpClient implements SdkAsyncHttpClient {
             http2Configuration(http2Configuration);
         }
 
+        @Override
+        public Builder zeroCopyResponseContent(Boolean zeroCopyResponseContent) {
+            standardOptions.put(NettyConfigurationOption.ZERO_COPY_RESPONSE_CONTENT, zeroCopyResponseContent);
+            return this;
+        }
+
+        public void setZeroCopyResponseContent(Boolean zeroCopyResponseContent) {
+            zeroCopyResponseContent(zeroCopyResponseContent);
+        }
+
+        @Override
+        public Builder useNonBlockingDnsResolver(Boolean useNonBlockingDnsResolver) {
+            standardOptions.put(NettyConfigurationOption.USE_NON_BLOCKING_DNS_RESOLVER, useNonBlockingDnsResolver);
+            return this;
+        }
+
+        public void setUseNonBlockingDnsResolver(Boolean useNonBlockingDnsResolver) {
+            useNonBlockingDnsResolver(useNonBlockingDnsResolver);
+        }
+
+        @Override
+        public Builder warmUpConnections(URI endpoint, int connections) {
+            Validate.paramNotNull(endpoint, "endpoint");
+            Validate.isPositive(connections, "connections");
+            warmUpConnections.put(endpoint, connections);
+            return this;
+        }
+
         @Override
         public SdkAsyncHttpClient buildWithDefaults(AttributeMap serviceDefaults) {
             return new NettyNioAsyncHttpClient(this, standardOptions.build()
                                                                     .merge(serviceDefaults)
                                                                     .merge(NETTY_HTTP_DEFAULTS)
+                                                                    .merge(NettyConfigurationOption.DEFAULTS)
                                                                     .merge(SdkHttpConfigurationOption.GLOBAL_HTTP_DEFAULTS));
 
         }
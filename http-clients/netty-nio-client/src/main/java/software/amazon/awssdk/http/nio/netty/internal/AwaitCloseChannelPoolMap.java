@@ -23,6 +23,8 @@ import io.netty.channel.pool.ChannelPool;
 import io.netty.channel.pool.ChannelPoolHandler;
 import io.netty.handler.ssl.SslContext;
 import io.netty.handler.ssl.SslProvider;
+import io.netty.resolver.AddressResolverGroup;
+import java.net.InetSocketAddress;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.time.Duration;
@@ -34,7 +36,7 @@ import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicReference;
-import java.util.function.Function;
+import java.util.function.BiFunction;
 import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.annotations.SdkTestInternalApi;
 import software.amazon.awssdk.http.Protocol;
@@ -67,8 +69,11 @@ public final class AwaitCloseChannelPoolMap extends SdkChannelPoolMap<URI, Simpl
 
     // IMPORTANT: If the default bootstrap provider is changed, ensure that the new implementation is compliant with
     // DNS resolver testing in BootstrapProviderTest, specifically that no caching of hostname lookups is taking place.
-    private static final Function<Builder, BootstrapProvider> DEFAULT_BOOTSTRAP_PROVIDER =
-        b -> new BootstrapProvider(b.sdkEventLoopGroup, b.configuration, b.sdkChannelOptions);
+    private static final BiFunction<Builder, AddressResolverGroup<InetSocketAddress>, BootstrapProvider>
+        DEFAULT_BOOTSTRAP_PROVIDER = (b, resolverGroup) -> new BootstrapProvider(b.sdkEventLoopGroup,
+                                                                                 b.configuration,
+                                                                                 b.sdkChannelOptions,
+                                                                                 resolverGroup);
 
     private final Map<URI, Boolean> shouldProxyForHostCache = new ConcurrentHashMap<>();
 
@@ -78,20 +83,28 @@ public final class AwaitCloseChannelPoolMap extends SdkChannelPoolMap<URI, Simpl
     private final long maxStreams;
     private final Duration healthCheckPingPeriod;
     private final int initialWindowSize;
+    private final int maxWindowSize;
     private final SslProvider sslProvider;
     private final ProxyConfiguration proxyConfiguration;
     private final BootstrapProvider bootstrapProvider;
     private final SslContextProvider sslContextProvider;
+    private final AddressResolverGroup<InetSocketAddress> addressResolverGroup;
 
-    private AwaitCloseChannelPoolMap(Builder builder, Function<Builder, BootstrapProvider> createBootStrapProvider) {
+    private AwaitCloseChannelPoolMap(Builder builder,
+                                     BiFunction<Builder, AddressResolverGroup<InetSocketAddress>, BootstrapProvider>
+                                         createBootStrapProvider) {
         this.configuration = builder.configuration;
         this.protocol = builder.protocol;
         this.maxStreams = builder.maxStreams;
         this.healthCheckPingPeriod = builder.healthCheckPingPeriod;
         this.initialWindowSize = builder.initialWindowSize;
+        this.maxWindowSize = builder.maxWindowSize;
         this.sslProvider = builder.sslProvider;
         this.proxyConfiguration = builder.proxyConfiguration;
-        this.bootstrapProvider = createBootStrapProvider.apply(builder);
+        this.addressResolverGroup = configuration.useNonBlockingDnsResolver()
+                                    ? DnsResolverLoader.init(builder.sdkEventLoopGroup.eventLoopGroup())
+                                    : null;
+        this.bootstrapProvider = createBootStrapProvider.apply(builder, addressResolverGroup);
         this.sslContextProvider = new SslContextProvider(configuration, protocol, sslProvider);
     }
 
@@ -103,7 +116,7 @@ public final class AwaitCloseChannelPoolMap extends SdkChannelPoolMap<URI, Simpl
     AwaitCloseChannelPoolMap(Builder builder,
                              Map<URI, Boolean> shouldProxyForHostCache,
                              BootstrapProvider bootstrapProvider) {
-        this(builder, bootstrapProvider == null ? DEFAULT_BOOTSTRAP_PROVIDER : b -> bootstrapProvider);
+        this(builder, bootstrapProvider == null ? DEFAULT_BOOTSTRAP_PROVIDER : (b, r) -> bootstrapProvider);
 
         if (shouldProxyForHostCache != null) {
             this.shouldProxyForHostCache.putAll(shouldProxyForHostCache);
@@ -127,6 +140,7 @@ public final class AwaitCloseChannelPoolMap extends SdkChannelPoolMap<URI, Simpl
                                                                                         sslProvider,
                                                                                         maxStreams,
                                                                                         initialWindowSize,
+                                                                                        maxWindowSize,
                                                                                         healthCheckPingPeriod,
                                                                                         channelPoolRef,
                                                                                         configuration,
@@ -172,6 +186,10 @@ public final class AwaitCloseChannelPoolMap extends SdkChannelPoolMap<URI, Simpl
             throw new RuntimeException(e);
         } catch (ExecutionException | TimeoutException e) {
             throw new RuntimeException(e);
+        } finally {
+            if (addressResolverGroup != null) {
+                addressResolverGroup.close();
+            }
         }
     }
 
@@ -269,6 +287,7 @@ public final class AwaitCloseChannelPoolMap extends SdkChannelPoolMap<URI, Simpl
         private Protocol protocol;
         private long maxStreams;
         private int initialWindowSize;
+        private int maxWindowSize;
         private Duration healthCheckPingPeriod;
         private SslProvider sslProvider;
         private ProxyConfiguration proxyConfiguration;
@@ -306,6 +325,11 @@ public final class AwaitCloseChannelPoolMap extends SdkChannelPoolMap<URI, Simpl
             return this;
         }
 
+        public Builder maxWindowSize(int maxWindowSize) {
+            this.maxWindowSize = maxWindowSize;
+            return this;
+        }
+
         public Builder healthCheckPingPeriod(Duration healthCheckPingPeriod) {
             this.healthCheckPingPeriod = healthCheckPingPeriod;
             return this;
@@ -25,6 +25,7 @@ import java.util.concurrent.CompletableFuture;
 import org.reactivestreams.Subscriber;
 import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.http.Protocol;
+import software.amazon.awssdk.http.nio.netty.internal.http2.Http2FlowControlTuner;
 import software.amazon.awssdk.http.nio.netty.internal.http2.Http2MultiplexedChannelPool;
 import software.amazon.awssdk.http.nio.netty.internal.http2.PingTracker;
 import software.amazon.awssdk.http.nio.netty.internal.utils.NettyUtils;
@@ -57,6 +58,12 @@ public final class ChannelAttributeKey {
     public static final AttributeKey<Integer> HTTP2_INITIAL_WINDOW_SIZE =
         NettyUtils.getOrCreateAttributeKey("aws.http.nio.netty.async.http2InitialWindowSize");
 
+    /**
+     * The {@link Http2FlowControlTuner} that measures the round-trip time and throughput of an HTTP/2 connection.
+     */
+    public static final AttributeKey<Http2FlowControlTuner> HTTP2_FLOW_CONTROL_TUNER =
+        NettyUtils.getOrCreateAttributeKey("aws.http.nio.netty.async.http2FlowControlTuner");
+
     /**
      * Value of the MAX_CONCURRENT_STREAMS from the server's SETTING frame.
      */
@@ -16,6 +16,7 @@
 package software.amazon.awssdk.http.nio.netty.internal;
 
 import static software.amazon.awssdk.http.nio.netty.internal.ChannelAttributeKey.HTTP2_CONNECTION;
+import static software.amazon.awssdk.http.nio.netty.internal.ChannelAttributeKey.HTTP2_FLOW_CONTROL_TUNER;
 import static software.amazon.awssdk.http.nio.netty.internal.ChannelAttributeKey.HTTP2_INITIAL_WINDOW_SIZE;
 import static software.amazon.awssdk.http.nio.netty.internal.ChannelAttributeKey.PROTOCOL_FUTURE;
 import static software.amazon.awssdk.http.nio.netty.internal.NettyConfiguration.HTTP2_CONNECTION_PING_TIMEOUT_SECONDS;
@@ -47,6 +48,7 @@ import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.atomic.AtomicReference;
 import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.http.Protocol;
+import software.amazon.awssdk.http.nio.netty.internal.http2.Http2FlowControlTuner;
 import software.amazon.awssdk.http.nio.netty.internal.http2.Http2GoAwayEventListener;
 import software.amazon.awssdk.http.nio.netty.internal.http2.Http2PingHandler;
 import software.amazon.awssdk.http.nio.netty.internal.http2.Http2SettingsFrameHandler;
@@ -61,6 +63,7 @@ public final class ChannelPipelineInitializer extends AbstractChannelPoolHandler
     private final SslProvider sslProvider;
     private final long clientMaxStreams;
     private final int clientInitialWindowSize;
+    private final int clientMaxWindowSize;
     private final Duration healthCheckPingPeriod;
     private final AtomicReference<ChannelPool> channelPoolRef;
     private final NettyConfiguration configuration;
@@ -71,6 +74,7 @@ public final class ChannelPipelineInitializer extends AbstractChannelPoolHandler
                                       SslProvider sslProvider,
                                       long clientMaxStreams,
                                       int clientInitialWindowSize,
+                                      int clientMaxWindowSize,
                                       Duration healthCheckPingPeriod,
                                       AtomicReference<ChannelPool> channelPoolRef,
                                       NettyConfiguration configuration,
@@ -80,6 +84,7 @@ public final class ChannelPipelineInitializer extends AbstractChannelPoolHandler
         this.sslProvider = sslProvider;
         this.clientMaxStreams = clientMaxStreams;
         this.clientInitialWindowSize = clientInitialWindowSize;
+        this.clientMaxWindowSize = clientMaxWindowSize;
         this.healthCheckPingPeriod = healthCheckPingPeriod;
         this.channelPoolRef = channelPoolRef;
         this.configuration = configuration;
@@ -147,6 +152,14 @@ public final class ChannelPipelineInitializer extends AbstractChannelPoolHandler
         // exception before the Http2FrameCodec closes the connection itself.
         codec.connection().addListener(new Http2GoAwayEventListener(ch));
 
+        // The tuner counts the bytes read from the connection, so it must see them before the codec consumes them. It is only
+        // added when window tuning is enabled, which also enables spreading streams by throughput in the multiplexed pool.
+        if (clientMaxWindowSize > clientInitialWindowSize) {
+            Http2FlowControlTuner flowControlTuner = new Http2FlowControlTuner(clientInitialWindowSize, clientMaxWindowSize);
+            pipeline.addLast(flowControlTuner);
+            ch.attr(HTTP2_FLOW_CONTROL_TUNER).set(flowControlTuner);
+        }
+
         pipeline.addLast(codec);
         ch.attr(HTTP2_CONNECTION).set(codec.connection());
 
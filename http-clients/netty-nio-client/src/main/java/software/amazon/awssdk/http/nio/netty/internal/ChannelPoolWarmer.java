@@ -0,0 +1,84 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.nio.netty.internal;
+
+import io.netty.channel.Channel;
+import io.netty.handler.ssl.SslHandler;
+import io.netty.util.concurrent.Future;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+
+/**
+ * Establishes channels of a pool ahead of requests.
+ *
+ * <p>All channels are acquired at the same time, so that the pool has to open a new connection for each of them, and are
+ * released together once all of them are ready. A channel is ready once its TLS handshake completed, if it uses TLS. For
+ * HTTP/2 the pool only hands out stream channels once the SETTINGS of their connection were exchanged, and places them on
+ * as few connections as the max streams per connection allow.
+ */
+@SdkInternalApi
+public final class ChannelPoolWarmer {
+    private ChannelPoolWarmer() {
+    }
+
+    /**
+     * @param pool The pool to warm up.
+     * @param channels The number of channels to acquire concurrently.
+     * @return A future that is completed with the time it took until all channels were ready.
+     */
+    public static CompletableFuture<Duration> warmUp(SdkChannelPool pool, int channels) {
+        long start = System.nanoTime();
+
+        List<CompletableFuture<Channel>> readyChannels = new ArrayList<>(channels);
+        for (int i = 0; i < channels; i++) {
+            readyChannels.add(acquireReadyChannel(pool));
+        }
+
+        return CompletableFuture.allOf(readyChannels.toArray(new CompletableFuture[0]))
+                                .whenComplete((r, t) -> readyChannels.forEach(c -> c.thenAccept(pool::release)))
+                                .thenApply(r -> Duration.ofNanos(System.nanoTime() - start));
+    }
+
+    private static CompletableFuture<Channel> acquireReadyChannel(SdkChannelPool pool) {
+        CompletableFuture<Channel> result = new CompletableFuture<>();
+        pool.acquire().addListener((Future<Channel> acquire) -> {
+            if (!acquire.isSuccess()) {
+                result.completeExceptionally(acquire.cause());
+                return;
+            }
+
+            Channel channel = acquire.getNow();
+            SslHandler sslHandler = channel.pipeline().get(SslHandler.class);
+            if (sslHandler == null) {
+                result.complete(channel);
+                return;
+            }
+
+            sslHandler.handshakeFuture().addListener(handshake -> {
+                if (handshake.isSuccess()) {
+                    result.complete(channel);
+                } else {
+                    pool.release(channel);
+                    result.completeExceptionally(handshake.cause());
+                }
+            });
+        });
+        return result;
+    }
+}
@@ -0,0 +1,56 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.nio.netty.internal;
+
+import io.netty.channel.ChannelFactory;
+import io.netty.channel.EventLoopGroup;
+import io.netty.resolver.AddressResolverGroup;
+import java.net.InetSocketAddress;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.http.nio.netty.internal.utils.SocketChannelResolver;
+
+/**
+ * Creates the non-blocking DNS resolver. The resolver is loaded reflectively, because it depends on
+ * {@code netty-resolver-dns}, which is an optional dependency of this client.
+ */
+@SdkInternalApi
+public final class DnsResolverLoader {
+    private static final String RESOLVER_GROUP_CLASS =
+        "software.amazon.awssdk.http.nio.netty.internal.dns.RoundRobinDnsResolverGroup";
+
+    private DnsResolverLoader() {
+    }
+
+    /**
+     * @param eventLoopGroup The event loop group the resolved connections are created on.
+     * @return A new resolver group, that must be closed when it is no longer used.
+     * @throws IllegalStateException If {@code netty-resolver-dns} is not on the classpath.
+     */
+    @SuppressWarnings("unchecked")
+    public static AddressResolverGroup<InetSocketAddress> init(EventLoopGroup eventLoopGroup) {
+        ChannelFactory<?> datagramChannelFactory = SocketChannelResolver.resolveDatagramChannelFactory(eventLoopGroup);
+        try {
+            Class<?> resolverGroupClass = Class.forName(RESOLVER_GROUP_CLASS);
+            return (AddressResolverGroup<InetSocketAddress>) resolverGroupClass.getConstructor(ChannelFactory.class)
+                                                                               .newInstance(datagramChannelFactory);
+        } catch (ClassNotFoundException | NoClassDefFoundError e) {
+            throw new IllegalStateException("The non-blocking DNS resolver requires io.netty:netty-resolver-dns to be on "
+                                            + "the classpath.", e);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Unable to create the non-blocking DNS resolver.", e);
+        }
+    }
+}
@@ -0,0 +1,364 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.nio.netty.internal;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.Channel;
+import io.netty.channel.DefaultFileRegion;
+import io.netty.handler.codec.http.DefaultHttpContent;
+import io.netty.handler.codec.http.HttpContent;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.channels.AsynchronousFileChannel;
+import java.nio.channels.CompletionHandler;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.FileTime;
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.http.async.SdkHttpFileContentPublisher;
+import software.amazon.awssdk.utils.Logger;
+
+/**
+ * Publishes the first {@code count} bytes of the file of a {@link SdkHttpFileContentPublisher} as the content of a request,
+ * without reading the file into heap buffers.
+ * <p>
+ * When {@code sendfile} is enabled, which is only correct when nothing in the pipeline needs to see the bytes (i.e. plaintext
+ * HTTP/1.1), the whole file is written to the channel as a single {@link DefaultFileRegion} when content is first requested,
+ * and no {@link HttpContent} is published at all. Otherwise, the file is read into direct buffers from the channel's pooled
+ * allocator, which the transport and the {@link io.netty.handler.ssl.SslHandler} can use without copying them again.
+ * <p>
+ * Like {@link software.amazon.awssdk.core.async.AsyncRequestBody#fromFile(Path)}, the request fails if the file is shorter
+ * than the content length, or if it was modified while it was being sent.
+ */
+@SdkInternalApi
+final class FileContentPublisher implements Publisher<HttpContent> {
+    private static final Logger log = Logger.loggerFor(FileContentPublisher.class);
+
+    /**
+     * Size of the buffers the file is read into when not using {@code sendfile}, which is the largest TLS record.
+     */
+    private static final int CHUNK_SIZE = 16 * 1024;
+
+    private final Channel channel;
+    private final Path path;
+    private final long count;
+    private final boolean sendfile;
+
+    FileContentPublisher(Channel channel, Path path, long count, boolean sendfile) {
+        this.channel = channel;
+        this.path = path;
+        this.count = count;
+        this.sendfile = sendfile;
+    }
+
+    @Override
+    public void subscribe(Subscriber<? super HttpContent> subscriber) {
+        Closeable file = null;
+        FileSubscription subscription;
+        try {
+            if (sendfile) {
+                FileChannel fileChannel = FileChannel.open(path, StandardOpenOption.READ);
+                file = fileChannel;
+                subscription = new FileRegionSubscription(subscriber, fileChannel);
+            } else {
+                AsynchronousFileChannel fileChannel = AsynchronousFileChannel.open(path, StandardOpenOption.READ);
+                file = fileChannel;
+                subscription = new DirectBufferSubscription(subscriber, fileChannel);
+            }
+        } catch (IOException | RuntimeException e) {
+            if (file != null) {
+                closeQuietly(file);
+            }
+            // subscribe() must return normally, so the failure is signaled with onError() once onSubscribe() is signaled.
+            subscriber.onSubscribe(NoOpSubscription.INSTANCE);
+            subscriber.onError(e);
+            return;
+        }
+        subscriber.onSubscribe(subscription);
+    }
+
+    private static void closeQuietly(Closeable file) {
+        try {
+            file.close();
+        } catch (IOException e) {
+            log.warn(() -> "Failed to close the file", e);
+        }
+    }
+
+    /**
+     * The subscription signaled before {@code onError()} when the file could not be opened.
+     */
+    private static final class NoOpSubscription implements Subscription {
+        private static final NoOpSubscription INSTANCE = new NoOpSubscription();
+
+        @Override
+        public void request(long n) {
+        }
+
+        @Override
+        public void cancel() {
+        }
+    }
+
+    /**
+     * Sends the file for one subscriber, and checks that it wasn't modified while it was being sent.
+     */
+    private abstract class FileSubscription implements Subscription {
+        protected final Subscriber<? super HttpContent> subscriber;
+        private final long sizeAtStart;
+        private final FileTime modifiedTimeAtStart;
+        private boolean done;
+
+        FileSubscription(Subscriber<? super HttpContent> subscriber, long sizeAtStart) throws IOException {
+            this.subscriber = subscriber;
+            this.sizeAtStart = sizeAtStart;
+            this.modifiedTimeAtStart = Files.getLastModifiedTime(path);
+            if (sizeAtStart < count) {
+                throw new IllegalStateException("Request content was only " + sizeAtStart + " bytes, but the specified "
+                                                + "content-length was " + count + " bytes.");
+            }
+        }
+
+        @Override
+        public final void request(long n) {
+            if (n < 1) {
+                signalOnError(new IllegalArgumentException(subscriber + " violated the Reactive Streams rule 3.9 by requesting "
+                                                           + "a non-positive number of elements."));
+            } else if (count == 0) {
+                signalOnComplete();
+            } else {
+                onRequest(n);
+            }
+        }
+
+        @Override
+        public final void cancel() {
+            if (markDone()) {
+                closeFile();
+            }
+        }
+
+        /**
+         * Send more of the file, if the subscription is not done yet.
+         */
+        protected abstract void onRequest(long n);
+
+        /**
+         * Close the file, unless its ownership was passed on.
+         */
+        protected abstract void closeFile();
+
+        protected final synchronized boolean isDone() {
+            return done;
+        }
+
+        private synchronized boolean markDone() {
+            if (done) {
+                return false;
+            }
+            done = true;
+            return true;
+        }
+
+        protected final void signalOnError(Throwable t) {
+            if (markDone()) {
+                closeFile();
+                subscriber.onError(t);
+            }
+        }
+
+        protected final void signalOnComplete() {
+            try {
+                long sizeAtEnd = Files.size(path);
+                if (sizeAtStart != sizeAtEnd) {
+                    signalOnError(new IOException("File size changed after reading started. Initial size: " + sizeAtStart + ". "
+                                                  + "Current size: " + sizeAtEnd));
+                    return;
+                }
+
+                FileTime modifiedTimeAtEnd = Files.getLastModifiedTime(path);
+                if (modifiedTimeAtStart.compareTo(modifiedTimeAtEnd) != 0) {
+                    signalOnError(new IOException("File last-modified time changed after reading started. Initial modification "
+                                                  + "time: " + modifiedTimeAtStart + ". Current modification time: "
+                                                  + modifiedTimeAtEnd));
+                    return;
+                }
+            } catch (NoSuchFileException e) {
+                signalOnError(new IOException("Unable to check file status after read. Was the file deleted or were its "
+                                              + "permissions changed?", e));
+                return;
+            } catch (IOException e) {
+                signalOnError(new IOException("Unable to check file status after read.", e));
+                return;
+            }
+
+            if (markDone()) {
+                closeFile();
+                subscriber.onComplete();
+            }
+        }
+    }
+
+    /**
+     * Writes the file to the channel as a single {@link DefaultFileRegion}, which takes ownership of the file, and completes
+     * once the region is written. The request's {@link io.netty.handler.codec.http.LastHttpContent} is written after that,
+     * when the subscriber completes.
+     */
+    private final class FileRegionSubscription extends FileSubscription {
+        private final FileChannel file;
+        private boolean written;
+
+        FileRegionSubscription(Subscriber<? super HttpContent> subscriber, FileChannel file) throws IOException {
+            super(subscriber, file.size());
+            this.file = file;
+        }
+
+        @Override
+        protected void onRequest(long n) {
+            synchronized (this) {
+                if (isDone() || written) {
+                    return;
+                }
+                written = true;
+            }
+
+            channel.writeAndFlush(new DefaultFileRegion(file, 0, count)).addListener(future -> {
+                if (future.isSuccess()) {
+                    signalOnComplete();
+                } else {
+                    signalOnError(future.cause());
+                }
+            });
+        }
+
+        @Override
+        protected synchronized void closeFile() {
+            if (!written) {
+                closeQuietly(file);
+            }
+        }
+    }
+
+    /**
+     * Reads the file into pooled direct buffers of {@link #CHUNK_SIZE} bytes, one at a time, as they are requested.
+     */
+    private final class DirectBufferSubscription extends FileSubscription {
+        private final AsynchronousFileChannel file;
+        private long position;
+        private long outstandingDemand;
+        private boolean reading;
+
+        DirectBufferSubscription(Subscriber<? super HttpContent> subscriber, AsynchronousFileChannel file) throws IOException {
+            super(subscriber, file.size());
+            this.file = file;
+        }
+
+        @Override
+        protected void onRequest(long n) {
+            synchronized (this) {
+                // As governed by rule 3.17, when demand overflows Long.MAX_VALUE we treat the signalled demand as
+                // "effectively unbounded"
+                outstandingDemand = Long.MAX_VALUE - outstandingDemand < n ? Long.MAX_VALUE : outstandingDemand + n;
+            }
+            readNextChunk();
+        }
+
+        private void readNextChunk() {
+            ByteBuf buffer;
+            long chunkStart;
+            synchronized (this) {
+                if (isDone() || reading || outstandingDemand == 0 || position == count) {
+                    return;
+                }
+                reading = true;
+                chunkStart = position;
+                int chunkSize = (int) Math.min(CHUNK_SIZE, count - position);
+                buffer = channel.alloc().directBuffer(chunkSize, chunkSize);
+            }
+            read(buffer, chunkStart);
+        }
+
+        /**
+         * Fill the rest of the buffer with the file content that starts at {@code chunkStart + buffer.writerIndex()}.
+         */
+        private void read(ByteBuf buffer, long chunkStart) {
+            try {
+                file.read(buffer.nioBuffer(buffer.writerIndex(), buffer.writableBytes()), chunkStart + buffer.writerIndex(),
+                          buffer, new CompletionHandler<Integer, ByteBuf>() {
+                              @Override
+                              public void completed(Integer result, ByteBuf attachment) {
+                                  onRead(result, attachment, chunkStart);
+                              }
+
+                              @Override
+                              public void failed(Throwable exc, ByteBuf attachment) {
+                                  attachment.release();
+                                  signalOnError(exc);
+                              }
+                          });
+            } catch (RuntimeException e) {
+                buffer.release();
+                signalOnError(e);
+            }
+        }
+
+        private void onRead(int bytesRead, ByteBuf buffer, long chunkStart) {
+            if (bytesRead < 0) {
+                long bytesSent = chunkStart + buffer.writerIndex();
+                buffer.release();
+                signalOnError(new IllegalStateException("Request content was only " + bytesSent + " bytes, but the specified "
+                                                        + "content-length was " + count + " bytes."));
+                return;
+            }
+
+            buffer.writerIndex(buffer.writerIndex() + bytesRead);
+            if (buffer.isWritable()) {
+                read(buffer, chunkStart);
+                return;
+            }
+
+            boolean last;
+            synchronized (this) {
+                reading = false;
+                if (isDone()) {
+                    buffer.release();
+                    return;
+                }
+                position = chunkStart + buffer.readableBytes();
+                outstandingDemand--;
+                last = position == count;
+            }
+
+            subscriber.onNext(new DefaultHttpContent(buffer));
+            if (last) {
+                signalOnComplete();
+            } else {
+                readNextChunk();
+            }
+        }
+
+        @Override
+        protected void closeFile() {
+            closeQuietly(file);
+        }
+    }
+}
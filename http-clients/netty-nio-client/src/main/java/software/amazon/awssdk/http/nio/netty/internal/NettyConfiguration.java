@@ -107,4 +107,12 @@ public final class NettyConfiguration {
     public Duration tlsHandshakeTimeout() {
         return configuration.get(SdkHttpConfigurationOption.TLS_NEGOTIATION_TIMEOUT);
     }
+
+    public boolean zeroCopyResponseContent() {
+        return Boolean.TRUE.equals(configuration.get(NettyConfigurationOption.ZERO_COPY_RESPONSE_CONTENT));
+    }
+
+    public boolean useNonBlockingDnsResolver() {
+        return Boolean.TRUE.equals(configuration.get(NettyConfigurationOption.USE_NON_BLOCKING_DNS_RESOLVER));
+    }
 }
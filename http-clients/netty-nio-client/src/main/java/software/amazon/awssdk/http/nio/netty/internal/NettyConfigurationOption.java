@@ -0,0 +1,61 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.nio.netty.internal;
+
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.http.SdkHttpConfigurationOption;
+import software.amazon.awssdk.utils.AttributeMap;
+
+/**
+ * Type safe key for a configuration option that only the Netty client supports, stored in the same {@link AttributeMap} as
+ * the {@link SdkHttpConfigurationOption}s.
+ *
+ * @param <T> Type of option
+ */
+@SdkInternalApi
+public final class NettyConfigurationOption<T> extends AttributeMap.Key<T> {
+    /**
+     * Whether response content is published as read-only views over Netty's pooled buffers to subscribers that release them.
+     */
+    public static final NettyConfigurationOption<Boolean> ZERO_COPY_RESPONSE_CONTENT =
+        new NettyConfigurationOption<>("ZeroCopyResponseContent", Boolean.class);
+
+    /**
+     * Whether host names are resolved with Netty's non-blocking DNS resolver instead of the JVM.
+     */
+    public static final NettyConfigurationOption<Boolean> USE_NON_BLOCKING_DNS_RESOLVER =
+        new NettyConfigurationOption<>("UseNonBlockingDnsResolver", Boolean.class);
+
+    /**
+     * The defaults of the options above, merged into the client configuration.
+     */
+    public static final AttributeMap DEFAULTS = AttributeMap.builder()
+                                                            .put(ZERO_COPY_RESPONSE_CONTENT, Boolean.FALSE)
+                                                            .put(USE_NON_BLOCKING_DNS_RESOLVER, Boolean.FALSE)
+                                                            .build();
+
+    private final String name;
+
+    private NettyConfigurationOption(String name, Class<T> clzz) {
+        super(clzz);
+        this.name = name;
+    }
+
+    @Override
+    public String toString() {
+        return name;
+    }
+}
@@ -36,6 +36,7 @@ import io.netty.handler.codec.http.HttpHeaders;
 import io.netty.handler.codec.http.HttpMethod;
 import io.netty.handler.codec.http.HttpRequest;
 import io.netty.handler.codec.http.HttpVersion;
+import io.netty.handler.ssl.SslHandler;
 import io.netty.handler.timeout.ReadTimeoutException;
 import io.netty.handler.timeout.ReadTimeoutHandler;
 import io.netty.handler.timeout.WriteTimeoutException;
@@ -61,6 +62,8 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.http.Protocol;
+import software.amazon.awssdk.http.async.SdkHttpContentPublisher;
+import software.amazon.awssdk.http.async.SdkHttpFileContentPublisher;
 import software.amazon.awssdk.http.nio.netty.internal.http2.FlushOnReadHandler;
 import software.amazon.awssdk.http.nio.netty.internal.http2.Http2StreamExceptionHandler;
 import software.amazon.awssdk.http.nio.netty.internal.http2.Http2ToHttpInboundAdapter;
@@ -235,9 +238,7 @@ public final class NettyRequestExecutor {
     private void writeRequest(HttpRequest request) {
         channel.pipeline().addFirst(new WriteTimeoutHandler(context.configuration().writeTimeoutMillis(),
                                                             TimeUnit.MILLISECONDS));
-        StreamedRequest streamedRequest = new StreamedRequest(request,
-                                                              context.executeRequest().requestContentPublisher());
-        channel.writeAndFlush(streamedRequest)
+        channel.writeAndFlush(streamedRequest(request))
                .addListener(wireCall -> {
                    // Done writing so remove the idle write timeout handler
                    ChannelUtils.removeIfExists(channel.pipeline(), WriteTimeoutHandler.class);
@@ -469,6 +470,42 @@ public final class NettyRequestExecutor {
         }
     }
 
+    /**
+     * Adapt the content publisher of the request to a publisher of {@link HttpContent}. The file of a file-backed body with a
+     * known content length is sent without reading it into heap buffers: with {@code sendfile} when the connection is plaintext
+     * HTTP/1.1, and through pooled direct buffers otherwise.
+     */
+    private StreamedHttpRequest streamedRequest(HttpRequest request) {
+        SdkHttpContentPublisher contentPublisher = context.executeRequest().requestContentPublisher();
+        Optional<Long> contentLength = StreamedRequest.contentLength(request);
+        if (contentPublisher instanceof SdkHttpFileContentPublisher && contentLength.isPresent()) {
+            boolean sendfile = requestAdapter == REQUEST_ADAPTER_HTTP1_1 && channel.pipeline().get(SslHandler.class) == null;
+            return new FileRequest(request, new FileContentPublisher(channel,
+                                                                     ((SdkHttpFileContentPublisher) contentPublisher).path(),
+                                                                     contentLength.get(),
+                                                                     sendfile));
+        }
+        return new StreamedRequest(request, contentPublisher);
+    }
+
+    /**
+     * A {@link StreamedHttpRequest} whose content is published by a {@link FileContentPublisher}.
+     */
+    private static final class FileRequest extends DelegateHttpRequest implements StreamedHttpRequest {
+
+        private final FileContentPublisher publisher;
+
+        FileRequest(HttpRequest request, FileContentPublisher publisher) {
+            super(request);
+            this.publisher = publisher;
+        }
+
+        @Override
+        public void subscribe(Subscriber<? super HttpContent> subscriber) {
+            publisher.subscribe(subscriber);
+        }
+    }
+
     /**
      * Decorator around {@link StreamedHttpRequest} to adapt a publisher of {@link ByteBuffer} (i.e. {@link
      * software.amazon.awssdk.http.async.SdkHttpContentPublisher}) to a publisher of {@link HttpContent}.
@@ -21,6 +21,7 @@ import io.netty.handler.codec.http2.Http2Stream;
 import java.util.Optional;
 import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.http.Http2Metric;
+import software.amazon.awssdk.http.nio.netty.internal.http2.Http2FlowControlTuner;
 import software.amazon.awssdk.metrics.MetricCollector;
 import software.amazon.awssdk.metrics.NoOpMetricCollector;
 
@@ -72,5 +73,10 @@ public class NettyRequestMetrics {
                                      http2Connection.local().flowController().windowSize(stream));
         metricCollector.reportMetric(Http2Metric.REMOTE_STREAM_WINDOW_SIZE_IN_BYTES,
                                      http2Connection.remote().flowController().windowSize(stream));
+
+        Http2FlowControlTuner flowControlTuner = channel.parent().attr(ChannelAttributeKey.HTTP2_FLOW_CONTROL_TUNER).get();
+        if (flowControlTuner != null && flowControlTuner.roundTripTime() != null) {
+            metricCollector.reportMetric(Http2Metric.CONNECTION_ROUND_TRIP_TIME, flowControlTuner.roundTripTime());
+        }
     }
 }
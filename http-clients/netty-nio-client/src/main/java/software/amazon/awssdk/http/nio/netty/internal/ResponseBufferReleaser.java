@@ -0,0 +1,65 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.nio.netty.internal;
+
+import io.netty.buffer.ByteBuf;
+import java.nio.ByteBuffer;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.function.Consumer;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.http.async.ReleasableByteBufferSubscriber;
+
+/**
+ * Keeps track of the {@link ByteBuf}s whose content was published to a {@link ReleasableByteBufferSubscriber} as a
+ * {@link ByteBuffer} view, and releases each of them when the subscriber releases its view.
+ */
+@SdkInternalApi
+@ThreadSafe
+final class ResponseBufferReleaser implements Consumer<ByteBuffer> {
+
+    private final Map<ByteBuffer, ByteBuf> outstanding = new IdentityHashMap<>();
+
+    /**
+     * Create a read-only view over the readable bytes of the given buffer, and take ownership of the buffer until the view
+     * is released.
+     *
+     * @return The view, or null if the content of the buffer can't be exposed as a single {@link ByteBuffer}, in which case
+     * the caller keeps ownership of the buffer.
+     */
+    ByteBuffer wrap(ByteBuf content) {
+        if (content.nioBufferCount() != 1) {
+            return null;
+        }
+        ByteBuffer view = content.nioBuffer().asReadOnlyBuffer();
+        synchronized (outstanding) {
+            outstanding.put(view, content);
+        }
+        return view;
+    }
+
+    @Override
+    public void accept(ByteBuffer view) {
+        ByteBuf content;
+        synchronized (outstanding) {
+            content = outstanding.remove(view);
+        }
+        if (content != null) {
+            content.release();
+        }
+    }
+}
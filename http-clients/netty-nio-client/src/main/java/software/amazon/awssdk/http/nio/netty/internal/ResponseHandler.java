@@ -59,6 +59,7 @@ import software.amazon.awssdk.http.Protocol;
 import software.amazon.awssdk.http.SdkCancellationException;
 import software.amazon.awssdk.http.SdkHttpFullResponse;
 import software.amazon.awssdk.http.SdkHttpResponse;
+import software.amazon.awssdk.http.async.ReleasableByteBufferSubscriber;
 import software.amazon.awssdk.http.async.SdkAsyncHttpResponseHandler;
 import software.amazon.awssdk.http.nio.netty.internal.http2.Http2ResetSendingSubscription;
 import software.amazon.awssdk.http.nio.netty.internal.nrs.HttpStreamsClientHandler;
@@ -218,6 +219,7 @@ public class ResponseHandler extends SimpleChannelInboundHandler<HttpObject> {
 
         @Override
         public void subscribe(Subscriber<? super ByteBuffer> subscriber) {
+            ResponseBufferReleaser bufferReleaser = bufferReleaser(subscriber);
             response.subscribe(new Subscriber<HttpContent>() {
                 @Override
                 public void onSubscribe(Subscription subscription) {
@@ -257,11 +259,7 @@ public class ResponseHandler extends SimpleChannelInboundHandler<HttpObject> {
                         return;
                     }
 
-                    // Needed to prevent use-after-free bug if the subscriber's onNext is asynchronous
-                    ByteBuffer byteBuffer =
-                        tryCatchFinally(() -> copyToByteBuffer(httpContent.content()),
-                                        this::onError,
-                                        httpContent::release);
+                    ByteBuffer byteBuffer = toByteBuffer(httpContent);
 
 
                     //As per reactive-streams rule 2.13, we should not call subscriber#onError when
@@ -272,6 +270,21 @@ public class ResponseHandler extends SimpleChannelInboundHandler<HttpObject> {
                     }
                 }
 
+                private ByteBuffer toByteBuffer(HttpContent httpContent) {
+                    if (bufferReleaser != null) {
+                        // The subscriber releases the view, which releases the content
+                        ByteBuffer view = bufferReleaser.wrap(httpContent.content());
+                        if (view != null) {
+                            return view;
+                        }
+                    }
+
+                    // Needed to prevent use-after-free bug if the subscriber's onNext is asynchronous
+                    return tryCatchFinally(() -> copyToByteBuffer(httpContent.content()),
+                                           this::onError,
+                                           httpContent::release);
+                }
+
                 @Override
                 public void onError(Throwable t) {
                     if (!isDone.compareAndSet(false, true)) {
@@ -312,6 +325,20 @@ public class ResponseHandler extends SimpleChannelInboundHandler<HttpObject> {
 
             });
         }
+
+        /**
+         * Publish views over the response content instead of copies of it, if the client is configured to and the
+         * subscriber releases them.
+         */
+        private ResponseBufferReleaser bufferReleaser(Subscriber<? super ByteBuffer> subscriber) {
+            if (!(subscriber instanceof ReleasableByteBufferSubscriber)
+                || !requestContext.configuration().zeroCopyResponseContent()) {
+                return null;
+            }
+            ResponseBufferReleaser bufferReleaser = new ResponseBufferReleaser();
+            ((ReleasableByteBufferSubscriber) subscriber).onBufferReleaser(bufferReleaser);
+            return bufferReleaser;
+        }
     }
 
     /**
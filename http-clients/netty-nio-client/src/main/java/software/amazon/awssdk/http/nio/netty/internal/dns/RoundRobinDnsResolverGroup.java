@@ -0,0 +1,149 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.nio.netty.internal.dns;
+
+import io.netty.channel.ChannelFactory;
+import io.netty.channel.EventLoop;
+import io.netty.channel.socket.DatagramChannel;
+import io.netty.resolver.AddressResolver;
+import io.netty.resolver.InetNameResolver;
+import io.netty.resolver.NameResolver;
+import io.netty.resolver.dns.DefaultDnsCache;
+import io.netty.resolver.dns.DnsAddressResolverGroup;
+import io.netty.resolver.dns.DnsNameResolverBuilder;
+import io.netty.resolver.dns.DnsServerAddressStreamProvider;
+import io.netty.resolver.dns.DnsServerAddressStreamProviders;
+import io.netty.util.concurrent.EventExecutor;
+import io.netty.util.concurrent.Future;
+import io.netty.util.concurrent.Promise;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.annotations.SdkTestInternalApi;
+
+/**
+ * An address resolver group that resolves host names without blocking the event loop, using Netty's
+ * {@link io.netty.resolver.dns.DnsNameResolver}, and spreads new connections to a host across all of its addresses.
+ *
+ * <p>Resolved records are cached for as long as their TTL allows, in a cache that is shared by the resolvers of all event
+ * loops. Each resolution returns the next address of the host in round-robin order, so that the connections of a pool are
+ * spread evenly across the addresses that DNS returned, instead of all going to the first one. Only the addresses of the
+ * preferred address family (the family of the first address) are used, so that hosts that return both A and AAAA records
+ * aren't connected to over a family the network may not route. The rotation position is tracked for at most
+ * {@value #MAX_TRACKED_HOSTS} hosts; once more hosts than that were resolved, all positions are forgotten and rotation starts
+ * over, so that a client talking to many distinct hosts over its lifetime doesn't accumulate them forever.
+ *
+ * <p>This class depends on {@code netty-resolver-dns}, an optional dependency. It must only be loaded through
+ * {@link software.amazon.awssdk.http.nio.netty.internal.DnsResolverLoader}.
+ */
+@SdkInternalApi
+public final class RoundRobinDnsResolverGroup extends DnsAddressResolverGroup {
+    static final int MAX_TRACKED_HOSTS = 1024;
+
+    private final ConcurrentMap<String, AtomicInteger> nextAddressIndexByHost = new ConcurrentHashMap<>();
+
+    public RoundRobinDnsResolverGroup(ChannelFactory<? extends DatagramChannel> datagramChannelFactory) {
+        this(datagramChannelFactory, DnsServerAddressStreamProviders.platformDefault());
+    }
+
+    @SdkTestInternalApi
+    RoundRobinDnsResolverGroup(ChannelFactory<? extends DatagramChannel> datagramChannelFactory,
+                               DnsServerAddressStreamProvider nameServerProvider) {
+        super(new DnsNameResolverBuilder().channelFactory(datagramChannelFactory)
+                                          .nameServerProvider(nameServerProvider)
+                                          .resolveCache(new DefaultDnsCache()));
+    }
+
+    @Override
+    protected AddressResolver<InetSocketAddress> newAddressResolver(EventLoop eventLoop,
+                                                                    NameResolver<InetAddress> resolver) {
+        return new RoundRobinInetAddressResolver(eventLoop, resolver).asAddressResolver();
+    }
+
+    @SdkTestInternalApi
+    int nextAddressIndex(String host) {
+        AtomicInteger nextIndex = nextAddressIndexByHost.get(host);
+        if (nextIndex == null) {
+            if (nextAddressIndexByHost.size() >= MAX_TRACKED_HOSTS) {
+                nextAddressIndexByHost.clear();
+            }
+            nextIndex = nextAddressIndexByHost.computeIfAbsent(host, h -> new AtomicInteger());
+        }
+        return nextIndex.getAndIncrement() & Integer.MAX_VALUE;
+    }
+
+    @SdkTestInternalApi
+    int trackedHostCount() {
+        return nextAddressIndexByHost.size();
+    }
+
+    /**
+     * Resolves all addresses of a host and returns them one after the other.
+     */
+    private final class RoundRobinInetAddressResolver extends InetNameResolver {
+        private final NameResolver<InetAddress> nameResolver;
+
+        private RoundRobinInetAddressResolver(EventExecutor executor, NameResolver<InetAddress> nameResolver) {
+            super(executor);
+            this.nameResolver = nameResolver;
+        }
+
+        @Override
+        protected void doResolve(String inetHost, Promise<InetAddress> promise) {
+            nameResolver.resolveAll(inetHost).addListener((Future<List<InetAddress>> future) -> {
+                if (!future.isSuccess()) {
+                    promise.setFailure(future.cause());
+                    return;
+                }
+
+                List<InetAddress> addresses = preferredFamily(future.getNow());
+                promise.setSuccess(addresses.get(nextAddressIndex(inetHost) % addresses.size()));
+            });
+        }
+
+        @Override
+        protected void doResolveAll(String inetHost, Promise<List<InetAddress>> promise) {
+            nameResolver.resolveAll(inetHost).addListener((Future<List<InetAddress>> future) -> {
+                if (future.isSuccess()) {
+                    promise.setSuccess(future.getNow());
+                } else {
+                    promise.setFailure(future.cause());
+                }
+            });
+        }
+
+        private List<InetAddress> preferredFamily(List<InetAddress> addresses) {
+            Class<? extends InetAddress> family = addresses.get(0).getClass();
+            List<InetAddress> result = new ArrayList<>(addresses.size());
+            for (InetAddress address : addresses) {
+                if (address.getClass() == family) {
+                    result.add(address);
+                }
+            }
+            return result;
+        }
+
+        @Override
+        public void close() {
+            nameResolver.close();
+        }
+    }
+}
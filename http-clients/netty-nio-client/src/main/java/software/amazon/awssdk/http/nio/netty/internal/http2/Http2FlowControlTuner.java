@@ -0,0 +1,215 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.nio.netty.internal.http2;
+
+import static software.amazon.awssdk.http.nio.netty.internal.ChannelAttributeKey.HTTP2_CONNECTION;
+import static software.amazon.awssdk.http.nio.netty.internal.ChannelAttributeKey.HTTP2_INITIAL_WINDOW_SIZE;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInboundHandlerAdapter;
+import io.netty.handler.codec.http2.DefaultHttp2SettingsFrame;
+import io.netty.handler.codec.http2.Http2Connection;
+import io.netty.handler.codec.http2.Http2Exception;
+import io.netty.handler.codec.http2.Http2LocalFlowController;
+import io.netty.handler.codec.http2.Http2Settings;
+import io.netty.handler.codec.http2.Http2Stream;
+import java.time.Duration;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.utils.Logger;
+
+/**
+ * Measures the round-trip time and throughput of an HTTP/2 connection, using the PING frames of the {@link Http2PingHandler},
+ * and uses them to decide whether the connection is saturated and to tune its receive windows.
+ *
+ * <p>The bytes received while a PING is outstanding approximate the bandwidth-delay product (BDP) that the connection
+ * currently achieves. When they fill most of the receive windows that are open on the connection, flow control is what limits
+ * the throughput. If tuning is enabled, the stream window (sent to the server in a SETTINGS frame) and the connection window
+ * are then doubled, up to the configured maximum. Once they can't grow any further, or when the round-trip time has grown to
+ * more than twice its minimum because data is queueing up, the connection is reported as {@link #isSaturated() saturated}
+ * and {@link Http2MultiplexedChannelPool} places new streams on other connections.
+ *
+ * <p>This is added to the pipeline of the parent channel in front of the HTTP/2 codec, so that it sees all bytes that are
+ * read from the connection. All methods except the getters must be invoked on the event loop of the channel.
+ */
+@SdkInternalApi
+public final class Http2FlowControlTuner extends ChannelInboundHandlerAdapter {
+    private static final Logger log = Logger.loggerFor(Http2FlowControlTuner.class);
+
+    /**
+     * The share of the open receive windows that must be filled in one round trip for flow control to be considered the
+     * limiting factor.
+     */
+    private static final double WINDOW_FILL_THRESHOLD = 2.0 / 3;
+
+    /**
+     * How much the round-trip time must grow over its minimum for the connection to be considered congested.
+     */
+    private static final int CONGESTED_RTT_FACTOR = 2;
+
+    private final int maxWindowSize;
+
+    private long bytesRead;
+    private long pingSentNanos;
+    private long bytesReadAtPingSent;
+    private long lastAckNanos;
+    private long bytesReadAtLastAck;
+    private long minRttNanos = Long.MAX_VALUE;
+    private int streamWindowSize;
+
+    private volatile long smoothedRttNanos = -1;
+    private volatile long throughputBytesPerSecond;
+    private volatile boolean saturated;
+
+    /**
+     * @param initialWindowSize The initial window size of streams on the connection.
+     * @param maxWindowSize The size up to which stream windows may be grown. Windows are not tuned if this is not larger than
+     * the initial window size.
+     */
+    public Http2FlowControlTuner(int initialWindowSize, int maxWindowSize) {
+        this.streamWindowSize = initialWindowSize;
+        this.maxWindowSize = maxWindowSize;
+    }
+
+    @Override
+    public void channelRead(ChannelHandlerContext ctx, Object msg) {
+        if (msg instanceof ByteBuf) {
+            bytesRead += ((ByteBuf) msg).readableBytes();
+        }
+        ctx.fireChannelRead(msg);
+    }
+
+    /**
+     * Invoked by the {@link Http2PingHandler} right before it sends a PING.
+     */
+    void pingSent() {
+        pingSentNanos = System.nanoTime();
+        bytesReadAtPingSent = bytesRead;
+        if (lastAckNanos == 0) {
+            lastAckNanos = pingSentNanos;
+            bytesReadAtLastAck = bytesRead;
+        }
+    }
+
+    /**
+     * Invoked by the {@link Http2PingHandler} when the acknowledgement of its last PING was received.
+     */
+    void pingAcknowledged(Channel channel) {
+        if (pingSentNanos == 0) {
+            return;
+        }
+
+        long now = System.nanoTime();
+        long rttNanos = Math.max(1, now - pingSentNanos);
+        long bytesDuringRtt = bytesRead - bytesReadAtPingSent;
+        pingSentNanos = 0;
+
+        minRttNanos = Math.min(minRttNanos, rttNanos);
+        long previousRtt = smoothedRttNanos;
+        smoothedRttNanos = previousRtt < 0 ? rttNanos : (7 * previousRtt + rttNanos) / 8;
+
+        long interval = now - lastAckNanos;
+        if (interval > 0) {
+            throughputBytesPerSecond = (long) ((bytesRead - bytesReadAtLastAck) * 1e9 / interval);
+        }
+        lastAckNanos = now;
+        bytesReadAtLastAck = bytesRead;
+
+        Http2Connection connection = channel.attr(HTTP2_CONNECTION).get();
+        if (connection != null) {
+            updateSaturation(channel, connection, rttNanos, bytesDuringRtt);
+        }
+    }
+
+    private void updateSaturation(Channel channel, Http2Connection connection, long rttNanos, long bytesDuringRtt) {
+        Http2LocalFlowController flowController = connection.local().flowController();
+        Http2Stream connectionStream = connection.connectionStream();
+        int activeStreams = connection.local().numActiveStreams();
+        int connectionWindowSize = flowController.initialWindowSize(connectionStream);
+
+        boolean congested = bytesDuringRtt > 0 && rttNanos >= CONGESTED_RTT_FACTOR * minRttNanos;
+        boolean streamWindowsFilled = activeStreams > 0 && isFilled(bytesDuringRtt, (long) activeStreams * streamWindowSize);
+        boolean connectionWindowFilled = isFilled(bytesDuringRtt, connectionWindowSize);
+
+        if ((streamWindowsFilled || connectionWindowFilled) && streamWindowSize < maxWindowSize) {
+            growWindows(channel, flowController, connectionStream, Math.max(activeStreams, 1), connectionWindowSize);
+            saturated = congested;
+            return;
+        }
+
+        boolean wasSaturated = saturated;
+        saturated = congested || connectionWindowFilled;
+        if (saturated != wasSaturated) {
+            log.debug(() -> String.format("Connection %s is %s (RTT: %dus, min RTT: %dus, %d bytes received in one round trip, "
+                                          + "connection window: %d)", channel, saturated ? "saturated" : "no longer saturated",
+                                          rttNanos / 1000, minRttNanos / 1000, bytesDuringRtt, connectionWindowSize));
+        }
+    }
+
+    private static boolean isFilled(long bytesDuringRtt, long windowSize) {
+        return bytesDuringRtt >= windowSize * WINDOW_FILL_THRESHOLD;
+    }
+
+    private void growWindows(Channel channel,
+                             Http2LocalFlowController flowController,
+                             Http2Stream connectionStream,
+                             int activeStreams,
+                             int connectionWindowSize) {
+        int oldStreamWindowSize = streamWindowSize;
+        int newStreamWindowSize = (int) Math.min(maxWindowSize, 2L * oldStreamWindowSize);
+        log.debug(() -> "Growing the stream window of " + channel + " from " + oldStreamWindowSize + " to "
+                        + newStreamWindowSize + " bytes, because flow control limits its throughput.");
+        streamWindowSize = newStreamWindowSize;
+
+        // The server applies the new initial window size to all open streams, see RFC 7540 section 6.9.2.
+        channel.writeAndFlush(new DefaultHttp2SettingsFrame(new Http2Settings().initialWindowSize(newStreamWindowSize)));
+        channel.attr(HTTP2_INITIAL_WINDOW_SIZE).set(newStreamWindowSize);
+
+        long neededConnectionWindowSize = Math.min(Integer.MAX_VALUE, (long) newStreamWindowSize * activeStreams);
+        if (neededConnectionWindowSize > connectionWindowSize) {
+            try {
+                flowController.incrementWindowSize(connectionStream,
+                                                   (int) (neededConnectionWindowSize - connectionWindowSize));
+            } catch (Http2Exception e) {
+                log.warn(() -> "Failed to increment windowSize of connection " + channel, e);
+            }
+        }
+    }
+
+    /**
+     * @return The smoothed round-trip time of the connection, or null if it wasn't measured yet.
+     */
+    public Duration roundTripTime() {
+        long rtt = smoothedRttNanos;
+        return rtt < 0 ? null : Duration.ofNanos(rtt);
+    }
+
+    /**
+     * @return The number of bytes per second that were received on the connection between the last two PING acknowledgements.
+     */
+    public long throughputBytesPerSecond() {
+        return throughputBytesPerSecond;
+    }
+
+    /**
+     * @return Whether adding streams to this connection is unlikely to increase the throughput, because flow control or
+     * congestion limit it as of the last PING acknowledgement.
+     */
+    public boolean isSaturated() {
+        return saturated;
+    }
+}
@@ -43,6 +43,8 @@ import java.io.IOException;
 import java.nio.channels.ClosedChannelException;
 import java.time.Duration;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
@@ -51,6 +53,7 @@ import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.annotations.SdkTestInternalApi;
+import software.amazon.awssdk.http.Http2Metric;
 import software.amazon.awssdk.http.HttpMetric;
 import software.amazon.awssdk.http.Protocol;
 import software.amazon.awssdk.http.nio.netty.internal.SdkChannelPool;
@@ -68,6 +71,12 @@ import software.amazon.awssdk.utils.Validate;
  * when the max concurrency for a connection is reached then a new connection will be opened.
  *
  * <p>
+ * When window tuning is enabled, new streams are placed on the connection with the lowest measured throughput first.
+ * Connections that {@link Http2FlowControlTuner} considers saturated are then only used when no other connection has streams
+ * available; before that, one new connection at a time is opened to take over their load.
+ * </p>
+ *
+ * <p>
  * <b>Note:</b> This enforces no max concurrency. Relies on being wrapped with a {@link BetterFixedChannelPool}
  * to enforce max concurrency which gives a bunch of other good features like timeouts, max pending acquires, etc.
  * </p>
@@ -92,8 +101,10 @@ public class Http2MultiplexedChannelPool implements SdkChannelPool {
     private final EventLoopGroup eventLoopGroup;
     private final Set<MultiplexedChannelRecord> connections;
     private final Duration idleConnectionTimeout;
+    private final boolean spreadByThroughput;
 
     private AtomicBoolean closed = new AtomicBoolean(false);
+    private final AtomicBoolean relievingSaturatedConnections = new AtomicBoolean(false);
 
     /**
      * @param connectionPool Connection pool for parent channels (i.e. the socket channel).
@@ -101,10 +112,23 @@ public class Http2MultiplexedChannelPool implements SdkChannelPool {
     Http2MultiplexedChannelPool(ChannelPool connectionPool,
                                 EventLoopGroup eventLoopGroup,
                                 Duration idleConnectionTimeout) {
+        this(connectionPool, eventLoopGroup, idleConnectionTimeout, false);
+    }
+
+    /**
+     * @param connectionPool Connection pool for parent channels (i.e. the socket channel).
+     * @param spreadByThroughput Whether to place new streams by the throughput and saturation that the
+     * {@link Http2FlowControlTuner} of each connection measures. Only set when window tuning is enabled.
+     */
+    Http2MultiplexedChannelPool(ChannelPool connectionPool,
+                                EventLoopGroup eventLoopGroup,
+                                Duration idleConnectionTimeout,
+                                boolean spreadByThroughput) {
         this.connectionPool = connectionPool;
         this.eventLoopGroup = eventLoopGroup;
         this.connections = ConcurrentHashMap.newKeySet();
         this.idleConnectionTimeout = idleConnectionTimeout;
+        this.spreadByThroughput = spreadByThroughput;
     }
 
     @SdkTestInternalApi
@@ -112,7 +136,16 @@ public class Http2MultiplexedChannelPool implements SdkChannelPool {
                                 EventLoopGroup eventLoopGroup,
                                 Set<MultiplexedChannelRecord> connections,
                                 Duration idleConnectionTimeout) {
-        this(connectionPool, eventLoopGroup, idleConnectionTimeout);
+        this(connectionPool, eventLoopGroup, connections, idleConnectionTimeout, false);
+    }
+
+    @SdkTestInternalApi
+    Http2MultiplexedChannelPool(ChannelPool connectionPool,
+                                EventLoopGroup eventLoopGroup,
+                                Set<MultiplexedChannelRecord> connections,
+                                Duration idleConnectionTimeout,
+                                boolean spreadByThroughput) {
+        this(connectionPool, eventLoopGroup, idleConnectionTimeout, spreadByThroughput);
         this.connections.addAll(connections);
     }
 
@@ -127,6 +160,10 @@ public class Http2MultiplexedChannelPool implements SdkChannelPool {
             return promise.setFailure(new IOException("Channel pool is closed!"));
         }
 
+        if (spreadByThroughput) {
+            return acquireSpreadingByThroughput(promise);
+        }
+
         for (MultiplexedChannelRecord multiplexedChannel : connections) {
             if (acquireStreamOnInitializedConnection(multiplexedChannel, promise)) {
                 return promise;
@@ -138,6 +175,62 @@ public class Http2MultiplexedChannelPool implements SdkChannelPool {
         return promise;
     }
 
+    private Future<Channel> acquireSpreadingByThroughput(Promise<Channel> promise) {
+        List<MultiplexedChannelRecord> saturatedConnections = null;
+        for (MultiplexedChannelRecord multiplexedChannel : connectionsByThroughput()) {
+            if (multiplexedChannel.isSaturated()) {
+                if (saturatedConnections == null) {
+                    saturatedConnections = new ArrayList<>();
+                }
+                saturatedConnections.add(multiplexedChannel);
+            } else if (acquireStreamOnInitializedConnection(multiplexedChannel, promise)) {
+                return promise;
+            }
+        }
+
+        if (saturatedConnections != null) {
+            // Only one connection is opened at a time to relieve saturated ones, so that a burst of acquires doesn't open a
+            // connection each before the throughput of the new one is known. Until it's ready, the saturated ones are shared.
+            if (relievingSaturatedConnections.compareAndSet(false, true)) {
+                int saturatedCount = saturatedConnections.size();
+                log.debug(() -> "Opening a new connection, because " + saturatedCount + " connection(s) are saturated.");
+                promise.addListener(f -> relievingSaturatedConnections.set(false));
+                acquireStreamOnNewConnection(promise);
+                return promise;
+            }
+
+            for (MultiplexedChannelRecord multiplexedChannel : saturatedConnections) {
+                if (acquireStreamOnInitializedConnection(multiplexedChannel, promise)) {
+                    return promise;
+                }
+            }
+        }
+
+        // No available streams on existing connections, establish new connection and add it to list
+        acquireStreamOnNewConnection(promise);
+        return promise;
+    }
+
+    private Collection<MultiplexedChannelRecord> connectionsByThroughput() {
+        if (connections.size() < 2) {
+            return connections;
+        }
+
+        // The event loops keep updating the throughput of the connections. It is read once per connection, so that the
+        // comparator stays consistent while sorting.
+        List<ThroughputSnapshot> snapshots = new ArrayList<>(connections.size());
+        for (MultiplexedChannelRecord connection : connections) {
+            snapshots.add(new ThroughputSnapshot(connection, connection.throughputBytesPerSecond()));
+        }
+        snapshots.sort(Comparator.comparingLong(s -> s.throughputBytesPerSecond));
+
+        List<MultiplexedChannelRecord> sortedConnections = new ArrayList<>(snapshots.size());
+        for (ThroughputSnapshot snapshot : snapshots) {
+            sortedConnections.add(snapshot.connection);
+        }
+        return sortedConnections;
+    }
+
     private void acquireStreamOnNewConnection(Promise<Channel> promise) {
         Future<Channel> newConnectionAcquire = connectionPool.acquire();
 
@@ -443,6 +536,9 @@ public class Http2MultiplexedChannelPool implements SdkChannelPool {
             } else {
                 try {
                     metrics.reportMetric(HttpMetric.AVAILABLE_CONCURRENCY, Math.toIntExact(m.getAvailableStreams()));
+                    if (spreadByThroughput) {
+                        metrics.reportMetric(Http2Metric.SATURATED_CONNECTIONS, m.getSaturatedConnections());
+                    }
                     result.complete(null);
                 } catch (Exception e) {
                     result.completeExceptionally(e);
@@ -509,4 +605,14 @@ public class Http2MultiplexedChannelPool implements SdkChannelPool {
             pool.closeAndReleaseParent(ctx.channel(), cause);
         }
     }
+
+    private static final class ThroughputSnapshot {
+        private final MultiplexedChannelRecord connection;
+        private final long throughputBytesPerSecond;
+
+        private ThroughputSnapshot(MultiplexedChannelRecord connection, long throughputBytesPerSecond) {
+            this.connection = connection;
+            this.throughputBytesPerSecond = throughputBytesPerSecond;
+        }
+    }
 }
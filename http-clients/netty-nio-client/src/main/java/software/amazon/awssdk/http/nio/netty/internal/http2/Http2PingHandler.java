@@ -82,6 +82,10 @@ public class Http2PingHandler extends SimpleChannelInboundHandler<Http2PingFrame
         if (frame.ack()) {
             log.debug(() -> "Received PING ACK from channel " + ctx.channel());
             lastPingAckTime = System.currentTimeMillis();
+            Http2FlowControlTuner flowControlTuner = ctx.channel().attr(ChannelAttributeKey.HTTP2_FLOW_CONTROL_TUNER).get();
+            if (flowControlTuner != null) {
+                flowControlTuner.pingAcknowledged(ctx.channel());
+            }
         } else {
             ctx.fireChannelRead(frame);
         }
@@ -99,6 +103,10 @@ public class Http2PingHandler extends SimpleChannelInboundHandler<Http2PingFrame
     }
 
     private void sendPing(Channel channel) {
+        Http2FlowControlTuner flowControlTuner = channel.attr(ChannelAttributeKey.HTTP2_FLOW_CONTROL_TUNER).get();
+        if (flowControlTuner != null) {
+            flowControlTuner.pingSent();
+        }
         channel.writeAndFlush(DEFAULT_PING_FRAME).addListener(res -> {
             if (!res.isSuccess()) {
                 log.debug(() -> "Failed to write and flush PING frame to connection", res.cause());
@@ -15,6 +15,7 @@
 
 package software.amazon.awssdk.http.nio.netty.internal.http2;
 
+import static software.amazon.awssdk.http.nio.netty.internal.ChannelAttributeKey.HTTP2_FLOW_CONTROL_TUNER;
 import static software.amazon.awssdk.http.nio.netty.internal.ChannelAttributeKey.PROTOCOL_FUTURE;
 import static software.amazon.awssdk.http.nio.netty.internal.utils.NettyUtils.doInEventLoop;
 
@@ -169,7 +170,10 @@ public class HttpOrHttp2ChannelPool implements SdkChannelPool {
         } else {
             Duration idleConnectionTimeout = configuration.reapIdleConnections()
                                              ? Duration.ofMillis(configuration.idleTimeoutMillis()) : null;
-            SdkChannelPool h2Pool = new Http2MultiplexedChannelPool(delegatePool, eventLoopGroup, idleConnectionTimeout);
+            // The pipeline initializer only adds a flow control tuner to connections when window tuning is enabled.
+            boolean spreadByThroughput = newChannel.attr(HTTP2_FLOW_CONTROL_TUNER).get() != null;
+            SdkChannelPool h2Pool = new Http2MultiplexedChannelPool(delegatePool, eventLoopGroup, idleConnectionTimeout,
+                                                                    spreadByThroughput);
             protocolImpl = BetterFixedChannelPool.builder()
                                                  .channelPool(h2Pool)
                                                  .executor(eventLoop)
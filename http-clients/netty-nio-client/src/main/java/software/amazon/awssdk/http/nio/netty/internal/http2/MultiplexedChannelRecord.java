@@ -274,6 +274,23 @@ public class MultiplexedChannelRecord {
         return connection;
     }
 
+    /**
+     * @return Whether new streams should rather be placed on another connection, because flow control or congestion already
+     * limit the throughput of this one. See {@link Http2FlowControlTuner}.
+     */
+    boolean isSaturated() {
+        Http2FlowControlTuner flowControlTuner = connection.attr(ChannelAttributeKey.HTTP2_FLOW_CONTROL_TUNER).get();
+        return flowControlTuner != null && flowControlTuner.isSaturated();
+    }
+
+    /**
+     * @return The number of bytes per second recently received on this connection, or 0 if it wasn't measured.
+     */
+    long throughputBytesPerSecond() {
+        Http2FlowControlTuner flowControlTuner = connection.attr(ChannelAttributeKey.HTTP2_FLOW_CONTROL_TUNER).get();
+        return flowControlTuner == null ? 0 : flowControlTuner.throughputBytesPerSecond();
+    }
+
     private boolean claimStream() {
         lastReserveAttemptTimeMillis = System.currentTimeMillis();
         for (int attempt = 0; attempt < 5; ++attempt) {
@@ -303,7 +320,8 @@ public class MultiplexedChannelRecord {
         CompletableFuture<Metrics> result = new CompletableFuture<>();
         doInEventLoop(connection.eventLoop(), () -> {
             int streamCount = childChannels.size();
-            result.complete(new Metrics().setAvailableStreams(maxConcurrencyPerConnection - streamCount));
+            result.complete(new Metrics().setAvailableStreams(maxConcurrencyPerConnection - streamCount)
+                                         .setSaturatedConnections(isSaturated() ? 1 : 0));
         });
         return result;
     }
@@ -328,6 +346,7 @@ public class MultiplexedChannelRecord {
 
     public static class Metrics {
         private long availableStreams = 0;
+        private int saturatedConnections = 0;
 
         public long getAvailableStreams() {
             return availableStreams;
@@ -338,8 +357,18 @@ public class MultiplexedChannelRecord {
             return this;
         }
 
+        public int getSaturatedConnections() {
+            return saturatedConnections;
+        }
+
+        public Metrics setSaturatedConnections(int saturatedConnections) {
+            this.saturatedConnections = saturatedConnections;
+            return this;
+        }
+
         public void add(Metrics rhs) {
             this.availableStreams += rhs.availableStreams;
+            this.saturatedConnections += rhs.saturatedConnections;
         }
     }
 }
@@ -88,4 +88,26 @@ public class Http2ConfigurationTest {
         expected.expect(IllegalArgumentException.class);
         Http2Configuration.builder().initialWindowSize(0);
     }
+
+    @Test
+    public void builder_maxWindowSize_nullValue_doesNotThrow() {
+        Http2Configuration.builder().maxWindowSize(null);
+    }
+
+    @Test
+    public void builder_maxWindowSize_negative_throws() {
+        expected.expect(IllegalArgumentException.class);
+        Http2Configuration.builder().maxWindowSize(-1);
+    }
+
+    @Test
+    public void builder_maxWindowSize_roundTrip() {
+        Http2Configuration config = Http2Configuration.builder()
+                .initialWindowSize(42)
+                .maxWindowSize(84)
+                .build();
+
+        assertThat(config.maxWindowSize()).isEqualTo(84);
+        assertThat(config.toBuilder().build()).isEqualTo(config);
+    }
 }
@@ -426,6 +426,15 @@ public class NettyNioAsyncHttpClientWireMockTest {
         assertCanReceiveBasicRequest(uri, smallBody);
     }
 
+    @Test
+    public void nonBlockingDnsResolver_canMakeRequest() throws Exception {
+        try (SdkAsyncHttpClient customClient = NettyNioAsyncHttpClient.builder()
+                                                                      .useNonBlockingDnsResolver(true)
+                                                                      .buildWithDefaults(mapWithTrustAllCerts())) {
+            makeSimpleRequest(customClient);
+        }
+    }
+
     @Test
     public void canMakeBasicRequestOverHttps() throws Exception {
         String smallBody = randomAlphabetic(10);
@@ -21,10 +21,12 @@ import static software.amazon.awssdk.http.SdkHttpConfigurationOption.TCP_KEEPALI
 
 import io.netty.bootstrap.Bootstrap;
 import io.netty.channel.ChannelOption;
+import io.netty.resolver.AddressResolverGroup;
 import java.net.InetSocketAddress;
 import java.net.SocketAddress;
 import org.junit.Test;
 import org.junit.runner.RunWith;
+import org.mockito.Mockito;
 import org.mockito.runners.MockitoJUnitRunner;
 import software.amazon.awssdk.http.nio.netty.SdkEventLoopGroup;
 import software.amazon.awssdk.utils.AttributeMap;
@@ -74,4 +76,20 @@ public class BootstrapProviderTest {
         Boolean keepAlive = (Boolean) bootstrap.config().options().get(ChannelOption.SO_KEEPALIVE);
         assertThat(keepAlive).isTrue();
     }
-}
\ No newline at end of file
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void createBootstrap_withAddressResolverGroup_resolvesWithIt() {
+        AddressResolverGroup<InetSocketAddress> resolverGroup = Mockito.mock(AddressResolverGroup.class);
+        BootstrapProvider provider =
+            new BootstrapProvider(SdkEventLoopGroup.builder().build(),
+                                  new NettyConfiguration(GLOBAL_HTTP_DEFAULTS),
+                                  new SdkChannelOptions(),
+                                  resolverGroup);
+
+        Bootstrap bootstrap = provider.createBootstrap("some-awesome-service-1234.amazonaws.com", 443);
+
+        assertThat(bootstrap.config().resolver()).isSameAs(resolverGroup);
+        assertThat(((InetSocketAddress) bootstrap.config().remoteAddress()).isUnresolved()).isTrue();
+    }
+}
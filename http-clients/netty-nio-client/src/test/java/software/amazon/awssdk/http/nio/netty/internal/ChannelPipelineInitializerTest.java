@@ -16,6 +16,8 @@
 package software.amazon.awssdk.http.nio.netty.internal;
 
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.hamcrest.CoreMatchers.nullValue;
 import static org.junit.Assert.assertThat;
 import static software.amazon.awssdk.http.SdkHttpConfigurationOption.GLOBAL_HTTP_DEFAULTS;
 
@@ -35,6 +37,7 @@ import java.util.concurrent.atomic.AtomicReference;
 import javax.net.ssl.SSLException;
 import org.junit.Test;
 import software.amazon.awssdk.http.Protocol;
+import software.amazon.awssdk.http.nio.netty.internal.http2.Http2FlowControlTuner;
 
 public class ChannelPipelineInitializerTest {
 
@@ -60,6 +63,7 @@ public class ChannelPipelineInitializerTest {
                                                              SslProvider.JDK,
                                                              100,
                                                              1024,
+                                                             1024,
                                                              Duration.ZERO,
                                                              channelPoolRef,
                                                              nettyConfiguration,
@@ -72,4 +76,37 @@ public class ChannelPipelineInitializerTest {
         assertThat(channel.config().getOption(ChannelOption.ALLOCATOR), is(UnpooledByteBufAllocator.DEFAULT));
 
     }
-}
\ No newline at end of file
+
+    @Test
+    public void http2_windowTuningDisabled_doesNotAddFlowControlTuner() {
+        Channel channel = createHttp2Channel(1024, 1024);
+
+        assertThat(channel.pipeline().get(Http2FlowControlTuner.class), is(nullValue()));
+        assertThat(channel.attr(ChannelAttributeKey.HTTP2_FLOW_CONTROL_TUNER).get(), is(nullValue()));
+    }
+
+    @Test
+    public void http2_windowTuningEnabled_addsFlowControlTuner() {
+        Channel channel = createHttp2Channel(1024, 4096);
+
+        assertThat(channel.pipeline().get(Http2FlowControlTuner.class), is(notNullValue()));
+        assertThat(channel.attr(ChannelAttributeKey.HTTP2_FLOW_CONTROL_TUNER).get(), is(notNullValue()));
+    }
+
+    private Channel createHttp2Channel(int initialWindowSize, int maxWindowSize) {
+        pipelineInitializer = new ChannelPipelineInitializer(Protocol.HTTP2,
+                                                             null,
+                                                             SslProvider.JDK,
+                                                             100,
+                                                             initialWindowSize,
+                                                             maxWindowSize,
+                                                             Duration.ZERO,
+                                                             new AtomicReference<>(),
+                                                             new NettyConfiguration(GLOBAL_HTTP_DEFAULTS),
+                                                             URI.create("http://some-awesome-service-1234.amazonaws.com:8080"));
+
+        Channel channel = new EmbeddedChannel();
+        pipelineInitializer.channelCreated(channel);
+        return channel;
+    }
+}
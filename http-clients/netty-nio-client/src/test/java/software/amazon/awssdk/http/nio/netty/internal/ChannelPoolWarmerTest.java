@@ -0,0 +1,84 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.nio.netty.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.netty.channel.Channel;
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.netty.util.concurrent.DefaultPromise;
+import io.netty.util.concurrent.ImmediateEventExecutor;
+import io.netty.util.concurrent.Promise;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import org.junit.Before;
+import org.junit.Test;
+
+public class ChannelPoolWarmerTest {
+    private SdkChannelPool pool;
+    private List<Promise<Channel>> acquires;
+
+    @Before
+    public void setup() {
+        pool = mock(SdkChannelPool.class);
+        acquires = new ArrayList<>();
+        when(pool.acquire()).thenAnswer(i -> {
+            Promise<Channel> promise = new DefaultPromise<>(ImmediateEventExecutor.INSTANCE);
+            acquires.add(promise);
+            return promise;
+        });
+    }
+
+    @Test
+    public void warmUp_acquiresAllChannelsBeforeReleasingThem() throws Exception {
+        CompletableFuture<Duration> warmUp = ChannelPoolWarmer.warmUp(pool, 3);
+
+        verify(pool, times(3)).acquire();
+        acquires.get(0).setSuccess(new EmbeddedChannel());
+        acquires.get(1).setSuccess(new EmbeddedChannel());
+        verify(pool, never()).release(any(Channel.class));
+        assertThat(warmUp).isNotDone();
+
+        acquires.get(2).setSuccess(new EmbeddedChannel());
+
+        verify(pool, times(3)).release(any(Channel.class));
+        assertThat(warmUp.get()).isGreaterThanOrEqualTo(Duration.ZERO);
+    }
+
+    @Test
+    public void warmUp_acquireFails_failsAndReleasesAcquiredChannels() {
+        IOException cause = new IOException("Connection refused");
+        CompletableFuture<Duration> warmUp = ChannelPoolWarmer.warmUp(pool, 2);
+
+        Channel channel = new EmbeddedChannel();
+        acquires.get(0).setSuccess(channel);
+        acquires.get(1).setFailure(cause);
+
+        verify(pool).release(channel);
+        assertThatThrownBy(warmUp::get).isInstanceOf(ExecutionException.class).hasCause(cause);
+    }
+}
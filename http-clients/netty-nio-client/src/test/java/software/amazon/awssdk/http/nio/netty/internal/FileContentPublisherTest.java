@@ -0,0 +1,152 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.nio.netty.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.DefaultFileRegion;
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.netty.handler.codec.http.HttpContent;
+import java.io.ByteArrayOutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+public class FileContentPublisherTest {
+    private static final int FILE_SIZE = 100 * 1024 + 7;
+
+    private Path file;
+    private byte[] content;
+    private EmbeddedChannel channel;
+
+    @Before
+    public void setup() throws Exception {
+        content = new byte[FILE_SIZE];
+        new Random(0).nextBytes(content);
+        file = Files.createTempFile("FileContentPublisherTest", ".bin");
+        Files.write(file, content);
+        channel = new EmbeddedChannel();
+    }
+
+    @After
+    public void teardown() throws Exception {
+        channel.finishAndReleaseAll();
+        Files.deleteIfExists(file);
+    }
+
+    @Test
+    public void sendfile_writesFileRegionAndCompletesWithoutContent() {
+        CollectingSubscriber subscriber = new CollectingSubscriber();
+
+        new FileContentPublisher(channel, file, FILE_SIZE - 7, true).subscribe(subscriber);
+
+        assertThat(subscriber.result.join()).isEmpty();
+        DefaultFileRegion region = channel.readOutbound();
+        assertThat(region.position()).isZero();
+        assertThat(region.count()).isEqualTo(FILE_SIZE - 7);
+        region.release();
+        assertThat((Object) channel.readOutbound()).isNull();
+    }
+
+    @Test
+    public void directBuffers_publishFileContentUpToContentLength() throws Exception {
+        CollectingSubscriber subscriber = new CollectingSubscriber();
+
+        new FileContentPublisher(channel, file, FILE_SIZE - 7, false).subscribe(subscriber);
+
+        byte[] expected = new byte[FILE_SIZE - 7];
+        System.arraycopy(content, 0, expected, 0, expected.length);
+        assertThat(subscriber.result.get(10, TimeUnit.SECONDS)).isEqualTo(expected);
+        assertThat(subscriber.allDirect).isTrue();
+    }
+
+    @Test
+    public void directBuffers_emptyContent_completes() throws Exception {
+        CollectingSubscriber subscriber = new CollectingSubscriber();
+
+        new FileContentPublisher(channel, file, 0, false).subscribe(subscriber);
+
+        assertThat(subscriber.result.get(10, TimeUnit.SECONDS)).isEmpty();
+    }
+
+    @Test
+    public void fileShorterThanContentLength_fails() {
+        for (boolean sendfile : new boolean[] {true, false}) {
+            CollectingSubscriber subscriber = new CollectingSubscriber();
+
+            new FileContentPublisher(channel, file, FILE_SIZE + 1, sendfile).subscribe(subscriber);
+
+            assertThat(subscriber.result).isCompletedExceptionally();
+            assertThat(subscriber.result.handle((r, t) -> t).join())
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("content-length was " + (FILE_SIZE + 1));
+            assertThat((Object) channel.readOutbound()).isNull();
+        }
+    }
+
+    @Test
+    public void missingFile_fails() throws Exception {
+        Files.delete(file);
+        CollectingSubscriber subscriber = new CollectingSubscriber();
+
+        new FileContentPublisher(channel, file, FILE_SIZE, false).subscribe(subscriber);
+
+        assertThat(subscriber.result).isCompletedExceptionally();
+    }
+
+    private static final class CollectingSubscriber implements Subscriber<HttpContent> {
+        private final ByteArrayOutputStream received = new ByteArrayOutputStream();
+        private final CompletableFuture<byte[]> result = new CompletableFuture<>();
+        private volatile boolean allDirect = true;
+
+        @Override
+        public void onSubscribe(Subscription subscription) {
+            subscription.request(Long.MAX_VALUE);
+        }
+
+        @Override
+        public void onNext(HttpContent httpContent) {
+            ByteBuf buffer = httpContent.content();
+            allDirect &= buffer.isDirect();
+            byte[] bytes = new byte[buffer.readableBytes()];
+            buffer.readBytes(bytes);
+            httpContent.release();
+            synchronized (received) {
+                received.write(bytes, 0, bytes.length);
+            }
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            result.completeExceptionally(t);
+        }
+
+        @Override
+        public void onComplete() {
+            synchronized (received) {
+                result.complete(received.toByteArray());
+            }
+        }
+    }
+}
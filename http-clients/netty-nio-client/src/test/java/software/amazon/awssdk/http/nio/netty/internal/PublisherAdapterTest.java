@@ -16,6 +16,7 @@
 package software.amazon.awssdk.http.nio.netty.internal;
 
 
+import static java.nio.charset.StandardCharsets.UTF_8;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
@@ -26,6 +27,7 @@ import static software.amazon.awssdk.http.nio.netty.internal.ChannelAttributeKey
 import static software.amazon.awssdk.http.nio.netty.internal.ChannelAttributeKey.PROTOCOL_FUTURE;
 import static software.amazon.awssdk.http.nio.netty.internal.ChannelAttributeKey.REQUEST_CONTEXT_KEY;
 
+import io.netty.buffer.ByteBuf;
 import io.netty.buffer.ByteBufAllocator;
 import io.netty.buffer.EmptyByteBuf;
 import io.netty.buffer.Unpooled;
@@ -39,7 +41,10 @@ import io.netty.handler.codec.http.HttpResponseStatus;
 import io.netty.handler.codec.http.HttpVersion;
 import io.reactivex.Flowable;
 import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -49,10 +54,13 @@ import org.reactivestreams.Publisher;
 import org.reactivestreams.Subscriber;
 import org.reactivestreams.Subscription;
 import software.amazon.awssdk.http.Protocol;
+import software.amazon.awssdk.http.SdkHttpConfigurationOption;
 import software.amazon.awssdk.http.async.AsyncExecuteRequest;
+import software.amazon.awssdk.http.async.ReleasableByteBufferSubscriber;
 import software.amazon.awssdk.http.async.SdkAsyncHttpResponseHandler;
 import software.amazon.awssdk.http.nio.netty.internal.nrs.DefaultStreamedHttpResponse;
 import software.amazon.awssdk.http.nio.netty.internal.nrs.StreamedHttpResponse;
+import software.amazon.awssdk.utils.AttributeMap;
 
 @RunWith(MockitoJUnitRunner.class)
 public class PublisherAdapterTest {
@@ -227,6 +235,118 @@ public class PublisherAdapterTest {
         }
     }
 
+    @Test
+    public void zeroCopyEnabled_releasableSubscriber_receivesViewThatReleasesContent() {
+        ByteBuf content = Unpooled.directBuffer().writeBytes("hello".getBytes(UTF_8));
+        ReleasingTestSubscriber subscriber = new ReleasingTestSubscriber();
+
+        publisherAdapter(content, true).subscribe(subscriber);
+
+        assertThat(subscriber.isCompleted).isTrue();
+        assertThat(subscriber.releaser).isNotNull();
+        assertThat(subscriber.received).hasSize(1);
+        ByteBuffer view = subscriber.received.get(0);
+        assertThat(view.isReadOnly()).isTrue();
+        assertThat(UTF_8.decode(view.duplicate()).toString()).isEqualTo("hello");
+        assertThat(content.refCnt()).isEqualTo(1);
+
+        subscriber.releaser.accept(view);
+        assertThat(content.refCnt()).isEqualTo(0);
+
+        // Releasing twice, or releasing a buffer that didn't come from the publisher, is a no-op
+        subscriber.releaser.accept(view);
+        subscriber.releaser.accept(ByteBuffer.allocate(1));
+    }
+
+    @Test
+    public void zeroCopyEnabled_contentSpanningSeveralBuffers_isCopied() {
+        ByteBuf content = Unpooled.wrappedBuffer(Unpooled.wrappedBuffer("hel".getBytes(UTF_8)),
+                                                 Unpooled.wrappedBuffer("lo".getBytes(UTF_8)));
+        ReleasingTestSubscriber subscriber = new ReleasingTestSubscriber();
+
+        publisherAdapter(content, true).subscribe(subscriber);
+
+        assertThat(subscriber.received).hasSize(1);
+        assertThat(subscriber.received.get(0).isReadOnly()).isFalse();
+        assertThat(UTF_8.decode(subscriber.received.get(0)).toString()).isEqualTo("hello");
+        assertThat(content.refCnt()).isEqualTo(0);
+    }
+
+    @Test
+    public void zeroCopyDisabled_releasableSubscriber_receivesCopy() {
+        ByteBuf content = Unpooled.directBuffer().writeBytes("hello".getBytes(UTF_8));
+        ReleasingTestSubscriber subscriber = new ReleasingTestSubscriber();
+
+        publisherAdapter(content, false).subscribe(subscriber);
+
+        assertThat(subscriber.releaser).isNull();
+        assertThat(subscriber.received).hasSize(1);
+        assertThat(UTF_8.decode(subscriber.received.get(0)).toString()).isEqualTo("hello");
+        assertThat(content.refCnt()).isEqualTo(0);
+    }
+
+    @Test
+    public void zeroCopyEnabled_subscriberNotReleasable_receivesCopy() {
+        ByteBuf content = Unpooled.directBuffer().writeBytes("hello".getBytes(UTF_8));
+        TestSubscriber subscriber = new TestSubscriber();
+
+        publisherAdapter(content, true).subscribe(subscriber);
+
+        assertThat(subscriber.isCompleted).isTrue();
+        assertThat(content.refCnt()).isEqualTo(0);
+    }
+
+    private ResponseHandler.PublisherAdapter publisherAdapter(ByteBuf content, boolean zeroCopyResponseContent) {
+        AttributeMap configuration = AttributeMap.builder()
+                                                 .put(NettyConfigurationOption.ZERO_COPY_RESPONSE_CONTENT,
+                                                      zeroCopyResponseContent)
+                                                 .build()
+                                                 .merge(SdkHttpConfigurationOption.GLOBAL_HTTP_DEFAULTS);
+        RequestContext context = new RequestContext(channelPool,
+                                                    eventLoopGroup,
+                                                    AsyncExecuteRequest.builder().responseHandler(responseHandler).build(),
+                                                    new NettyConfiguration(configuration));
+        StreamedHttpResponse streamedHttpResponse =
+            new DefaultStreamedHttpResponse(HttpVersion.HTTP_1_1,
+                                            HttpResponseStatus.OK,
+                                            Flowable.just(new DefaultHttpContent(content)));
+        return new ResponseHandler.PublisherAdapter(streamedHttpResponse, ctx, context, executeFuture);
+    }
+
+    static final class ReleasingTestSubscriber implements ReleasableByteBufferSubscriber {
+
+        private final List<ByteBuffer> received = new ArrayList<>();
+        private Consumer<ByteBuffer> releaser;
+        private Subscription subscription;
+        private boolean isCompleted = false;
+
+        @Override
+        public void onBufferReleaser(Consumer<ByteBuffer> releaser) {
+            this.releaser = releaser;
+        }
+
+        @Override
+        public void onSubscribe(Subscription s) {
+            this.subscription = s;
+            subscription.request(1);
+        }
+
+        @Override
+        public void onNext(ByteBuffer byteBuffer) {
+            received.add(byteBuffer);
+            subscription.request(1);
+        }
+
+        @Override
+        public void onError(Throwable t) {
+        }
+
+        @Override
+        public void onComplete() {
+            isCompleted = true;
+        }
+    }
+
     static final class TestSubscriber implements Subscriber<ByteBuffer> {
 
         private Subscription subscription;
@@ -0,0 +1,61 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.nio.netty.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.CompositeByteBuf;
+import io.netty.buffer.Unpooled;
+import java.nio.ByteBuffer;
+import org.junit.Test;
+
+public class ResponseBufferReleaserTest {
+    private final ResponseBufferReleaser releaser = new ResponseBufferReleaser();
+
+    @Test
+    public void accept_releasesWrappedBuffer() {
+        ByteBuf content = Unpooled.directBuffer(4).writeInt(42);
+
+        ByteBuffer view = releaser.wrap(content);
+
+        assertThat(view.isReadOnly()).isTrue();
+        assertThat(view.getInt()).isEqualTo(42);
+        assertThat(content.refCnt()).isEqualTo(1);
+        releaser.accept(view);
+        assertThat(content.refCnt()).isZero();
+    }
+
+    @Test
+    public void accept_unknownView_doesNothing() {
+        ByteBuf content = Unpooled.directBuffer(4).writeInt(42);
+        releaser.wrap(content);
+
+        releaser.accept(ByteBuffer.allocate(4));
+
+        assertThat(content.refCnt()).isEqualTo(1);
+        content.release();
+    }
+
+    @Test
+    public void wrap_multipleComponents_returnsNull() {
+        CompositeByteBuf content = Unpooled.compositeBuffer();
+        content.addComponents(true, Unpooled.wrappedBuffer(new byte[] {1}), Unpooled.wrappedBuffer(new byte[] {2}));
+
+        assertThat(releaser.wrap(content)).isNull();
+        content.release();
+    }
+}
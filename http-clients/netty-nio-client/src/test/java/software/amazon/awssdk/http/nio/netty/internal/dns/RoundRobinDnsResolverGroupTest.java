@@ -0,0 +1,224 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.nio.netty.internal.dns;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.netty.bootstrap.Bootstrap;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInitializer;
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.SimpleChannelInboundHandler;
+import io.netty.channel.nio.NioEventLoopGroup;
+import io.netty.channel.socket.DatagramChannel;
+import io.netty.channel.socket.nio.NioDatagramChannel;
+import io.netty.handler.codec.dns.DatagramDnsQuery;
+import io.netty.handler.codec.dns.DatagramDnsQueryDecoder;
+import io.netty.handler.codec.dns.DatagramDnsResponse;
+import io.netty.handler.codec.dns.DatagramDnsResponseEncoder;
+import io.netty.handler.codec.dns.DefaultDnsRawRecord;
+import io.netty.handler.codec.dns.DnsQuestion;
+import io.netty.handler.codec.dns.DnsRecordType;
+import io.netty.handler.codec.dns.DnsResponseCode;
+import io.netty.handler.codec.dns.DnsSection;
+import io.netty.resolver.AddressResolver;
+import io.netty.resolver.dns.SingletonDnsServerAddressStreamProvider;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.UnknownHostException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.After;
+import org.junit.AfterClass;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+/**
+ * Tests for {@link RoundRobinDnsResolverGroup}, against a local DNS server that answers A queries for a single host.
+ */
+public class RoundRobinDnsResolverGroupTest {
+    private static final String HOST = "s3.dns-test";
+    private static final byte[][] ADDRESSES = {
+        {10, 0, 0, 1},
+        {10, 0, 0, 2},
+        {10, 0, 0, 3}
+    };
+
+    private static EventLoopGroup eventLoopGroup;
+
+    private DnsStandIn dnsStandIn;
+    private Channel dnsServerChannel;
+    private RoundRobinDnsResolverGroup resolverGroup;
+
+    @BeforeClass
+    public static void setupEventLoopGroup() {
+        eventLoopGroup = new NioEventLoopGroup(2);
+    }
+
+    @AfterClass
+    public static void teardownEventLoopGroup() {
+        eventLoopGroup.shutdownGracefully().awaitUninterruptibly();
+    }
+
+    @Before
+    public void setup() throws InterruptedException {
+        dnsStandIn = new DnsStandIn();
+        dnsServerChannel = new Bootstrap().group(eventLoopGroup)
+                                          .channel(NioDatagramChannel.class)
+                                          .handler(new ChannelInitializer<DatagramChannel>() {
+                                              @Override
+                                              protected void initChannel(DatagramChannel ch) {
+                                                  ch.pipeline().addLast(new DatagramDnsQueryDecoder(),
+                                                                        new DatagramDnsResponseEncoder(),
+                                                                        dnsStandIn);
+                                              }
+                                          })
+                                          .bind(InetAddress.getLoopbackAddress(), 0)
+                                          .sync()
+                                          .channel();
+
+        InetSocketAddress dnsServerAddress = (InetSocketAddress) dnsServerChannel.localAddress();
+        resolverGroup = new RoundRobinDnsResolverGroup(NioDatagramChannel::new,
+                                                       new SingletonDnsServerAddressStreamProvider(dnsServerAddress));
+    }
+
+    @After
+    public void teardown() {
+        resolverGroup.close();
+        dnsServerChannel.close().awaitUninterruptibly();
+    }
+
+    @Test
+    public void resolve_spreadsAcrossAllAddressesInRoundRobinOrder() throws Exception {
+        List<InetAddress> resolved = new ArrayList<>();
+        for (int i = 0; i < 2 * ADDRESSES.length; i++) {
+            resolved.add(resolve(resolver()));
+        }
+
+        List<InetAddress> firstRound = resolved.subList(0, ADDRESSES.length);
+        assertThat(firstRound).containsExactlyInAnyOrder(expectedAddresses());
+        assertThat(resolved.subList(ADDRESSES.length, resolved.size())).containsExactlyElementsOf(firstRound);
+    }
+
+    @Test
+    public void resolve_fromDifferentEventLoops_sharesCacheAndRotation() throws Exception {
+        AddressResolver<InetSocketAddress> first = resolverGroup.getResolver(eventLoopGroup.next());
+        AddressResolver<InetSocketAddress> second = resolverGroup.getResolver(eventLoopGroup.next());
+
+        InetAddress firstAddress = resolve(first);
+        InetAddress secondAddress = resolve(second);
+
+        assertThat(firstAddress).isNotEqualTo(secondAddress);
+        assertThat(dnsStandIn.aQueries.get()).isEqualTo(1);
+    }
+
+    @Test
+    public void resolve_withinTtl_queriesOnce() throws Exception {
+        for (int i = 0; i < 5; i++) {
+            resolve(resolver());
+        }
+
+        assertThat(dnsStandIn.aQueries.get()).isEqualTo(1);
+    }
+
+    @Test
+    public void resolve_afterTtlExpired_queriesAgain() throws Exception {
+        dnsStandIn.ttlSeconds = 1;
+        resolve(resolver());
+
+        Thread.sleep(1500);
+        resolve(resolver());
+
+        assertThat(dnsStandIn.aQueries.get()).isEqualTo(2);
+    }
+
+    @Test
+    public void resolve_unknownHost_fails() {
+        assertThatThrownBy(() -> resolver().resolve(InetSocketAddress.createUnresolved("unknown.dns-test", 443)).get())
+            .isInstanceOf(ExecutionException.class)
+            .hasCauseInstanceOf(UnknownHostException.class);
+    }
+
+    @Test
+    public void nextAddressIndex_manyDistinctHosts_tracksAtMostMaxHosts() {
+        for (int i = 0; i < 3 * RoundRobinDnsResolverGroup.MAX_TRACKED_HOSTS; i++) {
+            resolverGroup.nextAddressIndex("host-" + i + ".dns-test");
+        }
+
+        assertThat(resolverGroup.trackedHostCount()).isLessThanOrEqualTo(RoundRobinDnsResolverGroup.MAX_TRACKED_HOSTS);
+    }
+
+    @Test
+    public void nextAddressIndex_knownHost_keepsRotatingWithoutEviction() {
+        for (int i = 0; i < RoundRobinDnsResolverGroup.MAX_TRACKED_HOSTS - 1; i++) {
+            resolverGroup.nextAddressIndex("host-" + i + ".dns-test");
+        }
+
+        assertThat(resolverGroup.nextAddressIndex(HOST)).isEqualTo(0);
+        assertThat(resolverGroup.nextAddressIndex(HOST)).isEqualTo(1);
+        assertThat(resolverGroup.trackedHostCount()).isEqualTo(RoundRobinDnsResolverGroup.MAX_TRACKED_HOSTS);
+    }
+
+    private AddressResolver<InetSocketAddress> resolver() {
+        return resolverGroup.getResolver(eventLoopGroup.next());
+    }
+
+    private static InetAddress resolve(AddressResolver<InetSocketAddress> resolver) throws Exception {
+        return resolver.resolve(InetSocketAddress.createUnresolved(HOST, 443)).get().getAddress();
+    }
+
+    private static InetAddress[] expectedAddresses() throws UnknownHostException {
+        InetAddress[] addresses = new InetAddress[ADDRESSES.length];
+        for (int i = 0; i < ADDRESSES.length; i++) {
+            addresses[i] = InetAddress.getByAddress(ADDRESSES[i]);
+        }
+        return addresses;
+    }
+
+    /**
+     * Answers A queries for {@link #HOST} with all {@link #ADDRESSES}, other queries for it without records and queries for
+     * any other host with NXDOMAIN.
+     */
+    private static final class DnsStandIn extends SimpleChannelInboundHandler<DatagramDnsQuery> {
+        private final AtomicInteger aQueries = new AtomicInteger();
+        private volatile int ttlSeconds = 60;
+
+        @Override
+        protected void channelRead0(ChannelHandlerContext ctx, DatagramDnsQuery query) {
+            DnsQuestion question = query.recordAt(DnsSection.QUESTION);
+            DatagramDnsResponse response = new DatagramDnsResponse(query.recipient(), query.sender(), query.id());
+            response.addRecord(DnsSection.QUESTION, question);
+
+            if (!question.name().equals(HOST + ".")) {
+                response.setCode(DnsResponseCode.NXDOMAIN);
+            } else if (question.type() == DnsRecordType.A) {
+                aQueries.incrementAndGet();
+                for (byte[] address : ADDRESSES) {
+                    response.addRecord(DnsSection.ANSWER, new DefaultDnsRawRecord(question.name(), DnsRecordType.A,
+                                                                                  ttlSeconds, Unpooled.wrappedBuffer(address)));
+                }
+            }
+
+            ctx.writeAndFlush(response);
+        }
+    }
+}
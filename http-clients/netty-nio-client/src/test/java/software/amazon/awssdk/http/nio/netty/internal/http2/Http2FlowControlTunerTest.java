@@ -0,0 +1,157 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.nio.netty.internal.http2;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Matchers.anyInt;
+import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.netty.buffer.Unpooled;
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.netty.handler.codec.http2.Http2Connection;
+import io.netty.handler.codec.http2.Http2LocalFlowController;
+import io.netty.handler.codec.http2.Http2SettingsFrame;
+import io.netty.handler.codec.http2.Http2Stream;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import software.amazon.awssdk.http.nio.netty.internal.ChannelAttributeKey;
+
+public class Http2FlowControlTunerTest {
+    private static final int INITIAL_WINDOW_SIZE = 65535;
+
+    private Http2LocalFlowController flowController;
+    private Http2Connection.Endpoint<Http2LocalFlowController> local;
+    private Http2Stream connectionStream;
+    private EmbeddedChannel channel;
+
+    @Before
+    @SuppressWarnings("unchecked")
+    public void setup() {
+        Http2Connection connection = mock(Http2Connection.class);
+        local = mock(Http2Connection.Endpoint.class);
+        flowController = mock(Http2LocalFlowController.class);
+        connectionStream = mock(Http2Stream.class);
+
+        when(connection.local()).thenReturn(local);
+        when(connection.connectionStream()).thenReturn(connectionStream);
+        when(local.flowController()).thenReturn(flowController);
+        when(flowController.initialWindowSize(connectionStream)).thenReturn(INITIAL_WINDOW_SIZE);
+
+        channel = new EmbeddedChannel();
+        channel.attr(ChannelAttributeKey.HTTP2_CONNECTION).set(connection);
+    }
+
+    @After
+    public void teardown() {
+        channel.finishAndReleaseAll();
+    }
+
+    @Test
+    public void roundTripTime_isMeasuredWhenPingIsAcknowledged() {
+        Http2FlowControlTuner tuner = addTuner(INITIAL_WINDOW_SIZE);
+        assertThat(tuner.roundTripTime()).isNull();
+
+        tuner.pingSent();
+        tuner.pingAcknowledged(channel);
+
+        assertThat(tuner.roundTripTime()).isNotNull();
+        assertThat(tuner.isSaturated()).isFalse();
+    }
+
+    @Test
+    public void pingAcknowledged_withoutPingSent_isIgnored() {
+        Http2FlowControlTuner tuner = addTuner(INITIAL_WINDOW_SIZE);
+
+        tuner.pingAcknowledged(channel);
+
+        assertThat(tuner.roundTripTime()).isNull();
+    }
+
+    @Test
+    public void streamWindowsFilled_tuningEnabled_growsWindows() throws Exception {
+        when(local.numActiveStreams()).thenReturn(2);
+        Http2FlowControlTuner tuner = addTuner(4 * INITIAL_WINDOW_SIZE);
+
+        tuner.pingSent();
+        receive(2 * INITIAL_WINDOW_SIZE);
+        tuner.pingAcknowledged(channel);
+
+        Http2SettingsFrame settingsFrame = channel.readOutbound();
+        assertThat(settingsFrame.settings().initialWindowSize()).isEqualTo(2 * INITIAL_WINDOW_SIZE);
+        assertThat(channel.attr(ChannelAttributeKey.HTTP2_INITIAL_WINDOW_SIZE).get()).isEqualTo(2 * INITIAL_WINDOW_SIZE);
+        verify(flowController).incrementWindowSize(connectionStream, 3 * INITIAL_WINDOW_SIZE);
+        assertThat(tuner.isSaturated()).isFalse();
+    }
+
+    @Test
+    public void streamWindowsFilled_windowAtMaximum_doesNotGrowWindows() throws Exception {
+        when(local.numActiveStreams()).thenReturn(1);
+        Http2FlowControlTuner tuner = addTuner(INITIAL_WINDOW_SIZE);
+
+        tuner.pingSent();
+        receive(INITIAL_WINDOW_SIZE);
+        tuner.pingAcknowledged(channel);
+
+        assertThat((Object) channel.readOutbound()).isNull();
+        verify(flowController, never()).incrementWindowSize(eq(connectionStream), anyInt());
+    }
+
+    @Test
+    public void connectionWindowFilled_windowAtMaximum_isSaturated() {
+        Http2FlowControlTuner tuner = addTuner(INITIAL_WINDOW_SIZE);
+
+        tuner.pingSent();
+        receive(INITIAL_WINDOW_SIZE);
+        tuner.pingAcknowledged(channel);
+
+        assertThat(tuner.isSaturated()).isTrue();
+        assertThat(tuner.throughputBytesPerSecond()).isPositive();
+    }
+
+    @Test
+    public void roundTripTimeDoubled_whileReceiving_isSaturated() throws InterruptedException {
+        Http2FlowControlTuner tuner = addTuner(INITIAL_WINDOW_SIZE);
+
+        tuner.pingSent();
+        tuner.pingAcknowledged(channel);
+        assertThat(tuner.isSaturated()).isFalse();
+
+        tuner.pingSent();
+        receive(1024);
+        Thread.sleep(50);
+        tuner.pingAcknowledged(channel);
+        assertThat(tuner.isSaturated()).isTrue();
+
+        tuner.pingSent();
+        tuner.pingAcknowledged(channel);
+        assertThat(tuner.isSaturated()).isFalse();
+    }
+
+    private Http2FlowControlTuner addTuner(int maxWindowSize) {
+        Http2FlowControlTuner tuner = new Http2FlowControlTuner(INITIAL_WINDOW_SIZE, maxWindowSize);
+        channel.pipeline().addLast(tuner);
+        return tuner;
+    }
+
+    private void receive(int bytes) {
+        channel.writeInbound(Unpooled.wrappedBuffer(new byte[bytes]));
+    }
+}
@@ -16,6 +16,7 @@
 package software.amazon.awssdk.http.nio.netty.internal.http2;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Matchers.any;
 import static org.mockito.Matchers.eq;
 import static org.mockito.Matchers.isA;
 import static org.mockito.Mockito.mock;
@@ -39,6 +40,8 @@ import io.netty.util.concurrent.Future;
 import io.netty.util.concurrent.Promise;
 import java.io.IOException;
 import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import org.junit.AfterClass;
 import org.junit.BeforeClass;
@@ -330,6 +333,85 @@ public class Http2MultiplexedChannelPoolTest {
         }
     }
 
+    @Test
+    public void acquire_spreadingDisabled_usesSaturatedConnection() {
+        EmbeddedChannel channel = new EmbeddedChannel();
+        try {
+            ChannelPool connectionPool = mock(ChannelPool.class);
+            when(connectionPool.acquire()).thenReturn(new FailedFuture<>(loopGroup.next(), new IOException()));
+            MultiplexedChannelRecord record = saturatedRecord(channel);
+
+            Http2MultiplexedChannelPool h2Pool = new Http2MultiplexedChannelPool(connectionPool, loopGroup,
+                                                                                 Collections.singleton(record), null);
+            h2Pool.acquire().awaitUninterruptibly();
+
+            Mockito.verify(record).acquireStream(any(Promise.class));
+            Mockito.verify(record, Mockito.never()).isSaturated();
+            Mockito.verify(record, Mockito.never()).throughputBytesPerSecond();
+        } finally {
+            channel.close();
+        }
+    }
+
+    @Test
+    public void acquire_spreadingEnabled_opensNewConnectionInsteadOfUsingSaturatedConnection() {
+        EmbeddedChannel channel = new EmbeddedChannel();
+        try {
+            ChannelPool connectionPool = mock(ChannelPool.class);
+            when(connectionPool.acquire()).thenReturn(new FailedFuture<>(loopGroup.next(), new IOException()));
+            MultiplexedChannelRecord record = saturatedRecord(channel);
+
+            Http2MultiplexedChannelPool h2Pool = new Http2MultiplexedChannelPool(connectionPool, loopGroup,
+                                                                                 Collections.singleton(record), null, true);
+            h2Pool.acquire().awaitUninterruptibly();
+
+            Mockito.verify(record, Mockito.never()).acquireStream(any(Promise.class));
+            Mockito.verify(connectionPool).acquire();
+        } finally {
+            channel.close();
+        }
+    }
+
+    @Test
+    public void acquire_spreadingEnabled_prefersConnectionWithLowestThroughput() {
+        EmbeddedChannel channel = new EmbeddedChannel();
+        try {
+            ChannelPool connectionPool = mock(ChannelPool.class);
+            Set<MultiplexedChannelRecord> records = new HashSet<>();
+            MultiplexedChannelRecord slowest = null;
+            for (int i = 0; i < 64; i++) {
+                MultiplexedChannelRecord record = mock(MultiplexedChannelRecord.class);
+                when(record.getConnection()).thenReturn(channel);
+                when(record.throughputBytesPerSecond()).thenReturn(1_000L + i);
+                records.add(record);
+                if (i == 0) {
+                    slowest = record;
+                }
+            }
+            when(slowest.acquireStream(any(Promise.class))).thenReturn(true);
+
+            Http2MultiplexedChannelPool h2Pool = new Http2MultiplexedChannelPool(connectionPool, loopGroup, records, null, true);
+            h2Pool.acquire();
+
+            for (MultiplexedChannelRecord record : records) {
+                if (record != slowest) {
+                    Mockito.verify(record, Mockito.never()).acquireStream(any(Promise.class));
+                }
+            }
+            Mockito.verify(slowest).acquireStream(any(Promise.class));
+            Mockito.verify(connectionPool, Mockito.never()).acquire();
+        } finally {
+            channel.close();
+        }
+    }
+
+    private MultiplexedChannelRecord saturatedRecord(Channel channel) {
+        MultiplexedChannelRecord record = mock(MultiplexedChannelRecord.class);
+        when(record.getConnection()).thenReturn(channel);
+        when(record.isSaturated()).thenReturn(true);
+        return record;
+    }
+
     private Channel doAcquire(EmbeddedChannel channel1, EmbeddedChannel channel2, Http2MultiplexedChannelPool h2Pool) {
         Future<Channel> acquire = h2Pool.acquire();
         acquire.awaitUninterruptibly();
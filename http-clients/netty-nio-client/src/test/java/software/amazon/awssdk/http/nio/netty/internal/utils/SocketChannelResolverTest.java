@@ -17,14 +17,18 @@ package software.amazon.awssdk.http.nio.netty.internal.utils;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.Assume.assumeTrue;
+import static software.amazon.awssdk.http.nio.netty.internal.utils.SocketChannelResolver.resolveDatagramChannelFactory;
 import static software.amazon.awssdk.http.nio.netty.internal.utils.SocketChannelResolver.resolveSocketChannelFactory;
 
 import io.netty.channel.epoll.Epoll;
+import io.netty.channel.epoll.EpollDatagramChannel;
 import io.netty.channel.epoll.EpollEventLoopGroup;
 import io.netty.channel.epoll.EpollSocketChannel;
 import io.netty.channel.nio.NioEventLoopGroup;
 import io.netty.channel.oio.OioEventLoopGroup;
+import io.netty.channel.socket.nio.NioDatagramChannel;
 import io.netty.channel.socket.nio.NioSocketChannel;
+import io.netty.channel.socket.oio.OioDatagramChannel;
 import io.netty.channel.socket.oio.OioSocketChannel;
 import org.junit.Test;
 import software.amazon.awssdk.http.nio.netty.internal.DelegatingEventLoopGroup;
@@ -51,4 +55,26 @@ public class SocketChannelResolverTest {
     public void worksWithOioEventLoopGroupFactory() {
         assertThat(resolveSocketChannelFactory(new OioEventLoopGroup()).newChannel()).isInstanceOf(OioSocketChannel.class);
     }
+
+    @Test
+    public void canDetectDatagramFactoryForStandardNioEventLoopGroup() {
+        assertThat(resolveDatagramChannelFactory(new NioEventLoopGroup()).newChannel()).isInstanceOf(NioDatagramChannel.class);
+    }
+
+    @Test
+    public void canDetectDatagramFactoryForEpollEventLoopGroup() {
+        assumeTrue(Epoll.isAvailable());
+        assertThat(resolveDatagramChannelFactory(new EpollEventLoopGroup()).newChannel()).isInstanceOf(EpollDatagramChannel.class);
+    }
+
+    @Test
+    public void worksWithDelegateEventLoopGroupsDatagramFactory() {
+        assertThat(resolveDatagramChannelFactory(new DelegatingEventLoopGroup(new NioEventLoopGroup()) {}).newChannel())
+            .isInstanceOf(NioDatagramChannel.class);
+    }
+
+    @Test
+    public void worksWithOioEventLoopGroupDatagramFactory() {
+        assertThat(resolveDatagramChannelFactory(new OioEventLoopGroup()).newChannel()).isInstanceOf(OioDatagramChannel.class);
+    }
 }
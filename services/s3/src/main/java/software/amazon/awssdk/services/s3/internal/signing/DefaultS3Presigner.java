@@ -103,7 +103,7 @@ public final class DefaultS3Presigner extends DefaultSdkPresigner implements S3P
     private static final String SIGNING_NAME = "s3";
 
     private final S3Configuration serviceConfiguration;
-    private final List<ExecutionInterceptor> clientInterceptors;
+    private final ExecutionInterceptorChain clientInterceptorChain;
     private final GetObjectRequestMarshaller getObjectRequestMarshaller;
     private final PutObjectRequestMarshaller putObjectRequestMarshaller;
     private final CreateMultipartUploadRequestMarshaller createMultipartUploadRequestMarshaller;
@@ -139,7 +139,7 @@ public final class DefaultS3Presigner extends DefaultSdkPresigner implements S3P
 
         this.serviceConfiguration = serviceConfigBuilder.build();
 
-        this.clientInterceptors = initializeInterceptors();
+        this.clientInterceptorChain = new ExecutionInterceptorChain(initializeInterceptors());
 
         this.clientConfiguration = createClientConfiguration();
 
@@ -321,14 +321,12 @@ public final class DefaultS3Presigner extends DefaultSdkPresigner implements S3P
             .putAttribute(SdkExecutionAttribute.ENDPOINT_OVERRIDDEN,
                           clientConfiguration.option(SdkClientOption.ENDPOINT_OVERRIDDEN));
 
-        ExecutionInterceptorChain executionInterceptorChain = new ExecutionInterceptorChain(clientInterceptors);
-
         InterceptorContext interceptorContext = InterceptorContext.builder()
                                                                   .request(sdkRequest)
                                                                   .build();
         interceptorContext = AwsExecutionContextBuilder.runInitialInterceptors(interceptorContext,
                                                                                executionAttributes,
-                                                                               executionInterceptorChain);
+                                                                               clientInterceptorChain);
 
         AwsCredentialsProvider credentialsProvider =
             AwsExecutionContextBuilder.resolveCredentialsProvider(sdkRequest, credentialsProvider());
@@ -337,7 +335,7 @@ public final class DefaultS3Presigner extends DefaultSdkPresigner implements S3P
         executionAttributes.putAttribute(AwsSignerExecutionAttribute.AWS_CREDENTIALS, credentials);
 
         return ExecutionContext.builder()
-                               .interceptorChain(executionInterceptorChain)
+                               .interceptorChain(clientInterceptorChain)
                                .interceptorContext(interceptorContext)
                                .executionAttributes(executionAttributes)
                                .signer(AwsExecutionContextBuilder.resolveSigner(interceptorContext.request(), DEFAULT_SIGNER))
@@ -0,0 +1,129 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.services.directec2marshallers;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.lang.reflect.Field;
+import java.net.URI;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import org.junit.Test;
+import software.amazon.awssdk.core.SdkBytes;
+import software.amazon.awssdk.core.SdkPojo;
+import software.amazon.awssdk.core.client.config.SdkClientConfiguration;
+import software.amazon.awssdk.core.client.config.SdkClientOption;
+import software.amazon.awssdk.core.runtime.transform.Marshaller;
+import software.amazon.awssdk.http.SdkHttpFullRequest;
+import software.amazon.awssdk.protocols.core.OperationInfo;
+import software.amazon.awssdk.protocols.query.AwsEc2ProtocolFactory;
+import software.amazon.awssdk.services.directec2marshallers.model.AllTypesRequest;
+import software.amazon.awssdk.services.directec2marshallers.model.ContainersRequest;
+import software.amazon.awssdk.services.directec2marshallers.model.NestedStructure;
+import software.amazon.awssdk.services.directec2marshallers.transform.AllTypesRequestMarshaller;
+import software.amazon.awssdk.services.directec2marshallers.transform.ContainersRequestMarshaller;
+
+/**
+ * Verifies that the request marshallers generated with {@code generateDirectQueryMarshallers} for an EC2 service produce
+ * exactly the same HTTP request as the protocol marshaller. EC2 capitalizes the parameter names and always flattens lists.
+ */
+public class DirectEc2MarshallerEquivalenceTest {
+
+    private static final Instant TIMESTAMP = Instant.parse("2021-01-02T03:04:05.678Z");
+
+    private static final AwsEc2ProtocolFactory PROTOCOL_FACTORY =
+        AwsEc2ProtocolFactory.builder()
+                             .clientConfiguration(SdkClientConfiguration.builder()
+                                                                        .option(SdkClientOption.ENDPOINT,
+                                                                                URI.create("http://localhost"))
+                                                                        .build())
+                             .build();
+
+    @Test
+    public void allTypes_allMembersSet_matchesRegistryMarshalling() {
+        AllTypesRequest request =
+            AllTypesRequest.builder()
+                           .stringMember("string")
+                           .integerMember(42)
+                           .booleanMember(true)
+                           .renamedMember("renamed")
+                           .timestampMember(TIMESTAMP)
+                           .blobMember(SdkBytes.fromUtf8String("blob"))
+                           .idempotencyToken("token")
+                           .nestedStructure(nestedStructure("nested"))
+                           .build();
+
+        assertMatchesRegistryMarshalling(new AllTypesRequestMarshaller(PROTOCOL_FACTORY), request);
+    }
+
+    @Test
+    public void containers_lists_matchesRegistryMarshalling() {
+        ContainersRequest request =
+            ContainersRequest.builder()
+                             .listOfStrings("one", null, "two")
+                             .flattenedListOfStrings("one", "two")
+                             .listOfRenamedStrings("one", "two")
+                             .listOfTimestamps(TIMESTAMP, null)
+                             .listOfStructures(nestedStructure("first"), NestedStructure.builder().build())
+                             .listOfListOfStrings(Arrays.asList("a", "b"), Collections.emptyList())
+                             .build();
+
+        assertMatchesRegistryMarshalling(new ContainersRequestMarshaller(PROTOCOL_FACTORY), request);
+    }
+
+    @Test
+    public void containers_emptyContainers_matchesRegistryMarshalling() {
+        ContainersRequest request =
+            ContainersRequest.builder()
+                             .listOfStrings(Collections.emptyList())
+                             .listOfStructures(Collections.emptyList())
+                             .build();
+
+        assertMatchesRegistryMarshalling(new ContainersRequestMarshaller(PROTOCOL_FACTORY), request);
+    }
+
+    private static <T extends SdkPojo> void assertMatchesRegistryMarshalling(Marshaller<T> marshaller, T request) {
+        SdkHttpFullRequest expected = PROTOCOL_FACTORY.createProtocolMarshaller(operationBinding(marshaller))
+                                                      .marshall(request);
+        SdkHttpFullRequest actual = marshaller.marshall(request);
+
+        assertThat(actual.method()).isEqualTo(expected.method());
+        assertThat(actual.getUri()).isEqualTo(expected.getUri());
+        assertThat(actual.headers()).isEqualTo(expected.headers());
+        assertThat(new ArrayList<>(actual.rawQueryParameters().entrySet()))
+            .containsExactlyElementsOf(expected.rawQueryParameters().entrySet());
+    }
+
+    private static OperationInfo operationBinding(Marshaller<?> marshaller) {
+        try {
+            Field binding = marshaller.getClass().getDeclaredField("SDK_OPERATION_BINDING");
+            binding.setAccessible(true);
+            return (OperationInfo) binding.get(null);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static NestedStructure nestedStructure(String value) {
+        return NestedStructure.builder()
+                              .stringMember(value)
+                              .timestampMember(TIMESTAMP)
+                              .listOfStrings(value, null)
+                              .build();
+    }
+}
@@ -0,0 +1,249 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.services.directquerymarshallers;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.lang.reflect.Field;
+import java.net.URI;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import software.amazon.awssdk.core.SdkBytes;
+import software.amazon.awssdk.core.SdkPojo;
+import software.amazon.awssdk.core.client.config.SdkClientConfiguration;
+import software.amazon.awssdk.core.client.config.SdkClientOption;
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.core.runtime.transform.Marshaller;
+import software.amazon.awssdk.core.util.IdempotentUtils;
+import software.amazon.awssdk.http.SdkHttpFullRequest;
+import software.amazon.awssdk.protocols.core.OperationInfo;
+import software.amazon.awssdk.protocols.query.AwsQueryProtocolFactory;
+import software.amazon.awssdk.services.directquerymarshallers.model.AllTypesRequest;
+import software.amazon.awssdk.services.directquerymarshallers.model.ContainersRequest;
+import software.amazon.awssdk.services.directquerymarshallers.model.EnumType;
+import software.amazon.awssdk.services.directquerymarshallers.model.NestedStructure;
+import software.amazon.awssdk.services.directquerymarshallers.model.RecursiveStructure;
+import software.amazon.awssdk.services.directquerymarshallers.transform.AllTypesRequestMarshaller;
+import software.amazon.awssdk.services.directquerymarshallers.transform.ContainersRequestMarshaller;
+
+/**
+ * Verifies that the request marshallers generated with {@code generateDirectQueryMarshallers} produce exactly the same
+ * HTTP request, including the order of the query parameters, as the protocol marshaller does when it marshalls every member
+ * through the marshaller registry.
+ */
+public class DirectQueryMarshallerEquivalenceTest {
+
+    private static final Instant TIMESTAMP = Instant.parse("2021-01-02T03:04:05.678Z");
+
+    private static final AwsQueryProtocolFactory PROTOCOL_FACTORY =
+        AwsQueryProtocolFactory.builder()
+                               .clientConfiguration(SdkClientConfiguration.builder()
+                                                                          .option(SdkClientOption.ENDPOINT,
+                                                                                  URI.create("http://localhost"))
+                                                                          .build())
+                               .build();
+
+    private static Supplier<String> idempotencyTokenGenerator;
+
+    @BeforeClass
+    public static void setUp() {
+        idempotencyTokenGenerator = IdempotentUtils.getGenerator();
+        IdempotentUtils.setGenerator(() -> "generated-token");
+    }
+
+    @AfterClass
+    public static void tearDown() {
+        IdempotentUtils.setGenerator(idempotencyTokenGenerator);
+    }
+
+    @Test
+    public void allTypes_allMembersSet_matchesRegistryMarshalling() {
+        AllTypesRequest request =
+            AllTypesRequest.builder()
+                           .stringMember("string & more")
+                           .integerMember(42)
+                           .longMember(Long.MAX_VALUE)
+                           .shortMember((short) 7)
+                           .floatMember(1.5f)
+                           .doubleMember(-2.25)
+                           .booleanMember(false)
+                           .enumMember(EnumType.ENUM_VALUE2)
+                           .renamedMember("renamed")
+                           .timestampMember(TIMESTAMP)
+                           .unixTimestampMember(TIMESTAMP)
+                           .rfc822TimestampMember(TIMESTAMP)
+                           .blobMember(SdkBytes.fromUtf8String("blob"))
+                           .idempotencyToken("token")
+                           .nestedStructure(nestedStructure("nested"))
+                           .recursiveStructure(recursiveStructure(2))
+                           .build();
+
+        assertMatchesRegistryMarshalling(new AllTypesRequestMarshaller(PROTOCOL_FACTORY), request);
+    }
+
+    @Test
+    public void allTypes_noMembersSet_matchesRegistryMarshalling() {
+        assertMatchesRegistryMarshalling(new AllTypesRequestMarshaller(PROTOCOL_FACTORY), AllTypesRequest.builder().build());
+    }
+
+    @Test
+    public void allTypes_emptyValues_matchesRegistryMarshalling() {
+        AllTypesRequest request =
+            AllTypesRequest.builder()
+                           .stringMember("")
+                           .blobMember(SdkBytes.fromByteArray(new byte[0]))
+                           .idempotencyToken("")
+                           .nestedStructure(NestedStructure.builder().listOfStrings(Collections.emptyList()).build())
+                           .recursiveStructure(RecursiveStructure.builder().build())
+                           .build();
+
+        assertMatchesRegistryMarshalling(new AllTypesRequestMarshaller(PROTOCOL_FACTORY), request);
+    }
+
+    @Test
+    public void containers_allMembersSet_matchesRegistryMarshalling() {
+        Map<String, String> stringMap = new LinkedHashMap<>();
+        stringMap.put("a", "1");
+        stringMap.put("null", null);
+        stringMap.put("b", "2");
+
+        Map<String, Instant> timestampMap = new LinkedHashMap<>();
+        timestampMap.put("timestamp", TIMESTAMP);
+        timestampMap.put("null", null);
+
+        Map<String, NestedStructure> structureMap = new LinkedHashMap<>();
+        structureMap.put("nested", nestedStructure("value"));
+        structureMap.put("empty", NestedStructure.builder().build());
+
+        Map<String, List<String>> listMap = new LinkedHashMap<>();
+        listMap.put("list", Arrays.asList("x", null, "y"));
+        listMap.put("empty", Collections.emptyList());
+
+        ContainersRequest request =
+            ContainersRequest.builder()
+                             .listOfStrings("one", null, "", "two")
+                             .flattenedListOfStrings("one", "two")
+                             .listOfRenamedStrings("one", "two")
+                             .listOfIntegers(1, 2, 3)
+                             .listOfEnums(EnumType.ENUM_VALUE1, EnumType.ENUM_VALUE2)
+                             .listOfBlobs(SdkBytes.fromUtf8String("blob"))
+                             .listOfTimestamps(TIMESTAMP, null)
+                             .listOfUnixTimestamps(TIMESTAMP)
+                             .listOfStructures(nestedStructure("first"), NestedStructure.builder().build())
+                             .listOfListOfStrings(Arrays.asList("a", "b"), Collections.emptyList(), null)
+                             .listOfMapOfStringToString(stringMap, Collections.emptyMap())
+                             .mapOfStringToString(stringMap)
+                             .flattenedMapOfStringToString(stringMap)
+                             .mapOfRenamedStringToString(stringMap)
+                             .mapOfStringToRfc822Timestamp(timestampMap)
+                             .mapOfStringToStructure(structureMap)
+                             .mapOfStringToListOfStrings(listMap)
+                             .mapOfEnumToEnum(Collections.singletonMap(EnumType.ENUM_VALUE1, EnumType.ENUM_VALUE2))
+                             .build();
+
+        assertMatchesRegistryMarshalling(new ContainersRequestMarshaller(PROTOCOL_FACTORY), request);
+    }
+
+    @Test
+    public void containers_autoConstructedContainers_matchesRegistryMarshalling() {
+        assertMatchesRegistryMarshalling(new ContainersRequestMarshaller(PROTOCOL_FACTORY), ContainersRequest.builder().build());
+    }
+
+    @Test
+    public void containers_emptyContainers_matchesRegistryMarshalling() {
+        ContainersRequest request =
+            ContainersRequest.builder()
+                             .listOfStrings(Collections.emptyList())
+                             .flattenedListOfStrings(Collections.emptyList())
+                             .listOfStructures(Collections.emptyList())
+                             .listOfListOfStrings(Collections.emptyList())
+                             .mapOfStringToString(new HashMap<>())
+                             .mapOfStringToStructure(new HashMap<>())
+                             .mapOfStringToListOfStrings(new HashMap<>())
+                             .build();
+
+        assertMatchesRegistryMarshalling(new ContainersRequestMarshaller(PROTOCOL_FACTORY), request);
+    }
+
+    @Test
+    public void containers_nullIntegerElement_failsLikeRegistryMarshalling() {
+        ContainersRequestMarshaller marshaller = new ContainersRequestMarshaller(PROTOCOL_FACTORY);
+        ContainersRequest request = ContainersRequest.builder().listOfIntegers(1, null).build();
+
+        assertThatThrownBy(() -> PROTOCOL_FACTORY.createProtocolMarshaller(operationBinding(marshaller)).marshall(request))
+            .isInstanceOf(NullPointerException.class);
+        assertThatThrownBy(() -> marshaller.marshall(request)).isInstanceOf(SdkClientException.class)
+                                                              .hasCauseInstanceOf(NullPointerException.class);
+    }
+
+    private static <T extends SdkPojo> void assertMatchesRegistryMarshalling(Marshaller<T> marshaller, T request) {
+        SdkHttpFullRequest expected = PROTOCOL_FACTORY.createProtocolMarshaller(operationBinding(marshaller))
+                                                      .marshall(request);
+        SdkHttpFullRequest actual = marshaller.marshall(request);
+
+        assertThat(actual.method()).isEqualTo(expected.method());
+        assertThat(actual.getUri()).isEqualTo(expected.getUri());
+        assertThat(actual.headers()).isEqualTo(expected.headers());
+        // The parameters are moved to the body in iteration order, so the order has to match as well
+        assertThat(new ArrayList<>(actual.rawQueryParameters().entrySet()))
+            .containsExactlyElementsOf(expected.rawQueryParameters().entrySet());
+    }
+
+    /**
+     * Reads the operation binding of the generated marshaller, so that the registry based marshaller is created with
+     * exactly the same operation info as the generated one.
+     */
+    private static OperationInfo operationBinding(Marshaller<?> marshaller) {
+        try {
+            Field binding = marshaller.getClass().getDeclaredField("SDK_OPERATION_BINDING");
+            binding.setAccessible(true);
+            return (OperationInfo) binding.get(null);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static NestedStructure nestedStructure(String value) {
+        return NestedStructure.builder()
+                              .stringMember(value)
+                              .timestampMember(TIMESTAMP)
+                              .blobMember(SdkBytes.fromUtf8String(value))
+                              .listOfStrings(value, null)
+                              .build();
+    }
+
+    private static RecursiveStructure recursiveStructure(int depth) {
+        RecursiveStructure.Builder builder = RecursiveStructure.builder().noRecurse("depth-" + depth);
+        if (depth > 0) {
+            RecursiveStructure child = recursiveStructure(depth - 1);
+            builder.recursiveStructure(child)
+                   .recursiveList(child, child)
+                   .recursiveMap(Collections.singletonMap("child", child));
+        }
+        return builder.build();
+    }
+}
@@ -0,0 +1,152 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.s3benchmarks;
+
+import static software.amazon.awssdk.utils.FunctionalUtils.invokeSafely;
+
+import com.sun.management.ThreadMXBean;
+import com.sun.net.httpserver.HttpServer;
+import java.io.OutputStream;
+import java.lang.management.ManagementFactory;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.core.async.AsyncResponseTransformer;
+import software.amazon.awssdk.http.nio.netty.NettyNioAsyncHttpClient;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
+import software.amazon.awssdk.services.s3.S3Configuration;
+import software.amazon.awssdk.utils.Logger;
+
+/**
+ * Measures the throughput and the allocation of {@code GetObject} downloads with the Netty client, with and without
+ * {@link NettyNioAsyncHttpClient.Builder#zeroCopyResponseContent(Boolean)}, against a local HTTP server that returns the same
+ * object for every request. The server runs in the same JVM, so the allocation it causes is included in both results.
+ * <p>
+ * Usage: {@code NettyZeroCopyDownloadBenchmark [objectSizeInMB]}
+ */
+public final class NettyZeroCopyDownloadBenchmark {
+    private static final Logger logger = Logger.loggerFor("NettyZeroCopyDownloadBenchmark");
+
+    private static final int WARMUP_ITERATIONS = 5;
+    private static final int BENCHMARK_ITERATIONS = 10;
+    private static final int DEFAULT_OBJECT_SIZE_IN_MB = 256;
+    private static final int WRITE_CHUNK_SIZE = 64 * 1024;
+
+    private final byte[] object;
+    private final Path downloadDirectory;
+
+    private NettyZeroCopyDownloadBenchmark(int objectSizeInMb) throws Exception {
+        this.object = new byte[objectSizeInMb * 1024 * 1024];
+        new Random(0).nextBytes(object);
+        this.downloadDirectory = Files.createTempDirectory("netty-zero-copy-benchmark");
+    }
+
+    public static void main(String... args) throws Exception {
+        int objectSizeInMb = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_OBJECT_SIZE_IN_MB;
+        new NettyZeroCopyDownloadBenchmark(objectSizeInMb).run();
+    }
+
+    private void run() throws Exception {
+        ExecutorService serverExecutor = Executors.newFixedThreadPool(4);
+        HttpServer server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/", exchange -> {
+            exchange.sendResponseHeaders(200, object.length);
+            try (OutputStream body = exchange.getResponseBody()) {
+                for (int offset = 0; offset < object.length; offset += WRITE_CHUNK_SIZE) {
+                    body.write(object, offset, Math.min(WRITE_CHUNK_SIZE, object.length - offset));
+                }
+            }
+        });
+        server.setExecutor(serverExecutor);
+        server.start();
+
+        try {
+            URI endpoint = URI.create("http://localhost:" + server.getAddress().getPort());
+            for (boolean zeroCopy : new boolean[] {false, true}) {
+                try (S3AsyncClient s3 = s3Client(endpoint, zeroCopy)) {
+                    benchmark(s3, zeroCopy, false);
+                    benchmark(s3, zeroCopy, true);
+                }
+            }
+        } finally {
+            server.stop(0);
+            serverExecutor.shutdown();
+            invokeSafely(() -> Files.deleteIfExists(downloadDirectory));
+        }
+    }
+
+    private static S3AsyncClient s3Client(URI endpoint, boolean zeroCopy) {
+        return S3AsyncClient.builder()
+                            .endpointOverride(endpoint)
+                            .region(Region.US_EAST_1)
+                            .credentialsProvider(StaticCredentialsProvider.create(AwsBasicCredentials.create("akid", "skid")))
+                            .serviceConfiguration(S3Configuration.builder()
+                                                                 .pathStyleAccessEnabled(true)
+                                                                 .checksumValidationEnabled(false)
+                                                                 .build())
+                            .httpClientBuilder(NettyNioAsyncHttpClient.builder().zeroCopyResponseContent(zeroCopy))
+                            .build();
+    }
+
+    private void benchmark(S3AsyncClient s3, boolean zeroCopy, boolean toFile) {
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            download(s3, toFile);
+        }
+
+        long allocatedBefore = allocatedBytes();
+        long start = System.nanoTime();
+        for (int i = 0; i < BENCHMARK_ITERATIONS; i++) {
+            download(s3, toFile);
+        }
+        long elapsedNanos = System.nanoTime() - start;
+        long allocated = allocatedBytes() - allocatedBefore;
+
+        double megabytes = (double) object.length * BENCHMARK_ITERATIONS / (1024 * 1024);
+        logger.info(() -> String.format("zeroCopy=%s, destination=%s: %.1f MB/s, %.1f MB allocated per MB downloaded",
+                                        zeroCopy,
+                                        toFile ? "file" : "memory",
+                                        megabytes / (elapsedNanos / 1_000_000_000.0),
+                                        allocated / (1024.0 * 1024) / megabytes));
+    }
+
+    private void download(S3AsyncClient s3, boolean toFile) {
+        if (toFile) {
+            Path destination = downloadDirectory.resolve("object");
+            s3.getObject(r -> r.bucket("bucket").key("key"), AsyncResponseTransformer.toFile(destination)).join();
+            invokeSafely(() -> Files.delete(destination));
+        } else {
+            s3.getObject(r -> r.bucket("bucket").key("key"), AsyncResponseTransformer.toBytes()).join();
+        }
+    }
+
+    /**
+     * The bytes allocated so far by the live threads, which include the event loop threads of the client.
+     */
+    private static long allocatedBytes() {
+        ThreadMXBean threads = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+        return Arrays.stream(threads.getThreadAllocatedBytes(threads.getAllThreadIds()))
+                     .filter(bytes -> bytes > 0)
+                     .sum();
+    }
+}
@@ -32,6 +32,7 @@ import software.amazon.awssdk.core.async.AsyncResponseTransformer;
 import software.amazon.awssdk.core.client.builder.SdkClientBuilder;
 import software.amazon.awssdk.core.sync.RequestBody;
 import software.amazon.awssdk.http.apache.ApacheHttpClient;
+import software.amazon.awssdk.http.crt.AwsCrtAsyncHttpClient;
 import software.amazon.awssdk.http.nio.netty.NettyNioAsyncHttpClient;
 import software.amazon.awssdk.metrics.MetricCollection;
 import software.amazon.awssdk.metrics.MetricPublisher;
@@ -51,6 +52,8 @@ public class MetricsEnabledBenchmark {
     private MockServer mockServer;
     private ProtocolRestJsonClient enabledMetricsSyncClient;
     private ProtocolRestJsonAsyncClient enabledMetricsAsyncClient;
+    private ProtocolRestJsonAsyncClient enabledMetricsCrtAsyncClient;
+    private ProtocolRestJsonAsyncClient disabledMetricsCrtAsyncClient;
 
     @Setup(Level.Trial)
     public void setup() throws Exception {
@@ -58,6 +61,8 @@ public class MetricsEnabledBenchmark {
         mockServer.start();
         enabledMetricsSyncClient = enableMetrics(syncClientBuilder()).build();
         enabledMetricsAsyncClient = enableMetrics(asyncClientBuilder()).build();
+        enabledMetricsCrtAsyncClient = enableMetrics(crtAsyncClientBuilder()).build();
+        disabledMetricsCrtAsyncClient = crtAsyncClientBuilder().build();
     }
 
     private <T extends SdkClientBuilder<T, ?>> T enableMetrics(T syncClientBuilder) {
@@ -76,11 +81,19 @@ public class MetricsEnabledBenchmark {
                                           .httpClientBuilder(NettyNioAsyncHttpClient.builder());
     }
 
+    private ProtocolRestJsonAsyncClientBuilder crtAsyncClientBuilder() {
+        return ProtocolRestJsonAsyncClient.builder()
+                                          .endpointOverride(mockServer.getHttpUri())
+                                          .httpClientBuilder(AwsCrtAsyncHttpClient.builder());
+    }
+
     @TearDown(Level.Trial)
     public void tearDown() throws Exception {
         mockServer.stop();
         enabledMetricsSyncClient.close();
         enabledMetricsAsyncClient.close();
+        enabledMetricsCrtAsyncClient.close();
+        disabledMetricsCrtAsyncClient.close();
     }
 
     @Benchmark
@@ -93,6 +106,19 @@ public class MetricsEnabledBenchmark {
         enabledMetricsAsyncClient.allTypes().join();
     }
 
+    /**
+     * Compare with {@link #metricsDisabledCrtAsync()} for the cost of tracking and reporting the CRT connection pool metrics.
+     */
+    @Benchmark
+    public void metricsEnabledCrtAsync() {
+        enabledMetricsCrtAsyncClient.allTypes().join();
+    }
+
+    @Benchmark
+    public void metricsDisabledCrtAsync() {
+        disabledMetricsCrtAsyncClient.allTypes().join();
+    }
+
     @Benchmark
     public void metricsEnabledSyncStreamingInput() {
         enabledMetricsSyncClient.streamingInputOperation(streamingInputRequest(), RequestBody.fromString(""));
@@ -0,0 +1,165 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.benchmark.apicall;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import software.amazon.awssdk.benchmark.utils.MockServer;
+import software.amazon.awssdk.http.apache.ApacheHttpClient;
+import software.amazon.awssdk.http.nio.netty.NettyNioAsyncHttpClient;
+import software.amazon.awssdk.services.protocolrestjson.ProtocolRestJsonAsyncClient;
+import software.amazon.awssdk.services.protocolrestjson.ProtocolRestJsonClient;
+import software.amazon.awssdk.services.protocolrestjson.model.AllTypesRequest;
+import software.amazon.awssdk.utils.Logger;
+
+/**
+ * Benchmarking the end-to-end latency of requests with and without gzip compression of the request payload, and the CPU cost
+ * of compressing the payload on its own. The payload mimics a batch of metric data, and the compressed and uncompressed
+ * payload sizes are printed when the trial starts.
+ */
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 10, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 10, timeUnit = TimeUnit.SECONDS)
+@Fork(2)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class RequestCompressionBenchmark {
+    private static final Logger log = Logger.loggerFor(RequestCompressionBenchmark.class);
+
+    @Param({"4096", "65536", "524288"})
+    private int payloadSize;
+
+    private MockServer mockServer;
+    private ProtocolRestJsonClient syncClient;
+    private ProtocolRestJsonAsyncClient asyncClient;
+    private String payload;
+    private AllTypesRequest compressedRequest;
+    private AllTypesRequest uncompressedRequest;
+
+    @Setup(Level.Trial)
+    public void setup() throws Exception {
+        mockServer = new MockServer();
+        mockServer.start();
+        syncClient = ProtocolRestJsonClient.builder()
+                                           .endpointOverride(mockServer.getHttpUri())
+                                           .httpClientBuilder(ApacheHttpClient.builder())
+                                           .build();
+        asyncClient = ProtocolRestJsonAsyncClient.builder()
+                                                 .endpointOverride(mockServer.getHttpUri())
+                                                 .httpClientBuilder(NettyNioAsyncHttpClient.builder())
+                                                 .build();
+
+        payload = metricDataPayload(payloadSize);
+        compressedRequest = AllTypesRequest.builder()
+                                           .stringMember(payload)
+                                           .overrideConfiguration(o -> o.compressionConfiguration(
+                                               c -> c.requestCompressionEnabled(true).minimumCompressionThresholdInBytes(0)))
+                                           .build();
+        uncompressedRequest = AllTypesRequest.builder()
+                                             .stringMember(payload)
+                                             .build();
+
+        int uncompressedSize = payload.getBytes(StandardCharsets.UTF_8).length;
+        int compressedSize = gzip(payload).length;
+        log.info(() -> String.format("Payload size: %d bytes uncompressed, %d bytes compressed",
+                                     uncompressedSize, compressedSize));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws Exception {
+        mockServer.stop();
+        syncClient.close();
+        asyncClient.close();
+    }
+
+    @Benchmark
+    public void compressedSync(Blackhole blackhole) {
+        blackhole.consume(syncClient.allTypes(compressedRequest));
+    }
+
+    @Benchmark
+    public void uncompressedSync(Blackhole blackhole) {
+        blackhole.consume(syncClient.allTypes(uncompressedRequest));
+    }
+
+    @Benchmark
+    public void compressedAsync(Blackhole blackhole) {
+        blackhole.consume(asyncClient.allTypes(compressedRequest).join());
+    }
+
+    @Benchmark
+    public void uncompressedAsync(Blackhole blackhole) {
+        blackhole.consume(asyncClient.allTypes(uncompressedRequest).join());
+    }
+
+    /**
+     * The CPU cost of compressing the payload, without any of the request overhead.
+     */
+    @Benchmark
+    public void gzipPayload(Blackhole blackhole) throws IOException {
+        blackhole.consume(gzip(payload));
+    }
+
+    private static byte[] gzip(String payload) throws IOException {
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(compressed)) {
+            gzip.write(payload.getBytes(StandardCharsets.UTF_8));
+        }
+        return compressed.toByteArray();
+    }
+
+    private static String metricDataPayload(int size) {
+        Random random = new Random(size);
+        StringBuilder payload = new StringBuilder(size + 128);
+        for (int i = 0; payload.length() < size; i++) {
+            payload.append("MetricData.member.").append(i).append(".MetricName=RequestLatency&")
+                   .append("MetricData.member.").append(i).append(".Dimensions.member.1.Name=Operation&")
+                   .append("MetricData.member.").append(i).append(".Dimensions.member.1.Value=Operation")
+                   .append(random.nextInt(20)).append('&')
+                   .append("MetricData.member.").append(i).append(".Value=").append(random.nextDouble() * 1000).append('&');
+        }
+        payload.setLength(size);
+        return payload.toString();
+    }
+
+    public static void main(String... args) throws Exception {
+        Options opt = new OptionsBuilder()
+            .include(RequestCompressionBenchmark.class.getSimpleName())
+            .build();
+        new Runner(opt).run();
+    }
+}
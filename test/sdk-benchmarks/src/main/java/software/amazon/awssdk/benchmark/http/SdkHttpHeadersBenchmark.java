@@ -0,0 +1,89 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.benchmark.http;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import software.amazon.awssdk.http.SdkHttpFullRequest;
+import software.amazon.awssdk.http.SdkHttpMethod;
+
+/**
+ * Measures the header handling of a single API call: the request is marshalled, then modified by an interceptor, by
+ * {@code MergeCustomHeadersStage} and by the signer, each of which reads some headers and round-trips the request through its
+ * builder.
+ * <p>
+ * Run with {@link #main(String...)} to include the allocation rate per operation, reported by the GC profiler.
+ */
+@State(Scope.Benchmark)
+@Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Fork(2)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SdkHttpHeadersBenchmark {
+
+    @Benchmark
+    public Object sdkHttpFullRequest() {
+        SdkHttpFullRequest request = SdkHttpFullRequest.builder()
+                                                       .protocol("https")
+                                                       .host("dynamodb.us-west-2.amazonaws.com")
+                                                       .method(SdkHttpMethod.POST)
+                                                       .putHeader("Content-Type", "application/x-amz-json-1.0")
+                                                       .putHeader("X-Amz-Target", "DynamoDB_20120810.GetItem")
+                                                       .putHeader("Content-Length", "128")
+                                                       .build();
+
+        // Interceptor
+        request = request.toBuilder()
+                         .putHeader("User-Agent", "aws-sdk-java/2.x Linux/5.10 OpenJDK_64-Bit_Server_VM/17")
+                         .build();
+
+        // MergeCustomHeadersStage
+        request = request.toBuilder()
+                         .putHeader("amz-sdk-invocation-id", "6b5c3e8e-1f6a-4b8e-9c3e-0f2d5e6a7b8c")
+                         .putHeader("amz-sdk-request", "attempt=1; max=3")
+                         .build();
+
+        // Signer
+        request.firstMatchingHeader("Content-Length");
+        request.firstMatchingHeader("X-Amz-Content-Sha256");
+        return request.toBuilder()
+                      .putHeader("Host", "dynamodb.us-west-2.amazonaws.com")
+                      .putHeader("X-Amz-Date", "20230830T123600Z")
+                      .putHeader("Authorization", "AWS4-HMAC-SHA256 Credential=AKIDEXAMPLE/20230830/us-west-2/dynamodb")
+                      .build();
+    }
+
+    public static void main(String... args) throws Exception {
+        Options opt = new OptionsBuilder()
+            .include(SdkHttpHeadersBenchmark.class.getSimpleName())
+            .addProfiler(GCProfiler.class)
+            .build();
+        new Runner(opt).run();
+    }
+}
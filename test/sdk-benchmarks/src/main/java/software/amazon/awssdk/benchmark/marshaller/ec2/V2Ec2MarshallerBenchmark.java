@@ -15,18 +15,27 @@
 
 package software.amazon.awssdk.benchmark.marshaller.ec2;
 
+import static software.amazon.awssdk.core.client.config.SdkClientOption.ENDPOINT;
+
+import java.net.URI;
 import org.openjdk.jmh.annotations.Benchmark;
 import org.openjdk.jmh.annotations.Param;
 import org.openjdk.jmh.annotations.Scope;
 import org.openjdk.jmh.annotations.Setup;
 import org.openjdk.jmh.annotations.State;
+import software.amazon.awssdk.core.client.config.SdkClientConfiguration;
 import software.amazon.awssdk.protocols.query.AwsEc2ProtocolFactory;
 import software.amazon.awssdk.services.ec2.model.RunInstancesRequest;
 import software.amazon.awssdk.services.ec2.transform.RunInstancesRequestMarshaller;
 
 public class V2Ec2MarshallerBenchmark {
 
-    private static final AwsEc2ProtocolFactory PROTOCOL_FACTORY = AwsEc2ProtocolFactory.builder().build();
+    private static final AwsEc2ProtocolFactory PROTOCOL_FACTORY = AwsEc2ProtocolFactory
+        .builder()
+        .clientConfiguration(SdkClientConfiguration.builder()
+                                                   .option(ENDPOINT, URI.create("https://ec2.amazonaws.com"))
+                                                   .build())
+        .build();
 
     private static final RunInstancesRequestMarshaller RUN_INSTANCES_REQUEST_MARSHALLER
         = new RunInstancesRequestMarshaller(PROTOCOL_FACTORY);
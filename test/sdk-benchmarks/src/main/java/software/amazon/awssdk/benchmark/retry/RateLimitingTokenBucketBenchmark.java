@@ -0,0 +1,90 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.benchmark.retry;
+
+import java.util.OptionalDouble;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import software.amazon.awssdk.core.internal.retry.RateLimitingTokenBucket;
+
+/**
+ * Measures the overhead the adaptive retry mode token bucket adds to each request attempt when many threads share one
+ * client: capacity is acquired before the attempt and the sending rate is updated with its response.
+ * <p>
+ * With {@code enabled=false} no throttling error has been seen yet, which is the common case. With {@code enabled=true} the
+ * bucket was enabled by a throttling error and every attempt also refills and takes capacity. Wait times are returned
+ * without sleeping, so only the bookkeeping is measured.
+ * <p>
+ * Run with {@link #main(String...)} to include the allocation rate per operation, reported by the GC profiler.
+ */
+@State(Scope.Benchmark)
+@Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Fork(2)
+@Threads(16)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class RateLimitingTokenBucketBenchmark {
+
+    @Param({"false", "true"})
+    private boolean enabled;
+
+    private RateLimitingTokenBucket tokenBucket;
+
+    @Setup(Level.Iteration)
+    public void setup() {
+        tokenBucket = new RateLimitingTokenBucket();
+        if (enabled) {
+            tokenBucket.updateClientSendingRate(true);
+        }
+    }
+
+    @Benchmark
+    public OptionalDouble attempt() {
+        OptionalDouble waitTime = tokenBucket.acquireNonBlocking(1.0, false);
+        tokenBucket.updateClientSendingRate(false);
+        return waitTime;
+    }
+
+    @Benchmark
+    public OptionalDouble acquire() {
+        return tokenBucket.acquireNonBlocking(1.0, false);
+    }
+
+    public static void main(String... args) throws Exception {
+        Options opt = new OptionsBuilder()
+            .include(RateLimitingTokenBucketBenchmark.class.getSimpleName())
+            .addProfiler(GCProfiler.class)
+            .build();
+        new Runner(opt).run();
+    }
+}
@@ -0,0 +1,105 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.benchmark.signer;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.signer.Aws4Signer;
+import software.amazon.awssdk.auth.signer.params.Aws4SignerParams;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.http.SdkHttpFullRequest;
+import software.amazon.awssdk.http.SdkHttpMethod;
+import software.amazon.awssdk.regions.Region;
+
+/**
+ * Measures signing a typical JSON protocol request with SigV4, from one thread and from several threads sharing the same
+ * signer and credentials, which is where contention on the signing key cache shows up.
+ * <p>
+ * Run with {@link #main(String...)} to include the allocation rate per operation, reported by the GC profiler.
+ */
+@State(Scope.Benchmark)
+@Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Fork(2)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class Aws4SignerBenchmark {
+
+    private static final byte[] BODY = "{\"TableName\":\"table\",\"Key\":{\"id\":{\"S\":\"0123456789\"}}}".getBytes(UTF_8);
+
+    private final Aws4Signer signer = Aws4Signer.create();
+
+    private final Aws4SignerParams signerParams =
+        Aws4SignerParams.builder()
+                        .awsCredentials(AwsBasicCredentials.create("AKIDEXAMPLE", "wJalrXUtnFEMI/K7MDENG+bPxRfiCYEXAMPLEKEY"))
+                        .signingName("dynamodb")
+                        .signingRegion(Region.US_WEST_2)
+                        .signingClockOverride(Clock.fixed(Instant.parse("2023-08-30T12:36:00Z"), ZoneOffset.UTC))
+                        .build();
+
+    private final SdkHttpFullRequest request =
+        SdkHttpFullRequest.builder()
+                          .protocol("https")
+                          .host("dynamodb.us-west-2.amazonaws.com")
+                          .method(SdkHttpMethod.POST)
+                          .encodedPath("/")
+                          .putHeader("Content-Type", "application/x-amz-json-1.0")
+                          .putHeader("X-Amz-Target", "DynamoDB_20120810.GetItem")
+                          .putHeader("Content-Length", String.valueOf(BODY.length))
+                          .putHeader("User-Agent", "aws-sdk-java/2.x Linux/5.10 OpenJDK_64-Bit_Server_VM/17")
+                          .putHeader("amz-sdk-invocation-id", "6b5c3e8e-1f6a-4b8e-9c3e-0f2d5e6a7b8c")
+                          .putHeader("amz-sdk-request", "attempt=1; max=3")
+                          .contentStreamProvider(RequestBody.fromBytes(BODY).contentStreamProvider())
+                          .build();
+
+    @Benchmark
+    public SdkHttpFullRequest sign() {
+        return signer.sign(request, signerParams);
+    }
+
+    @Benchmark
+    @Threads(8)
+    public SdkHttpFullRequest signConcurrently() {
+        return signer.sign(request, signerParams);
+    }
+
+    public static void main(String... args) throws Exception {
+        Options opt = new OptionsBuilder()
+            .include(Aws4SignerBenchmark.class.getSimpleName())
+            .addProfiler(GCProfiler.class)
+            .build();
+        new Runner(opt).run();
+    }
+}
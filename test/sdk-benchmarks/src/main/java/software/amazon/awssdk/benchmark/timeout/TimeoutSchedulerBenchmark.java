@@ -0,0 +1,102 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.benchmark.timeout;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import software.amazon.awssdk.core.internal.http.timers.ExecutorTimeoutScheduler;
+import software.amazon.awssdk.core.internal.http.timers.HashedWheelTimeoutScheduler;
+import software.amazon.awssdk.core.timeout.TimeoutScheduler;
+import software.amazon.awssdk.core.timeout.TimeoutScheduler.ScheduledTimeout;
+import software.amazon.awssdk.utils.ThreadFactoryBuilder;
+
+/**
+ * Measures the cost of scheduling and cancelling the timeout of an API call, the way the timeout tracking stages do for
+ * every call and attempt, with many request threads doing so at once.
+ * <p>
+ * {@code scheduledExecutor} is the scheduler clients used before {@link HashedWheelTimeoutScheduler}: a
+ * {@link java.util.concurrent.ScheduledThreadPoolExecutor} with five threads, whose delay queue is a single locked heap.
+ * <p>
+ * Run with {@link #main(String...)} to include the allocation rate per operation, reported by the GC profiler.
+ */
+@State(Scope.Benchmark)
+@Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Fork(2)
+@Threads(16)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TimeoutSchedulerBenchmark {
+    private static final Runnable TIMEOUT_TASK = () -> { };
+
+    @Param({"hashedWheel", "scheduledExecutor"})
+    private String scheduler;
+
+    private ScheduledExecutorService executor;
+    private TimeoutScheduler timeoutScheduler;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        executor = Executors.newScheduledThreadPool(5, new ThreadFactoryBuilder().threadNamePrefix("sdk-ScheduledExecutor")
+                                                                                .build());
+        if ("hashedWheel".equals(scheduler)) {
+            timeoutScheduler = HashedWheelTimeoutScheduler.shared().dispatchingTo(executor);
+        } else {
+            timeoutScheduler = new ExecutorTimeoutScheduler(executor);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * A call that completes before its timeout: the timeout is scheduled, then cancelled.
+     */
+    @Benchmark
+    public boolean scheduleAndCancel() {
+        ScheduledTimeout timeout = timeoutScheduler.schedule(TIMEOUT_TASK, 30_000, TimeUnit.MILLISECONDS);
+        return timeout.cancel();
+    }
+
+    public static void main(String... args) throws Exception {
+        Options opt = new OptionsBuilder()
+            .include(TimeoutSchedulerBenchmark.class.getSimpleName())
+            .addProfiler(GCProfiler.class)
+            .build();
+        new Runner(opt).run();
+    }
+}
@@ -0,0 +1,89 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.benchmark.unmarshaller;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import software.amazon.awssdk.http.AbortableInputStream;
+import software.amazon.awssdk.http.SdkHttpFullResponse;
+
+/**
+ * Canned responses of a configurable size for the unmarshaller benchmarks. The responses are dominated by a list of
+ * structures, which is the shape of the list and scan style operations where unmarshalling cost matters most.
+ */
+public final class UnmarshallerPayloads {
+
+    private UnmarshallerPayloads() {
+    }
+
+    /**
+     * @return A DynamoDB Query response in JSON whose size is at least the given number of bytes.
+     */
+    public static byte[] dynamoDbQueryResponseJson(int targetSizeInBytes) {
+        StringBuilder items = new StringBuilder();
+        int count = 0;
+        while (items.length() < targetSizeInBytes) {
+            if (count > 0) {
+                items.append(',');
+            }
+            items.append("{\"id\":{\"S\":\"item-").append(count).append("\"},")
+                 .append("\"createdAt\":{\"N\":\"").append(1600000000L + count).append("\"},")
+                 .append("\"enabled\":{\"BOOL\":").append(count % 2 == 0).append("},")
+                 .append("\"tags\":{\"SS\":[\"red\",\"green\",\"blue\"]},")
+                 .append("\"attributes\":{\"M\":{\"owner\":{\"S\":\"owner-").append(count).append("\"},")
+                 .append("\"description\":{\"S\":\"Lorem ipsum dolor sit amet, consectetur adipiscing elit\"}}}}");
+            count++;
+        }
+        String json = "{\"Count\":" + count + ",\"ScannedCount\":" + count + ",\"Items\":[" + items + "]}";
+        return json.getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * @return The members of the {@code AllTypes} output shape of the protocol test models as XML elements, without an
+     * enclosing element. The size of the returned XML is at least the given number of bytes.
+     */
+    public static String allTypesXmlMembers(int targetSizeInBytes) {
+        StringBuilder structs = new StringBuilder();
+        StringBuilder strings = new StringBuilder();
+        int count = 0;
+        while (structs.length() + strings.length() < targetSizeInBytes) {
+            structs.append("<member><StringMember>Lorem ipsum dolor sit amet, item ").append(count)
+                   .append("</StringMember></member>");
+            strings.append("<member>string-").append(count).append("</member>");
+            count++;
+        }
+        return "<stringMember>foo</stringMember>"
+               + "<integerMember>42</integerMember>"
+               + "<booleanMember>true</booleanMember>"
+               + "<doubleMember>123.456</doubleMember>"
+               + "<longMember>1234567890123</longMember>"
+               + "<timestampMember>2020-01-01T00:00:00.000Z</timestampMember>"
+               + "<simpleStructMember><StringMember>bar</StringMember></simpleStructMember>"
+               + "<simpleList>" + strings + "</simpleList>"
+               + "<listOfStructs>" + structs + "</listOfStructs>";
+    }
+
+    /**
+     * @return A new successful response over the given content. Responses can't be reused because their content can only be
+     * read once.
+     */
+    public static SdkHttpFullResponse response(byte[] content) {
+        return SdkHttpFullResponse.builder()
+                                  .statusCode(200)
+                                  .content(AbortableInputStream.create(new ByteArrayInputStream(content)))
+                                  .build();
+    }
+}
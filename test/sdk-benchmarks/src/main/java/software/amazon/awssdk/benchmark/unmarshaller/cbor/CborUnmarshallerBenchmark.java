@@ -0,0 +1,112 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.benchmark.unmarshaller.cbor;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import software.amazon.awssdk.benchmark.unmarshaller.UnmarshallerPayloads;
+import software.amazon.awssdk.core.http.HttpResponseHandler;
+import software.amazon.awssdk.core.interceptor.ExecutionAttributes;
+import software.amazon.awssdk.protocols.cbor.AwsCborProtocolFactory;
+import software.amazon.awssdk.protocols.json.AwsJsonProtocol;
+import software.amazon.awssdk.protocols.json.JsonOperationMetadata;
+import software.amazon.awssdk.services.dynamodb.model.DynamoDbException;
+import software.amazon.awssdk.services.dynamodb.model.QueryResponse;
+import software.amazon.awssdk.thirdparty.jackson.core.JsonFactory;
+import software.amazon.awssdk.thirdparty.jackson.core.JsonGenerator;
+import software.amazon.awssdk.thirdparty.jackson.core.JsonParser;
+import software.amazon.awssdk.thirdparty.jackson.dataformat.cbor.CBORFactory;
+
+/**
+ * Measures unmarshalling a CBOR response in isolation. The response is the DynamoDB Query response used by the JSON
+ * benchmark, re-encoded as CBOR, so the results of the two benchmarks can be compared directly.
+ */
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 10, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 10, timeUnit = TimeUnit.SECONDS)
+@Fork(2)
+@BenchmarkMode(Mode.Throughput)
+public class CborUnmarshallerBenchmark {
+
+    private static final JsonOperationMetadata OPERATION_METADATA = JsonOperationMetadata.builder()
+                                                                                         .isPayloadJson(true)
+                                                                                         .hasStreamingSuccessResponse(false)
+                                                                                         .build();
+
+    @Param({"1024", "1048576", "10485760"})
+    private int responseSizeInBytes;
+
+    @Param({"true", "false"})
+    private boolean fastUnmarshalling;
+
+    private byte[] response;
+
+    private HttpResponseHandler<QueryResponse> responseHandler;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        response = toCbor(UnmarshallerPayloads.dynamoDbQueryResponseJson(responseSizeInBytes));
+        responseHandler = AwsCborProtocolFactory.builder()
+                                                .defaultServiceExceptionSupplier(DynamoDbException::builder)
+                                                .protocol(AwsJsonProtocol.AWS_JSON)
+                                                .protocolVersion("1.1")
+                                                .enableFastUnmarshalling(fastUnmarshalling)
+                                                .build()
+                                                .createResponseHandler(OPERATION_METADATA, QueryResponse::builder);
+    }
+
+    @Benchmark
+    public Object unmarshallQueryResponse() throws Exception {
+        return responseHandler.handle(UnmarshallerPayloads.response(response), new ExecutionAttributes());
+    }
+
+    private static byte[] toCbor(byte[] json) {
+        ByteArrayOutputStream cbor = new ByteArrayOutputStream(json.length);
+        try (JsonParser parser = new JsonFactory().createParser(json);
+             JsonGenerator generator = new CBORFactory().createGenerator(cbor)) {
+            parser.nextToken();
+            generator.copyCurrentStructure(parser);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return cbor.toByteArray();
+    }
+
+    public static void main(String... args) throws Exception {
+        Options opt = new OptionsBuilder()
+            .include(CborUnmarshallerBenchmark.class.getSimpleName())
+            .addProfiler(GCProfiler.class)
+            .build();
+        new Runner(opt).run();
+    }
+}
@@ -0,0 +1,145 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.benchmark.unmarshaller.cbor;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Collection;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import software.amazon.awssdk.benchmark.unmarshaller.UnmarshallerPayloads;
+import software.amazon.awssdk.core.http.HttpResponseHandler;
+import software.amazon.awssdk.core.interceptor.ExecutionAttributes;
+import software.amazon.awssdk.protocols.cbor.AwsCborProtocolFactory;
+import software.amazon.awssdk.protocols.json.AwsJsonProtocol;
+import software.amazon.awssdk.protocols.json.JsonOperationMetadata;
+import software.amazon.awssdk.services.kinesis.model.GetRecordsResponse;
+import software.amazon.awssdk.services.kinesis.model.KinesisException;
+import software.amazon.awssdk.thirdparty.jackson.core.JsonGenerator;
+import software.amazon.awssdk.thirdparty.jackson.dataformat.cbor.CBORFactory;
+import software.amazon.awssdk.utils.Logger;
+
+/**
+ * Measures unmarshalling a Kinesis GetRecords response in CBOR, which is dominated by the binary data of the records. When
+ * run through {@link #main(String...)}, the throughput of each run is also reported in MB of response per second.
+ */
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 10, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 10, timeUnit = TimeUnit.SECONDS)
+@Fork(2)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class KinesisGetRecordsUnmarshallerBenchmark {
+    private static final Logger log = Logger.loggerFor(KinesisGetRecordsUnmarshallerBenchmark.class);
+
+    private static final JsonOperationMetadata OPERATION_METADATA = JsonOperationMetadata.builder()
+                                                                                         .isPayloadJson(true)
+                                                                                         .hasStreamingSuccessResponse(false)
+                                                                                         .build();
+
+    private static final int RECORD_DATA_SIZE_IN_BYTES = 25 * 1024;
+
+    @Param({"1048576", "10485760"})
+    private int responseSizeInBytes;
+
+    @Param({"true", "false"})
+    private boolean fastUnmarshalling;
+
+    private byte[] response;
+
+    private HttpResponseHandler<GetRecordsResponse> responseHandler;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        response = getRecordsResponseCbor(responseSizeInBytes);
+        responseHandler = AwsCborProtocolFactory.builder()
+                                                .defaultServiceExceptionSupplier(KinesisException::builder)
+                                                .protocol(AwsJsonProtocol.AWS_JSON)
+                                                .protocolVersion("1.1")
+                                                .enableFastUnmarshalling(fastUnmarshalling)
+                                                .build()
+                                                .createResponseHandler(OPERATION_METADATA, GetRecordsResponse::builder);
+    }
+
+    @Benchmark
+    public Object unmarshallGetRecordsResponse() throws Exception {
+        return responseHandler.handle(UnmarshallerPayloads.response(response), new ExecutionAttributes());
+    }
+
+    /**
+     * @return A GetRecords response in CBOR whose size is at least the given number of bytes.
+     */
+    private static byte[] getRecordsResponseCbor(int targetSizeInBytes) {
+        byte[] data = new byte[RECORD_DATA_SIZE_IN_BYTES];
+        new Random(0).nextBytes(data);
+
+        ByteArrayOutputStream cbor = new ByteArrayOutputStream(targetSizeInBytes + RECORD_DATA_SIZE_IN_BYTES);
+        try (JsonGenerator generator = new CBORFactory().createGenerator(cbor)) {
+            generator.writeStartObject();
+            generator.writeArrayFieldStart("Records");
+            for (int i = 0; i * RECORD_DATA_SIZE_IN_BYTES < targetSizeInBytes; i++) {
+                generator.writeStartObject();
+                generator.writeStringField("SequenceNumber", String.format("4959033252098727284720%026d", i));
+                generator.writeNumberField("ApproximateArrivalTimestamp", 1600000000000L + i);
+                generator.writeBinaryField("Data", data);
+                generator.writeStringField("PartitionKey", "partition-" + (i % 16));
+                generator.writeEndObject();
+            }
+            generator.writeEndArray();
+            generator.writeStringField("NextShardIterator", "AAAAAAAAAAGNeCMwOAEAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAA");
+            generator.writeNumberField("MillisBehindLatest", 0L);
+            generator.writeEndObject();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return cbor.toByteArray();
+    }
+
+    public static void main(String... args) throws Exception {
+        Options opt = new OptionsBuilder()
+            .include(KinesisGetRecordsUnmarshallerBenchmark.class.getSimpleName())
+            .addProfiler(GCProfiler.class)
+            .build();
+        Collection<RunResult> results = new Runner(opt).run();
+
+        for (RunResult result : results) {
+            int responseSizeInBytes = Integer.parseInt(result.getParams().getParam("responseSizeInBytes"));
+            double megabytesPerOperation = getRecordsResponseCbor(responseSizeInBytes).length / (1024.0 * 1024.0);
+            String fastUnmarshalling = result.getParams().getParam("fastUnmarshalling");
+            double megabytesPerSecond = result.getPrimaryResult().getScore() * megabytesPerOperation;
+            log.info(() -> String.format("responseSizeInBytes=%d fastUnmarshalling=%s: %.1f MB/s",
+                                         responseSizeInBytes, fastUnmarshalling, megabytesPerSecond));
+        }
+    }
+}
@@ -0,0 +1,106 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.benchmark.unmarshaller.query;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import software.amazon.awssdk.benchmark.unmarshaller.UnmarshallerPayloads;
+import software.amazon.awssdk.core.http.HttpResponseHandler;
+import software.amazon.awssdk.core.interceptor.ExecutionAttributes;
+import software.amazon.awssdk.protocols.query.AwsEc2ProtocolFactory;
+import software.amazon.awssdk.protocols.query.AwsQueryProtocolFactory;
+
+/**
+ * Measures unmarshalling Query and EC2 responses in isolation, comparing the DOM based unmarshaller with unmarshalling
+ * directly from the XML event stream. Query responses wrap the members in a result element and carry the request ID in
+ * the response metadata, while EC2 responses have the members and request ID directly under the root element.
+ */
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 10, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 10, timeUnit = TimeUnit.SECONDS)
+@Fork(2)
+@BenchmarkMode(Mode.Throughput)
+public class QueryUnmarshallerBenchmark {
+
+    @Param({"QUERY", "EC2"})
+    private Protocol protocol;
+
+    @Param({"1024", "1048576", "10485760"})
+    private int responseSizeInBytes;
+
+    @Param({"true", "false"})
+    private boolean fastUnmarshalling;
+
+    private byte[] response;
+
+    private HttpResponseHandler<?> responseHandler;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        String members = UnmarshallerPayloads.allTypesXmlMembers(responseSizeInBytes);
+        String xml;
+        if (protocol == Protocol.QUERY) {
+            xml = "<AllTypesResponse><AllTypesResult>" + members + "</AllTypesResult>"
+                  + "<ResponseMetadata><RequestId>request-id</RequestId></ResponseMetadata></AllTypesResponse>";
+            responseHandler = AwsQueryProtocolFactory
+                .builder()
+                .enableFastUnmarshalling(fastUnmarshalling)
+                .build()
+                .createResponseHandler(software.amazon.awssdk.services.protocolquery.model.AllTypesResponse::builder);
+        } else {
+            xml = "<AllTypesResponse><requestId>request-id</requestId>" + members + "</AllTypesResponse>";
+            responseHandler = AwsEc2ProtocolFactory
+                .builder()
+                .enableFastUnmarshalling(fastUnmarshalling)
+                .build()
+                .createResponseHandler(software.amazon.awssdk.services.protocolec2.model.AllTypesResponse::builder);
+        }
+        response = xml.getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public Object unmarshallAllTypesResponse() throws Exception {
+        return responseHandler.handle(UnmarshallerPayloads.response(response), new ExecutionAttributes());
+    }
+
+    public enum Protocol {
+        QUERY,
+        EC2
+    }
+
+    public static void main(String... args) throws Exception {
+        Options opt = new OptionsBuilder()
+            .include(QueryUnmarshallerBenchmark.class.getSimpleName())
+            .addProfiler(GCProfiler.class)
+            .build();
+        new Runner(opt).run();
+    }
+}
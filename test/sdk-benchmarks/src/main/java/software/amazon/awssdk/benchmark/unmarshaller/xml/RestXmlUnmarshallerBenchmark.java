@@ -0,0 +1,87 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.benchmark.unmarshaller.xml;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import software.amazon.awssdk.benchmark.unmarshaller.UnmarshallerPayloads;
+import software.amazon.awssdk.core.http.HttpResponseHandler;
+import software.amazon.awssdk.core.interceptor.ExecutionAttributes;
+import software.amazon.awssdk.protocols.xml.AwsXmlProtocolFactory;
+import software.amazon.awssdk.protocols.xml.XmlOperationMetadata;
+import software.amazon.awssdk.services.protocolrestxml.model.AllTypesResponse;
+
+/**
+ * Measures unmarshalling a REST-XML response in isolation, comparing the DOM based unmarshaller with unmarshalling directly
+ * from the XML event stream.
+ */
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 10, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 10, timeUnit = TimeUnit.SECONDS)
+@Fork(2)
+@BenchmarkMode(Mode.Throughput)
+public class RestXmlUnmarshallerBenchmark {
+
+    @Param({"1024", "1048576", "10485760"})
+    private int responseSizeInBytes;
+
+    @Param({"true", "false"})
+    private boolean fastUnmarshalling;
+
+    private byte[] response;
+
+    private HttpResponseHandler<AllTypesResponse> responseHandler;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        String xml = "<AllTypesResponse>" + UnmarshallerPayloads.allTypesXmlMembers(responseSizeInBytes) + "</AllTypesResponse>";
+        response = xml.getBytes(StandardCharsets.UTF_8);
+        responseHandler = AwsXmlProtocolFactory.builder()
+                                               .enableFastUnmarshalling(fastUnmarshalling)
+                                               .build()
+                                               .createResponseHandler(AllTypesResponse::builder,
+                                                                      new XmlOperationMetadata()
+                                                                          .withHasStreamingSuccessResponse(false));
+    }
+
+    @Benchmark
+    public Object unmarshallAllTypesResponse() throws Exception {
+        return responseHandler.handle(UnmarshallerPayloads.response(response), new ExecutionAttributes());
+    }
+
+    public static void main(String... args) throws Exception {
+        Options opt = new OptionsBuilder()
+            .include(RestXmlUnmarshallerBenchmark.class.getSimpleName())
+            .addProfiler(GCProfiler.class)
+            .build();
+        new Runner(opt).run();
+    }
+}
@@ -0,0 +1,136 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.stability.tests.cloudwatch;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.anyUrl;
+import static com.github.tomakehurst.wiremock.client.WireMock.post;
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.wireMockConfig;
+
+import com.github.tomakehurst.wiremock.WireMockServer;
+import java.net.URI;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.core.retry.RetryPolicy;
+import software.amazon.awssdk.http.SdkHttpClient;
+import software.amazon.awssdk.http.apache.ApacheHttpClient;
+import software.amazon.awssdk.http.urlconnection.UrlConnectionHttpClient;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.cloudwatch.CloudWatchClient;
+import software.amazon.awssdk.stability.tests.utils.StabilityTestRunner;
+
+/**
+ * Runs sync callers on virtual threads against a local mock server, through the Apache and the URL connection clients. Blocking while holding a monitor pins a virtual
+ * thread to its carrier thread, so monitors held around I/O anywhere in the sync request path show up here as a
+ * collapse in throughput, or as requests timing out waiting for connections.
+ *
+ * <p>Virtual threads are only available on Java 21 and newer, so the test is skipped on older runtimes.
+ */
+public class CloudWatchSyncVirtualThreadStabilityTest {
+    private static final int CALLERS = 100_000;
+    private static final int MAX_CONNECTIONS = 50;
+    private static final String PUT_METRIC_DATA_RESPONSE =
+            "<PutMetricDataResponse xmlns=\"http://monitoring.amazonaws.com/doc/2010-08-01/\">"
+            + "<ResponseMetadata><RequestId>request-id</RequestId></ResponseMetadata>"
+            + "</PutMetricDataResponse>";
+
+    private static WireMockServer mockServer;
+    private static CloudWatchClient apacheCloudWatchClient;
+    private static CloudWatchClient urlConnectionCloudWatchClient;
+    private static ExecutorService virtualThreadExecutor;
+
+    @BeforeAll
+    public static void setup() {
+        virtualThreadExecutor = newVirtualThreadPerTaskExecutor();
+        Assumptions.assumeTrue(virtualThreadExecutor != null, "Virtual threads are not supported by this JVM.");
+
+        mockServer = new WireMockServer(wireMockConfig().dynamicPort()
+                                                        .containerThreads(MAX_CONNECTIONS)
+                                                        .disableRequestJournal());
+        mockServer.start();
+        mockServer.stubFor(post(anyUrl()).willReturn(aResponse().withStatus(200).withBody(PUT_METRIC_DATA_RESPONSE)));
+
+        apacheCloudWatchClient = cloudWatchClient(ApacheHttpClient.builder()
+                                                                  .maxConnections(MAX_CONNECTIONS)
+                                                                  .connectionAcquisitionTimeout(Duration.ofMinutes(5))
+                                                                  .build());
+        urlConnectionCloudWatchClient = cloudWatchClient(UrlConnectionHttpClient.create());
+    }
+
+    @AfterAll
+    public static void tearDown() {
+        if (apacheCloudWatchClient != null) {
+            apacheCloudWatchClient.close();
+        }
+        if (urlConnectionCloudWatchClient != null) {
+            urlConnectionCloudWatchClient.close();
+        }
+        if (mockServer != null) {
+            mockServer.stop();
+        }
+        if (virtualThreadExecutor != null) {
+            virtualThreadExecutor.shutdown();
+        }
+    }
+
+    @Test
+    public void putMetrics_apache_virtualThreadCallers() {
+        putMetrics("putMetrics_apache_virtualThreadCallers", apacheCloudWatchClient);
+    }
+
+    @Test
+    public void putMetrics_urlConnection_virtualThreadCallers() {
+        putMetrics("putMetrics_urlConnection_virtualThreadCallers", urlConnectionCloudWatchClient);
+    }
+
+    private static void putMetrics(String testName, CloudWatchClient cloudWatchClient) {
+        StabilityTestRunner.newRunner()
+                .testName("CloudWatchSyncVirtualThreadStabilityTest." + testName)
+                .futureFactory(i -> CompletableFuture.runAsync(
+                        () -> cloudWatchClient.putMetricData(b -> b.namespace("VirtualThreadStabilityTest")
+                                .metricData(m -> m.metricName("test").value((double) i))),
+                        virtualThreadExecutor))
+                .requestCountPerRun(CALLERS)
+                .totalRuns(1)
+                .run();
+    }
+
+    private static CloudWatchClient cloudWatchClient(SdkHttpClient httpClient) {
+        return CloudWatchClient.builder()
+                .httpClient(httpClient)
+                .endpointOverride(URI.create("http://localhost:" + mockServer.port()))
+                .region(Region.US_WEST_2)
+                .credentialsProvider(StaticCredentialsProvider.create(AwsBasicCredentials.create("akid", "skid")))
+                .overrideConfiguration(b -> b.retryPolicy(RetryPolicy.none()))
+                .build();
+    }
+
+    private static ExecutorService newVirtualThreadPerTaskExecutor() {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException e) {
+            return null;
+        }
+    }
+}
@@ -15,6 +15,8 @@
 
 package software.amazon.awssdk.utils;
 
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.Supplier;
 import software.amazon.awssdk.annotations.SdkPublicApi;
 
@@ -27,6 +29,8 @@ import software.amazon.awssdk.annotations.SdkPublicApi;
 public class Lazy<T> implements SdkAutoCloseable {
     private final Supplier<T> initializer;
 
+    private final Lock lock = new ReentrantLock();
+
     private volatile T value;
 
     public Lazy(Supplier<T> initializer) {
@@ -36,12 +40,15 @@ public class Lazy<T> implements SdkAutoCloseable {
     public T getValue() {
         T result = value;
         if (result == null) {
-            synchronized (this) {
+            lock.lock();
+            try {
                 result = value;
                 if (result == null) {
                     result = initializer.get();
                     value = result;
                 }
+            } finally {
+                lock.unlock();
             }
         }
 
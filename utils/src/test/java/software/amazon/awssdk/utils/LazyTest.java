@@ -15,6 +15,7 @@
 
 package software.amazon.awssdk.utils;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.Mockito.times;
 
@@ -92,4 +93,36 @@ public class LazyTest {
             executor.shutdownNow();
         }
     }
-}
\ No newline at end of file
+
+    @Test(timeout = 10_000)
+    public void callerWaitingForInitializer_parksRatherThanBlocksOnMonitor() throws Exception {
+        CountDownLatch initializerStarted = new CountDownLatch(1);
+        CountDownLatch finishInitializer = new CountDownLatch(1);
+        Lazy<String> blockingLazy = new Lazy<>(() -> {
+            initializerStarted.countDown();
+            try {
+                finishInitializer.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return "value";
+        });
+
+        Thread initializing = new Thread(blockingLazy::getValue);
+        initializing.start();
+        initializerStarted.await();
+
+        Thread waiting = new Thread(blockingLazy::getValue);
+        waiting.start();
+        while (waiting.getState() == Thread.State.NEW || waiting.getState() == Thread.State.RUNNABLE) {
+            Thread.sleep(1);
+        }
+
+        // A virtual thread that is BLOCKED on a monitor pins its carrier thread, while a WAITING one is unmounted from it
+        assertThat(waiting.getState()).isEqualTo(Thread.State.WAITING);
+        finishInitializer.countDown();
+        initializing.join();
+        waiting.join();
+        assertThat(blockingLazy.getValue()).isEqualTo("value");
+    }
+}